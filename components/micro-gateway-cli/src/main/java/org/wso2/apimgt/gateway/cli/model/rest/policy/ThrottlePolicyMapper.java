@@ -19,8 +19,12 @@
 package org.wso2.apimgt.gateway.cli.model.rest.policy;
 
 import com.fasterxml.jackson.annotation.JsonAnySetter;
+import org.wso2.apimgt.gateway.cli.exception.CLIRuntimeException;
+import org.wso2.micro.gateway.core.throttle.ThrottleAlgorithms;
 
+import java.util.Arrays;
 import java.util.LinkedHashMap;
+import java.util.List;
 
 import javax.validation.constraints.NotNull;
 
@@ -28,6 +32,9 @@ import javax.validation.constraints.NotNull;
  * Policy definition mapper for WSO2 APIM throttle policy.
  */
 public class ThrottlePolicyMapper {
+    private static final List<String> SUPPORTED_ALGORITHMS = Arrays.asList(ThrottleAlgorithms.FIXED_WINDOW,
+            ThrottleAlgorithms.SLIDING_WINDOW, ThrottleAlgorithms.TOKEN_BUCKET);
+
     @NotNull
     private String name = null;
     @NotNull
@@ -38,6 +45,8 @@ public class ThrottlePolicyMapper {
     private Integer unitTime = null;
     @NotNull
     private Boolean stopOnQuotaReach = true;
+    @NotNull
+    private String algorithm = ThrottleAlgorithms.FIXED_WINDOW;
 
     public String getName() {
         return name;
@@ -79,6 +88,14 @@ public class ThrottlePolicyMapper {
         this.stopOnQuotaReach = stopOnQuotaReach;
     }
 
+    public String getAlgorithm() {
+        return algorithm;
+    }
+
+    public void setAlgorithm(String algorithm) {
+        this.algorithm = algorithm;
+    }
+
     @JsonAnySetter
     public void setValues(String key, LinkedHashMap<String, String> value) {
         this.name = key;
@@ -88,5 +105,12 @@ public class ThrottlePolicyMapper {
         if (value.get("stopOnQuota") != null) {
             this.stopOnQuotaReach = Boolean.parseBoolean(value.get("stopOnQuota"));
         }
+        if (value.get("algorithm") != null) {
+            if (!SUPPORTED_ALGORITHMS.contains(value.get("algorithm"))) {
+                throw new CLIRuntimeException("Unsupported throttle algorithm '" + value.get("algorithm")
+                        + "' provided for the policy '" + key + "'. Supported algorithms are " + SUPPORTED_ALGORITHMS);
+            }
+            this.algorithm = value.get("algorithm");
+        }
     }
 }
@@ -0,0 +1,41 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.apimgt.gateway.cli.model.template.service;
+
+/**
+ * A step of the interceptor flow of an operation. A step either invokes a ballerina interceptor function, or the
+ * java interceptors of the operation through its interceptor chain.
+ */
+public class BallerinaInterceptorStep {
+    private boolean java;
+    private String invokeStatement;
+
+    BallerinaInterceptorStep(BallerinaInterceptor interceptor) {
+        this.java = BallerinaInterceptor.Type.JAVA == interceptor.getType();
+        this.invokeStatement = interceptor.getInvokeStatement();
+    }
+
+    public boolean isJava() {
+        return java;
+    }
+
+    public String getInvokeStatement() {
+        return invokeStatement;
+    }
+}
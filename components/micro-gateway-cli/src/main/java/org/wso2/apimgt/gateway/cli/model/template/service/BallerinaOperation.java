@@ -77,6 +77,26 @@ public class BallerinaOperation implements BallerinaOpenAPIObject<BallerinaOpera
      */
     private String responseInterceptor;
 
+    /**
+     * Request and response interceptor steps of the operation, including the API level interceptors, in the order
+     * they are invoked.
+     */
+    @SuppressFBWarnings(value = "URF_UNREAD_FIELD")
+    private List<BallerinaInterceptorStep> requestInterceptorSteps = new ArrayList<>();
+    @SuppressFBWarnings(value = "URF_UNREAD_FIELD")
+    private List<BallerinaInterceptorStep> responseInterceptorSteps = new ArrayList<>();
+
+    /**
+     * Class names of the java interceptors added to the interceptor chain of the operation, in the order they are
+     * invoked.
+     */
+    @SuppressFBWarnings(value = "URF_UNREAD_FIELD")
+    private List<String> javaRequestInterceptors = new ArrayList<>();
+    @SuppressFBWarnings(value = "URF_UNREAD_FIELD")
+    private List<String> javaResponseInterceptors = new ArrayList<>();
+    @SuppressFBWarnings(value = "URF_UNREAD_FIELD")
+    private boolean hasJavaInterceptors;
+
     @SuppressFBWarnings(value = "URF_UNREAD_FIELD")
     private List<APIKey> apiKeys;
 
@@ -314,6 +334,44 @@ public class BallerinaOperation implements BallerinaOpenAPIObject<BallerinaOpera
         this.resInterceptorContext = resInterceptorContext;
     }
 
+    /**
+     * Builds the interceptor flow of the operation. The API level request interceptor is invoked before the operation
+     * level one, and the API level response interceptor after it. An API level interceptor which is the same as the
+     * operation level one is invoked only once. The java interceptors of a phase are invoked together by a single
+     * step through the interceptor chain of the operation.
+     *
+     * @param apiRequestInterceptor  API level request interceptor, or null
+     * @param apiResponseInterceptor API level response interceptor, or null
+     */
+    public void buildInterceptorChain(BallerinaInterceptor apiRequestInterceptor,
+                                      BallerinaInterceptor apiResponseInterceptor) {
+        if (apiRequestInterceptor != null && !apiRequestInterceptor.getInvokeStatement().equals(requestInterceptor)) {
+            addInterceptorStep(requestInterceptorSteps, javaRequestInterceptors, apiRequestInterceptor);
+        }
+        addInterceptorStep(requestInterceptorSteps, javaRequestInterceptors, reqInterceptorContext);
+        addInterceptorStep(responseInterceptorSteps, javaResponseInterceptors, resInterceptorContext);
+        if (apiResponseInterceptor != null
+                && !apiResponseInterceptor.getInvokeStatement().equals(responseInterceptor)) {
+            addInterceptorStep(responseInterceptorSteps, javaResponseInterceptors, apiResponseInterceptor);
+        }
+        hasJavaInterceptors = !javaRequestInterceptors.isEmpty() || !javaResponseInterceptors.isEmpty();
+    }
+
+    private static void addInterceptorStep(List<BallerinaInterceptorStep> steps, List<String> javaInterceptors,
+                                           BallerinaInterceptor interceptor) {
+        if (interceptor == null) {
+            return;
+        }
+        if (BallerinaInterceptor.Type.JAVA == interceptor.getType()) {
+            javaInterceptors.add(interceptor.getName().substring(OpenAPIConstants.INTERCEPTOR_JAVA_PREFIX.length()));
+            if (javaInterceptors.size() > 1) {
+                // the chain invokes all the java interceptors of the phase from the step of the first one
+                return;
+            }
+        }
+        steps.add(new BallerinaInterceptorStep(interceptor));
+    }
+
     void setSecuritySchemas(List<String> authProviders) {
         //update the Resource auth providers property only if there is no security scheme provided during instantiation
         if (this.authProviders.isEmpty()) {
@@ -110,6 +110,9 @@ public class BallerinaService implements BallerinaOpenAPIObject<BallerinaService
     @SuppressFBWarnings(value = "URF_UNREAD_FIELD")
     private boolean isJavaResponseInterceptor;
 
+    private BallerinaInterceptor reqInterceptorContext;
+    private BallerinaInterceptor resInterceptorContext;
+
     /**
      * Build a {@link BallerinaService} object from a {@link OpenAPI} object.
      * All non iterable objects using handlebars library is converted into
@@ -157,6 +160,7 @@ public class BallerinaService implements BallerinaOpenAPIObject<BallerinaService
             OpenAPICodegenUtils.addDefaultAuthProviders(this.authProviders);
         }
         resolveInterceptors(definition.getExtensions());
+        buildInterceptorChains();
         setResponseCache(definition.getExtensions());
         return buildContext(definition);
     }
@@ -324,6 +328,7 @@ public class BallerinaService implements BallerinaOpenAPIObject<BallerinaService
             }
             this.isJavaRequestInterceptor = BallerinaInterceptor.Type.JAVA == reqInterceptor.getType();
             this.requestInterceptor = reqInterceptor.getInvokeStatement();
+            this.reqInterceptorContext = reqInterceptor;
         }
 
         if (resExt != null) {
@@ -338,6 +343,19 @@ public class BallerinaService implements BallerinaOpenAPIObject<BallerinaService
             }
             isJavaResponseInterceptor = BallerinaInterceptor.Type.JAVA == resInterceptor.getType();
             this.responseInterceptor = resInterceptor.getInvokeStatement();
+            this.resInterceptorContext = resInterceptor;
+        }
+    }
+
+    /**
+     * Builds the interceptor flow of each operation, combining the API level interceptors with the operation level
+     * ones.
+     */
+    private void buildInterceptorChains() {
+        for (Map.Entry<String, BallerinaPath> path : paths) {
+            for (Map.Entry<String, BallerinaOperation> operation : path.getValue().getOperations()) {
+                operation.getValue().buildInterceptorChain(reqInterceptorContext, resInterceptorContext);
+            }
         }
     }
 
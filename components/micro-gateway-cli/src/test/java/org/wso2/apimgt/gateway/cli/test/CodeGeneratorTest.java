@@ -16,21 +16,242 @@
 
 package org.wso2.apimgt.gateway.cli.test;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.yaml.YAMLFactory;
+import com.github.jknack.handlebars.Context;
+import com.github.jknack.handlebars.Handlebars;
+import com.github.jknack.handlebars.context.FieldValueResolver;
+import com.github.jknack.handlebars.context.JavaBeanValueResolver;
+import com.github.jknack.handlebars.context.MapValueResolver;
+import com.github.jknack.handlebars.helper.StringHelpers;
+import org.apache.commons.io.IOUtils;
+import org.testng.Assert;
 import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
 import org.wso2.apimgt.gateway.cli.codegen.CodeGenerator;
+import org.wso2.apimgt.gateway.cli.constants.GeneratorConstants;
+import org.wso2.apimgt.gateway.cli.exception.BallerinaServiceGenException;
+import org.wso2.apimgt.gateway.cli.exception.CLIRuntimeException;
+import org.wso2.apimgt.gateway.cli.model.rest.policy.ThrottlePolicyListMapper;
+import org.wso2.apimgt.gateway.cli.model.rest.policy.ThrottlePolicyMapper;
+import org.wso2.apimgt.gateway.cli.model.template.service.BallerinaInterceptor;
+import org.wso2.apimgt.gateway.cli.model.template.service.BallerinaOperation;
+import org.wso2.apimgt.gateway.cli.model.template.service.BallerinaPath;
+import org.wso2.apimgt.gateway.cli.utils.CodegenUtils;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.AbstractMap;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
 
 /**
  * Unit tests for {@link CodeGenerator}
  */
 public class CodeGeneratorTest {
+    private static final String SERVICE_NAME = "PetStore__1_0_0";
+    private static final String OPERATION_ID = "getPetById";
+    private static final String CHAIN = OPERATION_ID + "_interceptor_chain";
+
     private Path projectPath;
+    private String serviceTemplate;
 
     @BeforeClass()
     public void setup() {
         String resourcePath = CodeGeneratorTest.class.getProtectionDomain().getCodeSource().getLocation().getPath();
         projectPath = Paths.get(resourcePath);
     }
+
+    @BeforeClass
+    public void loadServiceTemplate() throws IOException {
+        try (InputStream template = CodeGeneratorTest.class.getResourceAsStream("/templates/service.mustache")) {
+            serviceTemplate = IOUtils.toString(template, StandardCharsets.UTF_8);
+        }
+    }
+
+    @Test
+    public void testInterceptorStepOrder() throws Exception {
+        BallerinaOperation operation = operation("resourceRequestInterceptor", "java:org.example.ResourceResponse");
+        operation.buildInterceptorChain(new BallerinaInterceptor("java:org.example.ApiRequest"),
+                new BallerinaInterceptor("apiResponseInterceptor"));
+
+        // the API level request interceptor runs before the resource level one
+        String request = renderOperation(section("requestInterceptorSteps"), operation);
+        assertInOrder(request, "gateway:invokeRequestInterceptors(" + CHAIN, "resourceRequestInterceptor(outboundEp");
+        // the API level response interceptor runs after the resource level one
+        String response = renderOperation(section("responseInterceptorSteps"), operation);
+        assertInOrder(response, "gateway:invokeResponseInterceptors(" + CHAIN, "apiResponseInterceptor (outboundEp");
+
+        String chains = renderOperation(initInterceptorChains(), operation);
+        Assert.assertTrue(chains.contains("gateway:addRequestInterceptor(" + CHAIN + ", \"org.example.ApiRequest\")"));
+        Assert.assertTrue(chains.contains("gateway:addResponseInterceptor(" + CHAIN
+                + ", \"org.example.ResourceResponse\")"));
+        Assert.assertEquals(count(chains, "gateway:add"), 2);
+    }
+
+    @Test
+    public void testJavaInterceptorsShareChainStep() throws Exception {
+        BallerinaOperation operation = operation("java:org.example.ResourceRequest",
+                "java:org.example.ResourceResponse");
+        operation.buildInterceptorChain(new BallerinaInterceptor("java:org.example.ApiRequest"),
+                new BallerinaInterceptor("java:org.example.ApiResponse"));
+
+        Assert.assertEquals(count(renderOperation(section("requestInterceptorSteps"), operation),
+                "gateway:invokeRequestInterceptors("), 1);
+        Assert.assertEquals(count(renderOperation(section("responseInterceptorSteps"), operation),
+                "gateway:invokeResponseInterceptors("), 1);
+        String chains = renderOperation(initInterceptorChains(), operation);
+        assertInOrder(chains, "gateway:addRequestInterceptor(" + CHAIN + ", \"org.example.ApiRequest\")",
+                "gateway:addRequestInterceptor(" + CHAIN + ", \"org.example.ResourceRequest\")");
+        assertInOrder(chains, "gateway:addResponseInterceptor(" + CHAIN + ", \"org.example.ResourceResponse\")",
+                "gateway:addResponseInterceptor(" + CHAIN + ", \"org.example.ApiResponse\")");
+    }
+
+    @Test
+    public void testInterceptorDeclaredAtBothLevelsRunsOnce() throws Exception {
+        BallerinaOperation operation = operation("java:org.example.Shared", "sharedResponseInterceptor");
+        operation.buildInterceptorChain(new BallerinaInterceptor("java:org.example.Shared"),
+                new BallerinaInterceptor("sharedResponseInterceptor"));
+
+        String chains = renderOperation(initInterceptorChains(), operation);
+        Assert.assertEquals(count(chains, "gateway:addRequestInterceptor("), 1);
+        Assert.assertEquals(count(chains, "gateway:addResponseInterceptor("), 0);
+        Assert.assertEquals(count(renderOperation(section("responseInterceptorSteps"), operation),
+                "sharedResponseInterceptor (outboundEp"), 1);
+    }
+
+    @Test
+    public void testInterceptorChainNamedAfterResource() throws Exception {
+        BallerinaOperation operation = operation("java:org.example.ResourceRequest", null);
+        operation.buildInterceptorChain(null, null);
+
+        String chains = renderOperation(initInterceptorChains(), operation);
+        Assert.assertTrue(chains.contains(CHAIN + " = gateway:createInterceptorChain(\"" + SERVICE_NAME
+                + " GET /pet/{petId}\");"), chains);
+    }
+
+    @Test
+    public void testOperationWithoutJavaInterceptorsHasNoChain() throws Exception {
+        BallerinaOperation operation = operation("resourceRequestInterceptor", null);
+        operation.buildInterceptorChain(null, null);
+
+        Assert.assertFalse(renderOperation(initInterceptorChains(), operation).contains(CHAIN));
+        Assert.assertFalse(renderOperation(section("requestInterceptorSteps"), operation).contains(CHAIN));
+    }
+
+    @Test
+    public void testThrottlePolicyAlgorithms() throws IOException {
+        ObjectMapper mapper = new ObjectMapper(new YAMLFactory());
+        ThrottlePolicyListMapper policies = mapper.readValue(projectPath.resolve("throttle-policies.yaml").toFile(),
+                ThrottlePolicyListMapper.class);
+
+        ThrottlePolicyMapper resourcePolicy = policies.getResourcePolicies().get(0);
+        Assert.assertEquals(resourcePolicy.getName(), "10kPerMin");
+        Assert.assertEquals(resourcePolicy.getAlgorithm(), "slidingWindow");
+        ThrottlePolicyMapper applicationPolicy = policies.getApplicationPolicies().get(0);
+        Assert.assertEquals(applicationPolicy.getCount(), Long.valueOf(10));
+        Assert.assertEquals(applicationPolicy.getAlgorithm(), "fixedWindow",
+                "The fixed window should be the default algorithm");
+        ThrottlePolicyMapper subscriptionPolicy = policies.getSubscriptionPolicies().get(0);
+        Assert.assertEquals(subscriptionPolicy.getAlgorithm(), "tokenBucket");
+        Assert.assertFalse(subscriptionPolicy.getStopOnQuotaReach());
+    }
+
+    @Test
+    public void testRevokedTokensOfExtensionAreAddedToStore() throws Exception {
+        String main = CodegenUtils.compileTemplate(GeneratorConstants.DEFAULT_TEMPLATE_DIR,
+                GeneratorConstants.MAIN_TEMPLATE_NAME).apply(new ArrayList<>());
+        assertInOrder(main, "receivedRevokedTokenMap = gateway:getRevokedTokenMap();",
+                "initiatePersistentRevokedTokenRetrieval(receivedRevokedTokenMap);");
+        // the tokens the extension added to the map are looked up in the native revoked token store
+        assertInOrder(main, "initiatePersistentRevokedTokenRetrieval(receivedRevokedTokenMap);",
+                "gateway:addToRevokedTokenMap(receivedRevokedTokenMap);");
+    }
+
+    @Test(expectedExceptions = CLIRuntimeException.class,
+            expectedExceptionsMessageRegExp = "Unsupported throttle algorithm 'leakyBucket'.*")
+    public void testUnsupportedThrottleAlgorithm() {
+        LinkedHashMap<String, String> values = new LinkedHashMap<>();
+        values.put("count", "10");
+        values.put("unitTime", "1");
+        values.put("timeUnit", "min");
+        values.put("algorithm", "leakyBucket");
+        new ThrottlePolicyMapper().setValues("10PerMin", values);
+    }
+
+    private static BallerinaOperation operation(String requestInterceptor, String responseInterceptor)
+            throws BallerinaServiceGenException {
+        BallerinaOperation operation = new BallerinaOperation();
+        operation.setOperationId(OPERATION_ID);
+        if (requestInterceptor != null) {
+            BallerinaInterceptor interceptor = new BallerinaInterceptor(requestInterceptor);
+            operation.setReqInterceptorContext(interceptor);
+            operation.setRequestInterceptor(interceptor.getInvokeStatement());
+        }
+        if (responseInterceptor != null) {
+            BallerinaInterceptor interceptor = new BallerinaInterceptor(responseInterceptor);
+            operation.setResInterceptorContext(interceptor);
+            operation.setResponseInterceptor(interceptor.getInvokeStatement());
+        }
+        return operation;
+    }
+
+    /**
+     * Returns the given block of the resources of the service template, with the paths and operations it iterates.
+     */
+    private String section(String name) {
+        int start = serviceTemplate.indexOf("{{#" + name + "}}");
+        String end = "{{/" + name + "}}";
+        Assert.assertTrue(start >= 0, "Block " + name + " not found in the service template");
+        return "{{#paths}}{{#value}}{{#operations}}{{#value}}"
+                + serviceTemplate.substring(start, serviceTemplate.indexOf(end, start) + end.length())
+                + "{{/value}}{{/operations}}{{/value}}{{/paths}}";
+    }
+
+    private String initInterceptorChains() {
+        int start = serviceTemplate.indexOf("function initInterceptorChains");
+        Assert.assertTrue(start >= 0, "Interceptor chains are not initialized in the service template");
+        return serviceTemplate.substring(start, serviceTemplate.indexOf("\n}", start) + 2);
+    }
+
+    /**
+     * Renders a part of the service template for a service with the operation as GET /pet/{petId}, the same way the
+     * code generator renders the template.
+     */
+    private static String renderOperation(String template, BallerinaOperation operation) throws IOException {
+        BallerinaPath path = new BallerinaPath();
+        path.getOperations().add(new AbstractMap.SimpleEntry<>("get", operation));
+        Map<String, Object> service = new HashMap<>();
+        service.put("qualifiedServiceName", SERVICE_NAME);
+        service.put("paths", Collections.singleton(new AbstractMap.SimpleEntry<>("/pet/{petId}", path)));
+
+        Handlebars handlebars = new Handlebars();
+        handlebars.setStringParams(true);
+        handlebars.registerHelpers(StringHelpers.class);
+        Context context = Context.newBuilder(service)
+                .resolver(MapValueResolver.INSTANCE, JavaBeanValueResolver.INSTANCE, FieldValueResolver.INSTANCE)
+                .build();
+        return handlebars.compileInline(template).apply(context);
+    }
+
+    private static void assertInOrder(String content, String first, String second) {
+        int firstIndex = content.indexOf(first);
+        Assert.assertTrue(firstIndex >= 0, "'" + first + "' not found in " + content);
+        Assert.assertTrue(content.indexOf(second) > firstIndex, "'" + second + "' not found after '" + first
+                + "' in " + content);
+    }
+
+    private static int count(String content, String value) {
+        int count = 0;
+        for (int i = content.indexOf(value); i >= 0; i = content.indexOf(value, i + value.length())) {
+            count++;
+        }
+        return count;
+    }
 }
@@ -15,7 +15,6 @@
 // under the License.
 
 import ballerina/http;
-import ballerina/io;
 import ballerina/runtime;
 import ballerina/time;
 
@@ -63,30 +62,9 @@ public function getEventData(EventDTO dto) returns string {
 }
 
 function writeEventToFile(EventDTO eventDTO) {
-    string fileLocation = retrieveConfig(API_USAGE_PATH, API_USAGE_DIR) + PATH_SEPERATOR;
-    // errors from 'openWritableFile' will be 'panicked'
-    var writableChannel = <io:WritableByteChannel>io:openWritableFile(fileLocation + TEMP_API_USAGE_FILE, true);
-    io:WritableCharacterChannel charChannel = new (writableChannel, "UTF-8");
-    var result = charChannel.write(getEventData(eventDTO), 0);
-    if (result is io:GenericError) {
-        closeWC(charChannel);
-        panic result;
-    } else if (result is io:ConnectionTimedOutError) {
-        closeWC(charChannel);
-        panic result;
-    } else {
-        closeWC(charChannel);
+    if (writeAnalyticsEvent(getEventData(eventDTO))) {
         printDebug(KEY_ANALYTICS_FILTER, "Event is being written");
-    }
-
-}
-
-public function closeWC(io:WritableCharacterChannel charChannel) {
-    var result = charChannel.close();
-    if (result is error) {
-        printError(KEY_ANALYTICS_FILTER, "Error occurred while closing the channel: "
-        + result.reason());
     } else {
-        printDebug(KEY_ANALYTICS_FILTER, "Source channel closed successfully.");
+        printDebug(KEY_ANALYTICS_FILTER, "Event is dropped as the analytics event writer queue is full");
     }
 }
@@ -15,8 +15,6 @@
 // under the License.
 
 import ballerina/file;
-import ballerina/filepath;
-import ballerina/http;
 import ballerina/stringutils;
 import ballerina/task;
 
@@ -26,43 +24,21 @@ string analyticsPassword = "";
 
 
 function searchFilesToUpload() returns (error?) {
-    int cnt = 0;
     string fileLocation = retrieveConfig(API_USAGE_PATH, API_USAGE_DIR);
 
     if (!file:exists(fileLocation)) {
         printDebug(KEY_UPLOAD_TASK, "Usage data directory not found");
         return ();
     }
-
-    file:FileInfo[] | error pathList = file:readDir(fileLocation);
-
-    if (pathList is error) {
-        printError(KEY_UPLOAD_TASK, "Error occured in getting path lists");
-        return pathList;
-    } else {
-        foreach var pathEntry in pathList {
-            string fileName = pathEntry.getName();
-
-            if (contains(fileName, ZIP_EXTENSION)) {
-                http:Response response = multipartSender(fileLocation, pathEntry.getName(),
-                analyticsUsername, analyticsPassword);
-                if (response.statusCode == 201) {
-                    printInfo(KEY_UPLOAD_TASK, "Successfully uploaded the file: " + fileName);
-                    var result = file:remove(fileLocation + filepath:getPathSeparator() + fileName);
-                } else {
-                    printError(KEY_UPLOAD_TASK, "Error occurred while uploading the file. Upload request returned" +
-                    "with status code : " + response.statusCode.toString());
-                }
-                cnt = cnt + 1;
-            }
-        }
-        if (cnt == 0) {
-            error er = error("No files present to upload.");
-            return er;
-        } else {
-            return ();
-        }
+    //The files are uploaded by the analytics file uploader, oldest first, while the task only queues the files which
+    //are not being uploaded yet.
+    int pendingFiles = scheduleAnalyticsFileUploads();
+    if (pendingFiles <= 0) {
+        error er = error("No files present to upload.");
+        return er;
     }
+    printDebug(KEY_UPLOAD_TASK, pendingFiles.toString() + " files are waiting to be uploaded.");
+    return ();
 }
 
 function timerTask() {
@@ -77,6 +53,8 @@ function timerTask() {
     }
     if (uploadFiles) {
         printInfo(KEY_UPLOAD_TASK, "Enabled file uploading task.");
+        initAnalyticsFileUploader(retrieveConfig(API_USAGE_PATH, API_USAGE_DIR), uploadingUrl, analyticsUsername,
+            analyticsPassword);
         //below config reads enable analytics suppot for old versions
         int | error timeSpan = <int>getConfigIntValue(FILE_UPLOAD_ANALYTICS, UPLOADING_TIME_SPAN, DEFAULT_UPLOADING_TIME_SPAN_IN_MILLIS);
         int delay = <int>getConfigIntValue(FILE_UPLOAD_ANALYTICS,INITIAL_DELAY, DEFAULT_INITIAL_DELAY_IN_MILLIS);
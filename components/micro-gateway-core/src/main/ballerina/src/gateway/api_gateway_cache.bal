@@ -15,6 +15,7 @@
 // under the License.
 
 import ballerina/cache;
+import ballerina/time;
 
 // TODO: Refactor the cache
 int cacheExpiryTime = getConfigIntValue(CACHING_ID, TOKEN_CACHE_EXPIRY, DEFAULT_TOKEN_CACHE_EXPIRY);
@@ -22,18 +23,26 @@ int cacheSize = getConfigIntValue(CACHING_ID, TOKEN_CACHE_CAPACITY, DEFAULT_TOKE
 float evictionFactor = getConfigFloatValue(CACHING_ID, TOKEN_CACHE_EVICTION_FACTOR, DEFAULT_TOKEN_CACHE_EVICTION_FACTOR);
 // Caches are globally defined in order to initialize them before the authentication handlers are initialized.
 // These cache objects are passed in authentication handlers while handler init phase.
-cache:Cache gatewayTokenCache = new (cacheExpiryTime, cacheSize, evictionFactor);
-cache:Cache gatewayKeyValidationCache = new (cacheExpiryTime, cacheSize, evictionFactor);
-cache:Cache invalidTokenCache = new (cacheExpiryTime, cacheSize, evictionFactor);
 cache:Cache jwtCache = new (cacheExpiryTime, cacheSize, evictionFactor);
 cache:Cache introspectCache = new (cacheExpiryTime, cacheSize, evictionFactor);
-
+// The validation results of the key manager are kept in regions of the native token cache, which evict entries one
+// at a time rather than a fraction of the cache once it is full.
+handle gatewayTokenCache = getTokenCacheRegion(GATEWAY_TOKEN_CACHE_REGION,
+    getConfigIntValue(CACHING_ID, GATEWAY_TOKEN_CACHE_CAPACITY, cacheSize), cacheExpiryTime);
+handle gatewayKeyValidationCache = getTokenCacheRegion(KEY_VALIDATION_CACHE_REGION,
+    getConfigIntValue(CACHING_ID, KEY_VALIDATION_CACHE_CAPACITY, cacheSize), cacheExpiryTime);
+handle invalidTokenCache = getTokenCacheRegion(INVALID_TOKEN_CACHE_REGION,
+    getConfigIntValue(CACHING_ID, INVALID_TOKEN_CACHE_CAPACITY, cacheSize), cacheExpiryTime);
+handle apiKeyCache = getTokenCacheRegion(API_KEY_CACHE_REGION,
+    getConfigIntValue(CACHING_ID, API_KEY_CACHE_CAPACITY, cacheSize), cacheExpiryTime);
+handle subscribedAPICache = getTokenCacheRegion(SUBSCRIBED_API_CACHE_REGION,
+    getConfigIntValue(CACHING_ID, SUBSCRIBED_API_CACHE_CAPACITY, cacheSize), cacheExpiryTime);
 
 public type APIGatewayCache object {
 
     public function authenticateFromGatewayKeyValidationCache(string tokenCacheKey) returns
     (APIKeyValidationDto | ()) {
-        var apikeyValidationDto = gatewayKeyValidationCache.get(tokenCacheKey);
+        var apikeyValidationDto = getFromTokenCache(gatewayKeyValidationCache, tokenCacheKey);
         if (apikeyValidationDto is APIKeyValidationDto) {
             return apikeyValidationDto;
         } else {
@@ -44,17 +53,17 @@ public type APIGatewayCache object {
 
     public function addToGatewayKeyValidationCache(string tokenCacheKey, APIKeyValidationDto
     apiKeyValidationDto) {
-        gatewayKeyValidationCache.put(tokenCacheKey, <@untainted>apiKeyValidationDto);
+        putToTokenCache(gatewayKeyValidationCache, tokenCacheKey, <@untainted>apiKeyValidationDto);
         printDebug(KEY_GW_CACHE, "Added key validation information to the key validation cache. key: " + mask(tokenCacheKey));
     }
 
     public function removeFromGatewayKeyValidationCache(string tokenCacheKey) {
-        gatewayKeyValidationCache.remove(tokenCacheKey);
+        removeFromTokenCacheRegion(gatewayKeyValidationCache, tokenCacheKey);
         printDebug(KEY_GW_CACHE, "Removed key validation information from the key validation cache. key: " + mask(tokenCacheKey));
     }
 
     public function retrieveFromInvalidTokenCache(string tokenCacheKey) returns (APIKeyValidationDto | ()) {
-        var authorize = invalidTokenCache.get(tokenCacheKey);
+        var authorize = getFromTokenCache(invalidTokenCache, tokenCacheKey);
         if (authorize is APIKeyValidationDto) {
             return authorize;
         } else {
@@ -63,17 +72,17 @@ public type APIGatewayCache object {
     }
 
     public function addToInvalidTokenCache(string tokenCacheKey, APIKeyValidationDto apiKeyValidationDto) {
-        invalidTokenCache.put(tokenCacheKey, <@untainted>apiKeyValidationDto);
+        putToTokenCache(invalidTokenCache, tokenCacheKey, <@untainted>apiKeyValidationDto);
         printDebug(KEY_GW_CACHE, "Added key validation information to the invalid token cache. key: " + mask(tokenCacheKey));
     }
 
     public function removeFromInvalidTokenCache(string tokenCacheKey) {
-        invalidTokenCache.remove(tokenCacheKey);
+        removeFromTokenCacheRegion(invalidTokenCache, tokenCacheKey);
         printDebug(KEY_GW_CACHE, "Removed from the invalid key validation cache. key: " + mask(tokenCacheKey));
     }
 
     public function retrieveFromTokenCache(string accessToken) returns (boolean | ()) {
-        var authorize = gatewayTokenCache.get(accessToken);
+        var authorize = getFromTokenCache(gatewayTokenCache, accessToken);
         if (authorize is boolean) {
             return authorize;
         } else {
@@ -82,13 +91,56 @@ public type APIGatewayCache object {
     }
 
     public function addToTokenCache(string accessToken, boolean isValid) {
-        gatewayTokenCache.put(accessToken, isValid);
+        putToTokenCache(gatewayTokenCache, accessToken, isValid);
         printDebug(KEY_GW_CACHE, "Added validity information to the token cache. key: " + mask(accessToken));
     }
 
     public function removeFromTokenCache(string accessToken) {
-        gatewayTokenCache.remove(accessToken);
+        removeFromTokenCacheRegion(gatewayTokenCache, accessToken);
         printDebug(KEY_GW_CACHE, "Removed from the token cache. key: " + mask(accessToken));
     }
+
+    public function retrieveFromAPIKeyCache(string apiKeyCacheKey) returns VerifiedAPIKey? {
+        var verifiedAPIKey = getFromTokenCache(apiKeyCache, apiKeyCacheKey);
+        if (verifiedAPIKey is VerifiedAPIKey) {
+            if (verifiedAPIKey.expiryTime > time:currentTime().time) {
+                return verifiedAPIKey;
+            }
+            self.removeFromAPIKeyCache(apiKeyCacheKey);
+        }
+        return ();
+    }
+
+    public function addToAPIKeyCache(string apiKeyCacheKey, VerifiedAPIKey verifiedAPIKey) {
+        putToTokenCache(apiKeyCache, apiKeyCacheKey, <@untainted>verifiedAPIKey);
+        printDebug(KEY_GW_CACHE, "Added the verified API key to the API key cache. key: " + mask(apiKeyCacheKey));
+    }
+
+    public function removeFromAPIKeyCache(string apiKeyCacheKey) {
+        removeFromTokenCacheRegion(apiKeyCache, apiKeyCacheKey);
+        printDebug(KEY_GW_CACHE, "Removed from the API key cache. key: " + mask(apiKeyCacheKey));
+    }
+
+    public function retrieveFromSubscribedAPICache(string jwtCacheKey) returns SubscribedAPIIndex? {
+        var subscribedAPIIndex = getFromTokenCache(subscribedAPICache, jwtCacheKey);
+        if (subscribedAPIIndex is SubscribedAPIIndex) {
+            return subscribedAPIIndex;
+        }
+        return ();
+    }
+
+    public function addToSubscribedAPICache(string jwtCacheKey, SubscribedAPIIndex subscribedAPIIndex) {
+        putToTokenCache(subscribedAPICache, jwtCacheKey, <@untainted>subscribedAPIIndex);
+        printDebug(KEY_GW_CACHE, "Added the subscriptions of the JWT to the subscribed API cache. key: "
+            + mask(jwtCacheKey));
+    }
+
+    public function recordKeyValidationLoad(int loadTime) {
+        recordTokenCacheLoad(gatewayKeyValidationCache, loadTime);
+    }
+
+    public function startGatewayKeyValidationRefresh(string tokenCacheKey) returns boolean {
+        return startKeyValidationRefresh(gatewayKeyValidationCache, tokenCacheKey);
+    }
 };
 
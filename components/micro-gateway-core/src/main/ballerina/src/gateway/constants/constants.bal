@@ -58,6 +58,7 @@ public const string SUPER_TENANT_DOMAIN_NAME = "carbon.super";
 public const int SUPER_TENANT_ID = -1234;
 public const string THROTTLE_KEY = "throttleKey";
 public const string POLICY_KEY = "policyKey";
+public const string THROTTLE_ALGORITHM = "algorithm";
 public const string KEY_TEMPLATE_VALUE = "keyTemplateValue";
 public const string KEY_TEMPLATE_STATE = "keyTemplateState";
 public const string KEY_TEMPLATE_ADD = "add";
@@ -167,12 +168,25 @@ public const string FILE_UPLOAD_TASK = "taskUploadFiles";
 public const string INITIAL_DELAY = "initialDelayInMillis";
 public const string DESTINATION = "destination";
 public const string FILE_UPLOAD_ENABLE = "enable";
+public const string EVENT_WRITER_BUFFER_SIZE = "eventBufferSize";
+public const string EVENT_WRITER_FLUSH_INTERVAL = "eventFlushIntervalInMillis";
+public const string EVENT_WRITER_MAX_QUEUED_EVENTS = "maxQueuedEvents";
+public const string EVENT_WRITER_COMPRESSION_FORMAT = "compressionFormat";
+public const string EVENT_WRITER_COMPRESSION_LEVEL = "compressionLevel";
+public const string MAX_CONCURRENT_UPLOADS = "maxConcurrentUploads";
+public const string UPLOAD_MAX_RETRIES = "uploadMaxRetries";
+public const string MAX_USAGE_DATA_SIZE = "maxUsageDataSizeInMB";
+public const string USAGE_DATA_OVERFLOW_ACTION = "usageDataOverflowAction";
 
 //gRPC analytics related constants
 public const string GRPC_ANALYTICS = "analytics.gRPCAnalytics";
 public const string GRPC_ANALYTICS_ENABLE = "enable";
 public const string GRPC_ENDPOINT_URL = "endpointURL";
 public const string GRPC_RETRY_TIME_MILLISECONDS = "reconnectTimeInMillies";
+public const string GRPC_MESSAGE_BUFFER_SIZE = "messageBufferSize";
+public const string GRPC_MESSAGE_BATCH_SIZE = "messageBatchSize";
+public const string GRPC_MESSAGE_DROP_POLICY = "messageDropPolicy";
+public const string GRPC_MAX_CONSECUTIVE_FAILURES = "maxConsecutiveFailures";
  
 //validation_filter related constatnts
 public const string PATHS = "paths";
@@ -210,6 +224,8 @@ public const string INT = "int";
 // config constants
 public const string KM_CONF_INSTANCE_ID = "keyManager";
 public const string KM_SERVER_URL = "serverUrl";
+public const string KM_MAX_ACTIVE_CONNECTIONS = "maxActiveConnections";
+public const string KM_MAX_IDLE_CONNECTIONS = "maxIdleConnections";
 public const string KM_TOKEN_CONTEXT = "tokenContext";
 public const string TIMESTAMP_SKEW = "timestampSkew";
 public const string EXTERNAL = "external";
@@ -245,6 +261,14 @@ public const string BLOCKING_CONDITION_TYPE = "type";
 public const string BLOCKING_CONDITION_FIXED_IP = "fixedIp";
 public const string BLOCKING_CONDITION_START_IP = "startingIp";
 public const string BLOCKING_CONDITION_END_IP = "endingIp";
+public const string THROTTLE_PROPERTY_IP = "ip";
+public const string THROTTLE_PROPERTY_IPV6 = "ipv6";
+// throttle decisions of the native throttle decision cache
+const int THROTTLE_DECISION_NOT_THROTTLED = 0;
+const int THROTTLE_DECISION_STOP_ON_QUOTA = 2;
+// results of an invocation of a java interceptor chain, other results are the index of the next interceptor
+const int INTERCEPTOR_CHAIN_PROCEED = -1;
+const int INTERCEPTOR_CHAIN_RESPONDED = -2;
 
 public const string LISTENER_CONF_INSTANCE_ID = "listenerConfig";
 public const string LISTENER_CONF_HOST = "host";
@@ -287,12 +311,33 @@ public const string API_KEY_VALIDATE_ALLOWED_APIS = "validateAllowedAPIs";
 public const string API_KEY_ISSUER_TOKEN_CONFIG = "apikey.issuer.tokenConfig";
 public const string API_KEY_VALIDITY_TIME = "validityTime";
 public const string API_KEY_ISSUER_API = "apikey.issuer.api";
+public const int API_KEY_CLOCK_SKEW = 60;
+public const string API_KEY_CACHE_CAPACITY = "apiKeyCacheCapacity";
+public const string API_KEY_CACHE_REGION = "APIKey";
+public const string SUBSCRIBED_API_CACHE_CAPACITY = "subscribedAPICacheCapacity";
+public const string SUBSCRIBED_API_CACHE_REGION = "SubscribedAPIs";
 
 public const string CACHING_ID = "caching";
 public const string TOKEN_CACHE_ENABLED = "enabled";
 public const string TOKEN_CACHE_EXPIRY = "tokenCacheExpiryTime";
 public const string TOKEN_CACHE_CAPACITY = "tokenCacheCapacity";
 public const string TOKEN_CACHE_EVICTION_FACTOR = "tokenCacheEvictionFactor";
+public const string GATEWAY_TOKEN_CACHE_CAPACITY = "gatewayTokenCacheCapacity";
+public const string KEY_VALIDATION_CACHE_CAPACITY = "keyValidationCacheCapacity";
+public const string INVALID_TOKEN_CACHE_CAPACITY = "invalidTokenCacheCapacity";
+public const string GATEWAY_TOKEN_CACHE_REGION = "GatewayToken";
+public const string KEY_VALIDATION_CACHE_REGION = "KeyValidation";
+public const string INVALID_TOKEN_CACHE_REGION = "InvalidToken";
+public const string KEY_VALIDATION_REFRESH_AHEAD_TIME = "keyValidationRefreshAheadTime";
+public const string BASIC_AUTH_CACHE_EXPIRY = "basicAuthCacheExpiryTime";
+public const string BASIC_AUTH_CACHE_CAPACITY = "basicAuthCacheCapacity";
+public const string BASIC_AUTH_FAILURE_CACHE_EXPIRY = "basicAuthFailureCacheExpiryTime";
+public const string BASIC_AUTH_FAILURE_CACHE_CAPACITY = "basicAuthFailureCacheCapacity";
+
+// failure codes of the native basic auth verifier
+public const int BASIC_AUTH_INVALID_FORMAT = 1;
+public const int BASIC_AUTH_INVALID_CREDENTIALS = 2;
+public const int BASIC_AUTH_MALFORMED_CREDENTIALS = 3;
 
 public const string JWT_CONFIG_INSTANCE_ID = "jwtConfig";
 public const string JWT_HEADER = "header";
@@ -301,15 +346,21 @@ public const string EXPECT_HEADER = "Expect";
 public const string VALIDATION_CONFIG_INSTANCE_ID = "validationConfig";
 public const string REQUEST_VALIDATION_ENABLED = "enableRequestValidation";
 public const string RESPONSE_VALIDATION_ENABLED = "enableResponseValidation";
+public const string MAX_REQUEST_PAYLOAD_SIZE = "maxRequestPayloadSize";
+public const string RESPONSE_VALIDATION_SAMPLING_RATE = "responseValidationSamplingRate";
+public const string ASYNC_RESPONSE_VALIDATION_ENABLED = "enableAsyncResponseValidation";
+public const string ASYNC_RESPONSE_VALIDATION_THREADS = "asyncResponseValidationThreads";
+public const string ASYNC_RESPONSE_VALIDATION_MAX_IN_FLIGHT_SIZE = "asyncResponseValidationMaxInFlightSize";
 public const string SWAGGER_ABSOLUTE_PATH = "absolutePathToSwagger";
 
 public const string THROTTLE_CONF_INSTANCE_ID = "throttlingConfig";
 public const string LOCAL_THROTTLE_CONF_INSTANCE_ID = "throttlingConfig.nodeLocal";
-public const string PROCESS_THREAD_POOL_CORE_SIZE = "processThreadPoolCoreSize";
-public const string PROCESS_THREAD_POOL_MAXIMUM_SIZE = "processThreadPoolMaximumSize";
-public const string PROCESS_THREAD_POOL_KEEP_ALIVE_TIME = "processThreadPoolKeepAliveTime";
+public const string EVENT_BUFFER_SIZE = "eventBufferSize";
+public const string EVENT_CONSUMER_THREADS = "eventConsumerThreads";
+public const string EVENT_BATCH_SIZE = "eventBatchSize";
 public const string THROTTLE_CLEANUP_FREQUENCY = "cleanUpFrequency";
 public const string GLOBAL_TM_EVENT_PUBLISH_ENABLED = "enabledGlobalTMEventPublishing";
+public const string THROTTLE_DECISION_CLEANUP_FREQUENCY = "throttleDecisionCleanUpFrequency";
 public const string JMS_CONNECTION_INITIAL_CONTEXT_FACTORY = "jmsConnectioninitialContextFactory";
 public const string JMS_CONNECTION_PROVIDER_URL = "jmsConnectionProviderUrl";
 public const string JMS_CONNECTION_USERNAME = "jmsConnectionUsername";
@@ -317,6 +368,12 @@ public const string JMS_CONNECTION_PASSWORD = "jmsConnectionPassword";
 public const string THROTTLE_ENDPOINT_URL = "throttleEndpointUrl";
 public const string THROTTLE_ENDPOINT_BASE64_HEADER = "throttleEndpointbase64Header";
 public const string THROTTLE_CONF_KEY_TEMPLATE_INSTANCE_ID = "throttlingConfig.dataRetriever";
+public const string THROTTLE_EVENT_PUBLISHER_INSTANCE_ID = "throttlingConfig.eventPublisher";
+public const string EVENT_PUBLISHER_BUFFER_SIZE = "bufferSize";
+public const string EVENT_PUBLISHER_BATCH_SIZE = "batchSize";
+public const string EVENT_PUBLISHER_MAX_BATCH_LATENCY = "maxBatchLatency";
+public const string EVENT_PUBLISHER_MAX_RETRIES = "maxRetries";
+public const string EVENT_PUBLISHER_COMPRESSION_ENABLED = "enableCompression";
 
 public const string TOKEN_REVOCATION_CONF_INSTANCE_ID = "tokenRevocationConfig";
 public const string TOKEN_REVOCATION_ENABLED = "enabledTokenRevocation";
@@ -392,6 +449,7 @@ const string KEY_TOKEN_REVOCATION_ETCD_UTIL = "TokenRevocationETCDUtil";
 const string KEY_TOKEN_REVOCATION_JMS = "TokenRevocationJMS";
 const string KEY_JWT_AUTH_PROVIDER = "JWTAuthProvider";
 public const string KEY_GRPC_ANALYTICS = "gRPCAnalytics";
+const string KEY_INTERCEPTOR = "Interceptor";
 const string API_KEY_UTIL = "APIKeyUtil";
 const string JWT_UTIL = "JWTUtil";
 const string API_KEY_PROVIDER = "APIKeyProvider";
@@ -20,6 +20,7 @@ public const string MICRO_GATEWAY_METRICS_PORTS = "b7a.observability.metrics.pro
 public const string PORT = "port";
 public const string JMX_PORT = "jmx_port";
 public const string SECURE_PORT = "secure_port";
+public const string MAX_METRIC_SERIES = "maxMetricSeries";
 
 public const string PRE_AUTHN_FILTER_REQUEST = "Pre_Authen_Filter_Request";
 public const string BASICAUTH_PROVIDER = "BasicAuth_Provider";
@@ -51,7 +52,6 @@ public const string SUBSCRIPTION_FILTER_REQUEST = "Subscription_FilterRequest";
 public const string THROTTLE_FILTER_REQUEST = "Throttle_Filter_Request";
 
 public const string REQUEST_METHOD = "REQUEST_METHOD";
-public const string REQUEST_RAWPATH = "REQUEST_RAWPATH";
 
 public const string VALIDATION_FILTER_REQUEST = "Validation_Filter_Request";
 public const string VALIDATION_FILTER_RESPONSE = "Validation_Filter_Response";
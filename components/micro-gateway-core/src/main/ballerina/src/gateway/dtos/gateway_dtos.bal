@@ -14,6 +14,7 @@
 // specific language governing permissions and limitations
 // under the License.
 
+import ballerina/jwt;
 
 public type APIKeyValidationDto record {
     string apiName?;
@@ -72,6 +73,8 @@ public type AuthenticationContext record {
     string spikeArrestUnit = "";
     boolean stopOnQuotaReach = false;
     string apiPublisher = UNKNOWN_VALUE;
+    int applicationThrottleKeyId = -1;
+    int subscriptionThrottleKeyId = -1;
 };
 
 public type KeyManagerConf record {
@@ -84,3 +87,39 @@ public type Credentials record {
     string password = "";
 };
 
+# Verified API key, which is cached by the digest of the key so that the signature of the key is verified and the key
+# is decoded only once.
+#
+# + payload - Decoded payload of the key
+# + subscribedAPIs - APIs the key is subscribed to, from the subscribedAPIs or allowedAPIs claim, or nil if the claim
+# is not a list
+# + expiryTime - Time in milliseconds after which the key is no longer accepted
+public type VerifiedAPIKey record {|
+    jwt:JwtPayload payload;
+    SubscribedAPIIndex? subscribedAPIs;
+    int expiryTime;
+|};
+
+# Subscriptions of a JWT or an API key, indexed by the name and version of the API once per token, so that the
+# subscription of a request is found with a lookup rather than by walking the subscribedAPIs claim.
+#
+# + authenticationContext - Authentication context built from the claims of the token, which is copied for each
+# request and completed with the attributes of the subscription
+# + subscriptions - Subscriptions keyed by the API name and then by the API version
+# + count - Number of entries of the subscribedAPIs claim
+public type SubscribedAPIIndex record {|
+    AuthenticationContext authenticationContext;
+    map<map<SubscribedAPI>> subscriptions;
+    int count;
+|};
+
+# Throttling attributes of a subscription of a token, which are set only if the subscription defines them.
+#
+# + tier - Subscription tier
+# + publisher - Publisher of the API
+# + subscriberTenantDomain - Tenant domain of the subscriber
+public type SubscribedAPI record {|
+    string tier?;
+    string publisher?;
+    string subscriberTenantDomain?;
+|};
@@ -72,15 +72,23 @@ public type RequestStreamDTO record {
     int resourceTierCount = -1;
     int resourceTierUnitTime = -1;
     string resourceTierTimeUnit = "";
+    string resourceTierAlgorithm = "";
     int appTierCount = -1;
     int appTierUnitTime = -1;
     string appTierTimeUnit = "";
+    string appTierAlgorithm = "";
     int apiTierCount = -1;
     int apiTierUnitTime = -1;
     string apiTierTimeUnit = "";
+    string apiTierAlgorithm = "";
     int subscriptionTierCount = -1;
     int subscriptionTierUnitTime = -1;
     string subscriptionTierTimeUnit = "";
+    string subscriptionTierAlgorithm = "";
+    int apiKeyId = -1;
+    int appKeyId = -1;
+    int subscriptionKeyId = -1;
+    int resourceKeyId = -1;
 };
 
 public type GlobalThrottleStreamDTO record {
@@ -97,8 +105,6 @@ public type IPRangeDTO record {
     string 'type;
     string fixedIp;
     string startingIp;
-    string startingIpNumber;
     string endingIp;
-    string endingIpNumber;
     boolean invert = false;
 };
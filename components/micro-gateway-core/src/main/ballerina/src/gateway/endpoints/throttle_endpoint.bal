@@ -14,26 +14,39 @@
 // specific language governing permissions and limitations
 // under the License.
 
-import ballerina/http;
-import ballerina/log;
+import ballerinax/java;
 
 string throttleEndpointUrl = getConfigValue(THROTTLE_CONF_INSTANCE_ID, THROTTLE_ENDPOINT_URL, DEFAULT_THROTTLE_ENDPOINT_URL);
 string throttleEndpointbase64Header = getConfigValue(THROTTLE_CONF_INSTANCE_ID, THROTTLE_ENDPOINT_BASE64_HEADER,
 DEFAULT_THROTTLE_ENDPOINT_BASE64_HEADER);
 string encodedBasicAuthHeader = throttleEndpointbase64Header.toBytes().toBase64();
 
-http:Client throttleEndpoint = new (throttleEndpointUrl,
-{
-    cache: {enabled: false},
-    secureSocket: {
-        trustStore: {
-            path: getConfigValue(LISTENER_CONF_INSTANCE_ID, TRUST_STORE_PATH, DEFAULT_TRUST_STORE_PATH),
-            password: getConfigValue(LISTENER_CONF_INSTANCE_ID, TRUST_STORE_PASSWORD, DEFAULT_TRUST_STORE_PASSWORD)
-        },
-        verifyHostname: getConfigBooleanValue(HTTP_CLIENTS_INSTANCE_ID, ENABLE_HOSTNAME_VERIFICATION, true)
-    }
-});
+# Starts the publisher which sends the buffered throttle events to the traffic manager in batches.
+public function initThrottleEventPublisher() {
+    handle trustStoreLocation = getTrustStoreLocation(java:fromString(getConfigValue(LISTENER_CONF_INSTANCE_ID,
+        TRUST_STORE_PATH, DEFAULT_TRUST_STORE_PATH)));
+    string trustStorePassword = getConfigValue(LISTENER_CONF_INSTANCE_ID, TRUST_STORE_PASSWORD,
+        DEFAULT_TRUST_STORE_PASSWORD);
+    boolean verifyHostname = getConfigBooleanValue(HTTP_CLIENTS_INSTANCE_ID, ENABLE_HOSTNAME_VERIFICATION, true);
+    int bufferSize = getConfigIntValue(THROTTLE_EVENT_PUBLISHER_INSTANCE_ID, EVENT_PUBLISHER_BUFFER_SIZE,
+        DEFAULT_EVENT_PUBLISHER_BUFFER_SIZE);
+    int batchSize = getConfigIntValue(THROTTLE_EVENT_PUBLISHER_INSTANCE_ID, EVENT_PUBLISHER_BATCH_SIZE,
+        DEFAULT_EVENT_PUBLISHER_BATCH_SIZE);
+    int maxBatchLatency = getConfigIntValue(THROTTLE_EVENT_PUBLISHER_INSTANCE_ID, EVENT_PUBLISHER_MAX_BATCH_LATENCY,
+        DEFAULT_EVENT_PUBLISHER_MAX_BATCH_LATENCY);
+    int maxRetries = getConfigIntValue(THROTTLE_EVENT_PUBLISHER_INSTANCE_ID, EVENT_PUBLISHER_MAX_RETRIES,
+        DEFAULT_EVENT_PUBLISHER_MAX_RETRIES);
+    boolean compressionEnabled = getConfigBooleanValue(THROTTLE_EVENT_PUBLISHER_INSTANCE_ID,
+        EVENT_PUBLISHER_COMPRESSION_ENABLED, DEFAULT_EVENT_PUBLISHER_COMPRESSION_ENABLED);
+    jInitThrottleEventPublisher(java:fromString(throttleEndpointUrl),
+        java:fromString(BASIC_PREFIX_WITH_SPACE + encodedBasicAuthHeader), trustStoreLocation,
+        java:fromString(trustStorePassword), verifyHostname, bufferSize, batchSize, maxBatchLatency, maxRetries,
+        compressionEnabled);
+}
 
+# Buffers the throttle event to be published to the traffic manager with the next batch.
+#
+# + throttleEvent - throttle event of the request
 public function publishThrottleEventToTrafficManager(RequestStreamDTO throttleEvent) {
 
     json sendEvent = {
@@ -62,23 +75,21 @@ public function publishThrottleEventToTrafficManager(RequestStreamDTO throttleEv
         }
     };
 
-    http:Request clientRequest = new;
-    clientRequest.setHeader(AUTHORIZATION_HEADER, BASIC_PREFIX_WITH_SPACE + encodedBasicAuthHeader);
-    clientRequest.setPayload(sendEvent);
-
-    printDebug(KEY_THROTTLE_UTIL, "ThrottleMessage is sent to traffic manager");
-
-    var response = throttleEndpoint->post("/throttleEventReceiver", clientRequest);
-
-    if (response is http:Response) {
-        int responseCode = response.statusCode;
-        printDebug(KEY_THROTTLE_UTIL, "\nStatus Code: " + responseCode.toString());
-        if(responseCode != 200) {
-            printError(KEY_THROTTLE_UTIL, "Error while publishing to traffic manager. Returned status code : " +
-            responseCode.toString());
-        }
+    if (jPublishThrottleEvent(java:fromString(sendEvent.toJsonString()))) {
+        printDebug(KEY_THROTTLE_UTIL, "Throttle event is buffered to be sent to the traffic manager");
     } else {
-        log:printError(response.reason(), err = response);
+        printDebug(KEY_THROTTLE_UTIL, "Throttle event is dropped as the traffic manager publisher buffer is full");
     }
-
 }
+
+function jInitThrottleEventPublisher(handle endpointUrl, handle authorizationHeader, handle trustStorePath,
+    handle trustStorePassword, boolean verifyHostname, int bufferSize, int batchSize, int maxBatchLatency,
+    int maxRetries, boolean compressionEnabled) = @java:Method {
+    name: "initThrottleEventPublisher",
+    class: "org.wso2.micro.gateway.core.throttle.global.ThrottleEventPublisher"
+} external;
+
+function jPublishThrottleEvent(handle event) returns boolean = @java:Method {
+    name: "publishThrottleEvent",
+    class: "org.wso2.micro.gateway.core.throttle.global.ThrottleEventPublisher"
+} external;
@@ -49,7 +49,7 @@ public type AnalyticsRequestFilter object {
                             // throttle stream gRPC Analytics
                             AnalyticsStreamMessage message = createThrottleMessage(throttleAnalyticsEventDTO);
                             printDebug(KEY_ANALYTICS_FILTER, "gRPC throttle stream message created.");
-                            future<()> throttleDataPublishFuture = start dataToAnalytics(message);
+                            publishAnalyticsMessage(message);
                             printDebug(KEY_ANALYTICS_FILTER, "gRPC throttle stream message published.");
                         }
                         if (isAnalyticsEnabled) {
@@ -97,7 +97,7 @@ function doFilterFault(http:FilterContext context, string errorMessage) {
             //fault stream gRPC Analytics
             printDebug(KEY_ANALYTICS_FILTER, "gRPC fault stream message publishing for API : " + faultDTO.apiName);
             AnalyticsStreamMessage message = createFaultMessage(faultDTO);
-            future<()> faultDataPublishFuture = start dataToAnalytics(message);
+            publishAnalyticsMessage(message);
             return;
         }
         EventDTO|error eventDTO = trap getEventFromFaultData(faultDTO);
@@ -123,7 +123,7 @@ function doFilterResponseData(http:Response response, http:FilterContext context
         //Response stream gRPC Analyrics
         AnalyticsStreamMessage message = createResponseMessage(requestResponseExecutionDTO);
         printDebug(KEY_ANALYTICS_FILTER,"gRPC response stream Data starting to publish");
-        future<()> responseDataPublishFuture = start dataToAnalytics(message);
+        publishAnalyticsMessage(message);
         return;
     }
     if (requestResponseExecutionDTO is RequestResponseExecutionDTO) {
@@ -15,7 +15,6 @@
 // under the License.
 
 import ballerina/http;
-import ballerina/observe;
 
 public type AnalyticsRequestFilterWrapper object {
     AnalyticsRequestFilter analyticsRequestFilter = new;
@@ -42,8 +41,8 @@ public type AnalyticsRequestFilterWrapper object {
         if (gaugeTags is ()) {
             gaugeTags = gaugeTagDetailsFromContext(context, FILTER_ANALYTICS);
         }
-        observe:Gauge | () localGauge = initializeGauge(PER_REQ_DURATION, REQ_FLTER_DURATION, gaugeTags);
-        observe:Gauge | () localGaugeTotal = initializeGauge(REQ_DURATION_TOTAL, FILTER_TOTAL_DURATION, {"Category": FILTER_ANALYTICS});
+        handle | () localGauge = initializeGauge(PER_REQ_DURATION, REQ_FLTER_DURATION, gaugeTags);
+        handle | () localGaugeTotal = initializeGauge(REQ_DURATION_TOTAL, FILTER_TOTAL_DURATION, {"Category": FILTER_ANALYTICS});
         int startingTime = getCurrentTime();
         boolean result = self.analyticsRequestFilter.filterResponse(response, context);
         float | () latency = setGaugeDuration(startingTime);
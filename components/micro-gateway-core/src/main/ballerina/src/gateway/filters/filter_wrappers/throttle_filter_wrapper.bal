@@ -15,7 +15,6 @@
 // under the License.
 
 import ballerina/http;
-import ballerina/observe;
 
 public type ThrottleFilterWrapper object {
     ThrottleFilter throttleFilter;
@@ -29,8 +28,8 @@ public type ThrottleFilterWrapper object {
         int | error | () spanIdReq = startSpan(THROTTLE_FILTER_REQUEST);
         //Gauge metric initialization
         map<string> | () gaugeTags = gaugeTagDetails(request, context, FILTER_THROTTLING);
-        observe:Gauge | () localGauge = initializeGauge(PER_REQ_DURATION, REQ_FLTER_DURATION, gaugeTags);
-        observe:Gauge | () localGaugeTotal = initializeGauge(REQ_DURATION_TOTAL, FILTER_TOTAL_DURATION, {"Category": FILTER_THROTTLING});
+        handle | () localGauge = initializeGauge(PER_REQ_DURATION, REQ_FLTER_DURATION, gaugeTags);
+        handle | () localGaugeTotal = initializeGauge(REQ_DURATION_TOTAL, FILTER_TOTAL_DURATION, {"Category": FILTER_THROTTLING});
         int startingTime = getCurrentTime();
         boolean result = self.throttleFilter.filterRequest(caller, request, context);
         float | () latency = setGaugeDuration(startingTime);
@@ -15,7 +15,6 @@
 // under the License.
 
 import ballerina/http;
-import ballerina/observe;
 
 public type ValidationResponseFilterWrapper object {
 
@@ -35,8 +34,8 @@ public type ValidationResponseFilterWrapper object {
         if (gaugeTags is ()) {
             gaugeTags = gaugeTagDetailsFromContext(context, FILTER_VALIDATION);
         }
-        observe:Gauge | () localGauge = initializeGauge(PER_REQ_DURATION, REQ_FLTER_DURATION, gaugeTags);
-        observe:Gauge | () localGaugeTotal = initializeGauge(REQ_DURATION_TOTAL, FILTER_TOTAL_DURATION,
+        handle | () localGauge = initializeGauge(PER_REQ_DURATION, REQ_FLTER_DURATION, gaugeTags);
+        handle | () localGaugeTotal = initializeGauge(REQ_DURATION_TOTAL, FILTER_TOTAL_DURATION,
                 {"Category": FILTER_VALIDATION});
         int startingTime = getCurrentTime();
         boolean result = self.validationResponseFilter.filterResponse(response, context);
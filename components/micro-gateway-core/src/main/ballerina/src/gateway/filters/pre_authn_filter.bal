@@ -78,7 +78,6 @@ returns boolean {
     invocationContext.attributes[IS_SECURED] = isSecuredResource;
     context.attributes[IS_SECURED] = isSecuredResource;
     invocationContext.attributes[REQUEST_METHOD] = request.method;
-    invocationContext.attributes[REQUEST_RAWPATH] = request.rawPath;
 
     string authHeader = "";
     string | error extractedToken = "";
@@ -58,7 +58,14 @@ deployedPolicies) returns boolean {
 
     AuthenticationContext keyValidationResult = {};
     string? apiVersion = getVersion(context);
-    string resourceLevelThrottleKey = getResourceThrottleKey(invocationContext, apiContext, apiVersion);
+    // string throttle keys are only needed by the traffic manager, node local throttling uses interned key ids
+    string resourceLevelThrottleKey = "";
+    int resourceLevelThrottleKeyId = -1;
+    if (enabledGlobalTMEventPublishing) {
+        resourceLevelThrottleKey = getResourceThrottleKey(invocationContext, apiContext, apiVersion);
+    } else {
+        resourceLevelThrottleKeyId = getResourceThrottleKeyId(context, invocationContext, apiContext, apiVersion);
+    }
     string? resourceLevelPolicyName = getResourceLevelPolicy(context);
     string clientIP = (enabledGlobalTMEventPublishing) ? getClientIp(request, caller): "";
     string tenantDomain = (enabledGlobalTMEventPublishing) ? getTenantDomain(context) : "";
@@ -75,7 +82,8 @@ deployedPolicies) returns boolean {
         if(!checkAPILevelThrottled(caller, request, context, apiLevelPolicy, deployedPolicies, apiContext, apiVersion)) {
             return false;
         }
-        if(!checkResourceLevelThrottled(caller, request, context, resourceLevelPolicyName, deployedPolicies, resourceLevelThrottleKey)) {
+        if(!checkResourceLevelThrottled(caller, request, context, resourceLevelPolicyName, deployedPolicies,
+                resourceLevelThrottleKey, resourceLevelThrottleKeyId)) {
             return false;
         }
         printDebug(KEY_THROTTLE_FILTER, "Checking subscription level throttle policy '" + keyValidationResult.
@@ -90,7 +98,7 @@ deployedPolicies) returns boolean {
             return false;
         }
         printDebug(KEY_THROTTLE_FILTER, "Checking subscription level throttling-out.");
-        [isThrottled, stopOnQuota] = isSubscriptionLevelThrottled(keyValidationResult, deployedPolicies,
+        [isThrottled, stopOnQuota] = isSubscriptionLevelThrottled(context, keyValidationResult, deployedPolicies,
             apiContext, apiVersion);
         printDebug(KEY_THROTTLE_FILTER, "Subscription level throttling result:: isThrottled:"
         + isThrottled.toString() + ", stopOnQuota:" + stopOnQuota.toString());
@@ -144,7 +152,8 @@ deployedPolicies) returns boolean {
         if(!checkAPILevelThrottled(caller, request, context, apiLevelPolicy, deployedPolicies, apiContext, apiVersion)) {
             return false;
         }
-        if(!checkResourceLevelThrottled(caller, request, context, resourceLevelPolicyName, deployedPolicies, resourceLevelThrottleKey)) {
+        if(!checkResourceLevelThrottled(caller, request, context, resourceLevelPolicyName, deployedPolicies,
+                resourceLevelThrottleKey, resourceLevelThrottleKeyId)) {
             return false;
         }
         printDebug(KEY_THROTTLE_FILTER, "Not a secured resource. Proceeding with Unauthenticated tier.");
@@ -220,23 +229,24 @@ errorMessage, string errorDescription) {
     context.attributes[ERROR_DESCRIPTION] = errorDescription;
 }
 
-function isSubscriptionLevelThrottled(AuthenticationContext keyValidationDto,
+function isSubscriptionLevelThrottled(http:FilterContext context, AuthenticationContext keyValidationDto,
         map<json> deployedPolicies, string apiContext, string? apiVersion) returns [
  boolean, boolean] {
     if (keyValidationDto.tier == UNLIMITED_TIER) {
         return [false, false];
     }
+    if (!enabledGlobalTMEventPublishing) {
+        boolean stopOnQuota = <boolean>deployedPolicies.get(SUB_LEVEL_PREFIX + keyValidationDto.tier).stopOnQuota;
+        boolean isThrottled = isSubLevelThrottled(getSubscriptionThrottleKeyId(context, keyValidationDto, apiContext,
+            apiVersion));
+        return [isThrottled, stopOnQuota];
+    }
 
     string subscriptionLevelThrottleKey = keyValidationDto.applicationId + ":" + apiContext;
     if (apiVersion is string) {
         subscriptionLevelThrottleKey += ":" + apiVersion;
     }
     printDebug(KEY_THROTTLE_FILTER, "Subscription level throttle key : " + subscriptionLevelThrottleKey);
-    if (!enabledGlobalTMEventPublishing) {
-        boolean stopOnQuota = <boolean>deployedPolicies.get(SUB_LEVEL_PREFIX + keyValidationDto.tier).stopOnQuota;
-        boolean isThrottled = isSubLevelThrottled(subscriptionLevelThrottleKey);
-        return [isThrottled, stopOnQuota];
-    }
     return isRequestThrottled(subscriptionLevelThrottleKey);
 }
 
@@ -245,51 +255,46 @@ function isApplicationLevelThrottled(AuthenticationContext keyValidationDto, map
     if (keyValidationDto.applicationTier == UNLIMITED_TIER) {
         return false;
     }
+    if (!enabledGlobalTMEventPublishing) {
+        return isAppLevelThrottled(getApplicationThrottleKeyId(keyValidationDto));
+    }
     string applicationLevelThrottleKey = keyValidationDto.applicationId + ":" + keyValidationDto.username;
     printDebug(KEY_THROTTLE_FILTER, "Application level throttle key : " + applicationLevelThrottleKey);
     boolean throttled;
     boolean stopOnQuota;
-    if (!enabledGlobalTMEventPublishing) {
-        return isAppLevelThrottled(applicationLevelThrottleKey);
-    }
     [throttled, stopOnQuota] = isRequestThrottled(applicationLevelThrottleKey);
     return throttled;
 }
 
-function isAPILevelThrottled(string apiContext, string? apiVersion) returns boolean {
+function isAPILevelThrottled(http:FilterContext context, string apiContext, string? apiVersion) returns boolean {
+    if (!enabledGlobalTMEventPublishing) {
+        return isApiThrottled(getApiThrottleKeyId(context, apiContext, apiVersion));
+    }
     boolean throttled;
     boolean stopOnQuota;
     string apiThrottleKey = apiContext;
     if (apiVersion is string) {
         apiThrottleKey += ":" + apiVersion;
     }
-    if (enabledGlobalTMEventPublishing) {
-        apiThrottleKey += "_default";
-    }
-    if (!enabledGlobalTMEventPublishing) {
-        return isApiThrottled(apiThrottleKey);
-    }
+    apiThrottleKey += "_default";
     [throttled, stopOnQuota] = isRequestThrottled(apiThrottleKey);
     return throttled;
 }
 
 
 function isResourceLevelThrottled(string? policy,
-        map<json> deployedPolicies, string resourceKey) returns (boolean) {
+        map<json> deployedPolicies, string resourceKey, int resourceKeyId) returns (boolean) {
     if (policy is string) {
-        string resourceLevelThrottleKey = resourceKey;
         if (policy == UNLIMITED_TIER) {
             return false;
         }
-        if (enabledGlobalTMEventPublishing) {
-            resourceLevelThrottleKey += "_default";
+        if (!enabledGlobalTMEventPublishing) {
+            return isResourceThrottled(resourceKeyId);
         }
+        string resourceLevelThrottleKey = resourceKey + "_default";
         printDebug(KEY_THROTTLE_FILTER, "Resource level throttle key : " + resourceLevelThrottleKey);
         boolean throttled;
         boolean stopOnQuota;
-        if (!enabledGlobalTMEventPublishing) {
-            return isResourceThrottled(resourceLevelThrottleKey);
-        }
         [throttled, stopOnQuota] = isRequestThrottled(resourceLevelThrottleKey);
         return throttled;
     }
@@ -327,37 +332,10 @@ function isRequestBlocked(http:Caller caller, http:Request request, http:FilterC
 }
 
 function isIpLevelBlocked(string clientIp, string tenanatDomain) returns boolean {
-    foreach IPRangeDTO ipRange in IpBlockConditionsMap {
-        if(ipRange.tenantDomain == tenanatDomain) {
-            if(ipRange.'type == BLOCKING_CONDITION_IP) {
-                if(ipRange.fixedIp == clientIp) {
-                    if(!ipRange.invert) {
-                        printDebug(KEY_THROTTLE_FILTER, "Blocked IP selected for blocking : " + clientIp);
-                        return true;
-                    }
-                } else {
-                    if(ipRange.invert) {
-                        printDebug(KEY_THROTTLE_FILTER, "Blocked IP invert condition selected for IP : " + clientIp);
-                        return true;
-                    }
-                }
-            } else if(ipRange.'type == BLOCKING_CONDITION_IP_RANGE) {
-                boolean isIpInRange = isIpWithinRange(clientIp, ipRange.startingIpNumber, ipRange.endingIpNumber);
-                if(isIpInRange) {
-                    if(!ipRange.invert) {
-                        printDebug(KEY_THROTTLE_FILTER, "The client IP : " + clientIp + " is within the blocking " +
-                        "IP range : [" + ipRange.startingIp + ", " + ipRange.endingIp + "].");
-                        return true;
-                    }
-                } else {
-                    if(ipRange.invert) {
-                        printDebug(KEY_THROTTLE_FILTER, "The client IP : " + clientIp + " is within the inverted  " +
-                        "blocking IP range : [" + ipRange.startingIp + ", " + ipRange.endingIp + "].");
-                        return true;
-                    }
-                }
-            }
-        }
+    if (isIpBlocked(clientIp, tenanatDomain)) {
+        printDebug(KEY_THROTTLE_FILTER, "The client IP : " + clientIp + " is blocked by an IP blocking condition of "
+            + "the tenant : " + tenanatDomain);
+        return true;
     }
     return false;
 }
@@ -393,20 +371,23 @@ function generateLocalThrottleEvent(http:Request req, http:FilterContext context
     requestStreamDTO.appTierCount = <int>appPolicyDetails.count;
     requestStreamDTO.appTierUnitTime = <int>appPolicyDetails.unitTime;
     requestStreamDTO.appTierTimeUnit = appPolicyDetails.timeUnit.toString();
+    requestStreamDTO.appTierAlgorithm = getThrottleAlgorithm(appPolicyDetails);
     map<json> subPolicyDetails = getPolicyDetails(deployedPolicies, keyValidationDto.tier, SUB_LEVEL_PREFIX);
     requestStreamDTO.subscriptionTierCount = <int>subPolicyDetails.count;
     requestStreamDTO.subscriptionTierUnitTime = <int>subPolicyDetails.unitTime;
     requestStreamDTO.subscriptionTierTimeUnit = subPolicyDetails.timeUnit.toString();
+    requestStreamDTO.subscriptionTierAlgorithm = getThrottleAlgorithm(subPolicyDetails);
     requestStreamDTO.stopOnQuota = <boolean>subPolicyDetails.stopOnQuota;
     map<json> resourcePolicyDetails = getPolicyDetails(deployedPolicies, requestStreamDTO.resourceTier, RESOURCE_LEVEL_PREFIX);
     requestStreamDTO.resourceTierCount = <int>resourcePolicyDetails.count;
     requestStreamDTO.resourceTierUnitTime = <int>resourcePolicyDetails.unitTime;
     requestStreamDTO.resourceTierTimeUnit = resourcePolicyDetails.timeUnit.toString();
+    requestStreamDTO.resourceTierAlgorithm = getThrottleAlgorithm(resourcePolicyDetails);
     map<json> apiPolicyDetails = getPolicyDetails(deployedPolicies, requestStreamDTO.apiTier, RESOURCE_LEVEL_PREFIX);
     requestStreamDTO.apiTierCount = <int>apiPolicyDetails.count;
     requestStreamDTO.apiTierUnitTime = <int>apiPolicyDetails.unitTime;
     requestStreamDTO.apiTierTimeUnit = apiPolicyDetails.timeUnit.toString();
-    setThrottleKeysWithVersion(requestStreamDTO, context);
+    requestStreamDTO.apiTierAlgorithm = getThrottleAlgorithm(apiPolicyDetails);
     return requestStreamDTO;
 }
 
@@ -423,7 +404,17 @@ function generateGlobalThrottleEvent(http:Request req, http:FilterContext contex
     requestStreamDTO.apiName = context.getServiceName();
     requestStreamDTO.appId = keyValidationDto.applicationId;
     setThrottleKeysWithVersion(requestStreamDTO, context);
-    json properties = {};
+    map<json> properties = {};
+    any clientIp = context.attributes[REMOTE_ADDRESS];
+    if (clientIp is string && clientIp != "") {
+        // IPv4 addresses are published as numbers and IPv6 addresses as big integer strings
+        int ipv4 = ipToLong(clientIp);
+        if (ipv4 >= 0) {
+            properties[THROTTLE_PROPERTY_IP] = ipv4;
+        } else {
+            properties[THROTTLE_PROPERTY_IPV6] = ipToBigInteger(clientIp);
+        }
+    }
     requestStreamDTO.properties = properties.toJsonString();
     return requestStreamDTO;
 }
@@ -436,6 +427,21 @@ function setCommonThrottleData(http:Request req, http:FilterContext context, Aut
     requestStreamDTO.appTier = keyValidationDto.applicationTier;
     requestStreamDTO.apiTier = getAPITier(context.getServiceName(), keyValidationDto.apiTier);
     requestStreamDTO.subscriptionTier = keyValidationDto.tier;
+    if (!enabledGlobalTMEventPublishing) {
+        requestStreamDTO.apiKeyId = getApiThrottleKeyId(context, apiContext, apiVersion);
+        if (requestStreamDTO.apiTier != UNLIMITED_TIER && requestStreamDTO.apiTier != "") {
+            // the API level policy is counted against the API key, which the resource level check never reads
+            requestStreamDTO.resourceTier = requestStreamDTO.apiTier;
+        } else {
+            requestStreamDTO.resourceTier = getResourceTier(context.getResourceName());
+            requestStreamDTO.resourceKeyId = getResourceThrottleKeyId(context, invocationContext, apiContext,
+                apiVersion);
+        }
+        requestStreamDTO.appKeyId = getApplicationThrottleKeyId(keyValidationDto);
+        requestStreamDTO.subscriptionKeyId = getSubscriptionThrottleKeyId(context, keyValidationDto, apiContext,
+            apiVersion);
+        return requestStreamDTO;
+    }
     requestStreamDTO.apiKey = apiContext;
 
     if (requestStreamDTO.apiTier != UNLIMITED_TIER && requestStreamDTO.apiTier != "") {
@@ -473,6 +479,77 @@ function getVersion(http:FilterContext context) returns string | () {
     return apiVersion;
 }
 
+function getApiThrottleKey(http:FilterContext context, string apiContext, string? apiVersion) returns string {
+    string? apiThrottleKey = apiThrottleKeys[context.getServiceName()];
+    if (apiThrottleKey is string) {
+        return apiThrottleKey;
+    }
+    string newApiThrottleKey = apiContext + ":" + ((apiVersion is string) ? apiVersion : "");
+    apiThrottleKeys[context.getServiceName()] = newApiThrottleKey;
+    return newApiThrottleKey;
+}
+
+function getApiThrottleKeyId(http:FilterContext context, string apiContext, string? apiVersion) returns int {
+    int? keyId = apiThrottleKeyIds[context.getServiceName()];
+    if (keyId is int) {
+        return keyId;
+    }
+    int newKeyId = getApiKeyId(apiContext, (apiVersion is string) ? apiVersion : "");
+    apiThrottleKeyIds[context.getServiceName()] = newKeyId;
+    return newKeyId;
+}
+
+function getResourceThrottleKeyId(http:FilterContext context, runtime:InvocationContext invocationContext,
+        string apiContext, string? apiVersion) returns int {
+    map<int>? serviceKeyIds = resourceThrottleKeyIds[context.getServiceName()];
+    if (serviceKeyIds is map<int>) {
+        int? keyId = serviceKeyIds[context.getResourceName()];
+        if (keyId is int) {
+            return keyId;
+        }
+    }
+    string resourcePath = apiContext;
+    if (apiVersion is string) {
+        resourcePath += "/" + apiVersion;
+    }
+    resourcePath += invocationContext.attributes[MATCHING_RESOURCE].toString();
+    int newKeyId = getResourceKeyId(resourcePath, invocationContext.attributes[REQUEST_METHOD].toString());
+    if (serviceKeyIds is map<int>) {
+        serviceKeyIds[context.getResourceName()] = newKeyId;
+    } else {
+        map<int> newServiceKeyIds = {};
+        newServiceKeyIds[context.getResourceName()] = newKeyId;
+        resourceThrottleKeyIds[context.getServiceName()] = newServiceKeyIds;
+    }
+    return newKeyId;
+}
+
+// application and subscription key ids are looked up once per request and kept on its authentication context, for
+// the throttle check and the throttle event. They are not cached across requests, since the id of a key is released
+// and reused for another key once the throttle counter of the key expires.
+function getApplicationThrottleKeyId(AuthenticationContext keyValidationDto) returns int {
+    if (keyValidationDto.applicationTier == UNLIMITED_TIER) {
+        return -1;
+    }
+    if (keyValidationDto.applicationThrottleKeyId < 0) {
+        keyValidationDto.applicationThrottleKeyId = getApplicationKeyId(keyValidationDto.applicationId,
+            keyValidationDto.username);
+    }
+    return keyValidationDto.applicationThrottleKeyId;
+}
+
+function getSubscriptionThrottleKeyId(http:FilterContext context, AuthenticationContext keyValidationDto,
+        string apiContext, string? apiVersion) returns int {
+    if (keyValidationDto.tier == UNLIMITED_TIER) {
+        return -1;
+    }
+    if (keyValidationDto.subscriptionThrottleKeyId < 0) {
+        keyValidationDto.subscriptionThrottleKeyId = getSubscriptionKeyId(keyValidationDto.applicationId,
+            getApiThrottleKey(context, apiContext, apiVersion));
+    }
+    return keyValidationDto.subscriptionThrottleKeyId;
+}
+
 function checkAPILevelThrottled(http:Caller caller, http:Request request, http:FilterContext context,
                 string apiLevelPolicy,  map<json> deployedPolicies, string apiContext, string? apiVersion) returns boolean {
     printDebug(KEY_THROTTLE_FILTER, "Checking api level throttle policy '" + apiLevelPolicy + "' exist.");
@@ -486,7 +563,7 @@ function checkAPILevelThrottled(http:Caller caller, http:Request request, http:F
         return false;
     }
     printDebug(KEY_THROTTLE_FILTER, "Checking API level throttling-out.");
-    if (isAPILevelThrottled(apiContext, apiVersion)) {
+    if (isAPILevelThrottled(context, apiContext, apiVersion)) {
         printDebug(KEY_THROTTLE_FILTER, "API level throttled out. Sending throttled out response.");
         context.attributes[IS_THROTTLE_OUT] = true;
         context.attributes[THROTTLE_OUT_REASON] = THROTTLE_OUT_REASON_API_LIMIT_EXCEEDED;
@@ -501,7 +578,8 @@ function checkAPILevelThrottled(http:Caller caller, http:Request request, http:F
 }
 
 function checkResourceLevelThrottled(http:Caller caller, http:Request request, http:FilterContext context,
-                            string? resourceLevelPolicyName,  map<json> deployedPolicies, string resourceKey) returns boolean {
+                            string? resourceLevelPolicyName,  map<json> deployedPolicies, string resourceKey,
+                            int resourceKeyId) returns boolean {
     if (resourceLevelPolicyName is string) {
         printDebug(KEY_THROTTLE_FILTER, "Resource level throttle policy : " + resourceLevelPolicyName);
         if (resourceLevelPolicyName.length() > 0 && resourceLevelPolicyName != UNLIMITED_TIER &&
@@ -516,7 +594,7 @@ function checkResourceLevelThrottled(http:Caller caller, http:Request request, h
         }
     }
     printDebug(KEY_THROTTLE_FILTER, "Checking resource level throttling-out.");
-    if (isResourceLevelThrottled(resourceLevelPolicyName, deployedPolicies, resourceKey)) {
+    if (isResourceLevelThrottled(resourceLevelPolicyName, deployedPolicies, resourceKey, resourceKeyId)) {
         printDebug(KEY_THROTTLE_FILTER, "Resource level throttled out. Sending throttled out response.");
         context.attributes[IS_THROTTLE_OUT] = true;
         context.attributes[THROTTLE_OUT_REASON] = THROTTLE_OUT_REASON_RESOURCE_LIMIT_EXCEEDED;
@@ -17,6 +17,7 @@
  import ballerina/http;
  import ballerina/stringutils;
  import ballerina/runtime;
+ import ballerina/lang.'int;
 
 // Validation Request filter
 public type ValidationRequestFilter object {
@@ -45,16 +46,8 @@ public type ValidationRequestFilter object {
 
 function doValidationFilterRequest(http:Caller caller, http:Request request, http:FilterContext filterContext)
                                                                                                     returns boolean {
-    json|error models = {};
-    json finalSchema = {};
-    string modelName;
-    json relElements = {};
-    json result = {};
-    json|error bodyModels = {};
-    json|error paths = {};
     string requestPath = getRequestPathFromFilterContext(filterContext);
     string requestMethod = getRequestMethodFromFilterContext(filterContext);
-    boolean validationResult = false;
 
     //todo: Accept only the content types which are mentioned in the openAPI definition
     //If the content-type is not application/json, validation fiter is not applied.
@@ -69,36 +62,52 @@ function doValidationFilterRequest(http:Caller caller, http:Request request, htt
     printDebug(KEY_VALIDATION_FILTER, "Relevent Service name : " + serviceName);
 
     printDebug(KEY_VALIDATION_FILTER, "The Request resource Path : " + requestPath + ", method : " + requestMethod);
-       
-    //getting the payload of the request
-    string payloadVal = "";
 
-    var reqPayload  = request.getJsonPayload();
-    if (reqPayload is json) {
-        payloadVal = reqPayload.toJsonString();
+    //reject the payloads which are too large to be buffered for the validation before reading them
+    if (maxRequestPayloadSize > 0 && request.hasHeader(CONTENT_LENGHT_HEADER)) {
+        int | error contentLength = 'int:fromString(request.getHeader(CONTENT_LENGHT_HEADER));
+        if (contentLength is int && contentLength > maxRequestPayloadSize) {
+            return sendValidationErrorResponse(caller, http:STATUS_PAYLOAD_TOO_LARGE, "Payload Too Large",
+                "Request payload exceeds the maximum size of " + maxRequestPayloadSize.toString() + " bytes");
+        }
+    }
+
+    //the raw bytes of the payload are validated, the payload is not converted to json or string
+    byte[] payload = [];
+    var reqPayload = request.getBinaryPayload();
+    if (reqPayload is byte[]) {
+        payload = reqPayload;
+    }
+    //the content length header is not available for chunked requests
+    if (maxRequestPayloadSize > 0 && payload.length() > maxRequestPayloadSize) {
+        return sendValidationErrorResponse(caller, http:STATUS_PAYLOAD_TOO_LARGE, "Payload Too Large",
+            "Request payload exceeds the maximum size of " + maxRequestPayloadSize.toString() + " bytes");
     }
-    var valResult = requestValidate(requestPath, requestMethod, payloadVal, serviceName);
+    var valResult = requestValidate(requestPath, requestMethod, payload, serviceName);
     if (valResult is handle && stringutils:equalsIgnoreCase(valResult.toString(), VALIDATION_STATUS)) {
         return true;
     } else {
-        string errorMessage = "Bad Request";
-        string errorDescription = valResult.toString();
-        json newPayload = { fault: {
-            code: http:STATUS_BAD_REQUEST,
-            message: errorMessage,
-            description: errorDescription
-        } };
-        runtime:InvocationContext invocationContext = runtime:getInvocationContext();
-        invocationContext.attributes["error_response_code"] = http:STATUS_BAD_REQUEST;
-        invocationContext.attributes["error_response"] = errorDescription;
-        invocationContext.attributes[FILTER_FAILED] = true;
-        http:Response res = new;
-        res.statusCode = http:STATUS_BAD_REQUEST;
-        res.setJsonPayload(newPayload);
-        var rcal = caller->respond(res);
-        if (rcal is error) {
-            printError(KEY_VALIDATION_FILTER, "Error occurred while sending the error response", rcal);
-        }
-        return false;
+        return sendValidationErrorResponse(caller, http:STATUS_BAD_REQUEST, "Bad Request", valResult.toString());
+    }
+}
+
+function sendValidationErrorResponse(http:Caller caller, int statusCode, string errorMessage,
+                                     string errorDescription) returns boolean {
+    json newPayload = { fault: {
+        code: statusCode,
+        message: errorMessage,
+        description: errorDescription
+    } };
+    runtime:InvocationContext invocationContext = runtime:getInvocationContext();
+    invocationContext.attributes["error_response_code"] = statusCode;
+    invocationContext.attributes["error_response"] = errorDescription;
+    invocationContext.attributes[FILTER_FAILED] = true;
+    http:Response res = new;
+    res.statusCode = statusCode;
+    res.setJsonPayload(newPayload);
+    var rcal = caller->respond(res);
+    if (rcal is error) {
+        printError(KEY_VALIDATION_FILTER, "Error occurred while sending the error response", rcal);
     }
+    return false;
 }
@@ -53,7 +53,7 @@ function doValidationFilterResponse(@tainted http:Response response, http:Filter
 
     string reqestPath = getRequestPathFromFilterContext(filterContext);
     string requestMethod = getRequestMethodFromFilterContext(filterContext);
-    string resPayload = "";
+    byte[] resPayload = [];
 
     //todo: Accept only the content types which are mentioned in the openAPI definition
     //If the content-type is not application/json, validation fiter is not applied.
@@ -64,12 +64,23 @@ function doValidationFilterResponse(@tainted http:Response response, http:Filter
     }    
 
     printDebug(KEY_VALIDATION_FILTER, "The Response validation is enabled.");
+    string servName = filterContext.getServiceName();
+    //the payload is not read if the response is not sampled or the resource does not define a response schema
+    if (!isResponseSampled(reqestPath, requestMethod, servName)) {
+        printDebug(KEY_VALIDATION_FILTER, "The response is not sampled for the validation");
+        return true;
+    }
     string responseCode = response.statusCode.toString();
-    var payload = response.getJsonPayload();
-    if (payload is json)  {
-        resPayload = payload.toJsonString();
+    var payload = response.getBinaryPayload();
+    if (payload is byte[])  {
+        resPayload = payload;
+    }
+    if (enableAsyncResponseValidation) {
+        if (!responseValidateAsync(reqestPath, requestMethod, responseCode, resPayload, servName)) {
+            printDebug(KEY_VALIDATION_FILTER, "The response is not validated as the validation is overloaded");
+        }
+        return true;
     }
-    string servName = filterContext.getServiceName();
     var valResult = responseValidate(reqestPath, requestMethod, responseCode, resPayload, servName);
     if (valResult is handle && stringutils:equalsIgnoreCase(valResult.toString(), VALIDATION_STATUS)) {
         return true;
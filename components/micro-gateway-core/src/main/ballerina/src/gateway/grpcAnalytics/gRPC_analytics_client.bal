@@ -1,10 +1,13 @@
 import ballerina/grpc;
+import ballerina/runtime;
 import ballerina/task;
 
 grpc:StreamingClient gRPCEp = new grpc:StreamingClient();
 boolean gRPCConnection = false; //check gRPC connection
 int reConnectTime =  <int>getConfigIntValue(GRPC_ANALYTICS,GRPC_RETRY_TIME_MILLISECONDS, DEFAULT_GRPC_RECONNECT_TIME_IN_MILLES);
 boolean isTaskStarted = false;    //to check gRPC reconnect task
+//the buffered messages are not sent while the circuit is open, until the connection is recovered
+boolean gRPCCircuitOpen = false;
 
 task:Scheduler gRPCConnectTimer = new({
         intervalInMillis :  reConnectTime,
@@ -21,6 +24,7 @@ service connectGRPC = service {
             pingMessage(gRPCPingMessage);
         } else {
             printInfo(KEY_GRPC_ANALYTICS, "Successfully connected to gRPC server.");
+            gRPCCircuitOpen = false;
             // terminates the timer if gRPPCConnection variable assigned as false
             var stop = gRPCConnectTimer.stop();
             if (stop is error) {
@@ -85,21 +89,67 @@ public function pingMessage(AnalyticsStreamMessage message){
         }
 }
 
-# `dataToAnalytics` function sends analytics data to the gRPC server
-# It sends AnalyticsStream message to  APIM_EVENT_RECEIVER Siddhi app's gRPCStream
-# 
-# + message - 'AnalyticsStreamMessage' Message structure defined in the Analytics.proto file
-# 
-public function dataToAnalytics(AnalyticsStreamMessage message){
-    //publishes data to relevant stream
-    printDebug(KEY_GRPC_ANALYTICS, "gRPC analytics data publishing method executed.");
-    grpc:Error? connErr = gRPCEp->send(message);
-        if (connErr is grpc:Error) {
-            printInfo(KEY_GRPC_ANALYTICS, "Error from Connector: " + connErr.reason() + " - " + <string> connErr.detail()["message"]);
-           
-        } else {
-            printDebug(KEY_GRPC_ANALYTICS, "gRPC analytics data published successfully: ");
+# `sendAnalyticsMessages` function sends the buffered analytics data to the gRPC server
+# It takes up to the batch size of messages from the buffer at once and sends them to APIM_EVENT_RECEIVER Siddhi
+# app's gRPCStream. A message which could not be sent is sent again before the buffered messages. While the circuit
+# is open, the messages are kept in the buffer instead of failing one after another.
+public function sendAnalyticsMessages() {
+    int batchSize = getConfigIntValue(GRPC_ANALYTICS, GRPC_MESSAGE_BATCH_SIZE, DEFAULT_GRPC_MESSAGE_BATCH_SIZE);
+    int maxConsecutiveFailures = getConfigIntValue(GRPC_ANALYTICS, GRPC_MAX_CONSECUTIVE_FAILURES,
+        DEFAULT_GRPC_MAX_CONSECUTIVE_FAILURES);
+    int consecutiveFailures = 0;
+    while (true) {
+        if (gRPCCircuitOpen) {
+            runtime:sleep(reConnectTime);
+            continue;
+        }
+        AnalyticsStreamMessage? message = takeAnalyticsMessage();
+        int startTime = getCurrentTime();
+        int sent = 0;
+        int failed = 0;
+        while (message is AnalyticsStreamMessage) {
+            grpc:Error? connErr = gRPCEp->send(message);
+            if (connErr is grpc:Error) {
+                printDebug(KEY_GRPC_ANALYTICS, "Error from Connector: " + connErr.reason() + " - " +
+                    <string> connErr.detail()["message"]);
+                retryAnalyticsMessage(message);
+                failed = failed + 1;
+                consecutiveFailures = consecutiveFailures + 1;
+                if (consecutiveFailures >= maxConsecutiveFailures) {
+                    printError(KEY_GRPC_ANALYTICS, "Sending gRPC analytics data failed " +
+                        consecutiveFailures.toString() + " times in a row. Stopped sending until reconnected.");
+                    consecutiveFailures = 0;
+                    openGRPCCircuit();
+                    break;
+                }
+            } else {
+                sent = sent + 1;
+                consecutiveFailures = 0;
+            }
+            if (sent + failed >= batchSize) {
+                break;
+            }
+            message = pollAnalyticsMessage();
+        }
+        printDebug(KEY_GRPC_ANALYTICS, sent.toString() + " gRPC analytics messages published successfully.");
+        recordAnalyticsBatch(sent, failed, getCurrentTime() - startTime);
+    }
+}
+
+# `openGRPCCircuit` function stops sending the buffered messages and starts the gRPC reconnect task, which closes the
+# circuit once the connection is recovered.
+function openGRPCCircuit() {
+    gRPCConnection = false;
+    if (!gRPCCircuitOpen) {
+        gRPCCircuitOpen = true;
+        recordAnalyticsCircuitOpening();
+    }
+    if (isTaskStarted == false) {
+        var startResult = gRPCConnectTimer.start();
+        if (startResult is error) {
+            printDebug(KEY_GRPC_ANALYTICS, "Starting the gRPC reconnect task is failed.");
         }
+    }
 }
 
 service AnalyticsSendServiceMessageListener = service {
@@ -114,14 +164,8 @@ service AnalyticsSendServiceMessageListener = service {
         if (err.reason() == "{ballerina/grpc}UnavailableError" && gRPCConnection == false) {
             printDebug(KEY_GRPC_ANALYTICS, "gRPC unavaliable error identified.");
             printError(KEY_GRPC_ANALYTICS, "Error reported from server: " + err.reason() + " - " + <string> err.detail()["message"]);
-            //starts gRPC reconnect task
-            if (isTaskStarted == false) {
-                var startResult = gRPCConnectTimer.start();
-                if (startResult is error ) {
-                    printDebug(KEY_GRPC_ANALYTICS, "Starting the gRPC reconnect task is failed.");
-                    return;
-                }   
-            }
+            //opens the circuit and starts gRPC reconnect task
+            openGRPCCircuit();
         }
     }
 
@@ -20,10 +20,12 @@ import ballerina/jwt;
 # Represents inbound api key auth provider.
 #
 # + authProvider - Reference to b7a inbound auth provider
+# + gatewayCache - the `APIGatewayCache instence`
 public type APIKeyProvider object {
     *auth:InboundAuthProvider;
 
     public jwt:InboundJwtAuthProvider authProvider;
+    public APIGatewayCache gatewayCache = new;
 
     # Provides authentication based on the provided api key token.
     #
@@ -33,6 +35,40 @@ public type APIKeyProvider object {
     }
 
     public function authenticate(string credential) returns @tainted (boolean | auth:Error) {
+        var verifiedAPIKey = self.verifyAPIKey(credential);
+        if (verifiedAPIKey is VerifiedAPIKey) {
+            if (isAPIKeyRevoked(verifiedAPIKey.payload)) {
+                printDebug(API_KEY_PROVIDER, "API key is revoked.");
+                setErrorMessageToInvocationContext(API_AUTH_INVALID_CREDENTIALS);
+                return false;
+            }
+            boolean validated = validateVerifiedAPIKey(credential, verifiedAPIKey);
+            if (!validated) {
+                setErrorMessageToInvocationContext(API_AUTH_INVALID_CREDENTIALS);
+            }
+            return validated;
+        } else {
+            return verifiedAPIKey;
+        }
+    }
+
+    # Verifies the signature of the api key and decodes it, unless the key is found in the api key cache. The api key
+    # cache is used only if the token cache is enabled.
+    #
+    # + credential - api key token string
+    # + return - Returns the verified api key, false if the key is not valid, or an error if it could not be verified
+    function verifyAPIKey(string credential) returns @tainted (VerifiedAPIKey | boolean | auth:Error) {
+        boolean cacheEnabled = getConfigBooleanValue(CACHING_ID, TOKEN_CACHE_ENABLED, DEFAULT_CACHING_ENABLED);
+        string cacheKey = "";
+        if (cacheEnabled) {
+            cacheKey = getAPIKeyCacheKey(credential);
+            VerifiedAPIKey? cachedAPIKey = self.gatewayCache.retrieveFromAPIKeyCache(cacheKey);
+            if (cachedAPIKey is VerifiedAPIKey) {
+                printDebug(API_KEY_PROVIDER, "API key found in the API key cache.");
+                setAPIKeyPrincipal(credential, cachedAPIKey.payload);
+                return cachedAPIKey;
+            }
+        }
         //Start a span attaching to the system span.
         int | error | () spanIdAuth = startSpan(API_KEY_PROVIDER_AUTHENTICATE);
         var isValidJWT = self.authProvider.authenticate(credential);
@@ -44,11 +80,15 @@ public type APIKeyProvider object {
                 setErrorMessageToInvocationContext(API_AUTH_INVALID_CREDENTIALS);
                 return false;
             }
-            boolean validated = validateAPIKey(credential);
-            if (!validated) {
-                setErrorMessageToInvocationContext(API_AUTH_INVALID_CREDENTIALS);
+            VerifiedAPIKey? verifiedAPIKey = decodeAPIKey(credential);
+            if (verifiedAPIKey is VerifiedAPIKey) {
+                if (cacheEnabled) {
+                    self.gatewayCache.addToAPIKeyCache(cacheKey, verifiedAPIKey);
+                }
+                return verifiedAPIKey;
             }
-            return validated;
+            setErrorMessageToInvocationContext(API_AUTH_INVALID_CREDENTIALS);
+            return false;
         } else {
             setErrorMessageToInvocationContext(API_AUTH_INVALID_CREDENTIALS);
             return prepareError("Failed to authenticate with api key auth provider.", isValidJWT);
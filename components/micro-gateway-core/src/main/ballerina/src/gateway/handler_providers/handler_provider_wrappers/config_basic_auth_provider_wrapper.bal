@@ -15,7 +15,6 @@
 // under the License.
 
 import ballerina/auth;
-import ballerina/observe;
 
 public type BasicAuthProviderWrapper object {
     *auth:InboundAuthProvider;
@@ -38,8 +37,8 @@ public type BasicAuthProviderWrapper object {
         //starting Gauge
         int startingTime = getCurrentTime();
         map<string> | () gaugeTags = gaugeTagDetails_basicAuth(FILTER_AUTHENTICATION);
-        observe:Gauge | () localGauge = initializeGauge(PER_REQ_DURATION, REQ_FLTER_DURATION, gaugeTags);
-        observe:Gauge | () localGaugeTotal = initializeGauge(REQ_DURATION_TOTAL, FILTER_TOTAL_DURATION, {"Category": FILTER_AUTHENTICATION});
+        handle | () localGauge = initializeGauge(PER_REQ_DURATION, REQ_FLTER_DURATION, gaugeTags);
+        handle | () localGaugeTotal = initializeGauge(REQ_DURATION_TOTAL, FILTER_TOTAL_DURATION, {"Category": FILTER_AUTHENTICATION});
         boolean | auth:Error result = self.basicAuthProvider.authenticate(credential);
         float | () latency = setGaugeDuration(startingTime);
         updateGauge(localGauge, latency);
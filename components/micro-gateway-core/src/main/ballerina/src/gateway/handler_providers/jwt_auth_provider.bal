@@ -24,12 +24,14 @@ import ballerina/runtime;
 # + jwtValidatorConfig - JWT validator configurations
 # + inboundJwtAuthProvider - Reference to b7a inbound auth provider
 # + subscriptionValEnabled - Validate subscription
+# + gatewayCache - the `APIGatewayCache instence`
 public type JwtAuthProvider object {
     *auth:InboundAuthProvider;
 
     public jwt:JwtValidatorConfig jwtValidatorConfig;
     public jwt:InboundJwtAuthProvider inboundJwtAuthProvider;
     public boolean subscriptionValEnabled;
+    public APIGatewayCache gatewayCache = new;
 
     # Provides authentication based on the provided JWT token.
     #
@@ -97,12 +99,14 @@ public type JwtAuthProvider object {
                         } else {
                             printDebug(KEY_JWT_AUTH_PROVIDER, "jti claim not found in the jwt");
                         }
-                        return validateSubscriptions(jwtToken, cachedJwt.jwtPayload, self.subscriptionValEnabled, isGRPC);
+                        return validateSubscriptions(self.getSubscribedAPIIndex(jwtToken, cachedJwt.jwtPayload),
+                            self.subscriptionValEnabled, isGRPC);
                     } 
                     printDebug(KEY_JWT_AUTH_PROVIDER, "jwt not found in the jwt cache");
                     (jwt:JwtPayload | error) payload = getDecodedJWTPayload(jwtToken);
                     if (payload is jwt:JwtPayload) {
-                        return validateSubscriptions(jwtToken, payload, self.subscriptionValEnabled, isGRPC);
+                        return validateSubscriptions(self.getSubscribedAPIIndex(jwtToken, payload),
+                            self.subscriptionValEnabled, isGRPC);
                     }
                 }
             }
@@ -112,24 +116,51 @@ public type JwtAuthProvider object {
             return prepareError("Failed to authenticate with jwt auth provider.", handleVar);
         }
     }
-};
 
-public function validateSubscriptions(string jwtToken, jwt:JwtPayload payload, boolean subscriptionValEnabled, boolean isGRPC) 
-        returns @tainted (boolean | auth:Error) {
-    boolean subscriptionValidated = false;
-    json subscribedAPIList = [];
-    map<json>? customClaims = payload?.customClaims;
-    //get allowed apis
-    if (customClaims is map<json> && customClaims.hasKey(SUBSCRIBED_APIS)) {
-        printDebug(KEY_JWT_AUTH_PROVIDER, "subscribedAPIs claim found in the jwt.");
-        subscribedAPIList = customClaims.get(SUBSCRIBED_APIS);
+    # Returns the subscriptions of the JWT indexed by the API name and version. If the token cache is enabled, the
+    # index is cached by the issuer and the jti of the JWT, so that the subscribedAPIs claim is indexed once per token.
+    #
+    # + jwtToken - JWT token
+    # + payload - payload of the JWT token
+    # + return - Returns the subscriptions of the JWT, or nil if the subscribedAPIs claim is not a list
+    function getSubscribedAPIIndex(string jwtToken, jwt:JwtPayload payload) returns SubscribedAPIIndex? {
+        string? jti = payload?.jti;
+        string cacheKey = "";
+        boolean cacheEnabled = getConfigBooleanValue(CACHING_ID, TOKEN_CACHE_ENABLED, DEFAULT_CACHING_ENABLED);
+        if (cacheEnabled && jti is string) {
+            string? issuer = payload?.iss;
+            cacheKey = (issuer is string ? issuer : "") + " " + jti;
+            SubscribedAPIIndex? subscribedAPIIndex = self.gatewayCache.retrieveFromSubscribedAPICache(cacheKey);
+            if (subscribedAPIIndex is SubscribedAPIIndex) {
+                return subscribedAPIIndex;
+            }
+        }
+        json subscribedAPIList = [];
+        map<json>? customClaims = payload?.customClaims;
+        //get allowed apis
+        if (customClaims is map<json> && customClaims.hasKey(SUBSCRIBED_APIS)) {
+            printDebug(KEY_JWT_AUTH_PROVIDER, "subscribedAPIs claim found in the jwt.");
+            subscribedAPIList = customClaims.get(SUBSCRIBED_APIS);
+        }
+        if (subscribedAPIList is json[]) {
+            SubscribedAPIIndex subscribedAPIIndex = buildSubscribedAPIIndex(jwtToken, payload, subscribedAPIList);
+            if (cacheKey != "") {
+                self.gatewayCache.addToSubscribedAPICache(cacheKey, subscribedAPIIndex);
+            }
+            return subscribedAPIIndex;
+        }
+        return ();
     }
-    if (subscribedAPIList is json[]) {
-        if (subscriptionValEnabled && subscribedAPIList.length() < 1) {
+};
+
+public function validateSubscriptions(SubscribedAPIIndex? subscribedAPIIndex, boolean subscriptionValEnabled,
+        boolean isGRPC) returns @tainted (boolean | auth:Error) {
+    if (subscribedAPIIndex is SubscribedAPIIndex) {
+        if (subscriptionValEnabled && subscribedAPIIndex.count < 1) {
             setErrorMessageToInvocationContext(API_AUTH_FORBIDDEN);
             return prepareError("SubscribedAPI list is empty.");
         }
-        subscriptionValidated = handleSubscribedAPIs(jwtToken, payload, subscribedAPIList, subscriptionValEnabled);
+        boolean subscriptionValidated = validateSubscribedAPIs(subscribedAPIIndex, subscriptionValEnabled);
         if (subscriptionValidated || !subscriptionValEnabled || isGRPC) {
             printDebug(KEY_JWT_AUTH_PROVIDER, "Subscriptions validation passed.");
             return true;
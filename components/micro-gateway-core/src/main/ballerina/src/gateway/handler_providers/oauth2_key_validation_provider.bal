@@ -41,6 +41,8 @@ public type OAuth2KeyValidationProvider object {
 
     public function __init(oauth2:IntrospectionServerConfig config) {
         self.keyValidationClient = new (config.url, config.clientConfig);
+        initKeyValidationCoalescer(getConfigIntValue(CACHING_ID, KEY_VALIDATION_REFRESH_AHEAD_TIME,
+            DEFAULT_KEY_VALIDATION_REFRESH_AHEAD_TIME));
     }
 
 
@@ -142,10 +144,14 @@ public type OAuth2KeyValidationProvider object {
                     authorized = apiKeyValidationDtoFromcache.authorized;
                     apiKeyValidationDto = apiKeyValidationDtoFromcache;
                     printDebug(KEY_OAUTH_PROVIDER, "Authorized value from the token cache: " + authorized.toString());
+                    if (self.gatewayCache.startGatewayKeyValidationRefresh(cacheKey)) {
+                        printDebug(KEY_OAUTH_PROVIDER, "Refreshing the key validation information in the background.");
+                        future<()> refreshTask = start self.refreshKeyValidation(apiRequestMetaDataDto, cacheKey);
+                    }
                 } else {
                     printDebug(KEY_OAUTH_PROVIDER, "Access token not found in the invalid token cache."
                     + " Calling the key validation service.");
-                    [authorized, apiKeyValidationDto] = self.invokeKeyValidation(apiRequestMetaDataDto);
+                    [authorized, apiKeyValidationDto] = self.coalesceKeyValidation(apiRequestMetaDataDto, cacheKey);
                 }
             } else {
                 printDebug(KEY_OAUTH_PROVIDER, "Access token not found in the gateway token cache.");
@@ -158,13 +164,13 @@ public type OAuth2KeyValidationProvider object {
                 } else {
                     printDebug(KEY_OAUTH_PROVIDER, "Access token not found in the invalid token cache."
                     + " Calling the key validation service.");
-                    [authorized, apiKeyValidationDto] = self.invokeKeyValidation(apiRequestMetaDataDto);
+                    [authorized, apiKeyValidationDto] = self.coalesceKeyValidation(apiRequestMetaDataDto, cacheKey);
                 }
             }
 
         } else {
             printDebug(KEY_OAUTH_PROVIDER, "Gateway cache disabled. Calling the key validation service.");
-            [authorized, apiKeyValidationDto] = self.invokeKeyValidation(apiRequestMetaDataDto);
+            [authorized, apiKeyValidationDto] = self.coalesceKeyValidation(apiRequestMetaDataDto, cacheKey);
         }
         if (authorized) {
             // set username
@@ -198,6 +204,8 @@ public type OAuth2KeyValidationProvider object {
         int endTimeMills = time.time;
         int timeDiff = endTimeMills - startTimeMills;
         printDebug(KEY_OAUTH_PROVIDER, "Total time taken for the key validation service call : " + timeDiff.toString() + "ms");
+        self.gatewayCache.recordKeyValidationLoad(timeDiff);
+        recordKeyValidation(timeDiff, result is error);
         if (result is http:Response) {
             keyValidationResponse = result;
         } else {
@@ -217,6 +225,69 @@ public type OAuth2KeyValidationProvider object {
 
     }
 
+    # Validates the token with the key validation service, sharing the validation with the concurrent requests of the
+    # same cache key, so that only one of them calls the key manager.
+    #
+    # + apiRequestMetaDataDto - key validation request
+    # + cacheKey - cache key of the validation
+    # + return - authorized value and the validation information
+    function coalesceKeyValidation(APIRequestMetaDataDto apiRequestMetaDataDto, string cacheKey)
+    returns @tainted [boolean, APIKeyValidationDto] {
+        APIKeyValidationDto | boolean | error sharedResult = joinKeyValidation(cacheKey);
+        if (sharedResult is APIKeyValidationDto) {
+            printDebug(KEY_OAUTH_PROVIDER, "Key validation information shared by a concurrent request.");
+            return [sharedResult.authorized, sharedResult];
+        } else if (sharedResult is error) {
+            // the failure of the concurrent validation is shared as well, rather than calling the key manager again
+            panic sharedResult;
+        } else if (!sharedResult) {
+            // the background refresh joined by this request failed, hence the information cached earlier is used if
+            // it is still cached, or the token is validated again
+            printDebug(KEY_OAUTH_PROVIDER, "Key validation information was not refreshed by a concurrent request.");
+            return self.coalesceKeyValidation(apiRequestMetaDataDto, cacheKey);
+        }
+        if (getConfigBooleanValue(CACHING_ID, TOKEN_CACHE_ENABLED, DEFAULT_CACHING_ENABLED)) {
+            // a concurrent validation may have completed after the caches were checked
+            var cachedResult = self.gatewayCache.authenticateFromGatewayKeyValidationCache(cacheKey);
+            if (cachedResult is ()) {
+                cachedResult = self.gatewayCache.retrieveFromInvalidTokenCache(cacheKey);
+            }
+            if (cachedResult is APIKeyValidationDto) {
+                completeKeyValidation(cacheKey, cachedResult);
+                return [cachedResult.authorized, cachedResult];
+            }
+        }
+        [boolean, APIKeyValidationDto] | error result = trap self.invokeKeyValidation(apiRequestMetaDataDto);
+        if (result is error) {
+            completeKeyValidation(cacheKey, result);
+            panic result;
+        } else {
+            completeKeyValidation(cacheKey, result[1]);
+            return result;
+        }
+    }
+
+    # Validates the token again before its validation information expires from the cache. The information cached
+    # earlier is kept if the key manager could not be reached, and the requests waiting for the refresh then use it
+    # or validate the token themselves.
+    #
+    # + apiRequestMetaDataDto - key validation request
+    # + cacheKey - cache key of the validation
+    function refreshKeyValidation(APIRequestMetaDataDto apiRequestMetaDataDto, string cacheKey) {
+        [boolean, APIKeyValidationDto] | error result = trap self.invokeKeyValidation(apiRequestMetaDataDto);
+        if (result is error) {
+            log:printError("Error occurred while refreshing the key validation information", err = result);
+            completeKeyValidation(cacheKey, false);
+        } else {
+            if (!result[0]) {
+                // the token is no longer valid, hence the information cached earlier must not be served
+                self.gatewayCache.removeFromGatewayKeyValidationCache(cacheKey);
+                self.gatewayCache.removeFromTokenCache(apiRequestMetaDataDto.accessToken);
+            }
+            completeKeyValidation(cacheKey, result[1]);
+        }
+    }
+
     public function invokeKeyValidation(APIRequestMetaDataDto apiRequestMetaDataDto) returns @tainted [boolean,
  APIKeyValidationDto] {
         APIKeyValidationDto apiKeyValidationDto = {};
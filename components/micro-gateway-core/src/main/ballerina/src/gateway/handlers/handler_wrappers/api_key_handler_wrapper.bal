@@ -15,7 +15,6 @@
 // under the License.
 
 import ballerina/http;
-import ballerina/observe;
 
 # Representation of the api key validating handler
 #
@@ -50,8 +49,8 @@ public type APIKeyHandlerWrapper object {
         //starting Gauge
         int startingTime = getCurrentTime();
         map<string> | () gaugeTags = gaugeTagDetails_authn(req, FILTER_AUTHENTICATION);
-        observe:Gauge | () localGauge = initializeGauge(PER_REQ_DURATION, REQ_FLTER_DURATION, gaugeTags);
-        observe:Gauge | () localGaugeTotal =
+        handle | () localGauge = initializeGauge(PER_REQ_DURATION, REQ_FLTER_DURATION, gaugeTags);
+        handle | () localGaugeTotal =
             initializeGauge(REQ_DURATION_TOTAL, FILTER_TOTAL_DURATION, {"Category": FILTER_AUTHENTICATION});
         boolean | http:AuthenticationError result = self.apiKeyHandler.process(req);
         float | () latency = setGaugeDuration(startingTime);
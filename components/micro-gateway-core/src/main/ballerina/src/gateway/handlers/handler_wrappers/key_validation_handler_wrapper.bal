@@ -16,7 +16,6 @@
 
 import ballerina/oauth2;
 import ballerina/http;
-import ballerina/observe;
 
 # Representation of the key validation  handler
 #
@@ -49,8 +48,8 @@ public type KeyValidationHandlerWrapper object {
         //Starting Gauge
         int startingTime = getCurrentTime();
         map<string> | () gaugeTags = gaugeTagDetails_authn(req, FILTER_AUTHENTICATION);
-        observe:Gauge | () localGauge = initializeGauge(PER_REQ_DURATION, REQ_FLTER_DURATION, gaugeTags);
-        observe:Gauge | () localGaugeTotal = initializeGauge(REQ_DURATION_TOTAL, FILTER_TOTAL_DURATION, {"Category": FILTER_AUTHENTICATION});
+        handle | () localGauge = initializeGauge(PER_REQ_DURATION, REQ_FLTER_DURATION, gaugeTags);
+        handle | () localGaugeTotal = initializeGauge(REQ_DURATION_TOTAL, FILTER_TOTAL_DURATION, {"Category": FILTER_AUTHENTICATION});
         boolean | http:AuthenticationError result = self.keyValidationHandler.process(req);
         float | () latency = setGaugeDuration(startingTime);
         updateGauge(localGauge, latency);
@@ -0,0 +1,184 @@
+// Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+//
+// WSO2 Inc. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+import ballerinax/java;
+
+# Starts the writer which appends the analytics events to the usage data file.
+#
+# + filePath - Path of the usage data file.
+public function initAnalyticsEventWriter(string filePath) {
+    int bufferSize = getConfigIntValue(FILE_UPLOAD_ANALYTICS, EVENT_WRITER_BUFFER_SIZE,
+        DEFAULT_EVENT_WRITER_BUFFER_SIZE);
+    int flushInterval = getConfigIntValue(FILE_UPLOAD_ANALYTICS, EVENT_WRITER_FLUSH_INTERVAL,
+        DEFAULT_EVENT_WRITER_FLUSH_INTERVAL);
+    int maxQueuedEvents = getConfigIntValue(FILE_UPLOAD_ANALYTICS, EVENT_WRITER_MAX_QUEUED_EVENTS,
+        DEFAULT_EVENT_WRITER_MAX_QUEUED_EVENTS);
+    string compressionFormat = getConfigValue(FILE_UPLOAD_ANALYTICS, EVENT_WRITER_COMPRESSION_FORMAT,
+        DEFAULT_EVENT_WRITER_COMPRESSION_FORMAT);
+    int compressionLevel = getConfigIntValue(FILE_UPLOAD_ANALYTICS, EVENT_WRITER_COMPRESSION_LEVEL,
+        DEFAULT_EVENT_WRITER_COMPRESSION_LEVEL);
+    jInitAnalyticsEventWriter(java:fromString(filePath), bufferSize, flushInterval, maxQueuedEvents,
+        java:fromString(compressionFormat), compressionLevel);
+}
+
+# Checks whether the usage data file is written as a zip archive, which is uploaded as it is once rotated.
+#
+# + return - Returns true if the events are compressed as they are written.
+public function isAnalyticsEventFileCompressed() returns boolean {
+    return jIsAnalyticsEventFileCompressed();
+}
+
+# Queues the event to be appended to the usage data file.
+#
+# + event - Event in the format of the usage data file.
+# + return - Returns false if the event was dropped.
+public function writeAnalyticsEvent(string event) returns boolean {
+    return jWriteAnalyticsEvent(java:fromString(event));
+}
+
+# Moves the usage data file, so that the events written afterwards go to a new file.
+#
+# + filePath - Path of the usage data file.
+# + rotatedFilePath - Path to move the usage data file to.
+# + return - Returns an error if the file could not be moved.
+public function rotateAnalyticsEventFile(string filePath, string rotatedFilePath) returns error? {
+    return jRotateAnalyticsEventFile(java:fromString(filePath), java:fromString(rotatedFilePath));
+}
+
+# Starts the uploader which sends the rotated usage data archives to the analytics node.
+#
+# + directoryPath - Path of the usage data directory.
+# + endpointUrl - File upload endpoint of the analytics node.
+# + username - Username used in the analytics node.
+# + password - Password used in the analytics node.
+public function initAnalyticsFileUploader(string directoryPath, string endpointUrl, string username,
+    string password) {
+    handle trustStoreLocation = getTrustStoreLocation(java:fromString(getConfigValue(LISTENER_CONF_INSTANCE_ID,
+        TRUST_STORE_PATH, DEFAULT_TRUST_STORE_PATH)));
+    string trustStorePassword = getConfigValue(LISTENER_CONF_INSTANCE_ID, TRUST_STORE_PASSWORD,
+        DEFAULT_TRUST_STORE_PASSWORD);
+    boolean verifyHostname = getConfigBooleanValue(HTTP_CLIENTS_INSTANCE_ID, ENABLE_HOSTNAME_VERIFICATION, true);
+    int maxConcurrentUploads = getConfigIntValue(FILE_UPLOAD_ANALYTICS, MAX_CONCURRENT_UPLOADS,
+        DEFAULT_MAX_CONCURRENT_UPLOADS);
+    int maxRetries = getConfigIntValue(FILE_UPLOAD_ANALYTICS, UPLOAD_MAX_RETRIES, DEFAULT_UPLOAD_MAX_RETRIES);
+    int maxUsageDataSize = getConfigIntValue(FILE_UPLOAD_ANALYTICS, MAX_USAGE_DATA_SIZE, DEFAULT_MAX_USAGE_DATA_SIZE);
+    string overflowAction = getConfigValue(FILE_UPLOAD_ANALYTICS, USAGE_DATA_OVERFLOW_ACTION,
+        DEFAULT_USAGE_DATA_OVERFLOW_ACTION);
+    jInitAnalyticsFileUploader(java:fromString(directoryPath), java:fromString(endpointUrl),
+        java:fromString(getBasicAuthHeaderValue(username, password)), trustStoreLocation,
+        java:fromString(trustStorePassword), verifyHostname, maxConcurrentUploads, maxRetries, maxUsageDataSize,
+        java:fromString(overflowAction));
+}
+
+# Queues the usage data archives which are not being uploaded yet.
+#
+# + return - Returns the number of archives waiting to be uploaded.
+public function scheduleAnalyticsFileUploads() returns int {
+    return jScheduleAnalyticsFileUploads();
+}
+
+# Creates the buffer of the messages sent to the gRPC analytics server.
+public function initAnalyticsMessageBuffer() {
+    int bufferSize = getConfigIntValue(GRPC_ANALYTICS, GRPC_MESSAGE_BUFFER_SIZE, DEFAULT_GRPC_MESSAGE_BUFFER_SIZE);
+    string dropPolicy = getConfigValue(GRPC_ANALYTICS, GRPC_MESSAGE_DROP_POLICY, DEFAULT_GRPC_MESSAGE_DROP_POLICY);
+    jInitAnalyticsMessageBuffer(bufferSize, java:fromString(dropPolicy));
+}
+
+# Adds the message to the buffer, to be sent to the gRPC analytics server.
+#
+# + message - 'AnalyticsStreamMessage' Message structure defined in the Analytics.proto file
+public function publishAnalyticsMessage(AnalyticsStreamMessage message) {
+    if (!jPublishAnalyticsMessage(message)) {
+        printDebug(KEY_GRPC_ANALYTICS, "gRPC analytics message dropped as the buffer is full.");
+    }
+}
+
+# Takes the oldest message from the buffer, waiting until a message is added if the buffer is empty.
+#
+# + return - Returns the oldest message.
+function takeAnalyticsMessage() returns AnalyticsStreamMessage = @java:Method {
+    name: "takeMessage",
+    class: "org.wso2.micro.gateway.core.analytics.AnalyticsMessageBuffer"
+} external;
+
+# Takes the oldest message from the buffer without waiting.
+#
+# + return - Returns the oldest message, or nil if the buffer is empty.
+function pollAnalyticsMessage() returns AnalyticsStreamMessage? = @java:Method {
+    name: "pollMessage",
+    class: "org.wso2.micro.gateway.core.analytics.AnalyticsMessageBuffer"
+} external;
+
+# Keeps the message which could not be sent, to be taken again before the buffered messages.
+#
+# + message - 'AnalyticsStreamMessage' last taken from the buffer
+function retryAnalyticsMessage(AnalyticsStreamMessage message) = @java:Method {
+    name: "retryMessage",
+    class: "org.wso2.micro.gateway.core.analytics.AnalyticsMessageBuffer"
+} external;
+
+function recordAnalyticsBatch(int sent, int failed, int latency) = @java:Method {
+    name: "recordBatch",
+    class: "org.wso2.micro.gateway.core.analytics.AnalyticsMessageBuffer"
+} external;
+
+function recordAnalyticsCircuitOpening() = @java:Method {
+    name: "recordCircuitOpening",
+    class: "org.wso2.micro.gateway.core.analytics.AnalyticsMessageBuffer"
+} external;
+
+function jInitAnalyticsEventWriter(handle filePath, int bufferSize, int flushInterval,
+    int maxQueuedEvents, handle compressionFormat, int compressionLevel) = @java:Method {
+    name: "initAnalyticsEventWriter",
+    class: "org.wso2.micro.gateway.core.analytics.AnalyticsEventWriter"
+} external;
+
+function jIsAnalyticsEventFileCompressed() returns boolean = @java:Method {
+    name: "isCompressed",
+    class: "org.wso2.micro.gateway.core.analytics.AnalyticsEventWriter"
+} external;
+
+function jWriteAnalyticsEvent(handle event) returns boolean = @java:Method {
+    name: "writeEvent",
+    class: "org.wso2.micro.gateway.core.analytics.AnalyticsEventWriter"
+} external;
+
+function jRotateAnalyticsEventFile(handle filePath, handle rotatedFilePath) returns error? = @java:Method {
+    name: "rotateFile",
+    class: "org.wso2.micro.gateway.core.analytics.AnalyticsEventWriter"
+} external;
+
+function jInitAnalyticsFileUploader(handle directoryPath, handle endpointUrl, handle authorizationHeader,
+    handle trustStorePath, handle trustStorePassword, boolean verifyHostname, int maxConcurrentUploads,
+    int maxRetries, int maxUsageDataSize, handle overflowAction) = @java:Method {
+    name: "initAnalyticsFileUploader",
+    class: "org.wso2.micro.gateway.core.analytics.AnalyticsFileUploader"
+} external;
+
+function jScheduleAnalyticsFileUploads() returns int = @java:Method {
+    name: "scheduleUploads",
+    class: "org.wso2.micro.gateway.core.analytics.AnalyticsFileUploader"
+} external;
+
+function jInitAnalyticsMessageBuffer(int bufferSize, handle dropPolicy) = @java:Method {
+    name: "initAnalyticsMessageBuffer",
+    class: "org.wso2.micro.gateway.core.analytics.AnalyticsMessageBuffer"
+} external;
+
+function jPublishAnalyticsMessage(AnalyticsStreamMessage message) returns boolean = @java:Method {
+    name: "publishMessage",
+    class: "org.wso2.micro.gateway.core.analytics.AnalyticsMessageBuffer"
+} external;
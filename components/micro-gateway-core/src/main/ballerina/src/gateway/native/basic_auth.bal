@@ -0,0 +1,66 @@
+// Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+//
+// WSO2 Inc. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+
+import ballerinax/java;
+
+# Loads the users of the basic auth user store into the native verifier. Subsequent calls have no effect.
+#
+# + passwords - Stored password of each user.
+# + scopes - Comma separated scopes of each user.
+# + cacheEnabled - Whether the results of the verifications are cached.
+# + cacheExpiryTime - Time in milliseconds a successful verification is cached.
+# + cacheCapacity - Maximum number of cached successful verifications.
+# + failureCacheExpiryTime - Time in milliseconds a failed verification is cached.
+# + failureCacheCapacity - Maximum number of cached failed verifications.
+public function initBasicAuthVerifier(map<string> passwords, map<string> scopes, boolean cacheEnabled,
+        int cacheExpiryTime, int cacheCapacity, int failureCacheExpiryTime, int failureCacheCapacity) {
+    jInitBasicAuthVerifier(passwords, scopes, cacheEnabled, cacheExpiryTime, cacheCapacity, failureCacheExpiryTime,
+        failureCacheCapacity);
+}
+
+# Verifies the credentials of a basic authentication header.
+#
+# + credential - Base64 encoded credentials of the header.
+# + return - Returns the username of the verified user, or one of the `BASIC_AUTH_*` failure codes.
+public function verifyBasicAuthCredential(string credential) returns string | int {
+    return jVerifyBasicAuthCredential(java:fromString(credential));
+}
+
+# Returns the scopes of a user of the basic auth user store.
+#
+# + username - Username of the user.
+# + return - Returns the comma separated scopes, or an empty string if the user has no scopes.
+public function getBasicAuthUserScopes(string username) returns string {
+    string? scopes = java:toString(jGetBasicAuthUserScopes(java:fromString(username)));
+    return scopes is string ? scopes : "";
+}
+
+function jInitBasicAuthVerifier(map<string> passwords, map<string> scopes, boolean cacheEnabled, int cacheExpiryTime,
+        int cacheCapacity, int failureCacheExpiryTime, int failureCacheCapacity) = @java:Method {
+    name: "initBasicAuthVerifier",
+    class: "org.wso2.micro.gateway.core.basicauth.BasicAuthVerifier"
+} external;
+
+function jVerifyBasicAuthCredential(handle credential) returns string | int = @java:Method {
+    name: "verify",
+    class: "org.wso2.micro.gateway.core.basicauth.BasicAuthVerifier"
+} external;
+
+function jGetBasicAuthUserScopes(handle username) returns handle = @java:Method {
+    name: "getScopes",
+    class: "org.wso2.micro.gateway.core.basicauth.BasicAuthVerifier"
+} external;
@@ -0,0 +1,86 @@
+// Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+//
+// WSO2 Inc. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+import ballerinax/java;
+
+# Returns the region of the native token cache, creating it if it does not exist yet.
+#
+# + name - Name of the region.
+# + capacity - Maximum number of entries of the region.
+# + expiryTime - Time in milliseconds after which an entry expires.
+# + return - Returns the region of the name.
+public function getTokenCacheRegion(string name, int capacity, int expiryTime) returns handle {
+    return jGetTokenCacheRegion(java:fromString(name), capacity, expiryTime);
+}
+
+# Returns the value cached for the key.
+#
+# + region - Region returned by `getTokenCacheRegion`.
+# + key - Key of the entry.
+# + return - Returns the value, or nil if the key is not cached or the entry has expired.
+public function getFromTokenCache(handle region, string key) returns any {
+    return jGetFromTokenCache(region, java:fromString(key));
+}
+
+# Adds or replaces the entry of the key.
+#
+# + region - Region returned by `getTokenCacheRegion`.
+# + key - Key of the entry.
+# + value - Value of the entry.
+public function putToTokenCache(handle region, string key, any value) {
+    jPutToTokenCache(region, java:fromString(key), value);
+}
+
+# Removes the entry of the key.
+#
+# + region - Region returned by `getTokenCacheRegion`.
+# + key - Key of the entry.
+public function removeFromTokenCacheRegion(handle region, string key) {
+    jRemoveFromTokenCache(region, java:fromString(key));
+}
+
+# Records the time taken to load a value which was not cached.
+#
+# + region - Region returned by `getTokenCacheRegion`.
+# + loadTime - Time taken in milliseconds.
+public function recordTokenCacheLoad(handle region, int loadTime) {
+    jRecordTokenCacheLoad(region, loadTime);
+}
+
+function jGetTokenCacheRegion(handle name, int capacity, int expiryTime) returns handle = @java:Method {
+    name: "getRegion",
+    class: "org.wso2.micro.gateway.core.cache.TokenCache"
+} external;
+
+function jGetFromTokenCache(handle region, handle key) returns any = @java:Method {
+    name: "get",
+    class: "org.wso2.micro.gateway.core.cache.TokenCache"
+} external;
+
+function jPutToTokenCache(handle region, handle key, any value) = @java:Method {
+    name: "put",
+    class: "org.wso2.micro.gateway.core.cache.TokenCache"
+} external;
+
+function jRemoveFromTokenCache(handle region, handle key) = @java:Method {
+    name: "remove",
+    class: "org.wso2.micro.gateway.core.cache.TokenCache"
+} external;
+
+function jRecordTokenCacheLoad(handle region, int loadTime) = @java:Method {
+    name: "recordLoad",
+    class: "org.wso2.micro.gateway.core.cache.TokenCache"
+} external;
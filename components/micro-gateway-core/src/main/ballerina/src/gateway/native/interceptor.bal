@@ -17,46 +17,113 @@
 
 import ballerinax/java;
 import ballerina/http;
+import ballerina/runtime;
 
-# Compresses a directory.
+# Creates an empty java interceptor chain for an operation.
 #
-# + className - Full qualified class name of the java interceptor
-# + return - Index of the intyerceptor in the interceptor array.
-public function loadInterceptorClass(string className) returns int {
-    handle class = java:fromString(className);
-    return jLoadInterceptorClass(class);
+# + name - Name of the operation, used to identify the metrics of the interceptors of the chain.
+# + return - Index of the interceptor chain.
+public function createInterceptorChain(string name) returns int {
+    return jCreateInterceptorChain(java:fromString(name));
 }
 
-public function initiateInterceptorArray(int numberOfResources) {
-    jInitiateInterceptorArray(4 * numberOfResources);
+# Loads a java interceptor class and adds it to the end of the request interceptors of the chain.
+#
+# + chainIndex - Index of the interceptor chain.
+# + className - Full qualified class name of the java interceptor.
+public function addRequestInterceptor(int chainIndex, string className) {
+    jAddRequestInterceptor(chainIndex, java:fromString(className));
+}
+
+# Loads a java interceptor class and adds it to the end of the response interceptors of the chain.
+#
+# + chainIndex - Index of the interceptor chain.
+# + className - Full qualified class name of the java interceptor.
+public function addResponseInterceptor(int chainIndex, string className) {
+    jAddResponseInterceptor(chainIndex, java:fromString(className));
+}
+
+# Invokes the java request interceptors of the chain. The chain returns whenever an asynchronous interceptor completes,
+# so that the interceptors after it are invoked on the strand of the request.
+#
+# + chainIndex - Index of the interceptor chain.
+# + caller - Caller of the request.
+# + request - Request to be intercepted.
+# + return - Returns false if an interceptor responded to the client, otherwise true.
+public function invokeRequestInterceptors(int chainIndex, http:Caller caller, http:Request request) returns boolean {
+    int next = 0;
+    while (next >= 0) {
+        int | error result = jInvokeRequestInterceptors(chainIndex, next, caller, request);
+        if (result is error) {
+            return handleInterceptorError(result);
+        }
+        next = <int>result;
+    }
+    return next == INTERCEPTOR_CHAIN_PROCEED;
 }
 
-public function invokeRequestInterceptor(int index, http:Caller caller, http:Request request) returns boolean {
-    return jInvokeRequestInterceptor(index, caller, request);
+# Invokes the java response interceptors of the chain. The chain returns whenever an asynchronous interceptor
+# completes, so that the interceptors after it are invoked on the strand of the request.
+#
+# + chainIndex - Index of the interceptor chain.
+# + caller - Caller of the request.
+# + response - Response to be intercepted.
+# + return - Returns false if an interceptor responded to the client, otherwise true.
+public function invokeResponseInterceptors(int chainIndex, http:Caller caller, http:Response response) returns boolean {
+    int next = 0;
+    while (next >= 0) {
+        int | error result = jInvokeResponseInterceptors(chainIndex, next, caller, response);
+        if (result is error) {
+            return handleInterceptorError(result);
+        }
+        next = <int>result;
+    }
+    return next == INTERCEPTOR_CHAIN_PROCEED;
 }
 
-public function invokeResponseInterceptor(int index, http:Caller caller, http:Response response) returns boolean {
-    return jInvokeResponseInterceptor(index, caller, response);
+# Sets an internal server error as the response of the interceptor, when an asynchronous interceptor fails.
+#
+# + err - Error returned by the interceptor.
+# + return - Returns false so that the error response is sent instead of continuing the flow.
+function handleInterceptorError(error err) returns boolean {
+    printError(KEY_INTERCEPTOR, "Error while executing the java interceptor", err);
+    http:Response response = new;
+    response.statusCode = INTERNAL_SERVER_ERROR;
+    json payload = {
+        fault: {
+            code: INTERNAL_ERROR_CODE,
+            message: INTERNAL_SERVER_ERROR_MESSAGE,
+            description: "Error while executing the interceptor of the API"
+        }
+    };
+    response.setJsonPayload(payload);
+    runtime:InvocationContext invocationContext = runtime:getInvocationContext();
+    invocationContext.attributes[RESPOND_DONE] = true;
+    invocationContext.attributes[RESPONSE_OBJECT] = response;
+    return false;
 }
 
-function jInvokeRequestInterceptor(int index, http:Caller caller, http:Request request) returns boolean = @java:Method {
-    name: "invokeRequestInterceptor",
+function jInvokeRequestInterceptors(int chainIndex, int fromIndex, http:Caller caller, http:Request request) returns int | error = @java:Method {
+    name: "invokeRequestInterceptors",
     class: "org.wso2.micro.gateway.core.interceptors.InterceptorInvoker"
 } external;
 
-function jInvokeResponseInterceptor(int index, http:Caller caller, http:Response response) returns boolean = @java:Method {
-    name: "invokeResponseInterceptor",
+function jInvokeResponseInterceptors(int chainIndex, int fromIndex, http:Caller caller, http:Response response) returns int | error = @java:Method {
+    name: "invokeResponseInterceptors",
     class: "org.wso2.micro.gateway.core.interceptors.InterceptorInvoker"
 } external;
 
-
-function jLoadInterceptorClass(handle className) returns int = @java:Method {
-    name: "loadInterceptorClass",
+function jCreateInterceptorChain(handle name) returns int = @java:Method {
+    name: "createInterceptorChain",
     class: "org.wso2.micro.gateway.core.interceptors.InterceptorInvoker"
 } external;
 
-function jInitiateInterceptorArray(int arraySize) = @java:Method {
-    name: "initiateInterceptorArray",
+function jAddRequestInterceptor(int chainIndex, handle className) = @java:Method {
+    name: "addRequestInterceptor",
     class: "org.wso2.micro.gateway.core.interceptors.InterceptorInvoker"
 } external;
 
+function jAddResponseInterceptor(int chainIndex, handle className) = @java:Method {
+    name: "addResponseInterceptor",
+    class: "org.wso2.micro.gateway.core.interceptors.InterceptorInvoker"
+} external;
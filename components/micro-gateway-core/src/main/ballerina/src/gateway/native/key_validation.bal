@@ -0,0 +1,86 @@
+// Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+//
+// WSO2 Inc. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+
+import ballerinax/java;
+
+# Creates the coalescer of the key validations. Subsequent calls have no effect.
+#
+# + refreshAheadTime - Time in milliseconds before the expiry of a cached validation result from when it is
+# refreshed in the background, or 0 to not refresh the results.
+public function initKeyValidationCoalescer(int refreshAheadTime) {
+    jInitKeyValidationCoalescer(refreshAheadTime);
+}
+
+# Joins the validation of the cache key, waiting for the result if another request is validating the same key.
+#
+# + cacheKey - Cache key of the validation.
+# + return - Returns `true` if the caller is to validate the token and complete the validation with
+# `completeKeyValidation`, the result or the error of the validation of the other request, or `false` if the other
+# request has no result to share and the caller is to join the validation again.
+public function joinKeyValidation(string cacheKey) returns APIKeyValidationDto | boolean | error {
+    return jJoinKeyValidation(java:fromString(cacheKey));
+}
+
+# Completes the validation of the cache key, resuming the requests waiting for it.
+#
+# + cacheKey - Cache key of the validation.
+# + result - Result of the validation, the error of the validation, or `false` if there is no result to share.
+public function completeKeyValidation(string cacheKey, APIKeyValidationDto | boolean | error result) {
+    jCompleteKeyValidation(java:fromString(cacheKey), result);
+}
+
+# Starts the background refresh of a cached validation result if it expires soon.
+#
+# + region - Region of the token cache with the validation results.
+# + cacheKey - Cache key of the validation.
+# + return - Returns `true` if the caller is to refresh the result and complete the validation.
+public function startKeyValidationRefresh(handle region, string cacheKey) returns boolean {
+    return jStartKeyValidationRefresh(region, java:fromString(cacheKey));
+}
+
+# Records a call to the key validation service.
+#
+# + latency - Time in milliseconds taken by the call.
+# + failed - Whether the call failed.
+public function recordKeyValidation(int latency, boolean failed) {
+    jRecordKeyValidation(latency, failed);
+}
+
+function jInitKeyValidationCoalescer(int refreshAheadTime) = @java:Method {
+    name: "initKeyValidationCoalescer",
+    class: "org.wso2.micro.gateway.core.keyvalidation.KeyValidationCoalescer"
+} external;
+
+function jJoinKeyValidation(handle cacheKey) returns APIKeyValidationDto | boolean | error = @java:Method {
+    name: "joinKeyValidation",
+    class: "org.wso2.micro.gateway.core.keyvalidation.KeyValidationCoalescer"
+} external;
+
+function jCompleteKeyValidation(handle cacheKey, APIKeyValidationDto | boolean | error result) = @java:Method {
+    name: "completeKeyValidation",
+    class: "org.wso2.micro.gateway.core.keyvalidation.KeyValidationCoalescer"
+} external;
+
+function jStartKeyValidationRefresh(handle region, handle cacheKey) returns boolean = @java:Method {
+    name: "startKeyValidationRefresh",
+    class: "org.wso2.micro.gateway.core.keyvalidation.KeyValidationCoalescer"
+} external;
+
+function jRecordKeyValidation(int latency, boolean failed) = @java:Method {
+    name: "recordKeyValidation",
+    class: "org.wso2.micro.gateway.core.keyvalidation.KeyValidationCoalescer"
+} external;
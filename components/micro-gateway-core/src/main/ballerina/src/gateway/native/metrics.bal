@@ -0,0 +1,60 @@
+// Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+//
+// WSO2 Inc. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+import ballerinax/java;
+
+# Sets the maximum number of series of the gateway metrics registry.
+public function initGatewayMetricsRegistry() {
+    int maxSeries = getConfigIntValue(MICRO_GATEWAY_METRICS, MAX_METRIC_SERIES, DEFAULT_MAX_METRIC_SERIES);
+    jInitGatewayMetricsRegistry(maxSeries);
+}
+
+# Returns the series of the metric of the gateway metrics registry for the service, resource, method and category
+# of the tags, registering it if it does not exist yet.
+#
+# + name - Name of the metric.
+# + description - Description of the metric.
+# + tags - Tags of the series.
+# + return - Returns the series of the metric.
+public function getMetricSeries(string name, string description, map<string> tags) returns handle {
+    return jGetMetricSeries(java:fromString(name), java:fromString(description),
+        java:fromString(tags["Category"] ?: ""), java:fromString(tags["Service"] ?: ""), java:fromString(tags["Resource"] ?: ""),
+        java:fromString(tags["Method"] ?: ""));
+}
+
+# Records a latency of the series.
+#
+# + series - Series returned by `getMetricSeries`.
+# + latency - Latency in milliseconds.
+public function recordMetricLatency(handle series, float latency) {
+    jRecordMetricLatency(series, latency);
+}
+
+function jInitGatewayMetricsRegistry(int maxSeries) = @java:Method {
+    name: "initGatewayMetricsRegistry",
+    class: "org.wso2.micro.gateway.core.metrics.GatewayMetricsRegistry"
+} external;
+
+function jGetMetricSeries(handle name, handle description, handle category, handle serviceName, handle resourceName,
+    handle method) returns handle = @java:Method {
+    name: "getSeries",
+    class: "org.wso2.micro.gateway.core.metrics.GatewayMetricsRegistry"
+} external;
+
+function jRecordMetricLatency(handle series, float latency) = @java:Method {
+    name: "record",
+    class: "org.wso2.micro.gateway.core.metrics.GatewayMetricsRegistry"
+} external;
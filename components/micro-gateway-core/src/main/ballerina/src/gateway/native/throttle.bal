@@ -17,36 +17,72 @@
 import ballerinax/java;
 
 public function initThrottleDataPublisher() {
-    int processThreadPoolCoreSize = getConfigIntValue(LOCAL_THROTTLE_CONF_INSTANCE_ID, PROCESS_THREAD_POOL_CORE_SIZE, DEFAULT_PROCESS_THREAD_POOL_CORE_SIZE);
-    int processThreadPoolMaximumSize = getConfigIntValue(LOCAL_THROTTLE_CONF_INSTANCE_ID, PROCESS_THREAD_POOL_MAXIMUM_SIZE, DEFAULT_PROCESS_THREAD_POOL_MAXIMUM_SIZE);
-    int processThreadPoolKeepAliveTime = getConfigIntValue(LOCAL_THROTTLE_CONF_INSTANCE_ID, PROCESS_THREAD_POOL_KEEP_ALIVE_TIME, DEFAULT_PROCESS_THREAD_POOL_KEEP_ALIVE_TIME);
+    int eventBufferSize = getConfigIntValue(LOCAL_THROTTLE_CONF_INSTANCE_ID, EVENT_BUFFER_SIZE, DEFAULT_EVENT_BUFFER_SIZE);
+    int eventConsumerThreads = getConfigIntValue(LOCAL_THROTTLE_CONF_INSTANCE_ID, EVENT_CONSUMER_THREADS, DEFAULT_EVENT_CONSUMER_THREADS);
+    int eventBatchSize = getConfigIntValue(LOCAL_THROTTLE_CONF_INSTANCE_ID, EVENT_BATCH_SIZE, DEFAULT_EVENT_BATCH_SIZE);
     int cleanUpFrequency = getConfigIntValue(LOCAL_THROTTLE_CONF_INSTANCE_ID, THROTTLE_CLEANUP_FREQUENCY, DEFAULT_THROTTLE_CLEANUP_FREQUENCY);
-    jInitThrottleDataPublisher (processThreadPoolCoreSize,
-        processThreadPoolMaximumSize, processThreadPoolKeepAliveTime, cleanUpFrequency);
+    jInitThrottleDataPublisher (eventBufferSize, eventConsumerThreads, eventBatchSize, cleanUpFrequency);
+    if (enabledGlobalTMEventPublishing) {
+        initThrottleEventPublisher();
+    }
 }
 
 public function publishNonThrottledEvent(RequestStreamDTO throttleEvent) {
     jPublishNonThrottledEvent(throttleEvent);
 }
 
-public function isResourceThrottled(string resourceKey) returns boolean {
-    handle key = java:fromString(resourceKey);
-    return jIsResourceThrottled(key);
+public function isResourceThrottled(int resourceKeyId) returns boolean {
+    return jIsResourceThrottled(resourceKeyId);
 }
 
-public function isAppLevelThrottled(string appKey) returns boolean {
-    handle key = java:fromString(appKey);
-    return jIsAppLevelThrottled(key);
+public function isAppLevelThrottled(int appKeyId) returns boolean {
+    return jIsAppLevelThrottled(appKeyId);
 }
 
-public function isApiThrottled(string appKey) returns boolean {
-    handle key = java:fromString(appKey);
-    return jIsApiLevelThrottled(key);
+public function isApiThrottled(int apiKeyId) returns boolean {
+    return jIsApiLevelThrottled(apiKeyId);
 }
 
-public function isSubLevelThrottled(string subscriptionKey) returns boolean {
-    handle key = java:fromString(subscriptionKey);
-    return jIsSubscriptionLevelThrottled(key);
+public function isSubLevelThrottled(int subscriptionKeyId) returns boolean {
+    return jIsSubscriptionLevelThrottled(subscriptionKeyId);
+}
+
+public function getApiKeyId(string apiContext, string apiVersion) returns int {
+    return jGetApiKeyId(java:fromString(apiContext), java:fromString(apiVersion));
+}
+
+public function getResourceKeyId(string resourcePath, string httpMethod) returns int {
+    return jGetResourceKeyId(java:fromString(resourcePath), java:fromString(httpMethod));
+}
+
+public function getApplicationKeyId(string applicationId, string username) returns int {
+    return jGetApplicationKeyId(java:fromString(applicationId), java:fromString(username));
+}
+
+public function getSubscriptionKeyId(string applicationId, string apiKey) returns int {
+    return jGetSubscriptionKeyId(java:fromString(applicationId), java:fromString(apiKey));
+}
+
+public function initThrottleDecisionCache() {
+    int cleanUpFrequency = getConfigIntValue(THROTTLE_CONF_INSTANCE_ID, THROTTLE_DECISION_CLEANUP_FREQUENCY,
+        DEFAULT_THROTTLE_DECISION_CLEANUP_FREQUENCY);
+    jInitThrottleDecisionCache(cleanUpFrequency);
+}
+
+public function putThrottleDecision(string throttleKey, int resetTimestamp, boolean stopOnQuota) {
+    jPutThrottleDecision(java:fromString(throttleKey), resetTimestamp, stopOnQuota);
+}
+
+public function removeThrottleDecision(string throttleKey) {
+    jRemoveThrottleDecision(java:fromString(throttleKey));
+}
+
+public function getThrottleDecision(string throttleKey) returns int {
+    return jGetThrottleDecision(java:fromString(throttleKey));
+}
+
+public function ipToLong(string ipAddress) returns int {
+    return jIpToLong(java:fromString(ipAddress));
 }
 
 public function ipToBigInteger(string ipAddress) returns string {
@@ -61,28 +97,70 @@ public function isIpWithinRange(string ip, string startingIp, string endingIp) r
     return jIsIpWithinRange(ipHandle, startingIpHandle, endingIpHandle);
 }
 
-public function jIsResourceThrottled(handle resourceKey) returns boolean = @java:Method  {
+public function addIpBlockingCondition(IPRangeDTO ipRange) returns boolean {
+    return jAddIpBlockingCondition(ipRange.id, java:fromString(ipRange.tenantDomain), java:fromString(ipRange.'type),
+        java:fromString(ipRange.fixedIp), java:fromString(ipRange.startingIp), java:fromString(ipRange.endingIp),
+        ipRange.invert);
+}
+
+public function removeIpBlockingCondition(int conditionId) returns boolean {
+    return jRemoveIpBlockingCondition(conditionId);
+}
+
+public function rebuildIpBlockingIndex() {
+    jRebuildIpBlockingIndex();
+}
+
+public function isIpBlocked(string clientIp, string tenantDomain) returns boolean {
+    return jIsIpBlocked(java:fromString(clientIp), java:fromString(tenantDomain));
+}
+
+public function isIpBlockingIndexEmpty() returns boolean {
+    return jIsIpBlockingIndexEmpty();
+}
+
+public function jIsResourceThrottled(int resourceKeyId) returns boolean = @java:Method  {
     name: "isResourceThrottled",
     class: "org.wso2.micro.gateway.core.throttle.ThrottleDataReceiver"
 } external;
 
-public function jIsSubscriptionLevelThrottled(handle subscriptionKey) returns boolean = @java:Method  {
+public function jIsSubscriptionLevelThrottled(int subscriptionKeyId) returns boolean = @java:Method  {
     name: "isSubcriptionLevelThrottled",
     class: "org.wso2.micro.gateway.core.throttle.ThrottleDataReceiver"
 } external;
 
-public function jIsAppLevelThrottled(handle appKey) returns boolean = @java:Method  {
+public function jIsAppLevelThrottled(int appKeyId) returns boolean = @java:Method  {
     name: "isAppLevelThrottled",
     class: "org.wso2.micro.gateway.core.throttle.ThrottleDataReceiver"
 } external;
 
-public function jIsApiLevelThrottled(handle apiKey) returns boolean = @java:Method  {
+public function jIsApiLevelThrottled(int apiKeyId) returns boolean = @java:Method  {
     name: "isApiLevelThrottled",
     class: "org.wso2.micro.gateway.core.throttle.ThrottleDataReceiver"
 } external;
 
-public function jInitThrottleDataPublisher(int processThreadPoolCoreSize, int processThreadPoolMaximumSize,
-    int processThreadPoolKeepAliveTime, int cleanUpFrequency) = @java:Method {
+public function jGetApiKeyId(handle apiContext, handle apiVersion) returns int = @java:Method  {
+    name: "getApiKeyId",
+    class: "org.wso2.micro.gateway.core.throttle.ThrottleKeyRegistry"
+} external;
+
+public function jGetResourceKeyId(handle resourcePath, handle httpMethod) returns int = @java:Method  {
+    name: "getResourceKeyId",
+    class: "org.wso2.micro.gateway.core.throttle.ThrottleKeyRegistry"
+} external;
+
+public function jGetApplicationKeyId(handle applicationId, handle username) returns int = @java:Method  {
+    name: "getApplicationKeyId",
+    class: "org.wso2.micro.gateway.core.throttle.ThrottleKeyRegistry"
+} external;
+
+public function jGetSubscriptionKeyId(handle applicationId, handle apiKey) returns int = @java:Method  {
+    name: "getSubscriptionKeyId",
+    class: "org.wso2.micro.gateway.core.throttle.ThrottleKeyRegistry"
+} external;
+
+public function jInitThrottleDataPublisher(int eventBufferSize, int eventConsumerThreads, int eventBatchSize,
+    int cleanUpFrequency) = @java:Method {
     name: "initThrottleDataReceiver",
     class: "org.wso2.micro.gateway.core.throttle.ThrottleDataReceiver"
 } external;
@@ -93,6 +171,11 @@ public function jPublishNonThrottledEvent(RequestStreamDTO throttleEvent) = @jav
     class: "org.wso2.micro.gateway.core.throttle.ThrottleDataReceiver"
 } external;
 
+public function jIpToLong(handle ip) returns int = @java:Method {
+    name: "ipToLong",
+    class: "org.wso2.micro.gateway.core.throttle.global.ThrottleUtils"
+} external;
+
 public function jIpToBigInteger(handle ip) returns handle = @java:Method {
     name: "ipToBigInteger",
     class: "org.wso2.micro.gateway.core.throttle.global.ThrottleUtils"
@@ -101,4 +184,50 @@ public function jIpToBigInteger(handle ip) returns handle = @java:Method {
 public function jIsIpWithinRange(handle ip, handle startingIp, handle endingIp) returns boolean = @java:Method  {
     name: "isIpWithinRange",
     class: "org.wso2.micro.gateway.core.throttle.global.ThrottleUtils"
-} external;
\ No newline at end of file
+} external;
+
+public function jAddIpBlockingCondition(int id, handle tenantDomain, handle 'type, handle fixedIp, handle startingIp,
+    handle endingIp, boolean invert) returns boolean = @java:Method  {
+    name: "addCondition",
+    class: "org.wso2.micro.gateway.core.throttle.global.IpBlockingIndex"
+} external;
+
+public function jRemoveIpBlockingCondition(int id) returns boolean = @java:Method  {
+    name: "removeCondition",
+    class: "org.wso2.micro.gateway.core.throttle.global.IpBlockingIndex"
+} external;
+
+public function jRebuildIpBlockingIndex() = @java:Method  {
+    name: "rebuild",
+    class: "org.wso2.micro.gateway.core.throttle.global.IpBlockingIndex"
+} external;
+
+public function jIsIpBlocked(handle clientIp, handle tenantDomain) returns boolean = @java:Method  {
+    name: "isBlocked",
+    class: "org.wso2.micro.gateway.core.throttle.global.IpBlockingIndex"
+} external;
+
+public function jIsIpBlockingIndexEmpty() returns boolean = @java:Method  {
+    name: "isEmpty",
+    class: "org.wso2.micro.gateway.core.throttle.global.IpBlockingIndex"
+} external;
+
+public function jInitThrottleDecisionCache(int cleanUpFrequency) = @java:Method  {
+    name: "initThrottleDecisionCache",
+    class: "org.wso2.micro.gateway.core.throttle.global.ThrottleDecisionCache"
+} external;
+
+public function jPutThrottleDecision(handle throttleKey, int resetTimestamp, boolean stopOnQuota) = @java:Method  {
+    name: "putDecision",
+    class: "org.wso2.micro.gateway.core.throttle.global.ThrottleDecisionCache"
+} external;
+
+public function jRemoveThrottleDecision(handle throttleKey) = @java:Method  {
+    name: "removeDecision",
+    class: "org.wso2.micro.gateway.core.throttle.global.ThrottleDecisionCache"
+} external;
+
+public function jGetThrottleDecision(handle throttleKey) returns int = @java:Method  {
+    name: "getDecision",
+    class: "org.wso2.micro.gateway.core.throttle.global.ThrottleDecisionCache"
+} external;
@@ -20,34 +20,57 @@ import ballerinax/java;
 #
 # + reqPath - project Name
 # + requestMethod - Service Name
-# + payload - request payload
+# + payload - request payload bytes
 # + serviceName - serviceName
 # +return - status of the validation
-public function requestValidate(string reqPath, string requestMethod,  string payload, string serviceName)
+public function requestValidate(string reqPath, string requestMethod, byte[] payload, string serviceName)
     returns handle | error {
      handle requestPath = java:fromString(reqPath);
      handle reqMethod = java:fromString(requestMethod);
-     handle requestPayload = java:fromString(payload);
      handle servName = java:fromString(serviceName);
-     return jRequestValidate(requestPath, reqMethod, requestPayload, servName);
+     return jRequestValidate(requestPath, reqMethod, payload, servName);
 }
 
 # Validate response payload.
 #
-# + reqPath - project Name
-# + requestMethod - Service Name
-# + responseCode - Service Name
-# + response - Service Name
+# + reqPath - request resource path
+# + requestMethod - request method
+# + responseCode - response status code
+# + response - response payload bytes
 # + serviceNme - Service Name
-# + return - Extracted resources map
-public function responseValidate(string reqPath, string requestMethod, string responseCode, string response,
+# + return - status of the validation
+public function responseValidate(string reqPath, string requestMethod, string responseCode, byte[] response,
                                                                            string serviceNme) returns handle | error {
      handle requestPath = java:fromString(reqPath);
      handle reqMethod = java:fromString(requestMethod);
      handle resCode = java:fromString(responseCode);
-     handle responsePayload = java:fromString(response);
      handle servName = java:fromString(serviceNme);
-     return jResponseValidate(requestPath, reqMethod, resCode, responsePayload, servName);
+     return jResponseValidate(requestPath, reqMethod, resCode, response, servName);
+}
+
+# Hand the response payload over to be validated asynchronously, without delaying the response.
+#
+# + reqPath - request resource path
+# + requestMethod - request method
+# + responseCode - response status code
+# + response - response payload bytes
+# + serviceName - Service Name
+# + return - false if the response is not validated as the asynchronous validation is overloaded
+public function responseValidateAsync(string reqPath, string requestMethod, string responseCode, byte[] response,
+                                      string serviceName) returns boolean {
+     return jResponseValidateAsync(java:fromString(reqPath), java:fromString(requestMethod),
+         java:fromString(responseCode), response, java:fromString(serviceName));
+}
+
+# Check whether the response of the resource is to be validated, according to the sampling rate.
+#
+# + reqPath - request resource path
+# + requestMethod - request method
+# + serviceName - Service Name
+# + return - true if the response is to be validated
+public function isResponseSampled(string reqPath, string requestMethod, string serviceName) returns boolean {
+     return jIsResponseSampled(java:fromString(reqPath), java:fromString(requestMethod),
+         java:fromString(serviceName));
 }
 
 # Extract Resource artifcats.
@@ -58,6 +81,15 @@ public function responseValidate(string reqPath, string requestMethod, string re
 public function extractJAR(string projectName, string serviceName) returns error? {
      handle prjtName = java:fromString(projectName);
      handle servName = java:fromString(serviceName);
+     if (enableResponseValidation) {
+         int samplingRate = getConfigIntValue(VALIDATION_CONFIG_INSTANCE_ID, RESPONSE_VALIDATION_SAMPLING_RATE,
+             DEFAULT_RESPONSE_VALIDATION_SAMPLING_RATE);
+         int threads = getConfigIntValue(VALIDATION_CONFIG_INSTANCE_ID, ASYNC_RESPONSE_VALIDATION_THREADS,
+             DEFAULT_ASYNC_RESPONSE_VALIDATION_THREADS);
+         int maxInFlightSize = getConfigIntValue(VALIDATION_CONFIG_INSTANCE_ID,
+             ASYNC_RESPONSE_VALIDATION_MAX_IN_FLIGHT_SIZE, DEFAULT_ASYNC_RESPONSE_VALIDATION_MAX_IN_FLIGHT_SIZE);
+         jInitResponseValidation(samplingRate, enableAsyncResponseValidation, threads, maxInFlightSize);
+     }
      return extract(prjtName, servName);
 }
 
@@ -67,14 +99,30 @@ function extract(handle Name, handle serv) returns error?  = @java:Method {
 
 } external;
 
-function jRequestValidate(handle resourcePath, handle reqMethod, handle requestPayload, handle serviceName)
+function jRequestValidate(handle resourcePath, handle reqMethod, byte[] requestPayload, handle serviceName)
                                                                             returns handle | error = @java:Method {
      name: "validateRequest",
      class: "org.wso2.micro.gateway.core.validation.Validate"
 } external;
 
-function jResponseValidate(handle resourcePath, handle reqMethod, handle resCode, handle res, handle serName)
+function jResponseValidate(handle resourcePath, handle reqMethod, handle resCode, byte[] res, handle serName)
                         returns handle | error = @java:Method {
      name: "validateResponse",
      class: "org.wso2.micro.gateway.core.validation.Validate"
 } external;
+
+function jResponseValidateAsync(handle resourcePath, handle reqMethod, handle resCode, byte[] res, handle serName)
+                        returns boolean = @java:Method {
+     name: "validateResponseAsync",
+     class: "org.wso2.micro.gateway.core.validation.Validate"
+} external;
+
+function jIsResponseSampled(handle resourcePath, handle reqMethod, handle serName) returns boolean = @java:Method {
+     name: "isResponseSampled",
+     class: "org.wso2.micro.gateway.core.validation.Validate"
+} external;
+
+function jInitResponseValidation(int samplingRate, boolean async, int threads, int maxInFlightSize) = @java:Method {
+     name: "initResponseValidation",
+     class: "org.wso2.micro.gateway.core.validation.Validate"
+} external;
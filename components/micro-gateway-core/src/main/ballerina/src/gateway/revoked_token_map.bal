@@ -14,24 +14,39 @@
 // specific language governing permissions and limitations
 // under the License.
 
-map<string> revokedTokenMap = {};
+import ballerinax/java;
 
+# Returns a map to collect the revoked tokens retrieved by a custom extension. The tokens of the map are not looked
+# up until they are added to the native revoked token store with `addToRevokedTokenMap`, which the generated main
+# function does once the extension returns. The map does not contain the tokens which are already in the store.
+#
+# + return - empty map of revoked JTIs to their TTL in seconds
 public function getRevokedTokenMap() returns map<string> {
-    return revokedTokenMap;
+    return {};
 }
 
+# Adds the revoked tokens to the native revoked token store.
+#
+# + revokedTokens - map of revoked JTIs to their TTL in seconds
+# + return - true once the tokens are added
 public function addToRevokedTokenMap(map<string> revokedTokens) returns (boolean | ()) {
-    foreach var [revokedTokenKey, revokedTokenValue] in revokedTokens.entries() {
-        revokedTokenMap[<string>revokedTokenKey] = <@untainted>revokedTokenValue;
-    }
-    return true;
+    return jAddRevokedTokens(revokedTokens);
 }
 
+# Checks whether the token with the given JTI is revoked.
+#
+# + token - JTI of the token
+# + return - true if the token is revoked and has not expired yet
 public function retrieveFromRevokedTokenMap(string token) returns (boolean | ()) {
-    foreach var [revokedTokenKey, revokedTokenValue] in revokedTokenMap.entries() {
-        if (token == revokedTokenKey) {
-            return true;
-        }
-    }
-    return false;
+    return jIsTokenRevoked(java:fromString(token));
 }
+
+function jAddRevokedTokens(map<string> revokedTokens) returns boolean = @java:Method {
+    name: "addRevokedTokens",
+    class: "org.wso2.micro.gateway.core.tokenrevocation.RevokedTokenStore"
+} external;
+
+function jIsTokenRevoked(handle jti) returns boolean = @java:Method {
+    name: "isRevoked",
+    class: "org.wso2.micro.gateway.core.tokenrevocation.RevokedTokenStore"
+} external;
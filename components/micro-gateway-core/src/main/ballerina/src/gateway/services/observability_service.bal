@@ -70,6 +70,7 @@ service {
 
 public function startObservabilityListener() {
     if (isMetricsEnabled) {
+        initGatewayMetricsRegistry();
         ObservabilityMetricListener observabilityMetricListner = new;
         error? err = observabilityMetricListner.__attach(metric, ());
         error? err1 = observabilityMetricListner.__start();
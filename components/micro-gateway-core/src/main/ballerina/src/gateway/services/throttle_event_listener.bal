@@ -27,18 +27,12 @@ string jmsConnectionUsername = getConfigValue(THROTTLE_CONF_INSTANCE_ID, JMS_CON
 
 map<string> keyTemplateMap = {};
 map<string> blockConditionsMap = {};
-table<IPRangeDTO> IpBlockConditionsMap = table {
-    {},
-    []
-
-};
 
 service messageServ = service {
     resource function onMessage(jms:Message message) {
         if (message is jms:MapMessage) {
             string? | error keyTemplateValue = message.getString(KEY_TEMPLATE_VALUE);
             string? | error throttleKey = message.getString(THROTTLE_KEY);
-            int remainingQuota = 0;
             string? | error blockingKey = message.getString(BLOCKING_CONDITION_KEY);
             if (keyTemplateValue is string) {
                 handleKeyTemplateMessage(message, keyTemplateValue);
@@ -48,18 +42,12 @@ service messageServ = service {
                 printDebug(KEY_THROTTLE_EVENT_LISTENER, "policy Key : " + throttleKey.toString() + " Throttle status : " +
                 throttleEnable.toString());
                 if (throttleEnable is boolean && expiryTime is int) {
-                    GlobalThrottleStreamDTO globalThrottleStreamDtoTM = {
-                        policyKey: throttleKey,
-                        resetTimestamp: expiryTime,
-                        remainingQuota: remainingQuota,
-                        isThrottled: throttleEnable
-                    };
-                    if (globalThrottleStreamDtoTM.isThrottled == true) {
-                        printDebug(KEY_THROTTLE_EVENT_LISTENER, "Adding to throttledata map.");
-                        putThrottleData(globalThrottleStreamDtoTM, throttleKey);
+                    if (throttleEnable) {
+                        printDebug(KEY_THROTTLE_EVENT_LISTENER, "Adding to throttle decision cache.");
+                        putThrottleDecision(throttleKey, expiryTime, true);
                     } else {
-                        printDebug(KEY_THROTTLE_EVENT_LISTENER, "Romoving from throttledata map.");
-                        removeThrottleData(throttleKey);
+                        printDebug(KEY_THROTTLE_EVENT_LISTENER, "Removing from throttle decision cache.");
+                        removeThrottleDecision(throttleKey);
                     }
                 } else {
                     printDebug(KEY_THROTTLE_EVENT_LISTENER, "Throlling configs values are wrong.");
@@ -130,6 +118,7 @@ public function initiateThrottlingJmsListener() returns boolean {
     if (!enabledGlobalTMEventPublishing) {
         return false;
     } else {
+        initThrottleDecisionCache();
         jms:MessageConsumer | error topicSubscriber = trap startSubscriberService();
         if (topicSubscriber is jms:MessageConsumer) {
             printDebug(KEY_THROTTLE_EVENT_LISTENER, "subscriber service for global throttling is started.");
@@ -179,6 +168,7 @@ function handleBlockConditionMessage(jms:MapMessage m) {
                         ip[BLOCKING_CONDITION_TENANAT_DOMAIN] = conditionTenant;
                     }
                     addIpDataToBlockConditionTable(ip);
+                    rebuildIpBlockingIndex();
                     printDebug(KEY_THROTTLE_EVENT_LISTENER, "Block condition added to the IP block condition map.");
                 } else {
                     printDebug(KEY_THROTTLE_EVENT_LISTENER, "IP blocking condition could not be added to the map : " +
@@ -203,12 +193,11 @@ function handleBlockConditionMessage(jms:MapMessage m) {
                 _ = blockConditionsMap.remove(conditionValue);
                 printDebug(KEY_THROTTLE_EVENT_LISTENER, "Block condition removed from the map.");
             }
-            if (blockConditionsMap.keys().length() == 0 && !IpBlockConditionsMap.hasNext()) {
+            if (blockConditionsMap.keys().length() == 0 && isIpBlockingIndexEmpty()) {
                 blockConditionExist = false;
             }
 
         }
         printDebug(KEY_THROTTLE_EVENT_LISTENER, "Blocking condition map : " + blockConditionsMap.toJsonString());
-        printDebug(KEY_THROTTLE_EVENT_LISTENER, "Blocking IP condition map : " + IpBlockConditionsMap.toString());
     }
 }
@@ -0,0 +1,113 @@
+// Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+//
+// WSO2 Inc. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+import ballerina/http;
+import ballerina/jwt;
+import ballerina/runtime;
+import ballerina/test;
+
+const string TEST_SERVICE_NAME = "SubscribedAPIIndexTestAPI";
+const int TEST_SUBSCRIPTION_COUNT = 500;
+
+@test:Config {}
+function testSubscribedAPIIndexHoldsEachSubscription() {
+    json[] subscribedAPIList = getTestSubscribedAPIList(TEST_SUBSCRIPTION_COUNT);
+    // a repeated subscription, a subscription without a version and an entry which is not an object
+    subscribedAPIList.push({"name": "API10", "version": "1.0.0", "subscriptionTier": "Bronze"});
+    subscribedAPIList.push({"name": "API10"});
+    subscribedAPIList.push("API10");
+    SubscribedAPIIndex subscribedAPIIndex = buildSubscribedAPIIndex("token", getTestPayload(), subscribedAPIList);
+
+    test:assertEquals(subscribedAPIIndex.count, TEST_SUBSCRIPTION_COUNT + 3);
+    test:assertEquals(subscribedAPIIndex.subscriptions.length(), TEST_SUBSCRIPTION_COUNT);
+    test:assertEquals(subscribedAPIIndex.authenticationContext.username, "admin");
+    test:assertEquals(subscribedAPIIndex.authenticationContext.applicationId, "1");
+    test:assertFalse(subscribedAPIIndex.authenticationContext.authenticated);
+
+    SubscribedAPI? first = getTestSubscription(subscribedAPIIndex, "API0", "1.0.0");
+    test:assertTrue(first is SubscribedAPI, msg = "Subscription of API0 is not indexed");
+    // the first subscription of an API version is used
+    SubscribedAPI? repeated = getTestSubscription(subscribedAPIIndex, "API10", "1.0.0");
+    test:assertEquals(repeated?.tier, "Gold");
+    SubscribedAPI? last = getTestSubscription(subscribedAPIIndex, "API499", "1.0.0");
+    test:assertEquals(last?.publisher, "admin");
+    test:assertEquals(last?.subscriberTenantDomain, "carbon.super");
+    test:assertTrue(getTestSubscription(subscribedAPIIndex, "API499", "2.0.0") is (),
+        msg = "Subscription of an unknown version is found");
+    test:assertTrue(getTestSubscription(subscribedAPIIndex, "API500", "1.0.0") is (),
+        msg = "Subscription of an unknown API is found");
+}
+
+@test:Config {}
+function testValidateSubscribedAPIsLooksUpAPIOfRequest() {
+    SubscribedAPIIndex subscribedAPIIndex = buildSubscribedAPIIndex("token", getTestPayload(),
+        getTestSubscribedAPIList(TEST_SUBSCRIPTION_COUNT));
+    runtime:InvocationContext invocationContext = runtime:getInvocationContext();
+    invocationContext.attributes[http:SERVICE_NAME] = TEST_SERVICE_NAME;
+
+    apiConfigAnnotationMap[TEST_SERVICE_NAME] = getTestAPIConfiguration("API499", "1.0.0");
+    test:assertTrue(validateSubscribedAPIs(subscribedAPIIndex, true));
+    AuthenticationContext authenticationContext = <AuthenticationContext>invocationContext.attributes[
+        AUTHENTICATION_CONTEXT];
+    test:assertTrue(authenticationContext.authenticated);
+    test:assertEquals(authenticationContext.tier, "Gold");
+    test:assertEquals(authenticationContext.apiPublisher, "admin");
+    test:assertEquals(authenticationContext.username, "admin");
+    // the context of the request is a copy, the cached one is left unchanged
+    test:assertFalse(subscribedAPIIndex.authenticationContext.authenticated);
+    test:assertEquals(subscribedAPIIndex.authenticationContext.tier, DEFAULT_SUBSCRIPTION_TIER);
+
+    apiConfigAnnotationMap[TEST_SERVICE_NAME] = getTestAPIConfiguration("API499", "2.0.0");
+    test:assertFalse(validateSubscribedAPIs(subscribedAPIIndex, true));
+    authenticationContext = <AuthenticationContext>invocationContext.attributes[AUTHENTICATION_CONTEXT];
+    test:assertFalse(authenticationContext.authenticated);
+
+    // the token is authenticated without a subscription if the subscriptions are not validated
+    apiConfigAnnotationMap[TEST_SERVICE_NAME] = getTestAPIConfiguration("UnknownAPI", "1.0.0");
+    test:assertFalse(validateSubscribedAPIs(subscribedAPIIndex, false));
+    authenticationContext = <AuthenticationContext>invocationContext.attributes[AUTHENTICATION_CONTEXT];
+    test:assertTrue(authenticationContext.authenticated);
+    test:assertEquals(authenticationContext.tier, DEFAULT_SUBSCRIPTION_TIER);
+
+    _ = apiConfigAnnotationMap.remove(TEST_SERVICE_NAME);
+}
+
+function getTestSubscribedAPIList(int count) returns json[] {
+    json[] subscribedAPIList = [];
+    int index = 0;
+    while (index < count) {
+        subscribedAPIList.push({"name": "API" + index.toString(), "version": "1.0.0", "subscriptionTier": "Gold",
+            "publisher": "admin", "subscriberTenantDomain": "carbon.super"});
+        index += 1;
+    }
+    return subscribedAPIList;
+}
+
+function getTestPayload() returns jwt:JwtPayload {
+    return {iss: "https://localhost:9443/oauth2/token", sub: "admin", jti: "5f5ae4e2-9d4b-4bd0-a2f6-9b9b8c2f3e1a",
+        customClaims: {"keytype": "PRODUCTION", "application": {"id": "1", "name": "DefaultApplication",
+        "tier": "Unlimited", "owner": "admin"}}};
+}
+
+function getTestSubscription(SubscribedAPIIndex subscribedAPIIndex, string apiName, string apiVersion)
+        returns SubscribedAPI? {
+    map<SubscribedAPI>? versions = subscribedAPIIndex.subscriptions[apiName];
+    return versions is map<SubscribedAPI> ? versions[apiVersion] : ();
+}
+
+function getTestAPIConfiguration(string apiName, string apiVersion) returns APIConfiguration {
+    return {name: apiName, apiVersion: apiVersion, publisher: "admin", security: {}, apiTier: ""};
+}
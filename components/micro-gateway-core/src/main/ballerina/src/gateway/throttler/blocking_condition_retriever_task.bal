@@ -87,8 +87,9 @@ service blockingConditionRetrievalService = service {
                         }
                     }
                 }
+                // publish all the retrieved IP blocking conditions at once
+                rebuildIpBlockingIndex();
                 printDebug(KEY_BLOCKING_CONDITION_RETRIEVAL_TASK, "Blocking condition map : " + blockConditionsMap.toJsonString());
-                printDebug(KEY_BLOCKING_CONDITION_RETRIEVAL_TASK, "Blocking IP condition map : " + IpBlockConditionsMap.toString());
                 stopBlockingConditionTask(true);
             } else {
                 blockConditionRetriesCount = blockConditionRetriesCount + 1;
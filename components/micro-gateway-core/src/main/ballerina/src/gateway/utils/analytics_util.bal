@@ -172,6 +172,8 @@ function initializegRPCAnalytics() {
 
     if (isGrpcAnalyticsEnabled) {
         initGRPCService();
+        initAnalyticsMessageBuffer();
+        future<()> sendTask = start sendAnalyticsMessages();
     }
 }
 
@@ -190,6 +192,7 @@ function initializeAnalytics() {
 }
 
 function initStreamPublisher() {
+    initAnalyticsEventWriter(retrieveConfig(API_USAGE_PATH, API_USAGE_DIR) + PATH_SEPERATOR + TEMP_API_USAGE_FILE);
     printDebug(KEY_UTILS, "Subscribing writing method to event stream");
     eventStream.subscribe(writeEventToFile);
 }
@@ -105,6 +105,19 @@ public function getExpiryTime(http:Request req) returns @tainted (int) {
 # + apiKeyToken - api key token string.
 # + return - Returns boolean value.
 public function validateAPIKey(string apiKeyToken) returns boolean {
+    VerifiedAPIKey? verifiedAPIKey = decodeAPIKey(apiKeyToken);
+    if (verifiedAPIKey is VerifiedAPIKey) {
+        return validateVerifiedAPIKey(apiKeyToken, verifiedAPIKey);
+    }
+    return false;
+}
+
+# Validates the subscriptions of an api key which is already verified.
+#
+# + apiKeyToken - api key token string.
+# + verifiedAPIKey - decoded api key.
+# + return - Returns boolean value.
+public function validateVerifiedAPIKey(string apiKeyToken, VerifiedAPIKey verifiedAPIKey) returns boolean {
     boolean validated = false;
     boolean validateAllowedAPIs = getConfigBooleanValue(API_KEY_INSTANCE_ID, API_KEY_VALIDATE_ALLOWED_APIS, 
         DEFAULT_VALIDATE_APIS_ENABLED);
@@ -115,40 +128,99 @@ public function validateAPIKey(string apiKeyToken) returns boolean {
         printDebug(API_KEY_UTIL, "Set authContext scheme to " + AUTH_SCHEME_API_KEY);
         authContext.scheme = AUTH_SCHEME_API_KEY;
     }
-    //decode jwt
+    SubscribedAPIIndex? subscribedAPIs = verifiedAPIKey.subscribedAPIs;
+    if (subscribedAPIs is SubscribedAPIIndex) {
+        if (validateAllowedAPIs && subscribedAPIs.count < 1) {
+            printDebug(API_KEY_UTIL, "SubscribedAPI list is empty");
+            return false;
+        }
+        validated = validateSubscribedAPIs(subscribedAPIs, validateAllowedAPIs);
+        if (validated || !validateAllowedAPIs) {
+            printDebug(API_KEY_UTIL, "Subscriptions validated.");
+            return true;
+        }
+    }
+    printError(API_KEY_UTIL, "Failed to validate API.");
+    return false;
+}
+
+# Decodes an api key, whose signature is already verified.
+#
+# + apiKeyToken - api key token string.
+# + return - Returns the decoded api key, or nil if the key could not be decoded.
+public function decodeAPIKey(string apiKeyToken) returns VerifiedAPIKey? {
     [jwt:JwtHeader, jwt:JwtPayload] | jwt:Error decodedJWT = jwt:decodeJwt(apiKeyToken);
     if (decodedJWT is error) {
         printError(API_KEY_UTIL, "Error while decoding the JWT token");
-        return false;
+        return ();
     }
-    //get payload
-    (jwt:JwtPayload | error) payload = getDecodedJWTPayload(apiKeyToken);
-    if (payload is jwt:JwtPayload) {
-        json subscribedAPIList = [];
-        //get allowed apis
-        map<json>? customClaims = payload?.customClaims;
-        if (customClaims is map<json>) {
-            if (customClaims.hasKey(SUBSCRIBED_APIS)) {
-                printDebug(API_KEY_UTIL, "SubscribedAPIs claim found in the jwt");
-                subscribedAPIList = customClaims.get(SUBSCRIBED_APIS);
-            } else if (customClaims.hasKey(ALLOWED_APIS)) {
-                printDebug(API_KEY_UTIL, "AllowedAPIs claim found in the jwt");
-                subscribedAPIList = customClaims.get(ALLOWED_APIS);
-            }
+    [jwt:JwtHeader, jwt:JwtPayload][jwtHeader, payload] = <[jwt:JwtHeader, jwt:JwtPayload]>decodedJWT;
+    json subscribedAPIList = [];
+    //get allowed apis
+    map<json>? customClaims = payload?.customClaims;
+    if (customClaims is map<json>) {
+        if (customClaims.hasKey(SUBSCRIBED_APIS)) {
+            printDebug(API_KEY_UTIL, "SubscribedAPIs claim found in the jwt");
+            subscribedAPIList = customClaims.get(SUBSCRIBED_APIS);
+        } else if (customClaims.hasKey(ALLOWED_APIS)) {
+            printDebug(API_KEY_UTIL, "AllowedAPIs claim found in the jwt");
+            subscribedAPIList = customClaims.get(ALLOWED_APIS);
         }
-        if (subscribedAPIList is json[]) {
-            if (validateAllowedAPIs && subscribedAPIList.length() < 1) {
-                printDebug(API_KEY_UTIL, "SubscribedAPI list is empty");
-                return false;
-            }
-            validated = handleSubscribedAPIs(apiKeyToken, payload, subscribedAPIList, validateAllowedAPIs);
-            if (validated || !validateAllowedAPIs) {
-                printDebug(API_KEY_UTIL, "Subscriptions validated.");
-                return true;
-            }
+    }
+    // the key is accepted by the jwt validator up to the clock skew after its expiry
+    int? exp = payload?.exp;
+    int expiryTime = exp is int ? (exp + API_KEY_CLOCK_SKEW) * 1000 : 9223372036854775807;
+    SubscribedAPIIndex? subscribedAPIs = ();
+    if (subscribedAPIList is json[]) {
+        subscribedAPIs = buildSubscribedAPIIndex(apiKeyToken, payload, subscribedAPIList);
+    }
+    return {payload: payload, subscribedAPIs: subscribedAPIs, expiryTime: expiryTime};
+}
+
+# Returns the key of the api key in the api key cache, which is the digest of the key rather than the key itself.
+#
+# + apiKeyToken - api key token string.
+# + return - Returns the cache key.
+public function getAPIKeyCacheKey(string apiKeyToken) returns string {
+    return crypto:hashSha256(apiKeyToken.toBytes()).toBase16();
+}
+
+# Sets the authentication context and the principal of the request from a cached api key, as the jwt validator does
+# for the keys it verifies.
+#
+# + apiKeyToken - api key token string.
+# + payload - decoded payload of the api key.
+public function setAPIKeyPrincipal(string apiKeyToken, jwt:JwtPayload payload) {
+    runtime:InvocationContext invocationContext = runtime:getInvocationContext();
+    invocationContext.authenticationContext = {scheme: AUTH_SCHEME_API_KEY, authToken: apiKeyToken};
+    string? issuer = payload?.iss;
+    if (issuer is string) {
+        invocationContext.principal.userId = issuer;
+    }
+    string? subject = payload?.sub;
+    if (subject is string) {
+        invocationContext.principal.username = subject;
+    }
+    map<json>? customClaims = payload?.customClaims;
+    if (customClaims is map<json>) {
+        invocationContext.principal.claims = customClaims;
+        json scope = customClaims["scope"];
+        if (scope is string && scope != "") {
+            invocationContext.principal.scopes = split(scope, " ");
         }
     }
-    printError(API_KEY_UTIL, "Failed to validate API.");
+}
+
+# Checks whether the api key is revoked.
+#
+# + payload - decoded payload of the api key.
+# + return - Returns true if the jti of the key is in the revoked token store.
+public function isAPIKeyRevoked(jwt:JwtPayload payload) returns boolean {
+    string? jti = payload?.jti;
+    if (jti is string) {
+        boolean? revoked = retrieveFromRevokedTokenMap(jti);
+        return revoked is boolean && revoked;
+    }
     return false;
 }
 
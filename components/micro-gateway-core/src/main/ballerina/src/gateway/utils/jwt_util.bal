@@ -28,15 +28,22 @@ import ballerina/runtime;
 # + return - subscribed APIs validated or not
 public function handleSubscribedAPIs(string apiKeyToken, jwt:JwtPayload payload, json[] subscribedAPIList,
         boolean validateAllowedAPIs) returns boolean {
+    return validateSubscribedAPIs(buildSubscribedAPIIndex(apiKeyToken, payload, subscribedAPIList),
+        validateAllowedAPIs);
+}
 
-    runtime:InvocationContext invocationContext = runtime:getInvocationContext();
-    //invocation context
+# Builds the authentication context from the additional claims in JWT token and indexes its subscriptions by the
+# name and version of the API. The first subscription of an API version is used if it is listed more than once.
+#
+# + apiKeyToken - jwt token
+# + payload - payload of jwt token
+# + subscribedAPIList - subscribedAPIList array
+# + return - subscriptions of the token
+public function buildSubscribedAPIIndex(string apiKeyToken, jwt:JwtPayload payload, json[] subscribedAPIList)
+        returns SubscribedAPIIndex {
     AuthenticationContext authenticationContext = {};
     authenticationContext.apiKey = apiKeyToken;
     authenticationContext.callerToken = apiKeyToken;
-    // if validateAllowedAPIs is false, then set authenticated to true.
-    // Then if validateAllowedAPIs is true only set authenticated true after validating APIs.
-    authenticationContext.authenticated = !validateAllowedAPIs;
 
     string? username = payload?.sub;
     if (username is string) {
@@ -49,7 +56,6 @@ public function handleSubscribedAPIs(string apiKeyToken, jwt:JwtPayload payload,
         json keyType = customClaims.get(KEY_TYPE);
         authenticationContext.keyType = keyType.toString();
     }
-    invocationContext.attributes[KEY_TYPE_ATTR] = authenticationContext.keyType;
 
     //set consumer key
     if (customClaims is map<json> && customClaims.hasKey(CONSUMER_KEY)) {
@@ -76,47 +82,78 @@ public function handleSubscribedAPIs(string apiKeyToken, jwt:JwtPayload payload,
             }
         }
     }
-    //validate allowed apis
-    APIConfiguration? apiConfig = apiConfigAnnotationMap[<string>invocationContext.attributes[http:SERVICE_NAME]];
-    if (apiConfig is APIConfiguration) {
-        string apiName = apiConfig.name;
-        string apiVersion = apiConfig.apiVersion;
-        int l = subscribedAPIList.length();
-        int index = 0;
-        while (index < l) {
-            var subscription = subscribedAPIList[index];
-            if (subscription.name.toString() == apiName && subscription.'version.toString() == apiVersion) {
-                // Successfully validated the API. Then set authenticated to true.
-                authenticationContext.authenticated = true;
-                if (isDebugEnabled) { 
-                    printDebug(JWT_UTIL, "Found a matching allowed api with name:" + subscription.name.toString()
-                        + " version:" + subscription.'version.toString());
-                }
 
+    map<map<SubscribedAPI>> subscriptions = {};
+    foreach json subscription in subscribedAPIList {
+        if (subscription is map<json> && subscription.hasKey("name") && subscription.hasKey("version")) {
+            string apiName = subscription.get("name").toString();
+            string apiVersion = subscription.get("version").toString();
+            map<SubscribedAPI> versions = subscriptions[apiName] ?: {};
+            if (!versions.hasKey(apiVersion)) {
                 //set throttling attribs if present
-                if (subscription.subscriptionTier is json) {
-                    authenticationContext.tier = subscription.subscriptionTier.toString();
+                SubscribedAPI subscribedAPI = {};
+                if (subscription.hasKey("subscriptionTier")) {
+                    subscribedAPI.tier = subscription.get("subscriptionTier").toString();
                 }
-                if (subscription.publisher is json) {
-                    authenticationContext.apiPublisher = subscription.publisher.toString();
+                if (subscription.hasKey("publisher")) {
+                    subscribedAPI.publisher = subscription.get("publisher").toString();
                 }
-                if (subscription.subscriberTenantDomain is json) {
-                    authenticationContext.subscriberTenantDomain = subscription.subscriberTenantDomain.toString();
+                if (subscription.hasKey("subscriberTenantDomain")) {
+                    subscribedAPI.subscriberTenantDomain = subscription.get("subscriberTenantDomain").toString();
                 }
-                if (isDebugEnabled) { 
-                    printDebug(JWT_UTIL, "Set username : " + authenticationContext.username + ", keytype : " 
-                    + authenticationContext.keyType + ", consumer key : " + authenticationContext.consumerKey 
-                    + ", application ID : " + authenticationContext.applicationId + ", application name : " 
-                    + authenticationContext.applicationName + ", application tier : " + authenticationContext.applicationTier 
-                    + ", application owner : " + authenticationContext.subscriber + ", application tier : " 
-                    + authenticationContext.tier + ", apiTier : " + authenticationContext.apiTier 
-                    + ", apiPublisher : " + authenticationContext.apiPublisher + ", subscriberTenantDomain : " 
-                    + authenticationContext.subscriberTenantDomain);
-                }
-                invocationContext.attributes[AUTHENTICATION_CONTEXT] = authenticationContext;
-                return true;
+                versions[apiVersion] = subscribedAPI;
+                subscriptions[apiName] = versions;
+            }
+        }
+    }
+    return {authenticationContext: authenticationContext, subscriptions: subscriptions,
+        count: subscribedAPIList.length()};
+}
+
+# Sets the authentication context of the token to invocation context, with the attributes of its subscription to
+# the API of the request. Then return check subscription is validated or not.
+#
+# + subscribedAPIIndex - subscriptions of the token
+# + validateAllowedAPIs - validate allowed APIs boolean value
+# + return - subscribed APIs validated or not
+public function validateSubscribedAPIs(SubscribedAPIIndex subscribedAPIIndex, boolean validateAllowedAPIs)
+        returns boolean {
+    runtime:InvocationContext invocationContext = runtime:getInvocationContext();
+    // the authentication context is modified by the filters of the request, hence the cached one is not shared
+    AuthenticationContext authenticationContext = subscribedAPIIndex.authenticationContext.clone();
+    // if validateAllowedAPIs is false, then set authenticated to true.
+    // Then if validateAllowedAPIs is true only set authenticated true after validating APIs.
+    authenticationContext.authenticated = !validateAllowedAPIs;
+    invocationContext.attributes[KEY_TYPE_ATTR] = authenticationContext.keyType;
+    boolean validated = false;
+
+    //validate allowed apis
+    APIConfiguration? apiConfig = apiConfigAnnotationMap[<string>invocationContext.attributes[http:SERVICE_NAME]];
+    if (apiConfig is APIConfiguration) {
+        map<SubscribedAPI>? versions = subscribedAPIIndex.subscriptions[apiConfig.name];
+        SubscribedAPI? subscription = versions is map<SubscribedAPI> ? versions[apiConfig.apiVersion] : ();
+        if (subscription is SubscribedAPI) {
+            // Successfully validated the API. Then set authenticated to true.
+            authenticationContext.authenticated = true;
+            validated = true;
+            if (isDebugEnabled) { 
+                printDebug(JWT_UTIL, "Found a matching allowed api with name:" + apiConfig.name
+                    + " version:" + apiConfig.apiVersion);
+            }
+
+            //set throttling attribs if present
+            string? tier = subscription?.tier;
+            if (tier is string) {
+                authenticationContext.tier = tier;
+            }
+            string? publisher = subscription?.publisher;
+            if (publisher is string) {
+                authenticationContext.apiPublisher = publisher;
+            }
+            string? subscriberTenantDomain = subscription?.subscriberTenantDomain;
+            if (subscriberTenantDomain is string) {
+                authenticationContext.subscriberTenantDomain = subscriberTenantDomain;
             }
-            index += 1;
         }
     }
     if (isDebugEnabled) { 
@@ -130,7 +167,7 @@ public function handleSubscribedAPIs(string apiKeyToken, jwt:JwtPayload payload,
         + authenticationContext.subscriberTenantDomain);
     }
     invocationContext.attributes[AUTHENTICATION_CONTEXT] = authenticationContext;
-    return false;
+    return validated;
 }
 
 public function getDecodedJWTPayload(string jwtToken) returns @tainted (jwt:JwtPayload | error) {
@@ -23,14 +23,19 @@ boolean isTracingEnabled = getConfigBooleanValue(MICRO_GATEWAY_TRACING, ENABLED,
 boolean isMetricsEnabled = getConfigBooleanValue(MICRO_GATEWAY_METRICS, ENABLED, false);
 
 //metrics related methods
-public function initializeGauge(string name, string description, map<string> | () gaugeTags) returns observe:Gauge | () {
-    if (isMetricsEnabled == false) {
+# Returns the series of the metric for the tags, which records the latencies in a histogram of the gateway metrics
+# registry. The series is looked up by the service, resource, method and category of the tags.
+#
+# + name - Name of the metric.
+# + description - Description of the metric.
+# + gaugeTags - Tags of the series, or () if metrics are disabled.
+# + return - Returns the series of the metric, or () if metrics are disabled.
+public function initializeGauge(string name, string description, map<string> | () gaugeTags) returns handle | () {
+    if (isMetricsEnabled == false || gaugeTags is ()) {
         return ();
     }
 
-    observe:Gauge localGauge = new (name, description, gaugeTags);
-    registerGauge(localGauge);
-    return localGauge;
+    return getMetricSeries(name, description, gaugeTags);
 }
 
 public function setGaugeDuration(int starting) returns float | () {
@@ -43,18 +48,9 @@ public function setGaugeDuration(int starting) returns float | () {
     return (latency);
 }
 
-public function updateGauge(observe:Gauge | () localGauge, float | () latency) {
-    if (isMetricsEnabled) {
-        observe:Gauge gauge = <observe:Gauge>localGauge;
-        float gauge_latency = <float>latency;
-        gauge.setValue(gauge_latency);
-    }
-}
-
-public function registerGauge(observe:Gauge gauge) {
-    error? result = gauge.register();
-    if (result is error) {
-        log:printError("Error in registering Counter", err = result);
+public function updateGauge(handle | () localGauge, float | () latency) {
+    if (localGauge is handle && latency is float) {
+        recordMetricLatency(localGauge, latency);
     }
 }
 
@@ -63,7 +59,7 @@ public function gaugeTagDetails(http:Request request, http:FilterContext context
         return ();
     }
 
-    map<string> gaugeTags = {"Category": category, "Method": request.method, "ServicePath": request.rawPath, "Service": context.getServiceName()};
+    map<string> gaugeTags = {"Category": category, "Method": request.method, "Resource": context.getResourceName(), "Service": context.getServiceName()};
     return gaugeTags;
 }
 
@@ -72,8 +68,8 @@ public function gaugeTagDetailsFromContext(http:FilterContext context, string ca
         return ();
     }
     string requestMethod = runtime:getInvocationContext().attributes[REQUEST_METHOD].toString();
-    string requestRawPath = runtime:getInvocationContext().attributes[REQUEST_RAWPATH].toString();
-    map<string> gaugeTags = {"Category": category, "Method": requestMethod, "ServicePath": requestRawPath, "Service": context.getServiceName()};
+    string resourceName = runtime:getInvocationContext().attributes[RESOURCE_NAME_ATTR].toString();
+    map<string> gaugeTags = {"Category": category, "Method": requestMethod, "Resource": resourceName, "Service": context.getServiceName()};
     return gaugeTags;
 }
 
@@ -83,7 +79,8 @@ public function gaugeTagDetails_authn(http:Request request, string category) ret
     }
 
     string serviceName = runtime:getInvocationContext().attributes[http:SERVICE_NAME].toString();
-    map<string> gaugeTags = {"Category": category, "Method": request.method, "ServicePath": request.rawPath, "Service": serviceName};
+    string resourceName = runtime:getInvocationContext().attributes[RESOURCE_NAME_ATTR].toString();
+    map<string> gaugeTags = {"Category": category, "Method": request.method, "Resource": resourceName, "Service": serviceName};
     return gaugeTags;
 }
 
@@ -93,9 +90,9 @@ public function gaugeTagDetails_basicAuth(string category) returns map<string> |
     }
 
     string requestMethod = runtime:getInvocationContext().attributes[REQUEST_METHOD].toString();
-    string requestRawPath = runtime:getInvocationContext().attributes[REQUEST_RAWPATH].toString();
+    string resourceName = runtime:getInvocationContext().attributes[RESOURCE_NAME_ATTR].toString();
     string serviceName = runtime:getInvocationContext().attributes[http:SERVICE_NAME].toString();
-    map<string> gaugeTags = {"Category": category, "Method": requestMethod, "ServicePath": requestRawPath, "Service": serviceName};
+    map<string> gaugeTags = {"Category": category, "Method": requestMethod, "Resource": resourceName, "Service": serviceName};
     return gaugeTags;
 }
 
@@ -14,11 +14,13 @@
 // specific language governing permissions and limitations
 // under the License.
 
-import ballerina/time;
 import ballerina/stringutils;
 import ballerina/runtime;
 
-map<any> throttleDataMap = {};
+// throttle keys and key ids of the deployed APIs and resources, which are computed once on their first request
+map<string> apiThrottleKeys = {};
+map<int> apiThrottleKeyIds = {};
+map<map<int>> resourceThrottleKeyIds = {};
 stream<RequestStreamDTO> requestStream = new;
 stream<GlobalThrottleStreamDTO> globalThrottleStream = new;
 boolean isStreamsInitialized = false;
@@ -34,40 +36,21 @@ public function isAnyBlockConditionExist() returns (boolean) {
     return blockConditionExist;
 }
 
-//check whether throttle event is in the local map(request is throttled or not)
+//check whether the throttle key is throttled in the throttle decision cache
 public function isRequestThrottled(string key) returns [boolean, boolean] {
-    printDebug(KEY_THROTTLE_UTIL, "throttle data map : " + throttleDataMap.toString());
     printDebug(KEY_THROTTLE_UTIL, "throttle data key : " + key);
-    boolean isThrottled = throttleDataMap.hasKey(key);
-    if (isThrottled) {
-        GlobalThrottleStreamDTO dto = <GlobalThrottleStreamDTO>throttleDataMap[key];
-        boolean stopOnQuota = dto.stopOnQuota;
-        if (enabledGlobalTMEventPublishing == true) {
-            int currentTime = time:currentTime().time;
-            int? resetTimestamp = dto.resetTimestamp;
-            stopOnQuota = true;
-            if (resetTimestamp is int) {
-                if (resetTimestamp < currentTime) {
-                    var value = throttleDataMap.remove(key);
-                    return [false, stopOnQuota];
-                }
-            } else {
-                //if the resetTimestamp is not included, throttling is disabled
-                printDebug(KEY_THROTTLE_UTIL, "throttle event for the throttle key:" + key +
-                    "does not contain expiry timestamp.");
-                return [false, stopOnQuota];
-            }
-        }
-        return [isThrottled, stopOnQuota];
+    int decision = getThrottleDecision(key);
+    if (decision == THROTTLE_DECISION_NOT_THROTTLED) {
+        return [false, false];
     }
-    return [isThrottled, false];
+    // decisions of the traffic manager always stop on quota
+    return [true, enabledGlobalTMEventPublishing || decision == THROTTLE_DECISION_STOP_ON_QUOTA];
 }
 
 public function publishNonThrottleEvent(RequestStreamDTO throttleEvent) {
     //Publish throttle event to traffic manager
     if (enabledGlobalTMEventPublishing == true) {
-        future<()> publishedEvent = start publishThrottleEventToTrafficManager(throttleEvent);
-        printDebug(KEY_THROTTLE_UTIL, "Throttle out event is sent to the traffic manager.");
+        publishThrottleEventToTrafficManager(throttleEvent);
     }
     //Publish throttle event to internal policies
     else {
@@ -87,19 +70,26 @@ public function initializeThrottleSubscription() {
     }
 }
 
-// insert throttleevent into the map if it is throttled other wise remove the throttle key it from the throttledata map
+// insert the throttle decision into the cache if it is throttled other wise remove the throttle key from the cache
 public function onReceiveThrottleEvent(GlobalThrottleStreamDTO throttleEvent) {
     printDebug(KEY_THROTTLE_UTIL, "Event globalThrottleStream: throttleKey: " + throttleEvent.policyKey +
     " ,isThrottled:" + throttleEvent.isThrottled.toString());
-    if (throttleEvent.isThrottled) {
-        if (throttleEvent.policyKey.length() > 0) {
-            throttleDataMap[throttleEvent.policyKey] = throttleEvent;
-        }
+    if (throttleEvent.policyKey.length() == 0) {
+        return;
     }
-    else {
-        if (throttleEvent.policyKey.length() > 0) {
-            _ = throttleDataMap.remove(throttleEvent.policyKey);
-        }
+    int? resetTimestamp = throttleEvent.resetTimestamp;
+    if (!throttleEvent.isThrottled) {
+        removeThrottleDecision(throttleEvent.policyKey);
+    } else if (!enabledGlobalTMEventPublishing) {
+        // node local decisions hold until the key is released
+        putThrottleDecision(throttleEvent.policyKey, 'int:MAX_VALUE, throttleEvent.stopOnQuota);
+    } else if (resetTimestamp is int) {
+        putThrottleDecision(throttleEvent.policyKey, resetTimestamp, throttleEvent.stopOnQuota);
+    } else {
+        //if the resetTimestamp is not included, throttling is disabled
+        printDebug(KEY_THROTTLE_UTIL, "throttle event for the throttle key:" + throttleEvent.policyKey +
+            "does not contain expiry timestamp.");
+        removeThrottleDecision(throttleEvent.policyKey);
     }
 }
 
@@ -125,13 +115,6 @@ public function getEventFromThrottleData(ThrottleAnalyticsEventDTO dto) returns
     return eventDTO;
 }
 
-public function putThrottleData(GlobalThrottleStreamDTO throttleEvent, string throttleKey) {
-    throttleDataMap[throttleKey] = <@untainted>throttleEvent;
-}
-public function removeThrottleData(string key) {
-    _ = throttleDataMap.remove(key);
-}
-
 //check whether the throttle policy is available if in built throttling is used
 public function isPolicyExist(map<json> deployedPolicies, string policyName, string prefix) returns boolean {
     if (!enabledGlobalTMEventPublishing) {
@@ -142,11 +125,22 @@ public function isPolicyExist(map<json> deployedPolicies, string policyName, str
 
 public function getPolicyDetails(map<json> deployedPolicies, string policyName, string prefix) returns (map<json>) {
     if (stringutils:equalsIgnoreCase(policyName, UNLIMITED_TIER) || policyName.length() == 0) {
-        return { count : -1, unitTime :-1, timeUnit : "min", stopOnQuota : true };
+        return { count : -1, unitTime :-1, timeUnit : "min", stopOnQuota : true, algorithm : "" };
     }
     return <map<json>>deployedPolicies.get(prefix + policyName);
 }
 
+# Returns the name of the algorithm used to count requests against a node local throttle policy.
+#
+# + policyDetails - Details of the deployed throttle policy
+# + return - Algorithm name, or an empty string for the default fixed window algorithm
+public function getThrottleAlgorithm(map<json> policyDetails) returns string {
+    if (policyDetails.hasKey(THROTTLE_ALGORITHM)) {
+        return policyDetails.get(THROTTLE_ALGORITHM).toString();
+    }
+    return "";
+}
+
 public function getRequestStream() returns stream<RequestStreamDTO> {
     return requestStream;
 }
@@ -199,23 +193,22 @@ public function convertJsonToIpRange(map<json> ip) returns IPRangeDTO {
         tenantDomain : ip.tenantDomain.toString(),
         fixedIp : (ip[BLOCKING_CONDITION_FIXED_IP] != ())? ip.fixedIp.toString() : "",
         startingIp : (ip[BLOCKING_CONDITION_START_IP] != ())? ip.startingIp.toString() : "",
-        startingIpNumber: "",
         endingIp : (ip[BLOCKING_CONDITION_END_IP] != ())? ip.endingIp.toString() : "",
-        endingIpNumber: "",
         invert : <boolean>ip.invert,
         'type : ip.'type.toString()
     };
     return ipRange;
 }
 
+// stages the IP blocking condition in the native blocking index, which has to be rebuilt afterwards
 function addIpDataToBlockConditionTable(map<json> ip) {
     printDebug(KEY_THROTTLE_UTIL, "Retrived IP Blocking condition : " + ip.toJsonString());
     IPRangeDTO|error ipRange = trap convertJsonToIpRange(ip);
     if(ipRange is IPRangeDTO) {
-        modifyIpWithNumericRanges(ipRange);
-        var ret = IpBlockConditionsMap.add(ipRange);
-        if(ret is error) {
-            printError(KEY_THROTTLE_UTIL, "Error while adding IP or IP range blocking condition to the table.", ret);
+        if (!addIpBlockingCondition(ipRange)) {
+            printError(KEY_THROTTLE_UTIL, "Error while adding IP or IP range blocking condition with id : "
+                + ipRange.id.toString() + " to the blocking index.");
+            return;
         }
         blockConditionExist = true;
     } else {
@@ -224,25 +217,11 @@ function addIpDataToBlockConditionTable(map<json> ip) {
 }
 
 function removeIpDataFromBlockConditionTable(int id) {
-    int|error count = IpBlockConditionsMap.remove(function(IPRangeDTO ipRange) returns boolean {
-        return (ipRange.id == id);
-    });
-    if(count is int) {
+    if (removeIpBlockingCondition(id)) {
+        rebuildIpBlockingIndex();
         printDebug(KEY_THROTTLE_UTIL, "Removed the IP blocking condition with id : " + id.toString() + " from the map");
-        printDebug(KEY_THROTTLE_UTIL, "Number of items removed from the map : " + count.toString());
-    } else {
-        printError(KEY_THROTTLE_UTIL, "Error while removing blocking IP condition with id : " + id.toString(), count);
-    }
-
-}
-
-function modifyIpWithNumericRanges(IPRangeDTO ipRange) {
-    if(stringutils:equalsIgnoreCase(ipRange.'type, BLOCKING_CONDITION_IP_RANGE)) {
-        ipRange.startingIpNumber = ipToBigInteger(ipRange.startingIp);
-        ipRange.endingIpNumber = ipToBigInteger(ipRange.endingIp);
     } else {
-        ipRange.startingIpNumber = "";
-        ipRange.endingIpNumber  = "";
+        printDebug(KEY_THROTTLE_UTIL, "No IP blocking condition found with id : " + id.toString());
     }
 }
 
@@ -403,7 +403,22 @@ public function rotateFile(string filePath) returns string | error {
     //the data loss.
     string eventFilePath = filePath.substring(0, filePathLength - 4) ;
     int rotatingTimeStamp = getCurrentTime();
-    var renameFileResult = file:rename(filePath, eventFilePath);
+    string fileNameWithoutExtension = fileLocation + API_USAGE_FILE + "." + rotatingTimeStamp.toString() + "." +
+        uuid;
+    string zipName = fileNameWithoutExtension + ZIP_EXTENSION;
+    //When the events are compressed as they are written, the file is already the zip archive required by the
+    //analytics node. It is completed and moved to <zipName> by the analytics event writer.
+    if (isAnalyticsEventFileCompressed()) {
+        var rotateResult = rotateAnalyticsEventFile(filePath, zipName);
+        if (rotateResult is error) {
+            printError(KEY_UTILS, "Failed to rotate file", rotateResult);
+            return rotateResult;
+        }
+        printInfo(KEY_UTILS, "File rotated successfully");
+        return zipName;
+    }
+    // the file is moved by the analytics event writer, so that the events being written are not lost
+    var renameFileResult = rotateAnalyticsEventFile(filePath, eventFilePath);
     if (renameFileResult is error) {
         printError(KEY_UTILS, "Failed to rename file", renameFileResult);
     }
@@ -411,10 +426,7 @@ public function rotateFile(string filePath) returns string | error {
     //After the compression is completed successfully, the file will be renamed to <zipName>. Only the files
     //with .zip extension will be uploaded. Hence the partially compressed files will not be uploaded to the analytics
     //node.
-    string fileNameWithoutExtension = fileLocation + API_USAGE_FILE + "." + rotatingTimeStamp.toString() + "." +
-        uuid;
     string tempZipName = fileNameWithoutExtension + TMP_EXTENSION;
-    string zipName = fileNameWithoutExtension + ZIP_EXTENSION;
     var compressResult = compress(eventFilePath, tempZipName);
     if (compressResult is error) {
         printError(KEY_UTILS, "Failed to compress the file", compressResult);
@@ -774,7 +786,7 @@ public function initAuthHandlers() {
     //Initializes apikey handler
     jwt:JwtValidatorConfig apiKeyValidatorConfig = {
         issuer: getConfigValue(API_KEY_INSTANCE_ID, ISSUER, DEFAULT_API_KEY_ISSUER),
-        clockSkewInSeconds: 60,
+        clockSkewInSeconds: API_KEY_CLOCK_SKEW,
         trustStoreConfig: {
             trustStore: {
                 path: getConfigValue(LISTENER_CONF_INSTANCE_ID, TRUST_STORE_PATH,
@@ -833,9 +845,22 @@ public function initAuthHandlers() {
         cache: {enabled: false},
         secureSocket: secureSocket
     };
+    // the key validation calls get a bounded pool of their own, so that they do not wait for the connections of the
+    // other clients of the gateway
+    http:ClientConfiguration keyValidationClientConfig = {
+        auth: auth,
+        cache: {enabled: false},
+        secureSocket: secureSocket,
+        poolConfig: {
+            maxActiveConnections: getConfigIntValue(KM_CONF_INSTANCE_ID, KM_MAX_ACTIVE_CONNECTIONS,
+                DEFAULT_KM_MAX_ACTIVE_CONNECTIONS),
+            maxIdleConnections: getConfigIntValue(KM_CONF_INSTANCE_ID, KM_MAX_IDLE_CONNECTIONS,
+                DEFAULT_KM_MAX_IDLE_CONNECTIONS)
+        }
+    };
     oauth2:IntrospectionServerConfig keyValidationConfig = {
         url: getConfigValue(KM_CONF_INSTANCE_ID, KM_SERVER_URL, DEFAULT_KM_SERVER_URL),
-        clientConfig: clientConfig
+        clientConfig: keyValidationClientConfig
     };
     string introspectURL = getConfigValue(KM_CONF_INSTANCE_ID, KM_SERVER_URL, DEFAULT_KM_SERVER_URL);
     string keymanagerContext = getConfigValue(KM_CONF_INSTANCE_ID, KM_TOKEN_CONTEXT, DEFAULT_KM_TOKEN_CONTEXT);
@@ -20,6 +20,10 @@ boolean enableRequestValidation = getConfigBooleanValue(VALIDATION_CONFIG_INSTAN
     DEFAULT_REQUEST_VALIDATION_ENABLED);
 boolean enableResponseValidation = getConfigBooleanValue(VALIDATION_CONFIG_INSTANCE_ID, RESPONSE_VALIDATION_ENABLED,
     DEFAULT_RESPONSE_VALIDATION_ENABLED);  
+int maxRequestPayloadSize = getConfigIntValue(VALIDATION_CONFIG_INSTANCE_ID, MAX_REQUEST_PAYLOAD_SIZE,
+    DEFAULT_MAX_REQUEST_PAYLOAD_SIZE);
+boolean enableAsyncResponseValidation = getConfigBooleanValue(VALIDATION_CONFIG_INSTANCE_ID,
+    ASYNC_RESPONSE_VALIDATION_ENABLED, DEFAULT_ASYNC_RESPONSE_VALIDATION_ENABLED);
 
 function getRequestPathFromFilterContext(http:FilterContext filterContext) returns string {
     any path = filterContext.attributes[REQUEST_PATH];
@@ -0,0 +1,609 @@
+/*
+ *  Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+
+package org.wso2.micro.gateway.core.analytics;
+
+import org.ballerinalang.jvm.scheduling.Scheduler;
+import org.ballerinalang.jvm.values.connector.NonBlockingCallback;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.wso2.micro.gateway.core.utils.ErrorUtils;
+import org.wso2.micro.gateway.core.utils.MBeanUtils;
+
+import java.io.BufferedInputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.CharsetEncoder;
+import java.nio.charset.CoderResult;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.LockSupport;
+import java.util.zip.Deflater;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipException;
+import java.util.zip.ZipInputStream;
+import java.util.zip.ZipOutputStream;
+
+/**
+ * Appends the analytics events of the gateway to the usage data file. The request threads add the events to a lock
+ * free queue, from which a single writer thread encodes them into a direct buffer. The buffer is written to the file,
+ * which is kept open, once it is full or the oldest event in it has waited for the flush interval.
+ * <p>
+ * The file is rotated by the writer thread as well. The buffered events are written to the rotated file and the
+ * events taken from the queue afterwards to a new file, so that no event is lost in between.
+ * <p>
+ * With the zip format, the events are compressed as they are written, into a zip archive holding a single entry
+ * named after the usage data file without the {@code .tmp} extension, which is the archive the analytics node
+ * expects. Rotating the file then only completes the archive and moves it, without reading the events back.
+ */
+public class AnalyticsEventWriter implements AnalyticsEventWriterMXBean, Runnable {
+
+    private static final Logger log = LoggerFactory.getLogger("ballerina");
+
+    // events encoded between the checks for a rotation or a flush which is due
+    private static final int DRAIN_BATCH_SIZE = 1024;
+    private static final long IDLE_WAIT_NANOS = TimeUnit.SECONDS.toNanos(1);
+    private static final long SHUTDOWN_TIMEOUT_MILLIS = 5000;
+    private static final String ZIP_FORMAT = "zip";
+    private static final String NO_COMPRESSION = "none";
+    private static final String TMP_EXTENSION = ".tmp";
+    private static final String RECOVERY_EXTENSION = ".recovery";
+    private static final int ZIP_SIGNATURE_LENGTH = 4;
+    private static final byte[] ZIP_SIGNATURE = {'P', 'K', 3, 4};
+
+    private static volatile AnalyticsEventWriter instance;
+
+    private final Path filePath;
+    private final Queue<String> events = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger queuedEvents = new AtomicInteger();
+    private final int maxQueuedEvents;
+    private final ByteBuffer buffer;
+    private final CharsetEncoder encoder = StandardCharsets.UTF_8.newEncoder();
+    private final long flushIntervalNanos;
+    private final AtomicReference<Rotation> pendingRotation = new AtomicReference<>();
+    private final boolean compressed;
+    private final int compressionLevel;
+    private final String entryName;
+    // heap copy of the buffer, as the deflater only takes arrays
+    private final byte[] transferBuffer;
+
+    private final AtomicLong writtenEvents = new AtomicLong();
+    private final AtomicLong writtenBytes = new AtomicLong();
+    private final AtomicLong droppedEvents = new AtomicLong();
+    private final AtomicLong flushes = new AtomicLong();
+    private final AtomicLong rotations = new AtomicLong();
+    private volatile long lastFlushLatency;
+    private volatile long maxFlushLatency;
+
+    private volatile Thread writerThread;
+    private volatile boolean parked;
+    private volatile boolean stopped;
+    private FileChannel channel;
+    private ZipOutputStream zipStream;
+    private int bufferedEvents;
+    private long bufferedSince;
+
+    AnalyticsEventWriter(Path filePath, int bufferSize, long flushIntervalMillis, int maxQueuedEvents,
+            boolean compressed, int compressionLevel) {
+        this.filePath = filePath;
+        this.buffer = ByteBuffer.allocateDirect(Math.max(bufferSize, 1024));
+        this.flushIntervalNanos = TimeUnit.MILLISECONDS.toNanos(Math.max(flushIntervalMillis, 0));
+        this.maxQueuedEvents = Math.max(maxQueuedEvents, 1);
+        this.compressed = compressed;
+        this.compressionLevel = compressionLevel;
+        String fileName = String.valueOf(filePath.getFileName());
+        this.entryName = fileName.endsWith(TMP_EXTENSION) ?
+                fileName.substring(0, fileName.length() - TMP_EXTENSION.length()) : fileName;
+        this.transferBuffer = new byte[buffer.capacity()];
+    }
+
+    /**
+     * Starts the writer thread. Subsequent calls have no effect.
+     *
+     * @param filePath            path of the usage data file the events are appended to
+     * @param bufferSize          size in bytes of the buffer written to the file at once
+     * @param flushIntervalMillis maximum time in milliseconds an event waits in the buffer before it is written
+     * @param maxQueuedEvents     maximum number of events waiting to be written. Events are dropped when the queue
+     *                            is full
+     * @param compressionFormat   {@code zip} to compress the events as they are written, or {@code none} to write
+     *                            them as they are. Any other format falls back to zip
+     * @param compressionLevel    deflate level from 0 to 9 of the zip format, or -1 for the default level
+     */
+    public static synchronized void initAnalyticsEventWriter(String filePath, int bufferSize,
+            long flushIntervalMillis, int maxQueuedEvents, String compressionFormat, int compressionLevel) {
+        if (instance != null) {
+            return;
+        }
+        String format = compressionFormat == null ? ZIP_FORMAT : compressionFormat.trim().toLowerCase(Locale.ENGLISH);
+        if (!ZIP_FORMAT.equals(format) && !NO_COMPRESSION.equals(format)) {
+            log.warn("Unsupported analytics compression format " + compressionFormat + ", falling back to "
+                    + ZIP_FORMAT);
+            format = ZIP_FORMAT;
+        }
+        int level = compressionLevel;
+        if (level < Deflater.DEFAULT_COMPRESSION || level > Deflater.BEST_COMPRESSION) {
+            log.warn("Invalid analytics compression level " + compressionLevel + ", using the default level");
+            level = Deflater.DEFAULT_COMPRESSION;
+        }
+        AnalyticsEventWriter writer = new AnalyticsEventWriter(Paths.get(filePath).toAbsolutePath(), bufferSize,
+                flushIntervalMillis, maxQueuedEvents, ZIP_FORMAT.equals(format), level);
+        writer.start();
+        // the buffered events are written to the file when the gateway is shut down
+        Runtime.getRuntime().addShutdownHook(new Thread(writer::stop));
+        MBeanUtils.registerMBean(writer, "AnalyticsEventWriter", null);
+        instance = writer;
+    }
+
+    void start() {
+        Thread thread = new Thread(this);
+        thread.setName("Analytics Event Writer");
+        thread.setDaemon(true);
+        writerThread = thread;
+        thread.start();
+    }
+
+    /**
+     * Returns whether the usage data file is written as a zip archive, which is uploaded to the analytics node as it
+     * is once rotated.
+     */
+    public static boolean isCompressed() {
+        AnalyticsEventWriter writer = instance;
+        return writer != null && writer.compressed;
+    }
+
+    /**
+     * Queues the event to be appended to the usage data file.
+     *
+     * @param event event in the format of the usage data file, including the line separator
+     * @return false if the event was dropped
+     */
+    public static boolean writeEvent(String event) {
+        AnalyticsEventWriter writer = instance;
+        return writer != null && writer.write(event);
+    }
+
+    boolean write(String event) {
+        if (queuedEvents.incrementAndGet() > maxQueuedEvents) {
+            queuedEvents.decrementAndGet();
+            droppedEvents.incrementAndGet();
+            return false;
+        }
+        events.offer(event);
+        if (parked) {
+            LockSupport.unpark(writerThread);
+        }
+        return true;
+    }
+
+    /**
+     * Moves the usage data file to the given path. If the events are written to the file by the writer, the buffered
+     * events are written to the file before it is moved and the events written afterwards go to a new file. A zip
+     * archive written by the writer is completed before it is moved. The strand waits for the writer thread to rotate
+     * the file without blocking its scheduler thread, and is resumed with the result of the rotation.
+     *
+     * @param sourcePath path of the usage data file
+     * @param targetPath path to move the file to
+     * @return null, or an error if the file could not be moved
+     */
+    public static Object rotateFile(String sourcePath, String targetPath) {
+        AnalyticsEventWriter writer = instance;
+        Path source = Paths.get(sourcePath).toAbsolutePath();
+        Path target = Paths.get(targetPath).toAbsolutePath();
+        if (writer == null || !writer.filePath.equals(source)) {
+            try {
+                move(source, target);
+                return null;
+            } catch (IOException e) {
+                return ErrorUtils.getBallerinaError("Error while rotating the file " + sourcePath, e);
+            }
+        }
+        NonBlockingCallback callback = new NonBlockingCallback(Scheduler.getStrand());
+        writer.rotate(target).whenComplete((result, error) -> {
+            callback.setReturnValues(error == null ? null
+                    : ErrorUtils.getBallerinaError("Error while rotating the file " + sourcePath, error));
+            callback.notifySuccess();
+        });
+        return null;
+    }
+
+    /**
+     * Hands the rotation over to the writer thread.
+     *
+     * @return future completed once the file is moved, or exceptionally if it could not be moved
+     */
+    CompletableFuture<Void> rotate(Path target) {
+        Rotation rotation = new Rotation(target);
+        if (stopped) {
+            rotation.result.completeExceptionally(new IOException("The analytics event writer is stopped"));
+        } else if (!pendingRotation.compareAndSet(null, rotation)) {
+            rotation.result.completeExceptionally(new IOException("Rotation of the file is already in progress"));
+        } else if (stopped && pendingRotation.compareAndSet(rotation, null)) {
+            // the writer thread may have exited before the rotation was handed over
+            rotation.result.completeExceptionally(new IOException("The analytics event writer is stopped"));
+        } else {
+            LockSupport.unpark(writerThread);
+        }
+        return rotation.result;
+    }
+
+    void stop() {
+        stopped = true;
+        LockSupport.unpark(writerThread);
+        try {
+            writerThread.join(SHUTDOWN_TIMEOUT_MILLIS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    @Override
+    public void run() {
+        while (true) {
+            try {
+                Rotation rotation = pendingRotation.getAndSet(null);
+                if (rotation != null) {
+                    completeRotation(rotation);
+                }
+                boolean drained = drain(DRAIN_BATCH_SIZE);
+                if (bufferedEvents > 0 && System.nanoTime() - bufferedSince >= flushIntervalNanos) {
+                    flush();
+                }
+                if (stopped && events.isEmpty()) {
+                    // a rotation requested while stopping is completed before the writer exits
+                    rotation = pendingRotation.getAndSet(null);
+                    if (rotation != null) {
+                        completeRotation(rotation);
+                    }
+                    flush();
+                    try {
+                        sealSegment();
+                    } catch (IOException e) {
+                        log.error("Error while completing " + filePath, e);
+                    }
+                    closeChannel();
+                    return;
+                }
+                if (!drained) {
+                    waitForEvents();
+                }
+            } catch (RuntimeException e) {
+                // an exception must not stop the writer thread
+                log.error("Error while writing analytics events", e);
+            }
+        }
+    }
+
+    private void waitForEvents() {
+        long waitNanos = bufferedEvents > 0 ? bufferedSince + flushIntervalNanos - System.nanoTime()
+                : IDLE_WAIT_NANOS;
+        parked = true;
+        if (events.isEmpty() && pendingRotation.get() == null && !stopped && waitNanos > 0) {
+            LockSupport.parkNanos(this, waitNanos);
+        }
+        parked = false;
+    }
+
+    /**
+     * Encodes up to the given number of queued events into the buffer, writing the buffer to the file whenever it is
+     * full.
+     *
+     * @return true if any event was taken from the queue
+     */
+    private boolean drain(int maxEvents) {
+        boolean drained = false;
+        String event;
+        for (int i = 0; i < maxEvents && (event = events.poll()) != null; i++) {
+            queuedEvents.decrementAndGet();
+            drained = true;
+            if (bufferedEvents == 0) {
+                bufferedSince = System.nanoTime();
+            }
+            encode(event);
+            bufferedEvents++;
+        }
+        return drained;
+    }
+
+    private void encode(String event) {
+        CharBuffer chars = CharBuffer.wrap(event);
+        encoder.reset();
+        while (true) {
+            CoderResult result = encoder.encode(chars, buffer, true);
+            if (result.isOverflow()) {
+                writeBuffer();
+                continue;
+            }
+            result = encoder.flush(buffer);
+            if (result.isOverflow()) {
+                writeBuffer();
+                continue;
+            }
+            return;
+        }
+    }
+
+    /**
+     * Writes the buffered events to the file.
+     */
+    private void flush() {
+        if (bufferedEvents == 0 && buffer.position() == 0) {
+            return;
+        }
+        long startTime = System.nanoTime();
+        if (writeBuffer()) {
+            writtenEvents.addAndGet(bufferedEvents);
+        } else {
+            droppedEvents.addAndGet(bufferedEvents);
+        }
+        bufferedEvents = 0;
+        flushes.incrementAndGet();
+        long latency = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startTime);
+        lastFlushLatency = latency;
+        if (latency > maxFlushLatency) {
+            maxFlushLatency = latency;
+        }
+    }
+
+    /**
+     * Writes the content of the buffer to the file and clears the buffer. The content is discarded if it could not
+     * be written, and the file is opened again for the next write.
+     *
+     * @return true if the content was written
+     */
+    private boolean writeBuffer() {
+        buffer.flip();
+        try {
+            if (channel == null) {
+                openSegment();
+            }
+            if (zipStream != null) {
+                int length = buffer.remaining();
+                buffer.get(transferBuffer, 0, length);
+                zipStream.write(transferBuffer, 0, length);
+                writtenBytes.addAndGet(length);
+                return true;
+            }
+            while (buffer.hasRemaining()) {
+                writtenBytes.addAndGet(channel.write(buffer));
+            }
+            return true;
+        } catch (IOException e) {
+            log.error("Error while writing analytics events to " + filePath, e);
+            closeChannel();
+            return false;
+        } finally {
+            buffer.clear();
+        }
+    }
+
+    private void openSegment() throws IOException {
+        Path parent = filePath.getParent();
+        if (parent != null) {
+            Files.createDirectories(parent);
+        }
+        Path recoveryPath = null;
+        // a zip archive left behind by a previous run or a failed write can not be appended to, nor can events be
+        // appended to a zip archive written before the compression was disabled
+        if (Files.exists(filePath) && (compressed || isZipArchive(filePath))) {
+            recoveryPath = filePath.resolveSibling(filePath.getFileName() + "." + System.currentTimeMillis()
+                    + RECOVERY_EXTENSION);
+            move(filePath, recoveryPath);
+        }
+        channel = FileChannel.open(filePath, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.APPEND);
+        if (compressed) {
+            zipStream = new ZipOutputStream(Channels.newOutputStream(channel));
+            zipStream.setLevel(compressionLevel);
+            zipStream.putNextEntry(new ZipEntry(entryName));
+        }
+        if (recoveryPath != null) {
+            recover(recoveryPath);
+        }
+    }
+
+    /**
+     * Copies the events of the file left behind into the file being written, and removes it. The events of an
+     * incomplete zip archive are copied up to where the archive is cut off.
+     */
+    private void recover(Path recoveryPath) throws IOException {
+        OutputStream out = zipStream != null ? zipStream : Channels.newOutputStream(channel);
+        try (InputStream in = new BufferedInputStream(Files.newInputStream(recoveryPath))) {
+            if (isZipArchive(recoveryPath)) {
+                ZipInputStream zipIn = new ZipInputStream(in);
+                try {
+                    while (zipIn.getNextEntry() != null) {
+                        copyEvents(zipIn, out);
+                    }
+                } catch (EOFException | ZipException e) {
+                    log.warn("Analytics events file " + recoveryPath + " is incomplete, recovered the events up to "
+                            + "where it is cut off");
+                }
+            } else {
+                copyEvents(in, out);
+            }
+        }
+        Files.delete(recoveryPath);
+        log.info("Recovered the analytics events of " + recoveryPath);
+    }
+
+    /**
+     * Copies the complete lines of the stream, dropping an event which is cut off at the end.
+     */
+    private void copyEvents(InputStream in, OutputStream out) throws IOException {
+        int held = 0;
+        int read;
+        while ((read = in.read(transferBuffer, held, transferBuffer.length - held)) != -1) {
+            int end = held + read;
+            int lineEnd = end;
+            while (lineEnd > 0 && transferBuffer[lineEnd - 1] != '\n') {
+                lineEnd--;
+            }
+            if (lineEnd == 0 && end == transferBuffer.length) {
+                // a line longer than the buffer is copied as it is
+                lineEnd = end;
+            }
+            out.write(transferBuffer, 0, lineEnd);
+            held = end - lineEnd;
+            System.arraycopy(transferBuffer, lineEnd, transferBuffer, 0, held);
+        }
+    }
+
+    private static boolean isZipArchive(Path path) throws IOException {
+        byte[] signature = new byte[ZIP_SIGNATURE_LENGTH];
+        try (InputStream in = Files.newInputStream(path)) {
+            int length = 0;
+            int read;
+            while (length < signature.length && (read = in.read(signature, length, signature.length - length)) > 0) {
+                length += read;
+            }
+            return length == signature.length && Arrays.equals(signature, ZIP_SIGNATURE);
+        }
+    }
+
+    /**
+     * Completes the zip archive being written, so that the file can be moved without reading it back.
+     */
+    private void sealSegment() throws IOException {
+        if (zipStream == null) {
+            return;
+        }
+        zipStream.closeEntry();
+        zipStream.finish();
+    }
+
+    private void completeRotation(Rotation rotation) {
+        // the events still in the queue are written to the new file, so that the rotation does not wait for them
+        flush();
+        boolean sealed = channel != null;
+        try {
+            sealSegment();
+        } catch (IOException e) {
+            // the incomplete archive is recovered into the next file
+            closeChannel();
+            rotation.result.completeExceptionally(e);
+            return;
+        }
+        closeChannel();
+        try {
+            if (Files.exists(filePath)) {
+                if (!sealed) {
+                    // a file left behind by a previous run or a failed write may be a plain file or an incomplete
+                    // archive, which is recovered into a complete one before it is moved
+                    openSegment();
+                    sealSegment();
+                    closeChannel();
+                }
+                move(filePath, rotation.target);
+            }
+            rotations.incrementAndGet();
+            rotation.result.complete(null);
+        } catch (IOException e) {
+            closeChannel();
+            rotation.result.completeExceptionally(e);
+        }
+    }
+
+    private void closeChannel() {
+        zipStream = null;
+        if (channel == null) {
+            return;
+        }
+        try {
+            channel.close();
+        } catch (IOException e) {
+            log.error("Error while closing " + filePath, e);
+        }
+        channel = null;
+    }
+
+    private static void move(Path source, Path target) throws IOException {
+        try {
+            Files.move(source, target, StandardCopyOption.ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(source, target, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    @Override
+    public int getQueuedEvents() {
+        return queuedEvents.get();
+    }
+
+    @Override
+    public long getWrittenEvents() {
+        return writtenEvents.get();
+    }
+
+    @Override
+    public long getWrittenBytes() {
+        return writtenBytes.get();
+    }
+
+    @Override
+    public long getDroppedEvents() {
+        return droppedEvents.get();
+    }
+
+    @Override
+    public long getFlushes() {
+        return flushes.get();
+    }
+
+    @Override
+    public long getRotations() {
+        return rotations.get();
+    }
+
+    @Override
+    public long getLastFlushLatencyMillis() {
+        return lastFlushLatency;
+    }
+
+    @Override
+    public long getMaxFlushLatencyMillis() {
+        return maxFlushLatency;
+    }
+
+    private static final class Rotation {
+        private final Path target;
+        private final CompletableFuture<Void> result = new CompletableFuture<>();
+
+        private Rotation(Path target) {
+            this.target = target;
+        }
+    }
+}
@@ -0,0 +1,46 @@
+/*
+ *  Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+
+package org.wso2.micro.gateway.core.analytics;
+
+/**
+ * Management interface exposing the state of the writer of the analytics events to the usage data file.
+ */
+public interface AnalyticsEventWriterMXBean {
+
+    int getQueuedEvents();
+
+    long getWrittenEvents();
+
+    /**
+     * Returns the number of bytes of the events written to the file, before they are compressed.
+     */
+    long getWrittenBytes();
+
+    /**
+     * Returns the number of events dropped as the queue was full or they could not be written to the file.
+     */
+    long getDroppedEvents();
+
+    long getFlushes();
+
+    long getRotations();
+
+    long getLastFlushLatencyMillis();
+
+    long getMaxFlushLatencyMillis();
+}
@@ -0,0 +1,462 @@
+/*
+ *  Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+
+package org.wso2.micro.gateway.core.analytics;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.wso2.micro.gateway.core.utils.MBeanUtils;
+import org.wso2.micro.gateway.core.utils.SslUtils;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.HttpURLConnection;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.PriorityBlockingQueue;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import javax.net.ssl.HttpsURLConnection;
+import javax.net.ssl.SSLSocketFactory;
+
+/**
+ * Uploads the rotated usage data archives to the analytics node. Each scan of the usage data directory queues the
+ * archives which are not being uploaded yet, oldest first, and a bounded pool of uploader threads sends them as
+ * multipart requests streamed from the disk. An archive is removed once the analytics node accepts it.
+ * <p>
+ * A failed upload is retried with an exponential backoff up to the maximum number of retries, without holding up
+ * the other archives. An archive which is still not uploaded is kept on the disk and queued again by the next scan.
+ * When the archives exceed the maximum size of the directory, the oldest ones are dropped or moved to the archive
+ * directory.
+ */
+public class AnalyticsFileUploader implements AnalyticsFileUploaderMXBean {
+
+    private static final Logger log = LoggerFactory.getLogger("ballerina");
+
+    private static final String ZIP_FILES = "*.zip";
+    private static final String ARCHIVE_DIRECTORY = "archive";
+    private static final String ARCHIVE_ACTION = "archive";
+    private static final String CRLF = "\r\n";
+    private static final int CONNECT_TIMEOUT_MILLIS = 10000;
+    private static final int READ_TIMEOUT_MILLIS = 60000;
+    private static final long INITIAL_RETRY_DELAY_MILLIS = 1000;
+    private static final long MAX_RETRY_DELAY_MILLIS = 60000;
+
+    private static volatile AnalyticsFileUploader instance;
+
+    private final Path directory;
+    private final URL endpoint;
+    private final String authorizationHeader;
+    private final SSLSocketFactory sslSocketFactory;
+    private final boolean verifyHostname;
+    private final int maxRetries;
+    private final long maxDirectorySize;
+    private final boolean archiveOverflow;
+    private final BlockingQueue<Upload> pendingUploads = new PriorityBlockingQueue<>();
+    // archives which are queued, being uploaded or waiting to be retried
+    private final Map<Path, Upload> uploads = new ConcurrentHashMap<>();
+    private final ScheduledExecutorService retryScheduler;
+
+    private final AtomicInteger inFlightUploads = new AtomicInteger();
+    private final AtomicLong uploadedFiles = new AtomicLong();
+    private final AtomicLong uploadedBytes = new AtomicLong();
+    private final AtomicLong uploadTimeNanos = new AtomicLong();
+    private final AtomicLong failedUploads = new AtomicLong();
+    private final AtomicLong retries = new AtomicLong();
+    private final AtomicLong droppedFiles = new AtomicLong();
+    private final AtomicLong archivedFiles = new AtomicLong();
+    private volatile long backlogBytes;
+    private volatile long lastUploadLatency;
+    private volatile long maxUploadLatency;
+
+    private AnalyticsFileUploader(Path directory, URL endpoint, String authorizationHeader,
+            SSLSocketFactory sslSocketFactory, boolean verifyHostname, int maxRetries, long maxDirectorySize,
+            boolean archiveOverflow) {
+        this.directory = directory;
+        this.endpoint = endpoint;
+        this.authorizationHeader = authorizationHeader;
+        this.sslSocketFactory = sslSocketFactory;
+        this.verifyHostname = verifyHostname;
+        this.maxRetries = Math.max(maxRetries, 0);
+        this.maxDirectorySize = maxDirectorySize;
+        this.archiveOverflow = archiveOverflow;
+        this.retryScheduler = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread t = new Thread(r);
+            t.setName("Analytics File Upload Retry Task");
+            t.setDaemon(true);
+            return t;
+        });
+    }
+
+    /**
+     * Starts the uploader threads. Subsequent calls have no effect.
+     *
+     * @param directoryPath          usage data directory holding the archives to upload
+     * @param endpointUrl            file upload endpoint of the analytics node
+     * @param authorizationHeader    value of the authorization header sent with each upload
+     * @param trustStorePath         trust store used to verify the analytics node
+     * @param trustStorePassword     password of the trust store
+     * @param verifyHostname         whether the host name of the analytics node is verified
+     * @param maxConcurrentUploads   maximum number of archives uploaded at once
+     * @param maxRetries             maximum number of retries of a failed upload before the archive is left for the
+     *                               next scan
+     * @param maxDirectorySizeInMB   maximum size in MB of the archives in the directory, or 0 for no limit
+     * @param overflowAction         {@code archive} to move the oldest archives above the maximum size to the archive
+     *                               directory, or {@code drop} to delete them
+     */
+    public static synchronized void initAnalyticsFileUploader(String directoryPath, String endpointUrl,
+            String authorizationHeader, String trustStorePath, String trustStorePassword, boolean verifyHostname,
+            int maxConcurrentUploads, int maxRetries, long maxDirectorySizeInMB, String overflowAction) {
+        if (instance != null) {
+            return;
+        }
+        URL endpoint;
+        try {
+            endpoint = new URL(endpointUrl);
+        } catch (IOException e) {
+            log.error("Invalid analytics file upload endpoint URL " + endpointUrl, e);
+            return;
+        }
+        AnalyticsFileUploader uploader = new AnalyticsFileUploader(Paths.get(directoryPath).toAbsolutePath(),
+                endpoint, authorizationHeader,
+                SslUtils.createSslSocketFactory(trustStorePath, trustStorePassword, "analytics"), verifyHostname,
+                maxRetries, Math.max(maxDirectorySizeInMB, 0) * 1024 * 1024, ARCHIVE_ACTION.equals(overflowAction));
+        for (int i = 0; i < Math.max(maxConcurrentUploads, 1); i++) {
+            Thread worker = new Thread(uploader::uploadPendingFiles);
+            worker.setName("Analytics File Uploader-" + i);
+            worker.setDaemon(true);
+            worker.start();
+        }
+        MBeanUtils.registerMBean(uploader, "AnalyticsFileUploader", null);
+        instance = uploader;
+    }
+
+    /**
+     * Scans the usage data directory and queues the archives which are not being uploaded yet.
+     *
+     * @return number of archives waiting to be uploaded, or -1 if the uploader is not started
+     */
+    public static int scheduleUploads() {
+        AnalyticsFileUploader uploader = instance;
+        if (uploader == null) {
+            return -1;
+        }
+        try {
+            uploader.scan();
+        } catch (IOException e) {
+            log.error("Error while scanning the usage data directory " + uploader.directory, e);
+        }
+        return uploader.uploads.size();
+    }
+
+    private synchronized void scan() throws IOException {
+        if (!Files.isDirectory(directory)) {
+            return;
+        }
+        List<Upload> files = new ArrayList<>();
+        try (DirectoryStream<Path> stream = Files.newDirectoryStream(directory, ZIP_FILES)) {
+            for (Path path : stream) {
+                try {
+                    Upload upload = uploads.get(path);
+                    files.add(upload != null ? upload
+                            : new Upload(path, Files.getLastModifiedTime(path).toMillis(), Files.size(path)));
+                } catch (NoSuchFileException e) {
+                    // uploaded while scanning
+                }
+            }
+        }
+        files.sort(null);
+        long totalSize = 0;
+        for (Upload upload : files) {
+            totalSize += upload.size;
+        }
+        int index = 0;
+        while (maxDirectorySize > 0 && totalSize > maxDirectorySize && index < files.size()) {
+            Upload oldest = files.get(index++);
+            if (!oldest.inFlight && discard(oldest)) {
+                totalSize -= oldest.size;
+            }
+        }
+        backlogBytes = totalSize;
+        for (int i = index; i < files.size(); i++) {
+            Upload upload = files.get(i);
+            if (uploads.putIfAbsent(upload.path, upload) == null) {
+                pendingUploads.offer(upload);
+            }
+        }
+    }
+
+    /**
+     * Drops the archive or moves it to the archive directory, so that it is no longer uploaded.
+     *
+     * @return true if the archive was removed from the directory
+     */
+    private boolean discard(Upload upload) {
+        upload.discarded = true;
+        pendingUploads.remove(upload);
+        uploads.remove(upload.path, upload);
+        try {
+            if (archiveOverflow) {
+                Path archiveDirectory = Files.createDirectories(directory.resolve(ARCHIVE_DIRECTORY));
+                Path target = archiveDirectory.resolve(upload.path.getFileName());
+                try {
+                    Files.move(upload.path, target, StandardCopyOption.ATOMIC_MOVE);
+                } catch (AtomicMoveNotSupportedException e) {
+                    Files.move(upload.path, target, StandardCopyOption.REPLACE_EXISTING);
+                }
+                archivedFiles.incrementAndGet();
+                log.warn("Usage data directory exceeds the maximum size, moved " + upload.path + " to " + target);
+            } else {
+                Files.deleteIfExists(upload.path);
+                droppedFiles.incrementAndGet();
+                log.warn("Usage data directory exceeds the maximum size, dropped " + upload.path);
+            }
+            return true;
+        } catch (IOException e) {
+            log.error("Error while removing " + upload.path + " from the usage data directory", e);
+            return false;
+        }
+    }
+
+    private void uploadPendingFiles() {
+        while (!Thread.currentThread().isInterrupted()) {
+            try {
+                Upload upload = pendingUploads.take();
+                if (!upload.discarded) {
+                    upload(upload);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } catch (RuntimeException e) {
+                // an exception must not stop the uploader thread
+                log.error("Error while uploading analytics files", e);
+            }
+        }
+    }
+
+    private void upload(Upload upload) {
+        upload.inFlight = true;
+        inFlightUploads.incrementAndGet();
+        long startTime = System.nanoTime();
+        boolean retryable;
+        try {
+            int statusCode = post(upload.path);
+            if (statusCode >= 200 && statusCode < 300) {
+                Files.deleteIfExists(upload.path);
+                uploads.remove(upload.path, upload);
+                long latency = System.nanoTime() - startTime;
+                uploadedFiles.incrementAndGet();
+                uploadedBytes.addAndGet(upload.size);
+                uploadTimeNanos.addAndGet(latency);
+                recordUploadLatency(latency);
+                log.info("Successfully uploaded the file: " + upload.path.getFileName());
+                return;
+            }
+            log.error("Error occurred while uploading the file " + upload.path.getFileName()
+                    + ". Upload request returned with status code : " + statusCode);
+            // client errors will not be resolved by sending the same file again
+            retryable = statusCode >= 500;
+        } catch (NoSuchFileException e) {
+            // the file was removed from the directory while it was queued
+            uploads.remove(upload.path, upload);
+            return;
+        } catch (IOException e) {
+            log.error("Error occurred while uploading the file " + upload.path.getFileName(), e);
+            retryable = true;
+        } finally {
+            upload.inFlight = false;
+            inFlightUploads.decrementAndGet();
+        }
+        if (retryable && upload.attempts < maxRetries) {
+            long delay = Math.min(INITIAL_RETRY_DELAY_MILLIS << Math.min(upload.attempts, 16), MAX_RETRY_DELAY_MILLIS);
+            upload.attempts++;
+            retries.incrementAndGet();
+            retryScheduler.schedule(() -> {
+                if (!upload.discarded) {
+                    pendingUploads.offer(upload);
+                }
+            }, delay, TimeUnit.MILLISECONDS);
+            return;
+        }
+        // the file is kept and queued again by the next scan
+        failedUploads.incrementAndGet();
+        uploads.remove(upload.path, upload);
+    }
+
+    /**
+     * Sends the file as a multipart form, streaming it from the disk.
+     *
+     * @return status code of the response
+     */
+    private int post(Path path) throws IOException {
+        String fileName = String.valueOf(path.getFileName());
+        long size = Files.size(path);
+        String boundary = UUID.randomUUID().toString();
+        byte[] head = ("--" + boundary + CRLF
+                + "Content-Disposition: form-data; name=\"file\"; filename=\"" + fileName + "\"" + CRLF
+                + "Content-Type: application/octet-stream" + CRLF + CRLF).getBytes(StandardCharsets.UTF_8);
+        byte[] tail = (CRLF + "--" + boundary + "--" + CRLF).getBytes(StandardCharsets.UTF_8);
+
+        HttpURLConnection connection = (HttpURLConnection) endpoint.openConnection();
+        if (connection instanceof HttpsURLConnection) {
+            HttpsURLConnection httpsConnection = (HttpsURLConnection) connection;
+            if (sslSocketFactory != null) {
+                httpsConnection.setSSLSocketFactory(sslSocketFactory);
+            }
+            if (!verifyHostname) {
+                httpsConnection.setHostnameVerifier((hostname, session) -> true);
+            }
+        }
+        connection.setConnectTimeout(CONNECT_TIMEOUT_MILLIS);
+        connection.setReadTimeout(READ_TIMEOUT_MILLIS);
+        connection.setRequestMethod("POST");
+        connection.setDoOutput(true);
+        connection.setFixedLengthStreamingMode(head.length + size + tail.length);
+        connection.setRequestProperty("Authorization", authorizationHeader);
+        connection.setRequestProperty("FileName", fileName);
+        connection.setRequestProperty("Accept", "application/json");
+        connection.setRequestProperty("Content-Type", "multipart/form-data; boundary=" + boundary);
+        try (OutputStream outputStream = connection.getOutputStream()) {
+            outputStream.write(head);
+            Files.copy(path, outputStream);
+            outputStream.write(tail);
+        }
+        int statusCode = connection.getResponseCode();
+        // the response is read fully so that the connection can be reused for the next upload
+        try (InputStream inputStream = statusCode < 400 ? connection.getInputStream() : connection.getErrorStream()) {
+            if (inputStream != null) {
+                byte[] buffer = new byte[1024];
+                int read = 0;
+                while (read != -1) {
+                    read = inputStream.read(buffer);
+                }
+            }
+        }
+        return statusCode;
+    }
+
+    private void recordUploadLatency(long latencyNanos) {
+        long latency = TimeUnit.NANOSECONDS.toMillis(latencyNanos);
+        lastUploadLatency = latency;
+        if (latency > maxUploadLatency) {
+            maxUploadLatency = latency;
+        }
+    }
+
+    @Override
+    public int getBacklogSize() {
+        return uploads.size();
+    }
+
+    @Override
+    public long getBacklogBytes() {
+        return backlogBytes;
+    }
+
+    @Override
+    public int getInFlightUploads() {
+        return inFlightUploads.get();
+    }
+
+    @Override
+    public long getUploadedFiles() {
+        return uploadedFiles.get();
+    }
+
+    @Override
+    public long getUploadedBytes() {
+        return uploadedBytes.get();
+    }
+
+    @Override
+    public double getUploadThroughputBytesPerSecond() {
+        long time = uploadTimeNanos.get();
+        return time == 0 ? 0 : uploadedBytes.get() * (double) TimeUnit.SECONDS.toNanos(1) / time;
+    }
+
+    @Override
+    public long getFailedUploads() {
+        return failedUploads.get();
+    }
+
+    @Override
+    public long getRetries() {
+        return retries.get();
+    }
+
+    @Override
+    public long getDroppedFiles() {
+        return droppedFiles.get();
+    }
+
+    @Override
+    public long getArchivedFiles() {
+        return archivedFiles.get();
+    }
+
+    @Override
+    public long getLastUploadLatencyMillis() {
+        return lastUploadLatency;
+    }
+
+    @Override
+    public long getMaxUploadLatencyMillis() {
+        return maxUploadLatency;
+    }
+
+    /**
+     * Archive to upload, ordered oldest first.
+     */
+    private static final class Upload implements Comparable<Upload> {
+        private final Path path;
+        private final long lastModified;
+        private final long size;
+        private volatile int attempts;
+        private volatile boolean inFlight;
+        private volatile boolean discarded;
+
+        private Upload(Path path, long lastModified, long size) {
+            this.path = path;
+            this.lastModified = lastModified;
+            this.size = size;
+        }
+
+        @Override
+        public int compareTo(Upload other) {
+            int order = Long.compare(lastModified, other.lastModified);
+            return order != 0 ? order : path.compareTo(other.path);
+        }
+    }
+}
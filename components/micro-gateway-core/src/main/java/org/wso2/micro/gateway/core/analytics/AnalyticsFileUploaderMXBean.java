@@ -0,0 +1,60 @@
+/*
+ *  Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+
+package org.wso2.micro.gateway.core.analytics;
+
+/**
+ * Management interface exposing the state of the uploader of the usage data archives to the analytics node.
+ */
+public interface AnalyticsFileUploaderMXBean {
+
+    /**
+     * Returns the number of archives queued, being uploaded or waiting to be retried.
+     */
+    int getBacklogSize();
+
+    /**
+     * Returns the size in bytes of the archives in the usage data directory at the last scan.
+     */
+    long getBacklogBytes();
+
+    int getInFlightUploads();
+
+    long getUploadedFiles();
+
+    long getUploadedBytes();
+
+    /**
+     * Returns the number of bytes uploaded per second of upload time, by a single uploader thread.
+     */
+    double getUploadThroughputBytesPerSecond();
+
+    /**
+     * Returns the number of uploads given up until the next scan, after all their retries failed.
+     */
+    long getFailedUploads();
+
+    long getRetries();
+
+    long getDroppedFiles();
+
+    long getArchivedFiles();
+
+    long getLastUploadLatencyMillis();
+
+    long getMaxUploadLatencyMillis();
+}
@@ -0,0 +1,253 @@
+/*
+ *  Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+
+package org.wso2.micro.gateway.core.analytics;
+
+import org.ballerinalang.jvm.scheduling.Scheduler;
+import org.ballerinalang.jvm.values.MapValue;
+import org.ballerinalang.jvm.values.connector.NonBlockingCallback;
+import org.wso2.micro.gateway.core.utils.MBeanUtils;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Bounded buffer of the analytics messages published to the gRPC analytics server. The request strands add the
+ * messages to the buffer instead of starting a strand to send each of them, and a single sender strand takes them
+ * from the buffer and sends them on the gRPC stream in batches. The sender strand is yielded while the buffer is
+ * empty, and resumed by the next message added.
+ * <p>
+ * When the buffer is full, either the new message or the oldest message in the buffer is dropped, depending on the
+ * drop policy. A message which could not be sent is kept aside by the sender and taken again before the buffered
+ * messages, so that it is not lost until it is sent.
+ */
+public class AnalyticsMessageBuffer implements AnalyticsMessageBufferMXBean {
+
+    private static final String DROP_OLDEST = "dropOldest";
+
+    private static volatile AnalyticsMessageBuffer instance;
+
+    private final BlockingQueue<MapValue<String, Object>> messages;
+    private final boolean dropOldest;
+    private final AtomicReference<NonBlockingCallback> waitingSender = new AtomicReference<>();
+    // message to send again, only accessed by the sender strand
+    private MapValue<String, Object> retryMessage;
+
+    private final AtomicLong publishedMessages = new AtomicLong();
+    private final AtomicLong droppedMessages = new AtomicLong();
+    private final AtomicLong sentMessages = new AtomicLong();
+    private final AtomicLong sentBatches = new AtomicLong();
+    private final AtomicLong failedMessages = new AtomicLong();
+    private final AtomicLong circuitOpenings = new AtomicLong();
+    private volatile long lastSendLatency;
+    private volatile long maxSendLatency;
+
+    private AnalyticsMessageBuffer(int bufferSize, boolean dropOldest) {
+        this.messages = new ArrayBlockingQueue<>(Math.max(bufferSize, 1));
+        this.dropOldest = dropOldest;
+    }
+
+    /**
+     * Creates the buffer. Subsequent calls have no effect.
+     *
+     * @param bufferSize maximum number of buffered messages
+     * @param dropPolicy {@code dropOldest} to drop the oldest buffered message when the buffer is full, or
+     *                   {@code dropNewest} to drop the new message
+     */
+    public static synchronized void initAnalyticsMessageBuffer(int bufferSize, String dropPolicy) {
+        if (instance != null) {
+            return;
+        }
+        AnalyticsMessageBuffer buffer = new AnalyticsMessageBuffer(bufferSize, DROP_OLDEST.equals(dropPolicy));
+        MBeanUtils.registerMBean(buffer, "AnalyticsMessageBuffer", null);
+        instance = buffer;
+    }
+
+    /**
+     * Adds the message to the buffer, to be sent by the sender strand.
+     *
+     * @param message analytics stream message
+     * @return false if the message was dropped
+     */
+    public static boolean publishMessage(MapValue<String, Object> message) {
+        AnalyticsMessageBuffer buffer = instance;
+        if (buffer == null) {
+            return false;
+        }
+        if (!buffer.messages.offer(message)) {
+            if (!buffer.dropOldest) {
+                buffer.droppedMessages.incrementAndGet();
+                return false;
+            }
+            do {
+                if (buffer.messages.poll() != null) {
+                    buffer.droppedMessages.incrementAndGet();
+                }
+            } while (!buffer.messages.offer(message));
+        }
+        buffer.publishedMessages.incrementAndGet();
+        buffer.wakeUpSender();
+        return true;
+    }
+
+    /**
+     * Takes the oldest message from the buffer. If the buffer is empty, the strand is yielded until a message is
+     * added. Must only be called by the single sender strand.
+     *
+     * @return oldest message, or null if the strand is yielded and is to be resumed with the next message
+     */
+    public static MapValue<String, Object> takeMessage() {
+        AnalyticsMessageBuffer buffer = instance;
+        MapValue<String, Object> message = buffer.pollRetryOrBuffered();
+        if (message != null) {
+            return message;
+        }
+        buffer.waitingSender.set(new NonBlockingCallback(Scheduler.getStrand()));
+        // a message added before the callback was set does not wake up the sender
+        buffer.wakeUpSender();
+        return null;
+    }
+
+    /**
+     * Takes the oldest message from the buffer without waiting.
+     *
+     * @return oldest message, or null if the buffer is empty
+     */
+    public static MapValue<String, Object> pollMessage() {
+        return instance.pollRetryOrBuffered();
+    }
+
+    /**
+     * Keeps the message which could not be sent, to be taken again before the buffered messages. Must only be called
+     * by the sender strand, with the message last taken.
+     *
+     * @param message analytics stream message to send again
+     */
+    public static void retryMessage(MapValue<String, Object> message) {
+        AnalyticsMessageBuffer buffer = instance;
+        buffer.retryMessage = message;
+    }
+
+    private MapValue<String, Object> pollRetryOrBuffered() {
+        MapValue<String, Object> message = retryMessage;
+        if (message != null) {
+            retryMessage = null;
+            return message;
+        }
+        return messages.poll();
+    }
+
+    /**
+     * Records a batch of messages sent on the gRPC stream.
+     *
+     * @param sent          number of messages sent
+     * @param failed        number of attempts to send a message which failed
+     * @param latencyMillis time in milliseconds taken to send the batch
+     */
+    public static void recordBatch(int sent, int failed, long latencyMillis) {
+        AnalyticsMessageBuffer buffer = instance;
+        buffer.sentMessages.addAndGet(sent);
+        buffer.failedMessages.addAndGet(failed);
+        buffer.sentBatches.incrementAndGet();
+        buffer.lastSendLatency = latencyMillis;
+        if (latencyMillis > buffer.maxSendLatency) {
+            buffer.maxSendLatency = latencyMillis;
+        }
+    }
+
+    /**
+     * Records that the sender stopped sending until the gRPC connection is established again.
+     */
+    public static void recordCircuitOpening() {
+        instance.circuitOpenings.incrementAndGet();
+    }
+
+    private void wakeUpSender() {
+        while (!messages.isEmpty()) {
+            NonBlockingCallback callback = waitingSender.getAndSet(null);
+            if (callback == null) {
+                return;
+            }
+            MapValue<String, Object> message = messages.poll();
+            if (message != null) {
+                callback.setReturnValues(message);
+                callback.notifySuccess();
+                return;
+            }
+            // the message was dropped for a newer one meanwhile, which wakes up the sender when it is added
+            waitingSender.compareAndSet(null, callback);
+        }
+    }
+
+    @Override
+    public int getQueueSize() {
+        return messages.size();
+    }
+
+    @Override
+    public int getRemainingCapacity() {
+        return messages.remainingCapacity();
+    }
+
+    @Override
+    public long getPublishedMessages() {
+        return publishedMessages.get();
+    }
+
+    @Override
+    public long getDroppedMessages() {
+        return droppedMessages.get();
+    }
+
+    @Override
+    public long getSentMessages() {
+        return sentMessages.get();
+    }
+
+    @Override
+    public long getSentBatches() {
+        return sentBatches.get();
+    }
+
+    @Override
+    public double getAverageBatchSize() {
+        long batches = sentBatches.get();
+        return batches == 0 ? 0 : (double) (sentMessages.get() + failedMessages.get()) / batches;
+    }
+
+    @Override
+    public long getFailedMessages() {
+        return failedMessages.get();
+    }
+
+    @Override
+    public long getCircuitOpenings() {
+        return circuitOpenings.get();
+    }
+
+    @Override
+    public long getLastSendLatencyMillis() {
+        return lastSendLatency;
+    }
+
+    @Override
+    public long getMaxSendLatencyMillis() {
+        return maxSendLatency;
+    }
+}
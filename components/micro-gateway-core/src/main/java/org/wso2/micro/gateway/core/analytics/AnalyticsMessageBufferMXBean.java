@@ -0,0 +1,59 @@
+/*
+ *  Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+
+package org.wso2.micro.gateway.core.analytics;
+
+/**
+ * Management interface exposing the state of the buffer of the messages sent to the gRPC analytics server.
+ */
+public interface AnalyticsMessageBufferMXBean {
+
+    int getQueueSize();
+
+    int getRemainingCapacity();
+
+    long getPublishedMessages();
+
+    /**
+     * Returns the number of messages dropped as the buffer was full.
+     */
+    long getDroppedMessages();
+
+    long getSentMessages();
+
+    long getSentBatches();
+
+    double getAverageBatchSize();
+
+    /**
+     * Returns the number of failed attempts to send a message on the gRPC stream. The message is sent again, before
+     * the buffered messages.
+     */
+    long getFailedMessages();
+
+    /**
+     * Returns the number of times the sender stopped sending until the gRPC connection was established again.
+     */
+    long getCircuitOpenings();
+
+    /**
+     * Returns the time in milliseconds taken to send the last batch.
+     */
+    long getLastSendLatencyMillis();
+
+    long getMaxSendLatencyMillis();
+}
@@ -0,0 +1,373 @@
+/*
+ *  Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package org.wso2.micro.gateway.core.basicauth;
+
+import org.ballerinalang.jvm.values.MapValue;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.wso2.micro.gateway.core.cache.CacheRegion;
+import org.wso2.micro.gateway.core.cache.TokenCache;
+
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.util.Base64;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+import javax.crypto.Mac;
+import javax.crypto.SecretKeyFactory;
+import javax.crypto.spec.PBEKeySpec;
+import javax.crypto.spec.SecretKeySpec;
+
+/**
+ * Verifies the credentials of the basic authentication header against the users of the gateway configuration. The
+ * users are loaded once into an immutable map, with the stored password parsed into one of the supported formats:
+ * <ul>
+ * <li>a SHA-1 hash in hex, which is the format of the password when it has no prefix</li>
+ * <li>{@code @sha256:{hash}}, {@code @sha384:{hash}} or {@code @sha512:{hash}} with the hash in hex</li>
+ * <li>{@code @pbkdf2:{iterations:salt:hash}} with the salt and the hash of PBKDF2WithHmacSHA256 in base64</li>
+ * </ul>
+ * A user whose PBKDF2 password does not have a positive number of iterations and a non empty salt and hash is not
+ * loaded, and hence never authenticated.
+ * The result of a verification is cached by a keyed digest of the header, so that neither the header nor the
+ * password appears in the cache. Successful verifications are kept in the "BasicAuth" region of the token cache and
+ * failed ones in the smaller "BasicAuthFailures" region, so that repeated attempts with the same wrong credentials
+ * do not compute the password hash again.
+ */
+public class BasicAuthVerifier {
+
+    private static final Logger log = LoggerFactory.getLogger("ballerina");
+
+    /**
+     * The decoded header does not separate the username and the password with a colon.
+     */
+    public static final long INVALID_FORMAT = 1;
+    /**
+     * The user does not exist or the password does not match.
+     */
+    public static final long INVALID_CREDENTIALS = 2;
+    /**
+     * The header is not base64 encoded.
+     */
+    public static final long MALFORMED_CREDENTIALS = 3;
+
+    private static final String CACHE_REGION = "BasicAuth";
+    private static final String FAILURE_CACHE_REGION = "BasicAuthFailures";
+    private static final String DIGEST_ALGORITHM = "HmacSHA256";
+    private static final String PBKDF2_ALGORITHM = "PBKDF2WithHmacSHA256";
+    private static final String SHA256_PREFIX = "@sha256:";
+    private static final String SHA384_PREFIX = "@sha384:";
+    private static final String SHA512_PREFIX = "@sha512:";
+    private static final String PBKDF2_PREFIX = "@pbkdf2:";
+    private static final String HASH_PREFIX = "@";
+
+    private static volatile BasicAuthVerifier instance;
+
+    private final Map<String, User> users;
+    private final CacheRegion cache;
+    private final CacheRegion failureCache;
+    private final ThreadLocal<Mac> digest;
+
+    private BasicAuthVerifier(Map<String, User> users, CacheRegion cache, CacheRegion failureCache) {
+        this.users = users;
+        this.cache = cache;
+        this.failureCache = failureCache;
+        // the key only lives as long as the process, hence the digests in the cache can not be reproduced elsewhere
+        byte[] key = new byte[32];
+        new SecureRandom().nextBytes(key);
+        SecretKeySpec keySpec = new SecretKeySpec(key, DIGEST_ALGORITHM);
+        this.digest = ThreadLocal.withInitial(() -> {
+            try {
+                Mac mac = Mac.getInstance(DIGEST_ALGORITHM);
+                mac.init(keySpec);
+                return mac;
+            } catch (GeneralSecurityException e) {
+                throw new IllegalStateException("Error while initializing the digest of the basic auth cache", e);
+            }
+        });
+    }
+
+    /**
+     * Loads the users and creates the caches of the verifier. Subsequent calls have no effect.
+     *
+     * @param passwords                stored password of each user
+     * @param scopes                   comma separated scopes of each user
+     * @param cacheEnabled             whether the results of the verifications are cached
+     * @param cacheExpiryMillis        time in milliseconds a successful verification is cached
+     * @param cacheCapacity            maximum number of cached successful verifications
+     * @param failureCacheExpiryMillis time in milliseconds a failed verification is cached
+     * @param failureCacheCapacity     maximum number of cached failed verifications
+     */
+    public static synchronized void initBasicAuthVerifier(MapValue<String, Object> passwords,
+            MapValue<String, Object> scopes, boolean cacheEnabled, long cacheExpiryMillis, int cacheCapacity,
+            long failureCacheExpiryMillis, int failureCacheCapacity) {
+        if (instance != null) {
+            return;
+        }
+        Map<String, User> users = new HashMap<>();
+        for (Map.Entry<String, Object> entry : passwords.entrySet()) {
+            String username = entry.getKey();
+            Password password = parsePassword(username, String.valueOf(entry.getValue()));
+            if (password == null) {
+                // the user is not loaded, hence it is not authenticated
+                continue;
+            }
+            Object userScopes = scopes.get(username);
+            users.put(username, new User(password, userScopes == null ? "" : userScopes.toString()));
+        }
+        CacheRegion cache = null;
+        CacheRegion failureCache = null;
+        if (cacheEnabled) {
+            cache = TokenCache.getRegion(CACHE_REGION, cacheCapacity, cacheExpiryMillis);
+            failureCache = TokenCache.getRegion(FAILURE_CACHE_REGION, failureCacheCapacity, failureCacheExpiryMillis);
+        }
+        instance = new BasicAuthVerifier(Collections.unmodifiableMap(users), cache, failureCache);
+    }
+
+    /**
+     * Verifies the credentials of a basic authentication header.
+     *
+     * @param credential base64 encoded credentials of the header
+     * @return username of the verified user, or one of the failure codes of the verifier
+     */
+    public static Object verify(String credential) {
+        BasicAuthVerifier verifier = instance;
+        if (verifier == null) {
+            return INVALID_CREDENTIALS;
+        }
+        if (verifier.cache == null) {
+            return verifier.authenticate(credential);
+        }
+        String key = verifier.digest(credential);
+        Object result = TokenCache.get(verifier.cache, key);
+        if (result == null) {
+            result = TokenCache.get(verifier.failureCache, key);
+        }
+        if (result != null) {
+            return result;
+        }
+        result = verifier.authenticate(credential);
+        TokenCache.put(result instanceof String ? verifier.cache : verifier.failureCache, key, result);
+        return result;
+    }
+
+    /**
+     * Returns the scopes of the user.
+     *
+     * @return comma separated scopes, or an empty string if the user has no scopes
+     */
+    public static String getScopes(String username) {
+        BasicAuthVerifier verifier = instance;
+        User user = verifier == null ? null : verifier.users.get(username);
+        return user == null ? "" : user.scopes;
+    }
+
+    private Object authenticate(String credential) {
+        byte[] decoded;
+        try {
+            decoded = Base64.getDecoder().decode(credential.trim());
+        } catch (IllegalArgumentException e) {
+            return MALFORMED_CREDENTIALS;
+        }
+        String decodedCredential = new String(decoded, StandardCharsets.UTF_8).trim();
+        // the password may contain colons, hence only the first one separates it from the username
+        int separator = decodedCredential.indexOf(':');
+        if (separator < 0) {
+            return INVALID_FORMAT;
+        }
+        String username = decodedCredential.substring(0, separator);
+        User user = users.get(username);
+        if (user == null || !user.password.matches(decodedCredential.substring(separator + 1))) {
+            return INVALID_CREDENTIALS;
+        }
+        return username;
+    }
+
+    private String digest(String credential) {
+        byte[] digestValue = digest.get().doFinal(credential.getBytes(StandardCharsets.UTF_8));
+        return Base64.getEncoder().encodeToString(digestValue);
+    }
+
+    /**
+     * Parses the stored password of a user into one of the supported formats.
+     *
+     * @return the password, or null if the user is rejected because its password is not valid
+     */
+    private static Password parsePassword(String username, String stored) {
+        if (stored.startsWith(SHA256_PREFIX)) {
+            return new DigestPassword("SHA-256", extractHash(stored), false);
+        }
+        if (stored.startsWith(SHA384_PREFIX)) {
+            return new DigestPassword("SHA-384", extractHash(stored), false);
+        }
+        if (stored.startsWith(SHA512_PREFIX)) {
+            return new DigestPassword("SHA-512", extractHash(stored), false);
+        }
+        if (stored.startsWith(PBKDF2_PREFIX)) {
+            Password password = parsePbkdf2Password(extractHash(stored));
+            if (password == null) {
+                log.error("Invalid PBKDF2 password of the user " + username + ", the user will not be authenticated");
+            }
+            return password;
+        }
+        if (stored.startsWith(HASH_PREFIX)) {
+            // an unknown algorithm is compared as it is, which is what the config based auth store of ballerina does
+            return new PlainPassword(stored);
+        }
+        // 3.0.x only supported SHA-1, which is kept as the default for backward compatibility
+        return new DigestPassword("SHA-1", stored, true);
+    }
+
+    /**
+     * Parses the iterations, salt and hash of a PBKDF2 password, which must be a positive number of iterations and a
+     * non empty salt and hash.
+     *
+     * @return the password, or null if the parameters are not valid
+     */
+    private static Password parsePbkdf2Password(String parameters) {
+        String[] values = parameters.split(":", -1);
+        if (values.length != 3) {
+            return null;
+        }
+        try {
+            int iterations = Integer.parseInt(values[0]);
+            byte[] salt = Base64.getDecoder().decode(values[1]);
+            byte[] hash = Base64.getDecoder().decode(values[2]);
+            if (iterations <= 0 || salt.length == 0 || hash.length == 0) {
+                return null;
+            }
+            return new Pbkdf2Password(iterations, salt, hash);
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    private static String extractHash(String stored) {
+        int start = stored.indexOf('{');
+        int end = stored.lastIndexOf('}');
+        return start < 0 || end < start ? "" : stored.substring(start + 1, end);
+    }
+
+    private static byte[] hexToBytes(String hex) {
+        if (hex.length() % 2 != 0) {
+            return null;
+        }
+        byte[] bytes = new byte[hex.length() / 2];
+        for (int i = 0; i < bytes.length; i++) {
+            int high = Character.digit(hex.charAt(2 * i), 16);
+            int low = Character.digit(hex.charAt(2 * i + 1), 16);
+            if (high < 0 || low < 0) {
+                return null;
+            }
+            bytes[i] = (byte) ((high << 4) | low);
+        }
+        return bytes;
+    }
+
+    private static final class User {
+        private final Password password;
+        private final String scopes;
+
+        private User(Password password, String scopes) {
+            this.password = password;
+            this.scopes = scopes;
+        }
+    }
+
+    private interface Password {
+        boolean matches(String password);
+    }
+
+    /**
+     * Password stored as its hex encoded digest. The hashes of all the formats except the legacy SHA-1 one are
+     * compared ignoring the case of the hex digits.
+     */
+    private static final class DigestPassword implements Password {
+        private final String algorithm;
+        private final byte[] hash;
+        private final String hex;
+        private final boolean caseSensitive;
+
+        private DigestPassword(String algorithm, String hex, boolean caseSensitive) {
+            this.algorithm = algorithm;
+            this.hash = hexToBytes(hex);
+            this.hex = hex;
+            this.caseSensitive = caseSensitive;
+        }
+
+        @Override
+        public boolean matches(String password) {
+            if (hash == null) {
+                return false;
+            }
+            if (caseSensitive && !hex.equals(hex.toLowerCase())) {
+                // the hash of the request is compared in lower case hex
+                return false;
+            }
+            try {
+                byte[] digestValue = MessageDigest.getInstance(algorithm)
+                        .digest(password.getBytes(StandardCharsets.UTF_8));
+                return MessageDigest.isEqual(digestValue, hash);
+            } catch (GeneralSecurityException e) {
+                log.error("Error while hashing the password with " + algorithm, e);
+                return false;
+            }
+        }
+    }
+
+    private static final class Pbkdf2Password implements Password {
+        private final int iterations;
+        private final byte[] salt;
+        private final byte[] hash;
+
+        private Pbkdf2Password(int iterations, byte[] salt, byte[] hash) {
+            this.iterations = iterations;
+            this.salt = salt;
+            this.hash = hash;
+        }
+
+        @Override
+        public boolean matches(String password) {
+            PBEKeySpec keySpec = new PBEKeySpec(password.toCharArray(), salt, iterations, hash.length * 8);
+            try {
+                byte[] derived = SecretKeyFactory.getInstance(PBKDF2_ALGORITHM).generateSecret(keySpec).getEncoded();
+                return MessageDigest.isEqual(derived, hash);
+            } catch (GeneralSecurityException e) {
+                log.error("Error while hashing the password with " + PBKDF2_ALGORITHM, e);
+                return false;
+            } finally {
+                keySpec.clearPassword();
+            }
+        }
+    }
+
+    private static final class PlainPassword implements Password {
+        private final byte[] password;
+
+        private PlainPassword(String password) {
+            this.password = password.getBytes(StandardCharsets.UTF_8);
+        }
+
+        @Override
+        public boolean matches(String password) {
+            return MessageDigest.isEqual(password.getBytes(StandardCharsets.UTF_8), this.password);
+        }
+    }
+}
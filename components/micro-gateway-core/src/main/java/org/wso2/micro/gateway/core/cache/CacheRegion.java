@@ -0,0 +1,408 @@
+/*
+ *  Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+
+package org.wso2.micro.gateway.core.cache;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Region of the token cache, bounded by the number of entries and evicting with the W-TinyLFU policy.
+ * <p>
+ * New entries are added to a small LRU window. An entry leaving the window is admitted to the main space only if it
+ * has been accessed more often than the entry the main space would evict, as estimated by a
+ * {@link FrequencySketch}, so that a burst of new tokens which are used once does not flush the frequently used
+ * tokens out of the cache. The main space is a segmented LRU, where an entry accessed again is moved from the
+ * probation segment to the protected segment. Entries are evicted one at a time as new entries are added, rather
+ * than clearing a fraction of the cache once it is full.
+ * <p>
+ * Each entry expires after the expiry time of the region from when it was added. Expired entries are not returned,
+ * and are removed when they are looked up or reach the least recently used end of their segment.
+ * <p>
+ * Entries are looked up without locking. A lookup counts the access of the key in the sketch, whether the key is
+ * cached or not, which does not need the lock, and adds the entry to a lossy {@link ReadBuffer}. The buffered
+ * entries are moved in the eviction order while holding the lock of the region, when the buffer of the thread is
+ * full or an entry is added or removed.
+ */
+public class CacheRegion implements CacheRegionMXBean {
+
+    private static final int WINDOW = 0;
+    private static final int PROBATION = 1;
+    private static final int PROTECTED = 2;
+    private static final double WINDOW_RATIO = 0.01;
+    private static final double PROTECTED_RATIO = 0.8;
+    // maximum number of expired entries removed from each segment when an entry is added
+    private static final int EXPIRY_SWEEP_LIMIT = 4;
+
+    private final String name;
+    private final int capacity;
+    private final long expiryNanos;
+    private final int windowCapacity;
+    private final int protectedCapacity;
+    private final Map<String, Node> entries;
+    private final FrequencySketch sketch;
+    private final ReadBuffer<Node> readBuffer = new ReadBuffer<>();
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Segment[] segments = {new Segment(), new Segment(), new Segment()};
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final AtomicLong puts = new AtomicLong();
+    private final AtomicLong evictions = new AtomicLong();
+    private final AtomicLong expirations = new AtomicLong();
+    private final AtomicLong removals = new AtomicLong();
+    private final AtomicLong loads = new AtomicLong();
+    private final AtomicLong loadTime = new AtomicLong();
+
+    CacheRegion(String name, int capacity, long expiryMillis) {
+        this.name = name;
+        this.capacity = Math.max(capacity, 1);
+        this.expiryNanos = TimeUnit.MILLISECONDS.toNanos(Math.max(expiryMillis, 0));
+        this.windowCapacity = Math.max((int) (this.capacity * WINDOW_RATIO), 1);
+        this.protectedCapacity = (int) ((this.capacity - windowCapacity) * PROTECTED_RATIO);
+        this.entries = new ConcurrentHashMap<>(Math.min(this.capacity, 1 << 16));
+        this.sketch = new FrequencySketch(this.capacity);
+    }
+
+    /**
+     * Returns the value of the key.
+     *
+     * @param key key of the entry
+     * @return value of the entry, or null if the key is not cached or the entry has expired
+     */
+    Object get(String key) {
+        // a miss is counted too, so that a key which keeps missing is admitted once it is added
+        sketch.increment(key);
+        Node node = entries.get(key);
+        long now = System.nanoTime();
+        if (node == null || node.isExpired(now)) {
+            misses.increment();
+            if (node != null && lock.tryLock()) {
+                try {
+                    if (entries.remove(key, node)) {
+                        segments[node.segment].unlink(node);
+                        expirations.incrementAndGet();
+                    }
+                } finally {
+                    lock.unlock();
+                }
+            }
+            return null;
+        }
+        hits.increment();
+        if (!readBuffer.offer(node) && lock.tryLock()) {
+            try {
+                drainReadBuffer();
+            } finally {
+                lock.unlock();
+            }
+        }
+        return node.value;
+    }
+
+    /**
+     * Adds or replaces the entry of the key, evicting an entry if the region is full.
+     *
+     * @param key   key of the entry
+     * @param value value of the entry
+     */
+    void put(String key, Object value) {
+        long now = System.nanoTime();
+        long expiryTime = now + expiryNanos;
+        lock.lock();
+        try {
+            puts.incrementAndGet();
+            drainReadBuffer();
+            sketch.increment(key);
+            Node node = entries.get(key);
+            if (node != null) {
+                node.value = value;
+                node.expiryTime = expiryTime;
+                node.refreshMarked = 0;
+                onAccess(node);
+                return;
+            }
+            node = new Node(key, value, expiryTime);
+            entries.put(key, node);
+            segments[WINDOW].addLast(node);
+            expire(now);
+            evict();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Marks the entry of the key to be refreshed if it expires within the given time. An entry is marked only once,
+     * until its value is replaced.
+     *
+     * @param key                key of the entry
+     * @param refreshAheadMillis time in milliseconds before the expiry of the entry from when it is refreshed
+     * @return true if the entry was marked by this call
+     */
+    boolean markForRefresh(String key, long refreshAheadMillis) {
+        Node node = entries.get(key);
+        if (node == null) {
+            return false;
+        }
+        long timeToExpiry = node.expiryTime - System.nanoTime();
+        if (timeToExpiry <= 0 || timeToExpiry > TimeUnit.MILLISECONDS.toNanos(refreshAheadMillis)) {
+            return false;
+        }
+        return Node.REFRESH_MARKED.compareAndSet(node, 0, 1);
+    }
+
+    /**
+     * Removes the entry of the key.
+     *
+     * @param key key of the entry
+     */
+    void remove(String key) {
+        lock.lock();
+        try {
+            drainReadBuffer();
+            Node node = entries.remove(key);
+            if (node != null) {
+                segments[node.segment].unlink(node);
+                removals.incrementAndGet();
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Records the time taken to load a value which was not cached.
+     *
+     * @param loadTimeMillis time taken in milliseconds
+     */
+    void recordLoad(long loadTimeMillis) {
+        loads.incrementAndGet();
+        loadTime.addAndGet(Math.max(loadTimeMillis, 0));
+    }
+
+    /**
+     * Returns the estimated number of accesses of the key, up to 15.
+     */
+    int frequency(String key) {
+        return sketch.frequency(key);
+    }
+
+    private void drainReadBuffer() {
+        readBuffer.drainTo(node -> {
+            // the entry may have been removed after it was read
+            if (entries.get(node.key) == node) {
+                onAccess(node);
+            }
+        });
+    }
+
+    private void onAccess(Node node) {
+        if (node.segment == PROBATION) {
+            segments[PROBATION].unlink(node);
+            node.segment = PROTECTED;
+            segments[PROTECTED].addLast(node);
+            if (segments[PROTECTED].size > protectedCapacity) {
+                Node demoted = segments[PROTECTED].first;
+                segments[PROTECTED].unlink(demoted);
+                demoted.segment = PROBATION;
+                segments[PROBATION].addLast(demoted);
+            }
+        } else {
+            segments[node.segment].moveToLast(node);
+        }
+    }
+
+    private void expire(long now) {
+        for (Segment segment : segments) {
+            for (int i = 0; i < EXPIRY_SWEEP_LIMIT && segment.first != null && segment.first.isExpired(now); i++) {
+                Node node = segment.first;
+                segment.unlink(node);
+                entries.remove(node.key, node);
+                expirations.incrementAndGet();
+            }
+        }
+    }
+
+    private void evict() {
+        while (segments[WINDOW].size > windowCapacity) {
+            Node candidate = segments[WINDOW].first;
+            segments[WINDOW].unlink(candidate);
+            candidate.segment = PROBATION;
+            if (segments[PROBATION].size + segments[PROTECTED].size < capacity - windowCapacity) {
+                segments[PROBATION].addLast(candidate);
+                continue;
+            }
+            Node victim = segments[PROBATION].first != null ? segments[PROBATION].first : segments[PROTECTED].first;
+            if (victim == null || sketch.frequency(candidate.key) > sketch.frequency(victim.key)) {
+                if (victim != null) {
+                    evict(victim);
+                }
+                segments[PROBATION].addLast(candidate);
+            } else {
+                entries.remove(candidate.key, candidate);
+                evictions.incrementAndGet();
+            }
+        }
+    }
+
+    private void evict(Node node) {
+        segments[node.segment].unlink(node);
+        entries.remove(node.key, node);
+        evictions.incrementAndGet();
+    }
+
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public int getCapacity() {
+        return capacity;
+    }
+
+    @Override
+    public int getSize() {
+        return entries.size();
+    }
+
+    @Override
+    public long getExpiryTimeMillis() {
+        return TimeUnit.NANOSECONDS.toMillis(expiryNanos);
+    }
+
+    @Override
+    public long getHits() {
+        return hits.sum();
+    }
+
+    @Override
+    public long getMisses() {
+        return misses.sum();
+    }
+
+    @Override
+    public double getHitRatio() {
+        long hitCount = hits.sum();
+        long requests = hitCount + misses.sum();
+        return requests == 0 ? 0 : (double) hitCount / requests;
+    }
+
+    @Override
+    public long getPuts() {
+        return puts.get();
+    }
+
+    @Override
+    public long getEvictions() {
+        return evictions.get();
+    }
+
+    @Override
+    public long getExpirations() {
+        return expirations.get();
+    }
+
+    @Override
+    public long getRemovals() {
+        return removals.get();
+    }
+
+    @Override
+    public long getLoads() {
+        return loads.get();
+    }
+
+    @Override
+    public double getAverageLoadTimeMillis() {
+        long loadCount = loads.get();
+        return loadCount == 0 ? 0 : (double) loadTime.get() / loadCount;
+    }
+
+    private static final class Node {
+        private static final AtomicIntegerFieldUpdater<Node> REFRESH_MARKED =
+                AtomicIntegerFieldUpdater.newUpdater(Node.class, "refreshMarked");
+
+        private final String key;
+        private volatile Object value;
+        private volatile long expiryTime;
+        private volatile int refreshMarked;
+        private int segment = WINDOW;
+        private Node previous;
+        private Node next;
+
+        private Node(String key, Object value, long expiryTime) {
+            this.key = key;
+            this.value = value;
+            this.expiryTime = expiryTime;
+        }
+
+        private boolean isExpired(long now) {
+            return now - expiryTime >= 0;
+        }
+    }
+
+    /**
+     * Doubly linked list of the entries of a segment, from the least to the most recently used.
+     */
+    private static final class Segment {
+        private Node first;
+        private Node last;
+        private int size;
+
+        private void addLast(Node node) {
+            node.previous = last;
+            node.next = null;
+            if (last == null) {
+                first = node;
+            } else {
+                last.next = node;
+            }
+            last = node;
+            size++;
+        }
+
+        private void unlink(Node node) {
+            if (node.previous == null) {
+                first = node.next;
+            } else {
+                node.previous.next = node.next;
+            }
+            if (node.next == null) {
+                last = node.previous;
+            } else {
+                node.next.previous = node.previous;
+            }
+            node.previous = null;
+            node.next = null;
+            size--;
+        }
+
+        private void moveToLast(Node node) {
+            if (node != last) {
+                unlink(node);
+                addLast(node);
+            }
+        }
+    }
+}
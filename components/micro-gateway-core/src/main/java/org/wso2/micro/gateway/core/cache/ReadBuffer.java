@@ -0,0 +1,104 @@
+/*
+ *  Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+
+package org.wso2.micro.gateway.core.cache;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.Consumer;
+
+/**
+ * Lossy buffer of the entries read from a cache region, whose move in the eviction order is applied later while
+ * holding the lock of the region. The buffer is striped by thread, and each stripe is a ring of a fixed size. An
+ * entry is dropped rather than waiting if its stripe is full or another thread is adding to it, as a lost reordering
+ * only makes the eviction order less accurate.
+ * <p>
+ * Entries are added by any thread, while the buffer is drained by a single thread at a time.
+ */
+class ReadBuffer<E> {
+
+    static final int STRIPE_SIZE = 16;
+    private static final int STRIPE_MASK = STRIPE_SIZE - 1;
+    private static final int MAX_STRIPES = 16;
+
+    private final Stripe<E>[] stripes;
+    private final int stripeMask;
+
+    @SuppressWarnings("unchecked")
+    ReadBuffer() {
+        int stripeCount = Math.min(Integer.highestOneBit(Math.max(Runtime.getRuntime().availableProcessors(), 1)),
+                MAX_STRIPES);
+        this.stripes = new Stripe[stripeCount];
+        for (int i = 0; i < stripeCount; i++) {
+            stripes[i] = new Stripe<>();
+        }
+        this.stripeMask = stripeCount - 1;
+    }
+
+    /**
+     * Adds the entry to the stripe of the current thread, unless the stripe is full or contended.
+     *
+     * @param entry entry read
+     * @return false if the stripe is full and needs to be drained
+     */
+    boolean offer(E entry) {
+        int index = (int) (Thread.currentThread().getId() * 0x9E3779B9L >>> 16) & stripeMask;
+        return stripes[index].offer(entry);
+    }
+
+    /**
+     * Passes the entries of all the stripes to the consumer, in the order they were added to each stripe.
+     */
+    void drainTo(Consumer<E> consumer) {
+        for (Stripe<E> stripe : stripes) {
+            stripe.drainTo(consumer);
+        }
+    }
+
+    private static final class Stripe<E> {
+        private final AtomicReferenceArray<E> ring = new AtomicReferenceArray<>(STRIPE_SIZE);
+        private final AtomicLong writeCount = new AtomicLong();
+        private volatile long readCount;
+
+        private boolean offer(E entry) {
+            long tail = writeCount.get();
+            if (tail - readCount >= STRIPE_SIZE) {
+                return false;
+            }
+            if (writeCount.compareAndSet(tail, tail + 1)) {
+                ring.lazySet((int) tail & STRIPE_MASK, entry);
+            }
+            return true;
+        }
+
+        private void drainTo(Consumer<E> consumer) {
+            long head = readCount;
+            long tail = writeCount.get();
+            for (; head != tail; head++) {
+                int index = (int) head & STRIPE_MASK;
+                E entry = ring.get(index);
+                if (entry == null) {
+                    // the entry is still being added, and is drained the next time
+                    break;
+                }
+                ring.lazySet(index, null);
+                consumer.accept(entry);
+            }
+            readCount = head;
+        }
+    }
+}
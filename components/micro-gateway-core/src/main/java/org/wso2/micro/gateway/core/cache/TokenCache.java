@@ -0,0 +1,97 @@
+/*
+ *  Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+
+package org.wso2.micro.gateway.core.cache;
+
+import org.wso2.micro.gateway.core.utils.MBeanUtils;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Native cache of the gateway for the validation results of access tokens, divided into regions which are sized
+ * separately. See {@link CacheRegion} for the eviction and expiry of the entries of a region. The statistics of each
+ * region are registered as an MBean.
+ */
+public class TokenCache {
+
+    private static final String MBEAN_TYPE = "TokenCache";
+
+    private static final Map<String, CacheRegion> regions = new ConcurrentHashMap<>();
+
+    private TokenCache() {
+    }
+
+    /**
+     * Returns the region of the name, creating it if it does not exist yet.
+     *
+     * @param name         name of the region
+     * @param capacity     maximum number of entries of the region
+     * @param expiryMillis time in milliseconds after which an entry expires
+     * @return region of the name
+     */
+    public static CacheRegion getRegion(String name, int capacity, long expiryMillis) {
+        return regions.computeIfAbsent(name, regionName -> {
+            CacheRegion region = new CacheRegion(regionName, capacity, expiryMillis);
+            MBeanUtils.registerMBean(region, MBEAN_TYPE, regionName);
+            return region;
+        });
+    }
+
+    /**
+     * Returns the value of the key.
+     *
+     * @return value of the entry, or null if the key is not cached or the entry has expired
+     */
+    public static Object get(CacheRegion region, String key) {
+        return region.get(key);
+    }
+
+    /**
+     * Adds or replaces the entry of the key.
+     */
+    public static void put(CacheRegion region, String key, Object value) {
+        region.put(key, value);
+    }
+
+    /**
+     * Marks the entry of the key to be refreshed if it expires within the given time.
+     *
+     * @param refreshAheadMillis time in milliseconds before the expiry of the entry from when it is refreshed
+     * @return true if the entry was marked by this call, false if it is not cached, not expiring yet or is already
+     * marked
+     */
+    public static boolean markForRefresh(CacheRegion region, String key, long refreshAheadMillis) {
+        return region.markForRefresh(key, refreshAheadMillis);
+    }
+
+    /**
+     * Removes the entry of the key.
+     */
+    public static void remove(CacheRegion region, String key) {
+        region.remove(key);
+    }
+
+    /**
+     * Records the time taken to load a value which was not cached.
+     *
+     * @param loadTimeMillis time taken in milliseconds
+     */
+    public static void recordLoad(CacheRegion region, long loadTimeMillis) {
+        region.recordLoad(loadTimeMillis);
+    }
+}
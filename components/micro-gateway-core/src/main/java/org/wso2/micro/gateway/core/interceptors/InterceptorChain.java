@@ -0,0 +1,180 @@
+/*
+ *  Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+
+package org.wso2.micro.gateway.core.interceptors;
+
+import org.wso2.micro.gateway.core.utils.MBeanUtils;
+import org.wso2.micro.gateway.interceptor.AsyncInterceptor;
+import org.wso2.micro.gateway.interceptor.Caller;
+import org.wso2.micro.gateway.interceptor.Interceptor;
+import org.wso2.micro.gateway.interceptor.Request;
+import org.wso2.micro.gateway.interceptor.Response;
+
+import java.util.Arrays;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+
+/**
+ * Ordered java interceptors of the request and response flows of an operation. The interceptors are added when the
+ * service is initialized and are invoked in the order they are added, until one of them responds to the client.
+ * An invocation of the chain ends at an asynchronous interceptor. Once it completes, the chain is invoked again from
+ * the next interceptor on the strand of the request, so that synchronous interceptors are always invoked on a strand.
+ * The latency and the short circuits of each interceptor are recorded in its {@link InterceptorMetrics}.
+ */
+public class InterceptorChain {
+
+    /**
+     * Result of the chain when all the interceptors were invoked.
+     */
+    static final int PROCEED = -1;
+    /**
+     * Result of the chain when an interceptor responded to the client.
+     */
+    static final int RESPONDED = -2;
+
+    private static final String REQUEST = "request";
+    private static final String RESPONSE = "response";
+
+    private final String name;
+    private volatile Stage[] requestStages = new Stage[0];
+    private volatile Stage[] responseStages = new Stage[0];
+
+    InterceptorChain(String name) {
+        this.name = name;
+    }
+
+    synchronized void addRequestInterceptor(Object interceptor) {
+        requestStages = append(requestStages, interceptor, REQUEST);
+    }
+
+    synchronized void addResponseInterceptor(Object interceptor) {
+        responseStages = append(responseStages, interceptor, RESPONSE);
+    }
+
+    /**
+     * Invokes the request interceptors of the chain, starting from the given one.
+     *
+     * @param from index of the first interceptor to invoke
+     * @return {@link #RESPONDED} if an interceptor responded to the client, otherwise {@link #PROCEED}. If an
+     * asynchronous interceptor was invoked, a {@link CompletionStage} completed with the index of the next interceptor
+     * to invoke, or with the result of the chain if it was the last one, is returned instead.
+     */
+    Object interceptRequest(int from, Caller caller, Request request) {
+        return invoke(requestStages, from, true, caller, request, null);
+    }
+
+    /**
+     * Invokes the response interceptors of the chain, starting from the given one.
+     *
+     * @param from index of the first interceptor to invoke
+     * @return {@link #RESPONDED} if an interceptor responded to the client, otherwise {@link #PROCEED}. If an
+     * asynchronous interceptor was invoked, a {@link CompletionStage} completed with the index of the next interceptor
+     * to invoke, or with the result of the chain if it was the last one, is returned instead.
+     */
+    Object interceptResponse(int from, Caller caller, Response response) {
+        return invoke(responseStages, from, false, caller, null, response);
+    }
+
+    private Stage[] append(Stage[] stages, Object interceptor, String phase) {
+        InterceptorMetrics metrics = new InterceptorMetrics(interceptor.getClass().getName());
+        MBeanUtils.registerMBean(metrics, "Interceptor",
+                name + " " + phase + " " + stages.length + " " + interceptor.getClass().getName());
+        Stage[] appended = Arrays.copyOf(stages, stages.length + 1);
+        appended[stages.length] = new Stage(interceptor, metrics);
+        return appended;
+    }
+
+    private Object invoke(Stage[] stages, int from, boolean requestFlow, Caller caller, Request request,
+                          Response response) {
+        for (int i = from; i < stages.length; i++) {
+            Stage stage = stages[i];
+            if (stage.asyncInterceptor != null) {
+                return invokeAsync(stages, i, requestFlow, caller, request, response);
+            }
+            long start = System.nanoTime();
+            boolean proceed;
+            try {
+                proceed = requestFlow ? stage.interceptor.interceptRequest(caller, request)
+                        : stage.interceptor.interceptResponse(caller, response);
+            } catch (RuntimeException e) {
+                stage.metrics.recordError(System.nanoTime() - start);
+                throw e;
+            }
+            // an interceptor returning false without responding does not stop the flow
+            boolean responded = !proceed && isResponded(caller);
+            stage.metrics.record(System.nanoTime() - start, responded);
+            if (responded) {
+                return RESPONDED;
+            }
+        }
+        return PROCEED;
+    }
+
+    private CompletionStage<Integer> invokeAsync(Stage[] stages, int index, boolean requestFlow, Caller caller,
+                                                 Request request, Response response) {
+        Stage stage = stages[index];
+        CompletableFuture<Integer> result = new CompletableFuture<>();
+        long start = System.nanoTime();
+        CompletionStage<Boolean> interception;
+        try {
+            interception = requestFlow ? stage.asyncInterceptor.interceptRequest(caller, request)
+                    : stage.asyncInterceptor.interceptResponse(caller, response);
+            if (interception == null) {
+                throw new IllegalStateException("Interceptor returned no completion stage");
+            }
+        } catch (RuntimeException e) {
+            stage.metrics.recordError(System.nanoTime() - start);
+            result.completeExceptionally(e);
+            return result;
+        }
+        // the next interceptors are not invoked here, as the stage may complete on a thread without a strand
+        interception.whenComplete((proceed, error) -> {
+            if (error != null) {
+                stage.metrics.recordError(System.nanoTime() - start);
+                result.completeExceptionally(error);
+                return;
+            }
+            boolean responded = !Boolean.TRUE.equals(proceed) && isResponded(caller);
+            stage.metrics.record(System.nanoTime() - start, responded);
+            if (responded) {
+                result.complete(RESPONDED);
+            } else {
+                result.complete(index + 1 < stages.length ? index + 1 : PROCEED);
+            }
+        });
+        return result;
+    }
+
+    /**
+     * Returns whether an interceptor of the chain has responded to the client.
+     */
+    boolean isResponded(Caller caller) {
+        return caller.isResponded();
+    }
+
+    private static final class Stage {
+        private final Interceptor interceptor;
+        private final AsyncInterceptor asyncInterceptor;
+        private final InterceptorMetrics metrics;
+
+        private Stage(Object interceptor, InterceptorMetrics metrics) {
+            this.interceptor = interceptor instanceof Interceptor ? (Interceptor) interceptor : null;
+            this.asyncInterceptor = interceptor instanceof AsyncInterceptor ? (AsyncInterceptor) interceptor : null;
+            this.metrics = metrics;
+        }
+    }
+}
@@ -18,50 +18,122 @@ package org.wso2.micro.gateway.core.interceptors;
 
 import org.ballerinalang.jvm.scheduling.Scheduler;
 import org.ballerinalang.jvm.values.ObjectValue;
+import org.ballerinalang.jvm.values.connector.NonBlockingCallback;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.wso2.micro.gateway.core.utils.ErrorUtils;
+import org.wso2.micro.gateway.interceptor.AsyncInterceptor;
 import org.wso2.micro.gateway.interceptor.Caller;
 import org.wso2.micro.gateway.interceptor.Interceptor;
 import org.wso2.micro.gateway.interceptor.Request;
 import org.wso2.micro.gateway.interceptor.Response;
 
+import java.util.List;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.CopyOnWriteArrayList;
+
 /**
- * Class to dynamically invoke the interceptors defined.
+ * Class to dynamically invoke the interceptors defined. Each operation with java interceptors has an
+ * {@link InterceptorChain}, which is created and filled when the service is initialized and is referred to by its
+ * index afterwards. An {@link AsyncInterceptor} is invoked without blocking the strand of the request, the strand is
+ * resumed with the index of the next interceptor once the interceptor completes, and the chain is invoked again from
+ * there.
  */
 public class InterceptorInvoker {
-    private static Interceptor[] interceptorArray;
-    private static int index = 0;
+    private static final List<InterceptorChain> chains = new CopyOnWriteArrayList<>();
     private static final Logger log = LoggerFactory.getLogger("ballerina");
 
-    public static void initiateInterceptorArray(int arraySize) {
-        interceptorArray = new Interceptor[arraySize];
+    /**
+     * Creates an empty interceptor chain.
+     *
+     * @param name name of the operation of the chain, used to identify the metrics of its interceptors
+     * @return index of the chain
+     */
+    public static synchronized int createInterceptorChain(String name) {
+        chains.add(new InterceptorChain(name));
+        return chains.size() - 1;
+    }
+
+    /**
+     * Loads the interceptor class and adds it to the end of the request interceptors of the chain. An interceptor
+     * class which cannot be loaded is logged and skipped.
+     */
+    public static void addRequestInterceptor(int chainIndex, String className) {
+        Object interceptor = loadInterceptorClass(className);
+        if (interceptor != null) {
+            chains.get(chainIndex).addRequestInterceptor(interceptor);
+        }
+    }
+
+    /**
+     * Loads the interceptor class and adds it to the end of the response interceptors of the chain. An interceptor
+     * class which cannot be loaded is logged and skipped.
+     */
+    public static void addResponseInterceptor(int chainIndex, String className) {
+        Object interceptor = loadInterceptorClass(className);
+        if (interceptor != null) {
+            chains.get(chainIndex).addResponseInterceptor(interceptor);
+        }
     }
 
-    public static int loadInterceptorClass(String className) {
+    /**
+     * Invokes the request interceptors of the chain, starting from the given one.
+     *
+     * @return index of the next interceptor to invoke, {@link InterceptorChain#PROCEED} if all the interceptors were
+     * invoked or {@link InterceptorChain#RESPONDED} if an interceptor responded to the client
+     */
+    public static int invokeRequestInterceptors(int chainIndex, int from, ObjectValue caller, ObjectValue request) {
+        return complete(chains.get(chainIndex).interceptRequest(from, new Caller(caller), new Request(request)));
+    }
+
+    /**
+     * Invokes the response interceptors of the chain, starting from the given one.
+     *
+     * @return index of the next interceptor to invoke, {@link InterceptorChain#PROCEED} if all the interceptors were
+     * invoked or {@link InterceptorChain#RESPONDED} if an interceptor responded to the client
+     */
+    public static int invokeResponseInterceptors(int chainIndex, int from, ObjectValue caller, ObjectValue response) {
+        return complete(chains.get(chainIndex).interceptResponse(from, new Caller(caller), new Response(response)));
+    }
+
+    private static Object loadInterceptorClass(String className) {
         try {
-            Class interceptorClass = InterceptorInvoker.class.getClassLoader().loadClass(className);
-            Interceptor interceptor = (Interceptor) interceptorClass.newInstance();
-            int returnIndex = index;
-            interceptorArray[returnIndex] = interceptor;
-            index++;
-            return returnIndex;
+            Class<?> interceptorClass = InterceptorInvoker.class.getClassLoader().loadClass(className);
+            Object interceptor = interceptorClass.newInstance();
+            if (interceptor instanceof Interceptor || interceptor instanceof AsyncInterceptor) {
+                return interceptor;
+            }
+            log.error("Interceptor class: " + className + " does not implement " + Interceptor.class.getName()
+                    + " or " + AsyncInterceptor.class.getName());
         } catch (InstantiationException | IllegalAccessException | ClassNotFoundException e) {
             log.error("Error while loading the interceptor class: " + className, e);
         }
-        return -1;
+        return null;
     }
 
-    public static boolean invokeRequestInterceptor(int arrayIndex, ObjectValue caller, ObjectValue request) {
-        boolean returnedValue = interceptorArray[arrayIndex]
-                .interceptRequest(new Caller(caller), new Request(request));
-        Scheduler.getStrand().setReturnValues(returnedValue);
-        return returnedValue;
-    }
-
-    public static boolean invokeResponseInterceptor(int arrayIndex, ObjectValue caller, ObjectValue response) {
-        boolean returnedValue = interceptorArray[arrayIndex]
-                .interceptResponse(new Caller(caller), new Response(response));
-        Scheduler.getStrand().setReturnValues(returnedValue);
+    /**
+     * Returns the result of the chain to the strand. If an asynchronous interceptor has not completed yet, the strand
+     * is yielded until it completes and is then resumed with the index of the next interceptor, or with an error if
+     * the interceptor failed. The returned value is ignored by the scheduler in that case.
+     */
+    @SuppressWarnings("unchecked")
+    private static int complete(Object result) {
+        if (result instanceof CompletionStage) {
+            NonBlockingCallback callback = new NonBlockingCallback(Scheduler.getStrand());
+            ((CompletionStage<Integer>) result).whenComplete((next, error) -> {
+                if (error != null) {
+                    log.error("Error while executing the interceptor", error);
+                    callback.setReturnValues(ErrorUtils.getBallerinaError("Error while executing the interceptor",
+                            error));
+                } else {
+                    callback.setReturnValues(next.longValue());
+                }
+                callback.notifySuccess();
+            });
+            return InterceptorChain.RESPONDED;
+        }
+        int returnedValue = (Integer) result;
+        Scheduler.getStrand().setReturnValues((long) returnedValue);
         return returnedValue;
     }
 }
@@ -0,0 +1,157 @@
+/*
+ *  Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+
+package org.wso2.micro.gateway.core.interceptors;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Invocation statistics of an interceptor of an operation. The latencies are recorded in a histogram with fixed
+ * buckets, so that recording an invocation on the request path only increments counters and does not allocate.
+ */
+public class InterceptorMetrics implements InterceptorMetricsMXBean {
+
+    private static final long[] BUCKET_BOUNDS_MICROS = {100, 250, 500, 1000, 2500, 5000, 10000, 25000, 50000, 100000,
+            250000, 500000, 1000000, 2500000, 5000000};
+
+    private final String interceptorClass;
+    private final LongAdder[] buckets = new LongAdder[BUCKET_BOUNDS_MICROS.length + 1];
+    private final LongAdder shortCircuits = new LongAdder();
+    private final LongAdder errors = new LongAdder();
+    private final LongAdder totalLatencyNanos = new LongAdder();
+    private final LongAccumulator maxLatencyNanos = new LongAccumulator(Math::max, 0);
+
+    InterceptorMetrics(String interceptorClass) {
+        this.interceptorClass = interceptorClass;
+        for (int i = 0; i < buckets.length; i++) {
+            buckets[i] = new LongAdder();
+        }
+    }
+
+    /**
+     * Records an invocation of the interceptor.
+     *
+     * @param latencyNanos time taken by the interceptor
+     * @param shortCircuit whether the interceptor responded to the client and stopped the flow
+     */
+    void record(long latencyNanos, boolean shortCircuit) {
+        long latencyMicros = latencyNanos / 1000;
+        int bucket = 0;
+        while (bucket < BUCKET_BOUNDS_MICROS.length && latencyMicros > BUCKET_BOUNDS_MICROS[bucket]) {
+            bucket++;
+        }
+        buckets[bucket].increment();
+        totalLatencyNanos.add(latencyNanos);
+        maxLatencyNanos.accumulate(latencyNanos);
+        if (shortCircuit) {
+            shortCircuits.increment();
+        }
+    }
+
+    /**
+     * Records an invocation of the interceptor which failed with an error.
+     */
+    void recordError(long latencyNanos) {
+        record(latencyNanos, false);
+        errors.increment();
+    }
+
+    @Override
+    public String getInterceptorClass() {
+        return interceptorClass;
+    }
+
+    @Override
+    public long getInvocations() {
+        long invocations = 0;
+        for (LongAdder bucket : buckets) {
+            invocations += bucket.sum();
+        }
+        return invocations;
+    }
+
+    @Override
+    public long getShortCircuits() {
+        return shortCircuits.sum();
+    }
+
+    @Override
+    public long getErrors() {
+        return errors.sum();
+    }
+
+    @Override
+    public double getAverageLatencyMillis() {
+        long invocations = getInvocations();
+        return invocations == 0 ? 0 : (double) totalLatencyNanos.sum() / invocations / TimeUnit.MILLISECONDS.toNanos(1);
+    }
+
+    @Override
+    public long getMaxLatencyMillis() {
+        return TimeUnit.NANOSECONDS.toMillis(maxLatencyNanos.get());
+    }
+
+    @Override
+    public double getLatencyP50Millis() {
+        return getLatencyPercentileMillis(0.5);
+    }
+
+    @Override
+    public double getLatencyP99Millis() {
+        return getLatencyPercentileMillis(0.99);
+    }
+
+    @Override
+    public long[] getLatencyBucketBoundsMicros() {
+        return BUCKET_BOUNDS_MICROS.clone();
+    }
+
+    @Override
+    public long[] getLatencyHistogram() {
+        long[] histogram = new long[buckets.length];
+        for (int i = 0; i < buckets.length; i++) {
+            histogram[i] = buckets[i].sum();
+        }
+        return histogram;
+    }
+
+    /**
+     * Returns the upper bound of the bucket in which the percentile falls. The percentiles in the last bucket are
+     * reported as the maximum latency.
+     */
+    private double getLatencyPercentileMillis(double percentile) {
+        long[] histogram = getLatencyHistogram();
+        long invocations = 0;
+        for (long count : histogram) {
+            invocations += count;
+        }
+        if (invocations == 0) {
+            return 0;
+        }
+        long rank = (long) Math.ceil(invocations * percentile);
+        long seen = 0;
+        for (int i = 0; i < BUCKET_BOUNDS_MICROS.length; i++) {
+            seen += histogram[i];
+            if (seen >= rank) {
+                return BUCKET_BOUNDS_MICROS[i] / 1000.0;
+            }
+        }
+        return maxLatencyNanos.get() / (double) TimeUnit.MILLISECONDS.toNanos(1);
+    }
+}
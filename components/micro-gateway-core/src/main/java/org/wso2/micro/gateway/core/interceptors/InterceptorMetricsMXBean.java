@@ -0,0 +1,55 @@
+/*
+ *  Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+
+package org.wso2.micro.gateway.core.interceptors;
+
+/**
+ * Management interface exposing the invocation statistics of an interceptor of an operation.
+ */
+public interface InterceptorMetricsMXBean {
+
+    String getInterceptorClass();
+
+    long getInvocations();
+
+    /**
+     * Returns the number of invocations in which the interceptor responded to the client and stopped the flow.
+     */
+    long getShortCircuits();
+
+    long getErrors();
+
+    double getAverageLatencyMillis();
+
+    long getMaxLatencyMillis();
+
+    /**
+     * Returns the upper bound of the latency of the given percentage of the invocations, estimated from the latency
+     * histogram.
+     */
+    double getLatencyP50Millis();
+
+    double getLatencyP99Millis();
+
+    /**
+     * Returns the upper bounds in microseconds of the buckets of the latency histogram. The last bucket, which is
+     * not bounded, is not included.
+     */
+    long[] getLatencyBucketBoundsMicros();
+
+    long[] getLatencyHistogram();
+}
@@ -0,0 +1,259 @@
+/*
+ *  Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package org.wso2.micro.gateway.core.keyvalidation;
+
+import org.ballerinalang.jvm.scheduling.Scheduler;
+import org.ballerinalang.jvm.values.connector.NonBlockingCallback;
+import org.wso2.micro.gateway.core.cache.CacheRegion;
+import org.wso2.micro.gateway.core.cache.TokenCache;
+import org.wso2.micro.gateway.core.utils.MBeanUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * Coalesces the concurrent validations of the same token with the key validation service, so that only one request
+ * calls the key manager when a token is not cached, while the other requests wait for its result.
+ * <p>
+ * A request which does not find the validation result of a token in the cache joins the in-flight validation of the
+ * cache key. The first request leads the validation and the strands of the others are yielded until the leader
+ * completes it, when they are resumed with the shared result. A cached result is also refreshed in the background
+ * shortly before it expires, so that a frequently used token does not miss the cache at all.
+ * <p>
+ * A validation is completed with the validation information, with the error of the leader, or with false if there
+ * is no result to share, in which case the waiting requests validate the token again themselves.
+ */
+public class KeyValidationCoalescer implements KeyValidationCoalescerMXBean {
+
+    private static volatile KeyValidationCoalescer instance;
+
+    private final Map<String, Flight> flights = new ConcurrentHashMap<>();
+    private final long refreshAheadMillis;
+
+    private final AtomicLong validations = new AtomicLong();
+    private final AtomicLong failedValidations = new AtomicLong();
+    private final AtomicLong coalescedRequests = new AtomicLong();
+    private final AtomicLong backgroundRefreshes = new AtomicLong();
+    private final AtomicLong totalLatency = new AtomicLong();
+    private volatile long lastLatency;
+    private volatile long maxLatency;
+
+    KeyValidationCoalescer(long refreshAheadMillis) {
+        this.refreshAheadMillis = refreshAheadMillis;
+    }
+
+    /**
+     * Creates the coalescer. Subsequent calls have no effect.
+     *
+     * @param refreshAheadMillis time in milliseconds before the expiry of a cached validation result from when it
+     *                           is refreshed in the background, or 0 to not refresh the results
+     */
+    public static synchronized void initKeyValidationCoalescer(long refreshAheadMillis) {
+        if (instance != null) {
+            return;
+        }
+        instance = new KeyValidationCoalescer(Math.max(refreshAheadMillis, 0));
+        MBeanUtils.registerMBean(instance, "KeyValidation", null);
+    }
+
+    /**
+     * Joins the validation of the cache key. If there is no validation in flight for the key, a validation is
+     * started and the caller is to validate the token and complete the validation with
+     * {@link #completeKeyValidation(String, Object)}. Otherwise the strand is yielded until the validation is
+     * completed.
+     *
+     * @param cacheKey cache key of the validation
+     * @return true if the caller leads the validation, or null if the strand is yielded and is to be resumed with the
+     * result of the validation, or the result if the validation was completed meanwhile
+     */
+    public static Object joinKeyValidation(String cacheKey) {
+        KeyValidationCoalescer coalescer = instance;
+        if (coalescer == null) {
+            return Boolean.TRUE;
+        }
+        return coalescer.join(cacheKey, KeyValidationCoalescer::yieldStrand);
+    }
+
+    /**
+     * Completes the validation of the cache key and resumes the requests waiting for it with the result. Must be
+     * called by the leader of the validation, whether the validation succeeded or not.
+     *
+     * @param cacheKey cache key of the validation
+     * @param result   validation information, the error of the validation, or false if there is no result to share
+     */
+    public static void completeKeyValidation(String cacheKey, Object result) {
+        KeyValidationCoalescer coalescer = instance;
+        if (coalescer != null) {
+            coalescer.complete(cacheKey, result);
+        }
+    }
+
+    /**
+     * Starts the background refresh of the cached validation result of the cache key if it expires soon. The
+     * requests which miss the cache while the result is refreshed wait for the refreshed result.
+     *
+     * @param region   cache region of the validation results
+     * @param cacheKey cache key of the validation
+     * @return true if the caller is to refresh the result and complete the validation
+     */
+    public static boolean startKeyValidationRefresh(CacheRegion region, String cacheKey) {
+        KeyValidationCoalescer coalescer = instance;
+        return coalescer != null && coalescer.startRefresh(region, cacheKey);
+    }
+
+    /**
+     * Records a call to the key validation service.
+     *
+     * @param latencyMillis time in milliseconds taken by the call
+     * @param failed        whether the call failed
+     */
+    public static void recordKeyValidation(long latencyMillis, boolean failed) {
+        KeyValidationCoalescer coalescer = instance;
+        if (coalescer == null) {
+            return;
+        }
+        coalescer.validations.incrementAndGet();
+        if (failed) {
+            coalescer.failedValidations.incrementAndGet();
+        }
+        coalescer.totalLatency.addAndGet(latencyMillis);
+        coalescer.lastLatency = latencyMillis;
+        if (latencyMillis > coalescer.maxLatency) {
+            coalescer.maxLatency = latencyMillis;
+        }
+    }
+
+    Object join(String cacheKey, Supplier<Waiter> waiter) {
+        Flight inFlight = flights.putIfAbsent(cacheKey, new Flight());
+        if (inFlight == null) {
+            return Boolean.TRUE;
+        }
+        coalescedRequests.incrementAndGet();
+        return inFlight.await(waiter);
+    }
+
+    void complete(String cacheKey, Object result) {
+        Flight flight = flights.remove(cacheKey);
+        if (flight != null) {
+            flight.complete(result);
+        }
+    }
+
+    boolean startRefresh(CacheRegion region, String cacheKey) {
+        if (refreshAheadMillis == 0 || !TokenCache.markForRefresh(region, cacheKey, refreshAheadMillis)) {
+            return false;
+        }
+        if (flights.putIfAbsent(cacheKey, new Flight()) != null) {
+            // a validation of the key is already in flight, which caches a new result anyway
+            return false;
+        }
+        backgroundRefreshes.incrementAndGet();
+        return true;
+    }
+
+    /**
+     * Yields the strand of the caller until the validation it joined is completed.
+     */
+    private static Waiter yieldStrand() {
+        NonBlockingCallback callback = new NonBlockingCallback(Scheduler.getStrand());
+        return result -> {
+            callback.setReturnValues(result);
+            callback.notifySuccess();
+        };
+    }
+
+    @Override
+    public int getInFlightValidations() {
+        return flights.size();
+    }
+
+    @Override
+    public long getValidations() {
+        return validations.get();
+    }
+
+    @Override
+    public long getFailedValidations() {
+        return failedValidations.get();
+    }
+
+    @Override
+    public long getCoalescedRequests() {
+        return coalescedRequests.get();
+    }
+
+    @Override
+    public long getBackgroundRefreshes() {
+        return backgroundRefreshes.get();
+    }
+
+    @Override
+    public double getAverageLatencyMillis() {
+        long count = validations.get();
+        return count == 0 ? 0 : (double) totalLatency.get() / count;
+    }
+
+    @Override
+    public long getLastLatencyMillis() {
+        return lastLatency;
+    }
+
+    @Override
+    public long getMaxLatencyMillis() {
+        return maxLatency;
+    }
+
+    /**
+     * Request waiting for the result of a validation in flight.
+     */
+    interface Waiter {
+        void resume(Object result);
+    }
+
+    /**
+     * Validation of a cache key in flight, with the requests waiting for its result.
+     */
+    static final class Flight {
+        private List<Waiter> waiters = new ArrayList<>();
+        private Object result;
+
+        synchronized Object await(Supplier<Waiter> waiter) {
+            if (waiters == null) {
+                // completed after it was looked up
+                return result;
+            }
+            waiters.add(waiter.get());
+            return null;
+        }
+
+        void complete(Object result) {
+            List<Waiter> completedWaiters;
+            synchronized (this) {
+                this.result = result;
+                completedWaiters = waiters;
+                waiters = null;
+            }
+            for (Waiter waiter : completedWaiters) {
+                waiter.resume(result);
+            }
+        }
+    }
+}
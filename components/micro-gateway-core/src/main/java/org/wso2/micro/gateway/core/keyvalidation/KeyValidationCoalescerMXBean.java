@@ -0,0 +1,49 @@
+/*
+ *  Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package org.wso2.micro.gateway.core.keyvalidation;
+
+/**
+ * Management interface exposing the calls of the gateway to the key validation service of the key manager.
+ */
+public interface KeyValidationCoalescerMXBean {
+
+    /**
+     * Returns the number of validations which are waiting for the response of the key manager.
+     */
+    int getInFlightValidations();
+
+    long getValidations();
+
+    long getFailedValidations();
+
+    /**
+     * Returns the number of requests which waited for the validation of a concurrent request of the same token
+     * instead of calling the key manager.
+     */
+    long getCoalescedRequests();
+
+    /**
+     * Returns the number of validations started to refresh a cached validation result before it expires.
+     */
+    long getBackgroundRefreshes();
+
+    double getAverageLatencyMillis();
+
+    long getLastLatencyMillis();
+
+    long getMaxLatencyMillis();
+}
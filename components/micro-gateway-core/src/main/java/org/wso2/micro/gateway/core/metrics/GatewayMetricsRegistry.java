@@ -0,0 +1,132 @@
+/*
+ *  Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+
+package org.wso2.micro.gateway.core.metrics;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.wso2.micro.gateway.core.utils.MBeanUtils;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Registry of the latency metrics of the gateway, keyed by the metric name, category, service, resource and method.
+ * The resource is the name of the resource of the service rather than the request path, so that the number of
+ * series is bound by the APIs deployed. Each series is registered as an MBean when it is created.
+ * <p>
+ * The number of series is capped as well. Once the cap is reached, the latencies of new combinations are recorded
+ * to a series of the metric and category with {@value #OTHER} as the service, resource and method.
+ * <p>
+ * The MBean of a series is named by the metric, category, service, resource and method, which the rules of the
+ * Prometheus JMX exporter map to the metric name and labels of the gateway metrics, such as
+ * {@code Per_Request_Duration_mean}.
+ */
+public class GatewayMetricsRegistry {
+
+    private static final Logger log = LoggerFactory.getLogger("ballerina");
+
+    private static final String OTHER = "other";
+    private static final String MBEAN_TYPE = "GatewayMetric";
+    private static final char KEY_SEPARATOR = '\u0000';
+    private static final int DEFAULT_MAX_SERIES = 1000;
+
+    private static final Map<String, MetricSeries> series = new ConcurrentHashMap<>();
+    private static volatile int maxSeries = DEFAULT_MAX_SERIES;
+
+    private GatewayMetricsRegistry() {
+    }
+
+    /**
+     * Sets the maximum number of series of the registry.
+     *
+     * @param maxSeriesCount maximum number of series, beyond which the latencies are recorded to the series of
+     *                       {@value #OTHER}
+     */
+    public static void initGatewayMetricsRegistry(int maxSeriesCount) {
+        maxSeries = Math.max(maxSeriesCount, 1);
+    }
+
+    /**
+     * Returns the series of the metric, creating and registering it if it does not exist yet.
+     *
+     * @param name        metric name
+     * @param description metric description
+     * @param category    category of the metric, such as the filter which is measured
+     * @param service     name of the service, or an empty string for a metric of all the services
+     * @param resource    name of the resource of the service
+     * @param method      HTTP method of the request
+     * @return series of the metric
+     */
+    public static MetricSeries getSeries(String name, String description, String category, String service,
+            String resource, String method) {
+        String key = key(name, category, service, resource, method);
+        MetricSeries metricSeries = series.get(key);
+        if (metricSeries != null) {
+            return metricSeries;
+        }
+        if (series.size() >= maxSeries) {
+            key = key(name, category, OTHER, OTHER, OTHER);
+            metricSeries = series.get(key);
+            if (metricSeries != null) {
+                return metricSeries;
+            }
+            service = OTHER;
+            resource = OTHER;
+            method = OTHER;
+        }
+        return createSeries(key, name, description, category, service, resource, method);
+    }
+
+    private static synchronized MetricSeries createSeries(String key, String name, String description,
+            String category, String service, String resource, String method) {
+        MetricSeries metricSeries = series.get(key);
+        if (metricSeries != null) {
+            return metricSeries;
+        }
+        metricSeries = new MetricSeries(name, description, category, service, resource, method);
+        series.put(key, metricSeries);
+        Map<String, String> properties = new LinkedHashMap<>();
+        properties.put("metric", name);
+        properties.put("category", category);
+        properties.put("service", service);
+        properties.put("resource", resource);
+        properties.put("method", method);
+        MBeanUtils.registerMBeanWithProperties(metricSeries, MBEAN_TYPE, properties);
+        if (series.size() == maxSeries) {
+            log.warn("Number of gateway metric series reached the maximum of " + maxSeries
+                    + ", the latencies of new series are recorded as " + OTHER);
+        }
+        return metricSeries;
+    }
+
+    /**
+     * Records a latency of the series.
+     *
+     * @param metricSeries  series returned by {@link #getSeries}
+     * @param latencyMillis latency in milliseconds
+     */
+    public static void record(MetricSeries metricSeries, double latencyMillis) {
+        metricSeries.record(latencyMillis);
+    }
+
+    private static String key(String name, String category, String service, String resource, String method) {
+        return name + KEY_SEPARATOR + category + KEY_SEPARATOR + service + KEY_SEPARATOR + resource + KEY_SEPARATOR
+                + method;
+    }
+}
@@ -0,0 +1,181 @@
+/*
+ *  Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+
+package org.wso2.micro.gateway.core.metrics;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Log-linear histogram of latencies in microseconds. Each power of two range is split into equally sized
+ * sub-buckets, so that a recorded value is off by at most an eighth of its value, from a microsecond up to days.
+ * <p>
+ * The counts are kept in stripes of preallocated arrays, and a thread records into the stripe selected by its id, so
+ * that concurrent requests rarely update the same counters. A stripe is only allocated once a thread records into it.
+ * Recording does not lock or allocate once the stripe is allocated.
+ */
+class LatencyHistogram {
+
+    private static final int SUB_BUCKET_BITS = 3;
+    private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+    private static final int MAX_EXPONENT = 40;
+    private static final long MAX_VALUE = (1L << MAX_EXPONENT) - 1;
+    static final int BUCKETS = (MAX_EXPONENT - SUB_BUCKET_BITS + 1) * SUB_BUCKETS;
+    // the sum and the maximum of the recorded values are kept after the buckets of each stripe
+    private static final int SUM_INDEX = BUCKETS;
+    private static final int MAX_INDEX = BUCKETS + 1;
+    private static final int MAX_STRIPES = 8;
+
+    private final AtomicReferenceArray<AtomicLongArray> stripes;
+    private final int stripeMask;
+
+    LatencyHistogram() {
+        int stripeCount = Math.min(Integer.highestOneBit(Math.max(Runtime.getRuntime().availableProcessors(), 1)),
+                MAX_STRIPES);
+        this.stripes = new AtomicReferenceArray<>(stripeCount);
+        this.stripeMask = stripeCount - 1;
+    }
+
+    void record(long valueMicros) {
+        long value = Math.min(Math.max(valueMicros, 0), MAX_VALUE);
+        AtomicLongArray stripe = stripe();
+        stripe.getAndIncrement(bucketIndex(value));
+        stripe.getAndAdd(SUM_INDEX, value);
+        long max = stripe.get(MAX_INDEX);
+        while (value > max && !stripe.compareAndSet(MAX_INDEX, max, value)) {
+            max = stripe.get(MAX_INDEX);
+        }
+    }
+
+    private AtomicLongArray stripe() {
+        int index = (int) (Thread.currentThread().getId() * 0x9E3779B9L >>> 16) & stripeMask;
+        AtomicLongArray stripe = stripes.get(index);
+        if (stripe == null) {
+            stripes.compareAndSet(index, null, new AtomicLongArray(BUCKETS + 2));
+            stripe = stripes.get(index);
+        }
+        return stripe;
+    }
+
+    static int bucketIndex(long value) {
+        if (value < SUB_BUCKETS) {
+            return (int) value;
+        }
+        int exponent = 63 - Long.numberOfLeadingZeros(value);
+        int subBucket = (int) (value >>> (exponent - SUB_BUCKET_BITS)) & (SUB_BUCKETS - 1);
+        return (exponent - SUB_BUCKET_BITS + 1) * SUB_BUCKETS + subBucket;
+    }
+
+    /**
+     * Returns the lowest value of the bucket.
+     */
+    static long bucketLowerBound(int index) {
+        if (index < SUB_BUCKETS) {
+            return index;
+        }
+        int exponent = index / SUB_BUCKETS + SUB_BUCKET_BITS - 1;
+        long subBucket = index % SUB_BUCKETS;
+        return (SUB_BUCKETS + subBucket) << (exponent - SUB_BUCKET_BITS);
+    }
+
+    /**
+     * Returns the highest value of the bucket.
+     */
+    static long bucketUpperBound(int index) {
+        return index + 1 < BUCKETS ? bucketLowerBound(index + 1) - 1 : MAX_VALUE;
+    }
+
+    /**
+     * Sums up the stripes into a snapshot of the histogram.
+     */
+    Snapshot snapshot() {
+        long[] counts = new long[BUCKETS];
+        long sum = 0;
+        long max = 0;
+        for (int i = 0; i < stripes.length(); i++) {
+            AtomicLongArray stripe = stripes.get(i);
+            if (stripe == null) {
+                continue;
+            }
+            for (int bucket = 0; bucket < BUCKETS; bucket++) {
+                counts[bucket] += stripe.get(bucket);
+            }
+            sum += stripe.get(SUM_INDEX);
+            max = Math.max(max, stripe.get(MAX_INDEX));
+        }
+        return new Snapshot(counts, sum, max);
+    }
+
+    /**
+     * Counts of a histogram at a point in time.
+     */
+    static final class Snapshot {
+        private final long[] counts;
+        private final long count;
+        private final long sum;
+        private final long max;
+
+        private Snapshot(long[] counts, long sum, long max) {
+            long total = 0;
+            for (long bucketCount : counts) {
+                total += bucketCount;
+            }
+            this.counts = counts;
+            this.count = total;
+            this.sum = sum;
+            this.max = max;
+        }
+
+        long getCount() {
+            return count;
+        }
+
+        long getSum() {
+            return sum;
+        }
+
+        long getMax() {
+            return max;
+        }
+
+        /**
+         * Returns the value at the quantile, as the middle of the bucket holding it, capped at the maximum value. The
+         * value at the highest rank is the maximum value.
+         *
+         * @param quantile quantile from 0 to 1
+         */
+        long getValueAtQuantile(double quantile) {
+            if (count == 0) {
+                return 0;
+            }
+            long rank = Math.max(1, (long) Math.ceil(quantile * count));
+            if (rank >= count) {
+                return max;
+            }
+            long seen = 0;
+            for (int bucket = 0; bucket < counts.length; bucket++) {
+                seen += counts[bucket];
+                if (seen >= rank) {
+                    long lower = bucketLowerBound(bucket);
+                    long middle = lower + (bucketUpperBound(bucket) - lower) / 2;
+                    return Math.min(middle, max);
+                }
+            }
+            return max;
+        }
+    }
+}
@@ -0,0 +1,149 @@
+/*
+ *  Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+
+package org.wso2.micro.gateway.core.metrics;
+
+/**
+ * Latencies of a metric of the gateway for a service, resource, method and category. The percentiles are computed
+ * from a snapshot of the histogram, which is taken at most once a second, so that scraping all the attributes of the
+ * series does not sum up the histogram for each of them.
+ */
+public class MetricSeries implements MetricSeriesMXBean {
+
+    private static final long SNAPSHOT_TTL_NANOS = 1000000000L;
+    private static final double MICROS_PER_MILLI = 1000.0;
+
+    private final String name;
+    private final String description;
+    private final String category;
+    private final String service;
+    private final String resource;
+    private final String method;
+    private final LatencyHistogram histogram = new LatencyHistogram();
+    private volatile LatencyHistogram.Snapshot snapshot;
+    private volatile long snapshotTime;
+
+    MetricSeries(String name, String description, String category, String service, String resource,
+            String method) {
+        this.name = name;
+        this.description = description;
+        this.category = category;
+        this.service = service;
+        this.resource = resource;
+        this.method = method;
+    }
+
+    /**
+     * Records a latency of the series.
+     *
+     * @param latencyMillis latency in milliseconds
+     */
+    public void record(double latencyMillis) {
+        histogram.record((long) (latencyMillis * MICROS_PER_MILLI));
+    }
+
+    private LatencyHistogram.Snapshot getSnapshot() {
+        LatencyHistogram.Snapshot current = snapshot;
+        long now = System.nanoTime();
+        if (current == null || now - snapshotTime > SNAPSHOT_TTL_NANOS) {
+            current = histogram.snapshot();
+            snapshot = current;
+            snapshotTime = now;
+        }
+        return current;
+    }
+
+    private double getMillisAtQuantile(double quantile) {
+        return getSnapshot().getValueAtQuantile(quantile) / MICROS_PER_MILLI;
+    }
+
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public String getDescription() {
+        return description;
+    }
+
+    @Override
+    public String getCategory() {
+        return category;
+    }
+
+    @Override
+    public String getService() {
+        return service;
+    }
+
+    @Override
+    public String getResource() {
+        return resource;
+    }
+
+    @Override
+    public String getMethod() {
+        return method;
+    }
+
+    @Override
+    public long getCount() {
+        return getSnapshot().getCount();
+    }
+
+    @Override
+    public double getMeanMillis() {
+        LatencyHistogram.Snapshot current = getSnapshot();
+        return current.getCount() == 0 ? 0 : current.getSum() / MICROS_PER_MILLI / current.getCount();
+    }
+
+    @Override
+    public double getMaxMillis() {
+        return getSnapshot().getMax() / MICROS_PER_MILLI;
+    }
+
+    @Override
+    public double getP50Millis() {
+        return getMillisAtQuantile(0.5);
+    }
+
+    @Override
+    public double getP75Millis() {
+        return getMillisAtQuantile(0.75);
+    }
+
+    @Override
+    public double getP90Millis() {
+        return getMillisAtQuantile(0.9);
+    }
+
+    @Override
+    public double getP95Millis() {
+        return getMillisAtQuantile(0.95);
+    }
+
+    @Override
+    public double getP99Millis() {
+        return getMillisAtQuantile(0.99);
+    }
+
+    @Override
+    public double getP999Millis() {
+        return getMillisAtQuantile(0.999);
+    }
+}
@@ -0,0 +1,55 @@
+/*
+ *  Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+
+package org.wso2.micro.gateway.core.metrics;
+
+/**
+ * Management interface exposing the latency distribution of a gateway metric series, which is scraped by the JMX
+ * metrics exporter of the gateway. The latencies are in milliseconds.
+ */
+public interface MetricSeriesMXBean {
+
+    String getName();
+
+    String getDescription();
+
+    String getCategory();
+
+    String getService();
+
+    String getResource();
+
+    String getMethod();
+
+    long getCount();
+
+    double getMeanMillis();
+
+    double getMaxMillis();
+
+    double getP50Millis();
+
+    double getP75Millis();
+
+    double getP90Millis();
+
+    double getP95Millis();
+
+    double getP99Millis();
+
+    double getP999Millis();
+}
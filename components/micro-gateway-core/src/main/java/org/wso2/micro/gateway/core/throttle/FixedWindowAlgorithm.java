@@ -0,0 +1,79 @@
+/*
+ *  Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.wso2.micro.gateway.core.throttle;
+
+/**
+ * Counts requests in fixed windows whose start times are aligned to the time unit of the policy. This lets a client
+ * burst up to twice the quota around a window boundary, but it is the cheapest algorithm.
+ */
+public class FixedWindowAlgorithm implements ThrottleAlgorithm {
+
+    public static final int ID = 0;
+
+    @Override
+    public int getId() {
+        return ID;
+    }
+
+    @Override
+    public void initialize(ThrottleCounterTable counterTable, int id, long timestamp) {
+        long windowAlignment = counterTable.get(id, ThrottleCounterTable.WINDOW_ALIGNMENT);
+        long windowStartTime = timestamp - (timestamp % windowAlignment);
+        counterTable.set(id, ThrottleCounterTable.WINDOW_START, windowStartTime);
+        counterTable.set(id, ThrottleCounterTable.COUNT, WindowCount.pack(windowStartTime, 0));
+    }
+
+    @Override
+    public long acquire(ThrottleCounterTable counterTable, int id, long timestamp) {
+        while (true) {
+            long windowStartTime = counterTable.get(id, ThrottleCounterTable.WINDOW_START);
+            if (timestamp > windowStartTime + counterTable.get(id, ThrottleCounterTable.UNIT_TIME)) {
+                long windowAlignment = counterTable.get(id, ThrottleCounterTable.WINDOW_ALIGNMENT);
+                counterTable.compareAndSet(id, ThrottleCounterTable.WINDOW_START, windowStartTime,
+                        timestamp - (timestamp % windowAlignment));
+                continue;
+            }
+            // the count carries the window it belongs to, hence the first request of a new window resets it in the
+            // same CAS which records the request
+            long count = WindowCount.increment(counterTable, id, ThrottleCounterTable.COUNT, windowStartTime);
+            if (count > 0) {
+                return count;
+            }
+        }
+    }
+
+    @Override
+    public boolean isThrottled(ThrottleCounterTable counterTable, int id, long currentTime) {
+        long windowStartTime = counterTable.get(id, ThrottleCounterTable.WINDOW_START);
+        if (currentTime > windowStartTime + counterTable.get(id, ThrottleCounterTable.UNIT_TIME)) {
+            return false;
+        }
+        return WindowCount.countIn(counterTable.get(id, ThrottleCounterTable.COUNT), windowStartTime)
+                >= counterTable.get(id, ThrottleCounterTable.LIMIT);
+    }
+
+    @Override
+    public boolean isExpired(ThrottleCounterTable counterTable, int id, long currentTime) {
+        return currentTime > counterTable.get(id, ThrottleCounterTable.WINDOW_START)
+                + counterTable.get(id, ThrottleCounterTable.UNIT_TIME);
+    }
+
+    @Override
+    public long getExpiryTime(ThrottleCounterTable counterTable, int id) {
+        return counterTable.get(id, ThrottleCounterTable.WINDOW_START)
+                + counterTable.get(id, ThrottleCounterTable.UNIT_TIME) + 1;
+    }
+}
@@ -0,0 +1,97 @@
+/*
+ *  Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.wso2.micro.gateway.core.throttle;
+
+/**
+ * Approximates a sliding log with two fixed buckets of one unit time each. The count of the previous bucket is
+ * weighted by the part of it which still overlaps the sliding window ending at the current time, which removes the
+ * double quota burst of the fixed window at a window boundary.
+ */
+public class SlidingWindowAlgorithm implements ThrottleAlgorithm {
+
+    public static final int ID = 1;
+
+    @Override
+    public int getId() {
+        return ID;
+    }
+
+    @Override
+    public void initialize(ThrottleCounterTable counterTable, int id, long timestamp) {
+        long unitTime = counterTable.get(id, ThrottleCounterTable.UNIT_TIME);
+        long windowStartTime = timestamp - (timestamp % unitTime);
+        counterTable.set(id, ThrottleCounterTable.WINDOW_START, windowStartTime);
+        counterTable.set(id, ThrottleCounterTable.COUNT, WindowCount.pack(windowStartTime, 0));
+        counterTable.set(id, ThrottleCounterTable.PREVIOUS_COUNT, WindowCount.pack(windowStartTime - unitTime, 0));
+    }
+
+    @Override
+    public long acquire(ThrottleCounterTable counterTable, int id, long timestamp) {
+        long unitTime = counterTable.get(id, ThrottleCounterTable.UNIT_TIME);
+        while (true) {
+            long windowStartTime = counterTable.get(id, ThrottleCounterTable.WINDOW_START);
+            if (timestamp >= windowStartTime + unitTime) {
+                counterTable.compareAndSet(id, ThrottleCounterTable.WINDOW_START, windowStartTime,
+                        timestamp - (timestamp % unitTime));
+                continue;
+            }
+            // both buckets carry the window they belong to. The first request of a new window carries the current
+            // bucket over to the previous one if the two are adjacent, and resets it in the CAS recording the request
+            long count = WindowCount.increment(counterTable, id, ThrottleCounterTable.COUNT, windowStartTime,
+                    ThrottleCounterTable.PREVIOUS_COUNT, windowStartTime - unitTime);
+            if (count > 0) {
+                return count;
+            }
+        }
+    }
+
+    @Override
+    public boolean isThrottled(ThrottleCounterTable counterTable, int id, long currentTime) {
+        long unitTime = counterTable.get(id, ThrottleCounterTable.UNIT_TIME);
+        long windowStartTime = counterTable.get(id, ThrottleCounterTable.WINDOW_START);
+        long elapsedTime = currentTime - windowStartTime;
+        long count = counterTable.get(id, ThrottleCounterTable.COUNT);
+        long currentCount;
+        long previousCount;
+        if (elapsedTime >= 2 * unitTime) {
+            return false;
+        } else if (elapsedTime >= unitTime) {
+            // no request has rolled the buckets yet, the current bucket is already the previous one
+            previousCount = WindowCount.countIn(count, windowStartTime);
+            currentCount = 0;
+            elapsedTime -= unitTime;
+        } else {
+            // the current bucket still holds the previous window until the first request of this window
+            previousCount = Math.max(WindowCount.countIn(count, windowStartTime - unitTime), WindowCount.countIn(
+                    counterTable.get(id, ThrottleCounterTable.PREVIOUS_COUNT), windowStartTime - unitTime));
+            currentCount = WindowCount.countIn(count, windowStartTime);
+        }
+        double previousWeight = (double) (unitTime - elapsedTime) / unitTime;
+        return currentCount + previousCount * previousWeight >= counterTable.get(id, ThrottleCounterTable.LIMIT);
+    }
+
+    @Override
+    public boolean isExpired(ThrottleCounterTable counterTable, int id, long currentTime) {
+        return currentTime >= counterTable.get(id, ThrottleCounterTable.WINDOW_START)
+                + 2 * counterTable.get(id, ThrottleCounterTable.UNIT_TIME);
+    }
+
+    @Override
+    public long getExpiryTime(ThrottleCounterTable counterTable, int id) {
+        return counterTable.get(id, ThrottleCounterTable.WINDOW_START)
+                + 2 * counterTable.get(id, ThrottleCounterTable.UNIT_TIME);
+    }
+}
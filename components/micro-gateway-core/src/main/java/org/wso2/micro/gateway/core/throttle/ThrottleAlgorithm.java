@@ -0,0 +1,65 @@
+/*
+ *  Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.wso2.micro.gateway.core.throttle;
+
+/**
+ * Algorithm used to count requests against a node local throttle policy. Implementations keep all of their state
+ * in the primitive fields of a {@link ThrottleCounterTable} slot, hence they must not allocate per request.
+ */
+public interface ThrottleAlgorithm {
+
+    /**
+     * Returns the unique id of the algorithm, which is stored in the slots allocated for it.
+     */
+    int getId();
+
+    /**
+     * Initializes the window fields of a newly allocated slot. Limit, unit time and window alignment of the slot
+     * are already set when this is called.
+     *
+     * @param counterTable counter table the slot belongs to
+     * @param id           slot id
+     * @param timestamp    timestamp of the first request for the throttle key
+     */
+    void initialize(ThrottleCounterTable counterTable, int id, long timestamp);
+
+    /**
+     * Records a request which was allowed through by the gateway.
+     *
+     * @param counterTable counter table the slot belongs to
+     * @param id           slot id
+     * @param timestamp    request timestamp
+     * @return the number of requests counted against the current window after recording this one
+     */
+    long acquire(ThrottleCounterTable counterTable, int id, long timestamp);
+
+    /**
+     * Checks whether the next request for the throttle key should be throttled.
+     */
+    boolean isThrottled(ThrottleCounterTable counterTable, int id, long currentTime);
+
+    /**
+     * Checks whether the slot no longer carries any state that affects a throttle decision, so that the throttle
+     * key can be removed.
+     */
+    boolean isExpired(ThrottleCounterTable counterTable, int id, long currentTime);
+
+    /**
+     * Returns the earliest time at which {@link #isExpired} holds for the slot, unless further requests are
+     * recorded against it in the meantime.
+     */
+    long getExpiryTime(ThrottleCounterTable counterTable, int id);
+}
@@ -0,0 +1,56 @@
+/*
+ *  Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.wso2.micro.gateway.core.throttle;
+
+/**
+ * Registry of the throttle algorithms which can be selected by a throttle policy.
+ */
+public class ThrottleAlgorithms {
+
+    // compile time constants, as the toolkit validates the algorithm names of policies.yaml against them
+    public static final String FIXED_WINDOW = "fixedWindow";
+    public static final String SLIDING_WINDOW = "slidingWindow";
+    public static final String TOKEN_BUCKET = "tokenBucket";
+
+    private static final ThrottleAlgorithm[] algorithms = new ThrottleAlgorithm[] {
+            new FixedWindowAlgorithm(), new SlidingWindowAlgorithm(), new TokenBucketAlgorithm()
+    };
+
+    private ThrottleAlgorithms() {
+    }
+
+    /**
+     * Returns the algorithm for the name given in the throttle policy. The fixed window algorithm is returned when
+     * the policy does not name an algorithm.
+     *
+     * @param name algorithm name
+     * @return throttle algorithm
+     */
+    public static ThrottleAlgorithm get(String name) {
+        if (name == null || name.isEmpty() || FIXED_WINDOW.equalsIgnoreCase(name)) {
+            return algorithms[FixedWindowAlgorithm.ID];
+        } else if (SLIDING_WINDOW.equalsIgnoreCase(name)) {
+            return algorithms[SlidingWindowAlgorithm.ID];
+        } else if (TOKEN_BUCKET.equalsIgnoreCase(name)) {
+            return algorithms[TokenBucketAlgorithm.ID];
+        }
+        throw new IllegalArgumentException("Unsupported throttle algorithm provided : " + name);
+    }
+
+    static ThrottleAlgorithm get(int id) {
+        return algorithms[id];
+    }
+}
@@ -21,8 +21,7 @@ package org.wso2.micro.gateway.core.throttle;
  */
 public class ThrottleConfigHolder {
 
-    private int processThreadPoolCoreSize = 200, processThreadPoolMaximumSize = 1000,
-            processThreadPoolKeepAliveTime = 200, throttleFrequency = 3600;
+    private int eventBufferSize = 65536, eventConsumerThreads = 2, eventBatchSize = 256, throttleFrequency = 3600;
 
     private static class InnerConfigHolder {
         private static final ThrottleConfigHolder instance = new ThrottleConfigHolder();
@@ -35,24 +34,23 @@ public class ThrottleConfigHolder {
         return InnerConfigHolder.instance;
     }
 
-    public void setData(int processThreadPoolCoreSize,
-            int processThreadPoolMaximumSize, int processThreadPoolKeepAliveTime, int throttleFrequency) {
-        this.processThreadPoolCoreSize = processThreadPoolCoreSize;
-        this.processThreadPoolMaximumSize = processThreadPoolMaximumSize;
-        this.processThreadPoolKeepAliveTime = processThreadPoolKeepAliveTime;
+    public void setData(int eventBufferSize, int eventConsumerThreads, int eventBatchSize, int throttleFrequency) {
+        this.eventBufferSize = eventBufferSize;
+        this.eventConsumerThreads = eventConsumerThreads;
+        this.eventBatchSize = eventBatchSize;
         this.throttleFrequency = throttleFrequency;
     }
 
-    public int getProcessThreadPoolCoreSize() {
-        return processThreadPoolCoreSize;
+    public int getEventBufferSize() {
+        return eventBufferSize;
     }
 
-    public int getProcessThreadPoolMaximumSize() {
-        return processThreadPoolMaximumSize;
+    public int getEventConsumerThreads() {
+        return eventConsumerThreads;
     }
 
-    public int getProcessThreadPoolKeepAliveTime() {
-        return processThreadPoolKeepAliveTime;
+    public int getEventBatchSize() {
+        return eventBatchSize;
     }
 
     public int getThrottleFrequency() {
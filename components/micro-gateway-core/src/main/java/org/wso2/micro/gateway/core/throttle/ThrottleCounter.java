@@ -19,134 +19,115 @@ package org.wso2.micro.gateway.core.throttle;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import java.util.Map;
-import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.TimeUnit;
 
 /**
- * This class is responsible for maintaining the throttle counters for various throttle policies.
+ * This class is responsible for maintaining the throttle counters for various throttle policies. Counters of all
+ * the throttle levels live in a single {@link ThrottleCounterTable} and each level interns its throttle keys to slot
+ * ids of that table. Expired throttle keys are removed by a {@link ThrottleExpiryWheel}.
  */
 public class ThrottleCounter {
     private static final Logger log = LoggerFactory.getLogger(ThrottleCounter.class);
 
-    private static final Map<String, ThrottleData> apiLevelCounter = new ConcurrentHashMap<>();
-    private static final Map<String, ThrottleData> resourceLevelCounter = new ConcurrentHashMap<>();
-    private static final Map<String, ThrottleData> applicationLevelCounter = new ConcurrentHashMap<>();
-    private static final Map<String, ThrottleData> subscriptionLevelCounter = new ConcurrentHashMap<>();
-
-    public void updateCounters(String apiKey, String appKey, boolean stopOnQuota, String subscriptionKey,
-            long appTierCount, long appTierUnitTime, String appTierTimeUnit, long apiTierCount, long apiTierUnitTime,
-            String apiTierTimeUnit, long subscriptionTierCount, long subscriptionTierUnitTime,
-            String subscriptionTierTimeUnit, String resourceKey, long resourceTierCount, long resourceTierUnitTime,
-            String resourceTierTimeUnit, long timestamp) {
-        updateMapCounters(apiLevelCounter, apiKey, stopOnQuota, apiTierCount, apiTierUnitTime, apiTierTimeUnit,
-                timestamp, ThrottleData.ThrottleType.API);
-        updateMapCounters(resourceLevelCounter, resourceKey, stopOnQuota, resourceTierCount, resourceTierUnitTime,
-                resourceTierTimeUnit, timestamp, ThrottleData.ThrottleType.RESOURCE);
-        updateMapCounters(applicationLevelCounter, appKey, stopOnQuota, appTierCount, appTierUnitTime, appTierTimeUnit,
-                timestamp, ThrottleData.ThrottleType.APP);
-        updateMapCounters(subscriptionLevelCounter, subscriptionKey, stopOnQuota, subscriptionTierCount,
-                subscriptionTierUnitTime, subscriptionTierTimeUnit, timestamp, ThrottleData.ThrottleType.SUBSCRIPTION);
+    private static final ThrottleCounterTable counterTable = new ThrottleCounterTable();
+    private static final ThrottleExpiryWheel expiryWheel = new ThrottleExpiryWheel(counterTable,
+            System.currentTimeMillis());
+    private static final ThrottleKeyIndex apiLevelCounter = new ThrottleKeyIndex(counterTable, expiryWheel,
+            ThrottleKeyRegistry.getApiKeys());
+    private static final ThrottleKeyIndex resourceLevelCounter = new ThrottleKeyIndex(counterTable, expiryWheel,
+            ThrottleKeyRegistry.getResourceKeys());
+    private static final ThrottleKeyIndex applicationLevelCounter = new ThrottleKeyIndex(counterTable, expiryWheel,
+            ThrottleKeyRegistry.getApplicationKeys());
+    private static final ThrottleKeyIndex subscriptionLevelCounter = new ThrottleKeyIndex(counterTable, expiryWheel,
+            ThrottleKeyRegistry.getSubscriptionKeys());
+
+    public void updateCounters(int apiKeyId, int appKeyId, boolean stopOnQuota, int subscriptionKeyId,
+            long appTierCount, long appTierUnitTime, String appTierTimeUnit, String appTierAlgorithm,
+            long apiTierCount, long apiTierUnitTime, String apiTierTimeUnit, String apiTierAlgorithm,
+            long subscriptionTierCount, long subscriptionTierUnitTime, String subscriptionTierTimeUnit,
+            String subscriptionTierAlgorithm, int resourceKeyId, long resourceTierCount, long resourceTierUnitTime,
+            String resourceTierTimeUnit, String resourceTierAlgorithm, long timestamp) {
+        updateCounter(apiLevelCounter, apiKeyId, apiTierCount, apiTierUnitTime, apiTierTimeUnit, apiTierAlgorithm,
+                timestamp);
+        updateCounter(resourceLevelCounter, resourceKeyId, resourceTierCount, resourceTierUnitTime,
+                resourceTierTimeUnit, resourceTierAlgorithm, timestamp);
+        updateCounter(applicationLevelCounter, appKeyId, appTierCount, appTierUnitTime, appTierTimeUnit,
+                appTierAlgorithm, timestamp);
+        updateCounter(subscriptionLevelCounter, subscriptionKeyId, subscriptionTierCount, subscriptionTierUnitTime,
+                subscriptionTierTimeUnit, subscriptionTierAlgorithm, timestamp);
     }
 
-    private void updateMapCounters(Map<String, ThrottleData> counterMap, String throttleKey, boolean stopOnQuota,
-            long limit, long unitTime, String timeUnit, long timestamp, ThrottleData.ThrottleType throttleType) {
-        ThrottleData existingThrottleData = counterMap.computeIfPresent(throttleKey, (key, throttleData) -> {
-            if (limit > 0 && throttleData.getCount().incrementAndGet() >= limit) {
-                throttleData.setThrottled(true);
-            } else {
-                throttleData.setThrottled(false);
-            }
-            if (timestamp > throttleData.getWindowStartTime() + throttleData.getUnitTime()) {
-                throttleData.getCount().set(1);
-                long startTime = timestamp - (timestamp % getTimeInMilliSeconds(1, timeUnit));
-                throttleData.setWindowStartTime(startTime);
-                throttleData.setThrottled(false);
+    private void updateCounter(ThrottleKeyIndex keyIndex, int keyId, long limit, long unitTime,
+            String timeUnit, String algorithmName, long timestamp) {
+        if (limit <= 0 || keyId == ThrottleKeyRegistry.NOT_FOUND) {
+            // unlimited tiers never throttle, hence there is nothing to count
+            return;
+        }
+        int id = keyIndex.getId(keyId);
+        if (id == ThrottleKeyIndex.NOT_FOUND) {
+            id = keyIndex.intern(keyId, ThrottleAlgorithms.get(algorithmName), limit,
+                    getTimeInMilliSeconds(unitTime, timeUnit), getTimeInMilliSeconds(1, timeUnit), timestamp);
+            if (id == ThrottleKeyIndex.NOT_FOUND) {
+                // the key expired while the event was queued, the next request will intern it again
+                return;
             }
             if (log.isDebugEnabled()) {
-                log.debug("Throttle count for the key '" + throttleKey + "' is " + throttleData.getCount());
+                log.debug("Throttle key inserted " + keyId);
             }
-            return throttleData;
-        });
-        if (existingThrottleData == null) {
-            counterMap.computeIfAbsent(throttleKey, key -> {
-                ThrottleData throttleData = new ThrottleData();
-                long startTime = timestamp - (timestamp % getTimeInMilliSeconds(1, timeUnit));
-                throttleData.setWindowStartTime(startTime);
-                throttleData.setStopOnQuota(stopOnQuota);
-                throttleData.setUnitTime(getTimeInMilliSeconds(unitTime, timeUnit));
-                throttleData.setThrottleType(throttleType);
-                throttleData.getCount().set(0);
-                throttleData.setThrottleKey(key);
-                ThrottleDataReceiver.getThrottleDataCleanUpTask().addThrottleData(throttleData);
-                if (log.isDebugEnabled()) {
-                    log.debug("Throttle key inserted " + throttleKey);
-                }
-                return throttleData;
-            });
-            //There can be scenarios where the two threads stops at computeIfAbsent and one thread adds it to the map
-            //and the second thread will go without incrementing the count. This additional computation is done to avoid
-            // that scenario
-            counterMap.computeIfPresent(throttleKey, (key, throttleData) -> {
-                throttleData.getCount().incrementAndGet();
-                return throttleData;
-            });
+        }
+        long count = counterTable.getAlgorithm(id).acquire(counterTable, id, timestamp);
+        if (log.isDebugEnabled()) {
+            log.debug("Throttle count for the key '" + keyId + "' is " + count);
         }
     }
 
-    static boolean isResourceThrottled(String resourceKey) {
-        return isRequestThrottled(resourceLevelCounter, resourceKey);
-    }
-
-    static boolean isAppLevelThrottled(String appKey) {
-        return isRequestThrottled(applicationLevelCounter, appKey);
-    }
-
-    static boolean isSubscriptionLevelThrottled(String subscriptionKey) {
-        return isRequestThrottled(subscriptionLevelCounter, subscriptionKey);
-    }
-
-    static boolean isApiLevelThrottled(String apiKey) {
-        return isRequestThrottled(apiLevelCounter, apiKey);
+    static boolean isResourceThrottled(int resourceKeyId) {
+        return isRequestThrottled(resourceLevelCounter, resourceKeyId);
     }
 
-    static void removeFromResourceCounterMap(String key) {
-        resourceLevelCounter.remove(key);
+    static boolean isAppLevelThrottled(int appKeyId) {
+        return isRequestThrottled(applicationLevelCounter, appKeyId);
     }
 
-    static void removeFromApplicationCounterMap(String key) {
-        applicationLevelCounter.remove(key);
+    static boolean isSubscriptionLevelThrottled(int subscriptionKeyId) {
+        return isRequestThrottled(subscriptionLevelCounter, subscriptionKeyId);
     }
 
-    static void removeFromApiCounterMap(String key) {
-        apiLevelCounter.remove(key);
+    static boolean isApiLevelThrottled(int apiKeyId) {
+        return isRequestThrottled(apiLevelCounter, apiKeyId);
     }
 
-    static void removeFromSubscriptionCounterMap(String key) {
-        subscriptionLevelCounter.remove(key);
+    /**
+     * Removes the throttle keys of all levels whose throttle window has elapsed. Must be called from a single
+     * thread only.
+     */
+    static void cleanUp(long currentTime) {
+        ThrottleKeyRegistry.recycleReleasedIds();
+        counterTable.recycleReleasedIds();
+        int removed = expiryWheel.advance(currentTime);
+        if (log.isDebugEnabled()) {
+            log.debug("Removed " + removed + " expired throttle keys. " + expiryWheel.size()
+                    + " throttle keys are awaiting expiry");
+        }
     }
 
-    private static boolean isRequestThrottled(Map<String, ThrottleData> counterMap, String throttleKey) {
-        if (counterMap.containsKey(throttleKey)) {
-            long currentTime = System.currentTimeMillis();
-            ThrottleData throttleData = counterMap.get(throttleKey);
-            if (currentTime > throttleData.getWindowStartTime() + throttleData.getUnitTime()) {
-                counterMap.computeIfPresent(throttleKey, (key, throttleData1) -> {
-                    throttleData1.setThrottled(false);
-                    return throttleData1;
-                });
-                if (log.isDebugEnabled()) {
-                    log.debug("Throttle window has expired. CurrentTime : " + currentTime + "\n Window start time : "
-                            + throttleData.getWindowStartTime() + "\n Unit time : " + throttleData.getUnitTime());
-                }
-                return false;
-            }
-            return throttleData.isThrottled();
+    private static boolean isRequestThrottled(ThrottleKeyIndex keyIndex, int keyId) {
+        int id = keyIndex.getId(keyId);
+        if (id == ThrottleKeyIndex.NOT_FOUND) {
+            return false;
+        }
+        long currentTime = System.currentTimeMillis();
+        ThrottleAlgorithm algorithm = counterTable.getAlgorithm(id);
+        boolean throttled = algorithm.isThrottled(counterTable, id, currentTime);
+        if (!throttled && log.isDebugEnabled() && algorithm.isExpired(counterTable, id, currentTime)) {
+            log.debug("Throttle window has expired. CurrentTime : " + currentTime + "\n Window start time : "
+                    + counterTable.get(id, ThrottleCounterTable.WINDOW_START) + "\n Unit time : "
+                    + counterTable.get(id, ThrottleCounterTable.UNIT_TIME));
         }
-        return false;
+        return throttled;
     }
 
-    private long getTimeInMilliSeconds(long unitTime, String timeUnit) {
+    private static long getTimeInMilliSeconds(long unitTime, String timeUnit) {
         long milliSeconds;
         if ("min".equalsIgnoreCase(timeUnit)) {
             milliSeconds = TimeUnit.MINUTES.toMillis(unitTime);
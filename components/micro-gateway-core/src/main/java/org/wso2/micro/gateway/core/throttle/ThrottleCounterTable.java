@@ -0,0 +1,174 @@
+/*
+ *  Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package org.wso2.micro.gateway.core.throttle;
+
+import java.util.Arrays;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Primitive table of throttle window slots addressed by an interned throttle key id. Slots are stored in fixed
+ * size pages of {@link AtomicLongArray}s so that a counter update is a couple of CAS operations on a long array
+ * instead of a hash bin lock and a lambda allocation. The meaning of the window fields of a slot is defined by the
+ * {@link ThrottleAlgorithm} the slot was allocated for. Each slot also refers back to its throttle key id and the
+ * {@link ThrottleKeyIndex} owning it, so that an expired slot can be removed without searching the indexes.
+ * <p>
+ * A released slot is reused only after the next run of the cleanup task, the same way as the ids of the
+ * {@link ThrottleKeyRegistry}, so that a request in flight which still holds the slot id does not count against the
+ * throttle key the slot is handed to next.
+ */
+public final class ThrottleCounterTable {
+
+    public static final int WINDOW_START = 0;
+    public static final int COUNT = 1;
+    public static final int PREVIOUS_COUNT = 2;
+    public static final int UNIT_TIME = 3;
+    public static final int LIMIT = 4;
+    public static final int WINDOW_ALIGNMENT = 5;
+    static final int ALGORITHM = 6;
+    static final int KEY_ID = 7;
+    // one slot spans 64 bytes, so that two hot keys rarely share a cache line
+    private static final int SLOT_WIDTH = 8;
+
+    private static final int PAGE_SHIFT = 12;
+    private static final int PAGE_SIZE = 1 << PAGE_SHIFT;
+    private static final int PAGE_MASK = PAGE_SIZE - 1;
+
+    private volatile AtomicLongArray[] pages = new AtomicLongArray[16];
+    private volatile ThrottleKeyIndex[][] ownerPages = new ThrottleKeyIndex[16][];
+    private final AtomicInteger nextId = new AtomicInteger();
+    private final ConcurrentLinkedQueue<Integer> freeIds = new ConcurrentLinkedQueue<>();
+    private final ConcurrentLinkedQueue<Integer> releasedIds = new ConcurrentLinkedQueue<>();
+
+    ThrottleCounterTable() {
+    }
+
+    /**
+     * Allocates a slot and initializes it for the given algorithm. The slot is fully written before the id is
+     * returned, hence it is safe to publish the id to other threads afterwards.
+     */
+    int allocate(ThrottleKeyIndex owner, int keyId, ThrottleAlgorithm algorithm, long limit, long unitTime,
+            long windowAlignment, long timestamp) {
+        Integer freeId = freeIds.poll();
+        int id = freeId != null ? freeId : nextId.getAndIncrement();
+        AtomicLongArray page = page(id);
+        ownerPages[id >>> PAGE_SHIFT][id & PAGE_MASK] = owner;
+        int base = offset(id);
+        page.set(base + COUNT, 0);
+        page.set(base + PREVIOUS_COUNT, 0);
+        page.set(base + UNIT_TIME, unitTime);
+        page.set(base + LIMIT, limit);
+        page.set(base + WINDOW_ALIGNMENT, windowAlignment);
+        page.set(base + ALGORITHM, algorithm.getId());
+        page.set(base + KEY_ID, keyId);
+        algorithm.initialize(this, id, timestamp);
+        return id;
+    }
+
+    /**
+     * Releases a slot whose id may have been read by other threads. The slot is reused after the next call of
+     * {@link #recycleReleasedIds()}.
+     */
+    void release(int id) {
+        ownerPages[id >>> PAGE_SHIFT][id & PAGE_MASK] = null;
+        releasedIds.offer(id);
+    }
+
+    /**
+     * Releases a slot whose id was never published to other threads, which can be reused right away.
+     */
+    void free(int id) {
+        ownerPages[id >>> PAGE_SHIFT][id & PAGE_MASK] = null;
+        freeIds.offer(id);
+    }
+
+    /**
+     * Moves the slots released before the previous run of the cleanup task to the free list. Must be called from the
+     * cleanup task only, before it releases any slots itself.
+     */
+    void recycleReleasedIds() {
+        for (int i = releasedIds.size(); i > 0; i--) {
+            Integer id = releasedIds.poll();
+            if (id == null) {
+                break;
+            }
+            freeIds.offer(id);
+        }
+    }
+
+    int getKeyId(int id) {
+        return (int) get(id, KEY_ID);
+    }
+
+    ThrottleKeyIndex getOwner(int id) {
+        return ownerPages[id >>> PAGE_SHIFT][id & PAGE_MASK];
+    }
+
+    ThrottleAlgorithm getAlgorithm(int id) {
+        return ThrottleAlgorithms.get((int) get(id, ALGORITHM));
+    }
+
+    public long get(int id, int field) {
+        return pages[id >>> PAGE_SHIFT].get(offset(id) + field);
+    }
+
+    public void set(int id, int field, long value) {
+        pages[id >>> PAGE_SHIFT].set(offset(id) + field, value);
+    }
+
+    public boolean compareAndSet(int id, int field, long expected, long value) {
+        return pages[id >>> PAGE_SHIFT].compareAndSet(offset(id) + field, expected, value);
+    }
+
+    public long incrementAndGet(int id, int field) {
+        return pages[id >>> PAGE_SHIFT].incrementAndGet(offset(id) + field);
+    }
+
+    private static int offset(int id) {
+        return (id & PAGE_MASK) * SLOT_WIDTH;
+    }
+
+    private AtomicLongArray page(int id) {
+        int pageIndex = id >>> PAGE_SHIFT;
+        AtomicLongArray[] currentPages = pages;
+        if (pageIndex < currentPages.length && currentPages[pageIndex] != null) {
+            return currentPages[pageIndex];
+        }
+        return addPage(pageIndex);
+    }
+
+    private synchronized AtomicLongArray addPage(int pageIndex) {
+        AtomicLongArray[] currentPages = pages;
+        ThrottleKeyIndex[][] currentOwnerPages = ownerPages;
+        if (pageIndex >= currentPages.length) {
+            int length = Math.max(currentPages.length * 2, pageIndex + 1);
+            AtomicLongArray[] newPages = new AtomicLongArray[length];
+            System.arraycopy(currentPages, 0, newPages, 0, currentPages.length);
+            currentPages = newPages;
+            currentOwnerPages = Arrays.copyOf(currentOwnerPages, length);
+        }
+        if (currentPages[pageIndex] == null) {
+            currentOwnerPages[pageIndex] = new ThrottleKeyIndex[PAGE_SIZE];
+            currentPages[pageIndex] = new AtomicLongArray(PAGE_SIZE * SLOT_WIDTH);
+        }
+        // the owner pages are published before the counter pages, which are checked on the fast path
+        ownerPages = currentOwnerPages;
+        pages = currentPages;
+        return currentPages[pageIndex];
+    }
+}
@@ -19,21 +19,19 @@ package org.wso2.micro.gateway.core.throttle;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import java.util.ArrayList;
-import java.util.List;
 import java.util.concurrent.Executors;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ThreadFactory;
 import java.util.concurrent.TimeUnit;
 
 /**
- * This task is responsible for cleanup ThrottleData objects which has expired.
+ * This task is responsible for cleanup throttle counters which has expired. It advances the expiry wheel of the
+ * throttle counters on a single thread, which only visits the throttle keys that are due.
  *
  */
 public class ThrottleDataCleanUpTask {
 
     private static final Logger log = LoggerFactory.getLogger(ThrottleDataCleanUpTask.class);
-    private List<ThrottleData> throttleDataList = new ArrayList<>();
 
     public ThrottleDataCleanUpTask() {
 
@@ -56,18 +54,14 @@ public class ThrottleDataCleanUpTask {
 
     }
 
-    /**
-     * Add the throttle data instances to be cleaned into the cleanup array list, which is iterated by the cleanup task
-     * which runs periodically.
-     */
-    public void addThrottleData(ThrottleData throttleData) {
-        throttleDataList.add(throttleData);
-    }
-
     private class CleanupTask implements Runnable {
         public void run() {
-            long currentTimeStamp = System.currentTimeMillis();
-            throttleDataList.removeIf(throttleData -> throttleData.cleanThrottleData(currentTimeStamp));
+            try {
+                ThrottleCounter.cleanUp(System.currentTimeMillis());
+            } catch (RuntimeException e) {
+                // an exception would cancel the periodic task and the throttle keys would never be removed again
+                log.error("Error while cleaning up expired throttle counters", e);
+            }
         }
     }
 
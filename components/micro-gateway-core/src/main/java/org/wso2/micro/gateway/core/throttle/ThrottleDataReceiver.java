@@ -20,19 +20,21 @@ import org.ballerinalang.jvm.values.MapValue;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import java.util.concurrent.ExecutorService;
-import java.util.concurrent.LinkedBlockingDeque;
-import java.util.concurrent.ThreadPoolExecutor;
-import java.util.concurrent.TimeUnit;
+import org.wso2.micro.gateway.core.utils.MBeanUtils;
+
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
- * Throttle data receiver class accepts all the request events and submit the throttle data to a thread pool to
- * calculate throttle counters against each unique throttle key.
+ * Throttle data receiver class accepts all the request events and publishes the throttle data to a bounded event
+ * queue, whose consumer threads calculate throttle counters against each unique throttle key.
  */
 public class ThrottleDataReceiver {
     private static ThrottleDataCleanUpTask throttleDataCleanUpTask;
 
     private static final Logger log = LoggerFactory.getLogger("ballerina");
+    private static final long DROPPED_EVENT_LOG_INTERVAL = 10000;
+    // dropped event count at which the next warning is logged
+    private static final AtomicLong nextDroppedEventLog = new AtomicLong(1);
 
     public static ThrottleCounter getThrottleCounter() {
         return throttleCounter;
@@ -40,58 +42,64 @@ public class ThrottleDataReceiver {
 
     private static volatile ThrottleCounter throttleCounter = null;
 
-    private static ExecutorService executor;
+    private static ThrottleEventQueue eventQueue;
 
     /**
-     * This method will initialize throttle data counters. Inside this we will start executor and initialize data
-     * counter which we used to maintain throttle count against each unique keys.
+     * This method will initialize throttle data counters. Inside this we will start the event queue consumers and
+     * initialize data counter which we used to maintain throttle count against each unique keys.
      */
-    public static void initThrottleDataReceiver(int processThreadPoolCoreSize, int processThreadPoolMaximumSize,
-            int processThreadPoolKeepAliveTime, int throttleFrequency) {
+    public static void initThrottleDataReceiver(int eventBufferSize, int eventConsumerThreads, int eventBatchSize,
+            int throttleFrequency) {
         ThrottleConfigHolder.getInstance()
-                .setData(processThreadPoolCoreSize, processThreadPoolMaximumSize, processThreadPoolKeepAliveTime,
-                        throttleFrequency);
-        initThrottleExecutors();
+                .setData(eventBufferSize, eventConsumerThreads, eventBatchSize, throttleFrequency);
+        initThrottleEventQueue();
         throttleDataCleanUpTask = new ThrottleDataCleanUpTask();
     }
 
-    private static void initThrottleExecutors() {
+    private static void initThrottleEventQueue() {
         ThrottleConfigHolder throttleConfigHolder = ThrottleConfigHolder.getInstance();
-        executor = new ThreadPoolExecutor(throttleConfigHolder.getProcessThreadPoolCoreSize(),
-                throttleConfigHolder.getProcessThreadPoolMaximumSize(),
-                throttleConfigHolder.getProcessThreadPoolKeepAliveTime(), TimeUnit.SECONDS,
-                new LinkedBlockingDeque<Runnable>() {
-                });
         throttleCounter = new ThrottleCounter();
+        eventQueue = new ThrottleEventQueue(throttleConfigHolder.getEventBufferSize(),
+                throttleConfigHolder.getEventConsumerThreads(), throttleConfigHolder.getEventBatchSize(),
+                throttleCounter);
+        MBeanUtils.registerMBean(eventQueue, "ThrottleEventQueue", null);
     }
 
     /**
-     * This method used to pass throttle data and let it run within separate thread.
+     * This method used to pass throttle data to the event queue, which is processed within separate thread.
      */
-    public static void processNonThrottledEvent(MapValue throttleEvent) {
+    public static void processNonThrottledEvent(MapValue<String, Object> throttleEvent) {
         try {
-            DataProcessAgent agent = new DataProcessAgent();
-            agent.setDataReference(throttleEvent);
-            executor.execute(agent);
+            if (!eventQueue.publish(throttleEvent)) {
+                long droppedEvents = eventQueue.getDroppedEvents();
+                long nextLog = nextDroppedEventLog.get();
+                // log only once in a while, as the queue stays full for a burst of requests. The total is summed
+                // over the shards, hence it may skip any particular count
+                if (droppedEvents >= nextLog
+                        && nextDroppedEventLog.compareAndSet(nextLog, droppedEvents + DROPPED_EVENT_LOG_INTERVAL)) {
+                    log.warn("Throttle event queue is full. " + droppedEvents + " throttle events have been dropped "
+                            + "so far. Consider increasing the event buffer size or the number of consumer threads.");
+                }
+            }
         } catch (Exception e) {
             log.error("Error while processing throttling event", e);
         }
     }
 
-    public static boolean isResourceThrottled(String resourceKey) {
-        return ThrottleCounter.isResourceThrottled(resourceKey);
+    public static boolean isResourceThrottled(int resourceKeyId) {
+        return ThrottleCounter.isResourceThrottled(resourceKeyId);
     }
 
-    public static boolean isAppLevelThrottled(String appKey) {
-        return ThrottleCounter.isAppLevelThrottled(appKey);
+    public static boolean isAppLevelThrottled(int appKeyId) {
+        return ThrottleCounter.isAppLevelThrottled(appKeyId);
     }
 
-    public static boolean isSubcriptionLevelThrottled(String subscriptionKey) {
-        return ThrottleCounter.isSubscriptionLevelThrottled(subscriptionKey);
+    public static boolean isSubcriptionLevelThrottled(int subscriptionKeyId) {
+        return ThrottleCounter.isSubscriptionLevelThrottled(subscriptionKeyId);
     }
 
-    public static boolean isApiLevelThrottled(String apiKey) {
-        return ThrottleCounter.isApiLevelThrottled(apiKey);
+    public static boolean isApiLevelThrottled(int apiKeyId) {
+        return ThrottleCounter.isApiLevelThrottled(apiKeyId);
     }
 
     public static ThrottleDataCleanUpTask getThrottleDataCleanUpTask() {
@@ -19,69 +19,72 @@ package org.wso2.micro.gateway.core.throttle;
 import org.ballerinalang.jvm.values.MapValue;
 
 /**
- * This class is responsible for executing data processing logic. This class implements runnable interface and
- * need to execute using thread pool executor.
+ * Preallocated slot of the {@link ThrottleEventRingBuffer} holding the throttle data of a single request. The slot
+ * is reused for every request which is published to the same position of the ring.
  */
-public class DataProcessAgent implements Runnable {
+class ThrottleEvent {
 
-    private ThrottleCounter throttleCounter;
-    private String apiKey;
-    private String appKey;
+    private int apiKeyId;
+    private int appKeyId;
     private boolean stopOnQuota;
-    private String subscriptionKey;
+    private int subscriptionKeyId;
     private long appTierCount;
     private long appTierUnitTime;
     private String appTierTimeUnit;
+    private String appTierAlgorithm;
     private long apiTierCount;
     private long apiTierUnitTime;
     private String apiTierTimeUnit;
+    private String apiTierAlgorithm;
     private long subscriptionTierCount;
     private long subscriptionTierUnitTime;
     private String subscriptionTierTimeUnit;
-    private String resourceKey;
+    private String subscriptionTierAlgorithm;
+    private int resourceKeyId;
     private long resourceTierCount;
     private long resourceTierUnitTime;
     private String resourceTierTimeUnit;
+    private String resourceTierAlgorithm;
     private long timestamp;
 
-
-    public DataProcessAgent() {
-        throttleCounter = getDataPublisher();
-    }
-
     /**
      * This method will use to set throttle data.
      */
-    public void setDataReference(MapValue throttleData) {
+    void setDataReference(MapValue<String, Object> throttleData) {
 
-        this.appKey = throttleData.getStringValue("appKey");
+        this.appKeyId = (int) throttleData.getIntValue("appKeyId");
         this.appTierCount = throttleData.getIntValue("appTierCount");
         this.appTierUnitTime = throttleData.getIntValue("appTierUnitTime");
         this.appTierTimeUnit = throttleData.getStringValue("appTierTimeUnit");
-        this.apiKey = throttleData.getStringValue("apiKey");
+        this.appTierAlgorithm = throttleData.getStringValue("appTierAlgorithm");
+        this.apiKeyId = (int) throttleData.getIntValue("apiKeyId");
         this.apiTierCount = throttleData.getIntValue("apiTierCount");
         this.apiTierUnitTime = throttleData.getIntValue("apiTierUnitTime");
         this.apiTierTimeUnit = throttleData.getStringValue("apiTierTimeUnit");
-        this.subscriptionKey = throttleData.getStringValue("subscriptionKey");
+        this.apiTierAlgorithm = throttleData.getStringValue("apiTierAlgorithm");
+        this.subscriptionKeyId = (int) throttleData.getIntValue("subscriptionKeyId");
         this.subscriptionTierCount = throttleData.getIntValue("subscriptionTierCount");
         this.subscriptionTierUnitTime = throttleData.getIntValue("subscriptionTierUnitTime");
         this.subscriptionTierTimeUnit = throttleData.getStringValue("subscriptionTierTimeUnit");
-        this.resourceKey = throttleData.getStringValue("resourceKey");
+        this.subscriptionTierAlgorithm = throttleData.getStringValue("subscriptionTierAlgorithm");
+        this.resourceKeyId = (int) throttleData.getIntValue("resourceKeyId");
         this.resourceTierCount = throttleData.getIntValue("resourceTierCount");
         this.resourceTierUnitTime = throttleData.getIntValue("resourceTierUnitTime");
         this.resourceTierTimeUnit = throttleData.getStringValue("resourceTierTimeUnit");
+        this.resourceTierAlgorithm = throttleData.getStringValue("resourceTierAlgorithm");
         this.stopOnQuota = throttleData.getBooleanValue("stopOnQuota");
         this.timestamp = System.currentTimeMillis();
     }
 
-    public void run() {
-        throttleCounter.updateCounters(apiKey, appKey, stopOnQuota, subscriptionKey, appTierCount, appTierUnitTime,
-                appTierTimeUnit, apiTierCount, apiTierUnitTime, apiTierTimeUnit, subscriptionTierCount,
-                subscriptionTierUnitTime, subscriptionTierTimeUnit, resourceKey, resourceTierCount,
-                resourceTierUnitTime, resourceTierTimeUnit, timestamp);
+    long getTimestamp() {
+        return timestamp;
     }
 
-    private ThrottleCounter getDataPublisher() {
-        return ThrottleDataReceiver.getThrottleCounter();
+    void process(ThrottleCounter throttleCounter) {
+        throttleCounter.updateCounters(apiKeyId, appKeyId, stopOnQuota, subscriptionKeyId, appTierCount,
+                appTierUnitTime, appTierTimeUnit, appTierAlgorithm, apiTierCount, apiTierUnitTime, apiTierTimeUnit,
+                apiTierAlgorithm, subscriptionTierCount, subscriptionTierUnitTime, subscriptionTierTimeUnit,
+                subscriptionTierAlgorithm, resourceKeyId, resourceTierCount, resourceTierUnitTime, resourceTierTimeUnit,
+                resourceTierAlgorithm, timestamp);
     }
 }
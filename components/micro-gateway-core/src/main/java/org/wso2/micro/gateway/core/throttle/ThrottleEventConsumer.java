@@ -0,0 +1,53 @@
+/*
+ *  Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.wso2.micro.gateway.core.throttle;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Drains a single {@link ThrottleEventRingBuffer} and applies the events to the throttle counters in batches. The
+ * consumer backs off with a short park while the ring is empty.
+ */
+class ThrottleEventConsumer implements Runnable {
+
+    private static final long MAX_IDLE_PARK_NANOS = TimeUnit.MILLISECONDS.toNanos(1);
+    private static final long MIN_IDLE_PARK_NANOS = TimeUnit.MICROSECONDS.toNanos(50);
+
+    private final ThrottleEventRingBuffer ringBuffer;
+    private final ThrottleCounter throttleCounter;
+    private final int batchSize;
+
+    ThrottleEventConsumer(ThrottleEventRingBuffer ringBuffer, ThrottleCounter throttleCounter, int batchSize) {
+        this.ringBuffer = ringBuffer;
+        this.throttleCounter = throttleCounter;
+        this.batchSize = batchSize;
+    }
+
+    @Override
+    public void run() {
+        long idleParkNanos = MIN_IDLE_PARK_NANOS;
+        while (!Thread.currentThread().isInterrupted()) {
+            int drained = ringBuffer.drain(throttleCounter, batchSize);
+            if (drained > 0) {
+                idleParkNanos = MIN_IDLE_PARK_NANOS;
+            } else {
+                LockSupport.parkNanos(idleParkNanos);
+                idleParkNanos = Math.min(idleParkNanos * 2, MAX_IDLE_PARK_NANOS);
+            }
+        }
+    }
+}
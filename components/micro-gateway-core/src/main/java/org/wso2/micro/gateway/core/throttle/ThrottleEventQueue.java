@@ -0,0 +1,103 @@
+/*
+ *  Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.wso2.micro.gateway.core.throttle;
+
+import org.ballerinalang.jvm.values.MapValue;
+
+/**
+ * Node local throttle event queue. Events are spread over a number of {@link ThrottleEventRingBuffer}s by the
+ * publishing thread, each of which is drained by its own consumer thread.
+ */
+class ThrottleEventQueue implements ThrottleEventQueueMXBean {
+
+    private final ThrottleEventRingBuffer[] ringBuffers;
+
+    ThrottleEventQueue(int bufferSize, int consumerThreads, int batchSize, ThrottleCounter throttleCounter) {
+        int shards = Math.max(consumerThreads, 1);
+        ringBuffers = new ThrottleEventRingBuffer[shards];
+        for (int i = 0; i < shards; i++) {
+            ringBuffers[i] = new ThrottleEventRingBuffer(Math.max(bufferSize / shards, 1));
+            Thread consumer = new Thread(new ThrottleEventConsumer(ringBuffers[i], throttleCounter, batchSize));
+            consumer.setName("Throttle Event Consumer-" + i);
+            consumer.setDaemon(true);
+            consumer.start();
+        }
+    }
+
+    /**
+     * Publishes the throttle event to the ring buffer of the calling thread.
+     *
+     * @return false if the ring buffer is full and the event was dropped
+     */
+    boolean publish(MapValue<String, Object> throttleEvent) {
+        int shard = (int) (Thread.currentThread().getId() % ringBuffers.length);
+        return ringBuffers[shard].publish(throttleEvent);
+    }
+
+    @Override
+    public int getCapacity() {
+        int capacity = 0;
+        for (ThrottleEventRingBuffer ringBuffer : ringBuffers) {
+            capacity += ringBuffer.capacity();
+        }
+        return capacity;
+    }
+
+    @Override
+    public long getQueueSize() {
+        long size = 0;
+        for (ThrottleEventRingBuffer ringBuffer : ringBuffers) {
+            size += ringBuffer.size();
+        }
+        return size;
+    }
+
+    @Override
+    public long getProcessedEvents() {
+        long processed = 0;
+        for (ThrottleEventRingBuffer ringBuffer : ringBuffers) {
+            processed += ringBuffer.getProcessedEvents();
+        }
+        return processed;
+    }
+
+    @Override
+    public long getDroppedEvents() {
+        long dropped = 0;
+        for (ThrottleEventRingBuffer ringBuffer : ringBuffers) {
+            dropped += ringBuffer.getDroppedEvents();
+        }
+        return dropped;
+    }
+
+    @Override
+    public long getLastBatchLagMillis() {
+        long lag = 0;
+        for (ThrottleEventRingBuffer ringBuffer : ringBuffers) {
+            lag = Math.max(lag, ringBuffer.getLastBatchLag());
+        }
+        return lag;
+    }
+
+    @Override
+    public long getMaxLagMillis() {
+        long lag = 0;
+        for (ThrottleEventRingBuffer ringBuffer : ringBuffers) {
+            lag = Math.max(lag, ringBuffer.getMaxLag());
+        }
+        return lag;
+    }
+}
@@ -0,0 +1,135 @@
+/*
+ *  Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.wso2.micro.gateway.core.throttle;
+
+import org.ballerinalang.jvm.values.MapValue;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Bounded multi producer, single consumer ring buffer of preallocated {@link ThrottleEvent}s. Request strands claim a
+ * position with a CAS and copy the throttle data into the event of that position, while a single consumer thread
+ * drains the published events in batches. When the ring is full the event is dropped instead of blocking the
+ * request.
+ */
+class ThrottleEventRingBuffer {
+
+    private static final Logger log = LoggerFactory.getLogger("ballerina");
+
+    private final ThrottleEvent[] events;
+    // sequence of the event last published to each position, -1 if nothing has been published yet
+    private final AtomicLongArray publishedSequences;
+    private final int mask;
+    private final AtomicLong producerSequence = new AtomicLong();
+    // written only by the consumer thread
+    private volatile long consumerSequence;
+    private final AtomicLong droppedEvents = new AtomicLong();
+    private volatile long lastBatchLag;
+    private volatile long maxLag;
+
+    ThrottleEventRingBuffer(int capacity) {
+        int size = Integer.highestOneBit(Math.max(capacity, 2) - 1) << 1;
+        this.events = new ThrottleEvent[size];
+        this.publishedSequences = new AtomicLongArray(size);
+        this.mask = size - 1;
+        for (int i = 0; i < size; i++) {
+            events[i] = new ThrottleEvent();
+            publishedSequences.set(i, -1);
+        }
+    }
+
+    /**
+     * Copies the throttle data into the next free event of the ring.
+     *
+     * @return false if the ring is full and the event was dropped
+     */
+    boolean publish(MapValue<String, Object> throttleData) {
+        long sequence;
+        do {
+            sequence = producerSequence.get();
+            if (sequence - consumerSequence >= events.length) {
+                droppedEvents.incrementAndGet();
+                return false;
+            }
+        } while (!producerSequence.compareAndSet(sequence, sequence + 1));
+        int index = (int) sequence & mask;
+        events[index].setDataReference(throttleData);
+        publishedSequences.lazySet(index, sequence);
+        return true;
+    }
+
+    /**
+     * Applies up to batchSize published events to the throttle counter. Must only be called by the consumer thread.
+     *
+     * @return number of events applied
+     */
+    int drain(ThrottleCounter throttleCounter, int batchSize) {
+        long sequence = consumerSequence;
+        long oldestTimestamp = Long.MAX_VALUE;
+        int drained = 0;
+        while (drained < batchSize) {
+            int index = (int) sequence & mask;
+            if (publishedSequences.get(index) != sequence) {
+                break;
+            }
+            ThrottleEvent event = events[index];
+            oldestTimestamp = Math.min(oldestTimestamp, event.getTimestamp());
+            try {
+                event.process(throttleCounter);
+            } catch (RuntimeException e) {
+                log.error("Error while processing throttling event", e);
+            }
+            sequence++;
+            drained++;
+        }
+        if (drained > 0) {
+            consumerSequence = sequence;
+            long lag = System.currentTimeMillis() - oldestTimestamp;
+            lastBatchLag = lag;
+            if (lag > maxLag) {
+                maxLag = lag;
+            }
+        }
+        return drained;
+    }
+
+    int capacity() {
+        return events.length;
+    }
+
+    long size() {
+        return Math.max(0, producerSequence.get() - consumerSequence);
+    }
+
+    long getProcessedEvents() {
+        return consumerSequence;
+    }
+
+    long getDroppedEvents() {
+        return droppedEvents.get();
+    }
+
+    long getLastBatchLag() {
+        return lastBatchLag;
+    }
+
+    long getMaxLag() {
+        return maxLag;
+    }
+}
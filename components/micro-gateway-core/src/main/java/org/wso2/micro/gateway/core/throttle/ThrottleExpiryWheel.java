@@ -0,0 +1,161 @@
+/*
+ *  Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package org.wso2.micro.gateway.core.throttle;
+
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+/**
+ * Hierarchical timing wheel which removes throttle keys once their slot in the {@link ThrottleCounterTable} has
+ * expired. Slots are bucketed by the tick their throttle window ends at, so advancing the wheel only visits the
+ * buckets which are due instead of every live throttle key.
+ * <p>
+ * A slot is registered once, when its throttle key is interned. When its bucket is due the slot is checked against
+ * its algorithm; a slot which was kept alive by later requests is moved to the bucket of its new expiry time, and
+ * slots of far away buckets cascade down to the lower levels the same way.
+ * <p>
+ * Registration is thread safe. The wheel itself must only be advanced by a single thread.
+ */
+class ThrottleExpiryWheel {
+
+    static final long TICK_MILLIS = 1000;
+
+    private static final int LEVEL_BITS = 6;
+    private static final int WHEEL_SIZE = 1 << LEVEL_BITS;
+    private static final int WHEEL_MASK = WHEEL_SIZE - 1;
+    // 64^4 ticks of a second span about 194 days, slots expiring later are rescheduled once the span elapses
+    private static final int LEVELS = 4;
+    private static final int[] EMPTY_BUCKET = new int[0];
+
+    private final ThrottleCounterTable counterTable;
+    private final ConcurrentLinkedQueue<Integer> registeredIds = new ConcurrentLinkedQueue<>();
+    private final int[][] buckets = new int[LEVELS * WHEEL_SIZE][];
+    private final int[] bucketSizes = new int[LEVELS * WHEEL_SIZE];
+    private long currentTick;
+    private int size;
+
+    ThrottleExpiryWheel(ThrottleCounterTable counterTable, long startTime) {
+        this.counterTable = counterTable;
+        this.currentTick = startTime / TICK_MILLIS;
+        for (int i = 0; i < buckets.length; i++) {
+            buckets[i] = EMPTY_BUCKET;
+        }
+    }
+
+    /**
+     * Registers a newly allocated slot for expiry. This may be called from any thread.
+     */
+    void register(int id) {
+        registeredIds.offer(id);
+    }
+
+    /**
+     * Moves the wheel up to the given time, removing the throttle keys of all the due slots which have expired.
+     *
+     * @return number of removed throttle keys
+     */
+    int advance(long currentTime) {
+        Integer id;
+        while ((id = registeredIds.poll()) != null) {
+            schedule(id);
+        }
+        int removed = 0;
+        long targetTick = currentTime / TICK_MILLIS;
+        while (currentTick < targetTick) {
+            currentTick++;
+            // higher levels first, so that cascaded slots due at this tick are expired in the same pass
+            for (int level = LEVELS - 1; level >= 0; level--) {
+                int shift = LEVEL_BITS * level;
+                if ((currentTick & ((1L << shift) - 1)) == 0) {
+                    removed += expireBucket(level, (int) ((currentTick >>> shift) & WHEEL_MASK), currentTime);
+                }
+            }
+        }
+        return removed;
+    }
+
+    /**
+     * Returns the number of slots waiting in the wheel, excluding the ones registered since the last advance.
+     */
+    int size() {
+        return size;
+    }
+
+    private int expireBucket(int level, int slot, long currentTime) {
+        int bucketIndex = level * WHEEL_SIZE + slot;
+        int[] ids = buckets[bucketIndex];
+        int bucketSize = bucketSizes[bucketIndex];
+        if (bucketSize == 0) {
+            return 0;
+        }
+        buckets[bucketIndex] = EMPTY_BUCKET;
+        bucketSizes[bucketIndex] = 0;
+        size -= bucketSize;
+        int removed = 0;
+        for (int i = 0; i < bucketSize; i++) {
+            int id = ids[i];
+            if (counterTable.getAlgorithm(id).isExpired(counterTable, id, currentTime)) {
+                ThrottleKeyIndex owner = counterTable.getOwner(id);
+                if (owner.remove(counterTable.getKeyId(id), id)) {
+                    counterTable.release(id);
+                    removed++;
+                }
+            } else {
+                schedule(id);
+            }
+        }
+        return removed;
+    }
+
+    private void schedule(int id) {
+        long expiryTime = counterTable.getAlgorithm(id).getExpiryTime(counterTable, id);
+        // the first tick at or after the expiry time, a slot which is already due waits for the next tick
+        long expiryTick = Math.max((expiryTime + TICK_MILLIS - 1) / TICK_MILLIS, currentTick + 1);
+        int level = 0;
+        while (level < LEVELS && (expiryTick >>> (LEVEL_BITS * (level + 1)))
+                != (currentTick >>> (LEVEL_BITS * (level + 1)))) {
+            level++;
+        }
+        int slot;
+        if (level < LEVELS) {
+            slot = (int) ((expiryTick >>> (LEVEL_BITS * level)) & WHEEL_MASK);
+        } else if (expiryTick - currentTick < 1L << (LEVEL_BITS * LEVELS)) {
+            // within the span of the wheel but past the end of the current top level rotation. The top level
+            // bucket of the expiry tick comes due in the next rotation, as the current one has already started
+            level = LEVELS - 1;
+            slot = (int) ((expiryTick >>> (LEVEL_BITS * level)) & WHEEL_MASK);
+        } else {
+            // beyond the span of the wheel, park in the last bucket of the top level to be rescheduled later
+            level = LEVELS - 1;
+            slot = (int) (((currentTick >>> (LEVEL_BITS * level)) - 1) & WHEEL_MASK);
+        }
+        add(level * WHEEL_SIZE + slot, id);
+    }
+
+    private void add(int bucketIndex, int id) {
+        int[] ids = buckets[bucketIndex];
+        int bucketSize = bucketSizes[bucketIndex];
+        if (bucketSize == ids.length) {
+            int[] newIds = new int[Math.max(8, bucketSize * 2)];
+            System.arraycopy(ids, 0, newIds, 0, bucketSize);
+            ids = newIds;
+            buckets[bucketIndex] = ids;
+        }
+        ids[bucketSize] = id;
+        bucketSizes[bucketIndex] = bucketSize + 1;
+        size++;
+    }
+}
@@ -0,0 +1,125 @@
+/*
+ *  Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package org.wso2.micro.gateway.core.throttle;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+/**
+ * Maps the interned throttle key ids of a single throttle level to the ids of their slots in the
+ * {@link ThrottleCounterTable}. As the key ids of a {@link ThrottleKeyRegistry} are dense, the index is a paged
+ * array, hence looking up the slot of a key is a plain array read.
+ */
+class ThrottleKeyIndex {
+
+    static final int NOT_FOUND = -1;
+
+    private static final int PAGE_SHIFT = 12;
+    private static final int PAGE_SIZE = 1 << PAGE_SHIFT;
+    private static final int PAGE_MASK = PAGE_SIZE - 1;
+
+    // slot id + 1 of each key id, so that a zero entry means the key has no slot
+    private volatile AtomicIntegerArray[] pages = new AtomicIntegerArray[16];
+    private final AtomicInteger size = new AtomicInteger();
+    private final ThrottleCounterTable counterTable;
+    private final ThrottleExpiryWheel expiryWheel;
+    private final ThrottleKeyRegistry keyRegistry;
+
+    ThrottleKeyIndex(ThrottleCounterTable counterTable, ThrottleExpiryWheel expiryWheel,
+            ThrottleKeyRegistry keyRegistry) {
+        this.counterTable = counterTable;
+        this.expiryWheel = expiryWheel;
+        this.keyRegistry = keyRegistry;
+    }
+
+    int getId(int keyId) {
+        AtomicIntegerArray[] currentPages = pages;
+        int pageIndex = keyId >>> PAGE_SHIFT;
+        if (keyId < 0 || pageIndex >= currentPages.length || currentPages[pageIndex] == null) {
+            return NOT_FOUND;
+        }
+        return currentPages[pageIndex].get(keyId & PAGE_MASK) - 1;
+    }
+
+    /**
+     * Returns the slot id of the key, allocating and initializing a new slot if the key has none yet. New slots
+     * are registered with the expiry wheel. Returns {@link #NOT_FOUND} if the key id has been released meanwhile.
+     */
+    int intern(int keyId, ThrottleAlgorithm algorithm, long limit, long unitTime, long windowAlignment,
+            long timestamp) {
+        AtomicIntegerArray page = page(keyId);
+        int id = page.get(keyId & PAGE_MASK) - 1;
+        if (id != NOT_FOUND) {
+            return id;
+        }
+        int newId = counterTable.allocate(this, keyId, algorithm, limit, unitTime, windowAlignment, timestamp);
+        if (!page.compareAndSet(keyId & PAGE_MASK, 0, newId + 1)) {
+            // another thread interned the same key in the meantime, the new slot was never published
+            counterTable.free(newId);
+            return page.get(keyId & PAGE_MASK) - 1;
+        }
+        if (!keyRegistry.isLive(keyId)) {
+            // the key expired while this request was in flight, its id must not get a slot again
+            page.compareAndSet(keyId & PAGE_MASK, newId + 1, 0);
+            counterTable.release(newId);
+            return NOT_FOUND;
+        }
+        size.incrementAndGet();
+        expiryWheel.register(newId);
+        return newId;
+    }
+
+    /**
+     * Removes the expired slot of the key and releases the key id. The key id is released first, so that a
+     * request racing with the removal cannot allocate a new slot for it. Releasing the slot is left to the caller.
+     */
+    boolean remove(int keyId, int id) {
+        keyRegistry.release(keyId);
+        if (pages[keyId >>> PAGE_SHIFT].compareAndSet(keyId & PAGE_MASK, id + 1, 0)) {
+            size.decrementAndGet();
+            return true;
+        }
+        return false;
+    }
+
+    int size() {
+        return size.get();
+    }
+
+    private AtomicIntegerArray page(int keyId) {
+        int pageIndex = keyId >>> PAGE_SHIFT;
+        AtomicIntegerArray[] currentPages = pages;
+        if (pageIndex < currentPages.length && currentPages[pageIndex] != null) {
+            return currentPages[pageIndex];
+        }
+        return addPage(pageIndex);
+    }
+
+    private synchronized AtomicIntegerArray addPage(int pageIndex) {
+        AtomicIntegerArray[] currentPages = pages;
+        if (pageIndex >= currentPages.length) {
+            AtomicIntegerArray[] newPages = new AtomicIntegerArray[Math.max(currentPages.length * 2, pageIndex + 1)];
+            System.arraycopy(currentPages, 0, newPages, 0, currentPages.length);
+            currentPages = newPages;
+        }
+        if (currentPages[pageIndex] == null) {
+            currentPages[pageIndex] = new AtomicIntegerArray(PAGE_SIZE);
+        }
+        pages = currentPages;
+        return currentPages[pageIndex];
+    }
+}
@@ -0,0 +1,228 @@
+/*
+ *  Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package org.wso2.micro.gateway.core.throttle;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Interns the throttle keys of a single throttle level to stable small integer ids, so that the gateway does not
+ * build and hash throttle key strings for every request. A key is made of two parts, which are looked up in nested
+ * maps and joined with a ':' only when the key string itself is needed.
+ * <p>
+ * API and resource keys live as long as the gateway, hence their ids can be cached by the caller. Application and
+ * subscription keys are released once their throttle counter expires, and their ids are reused only after the next
+ * run of the cleanup task so that an id held by a request in flight is not handed to another key meanwhile.
+ */
+public class ThrottleKeyRegistry {
+
+    public static final int NOT_FOUND = -1;
+
+    private static final ThrottleKeyRegistry apiKeys = new ThrottleKeyRegistry(false);
+    private static final ThrottleKeyRegistry resourceKeys = new ThrottleKeyRegistry(false);
+    private static final ThrottleKeyRegistry applicationKeys = new ThrottleKeyRegistry(true);
+    private static final ThrottleKeyRegistry subscriptionKeys = new ThrottleKeyRegistry(true);
+
+    private static final int PAGE_SHIFT = 12;
+    private static final int PAGE_SIZE = 1 << PAGE_SHIFT;
+    private static final int PAGE_MASK = PAGE_SIZE - 1;
+
+    private final boolean releasable;
+    private final Map<String, ConcurrentMap<String, Integer>> keyIds = new ConcurrentHashMap<>();
+    // the two parts of the key of each id, a released id has no parts
+    private volatile AtomicReferenceArray<String>[] pages = newPages(16);
+    private final AtomicInteger nextId = new AtomicInteger();
+    private final ConcurrentLinkedQueue<Integer> freeIds = new ConcurrentLinkedQueue<>();
+    private final ConcurrentLinkedQueue<Integer> releasedIds = new ConcurrentLinkedQueue<>();
+
+    private ThrottleKeyRegistry(boolean releasable) {
+        this.releasable = releasable;
+    }
+
+    static ThrottleKeyRegistry getApiKeys() {
+        return apiKeys;
+    }
+
+    static ThrottleKeyRegistry getResourceKeys() {
+        return resourceKeys;
+    }
+
+    static ThrottleKeyRegistry getApplicationKeys() {
+        return applicationKeys;
+    }
+
+    static ThrottleKeyRegistry getSubscriptionKeys() {
+        return subscriptionKeys;
+    }
+
+    /**
+     * Returns the id of the API level throttle key {@code <apiContext>:<apiVersion>}.
+     */
+    public static int getApiKeyId(String apiContext, String apiVersion) {
+        return apiKeys.getKeyId(apiContext, apiVersion);
+    }
+
+    /**
+     * Returns the id of the resource level throttle key {@code <resourcePath>:<httpMethod>}.
+     */
+    public static int getResourceKeyId(String resourcePath, String httpMethod) {
+        return resourceKeys.getKeyId(resourcePath, httpMethod);
+    }
+
+    /**
+     * Returns the id of the application level throttle key {@code <applicationId>:<username>}.
+     */
+    public static int getApplicationKeyId(String applicationId, String username) {
+        return applicationKeys.getKeyId(applicationId, username);
+    }
+
+    /**
+     * Returns the id of the subscription level throttle key {@code <applicationId>:<apiKey>}.
+     */
+    public static int getSubscriptionKeyId(String applicationId, String apiKey) {
+        return subscriptionKeys.getKeyId(applicationId, apiKey);
+    }
+
+    /**
+     * Moves the application and subscription key ids released by the previous run of the cleanup task to the free
+     * list. Must be called from the cleanup task only, before it releases any ids itself.
+     */
+    static void recycleReleasedIds() {
+        applicationKeys.recycle();
+        subscriptionKeys.recycle();
+    }
+
+    int getKeyId(String prefix, String suffix) {
+        ConcurrentMap<String, Integer> suffixIds = keyIds.get(prefix);
+        if (suffixIds != null) {
+            Integer id = suffixIds.get(suffix);
+            if (id != null) {
+                return id;
+            }
+        }
+        return intern(prefix, suffix);
+    }
+
+    /**
+     * Returns the key string of the id, or null if the id has been released.
+     */
+    String getKey(int id) {
+        AtomicReferenceArray<String>[] currentPages = pages;
+        int pageIndex = id >>> PAGE_SHIFT;
+        if (id < 0 || pageIndex >= currentPages.length || currentPages[pageIndex] == null) {
+            return null;
+        }
+        String prefix = currentPages[pageIndex].get(offset(id));
+        String suffix = currentPages[pageIndex].get(offset(id) + 1);
+        return prefix != null && suffix != null ? prefix + ":" + suffix : null;
+    }
+
+    boolean isLive(int id) {
+        AtomicReferenceArray<String>[] currentPages = pages;
+        int pageIndex = id >>> PAGE_SHIFT;
+        return id >= 0 && pageIndex < currentPages.length && currentPages[pageIndex] != null
+                && currentPages[pageIndex].get(offset(id)) != null;
+    }
+
+    /**
+     * Releases the id once the throttle counter of the key has expired. Ids of API and resource keys are never
+     * released, as they are cached by the gateway.
+     */
+    void release(int id) {
+        if (!releasable || id < 0) {
+            return;
+        }
+        AtomicReferenceArray<String> page = pages[id >>> PAGE_SHIFT];
+        String prefix = page.getAndSet(offset(id), null);
+        String suffix = page.getAndSet(offset(id) + 1, null);
+        if (prefix == null || suffix == null) {
+            return;
+        }
+        ConcurrentMap<String, Integer> suffixIds = keyIds.get(prefix);
+        if (suffixIds != null) {
+            suffixIds.remove(suffix, id);
+            if (suffixIds.isEmpty()) {
+                keyIds.remove(prefix, suffixIds);
+            }
+        }
+        releasedIds.offer(id);
+    }
+
+    private void recycle() {
+        for (int i = releasedIds.size(); i > 0; i--) {
+            Integer id = releasedIds.poll();
+            if (id == null) {
+                break;
+            }
+            freeIds.offer(id);
+        }
+    }
+
+    private int intern(String prefix, String suffix) {
+        ConcurrentMap<String, Integer> suffixIds = keyIds.computeIfAbsent(prefix, k -> new ConcurrentHashMap<>());
+        Integer freeId = freeIds.poll();
+        int id = freeId != null ? freeId : nextId.getAndIncrement();
+        AtomicReferenceArray<String> page = page(id);
+        page.set(offset(id), prefix);
+        page.set(offset(id) + 1, suffix);
+        Integer existingId = suffixIds.putIfAbsent(suffix, id);
+        if (existingId != null) {
+            // another thread interned the same key in the meantime, the new id was never published
+            page.set(offset(id), null);
+            page.set(offset(id) + 1, null);
+            freeIds.offer(id);
+            return existingId;
+        }
+        return id;
+    }
+
+    private static int offset(int id) {
+        return (id & PAGE_MASK) * 2;
+    }
+
+    private AtomicReferenceArray<String> page(int id) {
+        int pageIndex = id >>> PAGE_SHIFT;
+        AtomicReferenceArray<String>[] currentPages = pages;
+        if (pageIndex < currentPages.length && currentPages[pageIndex] != null) {
+            return currentPages[pageIndex];
+        }
+        return addPage(pageIndex);
+    }
+
+    private synchronized AtomicReferenceArray<String> addPage(int pageIndex) {
+        AtomicReferenceArray<String>[] currentPages = pages;
+        if (pageIndex >= currentPages.length) {
+            AtomicReferenceArray<String>[] newPages = newPages(Math.max(currentPages.length * 2, pageIndex + 1));
+            System.arraycopy(currentPages, 0, newPages, 0, currentPages.length);
+            currentPages = newPages;
+        }
+        if (currentPages[pageIndex] == null) {
+            currentPages[pageIndex] = new AtomicReferenceArray<>(PAGE_SIZE * 2);
+        }
+        pages = currentPages;
+        return currentPages[pageIndex];
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static AtomicReferenceArray<String>[] newPages(int length) {
+        return new AtomicReferenceArray[length];
+    }
+}
@@ -0,0 +1,110 @@
+/*
+ *  Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.wso2.micro.gateway.core.throttle;
+
+/**
+ * Token bucket with a capacity of the policy limit, refilled at limit / unit time tokens per millisecond. The bucket
+ * is implemented as a generic cell rate algorithm, which keeps the theoretical arrival time of the next request in a
+ * single field so that recording a request is a single CAS.
+ * <p>
+ * To avoid fractional emission intervals all times are scaled by limit / gcd(limit, unit time) and kept relative to
+ * the time the slot was allocated at. The scale is kept in the previous count field, the theoretical arrival time in
+ * the count field and the allocation time in the window start field of the slot. Limits and unit times of policies
+ * share large factors, hence the scaled times of a busy slot stay far from overflowing for centuries. The elapsed
+ * time is clamped before it is scaled nonetheless, so that an overflow can never wrap a throttled slot around.
+ */
+public class TokenBucketAlgorithm implements ThrottleAlgorithm {
+
+    public static final int ID = 2;
+
+    // leaves room to add the emission interval and the bucket capacity to a scaled time
+    private static final long MAX_SCALED_TIME = Long.MAX_VALUE / 4;
+
+    @Override
+    public int getId() {
+        return ID;
+    }
+
+    @Override
+    public void initialize(ThrottleCounterTable counterTable, int id, long timestamp) {
+        long limit = counterTable.get(id, ThrottleCounterTable.LIMIT);
+        long unitTime = counterTable.get(id, ThrottleCounterTable.UNIT_TIME);
+        counterTable.set(id, ThrottleCounterTable.WINDOW_START, timestamp);
+        counterTable.set(id, ThrottleCounterTable.COUNT, 0);
+        counterTable.set(id, ThrottleCounterTable.PREVIOUS_COUNT, limit / gcd(limit, unitTime));
+    }
+
+    @Override
+    public long acquire(ThrottleCounterTable counterTable, int id, long timestamp) {
+        long emissionInterval = emissionInterval(counterTable, id);
+        long scaledTime = scaledTime(counterTable, id, timestamp);
+        while (true) {
+            long arrivalTime = counterTable.get(id, ThrottleCounterTable.COUNT);
+            long nextArrivalTime = Math.max(arrivalTime, scaledTime) + emissionInterval;
+            if (counterTable.compareAndSet(id, ThrottleCounterTable.COUNT, arrivalTime, nextArrivalTime)) {
+                // number of tokens consumed from the bucket
+                return (nextArrivalTime - scaledTime) / emissionInterval;
+            }
+        }
+    }
+
+    @Override
+    public boolean isThrottled(ThrottleCounterTable counterTable, int id, long currentTime) {
+        long limit = counterTable.get(id, ThrottleCounterTable.LIMIT);
+        long emissionInterval = emissionInterval(counterTable, id);
+        long scaledTime = scaledTime(counterTable, id, currentTime);
+        // the bucket is empty when the next arrival is more than a full bucket ahead of now. A bucket too large
+        // for a scaled time never empties
+        return limit - 1 <= MAX_SCALED_TIME / emissionInterval
+                && counterTable.get(id, ThrottleCounterTable.COUNT) - scaledTime > (limit - 1) * emissionInterval;
+    }
+
+    @Override
+    public boolean isExpired(ThrottleCounterTable counterTable, int id, long currentTime) {
+        // a full bucket carries no state
+        return counterTable.get(id, ThrottleCounterTable.COUNT) <= scaledTime(counterTable, id, currentTime);
+    }
+
+    @Override
+    public long getExpiryTime(ThrottleCounterTable counterTable, int id) {
+        long scale = counterTable.get(id, ThrottleCounterTable.PREVIOUS_COUNT);
+        long arrivalTime = counterTable.get(id, ThrottleCounterTable.COUNT);
+        // round up, as the bucket is full only once the scaled time has reached the arrival time
+        return counterTable.get(id, ThrottleCounterTable.WINDOW_START) + (arrivalTime + scale - 1) / scale;
+    }
+
+    private static long emissionInterval(ThrottleCounterTable counterTable, int id) {
+        // unit time * scale / limit, which divides without a remainder
+        return counterTable.get(id, ThrottleCounterTable.UNIT_TIME)
+                / (counterTable.get(id, ThrottleCounterTable.LIMIT)
+                / counterTable.get(id, ThrottleCounterTable.PREVIOUS_COUNT));
+    }
+
+    private static long scaledTime(ThrottleCounterTable counterTable, int id, long timestamp) {
+        long scale = counterTable.get(id, ThrottleCounterTable.PREVIOUS_COUNT);
+        long elapsedTime = timestamp - counterTable.get(id, ThrottleCounterTable.WINDOW_START);
+        return Math.min(elapsedTime, MAX_SCALED_TIME / scale) * scale;
+    }
+
+    private static long gcd(long a, long b) {
+        while (b != 0) {
+            long remainder = a % b;
+            a = b;
+            b = remainder;
+        }
+        return a;
+    }
+}
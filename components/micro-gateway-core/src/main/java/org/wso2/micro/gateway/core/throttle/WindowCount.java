@@ -0,0 +1,114 @@
+/*
+ *  Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.wso2.micro.gateway.core.throttle;
+
+/**
+ * Packs the request count of a window together with a tag of the window start time into a single long, so that a
+ * window roll and the reset of its count happen in one CAS. The tag is the low 32 bits of the window start time,
+ * which tells two windows of a slot apart unless they start an exact multiple of 2^32 ms (about 49 days) from each
+ * other. Counts saturate at {@code 2^32 - 1}.
+ */
+final class WindowCount {
+
+    private static final long COUNT_MASK = 0xFFFFFFFFL;
+
+    private WindowCount() {
+    }
+
+    static long pack(long windowStartTime, long count) {
+        return ((long) tag(windowStartTime) << 32) | Math.min(count, COUNT_MASK);
+    }
+
+    /**
+     * Returns the count packed in the given value if it was recorded against the given window, or 0 otherwise.
+     */
+    static long countIn(long packed, long windowStartTime) {
+        return tagOf(packed) == tag(windowStartTime) ? packed & COUNT_MASK : 0;
+    }
+
+    /**
+     * Counts a request against the window starting at the given time. A count recorded against any other window is
+     * replaced by the count of the given window, as long as it is still the current window of the slot.
+     *
+     * @return the count of the window after recording the request, or 0 when the slot has moved on to a later
+     * window, in which case the caller has to read the window start time again
+     */
+    static long increment(ThrottleCounterTable counterTable, int id, int field, long windowStartTime) {
+        return increment(counterTable, id, field, windowStartTime, -1, 0);
+    }
+
+    /**
+     * Counts a request like {@link #increment(ThrottleCounterTable, int, int, long)}, but before the count of the
+     * window starting at {@code previousWindowStartTime} is replaced, it is carried over to {@code previousField}.
+     */
+    static long increment(ThrottleCounterTable counterTable, int id, int field, long windowStartTime,
+            int previousField, long previousWindowStartTime) {
+        int tag = tag(windowStartTime);
+        while (true) {
+            long packed = counterTable.get(id, field);
+            long count;
+            if (tagOf(packed) == tag) {
+                count = Math.min((packed & COUNT_MASK) + 1, COUNT_MASK);
+            } else if (counterTable.get(id, ThrottleCounterTable.WINDOW_START) == windowStartTime) {
+                // the window start only moves forward, and a roll of the count by a thread which read a later
+                // window start time changes the packed value, hence this CAS cannot reset a later window
+                if (previousField >= 0 && tagOf(packed) == tag(previousWindowStartTime)
+                        && !carry(counterTable, id, previousField, packed, windowStartTime)) {
+                    return 0;
+                }
+                count = 1;
+            } else {
+                return 0;
+            }
+            if (counterTable.compareAndSet(id, field, packed, pack(windowStartTime, count))) {
+                return count;
+            }
+        }
+    }
+
+    /**
+     * Copies a packed count to the given field unless the field already holds the same or a larger count of that
+     * window. Until the count is replaced, requests recorded by threads which still hold the previous window start
+     * time may increase it, hence it may be carried more than once.
+     *
+     * @return false if the slot has moved on from the given window start time
+     */
+    private static boolean carry(ThrottleCounterTable counterTable, int id, int field, long packed,
+            long windowStartTime) {
+        while (true) {
+            long carried = counterTable.get(id, field);
+            if (tagOf(carried) == tagOf(packed) && carried >= packed) {
+                return true;
+            }
+            // a carry of a later window only happens once the window start has moved on, hence it has either
+            // happened before this check, or it makes the CAS below fail
+            if (counterTable.get(id, ThrottleCounterTable.WINDOW_START) != windowStartTime) {
+                return false;
+            }
+            if (counterTable.compareAndSet(id, field, carried, packed)) {
+                return true;
+            }
+        }
+    }
+
+    private static int tag(long windowStartTime) {
+        return (int) windowStartTime;
+    }
+
+    private static int tagOf(long packed) {
+        return (int) (packed >>> 32);
+    }
+}
@@ -0,0 +1,304 @@
+/*
+ *  Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package org.wso2.micro.gateway.core.throttle.global;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Index of the IP and IP range blocking conditions, partitioned per tenant. The addresses of the conditions are
+ * parsed once with {@link ThrottleUtils#parseIp} into 128 bit numbers. The blocked ranges of a tenant are merged
+ * into sorted disjoint intervals, hence checking a client IP is a binary search instead of a scan over all the
+ * conditions.
+ * <p>
+ * Conditions are staged with {@link #addCondition} and {@link #removeCondition} and become visible to
+ * {@link #isBlocked} atomically per tenant when {@link #rebuild()} is called.
+ */
+public class IpBlockingIndex {
+
+    private static final Logger log = LoggerFactory.getLogger("ballerina");
+
+    public static final String BLOCKING_CONDITION_IP = "IP";
+    public static final String BLOCKING_CONDITION_IP_RANGE = "IPRANGE";
+
+    // staged conditions by condition id, guarded by the class lock
+    private static final Map<Long, Condition> conditions = new HashMap<>();
+    private static final Set<String> modifiedTenants = new HashSet<>();
+    private static volatile Map<String, TenantIndex> tenantIndexes = Collections.emptyMap();
+    private static final ThreadLocal<long[]> addressBuffer = ThreadLocal.withInitial(() -> new long[2]);
+
+    private IpBlockingIndex() {
+    }
+
+    /**
+     * Stages an IP or IP range blocking condition. A condition with the same id replaces the existing one.
+     *
+     * @return false if the condition could not be parsed
+     */
+    public static synchronized boolean addCondition(long id, String tenantDomain, String type, String fixedIp,
+            String startingIp, String endingIp, boolean invert) {
+        Condition condition;
+        if (BLOCKING_CONDITION_IP.equalsIgnoreCase(type)) {
+            long[] address = toAddress(fixedIp);
+            if (address == null) {
+                return false;
+            }
+            condition = new Condition(tenantDomain, invert, address[0], address[1], address[0], address[1]);
+        } else if (BLOCKING_CONDITION_IP_RANGE.equalsIgnoreCase(type)) {
+            long[] start = toAddress(startingIp);
+            long[] end = toAddress(endingIp);
+            if (start == null || end == null) {
+                return false;
+            }
+            if (compare(start[0], start[1], end[0], end[1]) < 0) {
+                // the starting and ending IPs of a range are not blocked themselves
+                increment(start);
+                decrement(end);
+            } else {
+                start = new long[] {0, 1};
+                end = new long[] {0, 0};
+            }
+            condition = new Condition(tenantDomain, invert, start[0], start[1], end[0], end[1]);
+        } else {
+            log.error("Unsupported IP blocking condition type : " + type);
+            return false;
+        }
+        Condition existing = conditions.put(id, condition);
+        if (existing != null) {
+            modifiedTenants.add(existing.tenantDomain);
+        }
+        modifiedTenants.add(tenantDomain);
+        return true;
+    }
+
+    /**
+     * Stages the removal of the blocking condition with the given id.
+     *
+     * @return true if a condition was removed
+     */
+    public static synchronized boolean removeCondition(long id) {
+        Condition existing = conditions.remove(id);
+        if (existing == null) {
+            return false;
+        }
+        modifiedTenants.add(existing.tenantDomain);
+        return true;
+    }
+
+    /**
+     * Rebuilds the index of each tenant whose conditions were modified since the last rebuild and publishes the new
+     * indexes at once.
+     */
+    public static synchronized void rebuild() {
+        if (modifiedTenants.isEmpty()) {
+            return;
+        }
+        Map<String, List<Condition>> tenantConditions = new HashMap<>();
+        for (Condition condition : conditions.values()) {
+            if (modifiedTenants.contains(condition.tenantDomain)) {
+                tenantConditions.computeIfAbsent(condition.tenantDomain, k -> new ArrayList<>()).add(condition);
+            }
+        }
+        Map<String, TenantIndex> newTenantIndexes = new HashMap<>(tenantIndexes);
+        for (String tenantDomain : modifiedTenants) {
+            List<Condition> currentConditions = tenantConditions.get(tenantDomain);
+            if (currentConditions == null) {
+                newTenantIndexes.remove(tenantDomain);
+            } else {
+                newTenantIndexes.put(tenantDomain, new TenantIndex(currentConditions));
+            }
+        }
+        modifiedTenants.clear();
+        tenantIndexes = newTenantIndexes;
+        if (log.isDebugEnabled()) {
+            log.debug("IP blocking index rebuilt with " + conditions.size() + " conditions");
+        }
+    }
+
+    /**
+     * Checks whether the client IP is blocked by any of the IP blocking conditions of the tenant.
+     */
+    public static boolean isBlocked(String clientIp, String tenantDomain) {
+        TenantIndex tenantIndex = tenantIndexes.get(tenantDomain);
+        if (tenantIndex == null) {
+            return false;
+        }
+        long[] address = addressBuffer.get();
+        if (ThrottleUtils.parseIp(clientIp, address) == ThrottleUtils.INVALID_IP) {
+            // invalid addresses are treated as address zero, as when the ranges were compared as big integers
+            address[0] = 0;
+            address[1] = 0;
+        }
+        return tenantIndex.isBlocked(address[0], address[1]);
+    }
+
+    /**
+     * Returns true if there is no IP blocking condition published.
+     */
+    public static boolean isEmpty() {
+        return tenantIndexes.isEmpty();
+    }
+
+    private static long[] toAddress(String ip) {
+        long[] address = new long[2];
+        if (ThrottleUtils.parseIp(ip, address) == ThrottleUtils.INVALID_IP) {
+            log.error("Error while parsing host IP " + ip);
+            return null;
+        }
+        return address;
+    }
+
+    private static int compare(long high, long low, long otherHigh, long otherLow) {
+        return ThrottleUtils.compareIp(high, low, otherHigh, otherLow);
+    }
+
+    private static void increment(long[] address) {
+        address[1]++;
+        if (address[1] == 0) {
+            address[0]++;
+        }
+    }
+
+    private static void decrement(long[] address) {
+        if (address[1] == 0) {
+            address[0]--;
+        }
+        address[1]--;
+    }
+
+    /**
+     * A blocked interval with inclusive bounds. An interval whose start is after its end is empty.
+     */
+    private static final class Condition {
+        private final String tenantDomain;
+        private final boolean invert;
+        private final long startHigh;
+        private final long startLow;
+        private final long endHigh;
+        private final long endLow;
+
+        private Condition(String tenantDomain, boolean invert, long startHigh, long startLow, long endHigh,
+                long endLow) {
+            this.tenantDomain = tenantDomain;
+            this.invert = invert;
+            this.startHigh = startHigh;
+            this.startLow = startLow;
+            this.endHigh = endHigh;
+            this.endLow = endLow;
+        }
+
+        private boolean isEmpty() {
+            return compare(startHigh, startLow, endHigh, endLow) > 0;
+        }
+    }
+
+    /**
+     * Immutable index of the conditions of a tenant. An address is blocked if it is within any of the merged
+     * intervals of the conditions, or outside the interval of any inverted condition. The latter holds when the
+     * address is outside the intersection of all the inverted intervals.
+     */
+    private static final class TenantIndex {
+        private final long[] startHighs;
+        private final long[] startLows;
+        private final long[] endHighs;
+        private final long[] endLows;
+        private final boolean hasInverted;
+        private long allowedStartHigh;
+        private long allowedStartLow;
+        private long allowedEndHigh = -1L;
+        private long allowedEndLow = -1L;
+
+        private TenantIndex(List<Condition> conditions) {
+            List<Condition> blocked = new ArrayList<>(conditions.size());
+            boolean inverted = false;
+            for (Condition condition : conditions) {
+                if (condition.invert) {
+                    inverted = true;
+                    if (compare(condition.startHigh, condition.startLow, allowedStartHigh, allowedStartLow) > 0) {
+                        allowedStartHigh = condition.startHigh;
+                        allowedStartLow = condition.startLow;
+                    }
+                    if (compare(condition.endHigh, condition.endLow, allowedEndHigh, allowedEndLow) < 0) {
+                        allowedEndHigh = condition.endHigh;
+                        allowedEndLow = condition.endLow;
+                    }
+                } else if (!condition.isEmpty()) {
+                    blocked.add(condition);
+                }
+            }
+            hasInverted = inverted;
+            blocked.sort((first, second) -> compare(first.startHigh, first.startLow, second.startHigh,
+                    second.startLow));
+            long[] mergedStartHighs = new long[blocked.size()];
+            long[] mergedStartLows = new long[blocked.size()];
+            long[] mergedEndHighs = new long[blocked.size()];
+            long[] mergedEndLows = new long[blocked.size()];
+            int size = 0;
+            for (Condition condition : blocked) {
+                if (size > 0 && compare(condition.startHigh, condition.startLow, mergedEndHighs[size - 1],
+                        mergedEndLows[size - 1]) <= 0) {
+                    // overlaps the previous interval
+                    if (compare(condition.endHigh, condition.endLow, mergedEndHighs[size - 1],
+                            mergedEndLows[size - 1]) > 0) {
+                        mergedEndHighs[size - 1] = condition.endHigh;
+                        mergedEndLows[size - 1] = condition.endLow;
+                    }
+                    continue;
+                }
+                mergedStartHighs[size] = condition.startHigh;
+                mergedStartLows[size] = condition.startLow;
+                mergedEndHighs[size] = condition.endHigh;
+                mergedEndLows[size] = condition.endLow;
+                size++;
+            }
+            startHighs = Arrays.copyOf(mergedStartHighs, size);
+            startLows = Arrays.copyOf(mergedStartLows, size);
+            endHighs = Arrays.copyOf(mergedEndHighs, size);
+            endLows = Arrays.copyOf(mergedEndLows, size);
+        }
+
+        private boolean isBlocked(long high, long low) {
+            if (hasInverted && (compare(high, low, allowedStartHigh, allowedStartLow) < 0
+                    || compare(high, low, allowedEndHigh, allowedEndLow) > 0)) {
+                return true;
+            }
+            // find the last interval starting at or before the address
+            int lowIndex = 0;
+            int highIndex = startHighs.length - 1;
+            int found = -1;
+            while (lowIndex <= highIndex) {
+                int middle = (lowIndex + highIndex) >>> 1;
+                if (compare(startHighs[middle], startLows[middle], high, low) <= 0) {
+                    found = middle;
+                    lowIndex = middle + 1;
+                } else {
+                    highIndex = middle - 1;
+                }
+            }
+            return found >= 0 && compare(high, low, endHighs[found], endLows[found]) <= 0;
+        }
+    }
+}
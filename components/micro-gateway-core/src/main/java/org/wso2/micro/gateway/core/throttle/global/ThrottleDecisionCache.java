@@ -0,0 +1,161 @@
+/*
+ *  Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package org.wso2.micro.gateway.core.throttle.global;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.wso2.micro.gateway.core.utils.MBeanUtils;
+
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Cache of the throttle decisions received from the traffic manager, keyed by the throttle key of the policy. A
+ * decision holds until its reset timestamp, after which lookups ignore it and the scheduled sweep removes it, so
+ * that the keys which are never looked up again do not pile up.
+ */
+public class ThrottleDecisionCache implements ThrottleDecisionCacheMXBean {
+
+    private static final Logger log = LoggerFactory.getLogger("ballerina");
+
+    public static final int NOT_THROTTLED = 0;
+    public static final int THROTTLED = 1;
+    public static final int THROTTLED_STOP_ON_QUOTA = 2;
+
+    private static final ThrottleDecisionCache instance = new ThrottleDecisionCache();
+
+    private final Map<String, Decision> decisions = new ConcurrentHashMap<>();
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder expiredDecisions = new LongAdder();
+    private ScheduledExecutorService sweeper;
+
+    private ThrottleDecisionCache() {
+    }
+
+    /**
+     * Starts the sweep of the expired decisions and registers the metrics of the cache.
+     *
+     * @param cleanUpFrequency frequency of the sweep in seconds
+     */
+    public static synchronized void initThrottleDecisionCache(long cleanUpFrequency) {
+        if (instance.sweeper != null) {
+            return;
+        }
+        long frequency = Math.max(cleanUpFrequency, 1);
+        instance.sweeper = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread t = new Thread(r);
+            t.setName("Throttle Decision Cleanup Task");
+            t.setDaemon(true);
+            return t;
+        });
+        instance.sweeper.scheduleAtFixedRate(() -> {
+            try {
+                instance.sweep(System.currentTimeMillis());
+            } catch (RuntimeException e) {
+                // an exception would cancel the periodic task and the decisions would never be removed again
+                log.error("Error while cleaning up expired throttle decisions", e);
+            }
+        }, frequency, frequency, TimeUnit.SECONDS);
+        MBeanUtils.registerMBean(instance, "ThrottleDecisionCache", null);
+    }
+
+    /**
+     * Records that the throttle key is throttled until the reset timestamp.
+     */
+    public static void putDecision(String throttleKey, long resetTimestamp, boolean stopOnQuota) {
+        instance.decisions.put(throttleKey, new Decision(resetTimestamp, stopOnQuota));
+    }
+
+    public static void removeDecision(String throttleKey) {
+        instance.decisions.remove(throttleKey);
+    }
+
+    /**
+     * Looks up the throttle decision of the key.
+     *
+     * @return {@link #THROTTLED} or {@link #THROTTLED_STOP_ON_QUOTA} if the key is throttled, otherwise
+     * {@link #NOT_THROTTLED}
+     */
+    public static int getDecision(String throttleKey) {
+        Decision decision = instance.decisions.get(throttleKey);
+        if (decision == null || decision.resetTimestamp < System.currentTimeMillis()) {
+            instance.misses.increment();
+            return NOT_THROTTLED;
+        }
+        instance.hits.increment();
+        return decision.stopOnQuota ? THROTTLED_STOP_ON_QUOTA : THROTTLED;
+    }
+
+    int sweep(long currentTime) {
+        int removed = 0;
+        Iterator<Decision> iterator = decisions.values().iterator();
+        while (iterator.hasNext()) {
+            if (iterator.next().resetTimestamp < currentTime) {
+                iterator.remove();
+                removed++;
+            }
+        }
+        expiredDecisions.add(removed);
+        if (log.isDebugEnabled()) {
+            log.debug("Removed " + removed + " expired throttle decisions, " + decisions.size() + " remaining");
+        }
+        return removed;
+    }
+
+    @Override
+    public int getSize() {
+        return decisions.size();
+    }
+
+    @Override
+    public long getHits() {
+        return hits.sum();
+    }
+
+    @Override
+    public long getMisses() {
+        return misses.sum();
+    }
+
+    @Override
+    public double getHitRate() {
+        long hitCount = hits.sum();
+        long total = hitCount + misses.sum();
+        return total == 0 ? 0 : (double) hitCount / total;
+    }
+
+    @Override
+    public long getExpiredDecisions() {
+        return expiredDecisions.sum();
+    }
+
+    private static final class Decision {
+        private final long resetTimestamp;
+        private final boolean stopOnQuota;
+
+        private Decision(long resetTimestamp, boolean stopOnQuota) {
+            this.resetTimestamp = resetTimestamp;
+            this.stopOnQuota = stopOnQuota;
+        }
+    }
+}
@@ -0,0 +1,36 @@
+/*
+ *  Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package org.wso2.micro.gateway.core.throttle.global;
+
+/**
+ * Management interface exposing the state of the global throttle decision cache.
+ */
+public interface ThrottleDecisionCacheMXBean {
+
+    int getSize();
+
+    /**
+     * Returns the number of lookups which found a throttle decision which has not expired.
+     */
+    long getHits();
+
+    long getMisses();
+
+    double getHitRate();
+
+    long getExpiredDecisions();
+}
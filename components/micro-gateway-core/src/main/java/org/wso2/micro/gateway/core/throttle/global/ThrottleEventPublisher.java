@@ -0,0 +1,336 @@
+/*
+ *  Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package org.wso2.micro.gateway.core.throttle.global;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.wso2.micro.gateway.core.utils.MBeanUtils;
+import org.wso2.micro.gateway.core.utils.SslUtils;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.HttpURLConnection;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.zip.GZIPOutputStream;
+
+import javax.net.ssl.HttpsURLConnection;
+import javax.net.ssl.SSLSocketFactory;
+
+/**
+ * Publishes the throttle events of the gateway to the throttle event receiver of the traffic manager in batches.
+ * Events are buffered in a bounded queue by the request threads and a single publisher thread sends them as a JSON
+ * array, once the batch is full or the oldest event of the batch has waited for the maximum batch latency.
+ * <p>
+ * A batch which could not be published is retried with an exponential backoff up to the maximum number of retries,
+ * while new events keep on being buffered. Events which do not fit into the buffer are dropped.
+ */
+public class ThrottleEventPublisher implements ThrottleEventPublisherMXBean, Runnable {
+
+    private static final Logger log = LoggerFactory.getLogger("ballerina");
+
+    private static final String EVENT_RECEIVER_PATH = "/throttleEventReceiver";
+    private static final int CONNECT_TIMEOUT_MILLIS = 10000;
+    private static final int READ_TIMEOUT_MILLIS = 30000;
+    private static final long INITIAL_RETRY_DELAY_MILLIS = 500;
+    private static final long MAX_RETRY_DELAY_MILLIS = 30000;
+
+    private static volatile ThrottleEventPublisher instance;
+
+    private final BlockingQueue<String> events;
+    private final URL endpoint;
+    private final String authorizationHeader;
+    private final SSLSocketFactory sslSocketFactory;
+    private final boolean verifyHostname;
+    private final int batchSize;
+    private final long maxBatchLatencyNanos;
+    private final int maxRetries;
+    private final boolean compressionEnabled;
+
+    private final AtomicLong publishedEvents = new AtomicLong();
+    private final AtomicLong publishedBatches = new AtomicLong();
+    private final AtomicLong failedBatches = new AtomicLong();
+    private final AtomicLong droppedEvents = new AtomicLong();
+    private volatile int lastBatchSize;
+    private volatile long lastFlushLatency;
+    private volatile long maxFlushLatency;
+
+    private ThrottleEventPublisher(URL endpoint, String authorizationHeader, SSLSocketFactory sslSocketFactory,
+            boolean verifyHostname, int bufferSize, int batchSize, long maxBatchLatencyMillis, int maxRetries,
+            boolean compressionEnabled) {
+        this.events = new ArrayBlockingQueue<>(Math.max(bufferSize, 1));
+        this.endpoint = endpoint;
+        this.authorizationHeader = authorizationHeader;
+        this.sslSocketFactory = sslSocketFactory;
+        this.verifyHostname = verifyHostname;
+        this.batchSize = Math.max(batchSize, 1);
+        this.maxBatchLatencyNanos = TimeUnit.MILLISECONDS.toNanos(Math.max(maxBatchLatencyMillis, 0));
+        this.maxRetries = Math.max(maxRetries, 0);
+        this.compressionEnabled = compressionEnabled;
+    }
+
+    /**
+     * Starts the publisher thread. Subsequent calls have no effect.
+     *
+     * @param endpointUrl           base URL of the traffic manager endpoints
+     * @param authorizationHeader   value of the authorization header sent with each batch
+     * @param trustStorePath        trust store used to verify the traffic manager
+     * @param trustStorePassword    password of the trust store
+     * @param verifyHostname        whether the host name of the traffic manager is verified
+     * @param bufferSize            maximum number of buffered events
+     * @param batchSize             maximum number of events sent in a batch
+     * @param maxBatchLatencyMillis maximum time in milliseconds an event waits for its batch to fill
+     * @param maxRetries            maximum number of retries of a failed batch
+     * @param compressionEnabled    whether batches are sent gzip compressed
+     */
+    public static synchronized void initThrottleEventPublisher(String endpointUrl, String authorizationHeader,
+            String trustStorePath, String trustStorePassword, boolean verifyHostname, int bufferSize, int batchSize,
+            long maxBatchLatencyMillis, int maxRetries, boolean compressionEnabled) {
+        if (instance != null) {
+            return;
+        }
+        URL endpoint;
+        try {
+            endpoint = new URL(endpointUrl + EVENT_RECEIVER_PATH);
+        } catch (IOException e) {
+            log.error("Invalid traffic manager endpoint URL " + endpointUrl, e);
+            return;
+        }
+        instance = new ThrottleEventPublisher(endpoint, authorizationHeader,
+                SslUtils.createSslSocketFactory(trustStorePath, trustStorePassword, "traffic manager"),
+                verifyHostname, bufferSize, batchSize, maxBatchLatencyMillis, maxRetries, compressionEnabled);
+        Thread publisher = new Thread(instance);
+        publisher.setName("Throttle Event Publisher");
+        publisher.setDaemon(true);
+        publisher.start();
+        MBeanUtils.registerMBean(instance, "ThrottleEventPublisher", null);
+    }
+
+    /**
+     * Buffers the throttle event to be published with the next batch.
+     *
+     * @param event throttle event as a JSON object
+     * @return false if the event was dropped
+     */
+    public static boolean publishThrottleEvent(String event) {
+        ThrottleEventPublisher publisher = instance;
+        if (publisher == null) {
+            return false;
+        }
+        if (!publisher.events.offer(event)) {
+            publisher.droppedEvents.incrementAndGet();
+            return false;
+        }
+        return true;
+    }
+
+    @Override
+    public void run() {
+        List<String> batch = new ArrayList<>(batchSize);
+        while (!Thread.currentThread().isInterrupted()) {
+            try {
+                collectBatch(batch);
+                flush(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } catch (RuntimeException e) {
+                // an exception must not stop the publisher thread, the batch is dropped instead
+                droppedEvents.addAndGet(batch.size());
+                log.error("Error while publishing throttle events to the traffic manager", e);
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    private void collectBatch(List<String> batch) throws InterruptedException {
+        batch.add(events.take());
+        long deadline = System.nanoTime() + maxBatchLatencyNanos;
+        while (batch.size() < batchSize) {
+            events.drainTo(batch, batchSize - batch.size());
+            long remaining = deadline - System.nanoTime();
+            if (batch.size() >= batchSize || remaining <= 0) {
+                return;
+            }
+            String event = events.poll(remaining, TimeUnit.NANOSECONDS);
+            if (event == null) {
+                return;
+            }
+            batch.add(event);
+        }
+    }
+
+    private void flush(List<String> batch) throws InterruptedException {
+        long startTime = System.nanoTime();
+        byte[] payload = toPayload(batch);
+        long retryDelay = INITIAL_RETRY_DELAY_MILLIS;
+        for (int attempt = 0; ; attempt++) {
+            boolean retryable;
+            try {
+                int statusCode = post(payload);
+                if (statusCode >= 200 && statusCode < 300) {
+                    publishedEvents.addAndGet(batch.size());
+                    publishedBatches.incrementAndGet();
+                    lastBatchSize = batch.size();
+                    recordFlushLatency(startTime);
+                    if (log.isDebugEnabled()) {
+                        log.debug("Published " + batch.size() + " throttle events to the traffic manager");
+                    }
+                    return;
+                }
+                log.error("Error while publishing to traffic manager. Returned status code : " + statusCode);
+                // client errors will not be resolved by sending the same batch again
+                retryable = statusCode >= 500;
+            } catch (IOException e) {
+                log.error("Error while publishing throttle events to the traffic manager", e);
+                retryable = true;
+            }
+            if (!retryable || attempt >= maxRetries) {
+                failedBatches.incrementAndGet();
+                droppedEvents.addAndGet(batch.size());
+                recordFlushLatency(startTime);
+                return;
+            }
+            Thread.sleep(retryDelay);
+            retryDelay = Math.min(retryDelay * 2, MAX_RETRY_DELAY_MILLIS);
+        }
+    }
+
+    private byte[] toPayload(List<String> batch) {
+        StringBuilder builder = new StringBuilder();
+        builder.append('[');
+        for (int i = 0; i < batch.size(); i++) {
+            if (i > 0) {
+                builder.append(',');
+            }
+            builder.append(batch.get(i));
+        }
+        builder.append(']');
+        byte[] payload = builder.toString().getBytes(StandardCharsets.UTF_8);
+        if (!compressionEnabled) {
+            return payload;
+        }
+        ByteArrayOutputStream compressed = new ByteArrayOutputStream(payload.length / 4 + 64);
+        try (GZIPOutputStream gzip = new GZIPOutputStream(compressed)) {
+            gzip.write(payload);
+        } catch (IOException e) {
+            // the stream is in memory, hence this is not expected
+            throw new IllegalStateException("Error while compressing throttle events", e);
+        }
+        return compressed.toByteArray();
+    }
+
+    private int post(byte[] payload) throws IOException {
+        HttpURLConnection connection = (HttpURLConnection) endpoint.openConnection();
+        if (connection instanceof HttpsURLConnection) {
+            HttpsURLConnection httpsConnection = (HttpsURLConnection) connection;
+            if (sslSocketFactory != null) {
+                httpsConnection.setSSLSocketFactory(sslSocketFactory);
+            }
+            if (!verifyHostname) {
+                httpsConnection.setHostnameVerifier((hostname, session) -> true);
+            }
+        }
+        connection.setConnectTimeout(CONNECT_TIMEOUT_MILLIS);
+        connection.setReadTimeout(READ_TIMEOUT_MILLIS);
+        connection.setRequestMethod("POST");
+        connection.setDoOutput(true);
+        connection.setFixedLengthStreamingMode(payload.length);
+        connection.setRequestProperty("Authorization", authorizationHeader);
+        connection.setRequestProperty("Content-Type", "application/json");
+        if (compressionEnabled) {
+            connection.setRequestProperty("Content-Encoding", "gzip");
+        }
+        try (OutputStream outputStream = connection.getOutputStream()) {
+            outputStream.write(payload);
+        }
+        int statusCode = connection.getResponseCode();
+        // the response is read fully so that the connection can be reused for the next batch
+        try (InputStream inputStream = statusCode < 400 ? connection.getInputStream() : connection.getErrorStream()) {
+            if (inputStream != null) {
+                byte[] buffer = new byte[1024];
+                int read = 0;
+                while (read != -1) {
+                    read = inputStream.read(buffer);
+                }
+            }
+        }
+        return statusCode;
+    }
+
+    private void recordFlushLatency(long startTime) {
+        long latency = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startTime);
+        lastFlushLatency = latency;
+        if (latency > maxFlushLatency) {
+            maxFlushLatency = latency;
+        }
+    }
+
+    @Override
+    public int getQueueSize() {
+        return events.size();
+    }
+
+    @Override
+    public long getPublishedEvents() {
+        return publishedEvents.get();
+    }
+
+    @Override
+    public long getPublishedBatches() {
+        return publishedBatches.get();
+    }
+
+    @Override
+    public long getFailedBatches() {
+        return failedBatches.get();
+    }
+
+    @Override
+    public long getDroppedEvents() {
+        return droppedEvents.get();
+    }
+
+    @Override
+    public int getLastBatchSize() {
+        return lastBatchSize;
+    }
+
+    @Override
+    public double getAverageBatchSize() {
+        long batches = publishedBatches.get();
+        return batches == 0 ? 0 : (double) publishedEvents.get() / batches;
+    }
+
+    @Override
+    public long getLastFlushLatencyMillis() {
+        return lastFlushLatency;
+    }
+
+    @Override
+    public long getMaxFlushLatencyMillis() {
+        return maxFlushLatency;
+    }
+}
@@ -0,0 +1,47 @@
+/*
+ *  Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package org.wso2.micro.gateway.core.throttle.global;
+
+/**
+ * Management interface exposing the state of the publisher of throttle events to the traffic manager.
+ */
+public interface ThrottleEventPublisherMXBean {
+
+    int getQueueSize();
+
+    long getPublishedEvents();
+
+    long getPublishedBatches();
+
+    long getFailedBatches();
+
+    /**
+     * Returns the number of events dropped as the buffer was full or their batch could not be published.
+     */
+    long getDroppedEvents();
+
+    int getLastBatchSize();
+
+    double getAverageBatchSize();
+
+    /**
+     * Returns the time in milliseconds taken to publish the last batch, including retries.
+     */
+    long getLastFlushLatencyMillis();
+
+    long getMaxFlushLatencyMillis();
+}
@@ -20,46 +20,257 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.math.BigInteger;
-import java.net.InetAddress;
-import java.net.UnknownHostException;
 
 /**
  * Utility methods used for global throttling scenarios.
+ * <p>
+ * IP addresses are parsed into 128 bit numbers held in two longs, the high and the low 64 bits, without resolving
+ * the address or allocating any objects. IPv4 addresses, including IPv4 mapped IPv6 addresses, take the low 32 bits.
  */
 public class ThrottleUtils {
 
     private static final Logger log = LoggerFactory.getLogger("ballerina");
+
+    public static final int INVALID_IP = 0;
+    public static final int IP_V4 = 4;
+    public static final int IP_V6 = 6;
+
+    private static final int IPV6_GROUPS = 8;
+    private static final long IPV4_MAPPED_PREFIX = 0xffffL;
+
+    private static final ThreadLocal<long[]> addressBuffer = ThreadLocal.withInitial(() -> new long[2]);
+
+    /**
+     * Parses a textual IPv4 or IPv6 address into the given array, the high 64 bits at index 0 and the low 64 bits
+     * at index 1. IPv6 addresses may be compressed and may end with an IPv4 address, but may not have a zone.
+     *
+     * @param ip        ip address.
+     * @param address   array of at least two elements to hold the parsed address.
+     * @return {@link #IP_V4} or {@link #IP_V6} depending on the address, or {@link #INVALID_IP} if the given string
+     * is not an ip address, in which case the array is left in an undefined state.
+     */
+    public static int parseIp(String ip, long[] address) {
+        if (ip == null || ip.isEmpty()) {
+            return INVALID_IP;
+        }
+        if (ip.indexOf(':') < 0) {
+            long ipv4 = parseIpv4(ip, 0, ip.length());
+            if (ipv4 < 0) {
+                return INVALID_IP;
+            }
+            address[0] = 0;
+            address[1] = ipv4;
+            return IP_V4;
+        }
+        return parseIpv6(ip, address);
+    }
+
+    /**
+     * Compares two 128 bit addresses as unsigned numbers.
+     */
+    public static int compareIp(long high, long low, long otherHigh, long otherLow) {
+        int result = Long.compareUnsigned(high, otherHigh);
+        return result != 0 ? result : Long.compareUnsigned(low, otherLow);
+    }
+
+    /**
+     * This method provides the numeric value of the given IPv4 address.
+     * @param ipAddress ip address.
+     * @return numeric value of the given ip address. returns -1 if it is not an IPv4 address.
+     */
+    public static long ipToLong(String ipAddress) {
+        long[] address = addressBuffer.get();
+        return parseIp(ipAddress, address) == IP_V4 ? address[1] : -1;
+    }
+
     /**
      * This method provides the BigInteger string value for the given IP address.
      * This supports both IPv4 and IPv6 address.
      * @param ipAddress ip address.
-     * @return BigInteger string value for the given ip address. returns 0 for unknown host.
+     * @return BigInteger string value for the given ip address. returns 0 for an invalid address.
      */
     public static String ipToBigInteger(String ipAddress) {
-        InetAddress address;
-        try {
-            address = InetAddress.getByName(ipAddress);
-            byte[] bytes = address.getAddress();
-            return new BigInteger(1, bytes).toString();
-        } catch (UnknownHostException e) {
-            //ignore the error and log it
-            log.error("Error while parsing host IP " + ipAddress, e);
-        }
-        return BigInteger.ZERO.toString();
+        long[] address = addressBuffer.get();
+        int version = parseIp(ipAddress, address);
+        if (version == INVALID_IP) {
+            log.error("Error while parsing host IP " + ipAddress);
+            return "0";
+        }
+        if (address[0] == 0 && address[1] >= 0) {
+            return Long.toString(address[1]);
+        }
+        byte[] bytes = new byte[16];
+        for (int i = 0; i < 8; i++) {
+            bytes[7 - i] = (byte) (address[0] >>> (8 * i));
+            bytes[15 - i] = (byte) (address[1] >>> (8 * i));
+        }
+        return new BigInteger(1, bytes).toString();
     }
 
     /**
-     * This method checks whether the given IP address inside a certain IP address range.
-     * This supports both IPv4 and IPv6 address.
+     * This method checks whether the given IP address inside a certain IP address range, excluding the starting and
+     * the ending IPs of the range. This supports both IPv4 and IPv6 address.
      * @param ip ip address to be verified.
-     * @param startingIP starting IP of the address range.
+     * @param startingIp starting IP of the address range.
      * @param endingIp ending IP of the address range.
      * @return true if IP address is inside the given range.
      */
-    public static boolean isIpWithinRange(String ip, String startingIP, String endingIp) {
-        BigInteger ipNumber = new BigInteger(ipToBigInteger(ip));
-        BigInteger startingIpNumber = new BigInteger(startingIP);
-        BigInteger endingIpNumber = new BigInteger(endingIp);
-        return (ipNumber.compareTo(startingIpNumber) > 0) && (ipNumber.compareTo(endingIpNumber) < 0);
+    public static boolean isIpWithinRange(String ip, String startingIp, String endingIp) {
+        long[] address = addressBuffer.get();
+        if (parseIp(startingIp, address) == INVALID_IP) {
+            return false;
+        }
+        long startHigh = address[0];
+        long startLow = address[1];
+        if (parseIp(endingIp, address) == INVALID_IP) {
+            return false;
+        }
+        long endHigh = address[0];
+        long endLow = address[1];
+        if (parseIp(ip, address) == INVALID_IP) {
+            // an invalid address is treated as address zero, which is never within a range
+            return false;
+        }
+        return compareIp(address[0], address[1], startHigh, startLow) > 0
+                && compareIp(address[0], address[1], endHigh, endLow) < 0;
+    }
+
+    /**
+     * Parses a dotted quad IPv4 address within the given bounds of the string.
+     *
+     * @return the address in the low 32 bits, or -1 if it is not a valid address
+     */
+    private static long parseIpv4(String ip, int start, int end) {
+        long result = 0;
+        int octets = 0;
+        int value = 0;
+        int digits = 0;
+        for (int i = start; i < end; i++) {
+            char c = ip.charAt(i);
+            if (c == '.') {
+                if (digits == 0 || octets == 3) {
+                    return -1;
+                }
+                result = (result << 8) | value;
+                octets++;
+                value = 0;
+                digits = 0;
+            } else if (c >= '0' && c <= '9') {
+                value = value * 10 + (c - '0');
+                digits++;
+                if (value > 255 || digits > 3) {
+                    return -1;
+                }
+            } else {
+                return -1;
+            }
+        }
+        if (digits == 0 || octets != 3) {
+            return -1;
+        }
+        return (result << 8) | value;
+    }
+
+    private static int parseIpv6(String ip, long[] address) {
+        int start = 0;
+        int end = ip.length();
+        if (end > 2 && ip.charAt(0) == '[' && ip.charAt(end - 1) == ']') {
+            start++;
+            end--;
+        }
+        // groups before the "::" are accumulated in the address, the ones after it in tailHigh and tailLow
+        address[0] = 0;
+        address[1] = 0;
+        long tailHigh = 0;
+        long tailLow = 0;
+        int headGroups = 0;
+        int tailGroups = 0;
+        boolean compressed = false;
+        int i = start;
+        if (end - i >= 2 && ip.charAt(i) == ':') {
+            if (ip.charAt(i + 1) != ':') {
+                return INVALID_IP;
+            }
+            compressed = true;
+            i += 2;
+        }
+        while (i < end) {
+            int groupStart = i;
+            int value = 0;
+            int digit;
+            while (i < end && i - groupStart < 4 && (digit = Character.digit(ip.charAt(i), 16)) >= 0) {
+                value = (value << 4) | digit;
+                i++;
+            }
+            if (i < end && ip.charAt(i) == '.') {
+                // an IPv4 address ends the IPv6 address and takes the last two groups
+                long ipv4 = parseIpv4(ip, groupStart, end);
+                if (ipv4 < 0) {
+                    return INVALID_IP;
+                }
+                if (compressed) {
+                    tailHigh = (tailHigh << 32) | (tailLow >>> 32);
+                    tailLow = (tailLow << 32) | ipv4;
+                    tailGroups += 2;
+                } else {
+                    address[0] = (address[0] << 32) | (address[1] >>> 32);
+                    address[1] = (address[1] << 32) | ipv4;
+                    headGroups += 2;
+                }
+                i = end;
+                break;
+            }
+            if (i == groupStart) {
+                return INVALID_IP;
+            }
+            if (compressed) {
+                tailHigh = (tailHigh << 16) | (tailLow >>> 48);
+                tailLow = (tailLow << 16) | value;
+                tailGroups++;
+            } else {
+                address[0] = (address[0] << 16) | (address[1] >>> 48);
+                address[1] = (address[1] << 16) | value;
+                headGroups++;
+            }
+            if (i == end) {
+                break;
+            }
+            if (ip.charAt(i) != ':') {
+                return INVALID_IP;
+            }
+            i++;
+            if (i < end && ip.charAt(i) == ':') {
+                if (compressed) {
+                    return INVALID_IP;
+                }
+                compressed = true;
+                i++;
+            } else if (i == end) {
+                return INVALID_IP;
+            }
+        }
+        int groups = headGroups + tailGroups;
+        if (compressed ? groups >= IPV6_GROUPS : groups != IPV6_GROUPS) {
+            return INVALID_IP;
+        }
+        // move the groups before the "::" to the top of the address
+        int shift = 16 * (IPV6_GROUPS - headGroups);
+        if (shift >= 128) {
+            address[0] = 0;
+            address[1] = 0;
+        } else if (shift >= 64) {
+            address[0] = address[1] << (shift - 64);
+            address[1] = 0;
+        } else if (shift > 0) {
+            address[0] = (address[0] << shift) | (address[1] >>> (64 - shift));
+            address[1] <<= shift;
+        }
+        address[0] |= tailHigh;
+        address[1] |= tailLow;
+        if (address[0] == 0 && (address[1] >>> 32) == IPV4_MAPPED_PREFIX) {
+            address[1] &= 0xffffffffL;
+            return IP_V4;
+        }
+        return IP_V6;
     }
 }
@@ -0,0 +1,83 @@
+/*
+ *  Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package org.wso2.micro.gateway.core.tokenrevocation;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Bloom filter of strings with a false positive rate of about 1% up to its capacity. Adding is thread safe and a
+ * string is visible to {@link #mightContain} once it has been added.
+ */
+class BloomFilter {
+
+    private static final int BITS_PER_ENTRY = 10;
+    private static final int HASH_FUNCTIONS = 7;
+
+    private final AtomicLongArray bits;
+    private final int mask;
+    private final int capacity;
+
+    BloomFilter(int capacity) {
+        // the number of bits is a power of two, so that bit indexes are masked instead of divided
+        int numBits = Integer.highestOneBit(Math.max(capacity * BITS_PER_ENTRY - 1, 63)) << 1;
+        this.bits = new AtomicLongArray(numBits >>> 6);
+        this.mask = numBits - 1;
+        this.capacity = numBits / BITS_PER_ENTRY;
+    }
+
+    int getCapacity() {
+        return capacity;
+    }
+
+    void add(String value) {
+        long hash = hash(value);
+        int hash1 = (int) hash;
+        int hash2 = (int) (hash >>> 32) | 1;
+        for (int i = 0; i < HASH_FUNCTIONS; i++) {
+            int index = (hash1 + i * hash2) & mask;
+            long bit = 1L << index;
+            int word = index >>> 6;
+            long current = bits.get(word);
+            while ((current & bit) == 0 && !bits.compareAndSet(word, current, current | bit)) {
+                current = bits.get(word);
+            }
+        }
+    }
+
+    boolean mightContain(String value) {
+        long hash = hash(value);
+        int hash1 = (int) hash;
+        int hash2 = (int) (hash >>> 32) | 1;
+        for (int i = 0; i < HASH_FUNCTIONS; i++) {
+            int index = (hash1 + i * hash2) & mask;
+            if ((bits.get(index >>> 6) & (1L << index)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static long hash(String value) {
+        // spreads the cached string hash code over 64 bits, split into the two hashes of the double hashing
+        long hash = value.hashCode() * 0x9E3779B97F4A7C15L;
+        hash ^= hash >>> 33;
+        hash *= 0xFF51AFD7ED558CCDL;
+        hash ^= hash >>> 33;
+        hash *= 0xC4CEB9FE1A85EC53L;
+        return hash ^ (hash >>> 33);
+    }
+}
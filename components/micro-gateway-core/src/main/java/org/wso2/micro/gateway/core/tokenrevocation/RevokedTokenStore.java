@@ -0,0 +1,142 @@
+/*
+ *  Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package org.wso2.micro.gateway.core.tokenrevocation;
+
+import org.ballerinalang.jvm.values.MapValue;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Store of the JTIs of revoked JWTs, looked up on every JWT authenticated request. A {@link BloomFilter} in front of
+ * the hash map answers the common case of a token which is not revoked without touching the map.
+ * <p>
+ * Each JTI expires once the TTL it was revoked with elapses, as the token is not accepted anymore by then. Expired
+ * JTIs are ignored by lookups and purged while adding new ones. Adding is serialized, lookups never block.
+ */
+public class RevokedTokenStore {
+
+    private static final Logger log = LoggerFactory.getLogger("ballerina");
+
+    private static final long NO_EXPIRY = Long.MAX_VALUE;
+    private static final int MIN_CAPACITY = 1024;
+    private static final long PURGE_INTERVAL_MILLIS = 60000;
+
+    // expiry time of each revoked JTI
+    private static final Map<String, Long> revokedTokens = new ConcurrentHashMap<>();
+    private static volatile BloomFilter filter = new BloomFilter(MIN_CAPACITY);
+    private static long lastPurgeTime = System.currentTimeMillis();
+
+    private RevokedTokenStore() {
+    }
+
+    /**
+     * Adds the revoked tokens of a JMS message or an etcd lookup.
+     *
+     * @param tokens map of revoked JTIs to their TTL in seconds. A token without a positive TTL never expires.
+     * @return true once the tokens are added
+     */
+    public static synchronized boolean addRevokedTokens(MapValue<String, String> tokens) {
+        long currentTime = System.currentTimeMillis();
+        if (currentTime - lastPurgeTime >= PURGE_INTERVAL_MILLIS) {
+            purgeExpiredTokens(currentTime);
+        }
+        int size = revokedTokens.size() + tokens.size();
+        if (size > filter.getCapacity()) {
+            // the filter is grown before the new tokens are published, so that a lookup never misses them
+            BloomFilter newFilter = newFilter(size * 2);
+            for (String jti : tokens.keySet()) {
+                newFilter.add(jti);
+            }
+            filter = newFilter;
+        }
+        BloomFilter currentFilter = filter;
+        for (Map.Entry<String, String> token : tokens.entrySet()) {
+            currentFilter.add(token.getKey());
+            revokedTokens.put(token.getKey(), toExpiryTime(token.getKey(), token.getValue(), currentTime));
+        }
+        if (log.isDebugEnabled()) {
+            log.debug("Revoked token store holds " + revokedTokens.size() + " tokens");
+        }
+        return true;
+    }
+
+    /**
+     * Checks whether the token with the given JTI is revoked and has not expired yet.
+     */
+    public static boolean isRevoked(String jti) {
+        if (jti == null || !filter.mightContain(jti)) {
+            return false;
+        }
+        Long expiryTime = revokedTokens.get(jti);
+        if (expiryTime == null) {
+            return false;
+        }
+        if (expiryTime <= System.currentTimeMillis()) {
+            revokedTokens.remove(jti, expiryTime);
+            return false;
+        }
+        return true;
+    }
+
+    private static void purgeExpiredTokens(long currentTime) {
+        lastPurgeTime = currentTime;
+        int removed = 0;
+        Iterator<Long> expiryTimes = revokedTokens.values().iterator();
+        while (expiryTimes.hasNext()) {
+            if (expiryTimes.next() <= currentTime) {
+                expiryTimes.remove();
+                removed++;
+            }
+        }
+        if (removed > 0) {
+            // bits of removed tokens cannot be cleared, hence the filter is rebuilt from the remaining tokens
+            filter = newFilter(revokedTokens.size() * 2);
+            if (log.isDebugEnabled()) {
+                log.debug("Purged " + removed + " expired tokens from the revoked token store");
+            }
+        }
+    }
+
+    /**
+     * Creates a filter holding all the tokens of the store.
+     */
+    private static BloomFilter newFilter(int capacity) {
+        BloomFilter newFilter = new BloomFilter(Math.max(capacity, MIN_CAPACITY));
+        for (String jti : revokedTokens.keySet()) {
+            newFilter.add(jti);
+        }
+        return newFilter;
+    }
+
+    private static long toExpiryTime(String jti, String ttl, long currentTime) {
+        try {
+            long ttlSeconds = Long.parseLong(ttl.trim());
+            if (ttlSeconds > 0) {
+                return ttlSeconds < (NO_EXPIRY - currentTime) / 1000 ? currentTime + ttlSeconds * 1000 : NO_EXPIRY;
+            }
+        } catch (NumberFormatException e) {
+            if (log.isDebugEnabled()) {
+                log.debug("Invalid TTL " + ttl + " for the revoked token " + jti + ", it will not expire");
+            }
+        }
+        return NO_EXPIRY;
+    }
+}
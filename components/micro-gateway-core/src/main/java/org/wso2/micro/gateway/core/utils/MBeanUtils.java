@@ -0,0 +1,98 @@
+/*
+ *  Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.wso2.micro.gateway.core.utils;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.lang.management.ManagementFactory;
+import java.util.Map;
+
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+/**
+ * Util class to expose runtime statistics of native gateway components as MBeans, which are scraped by the JMX
+ * metrics exporter of the gateway.
+ */
+public class MBeanUtils {
+
+    private static final Logger log = LoggerFactory.getLogger("ballerina");
+    private static final String DOMAIN = "org.wso2.micro.gateway";
+
+    private MBeanUtils() {
+    }
+
+    /**
+     * Registers the MBean under the gateway domain. An MBean registered earlier with the same type and name is
+     * replaced.
+     *
+     * @param mBean MBean instance
+     * @param type  MBean type
+     * @param name  MBean name, or null if there is a single MBean of the type
+     */
+    public static void registerMBean(Object mBean, String type, String name) {
+        String objectName = DOMAIN + ":type=" + type;
+        if (name != null) {
+            objectName += ",name=" + ObjectName.quote(name);
+        }
+        register(mBean, type, objectName);
+    }
+
+    /**
+     * Registers the MBean under the gateway domain with the given key properties after the type, in their iteration
+     * order, so that the metrics exporter can map them to labels. A value is quoted only if it is empty or holds a
+     * character which is not allowed in an unquoted value. An MBean registered earlier with the same properties is
+     * replaced.
+     *
+     * @param mBean      MBean instance
+     * @param type       MBean type
+     * @param properties key properties of the MBean name
+     */
+    public static void registerMBeanWithProperties(Object mBean, String type, Map<String, String> properties) {
+        StringBuilder objectName = new StringBuilder(DOMAIN).append(":type=").append(type);
+        for (Map.Entry<String, String> property : properties.entrySet()) {
+            objectName.append(',').append(property.getKey()).append('=').append(toPropertyValue(property.getValue()));
+        }
+        register(mBean, type, objectName.toString());
+    }
+
+    private static String toPropertyValue(String value) {
+        if (value.isEmpty()) {
+            return ObjectName.quote(value);
+        }
+        for (int i = 0; i < value.length(); i++) {
+            if (",=:\"*?\n".indexOf(value.charAt(i)) >= 0) {
+                return ObjectName.quote(value);
+            }
+        }
+        return value;
+    }
+
+    private static void register(Object mBean, String type, String objectName) {
+        try {
+            MBeanServer mBeanServer = ManagementFactory.getPlatformMBeanServer();
+            ObjectName mBeanName = new ObjectName(objectName);
+            if (mBeanServer.isRegistered(mBeanName)) {
+                mBeanServer.unregisterMBean(mBeanName);
+            }
+            mBeanServer.registerMBean(mBean, mBeanName);
+        } catch (JMException e) {
+            log.error("Error while registering the MBean of type " + type, e);
+        }
+    }
+}
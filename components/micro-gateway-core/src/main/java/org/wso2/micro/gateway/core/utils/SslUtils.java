@@ -0,0 +1,71 @@
+/*
+ *  Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+
+package org.wso2.micro.gateway.core.utils;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.security.GeneralSecurityException;
+import java.security.KeyStore;
+
+import javax.net.ssl.SSLContext;
+import javax.net.ssl.SSLSocketFactory;
+import javax.net.ssl.TrustManagerFactory;
+
+/**
+ * Util class to set up the TLS connections the native gateway components open themselves.
+ */
+public class SslUtils {
+
+    private static final Logger log = LoggerFactory.getLogger("ballerina");
+
+    private SslUtils() {
+    }
+
+    /**
+     * Creates a socket factory which trusts the certificates of the trust store.
+     *
+     * @param trustStorePath     path of the JKS or PKCS12 trust store
+     * @param trustStorePassword password of the trust store
+     * @param peer               name of the server connected to, used in the log
+     * @return socket factory, or null if the default trust store is to be used
+     */
+    public static SSLSocketFactory createSslSocketFactory(String trustStorePath, String trustStorePassword,
+            String peer) {
+        if (trustStorePath == null || trustStorePath.isEmpty()) {
+            return null;
+        }
+        try (InputStream inputStream = new FileInputStream(trustStorePath)) {
+            KeyStore trustStore = KeyStore.getInstance(trustStorePath.endsWith(".p12") ? "PKCS12" : "JKS");
+            trustStore.load(inputStream, trustStorePassword.toCharArray());
+            TrustManagerFactory trustManagerFactory = TrustManagerFactory
+                    .getInstance(TrustManagerFactory.getDefaultAlgorithm());
+            trustManagerFactory.init(trustStore);
+            SSLContext sslContext = SSLContext.getInstance("TLS");
+            sslContext.init(null, trustManagerFactory.getTrustManagers(), null);
+            return sslContext.getSocketFactory();
+        } catch (IOException | GeneralSecurityException e) {
+            log.error("Error while loading the trust store " + trustStorePath + " for the " + peer
+                    + " connection, the default trust store is used instead", e);
+            return null;
+        }
+    }
+}
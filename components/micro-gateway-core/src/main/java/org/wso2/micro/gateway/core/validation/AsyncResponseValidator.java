@@ -0,0 +1,131 @@
+/*
+ *  Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package org.wso2.micro.gateway.core.validation;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.everit.json.schema.Schema;
+import org.wso2.micro.gateway.core.Constants;
+import org.wso2.micro.gateway.core.utils.MBeanUtils;
+
+import java.util.Arrays;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Validates copies of the response payloads on a bounded pool of worker threads, so that the validation does not
+ * add to the response time. The violations are logged and counted. The responses are dropped from the validation
+ * when the total size of the payloads waiting for validation exceeds the limit, so that a burst of large responses
+ * cannot exhaust the memory of the gateway.
+ */
+class AsyncResponseValidator implements AsyncResponseValidatorMXBean {
+
+    private static final Log logger = LogFactory.getLog("ballerina");
+    private static final int QUEUE_CAPACITY = 10000;
+
+    private final ThreadPoolExecutor executor;
+    private final long maxInFlightBytes;
+    private final AtomicLong inFlightBytes = new AtomicLong();
+    private final LongAdder validResponses = new LongAdder();
+    private final LongAdder invalidResponses = new LongAdder();
+    private final LongAdder droppedResponses = new LongAdder();
+
+    AsyncResponseValidator(int threads, long maxInFlightBytes) {
+        this.maxInFlightBytes = maxInFlightBytes;
+        AtomicInteger threadCount = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(threads, threads, 0, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(QUEUE_CAPACITY), r -> {
+            Thread t = new Thread(r);
+            t.setName("Response Validation Worker " + threadCount.incrementAndGet());
+            t.setDaemon(true);
+            return t;
+        });
+        MBeanUtils.registerMBean(this, "AsyncResponseValidator", null);
+    }
+
+    /**
+     * Submits a copy of the payload for validation.
+     *
+     * @param operation name of the operation and status code of the response, used in the logs
+     * @param schema    schema of the response
+     * @param payload   payload bytes of the response
+     * @param length    number of bytes of the payload
+     * @return false if the response is dropped from the validation
+     */
+    boolean submit(String operation, Schema schema, byte[] payload, int length) {
+        if (inFlightBytes.addAndGet(length) > maxInFlightBytes) {
+            inFlightBytes.addAndGet(-length);
+            droppedResponses.increment();
+            return false;
+        }
+        byte[] copy = Arrays.copyOf(payload, length);
+        try {
+            executor.execute(() -> validate(operation, schema, copy));
+            return true;
+        } catch (RejectedExecutionException e) {
+            inFlightBytes.addAndGet(-length);
+            droppedResponses.increment();
+            return false;
+        }
+    }
+
+    private void validate(String operation, Schema schema, byte[] payload) {
+        try {
+            String result = Validate.validatePayload(payload, payload.length, schema);
+            if (Constants.VALIDATED_STATUS.equals(result)) {
+                validResponses.increment();
+            } else {
+                invalidResponses.increment();
+                logger.warn("Response of " + operation + " does not conform to the API definition : " + result);
+            }
+        } catch (RuntimeException e) {
+            logger.error("Error while validating the response of " + operation, e);
+        } finally {
+            inFlightBytes.addAndGet(-payload.length);
+        }
+    }
+
+    @Override
+    public int getQueueSize() {
+        return executor.getQueue().size();
+    }
+
+    @Override
+    public long getInFlightBytes() {
+        return inFlightBytes.get();
+    }
+
+    @Override
+    public long getValidResponses() {
+        return validResponses.sum();
+    }
+
+    @Override
+    public long getInvalidResponses() {
+        return invalidResponses.sum();
+    }
+
+    @Override
+    public long getDroppedResponses() {
+        return droppedResponses.sum();
+    }
+}
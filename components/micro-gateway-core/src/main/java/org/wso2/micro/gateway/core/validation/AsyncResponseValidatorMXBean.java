@@ -0,0 +1,39 @@
+/*
+ *  Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package org.wso2.micro.gateway.core.validation;
+
+/**
+ * Management interface exposing the state of the asynchronous validation of the responses.
+ */
+public interface AsyncResponseValidatorMXBean {
+
+    int getQueueSize();
+
+    /**
+     * Returns the total size in bytes of the responses waiting for or under validation.
+     */
+    long getInFlightBytes();
+
+    long getValidResponses();
+
+    long getInvalidResponses();
+
+    /**
+     * Returns the number of responses not validated as the in flight size limit or the queue was full.
+     */
+    long getDroppedResponses();
+}
@@ -0,0 +1,92 @@
+/*
+ *  Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package org.wso2.micro.gateway.core.validation;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import org.json.JSONArray;
+import org.json.JSONObject;
+
+import java.io.IOException;
+
+/**
+ * Reads a JSON payload from its raw bytes into the {@code org.json} model validated by the schemas. The payload is
+ * tokenized in a single pass by a streaming parser, without decoding it into a string first.
+ */
+final class JsonPayloadReader {
+
+    private static final JsonFactory jsonFactory = new JsonFactory();
+
+    private JsonPayloadReader() {
+    }
+
+    /**
+     * Reads the payload.
+     *
+     * @param payload bytes of the payload
+     * @param length  number of bytes of the payload
+     * @return {@link JSONObject} or {@link JSONArray} of the payload
+     * @throws IOException if the payload is not a JSON object or array
+     */
+    static Object read(byte[] payload, int length) throws IOException {
+        try (JsonParser parser = jsonFactory.createParser(payload, 0, length)) {
+            JsonToken token = parser.nextToken();
+            if (token != JsonToken.START_OBJECT && token != JsonToken.START_ARRAY) {
+                throw new JsonParseException(parser, "A JSON payload must begin with '{' or '['");
+            }
+            Object value = readValue(parser, token);
+            if (parser.nextToken() != null) {
+                throw new JsonParseException(parser, "Unexpected content after the end of the JSON payload");
+            }
+            return value;
+        }
+    }
+
+    private static Object readValue(JsonParser parser, JsonToken token) throws IOException {
+        switch (token) {
+            case START_OBJECT:
+                JSONObject object = new JSONObject();
+                while ((token = parser.nextToken()) != JsonToken.END_OBJECT) {
+                    String name = parser.getCurrentName();
+                    object.put(name, readValue(parser, parser.nextToken()));
+                }
+                return object;
+            case START_ARRAY:
+                JSONArray array = new JSONArray();
+                while ((token = parser.nextToken()) != JsonToken.END_ARRAY) {
+                    array.put(readValue(parser, token));
+                }
+                return array;
+            case VALUE_STRING:
+                return parser.getText();
+            case VALUE_NUMBER_INT:
+                return parser.getNumberValue();
+            case VALUE_NUMBER_FLOAT:
+                return parser.getDoubleValue();
+            case VALUE_TRUE:
+                return Boolean.TRUE;
+            case VALUE_FALSE:
+                return Boolean.FALSE;
+            case VALUE_NULL:
+                return JSONObject.NULL;
+            default:
+                throw new JsonParseException(parser, "Unexpected token " + token);
+        }
+    }
+}
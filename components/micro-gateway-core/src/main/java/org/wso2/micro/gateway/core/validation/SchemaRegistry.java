@@ -0,0 +1,259 @@
+/*
+ *  Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package org.wso2.micro.gateway.core.validation;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.everit.json.schema.Schema;
+import org.everit.json.schema.loader.SchemaLoader;
+import org.json.JSONObject;
+import org.wso2.micro.gateway.core.Constants;
+
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Compiled request and response schemas of the operations of an API, built once from its OpenAPI or swagger
+ * definition. The schemas are fully dereferenced when the registry is built, so that looking up the schema of a
+ * request or response does not touch the definition. The schemas are not changed once the registry is built.
+ */
+class SchemaRegistry {
+
+    private static final Log logger = LogFactory.getLog("ballerina");
+
+    private static final String[] HTTP_METHODS = {"get", "put", "post", "delete", "options", "head", "patch"};
+    private static final String APPLICATION_JSON = "application/json";
+    private static final String BODY_PARAMETER = "body";
+
+    private final Map<String, Map<String, Operation>> operations;
+
+    private SchemaRegistry(Map<String, Map<String, Operation>> operations) {
+        this.operations = operations;
+    }
+
+    /**
+     * Builds the registry of the operations in the definition.
+     *
+     * @param definition OpenAPI or swagger definition in JSON
+     * @return registry of the schemas of the definition
+     * @throws IOException if the definition is not a valid JSON
+     */
+    static SchemaRegistry build(String definition) throws IOException {
+        JsonNode root = new ObjectMapper().readTree(definition);
+        Map<String, Map<String, Operation>> operations = new HashMap<>();
+        JsonNode paths = root.path("paths");
+        Iterator<Map.Entry<String, JsonNode>> pathIterator = paths.fields();
+        while (pathIterator.hasNext()) {
+            Map.Entry<String, JsonNode> path = pathIterator.next();
+            Map<String, Operation> pathOperations = new HashMap<>();
+            for (String method : HTTP_METHODS) {
+                JsonNode operation = path.getValue().get(method);
+                if (operation != null) {
+                    pathOperations.put(method, buildOperation(root, path.getKey() + " " + method, operation));
+                }
+            }
+            operations.put(path.getKey(), pathOperations);
+        }
+        return new SchemaRegistry(operations);
+    }
+
+    /**
+     * Returns the schema of the request payload of the operation.
+     *
+     * @return compiled schema or null if the operation does not define a JSON request payload
+     */
+    Schema getRequestSchema(String resourcePath, String method) {
+        Operation operation = getOperation(resourcePath, method);
+        return operation == null ? null : operation.requestSchema;
+    }
+
+    /**
+     * Returns the schema of the response payload of the operation for the status code, falling back to the schema
+     * of the default response.
+     *
+     * @return compiled schema or null if the operation does not define a JSON response payload for the status code
+     */
+    Schema getResponseSchema(String resourcePath, String method, String statusCode) {
+        Operation operation = getOperation(resourcePath, method);
+        if (operation == null) {
+            return null;
+        }
+        Schema schema = operation.responseSchemas.get(statusCode);
+        return schema != null ? schema : operation.defaultResponseSchema;
+    }
+
+    /**
+     * Counts the response of the operation and checks whether it is to be validated.
+     *
+     * @param samplingRate one in this number of the responses of the operation is validated
+     * @return true if the operation defines a response schema and the response is sampled
+     */
+    boolean sampleResponse(String resourcePath, String method, int samplingRate) {
+        Operation operation = getOperation(resourcePath, method);
+        if (operation == null || (operation.responseSchemas.isEmpty() && operation.defaultResponseSchema == null)) {
+            return false;
+        }
+        return samplingRate <= 1 || operation.responseCount.getAndIncrement() % samplingRate == 0;
+    }
+
+    private Operation getOperation(String resourcePath, String method) {
+        Map<String, Operation> pathOperations = operations.get(resourcePath);
+        return pathOperations == null ? null : pathOperations.get(method.toLowerCase());
+    }
+
+    private static Operation buildOperation(JsonNode root, String operationName, JsonNode operation) {
+        Schema requestSchema = compile(root, operationName + " request", findRequestSchema(root, operation));
+        Map<String, Schema> responseSchemas = new HashMap<>();
+        Schema defaultResponseSchema = null;
+        Iterator<Map.Entry<String, JsonNode>> responses = operation.path("responses").fields();
+        while (responses.hasNext()) {
+            Map.Entry<String, JsonNode> response = responses.next();
+            Schema schema = compile(root, operationName + " " + response.getKey() + " response",
+                    findPayloadSchema(root, response.getValue()));
+            if (schema == null) {
+                continue;
+            }
+            if (Constants.DEFAULT.equals(response.getKey())) {
+                defaultResponseSchema = schema;
+            } else {
+                responseSchemas.put(response.getKey(), schema);
+            }
+        }
+        return new Operation(requestSchema,
+                responseSchemas.isEmpty() ? Collections.emptyMap() : responseSchemas, defaultResponseSchema);
+    }
+
+    private static JsonNode findRequestSchema(JsonNode root, JsonNode operation) {
+        JsonNode requestBody = operation.get("requestBody");
+        if (requestBody != null) {
+            return findPayloadSchema(root, requestBody);
+        }
+        // swagger 2.0 defines the request payload as a body parameter
+        for (JsonNode parameter : operation.path("parameters")) {
+            parameter = resolve(root, parameter);
+            if (BODY_PARAMETER.equals(parameter.path("in").asText())) {
+                return parameter.get("schema");
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Finds the JSON schema of an OpenAPI request body or response, or of a swagger 2.0 response.
+     */
+    private static JsonNode findPayloadSchema(JsonNode root, JsonNode payload) {
+        payload = resolve(root, payload);
+        JsonNode content = payload.get("content");
+        if (content != null) {
+            return content.path(APPLICATION_JSON).get("schema");
+        }
+        return payload.get("schema");
+    }
+
+    private static Schema compile(JsonNode root, String name, JsonNode schema) {
+        if (schema == null || !schema.isObject()) {
+            return null;
+        }
+        try {
+            JsonNode dereferenced = dereference(root, schema, new ArrayDeque<>());
+            return SchemaLoader.load(new JSONObject(dereferenced.toString()));
+        } catch (RuntimeException e) {
+            // the payloads of the operation are not validated rather than failing all the operations of the API
+            logger.error("Error while compiling the schema of " + name + ", the payload will not be validated", e);
+            return null;
+        }
+    }
+
+    /**
+     * Returns a copy of the schema with all the local references replaced by the schemas they refer to. A
+     * reference back to a schema which is being dereferenced is replaced by an empty schema, so that recursive
+     * schemas are validated up to the first repetition.
+     */
+    private static JsonNode dereference(JsonNode root, JsonNode node, Deque<String> references) {
+        if (node.isObject()) {
+            JsonNode reference = node.get(Constants.SCHEMA_REFERENCE);
+            if (reference != null && reference.isTextual()) {
+                String pointer = reference.asText();
+                if (pointer.isEmpty() || pointer.charAt(0) != Constants.HASH || references.contains(pointer)) {
+                    if (logger.isDebugEnabled()) {
+                        logger.debug("Schema reference " + pointer + " is not resolved");
+                    }
+                    return JsonNodeFactory.instance.objectNode();
+                }
+                references.push(pointer);
+                JsonNode target = dereference(root, root.at(pointer.substring(1)), references);
+                references.pop();
+                return target.isMissingNode() ? JsonNodeFactory.instance.objectNode() : target;
+            }
+            ObjectNode copy = JsonNodeFactory.instance.objectNode();
+            Iterator<Map.Entry<String, JsonNode>> fields = node.fields();
+            while (fields.hasNext()) {
+                Map.Entry<String, JsonNode> field = fields.next();
+                copy.set(field.getKey(), dereference(root, field.getValue(), references));
+            }
+            return copy;
+        }
+        if (node.isArray()) {
+            ArrayNode copy = JsonNodeFactory.instance.arrayNode();
+            for (JsonNode element : node) {
+                copy.add(dereference(root, element, references));
+            }
+            return copy;
+        }
+        return node;
+    }
+
+    /**
+     * Resolves a reference to a request body, response or parameter defined in the components of the definition.
+     */
+    private static JsonNode resolve(JsonNode root, JsonNode node) {
+        JsonNode reference = node.get(Constants.SCHEMA_REFERENCE);
+        for (int i = 0; reference != null && reference.isTextual() && i < 10; i++) {
+            String pointer = reference.asText();
+            if (pointer.isEmpty() || pointer.charAt(0) != Constants.HASH) {
+                break;
+            }
+            node = root.at(pointer.substring(1));
+            reference = node.get(Constants.SCHEMA_REFERENCE);
+        }
+        return node;
+    }
+
+    private static final class Operation {
+        private final Schema requestSchema;
+        private final Map<String, Schema> responseSchemas;
+        private final Schema defaultResponseSchema;
+        private final AtomicLong responseCount = new AtomicLong();
+
+        private Operation(Schema requestSchema, Map<String, Schema> responseSchemas, Schema defaultResponseSchema) {
+            this.requestSchema = requestSchema;
+            this.responseSchemas = responseSchemas;
+            this.defaultResponseSchema = defaultResponseSchema;
+        }
+    }
+}
@@ -0,0 +1,125 @@
+/*
+ *  Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package org.wso2.micro.gateway.core.analytics;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.wso2.micro.gateway.core.compression.Compress;
+
+import java.io.IOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.Deflater;
+
+/**
+ * Measures writing a usage data file of analytics events and rotating it into the zip archive uploaded to the
+ * analytics node. With the {@code zip} format the events are compressed by the writer as they are written, while with
+ * {@code none} the rotated file is read back and compressed afterwards, as it was done before the writer compressed
+ * the events.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class AnalyticsEventWriterBenchmark {
+
+    private static final String FILE_NAME = "api-usage-data.dat.tmp";
+    // an event of the usage data file is a few hundred bytes
+    private static final String EVENT_PAYLOAD = "PetStore:v1:1.0.0:/pet/{petId}:GET:admin@carbon.super"
+            + ":DefaultApplication:Unlimited:Gold:carbon.super:10.100.1.23"
+            + ":Mozilla/5.0 (X11; Linux x86_64) AppleWebKit/537.36:cb5b9c1c-2a46-4b6e-9a2e-4b6e1f7c3f3b"
+            + ":200:0:12:3:1:0:0:1580000040000:petstore.swagger.io:/v1:PRODUCTION"
+            + ":APIM_MICRO_GATEWAY:wso2-micro-gateway-3.1.1:ENABLED:application/json:1024:2048";
+
+    @Param({"zip", "none"})
+    public String format;
+
+    @Param({"100000"})
+    public int events;
+
+    private Path directory;
+    private AnalyticsEventWriter writer;
+    private String[] eventLines;
+    private int rotation;
+
+    @Setup
+    public void setUp() throws IOException {
+        directory = Files.createTempDirectory("analytics-benchmark");
+        writer = new AnalyticsEventWriter(directory.resolve(FILE_NAME), 64 * 1024, 1000, events,
+                "zip".equals(format), Deflater.DEFAULT_COMPRESSION);
+        writer.start();
+        eventLines = new String[1024];
+        for (int i = 0; i < eventLines.length; i++) {
+            eventLines[i] = i + ":" + EVENT_PAYLOAD + "\n";
+        }
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        writer.stop();
+        deleteFiles();
+        Files.delete(directory);
+    }
+
+    @TearDown(Level.Invocation)
+    public void deleteFiles() throws IOException {
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(directory)) {
+            for (Path file : files) {
+                Files.delete(file);
+            }
+        }
+    }
+
+    @Benchmark
+    public Path writeAndRotate() throws Exception {
+        for (int i = 0; i < events; i++) {
+            if (!writer.write(eventLines[i & (eventLines.length - 1)])) {
+                throw new IllegalStateException("Event dropped");
+            }
+        }
+        // the events still queued when the file is rotated would go to the next file
+        while (writer.getQueuedEvents() > 0) {
+            Thread.yield();
+        }
+        String name = "api-usage-data." + rotation++;
+        if ("zip".equals(format)) {
+            Path archive = directory.resolve(name + ".zip");
+            writer.rotate(archive).get();
+            return archive;
+        }
+        Path rotated = directory.resolve(name + ".dat");
+        writer.rotate(rotated).get();
+        Path archive = directory.resolve(name + ".zip");
+        Compress.compress(rotated.toString(), archive.toString());
+        return archive;
+    }
+}
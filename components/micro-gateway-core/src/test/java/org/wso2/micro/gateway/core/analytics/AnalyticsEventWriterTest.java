@@ -0,0 +1,294 @@
+/*
+ *  Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package org.wso2.micro.gateway.core.analytics;
+
+import org.testng.Assert;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.stream.Stream;
+import java.util.zip.Deflater;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipInputStream;
+import java.util.zip.ZipOutputStream;
+
+/**
+ * Tests for {@link AnalyticsEventWriter}.
+ */
+public class AnalyticsEventWriterTest {
+
+    private static final String FILE_NAME = "api-usage-data.dat.tmp";
+    private static final String ENTRY_NAME = "api-usage-data.dat";
+    private static final long ROTATION_TIMEOUT_SECONDS = 10;
+
+    private Path directory;
+    private Path filePath;
+    private AnalyticsEventWriter writer;
+
+    @BeforeMethod
+    public void setUp() throws IOException {
+        directory = Files.createTempDirectory("analytics");
+        filePath = directory.resolve(FILE_NAME);
+    }
+
+    @AfterMethod
+    public void tearDown() throws IOException {
+        if (writer != null) {
+            writer.stop();
+            writer = null;
+        }
+        try (Stream<Path> paths = Files.walk(directory)) {
+            for (Path path : (Iterable<Path>) paths.sorted(Comparator.reverseOrder())::iterator) {
+                Files.delete(path);
+            }
+        }
+    }
+
+    @Test
+    public void testEventsAreCompressedIntoArchive() throws Exception {
+        startWriter(true);
+        writeEvents("a", 0, 100);
+        Path target = rotate("1.zip");
+        Assert.assertEquals(readArchive(target), events("a", 0, 100));
+        Assert.assertEquals(writer.getRotations(), 1);
+        Assert.assertEquals(writer.getWrittenEvents(), 100);
+    }
+
+    @Test
+    public void testEventsAfterRotationGoToNewArchive() throws Exception {
+        startWriter(true);
+        writeEvents("a", 0, 10);
+        Path first = rotate("1.zip");
+        writeEvents("b", 0, 20);
+        Path second = rotate("2.zip");
+        Assert.assertEquals(readArchive(first), events("a", 0, 10));
+        Assert.assertEquals(readArchive(second), events("b", 0, 20));
+    }
+
+    @Test
+    public void testEventsAreWrittenAsTheyAreWithoutCompression() throws Exception {
+        startWriter(false);
+        writeEvents("a", 0, 50);
+        Path target = rotate("1.dat");
+        Assert.assertEquals(readLines(target), events("a", 0, 50));
+    }
+
+    @Test
+    public void testPlainFileLeftBehindIsArchivedOnRotation() throws Exception {
+        // a file written with the compression disabled, which no event has been appended to since the start
+        Files.write(filePath, join(events("old", 0, 30)).getBytes(StandardCharsets.UTF_8));
+        startWriter(true);
+        Path target = rotate("1.zip");
+        Assert.assertEquals(readArchive(target), events("old", 0, 30));
+        Assert.assertFalse(Files.exists(filePath));
+        assertNoRecoveryFileLeft();
+    }
+
+    @Test
+    public void testIncompleteArchiveLeftBehindIsCompletedOnRotation() throws Exception {
+        writeIncompleteArchive(events("old", 0, 1000));
+        startWriter(true);
+        Path target = rotate("1.zip");
+        List<String> recovered = readArchive(target);
+        Assert.assertFalse(recovered.isEmpty());
+        // only complete events are recovered, in order, up to where the archive is cut off
+        Assert.assertEquals(recovered, events("old", 0, recovered.size()));
+        assertNoRecoveryFileLeft();
+    }
+
+    @Test
+    public void testFileLeftBehindIsKeptBeforeNewEvents() throws Exception {
+        Files.write(filePath, join(events("old", 0, 5)).getBytes(StandardCharsets.UTF_8));
+        startWriter(true);
+        writeEvents("new", 0, 5);
+        Path target = rotate("1.zip");
+        List<String> expected = new ArrayList<>(events("old", 0, 5));
+        expected.addAll(events("new", 0, 5));
+        Assert.assertEquals(readArchive(target), expected);
+    }
+
+    @Test
+    public void testArchiveLeftBehindIsExtractedWithoutCompression() throws Exception {
+        writeArchive(events("old", 0, 20));
+        startWriter(false);
+        Path target = rotate("1.dat");
+        Assert.assertEquals(readLines(target), events("old", 0, 20));
+    }
+
+    @Test
+    public void testRotationWithoutFileSucceeds() throws Exception {
+        startWriter(true);
+        Path target = directory.resolve("1.zip");
+        writer.rotate(target).get(ROTATION_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+        Assert.assertFalse(Files.exists(target));
+    }
+
+    @Test
+    public void testRotationFailsOnceStopped() throws Exception {
+        startWriter(true);
+        writer.stop();
+        try {
+            writer.rotate(directory.resolve("1.zip")).get(ROTATION_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+            Assert.fail("Rotation of a stopped writer should fail");
+        } catch (ExecutionException e) {
+            Assert.assertTrue(e.getCause() instanceof IOException);
+        }
+    }
+
+    @Test
+    public void testBufferedEventsAreWrittenOnStop() throws Exception {
+        startWriter(true);
+        writeEvents("a", 0, 10);
+        writer.stop();
+        Assert.assertEquals(readArchive(filePath), events("a", 0, 10));
+    }
+
+    @Test
+    public void testEventsAreDroppedWhenQueueIsFull() {
+        // the writer thread is not started, so that the queue is not drained
+        writer = new AnalyticsEventWriter(filePath, 1024, 60000, 2, true, Deflater.DEFAULT_COMPRESSION);
+        Assert.assertTrue(writer.write("a\n"));
+        Assert.assertTrue(writer.write("b\n"));
+        Assert.assertFalse(writer.write("c\n"));
+        Assert.assertEquals(writer.getQueuedEvents(), 2);
+        Assert.assertEquals(writer.getDroppedEvents(), 1);
+        writer = null;
+    }
+
+    private void startWriter(boolean compressed) {
+        // a flush interval longer than the tests, so that the events are written by the rotation
+        writer = new AnalyticsEventWriter(filePath, 1024, 60000, 100000, compressed, Deflater.DEFAULT_COMPRESSION);
+        writer.start();
+    }
+
+    private void writeEvents(String prefix, int from, int to) throws InterruptedException {
+        for (String event : events(prefix, from, to)) {
+            Assert.assertTrue(writer.write(event + "\n"));
+        }
+        // the events still queued when the file is rotated are written to the next file
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(ROTATION_TIMEOUT_SECONDS);
+        while (writer.getQueuedEvents() > 0) {
+            Assert.assertTrue(System.nanoTime() < deadline, "Events were not taken from the queue");
+            Thread.sleep(1);
+        }
+    }
+
+    private Path rotate(String targetName) throws InterruptedException, ExecutionException, TimeoutException {
+        Path target = directory.resolve(targetName);
+        writer.rotate(target).get(ROTATION_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+        return target;
+    }
+
+    private void writeArchive(List<String> events) throws IOException {
+        try (ZipOutputStream out = new ZipOutputStream(Files.newOutputStream(filePath))) {
+            writeEntry(out, events);
+        }
+    }
+
+    private void writeIncompleteArchive(List<String> events) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ZipOutputStream out = new ZipOutputStream(bytes)) {
+            // stored entries are cut off within the events, rather than within a deflate block
+            out.setLevel(Deflater.NO_COMPRESSION);
+            writeEntry(out, events);
+        }
+        byte[] archive = bytes.toByteArray();
+        Files.write(filePath, Arrays.copyOf(archive, archive.length / 2));
+    }
+
+    private static void writeEntry(ZipOutputStream out, List<String> events) throws IOException {
+        out.putNextEntry(new ZipEntry(ENTRY_NAME));
+        out.write(join(events).getBytes(StandardCharsets.UTF_8));
+        out.closeEntry();
+    }
+
+    private void assertNoRecoveryFileLeft() throws IOException {
+        try (Stream<Path> paths = Files.list(directory)) {
+            Assert.assertFalse(paths.anyMatch(path -> path.getFileName().toString().endsWith(".recovery")));
+        }
+    }
+
+    private static List<String> readArchive(Path path) throws IOException {
+        try (ZipInputStream in = new ZipInputStream(Files.newInputStream(path))) {
+            ZipEntry entry = in.getNextEntry();
+            Assert.assertNotNull(entry, "Archive has no entry");
+            Assert.assertEquals(entry.getName(), ENTRY_NAME);
+            List<String> lines = split(readFully(in));
+            Assert.assertNull(in.getNextEntry(), "Archive has more than one entry");
+            return lines;
+        }
+    }
+
+    private static List<String> readLines(Path path) throws IOException {
+        return split(new String(Files.readAllBytes(path), StandardCharsets.UTF_8));
+    }
+
+    private static String readFully(InputStream in) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        copy(in, out);
+        return new String(out.toByteArray(), StandardCharsets.UTF_8);
+    }
+
+    private static void copy(InputStream in, OutputStream out) throws IOException {
+        byte[] chunk = new byte[4096];
+        int read;
+        while ((read = in.read(chunk)) != -1) {
+            out.write(chunk, 0, read);
+        }
+    }
+
+    private static List<String> split(String content) {
+        List<String> lines = new ArrayList<>();
+        for (String line : content.split("\n")) {
+            if (!line.isEmpty()) {
+                lines.add(line);
+            }
+        }
+        return lines;
+    }
+
+    private static String join(List<String> events) {
+        StringBuilder content = new StringBuilder();
+        for (String event : events) {
+            content.append(event).append('\n');
+        }
+        return content.toString();
+    }
+
+    private static List<String> events(String prefix, int from, int to) {
+        List<String> events = new ArrayList<>();
+        for (int i = from; i < to; i++) {
+            events.add(prefix + "-event-" + i);
+        }
+        return events;
+    }
+}
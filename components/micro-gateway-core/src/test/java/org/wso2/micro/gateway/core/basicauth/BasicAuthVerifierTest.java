@@ -0,0 +1,205 @@
+/*
+ *  Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.wso2.micro.gateway.core.basicauth;
+
+import org.ballerinalang.jvm.values.MapValue;
+import org.ballerinalang.jvm.values.MapValueImpl;
+import org.testng.Assert;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+import org.wso2.micro.gateway.core.cache.CacheRegion;
+import org.wso2.micro.gateway.core.cache.TokenCache;
+
+import java.lang.reflect.Field;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.util.Base64;
+
+import javax.crypto.SecretKeyFactory;
+import javax.crypto.spec.PBEKeySpec;
+
+/**
+ * Tests for {@link BasicAuthVerifier}. The verifier is a singleton, hence it is cleared before and after each test.
+ */
+public class BasicAuthVerifierTest {
+
+    private static final byte[] SALT = "gateway-salt".getBytes(StandardCharsets.UTF_8);
+
+    private MapValue<String, Object> passwords;
+    private MapValue<String, Object> scopes;
+
+    @BeforeMethod
+    public void setUp() throws Exception {
+        clearVerifier();
+        passwords = new MapValueImpl<>();
+        scopes = new MapValueImpl<>();
+    }
+
+    @AfterMethod
+    public void tearDown() throws Exception {
+        clearVerifier();
+    }
+
+    @Test
+    public void testLegacySha1Password() throws Exception {
+        passwords.put("legacy", hex("SHA-1", "admin"));
+        passwords.put("upperCase", hex("SHA-1", "admin").toUpperCase());
+        init(false);
+        Assert.assertEquals(BasicAuthVerifier.verify(header("legacy", "admin")), "legacy");
+        Assert.assertEquals(BasicAuthVerifier.verify(header("legacy", "Admin")), BasicAuthVerifier.INVALID_CREDENTIALS);
+        // 3.0.x compared the hash in lower case hex only
+        Assert.assertEquals(BasicAuthVerifier.verify(header("upperCase", "admin")),
+                BasicAuthVerifier.INVALID_CREDENTIALS);
+    }
+
+    @Test
+    public void testShaPasswords() throws Exception {
+        passwords.put("sha256", "@sha256:{" + hex("SHA-256", "secret256") + "}");
+        passwords.put("sha384", "@sha384:{" + hex("SHA-384", "secret384") + "}");
+        passwords.put("sha512", "@sha512:{" + hex("SHA-512", "secret512").toUpperCase() + "}");
+        passwords.put("invalidHex", "@sha256:{not-a-hash}");
+        init(false);
+        Assert.assertEquals(BasicAuthVerifier.verify(header("sha256", "secret256")), "sha256");
+        Assert.assertEquals(BasicAuthVerifier.verify(header("sha384", "secret384")), "sha384");
+        Assert.assertEquals(BasicAuthVerifier.verify(header("sha512", "secret512")), "sha512");
+        Assert.assertEquals(BasicAuthVerifier.verify(header("sha256", "secret384")),
+                BasicAuthVerifier.INVALID_CREDENTIALS);
+        Assert.assertEquals(BasicAuthVerifier.verify(header("invalidHex", "not-a-hash")),
+                BasicAuthVerifier.INVALID_CREDENTIALS);
+    }
+
+    @Test
+    public void testPbkdf2Password() throws Exception {
+        passwords.put("pbkdf2", pbkdf2("pbkdf2-secret", 1000, SALT));
+        init(false);
+        Assert.assertEquals(BasicAuthVerifier.verify(header("pbkdf2", "pbkdf2-secret")), "pbkdf2");
+        Assert.assertEquals(BasicAuthVerifier.verify(header("pbkdf2", "pbkdf2-Secret")),
+                BasicAuthVerifier.INVALID_CREDENTIALS);
+    }
+
+    @Test
+    public void testUsersWithInvalidPbkdf2ParametersAreRejected() throws Exception {
+        String salt = Base64.getEncoder().encodeToString(SALT);
+        String hash = Base64.getEncoder().encodeToString("hash".getBytes(StandardCharsets.UTF_8));
+        passwords.put("zeroIterations", "@pbkdf2:{0:" + salt + ":" + hash + "}");
+        passwords.put("negativeIterations", "@pbkdf2:{-1:" + salt + ":" + hash + "}");
+        passwords.put("emptySalt", "@pbkdf2:{1000::" + hash + "}");
+        passwords.put("emptyHash", "@pbkdf2:{1000:" + salt + ":}");
+        passwords.put("missingHash", "@pbkdf2:{1000:" + salt + "}");
+        passwords.put("invalidBase64", "@pbkdf2:{1000:" + salt + ":%%%}");
+        passwords.put("invalidIterations", "@pbkdf2:{many:" + salt + ":" + hash + "}");
+        for (String username : passwords.keySet()) {
+            scopes.put(username, "read");
+        }
+        init(false);
+        for (String username : passwords.keySet()) {
+            // the user is not loaded, hence it has no scopes
+            Assert.assertEquals(BasicAuthVerifier.getScopes(username), "", username);
+            Assert.assertEquals(BasicAuthVerifier.verify(header(username, "hash")),
+                    BasicAuthVerifier.INVALID_CREDENTIALS, username);
+        }
+    }
+
+    @Test
+    public void testUnknownAlgorithmIsComparedAsItIs() throws Exception {
+        passwords.put("plain", "@md5:{secret}");
+        init(false);
+        Assert.assertEquals(BasicAuthVerifier.verify(header("plain", "@md5:{secret}")), "plain");
+        Assert.assertEquals(BasicAuthVerifier.verify(header("plain", "secret")), BasicAuthVerifier.INVALID_CREDENTIALS);
+    }
+
+    @Test
+    public void testPasswordWithColons() throws Exception {
+        passwords.put("colon", "@sha256:{" + hex("SHA-256", "pass:word:") + "}");
+        passwords.put("pbkdf2Colon", pbkdf2("a:b", 1000, SALT));
+        init(false);
+        Assert.assertEquals(BasicAuthVerifier.verify(header("colon", "pass:word:")), "colon");
+        Assert.assertEquals(BasicAuthVerifier.verify(header("colon", "pass")), BasicAuthVerifier.INVALID_CREDENTIALS);
+        Assert.assertEquals(BasicAuthVerifier.verify(header("pbkdf2Colon", "a:b")), "pbkdf2Colon");
+    }
+
+    @Test
+    public void testInvalidHeaders() throws Exception {
+        passwords.put("admin", hex("SHA-1", "admin"));
+        init(false);
+        Assert.assertEquals(BasicAuthVerifier.verify(encode("admin")), BasicAuthVerifier.INVALID_FORMAT);
+        Assert.assertEquals(BasicAuthVerifier.verify("not base64!"), BasicAuthVerifier.MALFORMED_CREDENTIALS);
+        Assert.assertEquals(BasicAuthVerifier.verify(header("unknown", "admin")),
+                BasicAuthVerifier.INVALID_CREDENTIALS);
+    }
+
+    @Test
+    public void testScopes() throws Exception {
+        passwords.put("admin", hex("SHA-1", "admin"));
+        passwords.put("guest", hex("SHA-1", "guest"));
+        scopes.put("admin", "read,write");
+        init(false);
+        Assert.assertEquals(BasicAuthVerifier.getScopes("admin"), "read,write");
+        Assert.assertEquals(BasicAuthVerifier.getScopes("guest"), "");
+        Assert.assertEquals(BasicAuthVerifier.getScopes("unknown"), "");
+    }
+
+    @Test
+    public void testResultsAreCached() throws Exception {
+        passwords.put("cached", pbkdf2("cached-secret", 1000, SALT));
+        init(true);
+        CacheRegion cache = TokenCache.getRegion("BasicAuth", 100, 60000);
+        CacheRegion failureCache = TokenCache.getRegion("BasicAuthFailures", 100, 60000);
+        long hits = cache.getHits();
+        long failureHits = failureCache.getHits();
+        for (int i = 0; i < 3; i++) {
+            Assert.assertEquals(BasicAuthVerifier.verify(header("cached", "cached-secret")), "cached");
+            Assert.assertEquals(BasicAuthVerifier.verify(header("cached", "wrong")),
+                    BasicAuthVerifier.INVALID_CREDENTIALS);
+        }
+        Assert.assertEquals(cache.getHits() - hits, 2);
+        Assert.assertEquals(failureCache.getHits() - failureHits, 2);
+    }
+
+    private void init(boolean cacheEnabled) {
+        BasicAuthVerifier.initBasicAuthVerifier(passwords, scopes, cacheEnabled, 60000, 100, 60000, 100);
+    }
+
+    private static void clearVerifier() throws ReflectiveOperationException {
+        Field field = BasicAuthVerifier.class.getDeclaredField("instance");
+        field.setAccessible(true);
+        field.set(null, null);
+    }
+
+    private static String header(String username, String password) {
+        return encode(username + ":" + password);
+    }
+
+    private static String encode(String credential) {
+        return Base64.getEncoder().encodeToString(credential.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static String hex(String algorithm, String password) throws Exception {
+        StringBuilder hex = new StringBuilder();
+        for (byte value : MessageDigest.getInstance(algorithm).digest(password.getBytes(StandardCharsets.UTF_8))) {
+            hex.append(String.format("%02x", value));
+        }
+        return hex.toString();
+    }
+
+    private static String pbkdf2(String password, int iterations, byte[] salt) throws Exception {
+        PBEKeySpec keySpec = new PBEKeySpec(password.toCharArray(), salt, iterations, 256);
+        byte[] hash = SecretKeyFactory.getInstance("PBKDF2WithHmacSHA256").generateSecret(keySpec).getEncoded();
+        return "@pbkdf2:{" + iterations + ":" + Base64.getEncoder().encodeToString(salt) + ":"
+                + Base64.getEncoder().encodeToString(hash) + "}";
+    }
+}
@@ -0,0 +1,123 @@
+/*
+ *  Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.wso2.micro.gateway.core.cache;
+
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.wso2.micro.gateway.core.utils.ZipfDistribution;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures looking up access tokens in a {@link CacheRegion}, and adding the tokens which are not cached, for a
+ * million distinct tokens drawn from a Zipf distribution. The hits and misses are reported as secondary results, so
+ * that the hit ratio of the admission policy can be compared with the throughput. Run it at 1, 8 and 32 threads with
+ * the benchmark profile.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class CacheRegionBenchmark {
+
+    private static final int TOKENS = 1000000;
+    private static final int SAMPLE_SIZE = 1 << 20;
+    private static final int SAMPLE_MASK = SAMPLE_SIZE - 1;
+
+    /**
+     * Maximum number of entries of the region.
+     */
+    @Param({"10000", "100000"})
+    public int capacity;
+
+    /**
+     * Exponent of the Zipf distribution, the larger the more requests use the few hottest tokens.
+     */
+    @Param({"0.8", "1.2"})
+    public double skew;
+
+    private String[] tokens;
+    private int[] ranks;
+    private CacheRegion region;
+
+    @Setup
+    public void setUp() {
+        tokens = new String[TOKENS];
+        for (int rank = 0; rank < TOKENS; rank++) {
+            tokens[rank] = "eyJ4NXQiOiJNell4TW1Ga09HWXdNV0kwWldObU5EY3hOR1l3WW1NNFp-" + rank;
+        }
+        ranks = new ZipfDistribution(TOKENS, skew, 42).sample(SAMPLE_SIZE);
+        region = new CacheRegion("benchmark", capacity, TimeUnit.HOURS.toMillis(1));
+    }
+
+    /**
+     * Position of a benchmark thread in the sampled ranks, which starts at a random offset so that the threads do
+     * not move through the same tokens in lock step.
+     */
+    @State(Scope.Thread)
+    public static class Cursor {
+        private int position = ThreadLocalRandom.current().nextInt(SAMPLE_SIZE);
+
+        int next() {
+            position = (position + 1) & SAMPLE_MASK;
+            return position;
+        }
+    }
+
+    /**
+     * Lookups of a benchmark thread which hit or missed the region.
+     */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class Lookups {
+        public long hits;
+        public long misses;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            hits = 0;
+            misses = 0;
+        }
+    }
+
+    @Benchmark
+    public Object getOrPut(Cursor cursor, Lookups lookups) {
+        String token = tokens[ranks[cursor.next()]];
+        Object value = region.get(token);
+        if (value == null) {
+            lookups.misses++;
+            value = token;
+            region.put(token, value);
+        } else {
+            lookups.hits++;
+        }
+        return value;
+    }
+}
@@ -0,0 +1,195 @@
+/*
+ *  Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.wso2.micro.gateway.core.cache;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.lang.reflect.Field;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Tests for {@link CacheRegion}.
+ */
+public class CacheRegionTest {
+
+    private static final long EXPIRY_MILLIS = TimeUnit.MINUTES.toMillis(15);
+
+    @Test
+    public void testEntryIsReturnedUntilItExpires() throws Exception {
+        CacheRegion region = new CacheRegion("expiry", 100, 50);
+        region.put("token", "valid");
+        Assert.assertEquals(region.get("token"), "valid");
+        TimeUnit.MILLISECONDS.sleep(60);
+        Assert.assertNull(region.get("token"));
+        Assert.assertEquals(region.getHits(), 1);
+        Assert.assertEquals(region.getMisses(), 1);
+        Assert.assertEquals(region.getExpirations(), 1);
+        Assert.assertEquals(region.getSize(), 0);
+    }
+
+    @Test
+    public void testFrequentEntriesAreNotEvictedByBurstOfNewEntries() {
+        CacheRegion region = new CacheRegion("admission", 100, EXPIRY_MILLIS);
+        for (int i = 0; i < 90; i++) {
+            region.put("hot-" + i, i);
+        }
+        for (int round = 0; round < 5; round++) {
+            for (int i = 0; i < 90; i++) {
+                Assert.assertEquals(region.get("hot-" + i), i);
+            }
+        }
+        // tokens used once, which are not admitted in place of the frequently used tokens
+        for (int i = 0; i < 1000; i++) {
+            region.put("once-" + i, i);
+        }
+        int kept = 0;
+        for (int i = 0; i < 90; i++) {
+            if (region.get("hot-" + i) != null) {
+                kept++;
+            }
+        }
+        // a frequently used entry is evicted only by a new entry whose frequency the sketch overestimates
+        Assert.assertTrue(kept >= 88, "Only " + kept + " frequently used entries were kept");
+        Assert.assertTrue(region.getSize() <= 100);
+        Assert.assertTrue(region.getEvictions() >= 990);
+    }
+
+    @Test
+    public void testNewEntryAccessedOftenIsAdmitted() {
+        CacheRegion region = new CacheRegion("promotion", 100, EXPIRY_MILLIS);
+        for (int i = 0; i < 100; i++) {
+            region.put("old-" + i, i);
+        }
+        region.put("new", "value");
+        for (int i = 0; i < 5; i++) {
+            Assert.assertEquals(region.get("new"), "value");
+        }
+        // the new entry leaves the window and is admitted in place of an entry accessed once
+        for (int i = 0; i < 10; i++) {
+            region.put("next-" + i, i);
+        }
+        Assert.assertEquals(region.get("new"), "value");
+    }
+
+    @Test
+    public void testKeyMissingOftenIsAdmitted() {
+        CacheRegion region = new CacheRegion("misses", 100, EXPIRY_MILLIS);
+        for (int i = 0; i < 100; i++) {
+            region.put("old-" + i, i);
+        }
+        // a token which keeps being validated while it is not cached
+        for (int i = 0; i < 5; i++) {
+            Assert.assertNull(region.get("missing"));
+        }
+        Assert.assertEquals(region.frequency("missing"), 5);
+        region.put("missing", "value");
+        // the entry leaves the window and is admitted in place of an entry accessed once
+        for (int i = 0; i < 10; i++) {
+            region.put("next-" + i, i);
+        }
+        Assert.assertEquals(region.get("missing"), "value");
+        Assert.assertEquals(region.getMisses(), 5);
+    }
+
+    @Test
+    public void testHitIsCountedWhileLockIsHeld() throws Exception {
+        CacheRegion region = new CacheRegion("locked", 100, EXPIRY_MILLIS);
+        region.put("token", "valid");
+        int frequency = region.frequency("token");
+        ReentrantLock lock = getLock(region);
+        CountDownLatch locked = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        Thread holder = new Thread(() -> {
+            lock.lock();
+            try {
+                locked.countDown();
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } finally {
+                lock.unlock();
+            }
+        });
+        holder.start();
+        try {
+            Assert.assertTrue(locked.await(10, TimeUnit.SECONDS));
+            // more reads than a stripe of the read buffer holds
+            for (int i = 0; i < ReadBuffer.STRIPE_SIZE + 4; i++) {
+                Assert.assertEquals(region.get("token"), "valid");
+            }
+            Assert.assertEquals(region.frequency("token"), Math.min(frequency + ReadBuffer.STRIPE_SIZE + 4, 15));
+        } finally {
+            release.countDown();
+            holder.join();
+        }
+    }
+
+    @Test
+    public void testConcurrentAccessKeepsRegionBounded() throws Exception {
+        CacheRegion region = new CacheRegion("concurrent", 1000, EXPIRY_MILLIS);
+        int threads = 8;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        Future<?>[] futures = new Future<?>[threads];
+        try {
+            for (int i = 0; i < threads; i++) {
+                futures[i] = executor.submit(() -> {
+                    start.await();
+                    ThreadLocalRandom random = ThreadLocalRandom.current();
+                    for (int j = 0; j < 100000; j++) {
+                        String key = "token-" + random.nextInt(5000);
+                        Object value = region.get(key);
+                        if (value == null) {
+                            region.put(key, key);
+                        } else {
+                            Assert.assertEquals(value, key);
+                        }
+                        if (j % 100 == 0) {
+                            region.remove(key);
+                        }
+                    }
+                    return null;
+                });
+            }
+            start.countDown();
+            for (Future<?> future : futures) {
+                future.get(60, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        Assert.assertTrue(region.getSize() <= 1000, "Region holds " + region.getSize() + " entries");
+        Assert.assertEquals(region.getHits() + region.getMisses(), threads * 100000L);
+        // the eviction order is still consistent after the concurrent reordering
+        for (int i = 0; i < 5000; i++) {
+            region.put("after-" + i, i);
+        }
+        Assert.assertTrue(region.getSize() <= 1000);
+    }
+
+    private static ReentrantLock getLock(CacheRegion region) throws ReflectiveOperationException {
+        Field field = CacheRegion.class.getDeclaredField("lock");
+        field.setAccessible(true);
+        return (ReentrantLock) field.get(region);
+    }
+}
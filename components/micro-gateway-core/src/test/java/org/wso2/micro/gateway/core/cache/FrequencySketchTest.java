@@ -0,0 +1,111 @@
+/*
+ *  Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.wso2.micro.gateway.core.cache;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Tests for {@link FrequencySketch}.
+ */
+public class FrequencySketchTest {
+
+    @Test
+    public void testFrequencyIsCountedUpToFifteen() {
+        FrequencySketch sketch = new FrequencySketch(1000);
+        Assert.assertEquals(sketch.frequency("token"), 0);
+        for (int i = 1; i <= 20; i++) {
+            sketch.increment("token");
+            Assert.assertEquals(sketch.frequency("token"), Math.min(i, 15));
+        }
+    }
+
+    @Test
+    public void testKeysAreCountedSeparately() {
+        FrequencySketch sketch = new FrequencySketch(1000);
+        for (int i = 0; i < 5; i++) {
+            sketch.increment("hot");
+        }
+        for (int i = 0; i < 500; i++) {
+            sketch.increment("cold-" + i);
+        }
+        Assert.assertEquals(sketch.frequency("hot"), 5);
+        int overestimated = 0;
+        for (int i = 0; i < 500; i++) {
+            if (sketch.frequency("cold-" + i) > 1) {
+                overestimated++;
+            }
+        }
+        // a key is overestimated only if all its four counters are shared with other keys
+        Assert.assertTrue(overestimated < 25, overestimated + " keys were overestimated");
+    }
+
+    @Test
+    public void testCountersAreHalvedAtSampleSize() {
+        // the sample size is ten times the capacity
+        FrequencySketch sketch = new FrequencySketch(16);
+        for (int i = 0; i < 12; i++) {
+            sketch.increment("token");
+        }
+        Assert.assertEquals(sketch.frequency("token"), 12);
+        // accesses of the other keys reach the sample size of 160
+        for (int i = 0; i < 148; i++) {
+            sketch.increment("other-" + i);
+        }
+        Assert.assertEquals(sketch.frequency("token"), 6);
+    }
+
+    @Test
+    public void testConcurrentIncrementsAreNotLost() throws Exception {
+        FrequencySketch sketch = new FrequencySketch(1 << 16);
+        int threads = 4;
+        String[] keys = new String[1000];
+        for (int i = 0; i < keys.length; i++) {
+            keys[i] = "token-" + i;
+        }
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        Future<?>[] futures = new Future<?>[threads];
+        try {
+            for (int i = 0; i < threads; i++) {
+                futures[i] = executor.submit(() -> {
+                    start.await();
+                    for (int round = 0; round < 3; round++) {
+                        for (String key : keys) {
+                            sketch.increment(key);
+                        }
+                    }
+                    return null;
+                });
+            }
+            start.countDown();
+            for (Future<?> future : futures) {
+                future.get(30, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        for (String key : keys) {
+            Assert.assertTrue(sketch.frequency(key) >= threads * 3, "Increments of " + key + " were lost");
+        }
+    }
+}
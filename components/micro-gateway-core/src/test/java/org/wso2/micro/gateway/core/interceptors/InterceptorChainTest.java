@@ -0,0 +1,264 @@
+/*
+ *  Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.wso2.micro.gateway.core.interceptors;
+
+import org.testng.Assert;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+import org.wso2.micro.gateway.interceptor.AsyncInterceptor;
+import org.wso2.micro.gateway.interceptor.Caller;
+import org.wso2.micro.gateway.interceptor.Interceptor;
+import org.wso2.micro.gateway.interceptor.Request;
+import org.wso2.micro.gateway.interceptor.Response;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * Tests for the invocation of synchronous and asynchronous interceptors by {@link InterceptorChain}. The chain is
+ * invoked from the test thread, which stands for the strand of the request.
+ */
+public class InterceptorChainTest {
+
+    private final List<String> invoked = new CopyOnWriteArrayList<>();
+    private volatile boolean responded;
+    private InterceptorChain chain;
+
+    @BeforeMethod
+    public void createChain() {
+        invoked.clear();
+        responded = false;
+        chain = new InterceptorChain("test") {
+            @Override
+            boolean isResponded(Caller caller) {
+                return responded;
+            }
+        };
+    }
+
+    @Test
+    public void testSyncChainCompletesImmediately() {
+        chain.addRequestInterceptor(new SyncStep("first", true));
+        chain.addRequestInterceptor(new SyncStep("second", true));
+
+        Assert.assertEquals(chain.interceptRequest(0, null, null), InterceptorChain.PROCEED);
+        Assert.assertEquals(invoked, Arrays.asList("first", "second"));
+    }
+
+    @Test
+    public void testSyncInterceptorResponds() {
+        chain.addResponseInterceptor(new SyncStep("first", false));
+        chain.addResponseInterceptor(new SyncStep("second", true));
+        responded = true;
+
+        Assert.assertEquals(chain.interceptResponse(0, null, null), InterceptorChain.RESPONDED);
+        Assert.assertEquals(invoked, Arrays.asList("first"));
+    }
+
+    @Test
+    public void testAsyncInterceptorEndsInvocation() {
+        AsyncStep async = new AsyncStep("async");
+        chain.addRequestInterceptor(new SyncStep("first", true));
+        chain.addRequestInterceptor(async);
+        chain.addRequestInterceptor(new SyncStep("last", true));
+
+        CompletionStage<Integer> result = stageOf(chain.interceptRequest(0, null, null));
+        Assert.assertFalse(result.toCompletableFuture().isDone(), "The chain should wait for the interceptor");
+        Assert.assertEquals(invoked, Arrays.asList("first", "async"));
+
+        async.future.complete(true);
+        Assert.assertEquals(result.toCompletableFuture().join(), Integer.valueOf(2));
+        Assert.assertEquals(invoked, Arrays.asList("first", "async"),
+                "The next interceptor should wait for the strand");
+        Assert.assertEquals(chain.interceptRequest(2, null, null), InterceptorChain.PROCEED);
+        Assert.assertEquals(invoked, Arrays.asList("first", "async", "last"));
+    }
+
+    @Test
+    public void testSyncInterceptorAfterAsyncRunsOnInvokingThread() throws InterruptedException {
+        AsyncStep async = new AsyncStep("async");
+        List<Thread> threads = new CopyOnWriteArrayList<>();
+        chain.addRequestInterceptor(async);
+        chain.addRequestInterceptor(new SyncStep("last", true) {
+            @Override
+            public boolean interceptRequest(Caller caller, Request request) {
+                threads.add(Thread.currentThread());
+                return super.interceptRequest(caller, request);
+            }
+        });
+
+        CompletionStage<Integer> result = stageOf(chain.interceptRequest(0, null, null));
+        Thread completer = new Thread(() -> async.future.complete(true));
+        completer.start();
+        completer.join();
+
+        Assert.assertEquals(invokeRequest(result), InterceptorChain.PROCEED);
+        Assert.assertEquals(threads, Arrays.asList(Thread.currentThread()));
+    }
+
+    @Test
+    public void testAsyncInterceptorResponds() {
+        AsyncStep async = new AsyncStep("async");
+        chain.addResponseInterceptor(async);
+        chain.addResponseInterceptor(new SyncStep("last", true));
+
+        CompletionStage<Integer> result = stageOf(chain.interceptResponse(0, null, null));
+        responded = true;
+        async.future.complete(false);
+
+        Assert.assertEquals(result.toCompletableFuture().join(), Integer.valueOf(InterceptorChain.RESPONDED));
+        Assert.assertEquals(invoked, Arrays.asList("async"), "The flow should stop once the interceptor responded");
+    }
+
+    @Test
+    public void testAsyncInterceptorCompletingWithFalseWithoutResponding() {
+        AsyncStep async = new AsyncStep("async");
+        chain.addRequestInterceptor(async);
+        chain.addRequestInterceptor(new SyncStep("last", true));
+
+        CompletionStage<Integer> result = stageOf(chain.interceptRequest(0, null, null));
+        async.future.complete(false);
+
+        Assert.assertEquals(invokeRequest(result), InterceptorChain.PROCEED);
+        Assert.assertEquals(invoked, Arrays.asList("async", "last"));
+    }
+
+    @Test
+    public void testLastAsyncInterceptorCompletesChain() {
+        AsyncStep first = new AsyncStep("first");
+        AsyncStep second = new AsyncStep("second");
+        chain.addRequestInterceptor(first);
+        chain.addRequestInterceptor(second);
+
+        CompletionStage<Integer> result = stageOf(chain.interceptRequest(0, null, null));
+        first.future.complete(true);
+        Assert.assertEquals(result.toCompletableFuture().join(), Integer.valueOf(1));
+        result = stageOf(chain.interceptRequest(1, null, null));
+        Assert.assertFalse(result.toCompletableFuture().isDone());
+        second.future.complete(true);
+
+        Assert.assertEquals(result.toCompletableFuture().join(), Integer.valueOf(InterceptorChain.PROCEED));
+        Assert.assertEquals(invoked, Arrays.asList("first", "second"));
+    }
+
+    @Test
+    public void testAsyncInterceptorFails() {
+        AsyncStep async = new AsyncStep("async");
+        chain.addRequestInterceptor(async);
+        chain.addRequestInterceptor(new SyncStep("last", true));
+
+        CompletionStage<Integer> result = stageOf(chain.interceptRequest(0, null, null));
+        async.future.completeExceptionally(new IllegalStateException("backend unavailable"));
+
+        assertFailure(result, IllegalStateException.class);
+        Assert.assertEquals(invoked, Arrays.asList("async"), "The flow should not continue after a failure");
+    }
+
+    @Test
+    public void testAsyncInterceptorThrows() {
+        AsyncInterceptor failing = new AsyncInterceptor() {
+            @Override
+            public CompletionStage<Boolean> interceptRequest(Caller caller, Request request) {
+                throw new IllegalArgumentException("invalid request");
+            }
+
+            @Override
+            public CompletionStage<Boolean> interceptResponse(Caller caller, Response response) {
+                return null;
+            }
+        };
+        chain.addRequestInterceptor(failing);
+        chain.addResponseInterceptor(failing);
+
+        assertFailure(stageOf(chain.interceptRequest(0, null, null)), IllegalArgumentException.class);
+        assertFailure(stageOf(chain.interceptResponse(0, null, null)), IllegalStateException.class);
+    }
+
+    /**
+     * Invokes the rest of the request interceptors the way the gateway does, once the stage of an asynchronous
+     * interceptor completes.
+     */
+    private Object invokeRequest(CompletionStage<Integer> stage) {
+        Object result = stage;
+        while (result instanceof CompletionStage) {
+            int next = stageOf(result).toCompletableFuture().join();
+            result = next < 0 ? next : chain.interceptRequest(next, null, null);
+        }
+        return result;
+    }
+
+    private static void assertFailure(CompletionStage<Integer> result, Class<? extends Throwable> errorClass) {
+        try {
+            result.toCompletableFuture().join();
+            Assert.fail("The chain should have failed");
+        } catch (CompletionException e) {
+            Assert.assertTrue(errorClass.isInstance(e.getCause()), "Unexpected error " + e.getCause());
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static CompletionStage<Integer> stageOf(Object result) {
+        Assert.assertTrue(result instanceof CompletionStage, "Expected a completion stage but got " + result);
+        return (CompletionStage<Integer>) result;
+    }
+
+    private class SyncStep implements Interceptor {
+        private final String name;
+        private final boolean proceed;
+
+        private SyncStep(String name, boolean proceed) {
+            this.name = name;
+            this.proceed = proceed;
+        }
+
+        @Override
+        public boolean interceptRequest(Caller caller, Request request) {
+            invoked.add(name);
+            return proceed;
+        }
+
+        @Override
+        public boolean interceptResponse(Caller caller, Response response) {
+            invoked.add(name);
+            return proceed;
+        }
+    }
+
+    private final class AsyncStep implements AsyncInterceptor {
+        private final String name;
+        private final CompletableFuture<Boolean> future = new CompletableFuture<>();
+
+        private AsyncStep(String name) {
+            this.name = name;
+        }
+
+        @Override
+        public CompletionStage<Boolean> interceptRequest(Caller caller, Request request) {
+            invoked.add(name);
+            return future;
+        }
+
+        @Override
+        public CompletionStage<Boolean> interceptResponse(Caller caller, Response response) {
+            invoked.add(name);
+            return future;
+        }
+    }
+}
@@ -0,0 +1,201 @@
+/*
+ *  Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.wso2.micro.gateway.core.keyvalidation;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+import org.wso2.micro.gateway.core.cache.CacheRegion;
+import org.wso2.micro.gateway.core.cache.TokenCache;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Tests for {@link KeyValidationCoalescer}.
+ */
+public class KeyValidationCoalescerTest {
+
+    private static final String CACHE_KEY = "token:context:v1";
+
+    @Test
+    public void testWaitersAreResumedWithResultOfLeader() {
+        KeyValidationCoalescer coalescer = new KeyValidationCoalescer(0);
+        RecordingWaiter first = new RecordingWaiter();
+        RecordingWaiter second = new RecordingWaiter();
+
+        Assert.assertEquals(coalescer.join(CACHE_KEY, () -> new RecordingWaiter()), Boolean.TRUE);
+        Assert.assertNull(coalescer.join(CACHE_KEY, () -> first));
+        Assert.assertNull(coalescer.join(CACHE_KEY, () -> second));
+        Assert.assertEquals(coalescer.getCoalescedRequests(), 2);
+        Assert.assertEquals(coalescer.getInFlightValidations(), 1);
+        Assert.assertTrue(first.results.isEmpty(), "A waiter was resumed before the validation completed");
+
+        Object info = new Object();
+        coalescer.complete(CACHE_KEY, info);
+        Assert.assertEquals(first.results.size(), 1);
+        Assert.assertSame(first.results.get(0), info);
+        Assert.assertEquals(second.results.size(), 1);
+        Assert.assertSame(second.results.get(0), info);
+        Assert.assertEquals(coalescer.getInFlightValidations(), 0);
+    }
+
+    @Test
+    public void testNextRequestLeadsAfterCompletion() {
+        KeyValidationCoalescer coalescer = new KeyValidationCoalescer(0);
+        Assert.assertEquals(coalescer.join(CACHE_KEY, RecordingWaiter::new), Boolean.TRUE);
+        coalescer.complete(CACHE_KEY, new Object());
+
+        Assert.assertEquals(coalescer.join(CACHE_KEY, RecordingWaiter::new), Boolean.TRUE);
+        Assert.assertEquals(coalescer.join("other:context:v1", RecordingWaiter::new), Boolean.TRUE);
+        Assert.assertEquals(coalescer.getCoalescedRequests(), 0);
+    }
+
+    @Test
+    public void testErrorOfLeaderIsSharedWithWaiters() {
+        KeyValidationCoalescer coalescer = new KeyValidationCoalescer(0);
+        RecordingWaiter waiter = new RecordingWaiter();
+        coalescer.join(CACHE_KEY, RecordingWaiter::new);
+        coalescer.join(CACHE_KEY, () -> waiter);
+
+        Exception error = new IllegalStateException("Key manager is not reachable");
+        coalescer.complete(CACHE_KEY, error);
+        Assert.assertEquals(waiter.results.size(), 1);
+        Assert.assertSame(waiter.results.get(0), error);
+    }
+
+    @Test
+    public void testLateJoinReturnsResultWithoutWaiting() {
+        KeyValidationCoalescer.Flight flight = new KeyValidationCoalescer.Flight();
+        Object info = new Object();
+        flight.complete(info);
+
+        // the flight was looked up by a request just before it was completed
+        Assert.assertSame(flight.await(() -> {
+            throw new AssertionError("A waiter was created for a completed validation");
+        }), info);
+    }
+
+    @Test
+    public void testRefreshIsJoinedByRequestsWhichMissTheCache() {
+        CacheRegion region = TokenCache.getRegion("KeyValidationCoalescerTestRefresh", 16, 1000);
+        TokenCache.put(region, CACHE_KEY, new Object());
+        KeyValidationCoalescer coalescer = new KeyValidationCoalescer(TimeUnit.MINUTES.toMillis(1));
+
+        Assert.assertTrue(coalescer.startRefresh(region, CACHE_KEY));
+        Assert.assertFalse(coalescer.startRefresh(region, CACHE_KEY), "A refresh was started twice");
+        Assert.assertEquals(coalescer.getBackgroundRefreshes(), 1);
+
+        RecordingWaiter waiter = new RecordingWaiter();
+        Assert.assertNull(coalescer.join(CACHE_KEY, () -> waiter));
+        Object refreshed = new Object();
+        coalescer.complete(CACHE_KEY, refreshed);
+        Assert.assertEquals(waiter.results.size(), 1);
+        Assert.assertSame(waiter.results.get(0), refreshed);
+    }
+
+    @Test
+    public void testWaitersOfFailedRefreshValidateAgain() {
+        CacheRegion region = TokenCache.getRegion("KeyValidationCoalescerTestFailedRefresh", 16, 1000);
+        TokenCache.put(region, CACHE_KEY, new Object());
+        KeyValidationCoalescer coalescer = new KeyValidationCoalescer(TimeUnit.MINUTES.toMillis(1));
+        Assert.assertTrue(coalescer.startRefresh(region, CACHE_KEY));
+
+        RecordingWaiter waiter = new RecordingWaiter();
+        coalescer.join(CACHE_KEY, () -> waiter);
+        coalescer.complete(CACHE_KEY, Boolean.FALSE);
+        Assert.assertEquals(waiter.results.size(), 1);
+        Assert.assertEquals(waiter.results.get(0), Boolean.FALSE);
+        // the resumed request validates the token itself
+        Assert.assertEquals(coalescer.join(CACHE_KEY, RecordingWaiter::new), Boolean.TRUE);
+    }
+
+    @Test
+    public void testRefreshIsNotStartedWhileValidationIsInFlight() {
+        CacheRegion region = TokenCache.getRegion("KeyValidationCoalescerTestInFlight", 16, 1000);
+        TokenCache.put(region, CACHE_KEY, new Object());
+        KeyValidationCoalescer coalescer = new KeyValidationCoalescer(TimeUnit.MINUTES.toMillis(1));
+        coalescer.join(CACHE_KEY, RecordingWaiter::new);
+
+        Assert.assertFalse(coalescer.startRefresh(region, CACHE_KEY));
+        Assert.assertEquals(coalescer.getBackgroundRefreshes(), 0);
+        Assert.assertEquals(coalescer.getInFlightValidations(), 1);
+    }
+
+    @Test
+    public void testRefreshIsNotStartedWhenDisabledOrNotExpiring() {
+        CacheRegion region = TokenCache.getRegion("KeyValidationCoalescerTestNotExpiring", 16,
+                TimeUnit.HOURS.toMillis(1));
+        TokenCache.put(region, CACHE_KEY, new Object());
+
+        Assert.assertFalse(new KeyValidationCoalescer(0).startRefresh(region, CACHE_KEY));
+        KeyValidationCoalescer coalescer = new KeyValidationCoalescer(TimeUnit.MINUTES.toMillis(1));
+        Assert.assertFalse(coalescer.startRefresh(region, CACHE_KEY));
+        Assert.assertFalse(coalescer.startRefresh(region, "missing:context:v1"));
+        Assert.assertEquals(coalescer.getInFlightValidations(), 0);
+    }
+
+    @Test
+    public void testConcurrentRequestsAllReceiveResult() throws Exception {
+        KeyValidationCoalescer coalescer = new KeyValidationCoalescer(0);
+        int threads = 4;
+        int rounds = 2000;
+        AtomicInteger lost = new AtomicInteger();
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < threads; t++) {
+                futures.add(executor.submit(() -> {
+                    for (int i = 0; i < rounds; i++) {
+                        CountDownLatch resumed = new CountDownLatch(1);
+                        Object result = coalescer.join(CACHE_KEY, () -> ignored -> resumed.countDown());
+                        if (Boolean.TRUE.equals(result)) {
+                            coalescer.complete(CACHE_KEY, "info");
+                        } else if (result == null) {
+                            if (!resumed.await(10, TimeUnit.SECONDS)) {
+                                lost.incrementAndGet();
+                            }
+                        } else if (!"info".equals(result)) {
+                            lost.incrementAndGet();
+                        }
+                    }
+                    return null;
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get(60, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        Assert.assertEquals(lost.get(), 0, "A request did not receive the result of the validation it joined");
+        Assert.assertEquals(coalescer.getInFlightValidations(), 0);
+    }
+
+    private static class RecordingWaiter implements KeyValidationCoalescer.Waiter {
+        private final List<Object> results = new ArrayList<>();
+
+        @Override
+        public void resume(Object result) {
+            results.add(result);
+        }
+    }
+}
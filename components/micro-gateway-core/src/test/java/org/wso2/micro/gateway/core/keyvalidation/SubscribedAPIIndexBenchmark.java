@@ -0,0 +1,118 @@
+/*
+ *  Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.wso2.micro.gateway.core.keyvalidation;
+
+import org.json.JSONArray;
+import org.json.JSONObject;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares finding the subscription of a request in the subscribedAPIs claim of a token by walking the claim, as
+ * validateSubscribedAPIs of jwt_util.bal did for each request, with looking it up in an index by API name and
+ * version, as the SubscribedAPIIndex built once per token does. The Ballerina functions cannot be run by JMH, hence
+ * the claim is modelled with the parsed JSON values and the index with maps. Run it at 1, 8 and 32 threads with the
+ * benchmark profile.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class SubscribedAPIIndexBenchmark {
+
+    private static final int SAMPLE_SIZE = 1 << 10;
+    private static final int SAMPLE_MASK = SAMPLE_SIZE - 1;
+    private static final String API_VERSION = "1.0.0";
+
+    /**
+     * Number of subscriptions in the claim of the token.
+     */
+    @Param({"10", "500"})
+    public int subscriptions;
+
+    private JSONArray subscribedAPIList;
+    private Map<String, Map<String, String>> subscribedAPIIndex;
+    private String[] apiNames;
+
+    @Setup
+    public void setUp() {
+        subscribedAPIList = new JSONArray();
+        subscribedAPIIndex = new HashMap<>();
+        for (int i = 0; i < subscriptions; i++) {
+            JSONObject subscription = new JSONObject();
+            subscription.put("name", "API" + i);
+            subscription.put("version", API_VERSION);
+            subscription.put("subscriptionTier", "Gold");
+            subscription.put("publisher", "admin");
+            subscription.put("subscriberTenantDomain", "carbon.super");
+            subscribedAPIList.put(subscription);
+            subscribedAPIIndex.computeIfAbsent("API" + i, name -> new HashMap<>()).putIfAbsent(API_VERSION, "Gold");
+        }
+        apiNames = new String[SAMPLE_SIZE];
+        for (int i = 0; i < SAMPLE_SIZE; i++) {
+            apiNames[i] = "API" + ThreadLocalRandom.current().nextInt(subscriptions);
+        }
+    }
+
+    /**
+     * Position of a benchmark thread in the sampled APIs of the requests, which starts at a random offset so that the
+     * threads do not look up the same APIs in lock step.
+     */
+    @State(Scope.Thread)
+    public static class Cursor {
+        private int position = ThreadLocalRandom.current().nextInt(SAMPLE_SIZE);
+
+        int next() {
+            position = (position + 1) & SAMPLE_MASK;
+            return position;
+        }
+    }
+
+    @Benchmark
+    public String scanClaim(Cursor cursor) {
+        String apiName = apiNames[cursor.next()];
+        for (int i = 0; i < subscribedAPIList.length(); i++) {
+            JSONObject subscription = subscribedAPIList.getJSONObject(i);
+            if (subscription.get("name").toString().equals(apiName)
+                    && subscription.get("version").toString().equals(API_VERSION)) {
+                return subscription.get("subscriptionTier").toString();
+            }
+        }
+        return null;
+    }
+
+    @Benchmark
+    public String lookupIndex(Cursor cursor) {
+        Map<String, String> versions = subscribedAPIIndex.get(apiNames[cursor.next()]);
+        return versions == null ? null : versions.get(API_VERSION);
+    }
+}
@@ -0,0 +1,97 @@
+/*
+ *  Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.wso2.micro.gateway.core.metrics;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.lang.management.ManagementFactory;
+
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+/**
+ * Tests for {@link GatewayMetricsRegistry}. The registry is static, hence each test uses metric names of its own.
+ */
+public class GatewayMetricsRegistryTest {
+
+    @Test
+    public void testSeriesIsRegisteredOnce() throws Exception {
+        MetricSeries series = GatewayMetricsRegistry.getSeries("Per_Request_Duration_test", "latency",
+                "Authentication", "petstore", "getPetById", "GET");
+        Assert.assertSame(GatewayMetricsRegistry.getSeries("Per_Request_Duration_test", "latency", "Authentication",
+                "petstore", "getPetById", "GET"), series);
+        Assert.assertNotSame(GatewayMetricsRegistry.getSeries("Per_Request_Duration_test", "latency",
+                "Authentication", "petstore", "getPetById", "POST"), series);
+
+        GatewayMetricsRegistry.record(series, 1.5);
+        GatewayMetricsRegistry.record(series, 2.5);
+        MBeanServer mBeanServer = ManagementFactory.getPlatformMBeanServer();
+        // the exporter maps the key properties of the name to the labels of the metric
+        ObjectName name = new ObjectName("org.wso2.micro.gateway:type=GatewayMetric,metric=Per_Request_Duration_test,"
+                + "category=Authentication,service=petstore,resource=getPetById,method=GET");
+        Assert.assertEquals(name.getKeyPropertyListString(), "type=GatewayMetric,metric=Per_Request_Duration_test,"
+                + "category=Authentication,service=petstore,resource=getPetById,method=GET");
+        Assert.assertEquals(mBeanServer.getAttribute(name, "Count"), 2L);
+        Assert.assertEquals((Double) mBeanServer.getAttribute(name, "MeanMillis"), 2.0, 0.01);
+        Assert.assertEquals((Double) mBeanServer.getAttribute(name, "MaxMillis"), 2.5, 0.01);
+    }
+
+    @Test
+    public void testEmptyAndSpecialValuesAreQuoted() throws Exception {
+        GatewayMetricsRegistry.getSeries("Request_Duration_Total_test", "latency", "Throttling", "", "", "")
+                .record(3);
+        GatewayMetricsRegistry.getSeries("Request_Duration_Total_test", "latency", "Throttling", "a,b", "c=d", "GET")
+                .record(3);
+        MBeanServer mBeanServer = ManagementFactory.getPlatformMBeanServer();
+        Assert.assertTrue(mBeanServer.isRegistered(new ObjectName("org.wso2.micro.gateway:type=GatewayMetric,"
+                + "metric=Request_Duration_Total_test,category=Throttling,service=\"\",resource=\"\",method=\"\"")));
+        Assert.assertTrue(mBeanServer.isRegistered(new ObjectName("org.wso2.micro.gateway:type=GatewayMetric,"
+                + "metric=Request_Duration_Total_test,category=Throttling,service=\"a,b\",resource=\"c=d\","
+                + "method=GET")));
+    }
+
+    @Test
+    public void testSeriesBeyondMaximumAreRecordedAsOther() {
+        try {
+            // each series of the registry is registered as an MBean, hence one more series can be created
+            GatewayMetricsRegistry.initGatewayMetricsRegistry(countSeries() + 1);
+            MetricSeries first = GatewayMetricsRegistry.getSeries("Capped_Duration_test", "latency", "Validation",
+                    "petstore", "resource-1", "GET");
+            Assert.assertEquals(first.getResource(), "resource-1");
+            MetricSeries other = GatewayMetricsRegistry.getSeries("Capped_Duration_test", "latency", "Validation",
+                    "petstore", "resource-2", "GET");
+            Assert.assertEquals(other.getService(), "other");
+            Assert.assertEquals(other.getResource(), "other");
+            Assert.assertEquals(other.getMethod(), "other");
+            Assert.assertSame(GatewayMetricsRegistry.getSeries("Capped_Duration_test", "latency", "Validation",
+                    "petstore", "resource-3", "PUT"), other);
+            // the series created before the cap was reached are still returned
+            Assert.assertSame(GatewayMetricsRegistry.getSeries("Capped_Duration_test", "latency", "Validation",
+                    "petstore", "resource-1", "GET"), first);
+        } finally {
+            GatewayMetricsRegistry.initGatewayMetricsRegistry(1000);
+        }
+    }
+
+    private static int countSeries() {
+        return ManagementFactory.getPlatformMBeanServer()
+                .queryNames(null, null).stream()
+                .filter(name -> "GatewayMetric".equals(name.getKeyProperty("type")))
+                .mapToInt(name -> 1)
+                .sum();
+    }
+}
@@ -0,0 +1,162 @@
+/*
+ *  Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.wso2.micro.gateway.core.metrics;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.Arrays;
+import java.util.Random;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Tests for {@link LatencyHistogram}.
+ */
+public class LatencyHistogramTest {
+
+    private static final double MAX_RELATIVE_ERROR = 1.0 / 8;
+
+    @Test
+    public void testBucketsAreContiguous() {
+        Assert.assertEquals(LatencyHistogram.bucketLowerBound(0), 0);
+        for (int bucket = 1; bucket < LatencyHistogram.BUCKETS; bucket++) {
+            Assert.assertEquals(LatencyHistogram.bucketLowerBound(bucket),
+                    LatencyHistogram.bucketUpperBound(bucket - 1) + 1, "Gap before bucket " + bucket);
+        }
+    }
+
+    @Test
+    public void testValueFallsInItsBucket() {
+        Random random = new Random(42);
+        for (int i = 0; i < 100000; i++) {
+            long value = random.nextLong() >>> (24 + random.nextInt(40));
+            int bucket = LatencyHistogram.bucketIndex(value);
+            Assert.assertTrue(LatencyHistogram.bucketLowerBound(bucket) <= value, "Value " + value);
+            Assert.assertTrue(LatencyHistogram.bucketUpperBound(bucket) >= value, "Value " + value);
+        }
+        Assert.assertEquals(LatencyHistogram.bucketIndex(7), 7);
+        Assert.assertEquals(LatencyHistogram.bucketIndex(8), 8);
+        Assert.assertEquals(LatencyHistogram.bucketIndex(15), 15);
+        Assert.assertEquals(LatencyHistogram.bucketIndex(16), 16);
+        Assert.assertEquals(LatencyHistogram.bucketIndex(17), 16);
+    }
+
+    @Test
+    public void testBucketWidthIsWithinRelativeError() {
+        for (int bucket = 8; bucket < LatencyHistogram.BUCKETS; bucket++) {
+            long lower = LatencyHistogram.bucketLowerBound(bucket);
+            long width = LatencyHistogram.bucketUpperBound(bucket) - lower + 1;
+            Assert.assertTrue(width <= lower * MAX_RELATIVE_ERROR, "Bucket " + bucket + " is too wide");
+        }
+    }
+
+    @Test
+    public void testQuantilesOfUniformValues() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (long value = 1; value <= 10000; value++) {
+            histogram.record(value);
+        }
+        LatencyHistogram.Snapshot snapshot = histogram.snapshot();
+        Assert.assertEquals(snapshot.getCount(), 10000);
+        Assert.assertEquals(snapshot.getSum(), 10000L * 10001 / 2);
+        Assert.assertEquals(snapshot.getMax(), 10000);
+        assertQuantile(snapshot, 0.5, 5000);
+        assertQuantile(snapshot, 0.9, 9000);
+        assertQuantile(snapshot, 0.99, 9900);
+        Assert.assertEquals(snapshot.getValueAtQuantile(1), 10000);
+    }
+
+    @Test
+    public void testQuantilesOfSkewedValues() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        Random random = new Random(7);
+        long[] values = new long[50000];
+        for (int i = 0; i < values.length; i++) {
+            // log-normal latencies around a millisecond with a long tail
+            values[i] = Math.max(1, (long) Math.exp(7 + random.nextGaussian() * 1.5));
+            histogram.record(values[i]);
+        }
+        Arrays.sort(values);
+        LatencyHistogram.Snapshot snapshot = histogram.snapshot();
+        for (double quantile : new double[]{0.5, 0.75, 0.9, 0.95, 0.99, 0.999}) {
+            long expected = values[(int) Math.ceil(quantile * values.length) - 1];
+            assertQuantile(snapshot, quantile, expected);
+        }
+        Assert.assertEquals(snapshot.getMax(), values[values.length - 1]);
+    }
+
+    @Test
+    public void testEmptyHistogram() {
+        LatencyHistogram.Snapshot snapshot = new LatencyHistogram().snapshot();
+        Assert.assertEquals(snapshot.getCount(), 0);
+        Assert.assertEquals(snapshot.getMax(), 0);
+        Assert.assertEquals(snapshot.getValueAtQuantile(0.99), 0);
+    }
+
+    @Test
+    public void testOutOfRangeValuesAreClamped() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        histogram.record(-5);
+        histogram.record(Long.MAX_VALUE);
+        LatencyHistogram.Snapshot snapshot = histogram.snapshot();
+        Assert.assertEquals(snapshot.getCount(), 2);
+        Assert.assertEquals(snapshot.getValueAtQuantile(0.5), 0);
+        Assert.assertEquals(snapshot.getMax(), LatencyHistogram.bucketUpperBound(LatencyHistogram.BUCKETS - 1));
+        Assert.assertEquals(snapshot.getValueAtQuantile(1), snapshot.getMax());
+    }
+
+    @Test
+    public void testConcurrentRecordingIsNotLost() throws Exception {
+        LatencyHistogram histogram = new LatencyHistogram();
+        int threads = 8;
+        int values = 100000;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        Future<?>[] futures = new Future<?>[threads];
+        try {
+            for (int i = 0; i < threads; i++) {
+                long value = 100 * (i + 1);
+                futures[i] = executor.submit(() -> {
+                    start.await();
+                    for (int j = 0; j < values; j++) {
+                        histogram.record(value);
+                    }
+                    return null;
+                });
+            }
+            start.countDown();
+            for (Future<?> future : futures) {
+                future.get(30, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        LatencyHistogram.Snapshot snapshot = histogram.snapshot();
+        Assert.assertEquals(snapshot.getCount(), (long) threads * values);
+        Assert.assertEquals(snapshot.getSum(), 100L * values * threads * (threads + 1) / 2);
+        Assert.assertEquals(snapshot.getMax(), 100 * threads);
+    }
+
+    private static void assertQuantile(LatencyHistogram.Snapshot snapshot, double quantile, long expected) {
+        long actual = snapshot.getValueAtQuantile(quantile);
+        Assert.assertTrue(Math.abs(actual - expected) <= Math.max(1, expected * MAX_RELATIVE_ERROR),
+                "Value at " + quantile + " is " + actual + ", expected " + expected);
+    }
+}
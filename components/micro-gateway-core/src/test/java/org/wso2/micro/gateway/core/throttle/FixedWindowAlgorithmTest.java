@@ -0,0 +1,102 @@
+/*
+ *  Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.wso2.micro.gateway.core.throttle;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CyclicBarrier;
+
+/**
+ * Tests for {@link FixedWindowAlgorithm}.
+ */
+public class FixedWindowAlgorithmTest {
+
+    private static final long UNIT_TIME = 60000;
+    private static final long WINDOW_START = 1580000040000L;
+
+    private final FixedWindowAlgorithm algorithm = new FixedWindowAlgorithm();
+
+    @Test
+    public void testThrottledWhenLimitIsReached() {
+        ThrottleCounterTable counterTable = new ThrottleCounterTable();
+        int id = counterTable.allocate(null, 0, algorithm, 3, UNIT_TIME, UNIT_TIME, WINDOW_START + 10);
+        Assert.assertEquals(counterTable.get(id, ThrottleCounterTable.WINDOW_START), WINDOW_START);
+        Assert.assertEquals(algorithm.acquire(counterTable, id, WINDOW_START + 10), 1);
+        Assert.assertEquals(algorithm.acquire(counterTable, id, WINDOW_START + 20), 2);
+        Assert.assertFalse(algorithm.isThrottled(counterTable, id, WINDOW_START + 30));
+        Assert.assertEquals(algorithm.acquire(counterTable, id, WINDOW_START + 30), 3);
+        Assert.assertTrue(algorithm.isThrottled(counterTable, id, WINDOW_START + 40));
+        Assert.assertFalse(algorithm.isExpired(counterTable, id, WINDOW_START + UNIT_TIME));
+        Assert.assertFalse(algorithm.isThrottled(counterTable, id, WINDOW_START + UNIT_TIME + 1));
+        Assert.assertTrue(algorithm.isExpired(counterTable, id, WINDOW_START + UNIT_TIME + 1));
+        Assert.assertEquals(algorithm.getExpiryTime(counterTable, id), WINDOW_START + UNIT_TIME + 1);
+    }
+
+    @Test
+    public void testCountIsResetInNextWindow() {
+        ThrottleCounterTable counterTable = new ThrottleCounterTable();
+        int id = counterTable.allocate(null, 0, algorithm, 2, UNIT_TIME, UNIT_TIME, WINDOW_START);
+        algorithm.acquire(counterTable, id, WINDOW_START);
+        algorithm.acquire(counterTable, id, WINDOW_START + 1);
+        Assert.assertTrue(algorithm.isThrottled(counterTable, id, WINDOW_START + 2));
+
+        long nextWindowStart = WINDOW_START + 2 * UNIT_TIME;
+        Assert.assertEquals(algorithm.acquire(counterTable, id, nextWindowStart + 5), 1);
+        Assert.assertEquals(counterTable.get(id, ThrottleCounterTable.WINDOW_START), nextWindowStart);
+        Assert.assertFalse(algorithm.isThrottled(counterTable, id, nextWindowStart + 6));
+        // a request which was queued before the window rolled is counted against the current window
+        Assert.assertEquals(algorithm.acquire(counterTable, id, WINDOW_START + 3), 2);
+        Assert.assertTrue(algorithm.isThrottled(counterTable, id, nextWindowStart + 7));
+    }
+
+    @Test
+    public void testWindowRollDoesNotLoseConcurrentRequests() throws Exception {
+        int threadCount = 8;
+        int requestsPerThread = 20;
+        ThrottleCounterTable counterTable = new ThrottleCounterTable();
+        int id = counterTable.allocate(null, 0, algorithm, Long.MAX_VALUE, UNIT_TIME, UNIT_TIME, WINDOW_START);
+        for (int round = 1; round <= 500; round++) {
+            long windowStart = WINDOW_START + round * UNIT_TIME;
+            algorithm.acquire(counterTable, id, windowStart - 1);
+            // all the threads race to roll the window with their first request
+            CyclicBarrier barrier = new CyclicBarrier(threadCount);
+            List<Thread> threads = new ArrayList<>();
+            for (int i = 0; i < threadCount; i++) {
+                Thread thread = new Thread(() -> {
+                    try {
+                        barrier.await();
+                    } catch (Exception e) {
+                        throw new IllegalStateException(e);
+                    }
+                    for (int j = 0; j < requestsPerThread; j++) {
+                        algorithm.acquire(counterTable, id, windowStart + 1);
+                    }
+                });
+                thread.start();
+                threads.add(thread);
+            }
+            for (Thread thread : threads) {
+                thread.join();
+            }
+            Assert.assertEquals(counterTable.get(id, ThrottleCounterTable.WINDOW_START), windowStart);
+            Assert.assertEquals(algorithm.acquire(counterTable, id, windowStart + 2),
+                    threadCount * requestsPerThread + 1, "Requests were lost in round " + round);
+        }
+    }
+}
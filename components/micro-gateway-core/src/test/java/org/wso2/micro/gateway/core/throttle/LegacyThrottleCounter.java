@@ -0,0 +1,72 @@
+/*
+ *  Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.wso2.micro.gateway.core.throttle;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * The throttle counter engine which kept a {@link ConcurrentHashMap} of window data per throttle level, before the
+ * counters moved to the {@link ThrottleCounterTable}. Kept as the baseline of {@link ThrottleCounterBenchmark}.
+ */
+class LegacyThrottleCounter {
+
+    private final Map<String, WindowData> apiLevelCounter = new ConcurrentHashMap<>();
+    private final Map<String, WindowData> resourceLevelCounter = new ConcurrentHashMap<>();
+    private final Map<String, WindowData> applicationLevelCounter = new ConcurrentHashMap<>();
+    private final Map<String, WindowData> subscriptionLevelCounter = new ConcurrentHashMap<>();
+
+    void updateCounters(String apiKey, String appKey, String subscriptionKey, String resourceKey, long limit,
+            long unitTime, long timestamp) {
+        updateMapCounters(apiLevelCounter, apiKey, limit, unitTime, timestamp);
+        updateMapCounters(resourceLevelCounter, resourceKey, limit, unitTime, timestamp);
+        updateMapCounters(applicationLevelCounter, appKey, limit, unitTime, timestamp);
+        updateMapCounters(subscriptionLevelCounter, subscriptionKey, limit, unitTime, timestamp);
+    }
+
+    private void updateMapCounters(Map<String, WindowData> counterMap, String throttleKey, long limit,
+            long unitTime, long timestamp) {
+        WindowData existingWindowData = counterMap.computeIfPresent(throttleKey, (key, windowData) -> {
+            windowData.throttled = limit > 0 && windowData.count.incrementAndGet() >= limit;
+            if (timestamp > windowData.windowStartTime + windowData.unitTime) {
+                windowData.count.set(1);
+                windowData.windowStartTime = timestamp - (timestamp % unitTime);
+                windowData.throttled = false;
+            }
+            return windowData;
+        });
+        if (existingWindowData == null) {
+            counterMap.computeIfAbsent(throttleKey, key -> {
+                WindowData windowData = new WindowData();
+                windowData.windowStartTime = timestamp - (timestamp % unitTime);
+                windowData.unitTime = unitTime;
+                return windowData;
+            });
+            counterMap.computeIfPresent(throttleKey, (key, windowData) -> {
+                windowData.count.incrementAndGet();
+                return windowData;
+            });
+        }
+    }
+
+    private static class WindowData {
+        private final AtomicLong count = new AtomicLong();
+        private volatile long windowStartTime;
+        private volatile long unitTime;
+        private volatile boolean throttled;
+    }
+}
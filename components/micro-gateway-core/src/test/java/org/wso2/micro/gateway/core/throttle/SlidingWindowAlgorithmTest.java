@@ -0,0 +1,114 @@
+/*
+ *  Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.wso2.micro.gateway.core.throttle;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CyclicBarrier;
+
+/**
+ * Tests for {@link SlidingWindowAlgorithm}.
+ */
+public class SlidingWindowAlgorithmTest {
+
+    private static final long UNIT_TIME = 1000;
+    private static final long WINDOW_START = 1580000040000L;
+
+    private final SlidingWindowAlgorithm algorithm = new SlidingWindowAlgorithm();
+
+    @Test
+    public void testPreviousWindowIsWeightedByItsOverlap() {
+        ThrottleCounterTable counterTable = new ThrottleCounterTable();
+        int id = counterTable.allocate(null, 0, algorithm, 10, UNIT_TIME, UNIT_TIME, WINDOW_START + 100);
+        Assert.assertEquals(counterTable.get(id, ThrottleCounterTable.WINDOW_START), WINDOW_START);
+        for (int i = 1; i <= 10; i++) {
+            Assert.assertEquals(algorithm.acquire(counterTable, id, WINDOW_START + 100 + i), i);
+        }
+        Assert.assertTrue(algorithm.isThrottled(counterTable, id, WINDOW_START + 200));
+        // half of the previous window overlaps the sliding window before the buckets are rolled
+        Assert.assertFalse(algorithm.isThrottled(counterTable, id, WINDOW_START + UNIT_TIME + 500));
+
+        long nextWindowStart = WINDOW_START + UNIT_TIME;
+        for (int i = 1; i <= 5; i++) {
+            Assert.assertEquals(algorithm.acquire(counterTable, id, nextWindowStart + 500), i);
+        }
+        Assert.assertEquals(counterTable.get(id, ThrottleCounterTable.WINDOW_START), nextWindowStart);
+        Assert.assertTrue(algorithm.isThrottled(counterTable, id, nextWindowStart + 500));
+        Assert.assertFalse(algorithm.isThrottled(counterTable, id, nextWindowStart + 600));
+        Assert.assertFalse(algorithm.isExpired(counterTable, id, nextWindowStart + 2 * UNIT_TIME - 1));
+        Assert.assertTrue(algorithm.isExpired(counterTable, id, nextWindowStart + 2 * UNIT_TIME));
+        Assert.assertEquals(algorithm.getExpiryTime(counterTable, id), nextWindowStart + 2 * UNIT_TIME);
+    }
+
+    @Test
+    public void testPreviousWindowIsDroppedWhenWindowsAreNotAdjacent() {
+        ThrottleCounterTable counterTable = new ThrottleCounterTable();
+        int id = counterTable.allocate(null, 0, algorithm, 2, UNIT_TIME, UNIT_TIME, WINDOW_START);
+        algorithm.acquire(counterTable, id, WINDOW_START);
+        algorithm.acquire(counterTable, id, WINDOW_START);
+        Assert.assertTrue(algorithm.isThrottled(counterTable, id, WINDOW_START + 1));
+
+        long laterWindowStart = WINDOW_START + 3 * UNIT_TIME;
+        Assert.assertEquals(algorithm.acquire(counterTable, id, laterWindowStart), 1);
+        Assert.assertFalse(algorithm.isThrottled(counterTable, id, laterWindowStart),
+                "The requests of a window which is not adjacent to the current one should not be weighted");
+        Assert.assertEquals(algorithm.acquire(counterTable, id, laterWindowStart + 1), 2);
+        Assert.assertTrue(algorithm.isThrottled(counterTable, id, laterWindowStart + 2));
+    }
+
+    @Test
+    public void testBucketRollDoesNotLoseConcurrentRequests() throws Exception {
+        int threadCount = 8;
+        int requestsPerThread = 20;
+        ThrottleCounterTable counterTable = new ThrottleCounterTable();
+        int id = counterTable.allocate(null, 0, algorithm, Long.MAX_VALUE, UNIT_TIME, UNIT_TIME, WINDOW_START);
+        // number of requests counted against the window before the one of the current round
+        long previousCount = 0;
+        for (int round = 1; round <= 500; round++) {
+            long windowStart = WINDOW_START + round * UNIT_TIME;
+            CyclicBarrier barrier = new CyclicBarrier(threadCount);
+            List<Thread> threads = new ArrayList<>();
+            for (int i = 0; i < threadCount; i++) {
+                // half of the threads still count requests against the previous bucket while the others roll it
+                long timestamp = i % 2 == 0 ? windowStart - 1 : windowStart + 1;
+                Thread thread = new Thread(() -> {
+                    try {
+                        barrier.await();
+                    } catch (Exception e) {
+                        throw new IllegalStateException(e);
+                    }
+                    for (int j = 0; j < requestsPerThread; j++) {
+                        algorithm.acquire(counterTable, id, timestamp);
+                    }
+                });
+                thread.start();
+                threads.add(thread);
+            }
+            for (Thread thread : threads) {
+                thread.join();
+            }
+            long count = algorithm.acquire(counterTable, id, windowStart + 2);
+            long carriedCount = WindowCount.countIn(counterTable.get(id, ThrottleCounterTable.PREVIOUS_COUNT),
+                    windowStart - UNIT_TIME);
+            Assert.assertEquals(carriedCount + count - 1, previousCount + threadCount * requestsPerThread,
+                    "Requests were lost in round " + round);
+            previousCount = count;
+        }
+    }
+}
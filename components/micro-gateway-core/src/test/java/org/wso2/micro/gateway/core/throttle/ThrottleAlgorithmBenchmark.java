@@ -0,0 +1,98 @@
+/*
+ *  Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.wso2.micro.gateway.core.throttle;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.wso2.micro.gateway.core.utils.ZipfDistribution;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the cost of a throttle check followed by counting the request with each {@link ThrottleAlgorithm}, for
+ * throttle keys drawn from a Zipf distribution, so that the sliding window and token bucket algorithms can be
+ * compared against the fixed window.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class ThrottleAlgorithmBenchmark {
+
+    private static final int SAMPLE_SIZE = 1 << 16;
+    private static final int SAMPLE_MASK = SAMPLE_SIZE - 1;
+
+    @Param({ThrottleAlgorithms.FIXED_WINDOW, ThrottleAlgorithms.SLIDING_WINDOW, ThrottleAlgorithms.TOKEN_BUCKET})
+    public String algorithmName;
+
+    @Param({"10000"})
+    public int keys;
+
+    private int[] ranks;
+    private int[] ids;
+    private ThrottleAlgorithm algorithm;
+    private ThrottleCounterTable counterTable;
+
+    @Setup
+    public void setUp() {
+        ranks = new ZipfDistribution(keys, 1.0, 42).sample(SAMPLE_SIZE);
+        algorithm = ThrottleAlgorithms.get(algorithmName);
+        counterTable = new ThrottleCounterTable();
+        ids = new int[keys];
+        long timestamp = System.currentTimeMillis();
+        long unitTime = TimeUnit.MINUTES.toMillis(1);
+        for (int rank = 0; rank < keys; rank++) {
+            // the limits let the hot keys reach them, so that the throttled paths are measured too
+            ids[rank] = counterTable.allocate(null, rank, algorithm, 1000 + rank, unitTime, unitTime, timestamp);
+        }
+    }
+
+    /**
+     * Position of a benchmark thread in the sampled ranks.
+     */
+    @State(Scope.Thread)
+    public static class Cursor {
+        private int position = ThreadLocalRandom.current().nextInt(SAMPLE_SIZE);
+
+        int next() {
+            position = (position + 1) & SAMPLE_MASK;
+            return position;
+        }
+    }
+
+    @Benchmark
+    public boolean throttleAndCount(Cursor cursor) {
+        int id = ids[ranks[cursor.next()]];
+        long timestamp = System.currentTimeMillis();
+        boolean throttled = algorithm.isThrottled(counterTable, id, timestamp);
+        if (!throttled) {
+            algorithm.acquire(counterTable, id, timestamp);
+        }
+        return throttled;
+    }
+}
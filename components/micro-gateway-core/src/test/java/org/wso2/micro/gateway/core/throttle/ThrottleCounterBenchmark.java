@@ -0,0 +1,135 @@
+/*
+ *  Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.wso2.micro.gateway.core.throttle;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.wso2.micro.gateway.core.utils.ZipfDistribution;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the cost of counting a request on all four throttle levels with the {@link ThrottleCounterTable} against
+ * the {@link LegacyThrottleCounter} maps, for throttle keys drawn from a Zipf distribution. Run it at 1, 8 and 32
+ * threads with the benchmark profile.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class ThrottleCounterBenchmark {
+
+    private static final int SAMPLE_SIZE = 1 << 16;
+    private static final int SAMPLE_MASK = SAMPLE_SIZE - 1;
+    private static final long LIMIT = Long.MAX_VALUE;
+    private static final long UNIT_TIME = 1;
+    private static final String TIME_UNIT = "min";
+
+    /**
+     * Number of distinct applications. There are a hundred times fewer APIs and ten times fewer resources.
+     */
+    @Param({"10000"})
+    public int keys;
+
+    /**
+     * Exponent of the Zipf distribution, the larger the more requests hit the few hottest keys.
+     */
+    @Param({"0.8", "1.2"})
+    public double skew;
+
+    private int[] ranks;
+    private int[] apiKeyIds;
+    private int[] resourceKeyIds;
+    private int[] applicationKeyIds;
+    private int[] subscriptionKeyIds;
+    private String[] apiKeys;
+    private String[] resourceKeys;
+    private String[] applicationKeys;
+    private String[] subscriptionKeys;
+    private ThrottleCounter throttleCounter;
+    private LegacyThrottleCounter legacyThrottleCounter;
+
+    @Setup
+    public void setUp() {
+        ranks = new ZipfDistribution(keys, skew, 42).sample(SAMPLE_SIZE);
+        apiKeyIds = new int[keys];
+        resourceKeyIds = new int[keys];
+        applicationKeyIds = new int[keys];
+        subscriptionKeyIds = new int[keys];
+        apiKeys = new String[keys];
+        resourceKeys = new String[keys];
+        applicationKeys = new String[keys];
+        subscriptionKeys = new String[keys];
+        for (int rank = 0; rank < keys; rank++) {
+            String apiContext = "/api" + rank / 100;
+            String resourcePath = apiContext + "/resource" + rank / 10;
+            String applicationId = Integer.toString(rank);
+            apiKeyIds[rank] = ThrottleKeyRegistry.getApiKeyId(apiContext, "1.0.0");
+            resourceKeyIds[rank] = ThrottleKeyRegistry.getResourceKeyId(resourcePath, "GET");
+            applicationKeyIds[rank] = ThrottleKeyRegistry.getApplicationKeyId(applicationId, "user" + rank);
+            subscriptionKeyIds[rank] = ThrottleKeyRegistry.getSubscriptionKeyId(applicationId, apiContext);
+            apiKeys[rank] = apiContext + ":1.0.0";
+            resourceKeys[rank] = resourcePath + ":GET";
+            applicationKeys[rank] = applicationId + ":user" + rank;
+            subscriptionKeys[rank] = applicationId + ":" + apiContext;
+        }
+        throttleCounter = new ThrottleCounter();
+        legacyThrottleCounter = new LegacyThrottleCounter();
+    }
+
+    /**
+     * Position of a benchmark thread in the sampled ranks, which starts at a random offset so that the threads do
+     * not move through the same keys in lock step.
+     */
+    @State(Scope.Thread)
+    public static class Cursor {
+        private int position = ThreadLocalRandom.current().nextInt(SAMPLE_SIZE);
+
+        int next() {
+            position = (position + 1) & SAMPLE_MASK;
+            return position;
+        }
+    }
+
+    @Benchmark
+    public void counterTable(Cursor cursor) {
+        int rank = ranks[cursor.next()];
+        throttleCounter.updateCounters(apiKeyIds[rank], applicationKeyIds[rank], false, subscriptionKeyIds[rank],
+                LIMIT, UNIT_TIME, TIME_UNIT, ThrottleAlgorithms.FIXED_WINDOW, LIMIT, UNIT_TIME, TIME_UNIT,
+                ThrottleAlgorithms.FIXED_WINDOW, LIMIT, UNIT_TIME, TIME_UNIT, ThrottleAlgorithms.FIXED_WINDOW,
+                resourceKeyIds[rank], LIMIT, UNIT_TIME, TIME_UNIT, ThrottleAlgorithms.FIXED_WINDOW,
+                System.currentTimeMillis());
+    }
+
+    @Benchmark
+    public void legacyMaps(Cursor cursor) {
+        int rank = ranks[cursor.next()];
+        legacyThrottleCounter.updateCounters(apiKeys[rank], applicationKeys[rank], subscriptionKeys[rank],
+                resourceKeys[rank], LIMIT, TimeUnit.MINUTES.toMillis(UNIT_TIME), System.currentTimeMillis());
+    }
+}
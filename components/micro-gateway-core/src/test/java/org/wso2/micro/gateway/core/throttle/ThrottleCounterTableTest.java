@@ -0,0 +1,160 @@
+/*
+ *  Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.wso2.micro.gateway.core.throttle;
+
+import org.testng.Assert;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Tests for {@link ThrottleCounterTable}.
+ */
+public class ThrottleCounterTableTest {
+
+    private static final long START_TIME = 1580000040000L;
+    private static final long UNIT_TIME = TimeUnit.SECONDS.toMillis(1);
+
+    private final FixedWindowAlgorithm algorithm = new FixedWindowAlgorithm();
+    private final ThrottleKeyRegistry keyRegistry = ThrottleKeyRegistry.getSubscriptionKeys();
+    private ThrottleCounterTable counterTable;
+    private ThrottleExpiryWheel expiryWheel;
+    private ThrottleKeyIndex keyIndex;
+
+    @BeforeMethod
+    public void setUp() {
+        counterTable = new ThrottleCounterTable();
+        expiryWheel = new ThrottleExpiryWheel(counterTable, START_TIME);
+        keyIndex = new ThrottleKeyIndex(counterTable, expiryWheel, keyRegistry);
+    }
+
+    @Test
+    public void testReleasedSlotIsReusedAfterNextCleanup() {
+        int id = allocate(1);
+        counterTable.release(id);
+        int nextId = allocate(2);
+        Assert.assertNotEquals(nextId, id, "A released slot was reused before the next cleanup");
+
+        counterTable.recycleReleasedIds();
+        Assert.assertEquals(allocate(3), id);
+        Assert.assertEquals(counterTable.getKeyId(id), 3);
+        Assert.assertSame(counterTable.getOwner(id), keyIndex);
+    }
+
+    @Test
+    public void testFreedSlotIsReusedRightAway() {
+        int id = allocate(1);
+        counterTable.free(id);
+        Assert.assertNull(counterTable.getOwner(id));
+        Assert.assertEquals(allocate(2), id);
+    }
+
+    @Test
+    public void testExpiredSlotHeldByRequestIsNotHandedToAnotherKey() {
+        int expiredKeyId = newKeyId("expired");
+        int id = keyIndex.intern(expiredKeyId, algorithm, 10, UNIT_TIME, UNIT_TIME, START_TIME);
+        // a request reads the slot id of its key, and is delayed before counting against it
+        int heldId = keyIndex.getId(expiredKeyId);
+        Assert.assertEquals(heldId, id);
+        Assert.assertEquals(expiryWheel.advance(START_TIME + 3 * UNIT_TIME), 1);
+        Assert.assertEquals(keyIndex.getId(expiredKeyId), ThrottleKeyIndex.NOT_FOUND);
+
+        int keyId = newKeyId("live");
+        long timestamp = START_TIME + 3 * UNIT_TIME;
+        int liveId = keyIndex.intern(keyId, algorithm, 2, UNIT_TIME, UNIT_TIME, timestamp);
+        Assert.assertNotEquals(liveId, heldId, "The slot held by the delayed request was handed to another key");
+        counterTable.getAlgorithm(heldId).acquire(counterTable, heldId, timestamp);
+        counterTable.getAlgorithm(heldId).acquire(counterTable, heldId, timestamp);
+        Assert.assertEquals(algorithm.acquire(counterTable, liveId, timestamp), 1);
+        Assert.assertFalse(algorithm.isThrottled(counterTable, liveId, timestamp));
+    }
+
+    @Test
+    public void testConcurrentExpiryAndReallocationDoNotCountAgainstOtherKeys() throws Exception {
+        int threads = 4;
+        int keysPerThread = 64;
+        AtomicLong clock = new AtomicLong(START_TIME);
+        AtomicBoolean running = new AtomicBoolean(true);
+        AtomicInteger misdirected = new AtomicInteger();
+        AtomicInteger acquired = new AtomicInteger();
+        ExecutorService executor = Executors.newFixedThreadPool(threads + 1);
+        try {
+            Future<?>[] futures = new Future<?>[threads];
+            for (int t = 0; t < threads; t++) {
+                String prefix = "race-" + t;
+                futures[t] = executor.submit(() -> {
+                    while (running.get()) {
+                        for (int k = 0; k < keysPerThread; k++) {
+                            long timestamp = clock.get();
+                            int keyId = keyRegistry.getKeyId(prefix, Integer.toString(k));
+                            int id = keyIndex.getId(keyId);
+                            if (id == ThrottleKeyIndex.NOT_FOUND) {
+                                id = keyIndex.intern(keyId, algorithm, 1000, UNIT_TIME, UNIT_TIME, timestamp);
+                                if (id == ThrottleKeyIndex.NOT_FOUND) {
+                                    continue;
+                                }
+                            }
+                            counterTable.getAlgorithm(id).acquire(counterTable, id, timestamp);
+                            acquired.incrementAndGet();
+                            // a slot which was released is harmless, one owned by another key is counted wrongly
+                            if (counterTable.getOwner(id) == keyIndex && counterTable.getKeyId(id) != keyId
+                                    && keyRegistry.isLive(counterTable.getKeyId(id))) {
+                                misdirected.incrementAndGet();
+                            }
+                        }
+                    }
+                    return null;
+                });
+            }
+            Future<?> cleanup = executor.submit(() -> {
+                for (int round = 0; round < 50; round++) {
+                    TimeUnit.MILLISECONDS.sleep(20);
+                    // every key expires at each run, and is interned again by the next request
+                    long currentTime = clock.addAndGet(3 * UNIT_TIME);
+                    ThrottleKeyRegistry.recycleReleasedIds();
+                    counterTable.recycleReleasedIds();
+                    expiryWheel.advance(currentTime);
+                }
+                running.set(false);
+                return null;
+            });
+            cleanup.get(60, TimeUnit.SECONDS);
+            for (Future<?> future : futures) {
+                future.get(60, TimeUnit.SECONDS);
+            }
+        } finally {
+            running.set(false);
+            executor.shutdownNow();
+        }
+        Assert.assertTrue(acquired.get() > 0);
+        Assert.assertEquals(misdirected.get(), 0, "Requests were counted against the slot of another key");
+    }
+
+    private int allocate(int keyId) {
+        return counterTable.allocate(keyIndex, keyId, algorithm, 10, UNIT_TIME, UNIT_TIME, START_TIME);
+    }
+
+    private int newKeyId(String suffix) {
+        return keyRegistry.getKeyId(ThrottleCounterTableTest.class.getSimpleName(), suffix);
+    }
+}
@@ -0,0 +1,107 @@
+/*
+ *  Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.wso2.micro.gateway.core.throttle;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares a run of the cleanup task which advances the {@link ThrottleExpiryWheel} against a full scan of the live
+ * throttle keys, as the cleanup task did before the wheel. The windows of the keys start over a minute, hence a
+ * sixtieth of them is due at the measured run and both remove the same keys. The set of keys is built again for
+ * every iteration, as a run removes keys.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+public class ThrottleExpiryWheelBenchmark {
+
+    private static final long START_TIME = 1580000040000L;
+    private static final long TICK_MILLIS = ThrottleExpiryWheel.TICK_MILLIS;
+    private static final long UNIT_TIME = TimeUnit.MINUTES.toMillis(1);
+    private static final int WINDOW_TICKS = (int) (UNIT_TIME / TICK_MILLIS);
+    private static final long CLEANUP_TIME = START_TIME + UNIT_TIME + TICK_MILLIS;
+    private static final int APPLICATIONS = 1000;
+
+    /**
+     * Number of live throttle keys.
+     */
+    @Param({"1000000", "10000000"})
+    public int keys;
+
+    private final FixedWindowAlgorithm algorithm = new FixedWindowAlgorithm();
+    private String[] apiKeys;
+    private ThrottleCounterTable counterTable;
+    private ThrottleExpiryWheel expiryWheel;
+
+    @Setup(Level.Trial)
+    public void setUpKeys() {
+        apiKeys = new String[keys / APPLICATIONS];
+        for (int i = 0; i < apiKeys.length; i++) {
+            apiKeys[i] = "/api" + i + ":1.0.0";
+        }
+    }
+
+    @Setup(Level.Iteration)
+    public void setUp() {
+        ThrottleKeyRegistry.recycleReleasedIds();
+        ThrottleKeyRegistry keyRegistry = ThrottleKeyRegistry.getSubscriptionKeys();
+        counterTable = new ThrottleCounterTable();
+        expiryWheel = new ThrottleExpiryWheel(counterTable, START_TIME);
+        ThrottleKeyIndex keyIndex = new ThrottleKeyIndex(counterTable, expiryWheel, keyRegistry);
+        for (int i = 0; i < keys; i++) {
+            int keyId = keyRegistry.getKeyId(Integer.toString(i % APPLICATIONS), apiKeys[i / APPLICATIONS]);
+            long timestamp = START_TIME + (i % WINDOW_TICKS) * TICK_MILLIS;
+            keyIndex.intern(keyId, algorithm, Long.MAX_VALUE, UNIT_TIME, TICK_MILLIS, timestamp);
+        }
+        // schedules the keys, none of which has expired yet
+        expiryWheel.advance(START_TIME + UNIT_TIME);
+    }
+
+    @Benchmark
+    public int expiryWheel() {
+        return expiryWheel.advance(CLEANUP_TIME);
+    }
+
+    @Benchmark
+    public int fullScan() {
+        int removed = 0;
+        for (int id = 0; id < keys; id++) {
+            ThrottleKeyIndex owner = counterTable.getOwner(id);
+            if (owner != null && counterTable.getAlgorithm(id).isExpired(counterTable, id, CLEANUP_TIME)
+                    && owner.remove(counterTable.getKeyId(id), id)) {
+                counterTable.release(id);
+                removed++;
+            }
+        }
+        return removed;
+    }
+}
@@ -0,0 +1,123 @@
+/*
+ *  Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.wso2.micro.gateway.core.throttle;
+
+import org.testng.Assert;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Tests for {@link ThrottleExpiryWheel}.
+ */
+public class ThrottleExpiryWheelTest {
+
+    private static final long START_TIME = 1580000040000L;
+
+    private final FixedWindowAlgorithm algorithm = new FixedWindowAlgorithm();
+    private final ThrottleKeyRegistry keyRegistry = ThrottleKeyRegistry.getApplicationKeys();
+    private ThrottleCounterTable counterTable;
+    private ThrottleExpiryWheel expiryWheel;
+    private ThrottleKeyIndex keyIndex;
+    private int nextKey;
+
+    @BeforeMethod
+    public void setUp() {
+        counterTable = new ThrottleCounterTable();
+        expiryWheel = new ThrottleExpiryWheel(counterTable, START_TIME);
+        keyIndex = new ThrottleKeyIndex(counterTable, expiryWheel, keyRegistry);
+    }
+
+    @Test
+    public void testKeyIsRemovedAtTheTickItExpires() {
+        int keyId = newKeyId();
+        long unitTime = TimeUnit.MINUTES.toMillis(1);
+        int id = keyIndex.intern(keyId, algorithm, 10, unitTime, unitTime, START_TIME);
+        long expiryTime = algorithm.getExpiryTime(counterTable, id);
+        Assert.assertEquals(expiryTime, START_TIME + unitTime + 1);
+
+        Assert.assertEquals(expiryWheel.advance(expiryTime - 1), 0);
+        Assert.assertEquals(expiryWheel.size(), 1);
+        Assert.assertEquals(keyIndex.getId(keyId), id);
+        // slots are removed at the first tick at or after their expiry time
+        Assert.assertEquals(expiryWheel.advance(expiryTime + ThrottleExpiryWheel.TICK_MILLIS - 2), 0);
+        Assert.assertEquals(expiryWheel.advance(expiryTime + ThrottleExpiryWheel.TICK_MILLIS - 1), 1);
+        Assert.assertEquals(expiryWheel.size(), 0);
+        Assert.assertEquals(keyIndex.getId(keyId), ThrottleKeyIndex.NOT_FOUND);
+        Assert.assertFalse(keyRegistry.isLive(keyId), "The key id should be released with its slot");
+    }
+
+    @Test
+    public void testKeyKeptAliveIsRescheduled() {
+        int keyId = newKeyId();
+        long unitTime = TimeUnit.MINUTES.toMillis(1);
+        int id = keyIndex.intern(keyId, algorithm, 10, unitTime, unitTime, START_TIME);
+        algorithm.acquire(counterTable, id, START_TIME);
+        expiryWheel.advance(START_TIME);
+
+        // a request of the next window moves the window before the slot is due
+        algorithm.acquire(counterTable, id, START_TIME + unitTime + 1000);
+        long expiryTime = algorithm.getExpiryTime(counterTable, id);
+        Assert.assertEquals(expiryTime, START_TIME + 2 * unitTime + 1);
+        Assert.assertEquals(expiryWheel.advance(START_TIME + unitTime + 2000), 0);
+        Assert.assertEquals(keyIndex.getId(keyId), id);
+        Assert.assertEquals(expiryWheel.size(), 1);
+        Assert.assertEquals(expiryWheel.advance(expiryTime - 1), 0);
+        Assert.assertEquals(expiryWheel.advance(expiryTime + ThrottleExpiryWheel.TICK_MILLIS - 1), 1);
+        Assert.assertEquals(keyIndex.getId(keyId), ThrottleKeyIndex.NOT_FOUND);
+    }
+
+    @Test
+    public void testKeysCascadeFromHigherLevels() {
+        // the last two expire past the end of the current top level rotation, within and beyond the span of the wheel
+        long[] unitTimes = {TimeUnit.SECONDS.toMillis(30), TimeUnit.MINUTES.toMillis(10), TimeUnit.HOURS.toMillis(3),
+                TimeUnit.DAYS.toMillis(30), TimeUnit.DAYS.toMillis(185), TimeUnit.DAYS.toMillis(365)};
+        int[] keyIds = new int[unitTimes.length];
+        long[] expiryTicks = new long[unitTimes.length];
+        for (int i = 0; i < unitTimes.length; i++) {
+            keyIds[i] = newKeyId();
+            int id = keyIndex.intern(keyIds[i], algorithm, 10, unitTimes[i], 1000, START_TIME);
+            expiryTicks[i] = (algorithm.getExpiryTime(counterTable, id) + ThrottleExpiryWheel.TICK_MILLIS - 1)
+                    / ThrottleExpiryWheel.TICK_MILLIS;
+        }
+        expiryWheel.advance(START_TIME);
+        Assert.assertEquals(expiryWheel.size(), unitTimes.length);
+
+        // advance in steps of uneven length, each key has to be removed at exactly the tick it expires at
+        long tick = START_TIME / ThrottleExpiryWheel.TICK_MILLIS;
+        long lastTick = expiryTicks[unitTimes.length - 1];
+        int removed = 0;
+        while (tick < lastTick) {
+            long step = Math.min(tick % 7 + 1, lastTick - tick);
+            removed += expiryWheel.advance((tick + step) * ThrottleExpiryWheel.TICK_MILLIS);
+            tick += step;
+            for (int i = 0; i < unitTimes.length; i++) {
+                boolean live = keyIndex.getId(keyIds[i]) != ThrottleKeyIndex.NOT_FOUND;
+                if (live == tick >= expiryTicks[i]) {
+                    Assert.fail("Key of unit time " + unitTimes[i] + " is " + (live ? "live" : "removed")
+                            + " at tick " + tick + ", expected expiry at tick " + expiryTicks[i]);
+                }
+            }
+        }
+        Assert.assertEquals(removed, unitTimes.length);
+        Assert.assertEquals(expiryWheel.size(), 0);
+    }
+
+    private int newKeyId() {
+        return keyRegistry.getKeyId(ThrottleExpiryWheelTest.class.getSimpleName(), Integer.toString(nextKey++));
+    }
+}
@@ -0,0 +1,110 @@
+/*
+ *  Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.wso2.micro.gateway.core.throttle;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.wso2.micro.gateway.core.utils.ZipfDistribution;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the per request cost of looking up the application and subscription throttle key ids of a request in
+ * the {@link ThrottleKeyRegistry}, which is not cached across requests, against building and hashing the key strings
+ * as the string keyed counters did. Run it at 1, 8 and 32 threads with the benchmark profile.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class ThrottleKeyRegistryBenchmark {
+
+    private static final int SAMPLE_SIZE = 1 << 16;
+    private static final int SAMPLE_MASK = SAMPLE_SIZE - 1;
+
+    /**
+     * Number of distinct applications, each subscribed to one of a hundred times fewer APIs.
+     */
+    @Param({"10000", "1000000"})
+    public int keys;
+
+    /**
+     * Exponent of the Zipf distribution, the larger the more requests hit the few hottest keys.
+     */
+    @Param({"0.8", "1.2"})
+    public double skew;
+
+    private int[] ranks;
+    private String[] applicationIds;
+    private String[] usernames;
+    private String[] apiKeys;
+
+    @Setup
+    public void setUp() {
+        ranks = new ZipfDistribution(keys, skew, 42).sample(SAMPLE_SIZE);
+        applicationIds = new String[keys];
+        usernames = new String[keys];
+        apiKeys = new String[keys];
+        for (int rank = 0; rank < keys; rank++) {
+            applicationIds[rank] = Integer.toString(rank);
+            usernames[rank] = "user" + rank;
+            apiKeys[rank] = "/api" + rank / 100 + ":1.0.0";
+            ThrottleKeyRegistry.getApplicationKeyId(applicationIds[rank], usernames[rank]);
+            ThrottleKeyRegistry.getSubscriptionKeyId(applicationIds[rank], apiKeys[rank]);
+        }
+    }
+
+    /**
+     * Position of a benchmark thread in the sampled ranks, which starts at a random offset so that the threads do
+     * not move through the same keys in lock step.
+     */
+    @State(Scope.Thread)
+    public static class Cursor {
+        private int position = ThreadLocalRandom.current().nextInt(SAMPLE_SIZE);
+
+        int next() {
+            position = (position + 1) & SAMPLE_MASK;
+            return position;
+        }
+    }
+
+    @Benchmark
+    public void keyIds(Cursor cursor, Blackhole blackhole) {
+        int rank = ranks[cursor.next()];
+        blackhole.consume(ThrottleKeyRegistry.getApplicationKeyId(applicationIds[rank], usernames[rank]));
+        blackhole.consume(ThrottleKeyRegistry.getSubscriptionKeyId(applicationIds[rank], apiKeys[rank]));
+    }
+
+    @Benchmark
+    public void keyStrings(Cursor cursor, Blackhole blackhole) {
+        int rank = ranks[cursor.next()];
+        blackhole.consume((applicationIds[rank] + ":" + usernames[rank]).hashCode());
+        blackhole.consume((applicationIds[rank] + ":" + apiKeys[rank]).hashCode());
+    }
+}
@@ -0,0 +1,76 @@
+/*
+ *  Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.wso2.micro.gateway.core.throttle;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Tests for {@link TokenBucketAlgorithm}.
+ */
+public class TokenBucketAlgorithmTest {
+
+    private static final long UNIT_TIME = 1000;
+    private static final long START_TIME = 1580000040123L;
+
+    private final TokenBucketAlgorithm algorithm = new TokenBucketAlgorithm();
+
+    @Test
+    public void testBucketDrainsAndRefills() {
+        ThrottleCounterTable counterTable = new ThrottleCounterTable();
+        int id = counterTable.allocate(null, 0, algorithm, 3, UNIT_TIME, UNIT_TIME, START_TIME);
+        Assert.assertFalse(algorithm.isThrottled(counterTable, id, START_TIME));
+        Assert.assertEquals(algorithm.acquire(counterTable, id, START_TIME), 1);
+        Assert.assertEquals(algorithm.acquire(counterTable, id, START_TIME), 2);
+        Assert.assertEquals(algorithm.acquire(counterTable, id, START_TIME), 3);
+        Assert.assertTrue(algorithm.isThrottled(counterTable, id, START_TIME));
+        // one token is refilled every 333.3 ms
+        Assert.assertTrue(algorithm.isThrottled(counterTable, id, START_TIME + 333));
+        Assert.assertFalse(algorithm.isThrottled(counterTable, id, START_TIME + 334));
+        algorithm.acquire(counterTable, id, START_TIME + 334);
+        Assert.assertTrue(algorithm.isThrottled(counterTable, id, START_TIME + 334));
+
+        Assert.assertFalse(algorithm.isExpired(counterTable, id, START_TIME + 1333));
+        Assert.assertTrue(algorithm.isExpired(counterTable, id, START_TIME + 1334));
+        Assert.assertEquals(algorithm.getExpiryTime(counterTable, id), START_TIME + 1334);
+    }
+
+    @Test
+    public void testBoundaryOfExactEmissionIntervals() {
+        ThrottleCounterTable counterTable = new ThrottleCounterTable();
+        int id = counterTable.allocate(null, 0, algorithm, 2, UNIT_TIME, UNIT_TIME, START_TIME);
+        algorithm.acquire(counterTable, id, START_TIME);
+        algorithm.acquire(counterTable, id, START_TIME);
+        Assert.assertTrue(algorithm.isThrottled(counterTable, id, START_TIME + 499));
+        Assert.assertFalse(algorithm.isThrottled(counterTable, id, START_TIME + 500));
+    }
+
+    @Test
+    public void testLargeLimitOnLongLivedSlot() {
+        ThrottleCounterTable counterTable = new ThrottleCounterTable();
+        long limit = 1_000_000_000L;
+        int id = counterTable.allocate(null, 0, algorithm, limit, UNIT_TIME, UNIT_TIME, START_TIME);
+        long timestamp = START_TIME + TimeUnit.DAYS.toMillis(400);
+        // the elapsed time scaled by the limit alone does not fit in a long
+        Assert.assertEquals(algorithm.acquire(counterTable, id, timestamp), 1);
+        Assert.assertEquals(algorithm.acquire(counterTable, id, timestamp), 2);
+        Assert.assertFalse(algorithm.isThrottled(counterTable, id, timestamp));
+        Assert.assertFalse(algorithm.isExpired(counterTable, id, timestamp));
+        Assert.assertTrue(algorithm.isExpired(counterTable, id, timestamp + 1));
+    }
+}
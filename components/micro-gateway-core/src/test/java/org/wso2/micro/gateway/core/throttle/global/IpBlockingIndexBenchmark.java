@@ -0,0 +1,128 @@
+/*
+ *  Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.wso2.micro.gateway.core.throttle.global;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Random;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares checking a client IP against the IP range blocking conditions of a tenant with the {@link IpBlockingIndex}
+ * against a scan over all the conditions with {@link ThrottleUtils#isIpWithinRange}, as the throttle filter did
+ * before the index. Half of the client IPs are blocked. Run it at 1, 8 and 32 threads with the benchmark profile.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class IpBlockingIndexBenchmark {
+
+    private static final String TENANT = "carbon.super";
+    private static final int SAMPLE_SIZE = 1 << 12;
+    private static final int SAMPLE_MASK = SAMPLE_SIZE - 1;
+    // each condition blocks the addresses between the first and the sixteenth address of a block of 32
+    private static final int RANGE_BLOCK = 32;
+    private static final int RANGE_SIZE = 16;
+    private static final long FIRST_ADDRESS = 0x0a000000L;
+
+    /**
+     * Number of IP range blocking conditions of the tenant.
+     */
+    @Param({"100000"})
+    public int rules;
+
+    private String[] startingIps;
+    private String[] endingIps;
+    private String[] clientIps;
+
+    @Setup
+    public void setUp() {
+        startingIps = new String[rules];
+        endingIps = new String[rules];
+        for (int i = 0; i < rules; i++) {
+            long start = FIRST_ADDRESS + (long) i * RANGE_BLOCK;
+            startingIps[i] = toIp(start);
+            endingIps[i] = toIp(start + RANGE_SIZE);
+            IpBlockingIndex.addCondition(i, TENANT, IpBlockingIndex.BLOCKING_CONDITION_IP_RANGE, null, startingIps[i],
+                    endingIps[i], false);
+        }
+        IpBlockingIndex.rebuild();
+        Random random = new Random(42);
+        clientIps = new String[SAMPLE_SIZE];
+        for (int i = 0; i < SAMPLE_SIZE; i++) {
+            clientIps[i] = toIp(FIRST_ADDRESS + (long) random.nextInt(rules) * RANGE_BLOCK + 1
+                    + random.nextInt(RANGE_BLOCK - 1));
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        for (int i = 0; i < rules; i++) {
+            IpBlockingIndex.removeCondition(i);
+        }
+        IpBlockingIndex.rebuild();
+    }
+
+    /**
+     * Position of a benchmark thread in the sampled client IPs, which starts at a random offset so that the threads
+     * do not check the same IPs in lock step.
+     */
+    @State(Scope.Thread)
+    public static class Cursor {
+        private int position = ThreadLocalRandom.current().nextInt(SAMPLE_SIZE);
+
+        int next() {
+            position = (position + 1) & SAMPLE_MASK;
+            return position;
+        }
+    }
+
+    @Benchmark
+    public boolean index(Cursor cursor) {
+        return IpBlockingIndex.isBlocked(clientIps[cursor.next()], TENANT);
+    }
+
+    @Benchmark
+    public boolean scan(Cursor cursor) {
+        String clientIp = clientIps[cursor.next()];
+        for (int i = 0; i < rules; i++) {
+            if (ThrottleUtils.isIpWithinRange(clientIp, startingIps[i], endingIps[i])) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static String toIp(long address) {
+        return (address >>> 24 & 0xff) + "." + (address >>> 16 & 0xff) + "." + (address >>> 8 & 0xff) + "."
+                + (address & 0xff);
+    }
+}
@@ -0,0 +1,244 @@
+/*
+ *  Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.wso2.micro.gateway.core.throttle.global;
+
+import org.testng.Assert;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Tests for {@link IpBlockingIndex}.
+ */
+public class IpBlockingIndexTest {
+
+    private static final String TENANT = "carbon.super";
+    private static final String OTHER_TENANT = "wso2.com";
+
+    private final List<Long> conditionIds = new ArrayList<>();
+
+    @AfterMethod
+    public void tearDown() {
+        for (long id : conditionIds) {
+            IpBlockingIndex.removeCondition(id);
+        }
+        conditionIds.clear();
+        IpBlockingIndex.rebuild();
+    }
+
+    @Test
+    public void testFixedIpIsBlocked() {
+        addIp(1, TENANT, "10.0.0.5", false);
+        IpBlockingIndex.rebuild();
+
+        Assert.assertTrue(IpBlockingIndex.isBlocked("10.0.0.5", TENANT));
+        Assert.assertTrue(IpBlockingIndex.isBlocked("::ffff:10.0.0.5", TENANT));
+        Assert.assertFalse(IpBlockingIndex.isBlocked("10.0.0.4", TENANT));
+        Assert.assertFalse(IpBlockingIndex.isBlocked("10.0.0.6", TENANT));
+    }
+
+    @Test
+    public void testEndpointsOfRangeAreNotBlocked() {
+        addRange(1, TENANT, "10.0.0.1", "10.0.0.10", false);
+        IpBlockingIndex.rebuild();
+
+        Assert.assertFalse(IpBlockingIndex.isBlocked("10.0.0.1", TENANT));
+        Assert.assertTrue(IpBlockingIndex.isBlocked("10.0.0.2", TENANT));
+        Assert.assertTrue(IpBlockingIndex.isBlocked("10.0.0.9", TENANT));
+        Assert.assertFalse(IpBlockingIndex.isBlocked("10.0.0.10", TENANT));
+    }
+
+    @Test
+    public void testRangeWithoutAddressesBetweenEndpointsBlocksNothing() {
+        addRange(1, TENANT, "10.0.0.1", "10.0.0.2", false);
+        addRange(2, TENANT, "10.0.0.20", "10.0.0.10", false);
+        IpBlockingIndex.rebuild();
+
+        Assert.assertFalse(IpBlockingIndex.isBlocked("10.0.0.1", TENANT));
+        Assert.assertFalse(IpBlockingIndex.isBlocked("10.0.0.2", TENANT));
+        Assert.assertFalse(IpBlockingIndex.isBlocked("10.0.0.15", TENANT));
+    }
+
+    @Test
+    public void testOverlappingRangesAreMerged() {
+        addRange(1, TENANT, "10.0.0.0", "10.0.0.20", false);
+        addRange(2, TENANT, "10.0.0.10", "10.0.0.30", false);
+        addRange(3, TENANT, "10.0.1.0", "10.0.1.5", false);
+        addIp(4, TENANT, "10.0.0.15", false);
+        IpBlockingIndex.rebuild();
+
+        Assert.assertTrue(IpBlockingIndex.isBlocked("10.0.0.1", TENANT));
+        Assert.assertTrue(IpBlockingIndex.isBlocked("10.0.0.20", TENANT));
+        Assert.assertTrue(IpBlockingIndex.isBlocked("10.0.0.29", TENANT));
+        Assert.assertFalse(IpBlockingIndex.isBlocked("10.0.0.30", TENANT));
+        Assert.assertFalse(IpBlockingIndex.isBlocked("10.0.0.100", TENANT));
+        Assert.assertTrue(IpBlockingIndex.isBlocked("10.0.1.3", TENANT));
+        Assert.assertFalse(IpBlockingIndex.isBlocked("10.0.1.5", TENANT));
+    }
+
+    @Test
+    public void testInvertedIpBlocksEveryOtherAddress() {
+        addIp(1, TENANT, "10.0.0.5", true);
+        IpBlockingIndex.rebuild();
+
+        Assert.assertFalse(IpBlockingIndex.isBlocked("10.0.0.5", TENANT));
+        Assert.assertTrue(IpBlockingIndex.isBlocked("10.0.0.4", TENANT));
+        Assert.assertTrue(IpBlockingIndex.isBlocked("10.0.0.6", TENANT));
+        Assert.assertTrue(IpBlockingIndex.isBlocked("2001:db8::1", TENANT));
+    }
+
+    @Test
+    public void testInvertedRangeBlocksAddressesOutsideIt() {
+        addRange(1, TENANT, "10.0.0.0", "10.0.0.10", true);
+        IpBlockingIndex.rebuild();
+
+        Assert.assertFalse(IpBlockingIndex.isBlocked("10.0.0.1", TENANT));
+        Assert.assertFalse(IpBlockingIndex.isBlocked("10.0.0.9", TENANT));
+        Assert.assertTrue(IpBlockingIndex.isBlocked("10.0.0.0", TENANT));
+        Assert.assertTrue(IpBlockingIndex.isBlocked("10.0.0.10", TENANT));
+        Assert.assertTrue(IpBlockingIndex.isBlocked("192.168.1.1", TENANT));
+    }
+
+    @Test
+    public void testInvertedConditionsAllowOnlyTheirIntersection() {
+        addRange(1, TENANT, "10.0.0.0", "10.0.0.100", true);
+        addRange(2, TENANT, "10.0.0.50", "10.0.0.200", true);
+        addIp(3, TENANT, "10.0.0.70", false);
+        IpBlockingIndex.rebuild();
+
+        Assert.assertFalse(IpBlockingIndex.isBlocked("10.0.0.60", TENANT));
+        Assert.assertTrue(IpBlockingIndex.isBlocked("10.0.0.20", TENANT));
+        Assert.assertTrue(IpBlockingIndex.isBlocked("10.0.0.150", TENANT));
+        // blocked by the plain condition, although allowed by the inverted ones
+        Assert.assertTrue(IpBlockingIndex.isBlocked("10.0.0.70", TENANT));
+    }
+
+    @Test
+    public void testIpv6Conditions() {
+        addIp(1, TENANT, "2001:db8::1", false);
+        // the range crosses the boundary of the lower 64 bits
+        addRange(2, TENANT, "2001:db8:0:0:ffff:ffff:ffff:fffe", "2001:db8:0:1::1", false);
+        IpBlockingIndex.rebuild();
+
+        Assert.assertTrue(IpBlockingIndex.isBlocked("2001:DB8:0:0:0:0:0:1", TENANT));
+        Assert.assertFalse(IpBlockingIndex.isBlocked("2001:db8::2", TENANT));
+        Assert.assertFalse(IpBlockingIndex.isBlocked("2001:db8:0:0:ffff:ffff:ffff:fffe", TENANT));
+        Assert.assertTrue(IpBlockingIndex.isBlocked("2001:db8:0:0:ffff:ffff:ffff:ffff", TENANT));
+        Assert.assertTrue(IpBlockingIndex.isBlocked("2001:db8:0:1::", TENANT));
+        Assert.assertFalse(IpBlockingIndex.isBlocked("2001:db8:0:1::1", TENANT));
+        Assert.assertFalse(IpBlockingIndex.isBlocked("10.0.0.1", TENANT));
+    }
+
+    @Test
+    public void testInvalidClientIpIsTreatedAsAddressZero() {
+        addIp(1, TENANT, "0.0.0.0", false);
+        IpBlockingIndex.rebuild();
+
+        Assert.assertTrue(IpBlockingIndex.isBlocked("gateway.wso2.com", TENANT));
+    }
+
+    @Test
+    public void testInvalidConditionsAreRejected() {
+        Assert.assertFalse(IpBlockingIndex.addCondition(1, TENANT, IpBlockingIndex.BLOCKING_CONDITION_IP,
+                "10.0.0", null, null, false));
+        Assert.assertFalse(IpBlockingIndex.addCondition(1, TENANT, IpBlockingIndex.BLOCKING_CONDITION_IP_RANGE,
+                null, "10.0.0.1", "10.0.0.300", false));
+        Assert.assertFalse(IpBlockingIndex.addCondition(1, TENANT, "API", null, null, null, false));
+        IpBlockingIndex.rebuild();
+        Assert.assertFalse(IpBlockingIndex.isBlocked("10.0.0.2", TENANT));
+    }
+
+    @Test
+    public void testConditionsAreVisibleOnlyAfterRebuild() {
+        addIp(1, TENANT, "10.0.0.5", false);
+        Assert.assertFalse(IpBlockingIndex.isBlocked("10.0.0.5", TENANT));
+        IpBlockingIndex.rebuild();
+        Assert.assertTrue(IpBlockingIndex.isBlocked("10.0.0.5", TENANT));
+
+        IpBlockingIndex.removeCondition(1);
+        Assert.assertTrue(IpBlockingIndex.isBlocked("10.0.0.5", TENANT));
+        IpBlockingIndex.rebuild();
+        Assert.assertFalse(IpBlockingIndex.isBlocked("10.0.0.5", TENANT));
+    }
+
+    @Test
+    public void testConditionsArePerTenant() {
+        addIp(1, TENANT, "10.0.0.5", false);
+        addRange(2, OTHER_TENANT, "10.0.1.0", "10.0.1.10", false);
+        IpBlockingIndex.rebuild();
+
+        Assert.assertTrue(IpBlockingIndex.isBlocked("10.0.0.5", TENANT));
+        Assert.assertFalse(IpBlockingIndex.isBlocked("10.0.0.5", OTHER_TENANT));
+        Assert.assertTrue(IpBlockingIndex.isBlocked("10.0.1.5", OTHER_TENANT));
+        Assert.assertFalse(IpBlockingIndex.isBlocked("10.0.1.5", TENANT));
+        Assert.assertFalse(IpBlockingIndex.isBlocked("10.0.0.5", "unknown.com"));
+    }
+
+    @Test
+    public void testRebuildOfTenantKeepsIndexOfOtherTenants() {
+        addIp(1, TENANT, "10.0.0.5", false);
+        addIp(2, OTHER_TENANT, "10.0.0.6", false);
+        IpBlockingIndex.rebuild();
+
+        addIp(3, TENANT, "10.0.0.7", false);
+        IpBlockingIndex.rebuild();
+        Assert.assertTrue(IpBlockingIndex.isBlocked("10.0.0.5", TENANT));
+        Assert.assertTrue(IpBlockingIndex.isBlocked("10.0.0.7", TENANT));
+        Assert.assertTrue(IpBlockingIndex.isBlocked("10.0.0.6", OTHER_TENANT));
+        Assert.assertFalse(IpBlockingIndex.isBlocked("10.0.0.7", OTHER_TENANT));
+    }
+
+    @Test
+    public void testConditionMovedToAnotherTenantIsRemovedFromTheFirst() {
+        addIp(1, TENANT, "10.0.0.5", false);
+        IpBlockingIndex.rebuild();
+
+        addIp(1, OTHER_TENANT, "10.0.0.5", false);
+        IpBlockingIndex.rebuild();
+        Assert.assertFalse(IpBlockingIndex.isBlocked("10.0.0.5", TENANT));
+        Assert.assertTrue(IpBlockingIndex.isBlocked("10.0.0.5", OTHER_TENANT));
+    }
+
+    @Test
+    public void testRemovingLastConditionsRemovesTenantIndexes() {
+        addIp(1, TENANT, "10.0.0.5", false);
+        addIp(2, OTHER_TENANT, "10.0.0.5", true);
+        IpBlockingIndex.rebuild();
+        Assert.assertFalse(IpBlockingIndex.isEmpty());
+
+        Assert.assertTrue(IpBlockingIndex.removeCondition(1));
+        Assert.assertTrue(IpBlockingIndex.removeCondition(2));
+        Assert.assertFalse(IpBlockingIndex.removeCondition(2));
+        IpBlockingIndex.rebuild();
+        Assert.assertTrue(IpBlockingIndex.isEmpty());
+        Assert.assertFalse(IpBlockingIndex.isBlocked("10.0.0.5", TENANT));
+        Assert.assertFalse(IpBlockingIndex.isBlocked("10.0.0.6", OTHER_TENANT));
+    }
+
+    private void addIp(long id, String tenantDomain, String ip, boolean invert) {
+        Assert.assertTrue(IpBlockingIndex.addCondition(id, tenantDomain, IpBlockingIndex.BLOCKING_CONDITION_IP, ip,
+                null, null, invert));
+        conditionIds.add(id);
+    }
+
+    private void addRange(long id, String tenantDomain, String startingIp, String endingIp, boolean invert) {
+        Assert.assertTrue(IpBlockingIndex.addCondition(id, tenantDomain, IpBlockingIndex.BLOCKING_CONDITION_IP_RANGE,
+                null, startingIp, endingIp, invert));
+        conditionIds.add(id);
+    }
+}
@@ -0,0 +1,125 @@
+/*
+ *  Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.wso2.micro.gateway.core.throttle.global;
+
+import org.testng.Assert;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.lang.reflect.Field;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Tests for {@link ThrottleDecisionCache}.
+ */
+public class ThrottleDecisionCacheTest {
+
+    private static final String THROTTLE_KEY = "/pizzashack/1.0.0:GET";
+    private static final long RESET_AFTER = TimeUnit.MINUTES.toMillis(1);
+
+    private ThrottleDecisionCache cache;
+
+    @BeforeMethod
+    public void setUp() throws ReflectiveOperationException {
+        cache = (ThrottleDecisionCache) getField(null, "instance");
+        ((Map<?, ?>) getField(cache, "decisions")).clear();
+        for (String counter : new String[] {"hits", "misses", "expiredDecisions"}) {
+            ((LongAdder) getField(cache, counter)).reset();
+        }
+    }
+
+    @Test
+    public void testDecisionOfThrottledKey() {
+        ThrottleDecisionCache.putDecision(THROTTLE_KEY, System.currentTimeMillis() + RESET_AFTER, false);
+
+        Assert.assertEquals(ThrottleDecisionCache.getDecision(THROTTLE_KEY), ThrottleDecisionCache.THROTTLED);
+        Assert.assertEquals(ThrottleDecisionCache.getDecision("/pizzashack/1.0.0:POST"),
+                ThrottleDecisionCache.NOT_THROTTLED);
+    }
+
+    @Test
+    public void testStopOnQuotaFlagOfDecision() {
+        ThrottleDecisionCache.putDecision(THROTTLE_KEY, System.currentTimeMillis() + RESET_AFTER, true);
+        Assert.assertEquals(ThrottleDecisionCache.getDecision(THROTTLE_KEY),
+                ThrottleDecisionCache.THROTTLED_STOP_ON_QUOTA);
+
+        // a later decision of the key replaces the earlier one
+        ThrottleDecisionCache.putDecision(THROTTLE_KEY, System.currentTimeMillis() + RESET_AFTER, false);
+        Assert.assertEquals(ThrottleDecisionCache.getDecision(THROTTLE_KEY), ThrottleDecisionCache.THROTTLED);
+        Assert.assertEquals(cache.getSize(), 1);
+    }
+
+    @Test
+    public void testExpiredDecisionIsIgnoredOnRead() {
+        ThrottleDecisionCache.putDecision(THROTTLE_KEY, System.currentTimeMillis() - 1, true);
+
+        Assert.assertEquals(ThrottleDecisionCache.getDecision(THROTTLE_KEY), ThrottleDecisionCache.NOT_THROTTLED);
+        Assert.assertEquals(cache.getMisses(), 1);
+        Assert.assertEquals(cache.getHits(), 0);
+        // reads leave the removal to the sweep
+        Assert.assertEquals(cache.getSize(), 1);
+    }
+
+    @Test
+    public void testRemovedDecision() {
+        ThrottleDecisionCache.putDecision(THROTTLE_KEY, System.currentTimeMillis() + RESET_AFTER, false);
+        ThrottleDecisionCache.removeDecision(THROTTLE_KEY);
+
+        Assert.assertEquals(ThrottleDecisionCache.getDecision(THROTTLE_KEY), ThrottleDecisionCache.NOT_THROTTLED);
+        Assert.assertEquals(cache.getSize(), 0);
+    }
+
+    @Test
+    public void testSweepRemovesOnlyExpiredDecisions() {
+        long currentTime = System.currentTimeMillis();
+        ThrottleDecisionCache.putDecision("expired-1", currentTime - 1, false);
+        ThrottleDecisionCache.putDecision("expired-2", currentTime - RESET_AFTER, true);
+        ThrottleDecisionCache.putDecision("resets-now", currentTime, false);
+        ThrottleDecisionCache.putDecision("live", currentTime + RESET_AFTER, true);
+
+        Assert.assertEquals(cache.sweep(currentTime), 2);
+        Assert.assertEquals(cache.getSize(), 2);
+        Assert.assertEquals(cache.getExpiredDecisions(), 2);
+        Assert.assertEquals(ThrottleDecisionCache.getDecision("live"), ThrottleDecisionCache.THROTTLED_STOP_ON_QUOTA);
+
+        Assert.assertEquals(cache.sweep(currentTime + 1), 1);
+        Assert.assertEquals(cache.sweep(currentTime + 1), 0);
+        Assert.assertEquals(cache.getSize(), 1);
+        Assert.assertEquals(cache.getExpiredDecisions(), 3);
+    }
+
+    @Test
+    public void testHitAndMissMetrics() {
+        Assert.assertEquals(cache.getHitRate(), 0.0);
+        ThrottleDecisionCache.putDecision(THROTTLE_KEY, System.currentTimeMillis() + RESET_AFTER, false);
+        for (int i = 0; i < 3; i++) {
+            ThrottleDecisionCache.getDecision(THROTTLE_KEY);
+        }
+        ThrottleDecisionCache.getDecision("/pizzashack/1.0.0:POST");
+
+        Assert.assertEquals(cache.getHits(), 3);
+        Assert.assertEquals(cache.getMisses(), 1);
+        Assert.assertEquals(cache.getHitRate(), 0.75, 0.0001);
+    }
+
+    private static Object getField(Object target, String name) throws ReflectiveOperationException {
+        Field field = ThrottleDecisionCache.class.getDeclaredField(name);
+        field.setAccessible(true);
+        return field.get(target);
+    }
+}
@@ -0,0 +1,110 @@
+/*
+ *  Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.wso2.micro.gateway.core.throttle.global;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.math.BigInteger;
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.util.Random;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares parsing client IPs with {@link ThrottleUtils#parseIp} against {@link InetAddress#getByName} and a
+ * {@link BigInteger}, which the throttle utils used before, both for the parsed address alone and for the big integer
+ * string the throttle filter publishes. Run it at 1, 8 and 32 threads with the benchmark profile.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class ThrottleUtilsBenchmark {
+
+    private static final int SAMPLE_SIZE = 1 << 10;
+    private static final int SAMPLE_MASK = SAMPLE_SIZE - 1;
+
+    /**
+     * Version of the client IPs, IPv6 addresses are compressed.
+     */
+    @Param({"4", "6"})
+    public int version;
+
+    private String[] clientIps;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        clientIps = new String[SAMPLE_SIZE];
+        for (int i = 0; i < SAMPLE_SIZE; i++) {
+            if (version == ThrottleUtils.IP_V4) {
+                clientIps[i] = "10." + random.nextInt(256) + "." + random.nextInt(256) + "." + random.nextInt(256);
+            } else {
+                clientIps[i] = "2001:db8::" + Integer.toHexString(random.nextInt(0x10000)) + ":"
+                        + Integer.toHexString(random.nextInt(0x10000));
+            }
+        }
+    }
+
+    /**
+     * Position of a benchmark thread in the sampled client IPs, which starts at a random offset so that the threads
+     * do not parse the same IPs in lock step.
+     */
+    @State(Scope.Thread)
+    public static class Cursor {
+        private final long[] address = new long[2];
+        private int position = ThreadLocalRandom.current().nextInt(SAMPLE_SIZE);
+
+        int next() {
+            position = (position + 1) & SAMPLE_MASK;
+            return position;
+        }
+    }
+
+    @Benchmark
+    public long parseIp(Cursor cursor) {
+        ThrottleUtils.parseIp(clientIps[cursor.next()], cursor.address);
+        return cursor.address[0] ^ cursor.address[1];
+    }
+
+    @Benchmark
+    public BigInteger inetAddress(Cursor cursor) throws UnknownHostException {
+        return new BigInteger(1, InetAddress.getByName(clientIps[cursor.next()]).getAddress());
+    }
+
+    @Benchmark
+    public String ipToBigInteger(Cursor cursor) {
+        return ThrottleUtils.ipToBigInteger(clientIps[cursor.next()]);
+    }
+
+    @Benchmark
+    public String inetAddressToBigInteger(Cursor cursor) throws UnknownHostException {
+        return new BigInteger(1, InetAddress.getByName(clientIps[cursor.next()]).getAddress()).toString();
+    }
+}
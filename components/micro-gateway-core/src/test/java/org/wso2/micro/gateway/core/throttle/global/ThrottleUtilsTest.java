@@ -0,0 +1,106 @@
+/*
+ *  Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.wso2.micro.gateway.core.throttle.global;
+
+import org.testng.Assert;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+import java.math.BigInteger;
+import java.net.Inet4Address;
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+
+/**
+ * Tests for the IP address parsing of {@link ThrottleUtils}.
+ */
+public class ThrottleUtilsTest {
+
+    @DataProvider
+    public Object[][] validAddresses() {
+        return new Object[][] {
+                {"0.0.0.0"}, {"10.100.1.25"}, {"255.255.255.255"}, {"192.168.001.010"},
+                {"::"}, {"::1"}, {"1::"}, {"2001:db8::"}, {"2001:db8::ff00:42:8329"}, {"fe80::1:2"},
+                {"2001:0db8:85a3:0000:0000:8a2e:0370:7334"}, {"2001:DB8:85A3:0:0:8A2E:370:7334"},
+                {"1:2:3:4:5:6:7::"}, {"::2:3:4:5:6:7:8"}, {"ffff:ffff:ffff:ffff:ffff:ffff:ffff:ffff"},
+                {"::ffff:192.168.1.1"}, {"::ffff:c0a8:101"}, {"::192.168.1.1"}, {"64:ff9b::192.0.2.33"},
+                {"1:2:3:4:5:6:1.2.3.4"}, {"8000::"}
+        };
+    }
+
+    @DataProvider
+    public Object[][] invalidAddresses() {
+        return new Object[][] {
+                {""}, {"1.2.3"}, {"1.2.3.4.5"}, {"256.1.1.1"}, {"1..2.3"}, {"1.2.3.4."}, {".1.2.3"}, {"1.2.3.1000"},
+                {"gateway.wso2.com"}, {":"}, {":::"}, {":1::2"}, {"1::2::3"}, {"12345::"}, {"g::1"}, {"::1:"},
+                {"1:2:3:4:5:6:7:8:9"}, {"1:2:3:4:5:6:7"}, {"1:2:3:4:5:6:7::8"}, {"::ffff:1.2.3"},
+                {"1.2.3.4::"}, {"fe80::1%eth0"}
+        };
+    }
+
+    @Test(dataProvider = "validAddresses")
+    public void testParseValidAddress(String ip) throws UnknownHostException {
+        long[] address = new long[2];
+        int version = ThrottleUtils.parseIp(ip, address);
+        // a literal address is parsed by InetAddress without a lookup
+        InetAddress expected = InetAddress.getByName(ip);
+        Assert.assertEquals(version, expected instanceof Inet4Address ? ThrottleUtils.IP_V4 : ThrottleUtils.IP_V6,
+                "Unexpected version of " + ip);
+        Assert.assertEquals(toBigInteger(address), new BigInteger(1, expected.getAddress()), "Unexpected value of "
+                + ip);
+        Assert.assertEquals(ThrottleUtils.ipToBigInteger(ip), new BigInteger(1, expected.getAddress()).toString());
+    }
+
+    @Test(dataProvider = "invalidAddresses")
+    public void testParseInvalidAddress(String ip) {
+        Assert.assertEquals(ThrottleUtils.parseIp(ip, new long[2]), ThrottleUtils.INVALID_IP, ip);
+        Assert.assertEquals(ThrottleUtils.ipToLong(ip), -1);
+        Assert.assertEquals(ThrottleUtils.ipToBigInteger(ip), "0");
+    }
+
+    @Test
+    public void testIpv4MappedAddressIsIpv4() {
+        long[] address = new long[2];
+        Assert.assertEquals(ThrottleUtils.parseIp("::ffff:10.0.0.1", address), ThrottleUtils.IP_V4);
+        Assert.assertEquals(address[0], 0);
+        Assert.assertEquals(address[1], 0x0a000001L);
+        Assert.assertEquals(ThrottleUtils.ipToLong("::ffff:10.0.0.1"), ThrottleUtils.ipToLong("10.0.0.1"));
+        Assert.assertEquals(ThrottleUtils.parseIp("[::ffff:a00:1]", address), ThrottleUtils.IP_V4);
+        Assert.assertEquals(address[1], 0x0a000001L);
+        // an IPv4 compatible address is an IPv6 address
+        Assert.assertEquals(ThrottleUtils.parseIp("::10.0.0.1", address), ThrottleUtils.IP_V6);
+    }
+
+    @Test
+    public void testIpWithinRange() {
+        Assert.assertTrue(ThrottleUtils.isIpWithinRange("10.0.0.5", "10.0.0.1", "10.0.0.10"));
+        Assert.assertFalse(ThrottleUtils.isIpWithinRange("10.0.0.1", "10.0.0.1", "10.0.0.10"),
+                "The starting IP should be excluded");
+        Assert.assertFalse(ThrottleUtils.isIpWithinRange("10.0.0.10", "10.0.0.1", "10.0.0.10"),
+                "The ending IP should be excluded");
+        Assert.assertTrue(ThrottleUtils.isIpWithinRange("::ffff:10.0.0.5", "10.0.0.1", "10.0.0.10"));
+        Assert.assertTrue(ThrottleUtils.isIpWithinRange("2001:db8::1:0", "2001:db8::", "2001:db8::ffff:ffff"));
+        // addresses with the top bit set compare as unsigned numbers
+        Assert.assertTrue(ThrottleUtils.isIpWithinRange("8000::1", "::1", "ffff::"));
+        Assert.assertFalse(ThrottleUtils.isIpWithinRange("ffff::1", "::1", "8000::"));
+        Assert.assertFalse(ThrottleUtils.isIpWithinRange("not an ip", "0.0.0.0", "255.255.255.255"));
+    }
+
+    private static BigInteger toBigInteger(long[] address) {
+        return BigInteger.valueOf(address[0] >>> 1).shiftLeft(65).or(BigInteger.valueOf(address[0] & 1).shiftLeft(64))
+                .or(BigInteger.valueOf(address[1] >>> 1).shiftLeft(1)).or(BigInteger.valueOf(address[1] & 1));
+    }
+}
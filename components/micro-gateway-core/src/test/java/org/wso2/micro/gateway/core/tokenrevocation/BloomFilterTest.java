@@ -0,0 +1,109 @@
+/*
+ *  Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.wso2.micro.gateway.core.tokenrevocation;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Tests for {@link BloomFilter}.
+ */
+public class BloomFilterTest {
+
+    @Test
+    public void testCapacityIsAtLeastRequested() {
+        Assert.assertTrue(new BloomFilter(1).getCapacity() >= 1);
+        Assert.assertTrue(new BloomFilter(1000).getCapacity() >= 1000);
+        Assert.assertTrue(new BloomFilter(1024).getCapacity() >= 1024);
+        Assert.assertTrue(new BloomFilter(100000).getCapacity() >= 100000);
+    }
+
+    @Test
+    public void testAddedValuesAreContained() {
+        BloomFilter filter = new BloomFilter(10000);
+        List<String> values = newJtis(filter.getCapacity());
+        for (String value : values) {
+            filter.add(value);
+        }
+        for (String value : values) {
+            Assert.assertTrue(filter.mightContain(value), value);
+        }
+    }
+
+    @Test
+    public void testFalsePositiveRateAtCapacity() {
+        BloomFilter filter = new BloomFilter(10000);
+        for (String value : newJtis(filter.getCapacity())) {
+            filter.add(value);
+        }
+        int falsePositives = 0;
+        int lookups = 100000;
+        for (String value : newJtis(lookups)) {
+            if (filter.mightContain(value)) {
+                falsePositives++;
+            }
+        }
+        Assert.assertTrue(falsePositives < lookups * 0.02, "False positive rate of " + falsePositives / 1000.0
+                + "% is above 2%");
+    }
+
+    @Test
+    public void testConcurrentAddsAreAllContained() throws Exception {
+        BloomFilter filter = new BloomFilter(40000);
+        int threads = 4;
+        List<List<String>> values = new ArrayList<>();
+        for (int t = 0; t < threads; t++) {
+            values.add(newJtis(10000));
+        }
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (List<String> threadValues : values) {
+                futures.add(executor.submit(() -> {
+                    for (String value : threadValues) {
+                        filter.add(value);
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get(60, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        for (List<String> threadValues : values) {
+            for (String value : threadValues) {
+                Assert.assertTrue(filter.mightContain(value), value);
+            }
+        }
+    }
+
+    private static List<String> newJtis(int count) {
+        List<String> jtis = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            jtis.add(UUID.randomUUID().toString());
+        }
+        return jtis;
+    }
+}
@@ -0,0 +1,116 @@
+/*
+ *  Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.wso2.micro.gateway.core.tokenrevocation;
+
+import org.ballerinalang.jvm.values.MapValue;
+import org.ballerinalang.jvm.values.MapValueImpl;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares looking up the JTI of a request in the {@link RevokedTokenStore} against a plain map of the revoked JTIs,
+ * as the gateway kept before the store, for tokens which are not revoked and for revoked ones. Run it at 1, 8 and
+ * 32 threads with the benchmark profile.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class RevokedTokenStoreBenchmark {
+
+    private static final int SAMPLE_SIZE = 1 << 12;
+    private static final int SAMPLE_MASK = SAMPLE_SIZE - 1;
+
+    /**
+     * Number of revoked tokens.
+     */
+    @Param({"1000", "100000"})
+    public int revoked;
+
+    private String[] revokedJtis;
+    private String[] validJtis;
+    private final Map<String, String> revokedTokenMap = new ConcurrentHashMap<>();
+
+    @Setup
+    public void setUp() {
+        MapValue<String, String> tokens = new MapValueImpl<>();
+        for (int i = 0; i < revoked; i++) {
+            String jti = UUID.randomUUID().toString();
+            tokens.put(jti, "3600");
+            revokedTokenMap.put(jti, "3600");
+        }
+        RevokedTokenStore.addRevokedTokens(tokens);
+        String[] jtis = tokens.keySet().toArray(new String[0]);
+        revokedJtis = new String[SAMPLE_SIZE];
+        validJtis = new String[SAMPLE_SIZE];
+        for (int i = 0; i < SAMPLE_SIZE; i++) {
+            // the JTIs of the requests are other instances than the revoked ones, as when parsed from a token
+            revokedJtis[i] = new String(jtis[i % jtis.length].toCharArray());
+            validJtis[i] = UUID.randomUUID().toString();
+        }
+    }
+
+    /**
+     * Position of a benchmark thread in the sampled JTIs, which starts at a random offset so that the threads do not
+     * look up the same JTIs in lock step.
+     */
+    @State(Scope.Thread)
+    public static class Cursor {
+        private int position = ThreadLocalRandom.current().nextInt(SAMPLE_SIZE);
+
+        int next() {
+            position = (position + 1) & SAMPLE_MASK;
+            return position;
+        }
+    }
+
+    @Benchmark
+    public boolean storeNotRevoked(Cursor cursor) {
+        return RevokedTokenStore.isRevoked(validJtis[cursor.next()]);
+    }
+
+    @Benchmark
+    public boolean mapNotRevoked(Cursor cursor) {
+        return revokedTokenMap.containsKey(validJtis[cursor.next()]);
+    }
+
+    @Benchmark
+    public boolean storeRevoked(Cursor cursor) {
+        return RevokedTokenStore.isRevoked(revokedJtis[cursor.next()]);
+    }
+
+    @Benchmark
+    public boolean mapRevoked(Cursor cursor) {
+        return revokedTokenMap.containsKey(revokedJtis[cursor.next()]);
+    }
+}
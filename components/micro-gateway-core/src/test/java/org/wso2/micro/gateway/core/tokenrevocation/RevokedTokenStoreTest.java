@@ -0,0 +1,212 @@
+/*
+ *  Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.wso2.micro.gateway.core.tokenrevocation;
+
+import org.ballerinalang.jvm.values.MapValue;
+import org.ballerinalang.jvm.values.MapValueImpl;
+import org.testng.Assert;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Tests for {@link RevokedTokenStore}.
+ */
+public class RevokedTokenStoreTest {
+
+    private static final String TTL = "3600";
+
+    @BeforeMethod
+    public void setUp() throws ReflectiveOperationException {
+        getRevokedTokens().clear();
+        setField("filter", new BloomFilter(1024));
+        setField("lastPurgeTime", System.currentTimeMillis());
+    }
+
+    @Test
+    public void testRevokedTokenIsFound() {
+        Assert.assertTrue(RevokedTokenStore.addRevokedTokens(tokens("jti-1", TTL)));
+
+        Assert.assertTrue(RevokedTokenStore.isRevoked("jti-1"));
+        Assert.assertFalse(RevokedTokenStore.isRevoked("jti-2"));
+        Assert.assertFalse(RevokedTokenStore.isRevoked(null));
+    }
+
+    @Test
+    public void testTokenWithoutPositiveTtlNeverExpires() throws ReflectiveOperationException {
+        RevokedTokenStore.addRevokedTokens(tokens("zero", "0", "negative", "-5", "invalid", "never"));
+
+        for (String jti : new String[] {"zero", "negative", "invalid"}) {
+            Assert.assertTrue(RevokedTokenStore.isRevoked(jti), jti);
+            Assert.assertEquals(getRevokedTokens().get(jti).longValue(), Long.MAX_VALUE, jti);
+        }
+    }
+
+    @Test
+    public void testExpiredTokenIsRemovedOnLookup() throws ReflectiveOperationException {
+        RevokedTokenStore.addRevokedTokens(tokens("expired", TTL, "live", TTL));
+        getRevokedTokens().put("expired", System.currentTimeMillis() - 1);
+
+        Assert.assertFalse(RevokedTokenStore.isRevoked("expired"));
+        Assert.assertFalse(getRevokedTokens().containsKey("expired"));
+        Assert.assertTrue(RevokedTokenStore.isRevoked("live"));
+    }
+
+    @Test
+    public void testPurgeRemovesExpiredTokensAndRebuildsFilter() throws ReflectiveOperationException {
+        RevokedTokenStore.addRevokedTokens(tokens("expired", TTL, "live", TTL));
+        getRevokedTokens().put("expired", System.currentTimeMillis() - 1);
+        BloomFilter filter = getFilter();
+        Assert.assertTrue(filter.mightContain("expired"));
+
+        setField("lastPurgeTime", 0L);
+        RevokedTokenStore.addRevokedTokens(tokens("new", TTL));
+        Assert.assertFalse(getRevokedTokens().containsKey("expired"));
+        Assert.assertNotSame(getFilter(), filter, "The filter was not rebuilt after the purge");
+        Assert.assertFalse(getFilter().mightContain("expired"));
+        Assert.assertTrue(RevokedTokenStore.isRevoked("live"));
+        Assert.assertTrue(RevokedTokenStore.isRevoked("new"));
+    }
+
+    @Test
+    public void testFilterGrowsWhileAdding() throws ReflectiveOperationException {
+        int initialCapacity = getFilter().getCapacity();
+        int batches = 10;
+        int batchSize = initialCapacity / 2;
+        for (int batch = 0; batch < batches; batch++) {
+            RevokedTokenStore.addRevokedTokens(batch(batch, batchSize));
+        }
+
+        Assert.assertTrue(getFilter().getCapacity() >= batches * batchSize);
+        for (int batch = 0; batch < batches; batch++) {
+            for (int i = 0; i < batchSize; i++) {
+                Assert.assertTrue(RevokedTokenStore.isRevoked(jti(batch, i)), jti(batch, i));
+            }
+        }
+        int falsePositives = 0;
+        for (int i = 0; i < 10000; i++) {
+            if (getFilter().mightContain("not-revoked-" + i)) {
+                falsePositives++;
+            }
+        }
+        Assert.assertTrue(falsePositives < 300, falsePositives + " false positives in 10000 lookups");
+    }
+
+    @Test
+    public void testConcurrentBulkAddsDoNotHideRevokedTokens() throws Exception {
+        int preloaded = 1000;
+        RevokedTokenStore.addRevokedTokens(batch(-1, preloaded));
+        int writers = 4;
+        int batches = 20;
+        int batchSize = 200;
+        AtomicBoolean writing = new AtomicBoolean(true);
+        AtomicInteger missed = new AtomicInteger();
+        ExecutorService executor = Executors.newFixedThreadPool(writers + 2);
+        try {
+            List<Future<?>> readers = new ArrayList<>();
+            for (int r = 0; r < 2; r++) {
+                readers.add(executor.submit(() -> {
+                    // the filter is replaced while growing, which must never hide a token added before
+                    while (writing.get()) {
+                        for (int i = 0; i < preloaded; i++) {
+                            if (!RevokedTokenStore.isRevoked(jti(-1, i))) {
+                                missed.incrementAndGet();
+                            }
+                        }
+                    }
+                }));
+            }
+            List<Future<?>> futures = new ArrayList<>();
+            for (int w = 0; w < writers; w++) {
+                int writer = w;
+                futures.add(executor.submit(() -> {
+                    for (int b = 0; b < batches; b++) {
+                        int batch = writer * batches + b;
+                        RevokedTokenStore.addRevokedTokens(batch(batch, batchSize));
+                        for (int i = 0; i < batchSize; i++) {
+                            if (!RevokedTokenStore.isRevoked(jti(batch, i))) {
+                                missed.incrementAndGet();
+                            }
+                        }
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get(60, TimeUnit.SECONDS);
+            }
+            writing.set(false);
+            for (Future<?> reader : readers) {
+                reader.get(60, TimeUnit.SECONDS);
+            }
+        } finally {
+            writing.set(false);
+            executor.shutdownNow();
+        }
+        Assert.assertEquals(missed.get(), 0, "Revoked tokens were not found while tokens were added");
+        Assert.assertEquals(getRevokedTokens().size(), preloaded + writers * batches * batchSize);
+    }
+
+    private static MapValue<String, String> tokens(String... jtisAndTtls) {
+        MapValue<String, String> tokens = new MapValueImpl<>();
+        for (int i = 0; i < jtisAndTtls.length; i += 2) {
+            tokens.put(jtisAndTtls[i], jtisAndTtls[i + 1]);
+        }
+        return tokens;
+    }
+
+    private static MapValue<String, String> batch(int batch, int size) {
+        MapValue<String, String> tokens = new MapValueImpl<>();
+        for (int i = 0; i < size; i++) {
+            tokens.put(jti(batch, i), TTL);
+        }
+        return tokens;
+    }
+
+    private static String jti(int batch, int index) {
+        return "jti-" + batch + "-" + index;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Map<String, Long> getRevokedTokens() throws ReflectiveOperationException {
+        return (Map<String, Long>) getField("revokedTokens");
+    }
+
+    private static BloomFilter getFilter() throws ReflectiveOperationException {
+        return (BloomFilter) getField("filter");
+    }
+
+    private static Object getField(String name) throws ReflectiveOperationException {
+        Field field = RevokedTokenStore.class.getDeclaredField(name);
+        field.setAccessible(true);
+        return field.get(null);
+    }
+
+    private static void setField(String name, Object value) throws ReflectiveOperationException {
+        Field field = RevokedTokenStore.class.getDeclaredField(name);
+        field.setAccessible(true);
+        field.set(null, value);
+    }
+}
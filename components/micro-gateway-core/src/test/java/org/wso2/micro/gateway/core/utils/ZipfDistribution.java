@@ -0,0 +1,68 @@
+/*
+ *  Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.wso2.micro.gateway.core.utils;
+
+import java.util.Random;
+
+/**
+ * Draws ranks from a Zipf distribution, where the probability of rank {@code k} is proportional to
+ * {@code 1 / (k + 1)^exponent}. Used to model the skew of real gateway traffic, where a few API keys and tokens
+ * receive most of the requests.
+ */
+public final class ZipfDistribution {
+
+    private final double[] cumulativeProbabilities;
+    private final Random random;
+
+    public ZipfDistribution(int size, double exponent, long seed) {
+        cumulativeProbabilities = new double[size];
+        double sum = 0;
+        for (int rank = 0; rank < size; rank++) {
+            sum += 1 / Math.pow(rank + 1, exponent);
+            cumulativeProbabilities[rank] = sum;
+        }
+        for (int rank = 0; rank < size; rank++) {
+            cumulativeProbabilities[rank] /= sum;
+        }
+        random = new Random(seed);
+    }
+
+    public int next() {
+        double value = random.nextDouble();
+        int low = 0;
+        int high = cumulativeProbabilities.length - 1;
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (cumulativeProbabilities[middle] < value) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * Returns {@code count} ranks drawn from the distribution.
+     */
+    public int[] sample(int count) {
+        int[] ranks = new int[count];
+        for (int i = 0; i < count; i++) {
+            ranks[i] = next();
+        }
+        return ranks;
+    }
+}
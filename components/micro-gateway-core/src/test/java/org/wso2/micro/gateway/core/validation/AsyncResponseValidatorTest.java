@@ -0,0 +1,197 @@
+/*
+ *  Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.wso2.micro.gateway.core.validation;
+
+import org.everit.json.schema.Schema;
+import org.everit.json.schema.loader.SchemaLoader;
+import org.json.JSONObject;
+import org.testng.Assert;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.lang.reflect.Field;
+import java.net.URISyntaxException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+/**
+ * Tests for {@link AsyncResponseValidator} and the sampling of the responses to validate.
+ */
+public class AsyncResponseValidatorTest {
+
+    private static final String SERVICE_NAME = "pizzashack";
+    private static final Schema SCHEMA = SchemaLoader.load(new JSONObject("{\"type\":\"object\","
+            + "\"required\":[\"name\"],\"properties\":{\"name\":{\"type\":\"string\"}}}"));
+    private static final byte[] VALID = "{\"name\":\"Margherita\"}".getBytes(StandardCharsets.UTF_8);
+    private static final byte[] INVALID = "{\"price\":\"12.99\"}".getBytes(StandardCharsets.UTF_8);
+
+    @AfterMethod
+    public void tearDown() throws ReflectiveOperationException {
+        getSchemaRegistries().remove(SERVICE_NAME);
+        setValidateField("responseSamplingRate", 1);
+    }
+
+    @Test
+    public void testValidAndInvalidResponsesAreCounted() throws InterruptedException {
+        AsyncResponseValidator validator = new AsyncResponseValidator(2, 1024);
+        for (int i = 0; i < 3; i++) {
+            Assert.assertTrue(validator.submit("GET /menu 200", SCHEMA, VALID, VALID.length));
+        }
+        Assert.assertTrue(validator.submit("GET /menu 200", SCHEMA, INVALID, INVALID.length));
+        Assert.assertTrue(validator.submit("GET /menu 200", SCHEMA, VALID, 5));
+
+        awaitCount(validator::getValidResponses, 3);
+        awaitCount(validator::getInvalidResponses, 2);
+        awaitCount(validator::getInFlightBytes, 0);
+        Assert.assertEquals(validator.getDroppedResponses(), 0);
+    }
+
+    @Test
+    public void testPayloadIsCopiedOnSubmit() throws Exception {
+        AsyncResponseValidator validator = new AsyncResponseValidator(1, 1024);
+        CountDownLatch release = blockWorkers(validator, 1);
+        byte[] payload = VALID.clone();
+        Assert.assertTrue(validator.submit("GET /menu 200", SCHEMA, payload, payload.length));
+        // the buffer of the response is reused once the response is sent
+        payload[1] = 'x';
+        release.countDown();
+
+        awaitCount(validator::getValidResponses, 1);
+        Assert.assertEquals(validator.getInvalidResponses(), 0);
+    }
+
+    @Test
+    public void testResponsesOverInFlightLimitAreDropped() throws Exception {
+        AsyncResponseValidator validator = new AsyncResponseValidator(1, VALID.length * 2);
+        CountDownLatch release = blockWorkers(validator, 1);
+        Assert.assertTrue(validator.submit("GET /menu 200", SCHEMA, VALID, VALID.length));
+        Assert.assertTrue(validator.submit("GET /menu 200", SCHEMA, VALID, VALID.length));
+        Assert.assertFalse(validator.submit("GET /menu 200", SCHEMA, VALID, VALID.length));
+        Assert.assertFalse(validator.submit("GET /menu 200", SCHEMA, VALID, 1));
+
+        Assert.assertEquals(validator.getDroppedResponses(), 2);
+        Assert.assertEquals(validator.getInFlightBytes(), VALID.length * 2);
+        Assert.assertEquals(validator.getQueueSize(), 2);
+        release.countDown();
+
+        awaitCount(validator::getValidResponses, 2);
+        awaitCount(validator::getInFlightBytes, 0);
+        // the limit frees up once the waiting responses are validated
+        Assert.assertTrue(validator.submit("GET /menu 200", SCHEMA, VALID, VALID.length));
+        awaitCount(validator::getValidResponses, 3);
+    }
+
+    @Test
+    public void testResponsesAreDroppedWhenQueueIsFull() throws Exception {
+        AsyncResponseValidator validator = new AsyncResponseValidator(2, Long.MAX_VALUE);
+        CountDownLatch release = blockWorkers(validator, 2);
+        int queued = 0;
+        while (validator.submit("GET /menu 200", SCHEMA, VALID, VALID.length)) {
+            queued++;
+        }
+        Assert.assertEquals(validator.getQueueSize(), queued);
+        Assert.assertEquals(validator.getDroppedResponses(), 1);
+        // the bytes of the rejected response are not left in flight
+        Assert.assertEquals(validator.getInFlightBytes(), (long) queued * VALID.length);
+        Assert.assertFalse(validator.submit("GET /menu 200", SCHEMA, VALID, VALID.length));
+        Assert.assertEquals(validator.getDroppedResponses(), 2);
+        release.countDown();
+
+        awaitCount(validator::getValidResponses, queued);
+        awaitCount(validator::getInFlightBytes, 0);
+        Assert.assertEquals(validator.getInvalidResponses(), 0);
+    }
+
+    @Test
+    public void testResponsesAreSampledPerOperation() throws Exception {
+        getSchemaRegistries().put(SERVICE_NAME, SchemaRegistry.build(readDefinition("pizzashack_openapi.json")));
+        Validate.initResponseValidation(3, false, 1, 0);
+        boolean[] expected = {true, false, false, true, false, false};
+        for (boolean sampled : expected) {
+            Assert.assertEquals(Validate.isResponseSampled("/order", "POST", SERVICE_NAME), sampled);
+        }
+        Assert.assertTrue(Validate.isResponseSampled("/menu", "GET", SERVICE_NAME));
+        // operations without a response schema and unknown services are never sampled
+        Assert.assertFalse(Validate.isResponseSampled("/order/{orderId}", "PUT", SERVICE_NAME));
+        Assert.assertFalse(Validate.isResponseSampled("/order", "POST", "unknown"));
+    }
+
+    @Test
+    public void testSamplingRateBelowOneValidatesAllResponses() throws Exception {
+        getSchemaRegistries().put(SERVICE_NAME, SchemaRegistry.build(readDefinition("pizzashack_openapi.json")));
+        Validate.initResponseValidation(0, false, 1, 0);
+        for (int i = 0; i < 5; i++) {
+            Assert.assertTrue(Validate.isResponseSampled("/order", "POST", SERVICE_NAME));
+        }
+    }
+
+    /**
+     * Occupies the worker threads of the validator until the returned latch is released, so that the submitted
+     * responses wait in the queue.
+     */
+    private static CountDownLatch blockWorkers(AsyncResponseValidator validator, int threads) throws Exception {
+        Field field = AsyncResponseValidator.class.getDeclaredField("executor");
+        field.setAccessible(true);
+        ThreadPoolExecutor executor = (ThreadPoolExecutor) field.get(validator);
+        CountDownLatch started = new CountDownLatch(threads);
+        CountDownLatch release = new CountDownLatch(1);
+        for (int i = 0; i < threads; i++) {
+            executor.execute(() -> {
+                started.countDown();
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            });
+        }
+        Assert.assertTrue(started.await(10, TimeUnit.SECONDS), "The worker threads did not start");
+        return release;
+    }
+
+    private static void awaitCount(LongSupplier count, long expected) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + TimeUnit.SECONDS.toMillis(10);
+        while (count.getAsLong() != expected && System.currentTimeMillis() < deadline) {
+            Thread.sleep(5);
+        }
+        Assert.assertEquals(count.getAsLong(), expected);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Map<String, SchemaRegistry> getSchemaRegistries() throws ReflectiveOperationException {
+        Field field = Validate.class.getDeclaredField("schemaRegistries");
+        field.setAccessible(true);
+        return (Map<String, SchemaRegistry>) field.get(null);
+    }
+
+    private static void setValidateField(String name, Object value) throws ReflectiveOperationException {
+        Field field = Validate.class.getDeclaredField(name);
+        field.setAccessible(true);
+        field.set(null, value);
+    }
+
+    private static String readDefinition(String name) throws IOException, URISyntaxException {
+        return new String(Files.readAllBytes(Paths.get(AsyncResponseValidatorTest.class
+                .getResource("/validation/" + name).toURI())), StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,90 @@
+/*
+ *  Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.wso2.micro.gateway.core.validation;
+
+import org.everit.json.schema.Schema;
+import org.everit.json.schema.loader.SchemaLoader;
+import org.json.JSONObject;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares validating a request payload read from its raw bytes by {@link JsonPayloadReader} with decoding the bytes
+ * into a string and parsing the string, as the gateway did before the reader, for payloads of several sizes. Run it
+ * with the GC profiler ({@code -prof gc}) of the benchmark profile, the bytes allocated per validation are reported as
+ * {@code gc.alloc.rate.norm}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class JsonPayloadReaderBenchmark {
+
+    private static final String SCHEMA = "{\"type\":\"object\",\"required\":[\"orders\"],\"properties\":{"
+            + "\"orders\":{\"type\":\"array\",\"items\":{\"type\":\"object\",\"required\":[\"pizzaType\",\"quantity\"],"
+            + "\"properties\":{\"pizzaType\":{\"type\":\"string\"},\"quantity\":{\"type\":\"integer\",\"minimum\":1},"
+            + "\"price\":{\"type\":\"number\"},\"delivered\":{\"type\":\"boolean\"}}}}}}";
+
+    /**
+     * Number of orders in the payload, of about 100 bytes each.
+     */
+    @Param({"10", "1000"})
+    public int orders;
+
+    private byte[] payload;
+    private Schema schema;
+
+    @Setup
+    public void setUp() {
+        StringBuilder builder = new StringBuilder("{\"orders\":[");
+        for (int i = 0; i < orders; i++) {
+            if (i > 0) {
+                builder.append(',');
+            }
+            builder.append("{\"pizzaType\":\"Pepperoni ").append(i).append("\",\"quantity\":").append(i % 5 + 1)
+                    .append(",\"price\":").append(12.5 + i).append(",\"delivered\":").append(i % 2 == 0)
+                    .append(",\"customerName\":\"Jane Doe\"}");
+        }
+        payload = builder.append("]}").toString().getBytes(StandardCharsets.UTF_8);
+        schema = SchemaLoader.load(new JSONObject(SCHEMA));
+    }
+
+    @Benchmark
+    public String readBytes() {
+        return Validate.validatePayload(payload, payload.length, schema);
+    }
+
+    @Benchmark
+    public JSONObject parseString() {
+        JSONObject payloadObject = new JSONObject(new String(payload, StandardCharsets.UTF_8));
+        schema.validate(payloadObject);
+        return payloadObject;
+    }
+}
@@ -0,0 +1,103 @@
+/*
+ *  Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.wso2.micro.gateway.core.validation;
+
+import org.json.JSONArray;
+import org.json.JSONObject;
+import org.testng.Assert;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Tests for {@link JsonPayloadReader}.
+ */
+public class JsonPayloadReaderTest {
+
+    @Test
+    public void testReadObject() throws IOException {
+        JSONObject payload = (JSONObject) read("{\"name\":\"Pizza\",\"count\":42,\"id\":1099511627776,"
+                + "\"price\":14.99,\"big\":123456789012345678901234567890,\"exponent\":1e3,\"delivered\":true,"
+                + "\"paid\":false,\"note\":null,\"toppings\":[\"cheese\",{\"extra\":true}],\"address\":{}}");
+
+        Assert.assertEquals(payload.length(), 11);
+        Assert.assertEquals(payload.get("name"), "Pizza");
+        Assert.assertEquals(payload.get("count"), 42);
+        Assert.assertEquals(payload.get("id"), 1099511627776L);
+        Assert.assertEquals(payload.get("price"), 14.99);
+        Assert.assertEquals(payload.get("big").toString(), "123456789012345678901234567890");
+        Assert.assertEquals(payload.get("exponent"), 1000.0);
+        Assert.assertEquals(payload.get("delivered"), Boolean.TRUE);
+        Assert.assertEquals(payload.get("paid"), Boolean.FALSE);
+        Assert.assertTrue(payload.isNull("note"));
+        JSONArray toppings = payload.getJSONArray("toppings");
+        Assert.assertEquals(toppings.length(), 2);
+        Assert.assertEquals(toppings.get(0), "cheese");
+        Assert.assertEquals(toppings.getJSONObject(1).get("extra"), Boolean.TRUE);
+        Assert.assertEquals(payload.getJSONObject("address").length(), 0);
+    }
+
+    @Test
+    public void testReadArray() throws IOException {
+        JSONArray payload = (JSONArray) read("[1, \"two\", [3, [null]], {\"four\": 4.5}, []]");
+
+        Assert.assertEquals(payload.length(), 5);
+        Assert.assertEquals(payload.get(0), 1);
+        Assert.assertEquals(payload.get(1), "two");
+        Assert.assertEquals(payload.getJSONArray(2).get(0), 3);
+        Assert.assertTrue(payload.getJSONArray(2).getJSONArray(1).isNull(0));
+        Assert.assertEquals(payload.getJSONObject(3).get("four"), 4.5);
+        Assert.assertEquals(payload.getJSONArray(4).length(), 0);
+    }
+
+    @Test
+    public void testReadEscapedAndMultiByteStrings() throws IOException {
+        JSONObject payload = (JSONObject) read("{\"quote\":\"a \\\"b\\\"\\n\\u00e9\","
+                + "\"caf\u00e9\":\"\u2713 \ud83c\udf55\"}");
+
+        Assert.assertEquals(payload.get("quote"), "a \"b\"\n\u00e9");
+        Assert.assertEquals(payload.get("caf\u00e9"), "\u2713 \ud83c\udf55");
+    }
+
+    @Test
+    public void testReadOnlyGivenLength() throws IOException {
+        // the payload buffer may be larger than the payload it holds
+        byte[] payload = "{\"a\":1}garbage".getBytes(StandardCharsets.UTF_8);
+        JSONObject object = (JSONObject) JsonPayloadReader.read(payload, 7);
+
+        Assert.assertEquals(object.get("a"), 1);
+    }
+
+    @DataProvider
+    public Object[][] invalidPayloads() {
+        return new Object[][] {
+                {""}, {"   "}, {"42"}, {"\"text\""}, {"true"}, {"null"}, {"{}{}"}, {"[] 1"}, {"{\"a\":1} x"},
+                {"{\"a\":"}, {"{\"a\":1"}, {"[1,2"}, {"{a:1}"}, {"{'a':1}"}, {"[1,]"}, {"{\"a\" 1}"}, {"[01]"}
+        };
+    }
+
+    @Test(dataProvider = "invalidPayloads", expectedExceptions = IOException.class)
+    public void testRejectInvalidPayload(String payload) throws IOException {
+        read(payload);
+    }
+
+    private static Object read(String payload) throws IOException {
+        byte[] bytes = payload.getBytes(StandardCharsets.UTF_8);
+        return JsonPayloadReader.read(bytes, bytes.length);
+    }
+}
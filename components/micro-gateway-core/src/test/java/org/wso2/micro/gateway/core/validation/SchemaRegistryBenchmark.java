@@ -0,0 +1,131 @@
+/*
+ *  Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.wso2.micro.gateway.core.validation;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import org.everit.json.schema.Schema;
+import org.everit.json.schema.loader.SchemaLoader;
+import org.json.JSONObject;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares validating a request payload against the schema looked up in a {@link SchemaRegistry} with parsing the
+ * definition and compiling the schema for each request, as the gateway did before the registry, for definitions of
+ * several sizes. Run it at 1, 8 and 32 threads with the benchmark profile.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class SchemaRegistryBenchmark {
+
+    private static final String PAYLOAD = "{\"pizzaType\":\"Pepperoni\",\"quantity\":2,\"customerName\":\"Jane\"}";
+
+    /**
+     * Number of operations in the definition.
+     */
+    @Param({"10", "100"})
+    public int operations;
+
+    private final ObjectMapper mapper = new ObjectMapper();
+    private String definition;
+    private SchemaRegistry registry;
+
+    @Setup
+    public void setUp() throws IOException {
+        ObjectNode root = mapper.createObjectNode();
+        root.put("openapi", "3.0.1");
+        ObjectNode paths = root.putObject("paths");
+        for (int i = 0; i < operations; i++) {
+            ObjectNode operation = paths.putObject(path(i)).putObject("post");
+            operation.putObject("requestBody").put("$ref", "#/components/requestBodies/Order");
+            operation.putObject("responses").putObject("201").putObject("content").putObject("application/json")
+                    .putObject("schema").put("$ref", "#/components/schemas/Order");
+        }
+        ObjectNode components = root.putObject("components");
+        components.putObject("requestBodies").putObject("Order").putObject("content")
+                .putObject("application/json").putObject("schema").put("$ref", "#/components/schemas/Order");
+        ObjectNode order = components.putObject("schemas").putObject("Order");
+        order.put("type", "object");
+        order.putArray("required").add("pizzaType").add("quantity");
+        ObjectNode properties = order.putObject("properties");
+        properties.putObject("pizzaType").put("type", "string");
+        properties.putObject("quantity").put("type", "integer").put("minimum", 1);
+        properties.putObject("customerName").put("type", "string");
+        properties.putObject("delivered").put("type", "boolean");
+        definition = mapper.writeValueAsString(root);
+        registry = SchemaRegistry.build(definition);
+    }
+
+    /**
+     * Operation called by a benchmark thread, which starts at a random offset so that the threads do not call the
+     * same operations in lock step.
+     */
+    @State(Scope.Thread)
+    public static class Cursor {
+        private int position = -1;
+
+        int next(int operations) {
+            if (position < 0) {
+                position = ThreadLocalRandom.current().nextInt(operations);
+            }
+            position = (position + 1) % operations;
+            return position;
+        }
+    }
+
+    @Benchmark
+    public Schema registryLookup(Cursor cursor) {
+        Schema schema = registry.getRequestSchema(path(cursor.next(operations)), "POST");
+        schema.validate(new JSONObject(PAYLOAD));
+        return schema;
+    }
+
+    @Benchmark
+    public Schema compilePerRequest(Cursor cursor) throws IOException {
+        // parses the definition and compiles the schema of the operation only, as the gateway did for each request
+        JsonNode root = mapper.readTree(definition);
+        String reference = root.path("paths").path(path(cursor.next(operations))).path("post").path("requestBody")
+                .path("$ref").asText();
+        JsonNode requestBody = root.at(reference.substring(1));
+        JsonNode schemaNode = root.at(requestBody.at("/content/application~1json/schema/$ref").asText().substring(1));
+        Schema schema = SchemaLoader.load(new JSONObject(schemaNode.toString()));
+        schema.validate(new JSONObject(PAYLOAD));
+        return schema;
+    }
+
+    private static String path(int operation) {
+        return "/order" + operation;
+    }
+}
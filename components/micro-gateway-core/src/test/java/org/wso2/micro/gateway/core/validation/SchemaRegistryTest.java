@@ -0,0 +1,153 @@
+/*
+ *  Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.wso2.micro.gateway.core.validation;
+
+import org.everit.json.schema.Schema;
+import org.everit.json.schema.ValidationException;
+import org.json.JSONObject;
+import org.testng.Assert;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.net.URISyntaxException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+
+/**
+ * Tests for {@link SchemaRegistry}.
+ */
+public class SchemaRegistryTest {
+
+    private SchemaRegistry openApiRegistry;
+    private SchemaRegistry swaggerRegistry;
+
+    @BeforeClass
+    public void setUp() throws IOException, URISyntaxException {
+        openApiRegistry = SchemaRegistry.build(readDefinition("pizzashack_openapi.json"));
+        swaggerRegistry = SchemaRegistry.build(readDefinition("pizzashack_swagger.json"));
+    }
+
+    @Test
+    public void testRequestSchemaOfOperation() {
+        Assert.assertEquals(openApiRegistry.getRequestSchema("/order", "POST").getTitle(), "Order");
+        Assert.assertEquals(openApiRegistry.getRequestSchema("/order", "post").getTitle(), "Order");
+        Assert.assertEquals(openApiRegistry.getRequestSchema("/order/{orderId}", "PUT").getTitle(), "Order");
+        Assert.assertNull(openApiRegistry.getRequestSchema("/order/{orderId}", "DELETE"));
+        Assert.assertNull(openApiRegistry.getRequestSchema("/order", "PATCH"));
+        Assert.assertNull(openApiRegistry.getRequestSchema("/unknown", "POST"));
+    }
+
+    @Test
+    public void testResponseSchemaOfStatusCode() {
+        Assert.assertEquals(openApiRegistry.getResponseSchema("/order", "POST", "201").getTitle(), "Order");
+        Assert.assertEquals(openApiRegistry.getResponseSchema("/order", "POST", "400").getTitle(), "Error");
+        Assert.assertEquals(openApiRegistry.getResponseSchema("/menu", "GET", "200").getTitle(), "Menu");
+        Assert.assertNull(openApiRegistry.getResponseSchema("/order/{orderId}", "PUT", "200"));
+        Assert.assertNull(openApiRegistry.getResponseSchema("/menu", "GET", "404"));
+        Assert.assertNull(openApiRegistry.getResponseSchema("/unknown", "GET", "200"));
+    }
+
+    @Test
+    public void testResponseSchemaFallsBackToDefaultResponse() {
+        Assert.assertEquals(openApiRegistry.getResponseSchema("/order", "POST", "500").getTitle(), "Error");
+        Assert.assertEquals(openApiRegistry.getResponseSchema("/order", "POST", "404").getTitle(), "Error");
+    }
+
+    @Test
+    public void testSchemasAreCompiledOnce() throws IOException, URISyntaxException {
+        Schema requestSchema = openApiRegistry.getRequestSchema("/order", "POST");
+        Schema responseSchema = openApiRegistry.getResponseSchema("/order", "POST", "201");
+        for (int i = 0; i < 3; i++) {
+            Assert.assertSame(openApiRegistry.getRequestSchema("/order", "POST"), requestSchema);
+            Assert.assertSame(openApiRegistry.getResponseSchema("/order", "POST", "201"), responseSchema);
+        }
+        // each operation has a schema of its own, even if the definitions share a component
+        Assert.assertNotSame(openApiRegistry.getRequestSchema("/order/{orderId}", "PUT"), requestSchema);
+        Assert.assertNotSame(SchemaRegistry.build(readDefinition("pizzashack_openapi.json"))
+                .getRequestSchema("/order", "POST"), requestSchema);
+    }
+
+    @Test
+    public void testReferencesAreDereferenced() {
+        Schema schema = openApiRegistry.getRequestSchema("/order", "POST");
+        schema.validate(new JSONObject("{\"pizzaType\":\"Pepperoni\",\"quantity\":2}"));
+        assertInvalid(schema, "{\"pizzaType\":\"Pepperoni\",\"quantity\":0}");
+        assertInvalid(schema, "{\"quantity\":1}");
+
+        Schema menu = openApiRegistry.getResponseSchema("/menu", "GET", "200");
+        menu.validate(new org.json.JSONArray("[{\"name\":\"Margherita\",\"price\":\"12.99\"}]"));
+        assertInvalid(menu, "[{\"price\":\"12.99\"}]");
+    }
+
+    @Test
+    public void testRecursiveSchemaIsValidatedUpToFirstRepetition() {
+        Schema schema = openApiRegistry.getRequestSchema("/category", "POST");
+        Assert.assertEquals(schema.getTitle(), "Category");
+        schema.validate(new JSONObject("{\"name\":\"Pizza\",\"subCategories\":[{\"name\":\"Vegetarian\"}]}"));
+        assertInvalid(schema, "{\"subCategories\":[]}");
+        assertInvalid(schema, "{\"name\":\"Pizza\",\"subCategories\":{}}");
+        // the repeated reference is an empty schema, which accepts any sub category
+        schema.validate(new JSONObject("{\"name\":\"Pizza\",\"subCategories\":[{\"subCategories\":[]}]}"));
+    }
+
+    @Test
+    public void testSwaggerBodyParameterAndResponses() {
+        Assert.assertEquals(swaggerRegistry.getRequestSchema("/order", "POST").getTitle(), "Order");
+        Assert.assertEquals(swaggerRegistry.getRequestSchema("/order/{orderId}", "PUT").getTitle(), "Order");
+        Assert.assertEquals(swaggerRegistry.getResponseSchema("/order", "POST", "201").getTitle(), "Order");
+        Assert.assertEquals(swaggerRegistry.getResponseSchema("/order/{orderId}", "PUT", "200").getTitle(),
+                "Order");
+        Assert.assertNull(swaggerRegistry.getResponseSchema("/order", "POST", "500"));
+    }
+
+    @Test
+    public void testResponsesAreSampledPerOperation() throws IOException, URISyntaxException {
+        SchemaRegistry registry = SchemaRegistry.build(readDefinition("pizzashack_openapi.json"));
+        boolean[] expected = {true, false, false, true, false, false, true};
+        for (boolean sampled : expected) {
+            Assert.assertEquals(registry.sampleResponse("/order", "POST", 3), sampled);
+        }
+        // the count of each operation is separate
+        Assert.assertTrue(registry.sampleResponse("/menu", "GET", 3));
+        Assert.assertTrue(registry.sampleResponse("/menu", "GET", 1));
+        Assert.assertTrue(registry.sampleResponse("/menu", "GET", 1));
+        // operations without a response schema are never sampled
+        Assert.assertFalse(registry.sampleResponse("/order/{orderId}", "PUT", 1));
+        Assert.assertFalse(registry.sampleResponse("/unknown", "GET", 1));
+    }
+
+    @Test(expectedExceptions = IOException.class)
+    public void testInvalidDefinition() throws IOException {
+        SchemaRegistry.build("{\"openapi\": \"3.0.1\", \"paths\": {");
+    }
+
+    private static void assertInvalid(Schema schema, String payload) {
+        Object json = payload.startsWith("[") ? new org.json.JSONArray(payload) : new JSONObject(payload);
+        try {
+            schema.validate(json);
+            Assert.fail("Payload " + payload + " was not rejected");
+        } catch (ValidationException e) {
+            // expected
+        }
+    }
+
+    private static String readDefinition(String name) throws IOException, URISyntaxException {
+        return new String(Files.readAllBytes(Paths.get(SchemaRegistryTest.class.getResource("/validation/" + name)
+                .toURI())), StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,54 @@
+/*
+ *  Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package org.wso2.micro.gateway.interceptor;
+
+import java.util.concurrent.CompletionStage;
+
+/**
+ * Defines the interface for writing the gateway interceptors which do not block while they wait, for example for the
+ * payload of the message to be received. The request flow is resumed when the returned stage completes, so that the
+ * interceptor does not hold a gateway worker thread meanwhile.
+ *
+ * <p>Use the asynchronous payload accessors such as {@link Request#getJsonPayloadAsync()} from these interceptors.
+ * The {@link Caller}, {@link Request} and {@link Response} objects passed to the interceptor can be used from any
+ * thread until the returned stage completes. The stage may be completed on a transport thread, so that long running
+ * work should be handed over to an executor of the interceptor.
+ */
+public interface AsyncInterceptor {
+
+    /**
+     * Intercepts the request before forwarding the request to the back end.
+     *
+     * @param caller {@link Caller} The caller object.
+     * @param request {@link Request} The request object.
+     * @return Stage completed with whether the interceptor has completed the task completely. In order to stop the
+     * request flow from the interceptor complete it with false. The request flow is not continued if the stage
+     * completes exceptionally.
+     */
+    CompletionStage<Boolean> interceptRequest(Caller caller, Request request);
+
+    /**
+     * Intercepts the response before forwarding the response to the client.
+     *
+     * @param caller {@link Caller} The caller object.
+     * @param response {@link Response} The response object.
+     * @return Stage completed with whether the interceptor has completed the task completely. In order to stop the
+     * request flow from the interceptor complete it with false. The request flow is not continued if the stage
+     * completes exceptionally.
+     */
+    CompletionStage<Boolean> interceptResponse(Caller caller, Response response);
+}
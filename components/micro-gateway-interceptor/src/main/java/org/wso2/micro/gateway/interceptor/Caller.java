@@ -18,6 +18,7 @@ package org.wso2.micro.gateway.interceptor;
 
 import org.ballerinalang.jvm.values.MapValue;
 import org.ballerinalang.jvm.values.ObjectValue;
+import org.ballerinalang.jvm.values.api.BMap;
 
 /**
  * Representation of ballerina http:Caller object. This caller object can be used extract the dat about the client
@@ -25,9 +26,12 @@ import org.ballerinalang.jvm.values.ObjectValue;
  */
 public class Caller {
     private ObjectValue callerObj;
+    // captured while on the strand of the interceptor, so that an asynchronous interceptor can respond later
+    private BMap contextAttributes;
 
     public Caller(ObjectValue callerObj) {
         this.callerObj = callerObj;
+        this.contextAttributes = Utils.getContextAttributes();
     }
 
     /**
@@ -36,11 +40,21 @@ public class Caller {
      * If used in request interceptor then set the return value of method
      * {@link Interceptor#interceptRequest(Caller, Request)} as false.
      * If used in response interceptor then set the return value of method
-     * {@link Interceptor#interceptResponse(Caller, Response)} as false
+     * {@link Interceptor#interceptResponse(Caller, Response)} as false.
+     * If used in an {@link AsyncInterceptor}, it must be called before the returned stage is completed.
      */
     public void respond(Response response) {
-        Utils.addDataToContextAttributes(Constants.RESPOND_DONE, true);
-        Utils.addDataToContextAttributes(Constants.RESPONSE_OBJECT, response.getResponseObjectValue());
+        contextAttributes.put(Constants.RESPOND_DONE, true);
+        contextAttributes.put(Constants.RESPONSE_OBJECT, response.getResponseObjectValue());
+    }
+
+    /**
+     * Returns whether a response to the client has been set through {@link #respond(Response)}.
+     *
+     * @return true if the response is to be sent to the client from the interceptor
+     */
+    public boolean isResponded() {
+        return Boolean.TRUE.equals(contextAttributes.get(Constants.RESPOND_DONE));
     }
 
     /**
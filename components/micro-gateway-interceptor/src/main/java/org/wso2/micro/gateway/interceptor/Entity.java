@@ -39,6 +39,10 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.nio.channels.ByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
 
 /**
  * Represents the headers and body of a message. This can be used to represent both the entity of a top level message
@@ -243,6 +247,68 @@ public class Entity {
         return null;
     }
 
+    /**
+     * Extracts `json` payload from the entity without blocking until the payload is received. If the content type is
+     * not JSON, the returned stage completes exceptionally with an {@link InterceptorException}.
+     *
+     * @return Stage completed with the `json` payload of the entity, or null if the entity has no json payload.
+     */
+    public CompletionStage<JSONObject> getJsonAsync() {
+        return constructPayloadAsync(AbstractGetPayloadHandler.SourceType.JSON).thenApply(dataSource ->
+                dataSource != null ? new JSONObject(MimeUtil.getMessageAsString(dataSource)) : null);
+    }
+
+    /**
+     * Extracts `json array` payload from the entity without blocking until the payload is received. If the content
+     * type is not JSON, the returned stage completes exceptionally with an {@link InterceptorException}.
+     *
+     * @return Stage completed with the `json array` payload of the entity, or null if the entity has no json payload.
+     */
+    public CompletionStage<JSONArray> getJsonArrayAsync() {
+        return constructPayloadAsync(AbstractGetPayloadHandler.SourceType.JSON).thenApply(dataSource ->
+                dataSource != null ? new JSONArray(MimeUtil.getMessageAsString(dataSource)) : null);
+    }
+
+    /**
+     * Extracts `xml` payload from the entity without blocking until the payload is received. If the content type is
+     * not XML, the returned stage completes exceptionally with an {@link InterceptorException}.
+     *
+     * @return Stage completed with the {@link BXML} payload of the entity.
+     */
+    public CompletionStage<BXML> getXmlAsync() {
+        return constructPayloadAsync(AbstractGetPayloadHandler.SourceType.XML).thenApply(dataSource -> {
+            if (dataSource != null && !(dataSource instanceof BXML)) {
+                throw new CompletionException(new InterceptorException("Payload of the entity is not xml"));
+            }
+            return (BXML) dataSource;
+        });
+    }
+
+    /**
+     * Extracts `text` payload from the entity without blocking until the payload is received. If the content type is
+     * not text, the returned stage completes exceptionally with an {@link InterceptorException}.
+     *
+     * @return Stage completed with the `text` payload of the entity.
+     */
+    public CompletionStage<String> getTextAsync() {
+        return constructPayloadAsync(AbstractGetPayloadHandler.SourceType.TEXT).thenApply(dataSource ->
+                dataSource != null ? MimeUtil.getMessageAsString(dataSource) : null);
+    }
+
+    /**
+     * Gets the entity payload as a `byte[]` without blocking until the payload is received.
+     *
+     * @return Stage completed with the byte[] representation of the message payload
+     */
+    public CompletionStage<byte[]> getByteArrayAsync() {
+        return constructPayloadAsync(AbstractGetPayloadHandler.SourceType.BLOB).thenApply(dataSource -> {
+            if (dataSource == null || dataSource instanceof byte[]) {
+                return (byte[]) dataSource;
+            }
+            return MimeUtil.getMessageAsString(dataSource).getBytes(StandardCharsets.UTF_8);
+        });
+    }
+
     /**
      * Given an entity, gets its body parts. If the entity body is not a set of body parts an exception will be thrown.
      *
@@ -372,6 +438,32 @@ public class Entity {
         }
     }
 
+    /**
+     * Builds the payload of the entity from the inbound message without blocking. The returned future is completed
+     * with the message data source of the entity once the payload is received, on the thread which receives it.
+     */
+    private CompletableFuture<Object> constructPayloadAsync(AbstractGetPayloadHandler.SourceType type) {
+        Object dataSource = entityObj.getNativeData(MimeConstants.MESSAGE_DATA_SOURCE);
+        if (dataSource != null) {
+            // the payload has already been received and built
+            return CompletableFuture.completedFuture(dataSource);
+        }
+        PayloadCallBack callback = new PayloadCallBack();
+        try {
+            AbstractGetPayloadHandler.constructNonBlockingDataSource(callback, entityObj, type);
+        } catch (Exception e) {
+            callback.notifyFailure(e);
+        }
+        return callback.getFuture().handle((result, error) -> {
+            if (error != null) {
+                String msg = "Error while getting the payload with type : " + type.toString();
+                log.error(msg, error);
+                throw new CompletionException(new InterceptorException(msg, error));
+            }
+            return entityObj.getNativeData(MimeConstants.MESSAGE_DATA_SOURCE);
+        });
+    }
+
     private String getJsonStringPayload() throws InterceptorException {
         constructPayloadBlockingCallBack(AbstractGetPayloadHandler.SourceType.JSON);
         if (entityObj.getNativeData(MimeConstants.MESSAGE_DATA_SOURCE) != null) {
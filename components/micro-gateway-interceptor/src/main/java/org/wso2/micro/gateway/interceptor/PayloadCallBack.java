@@ -0,0 +1,69 @@
+/*
+ *  Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package org.wso2.micro.gateway.interceptor;
+
+import org.ballerinalang.jvm.scheduling.Strand;
+import org.ballerinalang.jvm.values.ErrorValue;
+import org.ballerinalang.jvm.values.connector.NonBlockingCallback;
+
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Represents a non blocking call back when request payloads are used from the asynchronous interceptors. The
+ * callback completes a future instead of resuming a strand. It is bound to a strand of its own, so that building
+ * the payload neither blocks nor resumes the strand of the interceptor, which may have been suspended already.
+ */
+class PayloadCallBack extends NonBlockingCallback {
+
+    private final CompletableFuture<Object> future = new CompletableFuture<>();
+    private volatile Object returnValue;
+
+    PayloadCallBack() {
+        // the strand is never scheduled, it only absorbs the state changes of the callback
+        super(new Strand(null));
+    }
+
+    @Override
+    public void setReturnValues(Object returnValue) {
+        this.returnValue = returnValue;
+    }
+
+    @Override
+    public void notifySuccess() {
+        if (returnValue instanceof ErrorValue) {
+            future.completeExceptionally((ErrorValue) returnValue);
+        } else {
+            future.complete(returnValue);
+        }
+    }
+
+    @Override
+    public void notifyFailure(ErrorValue error) {
+        future.completeExceptionally(error);
+    }
+
+    void notifyFailure(Throwable error) {
+        future.completeExceptionally(error);
+    }
+
+    /**
+     * Returns the future completed once the payload is built, or exceptionally if it could not be built.
+     */
+    CompletableFuture<Object> getFuture() {
+        return future;
+    }
+}
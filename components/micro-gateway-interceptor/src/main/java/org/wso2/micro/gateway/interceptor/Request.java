@@ -30,6 +30,7 @@ import org.json.JSONObject;
 import java.nio.channels.ByteChannel;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.CompletionStage;
 
 /**
  * Representation of ballerina http:Request object. Provide methods to do CRUD operations on the request object
@@ -326,6 +327,55 @@ public class Request {
         return getEntity().getByteArray();
     }
 
+    /**
+     * Extracts `json` payload from the request without blocking the thread until the payload is received. If the
+     * content type is not JSON, the returned stage completes exceptionally with an {@link InterceptorException}.
+     *
+     * @return Stage completed with the `json` {@link JSONObject} payload of the request.
+     */
+    public CompletionStage<JSONObject> getJsonPayloadAsync() {
+        return getEntity().getJsonAsync();
+    }
+
+    /**
+     * Extracts `json array` payload from the request without blocking the thread until the payload is received. If
+     * the content type is not JSON, the returned stage completes exceptionally with an {@link InterceptorException}.
+     *
+     * @return Stage completed with the `json` {@link JSONArray} payload of the request.
+     */
+    public CompletionStage<JSONArray> getJsonArrayPayloadAsync() {
+        return getEntity().getJsonArrayAsync();
+    }
+
+    /**
+     * Extracts `xml` payload from the request without blocking the thread until the payload is received. If the
+     * content type is not XML, the returned stage completes exceptionally with an {@link InterceptorException}.
+     *
+     * @return Stage completed with the {@link BXML} payload of the request.
+     */
+    public CompletionStage<BXML> getXmlPayloadAsync() {
+        return getEntity().getXmlAsync();
+    }
+
+    /**
+     * Extracts `text` payload from the request without blocking the thread until the payload is received. If the
+     * content type is not text, the returned stage completes exceptionally with an {@link InterceptorException}.
+     *
+     * @return Stage completed with the `text` payload of the request.
+     */
+    public CompletionStage<String> getTextPayloadAsync() {
+        return getEntity().getTextAsync();
+    }
+
+    /**
+     * Gets the request payload as a `byte[]` without blocking the thread until the payload is received.
+     *
+     * @return Stage completed with the byte[] representation of the message payload
+     */
+    public CompletionStage<byte[]> getBinaryPayloadAsync() {
+        return getEntity().getByteArrayAsync();
+    }
+
     /**
      * Extracts body parts from the request. If the content type is not a composite media type, an exception
      * is thrown.
@@ -26,6 +26,7 @@ import org.json.JSONArray;
 import org.json.JSONObject;
 
 import java.nio.channels.ByteChannel;
+import java.util.concurrent.CompletionStage;
 
 /**
  * Representation of ballerina http:Response object. Provide methods to do CRUD operations on the response object
@@ -227,6 +228,55 @@ public class Response {
         return getEntity().getByteArray();
     }
 
+    /**
+     * Extracts `json` payload from the response without blocking the thread until the payload is received. If the
+     * content type is not JSON, the returned stage completes exceptionally with an {@link InterceptorException}.
+     *
+     * @return Stage completed with the `json` {@link JSONObject} payload of the response.
+     */
+    public CompletionStage<JSONObject> getJsonPayloadAsync() {
+        return getEntity().getJsonAsync();
+    }
+
+    /**
+     * Extracts `json array` payload from the response without blocking the thread until the payload is received. If
+     * the content type is not JSON, the returned stage completes exceptionally with an {@link InterceptorException}.
+     *
+     * @return Stage completed with the `json` {@link JSONArray} payload of the response.
+     */
+    public CompletionStage<JSONArray> getJsonArrayPayloadAsync() {
+        return getEntity().getJsonArrayAsync();
+    }
+
+    /**
+     * Extracts `xml` payload from the response without blocking the thread until the payload is received. If the
+     * content type is not XML, the returned stage completes exceptionally with an {@link InterceptorException}.
+     *
+     * @return Stage completed with the {@link BXML} payload of the response.
+     */
+    public CompletionStage<BXML> getXmlPayloadAsync() {
+        return getEntity().getXmlAsync();
+    }
+
+    /**
+     * Extracts `text` payload from the response without blocking the thread until the payload is received. If the
+     * content type is not text, the returned stage completes exceptionally with an {@link InterceptorException}.
+     *
+     * @return Stage completed with the `text` payload of the response.
+     */
+    public CompletionStage<String> getTextPayloadAsync() {
+        return getEntity().getTextAsync();
+    }
+
+    /**
+     * Gets the response payload as a `byte[]` without blocking the thread until the payload is received.
+     *
+     * @return Stage completed with the byte[] representation of the message payload
+     */
+    public CompletionStage<byte[]> getBinaryPayloadAsync() {
+        return getEntity().getByteArrayAsync();
+    }
+
     /**
      * Extracts body parts from the response. If the content type is not a composite media type, an exception
      * is thrown.
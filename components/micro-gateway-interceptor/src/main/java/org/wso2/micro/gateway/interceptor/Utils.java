@@ -49,8 +49,15 @@ public class Utils {
     }
 
     public static void addDataToContextAttributes(String key, Object value) {
-        BMap attributesMap = (BMap) GetInvocationContext.getInvocationContext().get("attributes");
-        attributesMap.put(key, value);
+        getContextAttributes().put(key, value);
+    }
+
+    /**
+     * Returns the attributes of the invocation context of the current strand. Unlike the invocation context, the
+     * attributes map can be kept and updated from any thread after the strand has moved on.
+     */
+    static BMap getContextAttributes() {
+        return (BMap) GetInvocationContext.getInvocationContext().get("attributes");
     }
 
 
@@ -16,7 +16,10 @@
 
 
 # This method can be used to add custom logic to add revoked token to the revoked token map.
+# The revoked tokens added to the map before this method returns are added to the revoked token store of the gateway.
+# Tokens retrieved later, for example by a task started here, must be added with `gateway:addToRevokedTokenMap`.
 #
+# + revokedTokenMapReceived - map of revoked JTIs to their TTL in seconds
 function initiatePersistentRevokedTokenRetrieval(map<string> revokedTokenMapReceived) {
 
 }
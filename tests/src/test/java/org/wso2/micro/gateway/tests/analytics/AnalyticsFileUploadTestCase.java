@@ -0,0 +1,185 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.wso2.micro.gateway.tests.analytics;
+
+import org.apache.commons.io.FileUtils;
+import org.testng.Assert;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+import org.wso2.micro.gateway.core.analytics.AnalyticsFileUploader;
+import org.wso2.micro.gateway.tests.common.MockAnalyticsServer;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.HttpURLConnection;
+import java.net.Socket;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+
+/**
+ * Tests the upload of the usage data files to a mock analytics node. A single uploader thread is used, so that the
+ * order of the uploads is deterministic.
+ */
+public class AnalyticsFileUploadTestCase {
+
+    private static final int ANALYTICS_PORT = 9444;
+    private static final int MAX_RETRIES = 2;
+    private static final int MAX_DIRECTORY_SIZE_MB = 1;
+    private static final long TIMEOUT_MILLIS = TimeUnit.SECONDS.toMillis(30);
+    // longer than the first retry delay of the uploader
+    private static final long RETRY_WAIT_MILLIS = TimeUnit.SECONDS.toMillis(3);
+
+    private MockAnalyticsServer analyticsServer;
+    private Path directory;
+    private long baseTime;
+
+    @BeforeClass
+    public void start() throws Exception {
+        analyticsServer = new MockAnalyticsServer(ANALYTICS_PORT);
+        analyticsServer.start();
+        waitFor(this::isServerStarted, "Mock analytics node did not start");
+        directory = Files.createTempDirectory("api-usage-data");
+        String trustStorePath = new File(getClass().getClassLoader().getResource("wso2carbon.jks").getPath())
+                .getAbsolutePath();
+        String authorizationHeader = "Basic " + Base64.getEncoder().encodeToString("admin:admin".getBytes());
+        AnalyticsFileUploader.initAnalyticsFileUploader(directory.toString(),
+                "https://localhost:" + ANALYTICS_PORT + MockAnalyticsServer.UPLOAD_FILE_PATH, authorizationHeader,
+                trustStorePath, "wso2carbon", false, 1, MAX_RETRIES, MAX_DIRECTORY_SIZE_MB, "archive");
+    }
+
+    @AfterClass
+    public void stop() throws IOException {
+        analyticsServer.stopIt();
+        FileUtils.deleteDirectory(directory.toFile());
+    }
+
+    @BeforeMethod
+    public void clean() throws IOException {
+        FileUtils.cleanDirectory(directory.toFile());
+        analyticsServer.reset();
+        baseTime = System.currentTimeMillis() - TimeUnit.HOURS.toMillis(1);
+    }
+
+    @Test(description = "Test whether the oldest usage data files are uploaded first")
+    public void testOldestFilesAreUploadedFirst() throws Exception {
+        // the names are in the reverse order of the modification times
+        createFile("usage-e.zip", 1024, 0);
+        createFile("usage-d.zip", 1024, 1);
+        createFile("usage-c.zip", 1024, 2);
+        createFile("usage-b.zip", 1024, 3);
+        createFile("usage-a.zip", 1024, 4);
+        AnalyticsFileUploader.scheduleUploads();
+        waitFor(() -> analyticsServer.getUploadedFiles().size() == 5, "Files were not uploaded");
+        Assert.assertEquals(analyticsServer.getUploadedFiles(),
+                Arrays.asList("usage-e.zip", "usage-d.zip", "usage-c.zip", "usage-b.zip", "usage-a.zip"));
+        waitFor(() -> isEmpty(directory), "Uploaded files were not removed");
+    }
+
+    @Test(description = "Test whether an upload failed with a server error is retried")
+    public void testUploadIsRetriedAfterServerError() throws Exception {
+        createFile("usage-retried.zip", 1024, 0);
+        createFile("usage-rejected.zip", 1024, 1);
+        analyticsServer.failUploads("usage-retried.zip", HttpURLConnection.HTTP_UNAVAILABLE, 1);
+        analyticsServer.failUploads("usage-rejected.zip", HttpURLConnection.HTTP_BAD_REQUEST, 1);
+        AnalyticsFileUploader.scheduleUploads();
+        waitFor(() -> analyticsServer.getUploadedFiles().contains("usage-retried.zip"),
+                "File was not uploaded after the server error");
+        Assert.assertEquals(analyticsServer.getAttempts("usage-retried.zip"), 2);
+        waitFor(() -> !Files.exists(directory.resolve("usage-retried.zip")), "Uploaded file was not removed");
+
+        // a client error is not retried, and the file is kept for the next scan
+        TimeUnit.MILLISECONDS.sleep(RETRY_WAIT_MILLIS);
+        Assert.assertEquals(analyticsServer.getAttempts("usage-rejected.zip"), 1);
+        Assert.assertTrue(Files.exists(directory.resolve("usage-rejected.zip")));
+        AnalyticsFileUploader.scheduleUploads();
+        waitFor(() -> analyticsServer.getUploadedFiles().contains("usage-rejected.zip"),
+                "File was not uploaded by the next scan");
+        Assert.assertEquals(analyticsServer.getAttempts("usage-rejected.zip"), 2);
+    }
+
+    @Test(description = "Test whether a file is kept once the maximum number of retries is reached")
+    public void testFileIsKeptAfterMaxRetries() throws Exception {
+        createFile("usage-failing.zip", 1024, 0);
+        analyticsServer.failUploads("usage-failing.zip", HttpURLConnection.HTTP_INTERNAL_ERROR, MAX_RETRIES + 1);
+        AnalyticsFileUploader.scheduleUploads();
+        waitFor(() -> analyticsServer.getAttempts("usage-failing.zip") == MAX_RETRIES + 1,
+                "Upload was not retried up to the maximum number of retries");
+        TimeUnit.MILLISECONDS.sleep(RETRY_WAIT_MILLIS);
+        Assert.assertEquals(analyticsServer.getAttempts("usage-failing.zip"), MAX_RETRIES + 1);
+        Assert.assertTrue(Files.exists(directory.resolve("usage-failing.zip")));
+        Assert.assertTrue(analyticsServer.getUploadedFiles().isEmpty());
+
+        AnalyticsFileUploader.scheduleUploads();
+        waitFor(() -> analyticsServer.getUploadedFiles().contains("usage-failing.zip"),
+                "File was not uploaded by the next scan");
+    }
+
+    @Test(description = "Test whether the oldest files are moved to the archive directory above the maximum size")
+    public void testOldestFilesAreArchivedAboveMaximumSize() throws Exception {
+        int size = 400 * 1024;
+        createFile("usage-1.zip", size, 0);
+        createFile("usage-2.zip", size, 1);
+        createFile("usage-3.zip", size, 2);
+        createFile("usage-4.zip", size, 3);
+        // 1.6 MB exceeds the maximum size of 1 MB until the two oldest files are removed
+        AnalyticsFileUploader.scheduleUploads();
+        Path archiveDirectory = directory.resolve("archive");
+        Assert.assertTrue(Files.exists(archiveDirectory.resolve("usage-1.zip")));
+        Assert.assertTrue(Files.exists(archiveDirectory.resolve("usage-2.zip")));
+        waitFor(() -> analyticsServer.getUploadedFiles().size() == 2, "Files were not uploaded");
+        Assert.assertEquals(analyticsServer.getUploadedFiles(), Arrays.asList("usage-3.zip", "usage-4.zip"));
+        Assert.assertEquals(analyticsServer.getAttempts("usage-1.zip"), 0);
+        Assert.assertEquals(analyticsServer.getAttempts("usage-2.zip"), 0);
+    }
+
+    private void createFile(String name, int size, int minute) throws IOException {
+        byte[] content = new byte[size];
+        new Random(size).nextBytes(content);
+        Path path = Files.write(directory.resolve(name), content);
+        Files.setLastModifiedTime(path, FileTime.fromMillis(baseTime + TimeUnit.MINUTES.toMillis(minute)));
+    }
+
+    private boolean isServerStarted() {
+        try (Socket ignored = new Socket("localhost", ANALYTICS_PORT)) {
+            return true;
+        } catch (IOException e) {
+            return false;
+        }
+    }
+
+    private static boolean isEmpty(Path directory) {
+        String[] files = directory.toFile().list();
+        return files != null && files.length == 0;
+    }
+
+    private static void waitFor(BooleanSupplier condition, String message) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + TIMEOUT_MILLIS;
+        while (!condition.getAsBoolean()) {
+            Assert.assertTrue(System.currentTimeMillis() < deadline, message);
+            TimeUnit.MILLISECONDS.sleep(100);
+        }
+    }
+}
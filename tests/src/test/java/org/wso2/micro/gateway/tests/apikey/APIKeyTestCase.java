@@ -27,14 +27,24 @@ import org.testng.annotations.BeforeClass;
 import org.testng.annotations.Test;
 import org.wso2.micro.gateway.tests.common.BaseTestCase;
 import org.wso2.micro.gateway.tests.common.model.ApplicationDTO;
+import org.wso2.micro.gateway.tests.util.ClientHelper;
 import org.wso2.micro.gateway.tests.util.HttpClientRequest;
 import org.wso2.micro.gateway.tests.util.HttpResponse;
 import org.wso2.micro.gateway.tests.util.TestConstant;
 import org.wso2.micro.gateway.tests.util.TokenUtil;
 
+import java.nio.charset.StandardCharsets;
 import java.util.Base64;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import javax.jms.Connection;
+import javax.jms.ConnectionFactory;
+import javax.jms.MapMessage;
+import javax.jms.MessageProducer;
+import javax.jms.Session;
+import javax.jms.Topic;
+import javax.naming.InitialContext;
 
 public class APIKeyTestCase extends BaseTestCase {
     private String apikey;
@@ -62,20 +72,7 @@ public class APIKeyTestCase extends BaseTestCase {
 
     @Test(description = "Test to check jwt token is issued successfully")
     private void APIKeyIssueTest() throws Exception {
-
-        String originalInput = "generalUser1:password";
-        String basicAuthToken = Base64.getEncoder().encodeToString(originalInput.getBytes());
-
-        Map<String, String> headers = new HashMap<>();
-        //get token from token endpoint
-        headers.put(HttpHeaderNames.AUTHORIZATION.toString(), "Basic " + basicAuthToken);
-        HttpResponse response = HttpClientRequest
-                .doGet("https://localhost:" + TestConstant.GATEWAY_LISTENER_HTTPS_PORT + "/apikey", headers);
-
-        Assert.assertNotNull(response);
-        Assert.assertEquals(response.getResponseCode(), HttpStatus.SC_OK, "Response code mismatched");
-
-        apikey = response.getData();
+        apikey = issueAPIKey();
     }
 
     @Test(description = "Test to check the apikey auth working", dependsOnMethods = "APIKeyIssueTest")
@@ -144,6 +141,76 @@ public class APIKeyTestCase extends BaseTestCase {
         Assert.assertEquals(response.getResponseCode(), HttpStatus.SC_FORBIDDEN, "Response code mismatched");
     }
 
+    @Test(description = "Test to check an api key found in the api key cache is rejected once it is revoked",
+            dependsOnMethods = "APIKeyIssueTest")
+    private void invokeRevokedAPIKeyTest() throws Exception {
+        // a key of its own, so that revoking it does not affect the other tests
+        String revokedAPIKey = issueAPIKey();
+        Map<String, String> headers = new HashMap<>();
+        headers.put("api_key", revokedAPIKey);
+        // the first request verifies the key and adds it to the api key cache, the second one finds it there
+        for (int i = 0; i < 2; i++) {
+            HttpResponse response = HttpClientRequest.doGet(getServiceURLHttp("petstore/v1/pet/1"), headers);
+            Assert.assertEquals(response.getResponseCode(), HttpStatus.SC_OK, "Response code mismatched");
+        }
+
+        publishRevokedToken(getJti(revokedAPIKey));
+        // the revocation event is received asynchronously
+        int responseCode = HttpStatus.SC_OK;
+        long deadline = System.currentTimeMillis() + TimeUnit.SECONDS.toMillis(30);
+        while (responseCode == HttpStatus.SC_OK && System.currentTimeMillis() < deadline) {
+            TimeUnit.MILLISECONDS.sleep(500);
+            responseCode = HttpClientRequest.doGet(getServiceURLHttp("petstore/v1/pet/1"), headers)
+                    .getResponseCode();
+        }
+        Assert.assertEquals(responseCode, HttpStatus.SC_UNAUTHORIZED, "Revoked api key was accepted");
+    }
+
+    private String issueAPIKey() throws Exception {
+        String originalInput = "generalUser1:password";
+        String basicAuthToken = Base64.getEncoder().encodeToString(originalInput.getBytes());
+
+        Map<String, String> headers = new HashMap<>();
+        //get token from token endpoint
+        headers.put(HttpHeaderNames.AUTHORIZATION.toString(), "Basic " + basicAuthToken);
+        HttpResponse response = HttpClientRequest
+                .doGet("https://localhost:" + TestConstant.GATEWAY_LISTENER_HTTPS_PORT + "/apikey", headers);
+
+        Assert.assertNotNull(response);
+        Assert.assertEquals(response.getResponseCode(), HttpStatus.SC_OK, "Response code mismatched");
+        return response.getData();
+    }
+
+    private static String getJti(String apiKey) {
+        String payload = apiKey.split("\\.")[1];
+        return new JSONObject(new String(Base64.getUrlDecoder().decode(payload), StandardCharsets.UTF_8))
+                .getString("jti");
+    }
+
+    /**
+     * Publishes the jti to the token revocation topic the gateway subscribes to.
+     */
+    private static void publishRevokedToken(String jti) throws Exception {
+        String topicName = "tokenRevocation";
+        InitialContext initialContext = ClientHelper.getInitialContextBuilder("admin", "admin",
+                "localhost", "5672").withTopic(topicName).build();
+        ConnectionFactory connectionFactory = (ConnectionFactory) initialContext
+                .lookup(ClientHelper.CONNECTION_FACTORY);
+        Connection connection = connectionFactory.createConnection();
+        try {
+            connection.start();
+            Session session = connection.createSession(false, Session.AUTO_ACKNOWLEDGE);
+            Topic topic = (Topic) initialContext.lookup(topicName);
+            MessageProducer producer = session.createProducer(topic);
+            MapMessage message = session.createMapMessage();
+            message.setString("revokedToken", jti);
+            message.setString("ttl", "3600");
+            producer.send(message);
+        } finally {
+            connection.close();
+        }
+    }
+
     @AfterClass
     public void stop() throws Exception {
         //Stop all the mock servers
@@ -35,6 +35,8 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * APIM Publisher mock class
@@ -44,6 +46,7 @@ public class MockAPIPublisher {
     private Map<String, List<API>> apis;
     private Map<String, API> apiMap;
     private Map<String, KeyValidationInfo> tokenInfo;
+    private Map<String, AtomicInteger> keyValidationCounts = new ConcurrentHashMap<>();
     private static MockAPIPublisher instance;
     private static List<SubscriptionPolicy> subscriptionPolicies;
     private static List<ApplicationPolicy> applicationPolicies;
@@ -185,8 +188,18 @@ public class MockAPIPublisher {
         }
     }
 
+    public void recordKeyValidation(String token) {
+        keyValidationCounts.computeIfAbsent(token, key -> new AtomicInteger()).incrementAndGet();
+    }
+
+    public int getKeyValidationCount(String token) {
+        AtomicInteger count = keyValidationCounts.get(token);
+        return count == null ? 0 : count.get();
+    }
+
     public void clear() {
         tokenInfo.clear();
+        keyValidationCounts.clear();
         apis.clear();
         subscriptionPolicies.clear();
         applicationPolicies.clear();
@@ -0,0 +1,119 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.wso2.micro.gateway.tests.common;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpsServer;
+import org.apache.commons.io.IOUtils;
+
+import java.io.IOException;
+import java.net.HttpURLConnection;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Mock analytics node receiving the usage data files uploaded by the gateway. An upload can be made to fail with a
+ * given status code for a number of attempts.
+ */
+public class MockAnalyticsServer extends MockHttpServer {
+
+    public static final String UPLOAD_FILE_PATH = "/analytics/v1.0/usage/upload-file";
+
+    private final List<String> uploadedFiles = new CopyOnWriteArrayList<>();
+    private final Map<String, AtomicInteger> attempts = new ConcurrentHashMap<>();
+    private final Map<String, Failure> failures = new ConcurrentHashMap<>();
+
+    public MockAnalyticsServer(int port) {
+
+        super(port);
+    }
+
+    @Override
+    protected void addContexts(HttpsServer httpServer) {
+
+        httpServer.createContext(UPLOAD_FILE_PATH, this::receiveFile);
+    }
+
+    private void receiveFile(HttpExchange exchange) throws IOException {
+
+        String fileName = exchange.getRequestHeaders().getFirst("FileName");
+        String body = IOUtils.toString(exchange.getRequestBody(), StandardCharsets.UTF_8);
+        attempts.computeIfAbsent(fileName, name -> new AtomicInteger()).incrementAndGet();
+        Failure failure = failures.get(fileName);
+        int statusCode = HttpURLConnection.HTTP_CREATED;
+        if (failure != null && failure.remaining.getAndDecrement() > 0) {
+            statusCode = failure.statusCode;
+        } else if (body.contains("filename=\"" + fileName + "\"")) {
+            uploadedFiles.add(fileName);
+        } else {
+            statusCode = HttpURLConnection.HTTP_BAD_REQUEST;
+        }
+        exchange.sendResponseHeaders(statusCode, -1);
+        exchange.close();
+    }
+
+    /**
+     * Responds to the next uploads of the file with the given status code.
+     *
+     * @param fileName   name of the uploaded file
+     * @param statusCode status code of the response
+     * @param times      number of uploads failed
+     */
+    public void failUploads(String fileName, int statusCode, int times) {
+
+        failures.put(fileName, new Failure(statusCode, times));
+    }
+
+    /**
+     * Returns the names of the files accepted, in the order they were received.
+     */
+    public List<String> getUploadedFiles() {
+
+        return new ArrayList<>(uploadedFiles);
+    }
+
+    public int getAttempts(String fileName) {
+
+        AtomicInteger count = attempts.get(fileName);
+        return count == null ? 0 : count.get();
+    }
+
+    public void reset() {
+
+        uploadedFiles.clear();
+        attempts.clear();
+        failures.clear();
+    }
+
+    private static final class Failure {
+
+        private final int statusCode;
+        private final AtomicInteger remaining;
+
+        private Failure(int statusCode, int times) {
+
+            this.statusCode = statusCode;
+            this.remaining = new AtomicInteger(times);
+        }
+    }
+}
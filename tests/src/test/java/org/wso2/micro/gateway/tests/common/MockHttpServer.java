@@ -1,7 +1,8 @@
 package org.wso2.micro.gateway.tests.common;
 
 import com.google.gson.Gson;
-import com.google.gson.JsonObject;
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
 import com.google.gson.JsonParser;
 import com.sun.net.httpserver.HttpExchange;
 import com.sun.net.httpserver.HttpHandler;
@@ -31,6 +32,8 @@ import java.security.KeyStore;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.zip.GZIPInputStream;
 import javax.jms.JMSException;
 import javax.naming.NamingException;
 import javax.net.ssl.KeyManagerFactory;
@@ -93,6 +96,8 @@ public class MockHttpServer extends Thread {
     public final static String ECHO_ENDPOINT_RESPONSE_FOR_INVALID_REQUEST = "{\"fault\":{\"code\":900915, " +
             "\"message\":\"Unprocessable entity\", \"description\":\"44 is not the type, string\"}}";
     int count = 0;
+    private final AtomicInteger throttleEventBatches = new AtomicInteger();
+    private final AtomicInteger compressedThrottleEventBatches = new AtomicInteger();
 
     public static void main(String[] args) {
 
@@ -171,21 +176,35 @@ public class MockHttpServer extends Thread {
             });
             httpServer.createContext(TMRestAPIBasePath + "/throttleEventReceiver", new HttpHandler() {
                 public void handle(HttpExchange exchange) throws IOException {
-                    String jsonRequest = IOUtils.toString(exchange.getRequestBody());
-                    if (count == 9 || count == 19 || count == 29 || count == 39 || count == 49) {
-                        JsonParser jsonParser = new JsonParser();
-                        JsonObject jsonObject = (JsonObject) jsonParser.parse(jsonRequest);
-                        JMSPublisher jmsPublisher = new JMSPublisher();
-
-                        try {
-                            jmsPublisher.getJson(jsonObject);
-                        } catch (JMSException e) {
-                            log.error("Error occurred while sending throttle event to TM", e);
-                        } catch (NamingException e) {
-                            log.error("Error occurred while sending throttle event to TM", e);
+                    InputStream requestBody = exchange.getRequestBody();
+                    throttleEventBatches.incrementAndGet();
+                    if ("gzip".equalsIgnoreCase(exchange.getRequestHeaders().getFirst("Content-Encoding"))) {
+                        compressedThrottleEventBatches.incrementAndGet();
+                        requestBody = new GZIPInputStream(requestBody);
+                    }
+                    String jsonRequest = IOUtils.toString(requestBody);
+                    // events are published in batches as a json array
+                    JsonElement jsonElement = new JsonParser().parse(jsonRequest);
+                    JsonArray events = new JsonArray();
+                    if (jsonElement.isJsonArray()) {
+                        events = jsonElement.getAsJsonArray();
+                    } else {
+                        events.add(jsonElement);
+                    }
+                    for (JsonElement event : events) {
+                        if (count == 9 || count == 19 || count == 29 || count == 39 || count == 49) {
+                            JMSPublisher jmsPublisher = new JMSPublisher();
+
+                            try {
+                                jmsPublisher.getJson(event.getAsJsonObject());
+                            } catch (JMSException e) {
+                                log.error("Error occurred while sending throttle event to TM", e);
+                            } catch (NamingException e) {
+                                log.error("Error occurred while sending throttle event to TM", e);
+                            }
                         }
+                        count++;
                     }
-                    count++;
                     byte[] response = jsonRequest.toString().getBytes();
                     exchange.sendResponseHeaders(HttpURLConnection.HTTP_OK, response.length);
                     exchange.getResponseBody().write(response);
@@ -288,6 +307,7 @@ public class MockHttpServer extends Thread {
                         DocumentBuilder builder = factory.newDocumentBuilder();
                         Document doc = builder.parse(new ByteArrayInputStream(xmlRequest.toString().getBytes("UTF-8")));
                         token = doc.getElementsByTagName("xsd:accessToken").item(0).getTextContent();
+                        MockAPIPublisher.getInstance().recordKeyValidation(token);
 
                         byte[] xmlResponse = MockAPIPublisher.getInstance().getKeyValidationResponseForToken(token)
                                 .getBytes();
@@ -339,6 +359,7 @@ public class MockHttpServer extends Thread {
                     exchange.close();
                 }
             });
+            addContexts(httpServer);
             httpServer.start();
             KMServerUrl = "http://localhost:" + KMServerPort;
         } catch (IOException e) {
@@ -350,11 +371,30 @@ public class MockHttpServer extends Thread {
 
     }
 
+    /**
+     * Adds the contexts of a mock server extending this one, before the server is started.
+     *
+     * @param httpServer server the contexts are added to
+     */
+    protected void addContexts(HttpsServer httpServer) {
+
+    }
+
     public void stopIt() {
 
         httpServer.stop(0);
     }
 
+    public int getThrottleEventBatches() {
+
+        return throttleEventBatches.get();
+    }
+
+    public int getCompressedThrottleEventBatches() {
+
+        return compressedThrottleEventBatches.get();
+    }
+
     public String getKMServerUrl() {
 
         return KMServerUrl;
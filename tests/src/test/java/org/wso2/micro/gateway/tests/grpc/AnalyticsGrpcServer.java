@@ -0,0 +1,116 @@
+/*
+ *  Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.wso2.micro.gateway.tests.grpc;
+
+import com.google.protobuf.Empty;
+import io.grpc.Server;
+import io.grpc.netty.shaded.io.grpc.netty.GrpcSslContexts;
+import io.grpc.netty.shaded.io.grpc.netty.NettyServerBuilder;
+import io.grpc.netty.shaded.io.netty.handler.ssl.SslContextBuilder;
+import io.grpc.stub.StreamObserver;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.wso2.micro.gateway.tests.grpc.gen.AnalyticsSendServiceGrpc;
+import org.wso2.micro.gateway.tests.grpc.gen.AnalyticsStreamMessage;
+
+import java.io.InputStream;
+import java.security.KeyStore;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import javax.net.ssl.KeyManagerFactory;
+
+/**
+ * Mock gRPC analytics server receiving the analytics stream messages published by the gateway. The ping messages
+ * the gateway sends to check the connection are not recorded.
+ */
+public class AnalyticsGrpcServer {
+    private static final Logger log = LoggerFactory.getLogger(AnalyticsGrpcServer.class);
+    private static final String PING_MESSAGE = "PingMessage";
+
+    private final int port;
+    private final List<AnalyticsStreamMessage> messages = new CopyOnWriteArrayList<>();
+    private Server server;
+
+    public AnalyticsGrpcServer(int port) {
+        this.port = port;
+    }
+
+    public void start() throws Exception {
+        if (server == null || server.isShutdown() || server.isTerminated()) {
+            server = NettyServerBuilder.forPort(port)
+                    .sslContext(GrpcSslContexts.configure(SslContextBuilder.forServer(getKeyManagerFactory()))
+                            .build())
+                    .addService(new AnalyticsSendServiceImpl())
+                    .build().start();
+        }
+        log.info("Analytics server started, listening on " + port);
+    }
+
+    /**
+     * Stops the server without waiting for the streams of the gateway to complete, as if the server went down.
+     */
+    public void stop() throws InterruptedException {
+        if (server != null) {
+            server.shutdownNow().awaitTermination(30, TimeUnit.SECONDS);
+        }
+    }
+
+    public List<AnalyticsStreamMessage> getMessages() {
+        return new ArrayList<>(messages);
+    }
+
+    private KeyManagerFactory getKeyManagerFactory() throws Exception {
+        char[] password = "wso2carbon".toCharArray();
+        KeyStore keyStore = KeyStore.getInstance("JKS");
+        try (InputStream inputStream = Thread.currentThread().getContextClassLoader()
+                .getResourceAsStream("wso2carbon.jks")) {
+            keyStore.load(inputStream, password);
+        }
+        KeyManagerFactory keyManagerFactory = KeyManagerFactory.getInstance(KeyManagerFactory.getDefaultAlgorithm());
+        keyManagerFactory.init(keyStore, password);
+        return keyManagerFactory;
+    }
+
+    private class AnalyticsSendServiceImpl extends AnalyticsSendServiceGrpc.AnalyticsSendServiceImplBase {
+
+        @Override
+        public StreamObserver<AnalyticsStreamMessage> sendAnalytics(StreamObserver<Empty> responseObserver) {
+            return new StreamObserver<AnalyticsStreamMessage>() {
+                @Override
+                public void onNext(AnalyticsStreamMessage message) {
+                    if (!PING_MESSAGE.equals(message.getMessageStreamName())) {
+                        messages.add(message);
+                    }
+                }
+
+                @Override
+                public void onError(Throwable throwable) {
+                    log.debug("Analytics stream of the gateway failed", throwable);
+                }
+
+                @Override
+                public void onCompleted() {
+                    responseObserver.onNext(Empty.getDefaultInstance());
+                    responseObserver.onCompleted();
+                }
+            };
+        }
+    }
+}
@@ -0,0 +1,128 @@
+/*
+ *  Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.wso2.micro.gateway.tests.grpc;
+
+import io.netty.handler.codec.http.HttpHeaderNames;
+import org.json.JSONObject;
+import org.testng.Assert;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+import org.wso2.micro.gateway.tests.common.BaseTestCase;
+import org.wso2.micro.gateway.tests.common.model.ApplicationDTO;
+import org.wso2.micro.gateway.tests.grpc.gen.AnalyticsStreamMessage;
+import org.wso2.micro.gateway.tests.util.HttpClientRequest;
+import org.wso2.micro.gateway.tests.util.HttpResponse;
+import org.wso2.micro.gateway.tests.util.TestConstant;
+import org.wso2.micro.gateway.tests.util.TokenUtil;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Tests the gRPC analytics messages published by the gateway to a mock gRPC analytics server, including the messages
+ * published while the server is down.
+ */
+public class GrpcAnalyticsTestCase extends BaseTestCase {
+    private static final int ANALYTICS_SERVER_PORT = 9806;
+    private static final int REQUESTS = 10;
+    private static final long TIMEOUT_MILLIS = TimeUnit.SECONDS.toMillis(60);
+    // a few reconnect attempts of the gateway, which tries to reconnect every second
+    private static final long RECONNECT_WAIT_MILLIS = TimeUnit.SECONDS.toMillis(3);
+
+    private AnalyticsGrpcServer analyticsServer;
+    private String jwtTokenProd;
+
+    @BeforeClass
+    public void start() throws Exception {
+        ApplicationDTO application = new ApplicationDTO();
+        application.setName("jwtApp");
+        application.setTier("Unlimited");
+        application.setId((int) (Math.random() * 1000));
+        jwtTokenProd = TokenUtil.getBasicJWT(application, new JSONObject(), TestConstant.KEY_TYPE_PRODUCTION, 3600);
+
+        analyticsServer = new AnalyticsGrpcServer(ANALYTICS_SERVER_PORT);
+        analyticsServer.start();
+        super.init("grpcAnalyticsProject", new String[]{"common_api.yaml"}, null,
+                "confs/grpc-analytics-test-config.conf");
+    }
+
+    @Test(description = "Test whether an analytics message is published for each request")
+    public void testMessagesArePublished() throws Exception {
+        Set<String> expected = invoke("published");
+        waitForMessages(expected);
+    }
+
+    @Test(description = "Test whether the messages published while the analytics server is down are not lost",
+            dependsOnMethods = "testMessagesArePublished")
+    public void testMessagesAreNotLostWhileServerIsDown() throws Exception {
+        analyticsServer.stop();
+        // the messages written to the stream reset by the server are not reported as failed, hence the requests are
+        // sent once the gateway has found the server down
+        TimeUnit.MILLISECONDS.sleep(RECONNECT_WAIT_MILLIS);
+        Set<String> expected = invoke("server-down");
+        analyticsServer.start();
+        waitForMessages(expected);
+    }
+
+    @AfterClass
+    public void stop() throws Exception {
+        analyticsServer.stop();
+        //Stop all the mock servers
+        super.finalize();
+    }
+
+    /**
+     * Invokes the API with a distinct user agent for each request, which is published in the analytics message.
+     *
+     * @return user agents of the requests
+     */
+    private Set<String> invoke(String prefix) throws Exception {
+        Set<String> userAgents = new HashSet<>();
+        for (int i = 0; i < REQUESTS; i++) {
+            String userAgent = "grpc-analytics-" + prefix + "-" + i;
+            Map<String, String> headers = new HashMap<>();
+            headers.put(HttpHeaderNames.AUTHORIZATION.toString(), "Bearer " + jwtTokenProd);
+            headers.put(HttpHeaderNames.USER_AGENT.toString(), userAgent);
+            HttpResponse response = HttpClientRequest.doGet(getServiceURLHttp("petstore/v1/pet/findByStatus"),
+                    headers);
+            Assert.assertNotNull(response);
+            Assert.assertEquals(response.getResponseCode(), 200, "Response code mismatched");
+            userAgents.add(userAgent);
+        }
+        return userAgents;
+    }
+
+    private void waitForMessages(Set<String> expected) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + TIMEOUT_MILLIS;
+        Set<String> received = new HashSet<>();
+        while (!received.containsAll(expected) && System.currentTimeMillis() < deadline) {
+            TimeUnit.MILLISECONDS.sleep(500);
+            received.clear();
+            for (AnalyticsStreamMessage message : analyticsServer.getMessages()) {
+                received.add(message.getUserAgent());
+            }
+        }
+        Set<String> missing = new HashSet<>(expected);
+        missing.removeAll(received);
+        Assert.assertTrue(missing.isEmpty(), "Analytics messages were not received for the requests " + missing);
+    }
+}
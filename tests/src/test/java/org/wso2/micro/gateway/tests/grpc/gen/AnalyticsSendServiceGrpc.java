@@ -0,0 +1,272 @@
+package org.wso2.micro.gateway.tests.grpc.gen;
+
+import static io.grpc.MethodDescriptor.generateFullMethodName;
+import static io.grpc.stub.ClientCalls.asyncBidiStreamingCall;
+import static io.grpc.stub.ClientCalls.asyncClientStreamingCall;
+import static io.grpc.stub.ClientCalls.asyncServerStreamingCall;
+import static io.grpc.stub.ClientCalls.asyncUnaryCall;
+import static io.grpc.stub.ClientCalls.blockingServerStreamingCall;
+import static io.grpc.stub.ClientCalls.blockingUnaryCall;
+import static io.grpc.stub.ClientCalls.futureUnaryCall;
+import static io.grpc.stub.ServerCalls.asyncBidiStreamingCall;
+import static io.grpc.stub.ServerCalls.asyncClientStreamingCall;
+import static io.grpc.stub.ServerCalls.asyncServerStreamingCall;
+import static io.grpc.stub.ServerCalls.asyncUnaryCall;
+import static io.grpc.stub.ServerCalls.asyncUnimplementedStreamingCall;
+import static io.grpc.stub.ServerCalls.asyncUnimplementedUnaryCall;
+
+/**
+ */
+@javax.annotation.Generated(
+    value = "by gRPC proto compiler (version 1.26.0)",
+    comments = "Source: analytics.proto")
+public final class AnalyticsSendServiceGrpc {
+
+  private AnalyticsSendServiceGrpc() {}
+
+  public static final String SERVICE_NAME = "AnalyticsSendService";
+
+  // Static method descriptors that strictly reflect the proto.
+  private static volatile io.grpc.MethodDescriptor<org.wso2.micro.gateway.tests.grpc.gen.AnalyticsStreamMessage,
+      com.google.protobuf.Empty> getSendAnalyticsMethod;
+
+  @io.grpc.stub.annotations.RpcMethod(
+      fullMethodName = SERVICE_NAME + '/' + "sendAnalytics",
+      requestType = org.wso2.micro.gateway.tests.grpc.gen.AnalyticsStreamMessage.class,
+      responseType = com.google.protobuf.Empty.class,
+      methodType = io.grpc.MethodDescriptor.MethodType.CLIENT_STREAMING)
+  public static io.grpc.MethodDescriptor<org.wso2.micro.gateway.tests.grpc.gen.AnalyticsStreamMessage,
+      com.google.protobuf.Empty> getSendAnalyticsMethod() {
+    io.grpc.MethodDescriptor<org.wso2.micro.gateway.tests.grpc.gen.AnalyticsStreamMessage, com.google.protobuf.Empty> getSendAnalyticsMethod;
+    if ((getSendAnalyticsMethod = AnalyticsSendServiceGrpc.getSendAnalyticsMethod) == null) {
+      synchronized (AnalyticsSendServiceGrpc.class) {
+        if ((getSendAnalyticsMethod = AnalyticsSendServiceGrpc.getSendAnalyticsMethod) == null) {
+          AnalyticsSendServiceGrpc.getSendAnalyticsMethod = getSendAnalyticsMethod =
+              io.grpc.MethodDescriptor.<org.wso2.micro.gateway.tests.grpc.gen.AnalyticsStreamMessage, com.google.protobuf.Empty>newBuilder()
+              .setType(io.grpc.MethodDescriptor.MethodType.CLIENT_STREAMING)
+              .setFullMethodName(generateFullMethodName(SERVICE_NAME, "sendAnalytics"))
+              .setSampledToLocalTracing(true)
+              .setRequestMarshaller(io.grpc.protobuf.ProtoUtils.marshaller(
+                  org.wso2.micro.gateway.tests.grpc.gen.AnalyticsStreamMessage.getDefaultInstance()))
+              .setResponseMarshaller(io.grpc.protobuf.ProtoUtils.marshaller(
+                  com.google.protobuf.Empty.getDefaultInstance()))
+              .setSchemaDescriptor(new AnalyticsSendServiceMethodDescriptorSupplier("sendAnalytics"))
+              .build();
+        }
+      }
+    }
+    return getSendAnalyticsMethod;
+  }
+
+  /**
+   * Creates a new async stub that supports all call types for the service
+   */
+  public static AnalyticsSendServiceStub newStub(io.grpc.Channel channel) {
+    io.grpc.stub.AbstractStub.StubFactory<AnalyticsSendServiceStub> factory =
+      new io.grpc.stub.AbstractStub.StubFactory<AnalyticsSendServiceStub>() {
+        @java.lang.Override
+        public AnalyticsSendServiceStub newStub(io.grpc.Channel channel, io.grpc.CallOptions callOptions) {
+          return new AnalyticsSendServiceStub(channel, callOptions);
+        }
+      };
+    return AnalyticsSendServiceStub.newStub(factory, channel);
+  }
+
+  /**
+   * Creates a new blocking-style stub that supports unary and streaming output calls on the service
+   */
+  public static AnalyticsSendServiceBlockingStub newBlockingStub(
+      io.grpc.Channel channel) {
+    io.grpc.stub.AbstractStub.StubFactory<AnalyticsSendServiceBlockingStub> factory =
+      new io.grpc.stub.AbstractStub.StubFactory<AnalyticsSendServiceBlockingStub>() {
+        @java.lang.Override
+        public AnalyticsSendServiceBlockingStub newStub(io.grpc.Channel channel, io.grpc.CallOptions callOptions) {
+          return new AnalyticsSendServiceBlockingStub(channel, callOptions);
+        }
+      };
+    return AnalyticsSendServiceBlockingStub.newStub(factory, channel);
+  }
+
+  /**
+   * Creates a new ListenableFuture-style stub that supports unary calls on the service
+   */
+  public static AnalyticsSendServiceFutureStub newFutureStub(
+      io.grpc.Channel channel) {
+    io.grpc.stub.AbstractStub.StubFactory<AnalyticsSendServiceFutureStub> factory =
+      new io.grpc.stub.AbstractStub.StubFactory<AnalyticsSendServiceFutureStub>() {
+        @java.lang.Override
+        public AnalyticsSendServiceFutureStub newStub(io.grpc.Channel channel, io.grpc.CallOptions callOptions) {
+          return new AnalyticsSendServiceFutureStub(channel, callOptions);
+        }
+      };
+    return AnalyticsSendServiceFutureStub.newStub(factory, channel);
+  }
+
+  /**
+   */
+  public static abstract class AnalyticsSendServiceImplBase implements io.grpc.BindableService {
+
+    /**
+     */
+    public io.grpc.stub.StreamObserver<org.wso2.micro.gateway.tests.grpc.gen.AnalyticsStreamMessage> sendAnalytics(
+        io.grpc.stub.StreamObserver<com.google.protobuf.Empty> responseObserver) {
+      return asyncUnimplementedStreamingCall(getSendAnalyticsMethod(), responseObserver);
+    }
+
+    @java.lang.Override public final io.grpc.ServerServiceDefinition bindService() {
+      return io.grpc.ServerServiceDefinition.builder(getServiceDescriptor())
+          .addMethod(
+            getSendAnalyticsMethod(),
+            asyncClientStreamingCall(
+              new MethodHandlers<
+                org.wso2.micro.gateway.tests.grpc.gen.AnalyticsStreamMessage,
+                com.google.protobuf.Empty>(
+                  this, METHODID_SEND_ANALYTICS)))
+          .build();
+    }
+  }
+
+  /**
+   */
+  public static final class AnalyticsSendServiceStub extends io.grpc.stub.AbstractAsyncStub<AnalyticsSendServiceStub> {
+    private AnalyticsSendServiceStub(
+        io.grpc.Channel channel, io.grpc.CallOptions callOptions) {
+      super(channel, callOptions);
+    }
+
+    @java.lang.Override
+    protected AnalyticsSendServiceStub build(
+        io.grpc.Channel channel, io.grpc.CallOptions callOptions) {
+      return new AnalyticsSendServiceStub(channel, callOptions);
+    }
+
+    /**
+     */
+    public io.grpc.stub.StreamObserver<org.wso2.micro.gateway.tests.grpc.gen.AnalyticsStreamMessage> sendAnalytics(
+        io.grpc.stub.StreamObserver<com.google.protobuf.Empty> responseObserver) {
+      return asyncClientStreamingCall(
+          getChannel().newCall(getSendAnalyticsMethod(), getCallOptions()), responseObserver);
+    }
+  }
+
+  /**
+   */
+  public static final class AnalyticsSendServiceBlockingStub extends io.grpc.stub.AbstractBlockingStub<AnalyticsSendServiceBlockingStub> {
+    private AnalyticsSendServiceBlockingStub(
+        io.grpc.Channel channel, io.grpc.CallOptions callOptions) {
+      super(channel, callOptions);
+    }
+
+    @java.lang.Override
+    protected AnalyticsSendServiceBlockingStub build(
+        io.grpc.Channel channel, io.grpc.CallOptions callOptions) {
+      return new AnalyticsSendServiceBlockingStub(channel, callOptions);
+    }
+  }
+
+  /**
+   */
+  public static final class AnalyticsSendServiceFutureStub extends io.grpc.stub.AbstractFutureStub<AnalyticsSendServiceFutureStub> {
+    private AnalyticsSendServiceFutureStub(
+        io.grpc.Channel channel, io.grpc.CallOptions callOptions) {
+      super(channel, callOptions);
+    }
+
+    @java.lang.Override
+    protected AnalyticsSendServiceFutureStub build(
+        io.grpc.Channel channel, io.grpc.CallOptions callOptions) {
+      return new AnalyticsSendServiceFutureStub(channel, callOptions);
+    }
+  }
+
+  private static final int METHODID_SEND_ANALYTICS = 0;
+
+  private static final class MethodHandlers<Req, Resp> implements
+      io.grpc.stub.ServerCalls.UnaryMethod<Req, Resp>,
+      io.grpc.stub.ServerCalls.ServerStreamingMethod<Req, Resp>,
+      io.grpc.stub.ServerCalls.ClientStreamingMethod<Req, Resp>,
+      io.grpc.stub.ServerCalls.BidiStreamingMethod<Req, Resp> {
+    private final AnalyticsSendServiceImplBase serviceImpl;
+    private final int methodId;
+
+    MethodHandlers(AnalyticsSendServiceImplBase serviceImpl, int methodId) {
+      this.serviceImpl = serviceImpl;
+      this.methodId = methodId;
+    }
+
+    @java.lang.Override
+    @java.lang.SuppressWarnings("unchecked")
+    public void invoke(Req request, io.grpc.stub.StreamObserver<Resp> responseObserver) {
+      switch (methodId) {
+        default:
+          throw new AssertionError();
+      }
+    }
+
+    @java.lang.Override
+    @java.lang.SuppressWarnings("unchecked")
+    public io.grpc.stub.StreamObserver<Req> invoke(
+        io.grpc.stub.StreamObserver<Resp> responseObserver) {
+      switch (methodId) {
+        case METHODID_SEND_ANALYTICS:
+          return (io.grpc.stub.StreamObserver<Req>) serviceImpl.sendAnalytics(
+              (io.grpc.stub.StreamObserver<com.google.protobuf.Empty>) responseObserver);
+        default:
+          throw new AssertionError();
+      }
+    }
+  }
+
+  private static abstract class AnalyticsSendServiceBaseDescriptorSupplier
+      implements io.grpc.protobuf.ProtoFileDescriptorSupplier, io.grpc.protobuf.ProtoServiceDescriptorSupplier {
+    AnalyticsSendServiceBaseDescriptorSupplier() {}
+
+    @java.lang.Override
+    public com.google.protobuf.Descriptors.FileDescriptor getFileDescriptor() {
+      return org.wso2.micro.gateway.tests.grpc.gen.Analytics.getDescriptor();
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Descriptors.ServiceDescriptor getServiceDescriptor() {
+      return getFileDescriptor().findServiceByName("AnalyticsSendService");
+    }
+  }
+
+  private static final class AnalyticsSendServiceFileDescriptorSupplier
+      extends AnalyticsSendServiceBaseDescriptorSupplier {
+    AnalyticsSendServiceFileDescriptorSupplier() {}
+  }
+
+  private static final class AnalyticsSendServiceMethodDescriptorSupplier
+      extends AnalyticsSendServiceBaseDescriptorSupplier
+      implements io.grpc.protobuf.ProtoMethodDescriptorSupplier {
+    private final String methodName;
+
+    AnalyticsSendServiceMethodDescriptorSupplier(String methodName) {
+      this.methodName = methodName;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Descriptors.MethodDescriptor getMethodDescriptor() {
+      return getServiceDescriptor().findMethodByName(methodName);
+    }
+  }
+
+  private static volatile io.grpc.ServiceDescriptor serviceDescriptor;
+
+  public static io.grpc.ServiceDescriptor getServiceDescriptor() {
+    io.grpc.ServiceDescriptor result = serviceDescriptor;
+    if (result == null) {
+      synchronized (AnalyticsSendServiceGrpc.class) {
+        result = serviceDescriptor;
+        if (result == null) {
+          serviceDescriptor = result = io.grpc.ServiceDescriptor.newBuilder(SERVICE_NAME)
+              .setSchemaDescriptor(new AnalyticsSendServiceFileDescriptorSupplier())
+              .addMethod(getSendAnalyticsMethod())
+              .build();
+        }
+      }
+    }
+    return result;
+  }
+}
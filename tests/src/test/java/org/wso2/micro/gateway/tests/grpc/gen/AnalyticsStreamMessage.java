@@ -0,0 +1,5307 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// source: analytics.proto
+
+package org.wso2.micro.gateway.tests.grpc.gen;
+
+/**
+ * Protobuf type {@code AnalyticsStreamMessage}
+ */
+public  final class AnalyticsStreamMessage extends
+    com.google.protobuf.GeneratedMessageV3 implements
+    // @@protoc_insertion_point(message_implements:AnalyticsStreamMessage)
+    AnalyticsStreamMessageOrBuilder {
+private static final long serialVersionUID = 0L;
+  // Use AnalyticsStreamMessage.newBuilder() to construct.
+  private AnalyticsStreamMessage(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+    super(builder);
+  }
+  private AnalyticsStreamMessage() {
+    messageStreamName_ = "";
+    metaClientType_ = "";
+    applicationConsumerKey_ = "";
+    applicationName_ = "";
+    applicationId_ = "";
+    applicationOwner_ = "";
+    apiContext_ = "";
+    apiName_ = "";
+    apiVersion_ = "";
+    apiResourcePath_ = "";
+    apiResourceTemplate_ = "";
+    apiMethod_ = "";
+    apiCreator_ = "";
+    apiCreatorTenantDomain_ = "";
+    apiTier_ = "";
+    apiHostname_ = "";
+    username_ = "";
+    userTenantDomain_ = "";
+    userIp_ = "";
+    userAgent_ = "";
+    protocol_ = "";
+    destination_ = "";
+    gatewayType_ = "";
+    label_ = "";
+    subscriber_ = "";
+    throttledOutReason_ = "";
+    hostname_ = "";
+    errorCode_ = "";
+    errorMessage_ = "";
+  }
+
+  @java.lang.Override
+  @SuppressWarnings({"unused"})
+  protected java.lang.Object newInstance(
+      UnusedPrivateParameter unused) {
+    return new AnalyticsStreamMessage();
+  }
+
+  @java.lang.Override
+  public final com.google.protobuf.UnknownFieldSet
+  getUnknownFields() {
+    return this.unknownFields;
+  }
+  private AnalyticsStreamMessage(
+      com.google.protobuf.CodedInputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    this();
+    if (extensionRegistry == null) {
+      throw new java.lang.NullPointerException();
+    }
+    com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+        com.google.protobuf.UnknownFieldSet.newBuilder();
+    try {
+      boolean done = false;
+      while (!done) {
+        int tag = input.readTag();
+        switch (tag) {
+          case 0:
+            done = true;
+            break;
+          case 10: {
+            java.lang.String s = input.readStringRequireUtf8();
+
+            messageStreamName_ = s;
+            break;
+          }
+          case 18: {
+            java.lang.String s = input.readStringRequireUtf8();
+
+            metaClientType_ = s;
+            break;
+          }
+          case 26: {
+            java.lang.String s = input.readStringRequireUtf8();
+
+            applicationConsumerKey_ = s;
+            break;
+          }
+          case 34: {
+            java.lang.String s = input.readStringRequireUtf8();
+
+            applicationName_ = s;
+            break;
+          }
+          case 42: {
+            java.lang.String s = input.readStringRequireUtf8();
+
+            applicationId_ = s;
+            break;
+          }
+          case 50: {
+            java.lang.String s = input.readStringRequireUtf8();
+
+            applicationOwner_ = s;
+            break;
+          }
+          case 58: {
+            java.lang.String s = input.readStringRequireUtf8();
+
+            apiContext_ = s;
+            break;
+          }
+          case 66: {
+            java.lang.String s = input.readStringRequireUtf8();
+
+            apiName_ = s;
+            break;
+          }
+          case 74: {
+            java.lang.String s = input.readStringRequireUtf8();
+
+            apiVersion_ = s;
+            break;
+          }
+          case 82: {
+            java.lang.String s = input.readStringRequireUtf8();
+
+            apiResourcePath_ = s;
+            break;
+          }
+          case 90: {
+            java.lang.String s = input.readStringRequireUtf8();
+
+            apiResourceTemplate_ = s;
+            break;
+          }
+          case 98: {
+            java.lang.String s = input.readStringRequireUtf8();
+
+            apiMethod_ = s;
+            break;
+          }
+          case 106: {
+            java.lang.String s = input.readStringRequireUtf8();
+
+            apiCreator_ = s;
+            break;
+          }
+          case 114: {
+            java.lang.String s = input.readStringRequireUtf8();
+
+            apiCreatorTenantDomain_ = s;
+            break;
+          }
+          case 122: {
+            java.lang.String s = input.readStringRequireUtf8();
+
+            apiTier_ = s;
+            break;
+          }
+          case 130: {
+            java.lang.String s = input.readStringRequireUtf8();
+
+            apiHostname_ = s;
+            break;
+          }
+          case 138: {
+            java.lang.String s = input.readStringRequireUtf8();
+
+            username_ = s;
+            break;
+          }
+          case 146: {
+            java.lang.String s = input.readStringRequireUtf8();
+
+            userTenantDomain_ = s;
+            break;
+          }
+          case 154: {
+            java.lang.String s = input.readStringRequireUtf8();
+
+            userIp_ = s;
+            break;
+          }
+          case 162: {
+            java.lang.String s = input.readStringRequireUtf8();
+
+            userAgent_ = s;
+            break;
+          }
+          case 168: {
+
+            requestTimestamp_ = input.readInt64();
+            break;
+          }
+          case 176: {
+
+            throttledOut_ = input.readBool();
+            break;
+          }
+          case 184: {
+
+            responseTime_ = input.readInt64();
+            break;
+          }
+          case 192: {
+
+            serviceTime_ = input.readInt64();
+            break;
+          }
+          case 200: {
+
+            backendTime_ = input.readInt64();
+            break;
+          }
+          case 208: {
+
+            responseCacheHit_ = input.readBool();
+            break;
+          }
+          case 216: {
+
+            responseSize_ = input.readInt64();
+            break;
+          }
+          case 226: {
+            java.lang.String s = input.readStringRequireUtf8();
+
+            protocol_ = s;
+            break;
+          }
+          case 232: {
+
+            responseCode_ = input.readInt32();
+            break;
+          }
+          case 242: {
+            java.lang.String s = input.readStringRequireUtf8();
+
+            destination_ = s;
+            break;
+          }
+          case 248: {
+
+            securityLatency_ = input.readInt64();
+            break;
+          }
+          case 256: {
+
+            throttlingLatency_ = input.readInt64();
+            break;
+          }
+          case 264: {
+
+            requestMedLat_ = input.readInt64();
+            break;
+          }
+          case 272: {
+
+            responseMedLat_ = input.readInt64();
+            break;
+          }
+          case 280: {
+
+            backendLatency_ = input.readInt64();
+            break;
+          }
+          case 288: {
+
+            otherLatency_ = input.readInt64();
+            break;
+          }
+          case 298: {
+            java.lang.String s = input.readStringRequireUtf8();
+
+            gatewayType_ = s;
+            break;
+          }
+          case 306: {
+            java.lang.String s = input.readStringRequireUtf8();
+
+            label_ = s;
+            break;
+          }
+          case 314: {
+            java.lang.String s = input.readStringRequireUtf8();
+
+            subscriber_ = s;
+            break;
+          }
+          case 322: {
+            java.lang.String s = input.readStringRequireUtf8();
+
+            throttledOutReason_ = s;
+            break;
+          }
+          case 328: {
+
+            throttledOutTimestamp_ = input.readInt64();
+            break;
+          }
+          case 338: {
+            java.lang.String s = input.readStringRequireUtf8();
+
+            hostname_ = s;
+            break;
+          }
+          case 346: {
+            java.lang.String s = input.readStringRequireUtf8();
+
+            errorCode_ = s;
+            break;
+          }
+          case 354: {
+            java.lang.String s = input.readStringRequireUtf8();
+
+            errorMessage_ = s;
+            break;
+          }
+          default: {
+            if (!parseUnknownField(
+                input, unknownFields, extensionRegistry, tag)) {
+              done = true;
+            }
+            break;
+          }
+        }
+      }
+    } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+      throw e.setUnfinishedMessage(this);
+    } catch (java.io.IOException e) {
+      throw new com.google.protobuf.InvalidProtocolBufferException(
+          e).setUnfinishedMessage(this);
+    } finally {
+      this.unknownFields = unknownFields.build();
+      makeExtensionsImmutable();
+    }
+  }
+  public static final com.google.protobuf.Descriptors.Descriptor
+      getDescriptor() {
+    return org.wso2.micro.gateway.tests.grpc.gen.Analytics.internal_static_AnalyticsStreamMessage_descriptor;
+  }
+
+  @java.lang.Override
+  protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internalGetFieldAccessorTable() {
+    return org.wso2.micro.gateway.tests.grpc.gen.Analytics.internal_static_AnalyticsStreamMessage_fieldAccessorTable
+        .ensureFieldAccessorsInitialized(
+            org.wso2.micro.gateway.tests.grpc.gen.AnalyticsStreamMessage.class, org.wso2.micro.gateway.tests.grpc.gen.AnalyticsStreamMessage.Builder.class);
+  }
+
+  public static final int MESSAGESTREAMNAME_FIELD_NUMBER = 1;
+  private volatile java.lang.Object messageStreamName_;
+  /**
+   * <code>string messageStreamName = 1;</code>
+   * @return The messageStreamName.
+   */
+  public java.lang.String getMessageStreamName() {
+    java.lang.Object ref = messageStreamName_;
+    if (ref instanceof java.lang.String) {
+      return (java.lang.String) ref;
+    } else {
+      com.google.protobuf.ByteString bs = 
+          (com.google.protobuf.ByteString) ref;
+      java.lang.String s = bs.toStringUtf8();
+      messageStreamName_ = s;
+      return s;
+    }
+  }
+  /**
+   * <code>string messageStreamName = 1;</code>
+   * @return The bytes for messageStreamName.
+   */
+  public com.google.protobuf.ByteString
+      getMessageStreamNameBytes() {
+    java.lang.Object ref = messageStreamName_;
+    if (ref instanceof java.lang.String) {
+      com.google.protobuf.ByteString b = 
+          com.google.protobuf.ByteString.copyFromUtf8(
+              (java.lang.String) ref);
+      messageStreamName_ = b;
+      return b;
+    } else {
+      return (com.google.protobuf.ByteString) ref;
+    }
+  }
+
+  public static final int META_CLIENTTYPE_FIELD_NUMBER = 2;
+  private volatile java.lang.Object metaClientType_;
+  /**
+   * <code>string meta_clientType = 2;</code>
+   * @return The metaClientType.
+   */
+  public java.lang.String getMetaClientType() {
+    java.lang.Object ref = metaClientType_;
+    if (ref instanceof java.lang.String) {
+      return (java.lang.String) ref;
+    } else {
+      com.google.protobuf.ByteString bs = 
+          (com.google.protobuf.ByteString) ref;
+      java.lang.String s = bs.toStringUtf8();
+      metaClientType_ = s;
+      return s;
+    }
+  }
+  /**
+   * <code>string meta_clientType = 2;</code>
+   * @return The bytes for metaClientType.
+   */
+  public com.google.protobuf.ByteString
+      getMetaClientTypeBytes() {
+    java.lang.Object ref = metaClientType_;
+    if (ref instanceof java.lang.String) {
+      com.google.protobuf.ByteString b = 
+          com.google.protobuf.ByteString.copyFromUtf8(
+              (java.lang.String) ref);
+      metaClientType_ = b;
+      return b;
+    } else {
+      return (com.google.protobuf.ByteString) ref;
+    }
+  }
+
+  public static final int APPLICATIONCONSUMERKEY_FIELD_NUMBER = 3;
+  private volatile java.lang.Object applicationConsumerKey_;
+  /**
+   * <code>string applicationConsumerKey = 3;</code>
+   * @return The applicationConsumerKey.
+   */
+  public java.lang.String getApplicationConsumerKey() {
+    java.lang.Object ref = applicationConsumerKey_;
+    if (ref instanceof java.lang.String) {
+      return (java.lang.String) ref;
+    } else {
+      com.google.protobuf.ByteString bs = 
+          (com.google.protobuf.ByteString) ref;
+      java.lang.String s = bs.toStringUtf8();
+      applicationConsumerKey_ = s;
+      return s;
+    }
+  }
+  /**
+   * <code>string applicationConsumerKey = 3;</code>
+   * @return The bytes for applicationConsumerKey.
+   */
+  public com.google.protobuf.ByteString
+      getApplicationConsumerKeyBytes() {
+    java.lang.Object ref = applicationConsumerKey_;
+    if (ref instanceof java.lang.String) {
+      com.google.protobuf.ByteString b = 
+          com.google.protobuf.ByteString.copyFromUtf8(
+              (java.lang.String) ref);
+      applicationConsumerKey_ = b;
+      return b;
+    } else {
+      return (com.google.protobuf.ByteString) ref;
+    }
+  }
+
+  public static final int APPLICATIONNAME_FIELD_NUMBER = 4;
+  private volatile java.lang.Object applicationName_;
+  /**
+   * <code>string applicationName = 4;</code>
+   * @return The applicationName.
+   */
+  public java.lang.String getApplicationName() {
+    java.lang.Object ref = applicationName_;
+    if (ref instanceof java.lang.String) {
+      return (java.lang.String) ref;
+    } else {
+      com.google.protobuf.ByteString bs = 
+          (com.google.protobuf.ByteString) ref;
+      java.lang.String s = bs.toStringUtf8();
+      applicationName_ = s;
+      return s;
+    }
+  }
+  /**
+   * <code>string applicationName = 4;</code>
+   * @return The bytes for applicationName.
+   */
+  public com.google.protobuf.ByteString
+      getApplicationNameBytes() {
+    java.lang.Object ref = applicationName_;
+    if (ref instanceof java.lang.String) {
+      com.google.protobuf.ByteString b = 
+          com.google.protobuf.ByteString.copyFromUtf8(
+              (java.lang.String) ref);
+      applicationName_ = b;
+      return b;
+    } else {
+      return (com.google.protobuf.ByteString) ref;
+    }
+  }
+
+  public static final int APPLICATIONID_FIELD_NUMBER = 5;
+  private volatile java.lang.Object applicationId_;
+  /**
+   * <code>string applicationId = 5;</code>
+   * @return The applicationId.
+   */
+  public java.lang.String getApplicationId() {
+    java.lang.Object ref = applicationId_;
+    if (ref instanceof java.lang.String) {
+      return (java.lang.String) ref;
+    } else {
+      com.google.protobuf.ByteString bs = 
+          (com.google.protobuf.ByteString) ref;
+      java.lang.String s = bs.toStringUtf8();
+      applicationId_ = s;
+      return s;
+    }
+  }
+  /**
+   * <code>string applicationId = 5;</code>
+   * @return The bytes for applicationId.
+   */
+  public com.google.protobuf.ByteString
+      getApplicationIdBytes() {
+    java.lang.Object ref = applicationId_;
+    if (ref instanceof java.lang.String) {
+      com.google.protobuf.ByteString b = 
+          com.google.protobuf.ByteString.copyFromUtf8(
+              (java.lang.String) ref);
+      applicationId_ = b;
+      return b;
+    } else {
+      return (com.google.protobuf.ByteString) ref;
+    }
+  }
+
+  public static final int APPLICATIONOWNER_FIELD_NUMBER = 6;
+  private volatile java.lang.Object applicationOwner_;
+  /**
+   * <code>string applicationOwner = 6;</code>
+   * @return The applicationOwner.
+   */
+  public java.lang.String getApplicationOwner() {
+    java.lang.Object ref = applicationOwner_;
+    if (ref instanceof java.lang.String) {
+      return (java.lang.String) ref;
+    } else {
+      com.google.protobuf.ByteString bs = 
+          (com.google.protobuf.ByteString) ref;
+      java.lang.String s = bs.toStringUtf8();
+      applicationOwner_ = s;
+      return s;
+    }
+  }
+  /**
+   * <code>string applicationOwner = 6;</code>
+   * @return The bytes for applicationOwner.
+   */
+  public com.google.protobuf.ByteString
+      getApplicationOwnerBytes() {
+    java.lang.Object ref = applicationOwner_;
+    if (ref instanceof java.lang.String) {
+      com.google.protobuf.ByteString b = 
+          com.google.protobuf.ByteString.copyFromUtf8(
+              (java.lang.String) ref);
+      applicationOwner_ = b;
+      return b;
+    } else {
+      return (com.google.protobuf.ByteString) ref;
+    }
+  }
+
+  public static final int APICONTEXT_FIELD_NUMBER = 7;
+  private volatile java.lang.Object apiContext_;
+  /**
+   * <code>string apiContext = 7;</code>
+   * @return The apiContext.
+   */
+  public java.lang.String getApiContext() {
+    java.lang.Object ref = apiContext_;
+    if (ref instanceof java.lang.String) {
+      return (java.lang.String) ref;
+    } else {
+      com.google.protobuf.ByteString bs = 
+          (com.google.protobuf.ByteString) ref;
+      java.lang.String s = bs.toStringUtf8();
+      apiContext_ = s;
+      return s;
+    }
+  }
+  /**
+   * <code>string apiContext = 7;</code>
+   * @return The bytes for apiContext.
+   */
+  public com.google.protobuf.ByteString
+      getApiContextBytes() {
+    java.lang.Object ref = apiContext_;
+    if (ref instanceof java.lang.String) {
+      com.google.protobuf.ByteString b = 
+          com.google.protobuf.ByteString.copyFromUtf8(
+              (java.lang.String) ref);
+      apiContext_ = b;
+      return b;
+    } else {
+      return (com.google.protobuf.ByteString) ref;
+    }
+  }
+
+  public static final int APINAME_FIELD_NUMBER = 8;
+  private volatile java.lang.Object apiName_;
+  /**
+   * <code>string apiName = 8;</code>
+   * @return The apiName.
+   */
+  public java.lang.String getApiName() {
+    java.lang.Object ref = apiName_;
+    if (ref instanceof java.lang.String) {
+      return (java.lang.String) ref;
+    } else {
+      com.google.protobuf.ByteString bs = 
+          (com.google.protobuf.ByteString) ref;
+      java.lang.String s = bs.toStringUtf8();
+      apiName_ = s;
+      return s;
+    }
+  }
+  /**
+   * <code>string apiName = 8;</code>
+   * @return The bytes for apiName.
+   */
+  public com.google.protobuf.ByteString
+      getApiNameBytes() {
+    java.lang.Object ref = apiName_;
+    if (ref instanceof java.lang.String) {
+      com.google.protobuf.ByteString b = 
+          com.google.protobuf.ByteString.copyFromUtf8(
+              (java.lang.String) ref);
+      apiName_ = b;
+      return b;
+    } else {
+      return (com.google.protobuf.ByteString) ref;
+    }
+  }
+
+  public static final int APIVERSION_FIELD_NUMBER = 9;
+  private volatile java.lang.Object apiVersion_;
+  /**
+   * <code>string apiVersion = 9;</code>
+   * @return The apiVersion.
+   */
+  public java.lang.String getApiVersion() {
+    java.lang.Object ref = apiVersion_;
+    if (ref instanceof java.lang.String) {
+      return (java.lang.String) ref;
+    } else {
+      com.google.protobuf.ByteString bs = 
+          (com.google.protobuf.ByteString) ref;
+      java.lang.String s = bs.toStringUtf8();
+      apiVersion_ = s;
+      return s;
+    }
+  }
+  /**
+   * <code>string apiVersion = 9;</code>
+   * @return The bytes for apiVersion.
+   */
+  public com.google.protobuf.ByteString
+      getApiVersionBytes() {
+    java.lang.Object ref = apiVersion_;
+    if (ref instanceof java.lang.String) {
+      com.google.protobuf.ByteString b = 
+          com.google.protobuf.ByteString.copyFromUtf8(
+              (java.lang.String) ref);
+      apiVersion_ = b;
+      return b;
+    } else {
+      return (com.google.protobuf.ByteString) ref;
+    }
+  }
+
+  public static final int APIRESOURCEPATH_FIELD_NUMBER = 10;
+  private volatile java.lang.Object apiResourcePath_;
+  /**
+   * <code>string apiResourcePath = 10;</code>
+   * @return The apiResourcePath.
+   */
+  public java.lang.String getApiResourcePath() {
+    java.lang.Object ref = apiResourcePath_;
+    if (ref instanceof java.lang.String) {
+      return (java.lang.String) ref;
+    } else {
+      com.google.protobuf.ByteString bs = 
+          (com.google.protobuf.ByteString) ref;
+      java.lang.String s = bs.toStringUtf8();
+      apiResourcePath_ = s;
+      return s;
+    }
+  }
+  /**
+   * <code>string apiResourcePath = 10;</code>
+   * @return The bytes for apiResourcePath.
+   */
+  public com.google.protobuf.ByteString
+      getApiResourcePathBytes() {
+    java.lang.Object ref = apiResourcePath_;
+    if (ref instanceof java.lang.String) {
+      com.google.protobuf.ByteString b = 
+          com.google.protobuf.ByteString.copyFromUtf8(
+              (java.lang.String) ref);
+      apiResourcePath_ = b;
+      return b;
+    } else {
+      return (com.google.protobuf.ByteString) ref;
+    }
+  }
+
+  public static final int APIRESOURCETEMPLATE_FIELD_NUMBER = 11;
+  private volatile java.lang.Object apiResourceTemplate_;
+  /**
+   * <code>string apiResourceTemplate = 11;</code>
+   * @return The apiResourceTemplate.
+   */
+  public java.lang.String getApiResourceTemplate() {
+    java.lang.Object ref = apiResourceTemplate_;
+    if (ref instanceof java.lang.String) {
+      return (java.lang.String) ref;
+    } else {
+      com.google.protobuf.ByteString bs = 
+          (com.google.protobuf.ByteString) ref;
+      java.lang.String s = bs.toStringUtf8();
+      apiResourceTemplate_ = s;
+      return s;
+    }
+  }
+  /**
+   * <code>string apiResourceTemplate = 11;</code>
+   * @return The bytes for apiResourceTemplate.
+   */
+  public com.google.protobuf.ByteString
+      getApiResourceTemplateBytes() {
+    java.lang.Object ref = apiResourceTemplate_;
+    if (ref instanceof java.lang.String) {
+      com.google.protobuf.ByteString b = 
+          com.google.protobuf.ByteString.copyFromUtf8(
+              (java.lang.String) ref);
+      apiResourceTemplate_ = b;
+      return b;
+    } else {
+      return (com.google.protobuf.ByteString) ref;
+    }
+  }
+
+  public static final int APIMETHOD_FIELD_NUMBER = 12;
+  private volatile java.lang.Object apiMethod_;
+  /**
+   * <code>string apiMethod = 12;</code>
+   * @return The apiMethod.
+   */
+  public java.lang.String getApiMethod() {
+    java.lang.Object ref = apiMethod_;
+    if (ref instanceof java.lang.String) {
+      return (java.lang.String) ref;
+    } else {
+      com.google.protobuf.ByteString bs = 
+          (com.google.protobuf.ByteString) ref;
+      java.lang.String s = bs.toStringUtf8();
+      apiMethod_ = s;
+      return s;
+    }
+  }
+  /**
+   * <code>string apiMethod = 12;</code>
+   * @return The bytes for apiMethod.
+   */
+  public com.google.protobuf.ByteString
+      getApiMethodBytes() {
+    java.lang.Object ref = apiMethod_;
+    if (ref instanceof java.lang.String) {
+      com.google.protobuf.ByteString b = 
+          com.google.protobuf.ByteString.copyFromUtf8(
+              (java.lang.String) ref);
+      apiMethod_ = b;
+      return b;
+    } else {
+      return (com.google.protobuf.ByteString) ref;
+    }
+  }
+
+  public static final int APICREATOR_FIELD_NUMBER = 13;
+  private volatile java.lang.Object apiCreator_;
+  /**
+   * <code>string apiCreator = 13;</code>
+   * @return The apiCreator.
+   */
+  public java.lang.String getApiCreator() {
+    java.lang.Object ref = apiCreator_;
+    if (ref instanceof java.lang.String) {
+      return (java.lang.String) ref;
+    } else {
+      com.google.protobuf.ByteString bs = 
+          (com.google.protobuf.ByteString) ref;
+      java.lang.String s = bs.toStringUtf8();
+      apiCreator_ = s;
+      return s;
+    }
+  }
+  /**
+   * <code>string apiCreator = 13;</code>
+   * @return The bytes for apiCreator.
+   */
+  public com.google.protobuf.ByteString
+      getApiCreatorBytes() {
+    java.lang.Object ref = apiCreator_;
+    if (ref instanceof java.lang.String) {
+      com.google.protobuf.ByteString b = 
+          com.google.protobuf.ByteString.copyFromUtf8(
+              (java.lang.String) ref);
+      apiCreator_ = b;
+      return b;
+    } else {
+      return (com.google.protobuf.ByteString) ref;
+    }
+  }
+
+  public static final int APICREATORTENANTDOMAIN_FIELD_NUMBER = 14;
+  private volatile java.lang.Object apiCreatorTenantDomain_;
+  /**
+   * <code>string apiCreatorTenantDomain = 14;</code>
+   * @return The apiCreatorTenantDomain.
+   */
+  public java.lang.String getApiCreatorTenantDomain() {
+    java.lang.Object ref = apiCreatorTenantDomain_;
+    if (ref instanceof java.lang.String) {
+      return (java.lang.String) ref;
+    } else {
+      com.google.protobuf.ByteString bs = 
+          (com.google.protobuf.ByteString) ref;
+      java.lang.String s = bs.toStringUtf8();
+      apiCreatorTenantDomain_ = s;
+      return s;
+    }
+  }
+  /**
+   * <code>string apiCreatorTenantDomain = 14;</code>
+   * @return The bytes for apiCreatorTenantDomain.
+   */
+  public com.google.protobuf.ByteString
+      getApiCreatorTenantDomainBytes() {
+    java.lang.Object ref = apiCreatorTenantDomain_;
+    if (ref instanceof java.lang.String) {
+      com.google.protobuf.ByteString b = 
+          com.google.protobuf.ByteString.copyFromUtf8(
+              (java.lang.String) ref);
+      apiCreatorTenantDomain_ = b;
+      return b;
+    } else {
+      return (com.google.protobuf.ByteString) ref;
+    }
+  }
+
+  public static final int APITIER_FIELD_NUMBER = 15;
+  private volatile java.lang.Object apiTier_;
+  /**
+   * <code>string apiTier = 15;</code>
+   * @return The apiTier.
+   */
+  public java.lang.String getApiTier() {
+    java.lang.Object ref = apiTier_;
+    if (ref instanceof java.lang.String) {
+      return (java.lang.String) ref;
+    } else {
+      com.google.protobuf.ByteString bs = 
+          (com.google.protobuf.ByteString) ref;
+      java.lang.String s = bs.toStringUtf8();
+      apiTier_ = s;
+      return s;
+    }
+  }
+  /**
+   * <code>string apiTier = 15;</code>
+   * @return The bytes for apiTier.
+   */
+  public com.google.protobuf.ByteString
+      getApiTierBytes() {
+    java.lang.Object ref = apiTier_;
+    if (ref instanceof java.lang.String) {
+      com.google.protobuf.ByteString b = 
+          com.google.protobuf.ByteString.copyFromUtf8(
+              (java.lang.String) ref);
+      apiTier_ = b;
+      return b;
+    } else {
+      return (com.google.protobuf.ByteString) ref;
+    }
+  }
+
+  public static final int APIHOSTNAME_FIELD_NUMBER = 16;
+  private volatile java.lang.Object apiHostname_;
+  /**
+   * <code>string apiHostname = 16;</code>
+   * @return The apiHostname.
+   */
+  public java.lang.String getApiHostname() {
+    java.lang.Object ref = apiHostname_;
+    if (ref instanceof java.lang.String) {
+      return (java.lang.String) ref;
+    } else {
+      com.google.protobuf.ByteString bs = 
+          (com.google.protobuf.ByteString) ref;
+      java.lang.String s = bs.toStringUtf8();
+      apiHostname_ = s;
+      return s;
+    }
+  }
+  /**
+   * <code>string apiHostname = 16;</code>
+   * @return The bytes for apiHostname.
+   */
+  public com.google.protobuf.ByteString
+      getApiHostnameBytes() {
+    java.lang.Object ref = apiHostname_;
+    if (ref instanceof java.lang.String) {
+      com.google.protobuf.ByteString b = 
+          com.google.protobuf.ByteString.copyFromUtf8(
+              (java.lang.String) ref);
+      apiHostname_ = b;
+      return b;
+    } else {
+      return (com.google.protobuf.ByteString) ref;
+    }
+  }
+
+  public static final int USERNAME_FIELD_NUMBER = 17;
+  private volatile java.lang.Object username_;
+  /**
+   * <code>string username = 17;</code>
+   * @return The username.
+   */
+  public java.lang.String getUsername() {
+    java.lang.Object ref = username_;
+    if (ref instanceof java.lang.String) {
+      return (java.lang.String) ref;
+    } else {
+      com.google.protobuf.ByteString bs = 
+          (com.google.protobuf.ByteString) ref;
+      java.lang.String s = bs.toStringUtf8();
+      username_ = s;
+      return s;
+    }
+  }
+  /**
+   * <code>string username = 17;</code>
+   * @return The bytes for username.
+   */
+  public com.google.protobuf.ByteString
+      getUsernameBytes() {
+    java.lang.Object ref = username_;
+    if (ref instanceof java.lang.String) {
+      com.google.protobuf.ByteString b = 
+          com.google.protobuf.ByteString.copyFromUtf8(
+              (java.lang.String) ref);
+      username_ = b;
+      return b;
+    } else {
+      return (com.google.protobuf.ByteString) ref;
+    }
+  }
+
+  public static final int USERTENANTDOMAIN_FIELD_NUMBER = 18;
+  private volatile java.lang.Object userTenantDomain_;
+  /**
+   * <code>string userTenantDomain = 18;</code>
+   * @return The userTenantDomain.
+   */
+  public java.lang.String getUserTenantDomain() {
+    java.lang.Object ref = userTenantDomain_;
+    if (ref instanceof java.lang.String) {
+      return (java.lang.String) ref;
+    } else {
+      com.google.protobuf.ByteString bs = 
+          (com.google.protobuf.ByteString) ref;
+      java.lang.String s = bs.toStringUtf8();
+      userTenantDomain_ = s;
+      return s;
+    }
+  }
+  /**
+   * <code>string userTenantDomain = 18;</code>
+   * @return The bytes for userTenantDomain.
+   */
+  public com.google.protobuf.ByteString
+      getUserTenantDomainBytes() {
+    java.lang.Object ref = userTenantDomain_;
+    if (ref instanceof java.lang.String) {
+      com.google.protobuf.ByteString b = 
+          com.google.protobuf.ByteString.copyFromUtf8(
+              (java.lang.String) ref);
+      userTenantDomain_ = b;
+      return b;
+    } else {
+      return (com.google.protobuf.ByteString) ref;
+    }
+  }
+
+  public static final int USERIP_FIELD_NUMBER = 19;
+  private volatile java.lang.Object userIp_;
+  /**
+   * <code>string userIp = 19;</code>
+   * @return The userIp.
+   */
+  public java.lang.String getUserIp() {
+    java.lang.Object ref = userIp_;
+    if (ref instanceof java.lang.String) {
+      return (java.lang.String) ref;
+    } else {
+      com.google.protobuf.ByteString bs = 
+          (com.google.protobuf.ByteString) ref;
+      java.lang.String s = bs.toStringUtf8();
+      userIp_ = s;
+      return s;
+    }
+  }
+  /**
+   * <code>string userIp = 19;</code>
+   * @return The bytes for userIp.
+   */
+  public com.google.protobuf.ByteString
+      getUserIpBytes() {
+    java.lang.Object ref = userIp_;
+    if (ref instanceof java.lang.String) {
+      com.google.protobuf.ByteString b = 
+          com.google.protobuf.ByteString.copyFromUtf8(
+              (java.lang.String) ref);
+      userIp_ = b;
+      return b;
+    } else {
+      return (com.google.protobuf.ByteString) ref;
+    }
+  }
+
+  public static final int USERAGENT_FIELD_NUMBER = 20;
+  private volatile java.lang.Object userAgent_;
+  /**
+   * <code>string userAgent = 20;</code>
+   * @return The userAgent.
+   */
+  public java.lang.String getUserAgent() {
+    java.lang.Object ref = userAgent_;
+    if (ref instanceof java.lang.String) {
+      return (java.lang.String) ref;
+    } else {
+      com.google.protobuf.ByteString bs = 
+          (com.google.protobuf.ByteString) ref;
+      java.lang.String s = bs.toStringUtf8();
+      userAgent_ = s;
+      return s;
+    }
+  }
+  /**
+   * <code>string userAgent = 20;</code>
+   * @return The bytes for userAgent.
+   */
+  public com.google.protobuf.ByteString
+      getUserAgentBytes() {
+    java.lang.Object ref = userAgent_;
+    if (ref instanceof java.lang.String) {
+      com.google.protobuf.ByteString b = 
+          com.google.protobuf.ByteString.copyFromUtf8(
+              (java.lang.String) ref);
+      userAgent_ = b;
+      return b;
+    } else {
+      return (com.google.protobuf.ByteString) ref;
+    }
+  }
+
+  public static final int REQUESTTIMESTAMP_FIELD_NUMBER = 21;
+  private long requestTimestamp_;
+  /**
+   * <code>int64 requestTimestamp = 21;</code>
+   * @return The requestTimestamp.
+   */
+  public long getRequestTimestamp() {
+    return requestTimestamp_;
+  }
+
+  public static final int THROTTLEDOUT_FIELD_NUMBER = 22;
+  private boolean throttledOut_;
+  /**
+   * <code>bool throttledOut = 22;</code>
+   * @return The throttledOut.
+   */
+  public boolean getThrottledOut() {
+    return throttledOut_;
+  }
+
+  public static final int RESPONSETIME_FIELD_NUMBER = 23;
+  private long responseTime_;
+  /**
+   * <code>int64 responseTime = 23;</code>
+   * @return The responseTime.
+   */
+  public long getResponseTime() {
+    return responseTime_;
+  }
+
+  public static final int SERVICETIME_FIELD_NUMBER = 24;
+  private long serviceTime_;
+  /**
+   * <code>int64 serviceTime = 24;</code>
+   * @return The serviceTime.
+   */
+  public long getServiceTime() {
+    return serviceTime_;
+  }
+
+  public static final int BACKENDTIME_FIELD_NUMBER = 25;
+  private long backendTime_;
+  /**
+   * <code>int64 backendTime = 25;</code>
+   * @return The backendTime.
+   */
+  public long getBackendTime() {
+    return backendTime_;
+  }
+
+  public static final int RESPONSECACHEHIT_FIELD_NUMBER = 26;
+  private boolean responseCacheHit_;
+  /**
+   * <code>bool responseCacheHit = 26;</code>
+   * @return The responseCacheHit.
+   */
+  public boolean getResponseCacheHit() {
+    return responseCacheHit_;
+  }
+
+  public static final int RESPONSESIZE_FIELD_NUMBER = 27;
+  private long responseSize_;
+  /**
+   * <code>int64 responseSize = 27;</code>
+   * @return The responseSize.
+   */
+  public long getResponseSize() {
+    return responseSize_;
+  }
+
+  public static final int PROTOCOL_FIELD_NUMBER = 28;
+  private volatile java.lang.Object protocol_;
+  /**
+   * <code>string protocol = 28;</code>
+   * @return The protocol.
+   */
+  public java.lang.String getProtocol() {
+    java.lang.Object ref = protocol_;
+    if (ref instanceof java.lang.String) {
+      return (java.lang.String) ref;
+    } else {
+      com.google.protobuf.ByteString bs = 
+          (com.google.protobuf.ByteString) ref;
+      java.lang.String s = bs.toStringUtf8();
+      protocol_ = s;
+      return s;
+    }
+  }
+  /**
+   * <code>string protocol = 28;</code>
+   * @return The bytes for protocol.
+   */
+  public com.google.protobuf.ByteString
+      getProtocolBytes() {
+    java.lang.Object ref = protocol_;
+    if (ref instanceof java.lang.String) {
+      com.google.protobuf.ByteString b = 
+          com.google.protobuf.ByteString.copyFromUtf8(
+              (java.lang.String) ref);
+      protocol_ = b;
+      return b;
+    } else {
+      return (com.google.protobuf.ByteString) ref;
+    }
+  }
+
+  public static final int RESPONSECODE_FIELD_NUMBER = 29;
+  private int responseCode_;
+  /**
+   * <code>int32 responseCode = 29;</code>
+   * @return The responseCode.
+   */
+  public int getResponseCode() {
+    return responseCode_;
+  }
+
+  public static final int DESTINATION_FIELD_NUMBER = 30;
+  private volatile java.lang.Object destination_;
+  /**
+   * <code>string destination = 30;</code>
+   * @return The destination.
+   */
+  public java.lang.String getDestination() {
+    java.lang.Object ref = destination_;
+    if (ref instanceof java.lang.String) {
+      return (java.lang.String) ref;
+    } else {
+      com.google.protobuf.ByteString bs = 
+          (com.google.protobuf.ByteString) ref;
+      java.lang.String s = bs.toStringUtf8();
+      destination_ = s;
+      return s;
+    }
+  }
+  /**
+   * <code>string destination = 30;</code>
+   * @return The bytes for destination.
+   */
+  public com.google.protobuf.ByteString
+      getDestinationBytes() {
+    java.lang.Object ref = destination_;
+    if (ref instanceof java.lang.String) {
+      com.google.protobuf.ByteString b = 
+          com.google.protobuf.ByteString.copyFromUtf8(
+              (java.lang.String) ref);
+      destination_ = b;
+      return b;
+    } else {
+      return (com.google.protobuf.ByteString) ref;
+    }
+  }
+
+  public static final int SECURITYLATENCY_FIELD_NUMBER = 31;
+  private long securityLatency_;
+  /**
+   * <code>int64 securityLatency = 31;</code>
+   * @return The securityLatency.
+   */
+  public long getSecurityLatency() {
+    return securityLatency_;
+  }
+
+  public static final int THROTTLINGLATENCY_FIELD_NUMBER = 32;
+  private long throttlingLatency_;
+  /**
+   * <code>int64 throttlingLatency = 32;</code>
+   * @return The throttlingLatency.
+   */
+  public long getThrottlingLatency() {
+    return throttlingLatency_;
+  }
+
+  public static final int REQUESTMEDLAT_FIELD_NUMBER = 33;
+  private long requestMedLat_;
+  /**
+   * <code>int64 requestMedLat = 33;</code>
+   * @return The requestMedLat.
+   */
+  public long getRequestMedLat() {
+    return requestMedLat_;
+  }
+
+  public static final int RESPONSEMEDLAT_FIELD_NUMBER = 34;
+  private long responseMedLat_;
+  /**
+   * <code>int64 responseMedLat = 34;</code>
+   * @return The responseMedLat.
+   */
+  public long getResponseMedLat() {
+    return responseMedLat_;
+  }
+
+  public static final int BACKENDLATENCY_FIELD_NUMBER = 35;
+  private long backendLatency_;
+  /**
+   * <code>int64 backendLatency = 35;</code>
+   * @return The backendLatency.
+   */
+  public long getBackendLatency() {
+    return backendLatency_;
+  }
+
+  public static final int OTHERLATENCY_FIELD_NUMBER = 36;
+  private long otherLatency_;
+  /**
+   * <code>int64 otherLatency = 36;</code>
+   * @return The otherLatency.
+   */
+  public long getOtherLatency() {
+    return otherLatency_;
+  }
+
+  public static final int GATEWAYTYPE_FIELD_NUMBER = 37;
+  private volatile java.lang.Object gatewayType_;
+  /**
+   * <code>string gatewayType = 37;</code>
+   * @return The gatewayType.
+   */
+  public java.lang.String getGatewayType() {
+    java.lang.Object ref = gatewayType_;
+    if (ref instanceof java.lang.String) {
+      return (java.lang.String) ref;
+    } else {
+      com.google.protobuf.ByteString bs = 
+          (com.google.protobuf.ByteString) ref;
+      java.lang.String s = bs.toStringUtf8();
+      gatewayType_ = s;
+      return s;
+    }
+  }
+  /**
+   * <code>string gatewayType = 37;</code>
+   * @return The bytes for gatewayType.
+   */
+  public com.google.protobuf.ByteString
+      getGatewayTypeBytes() {
+    java.lang.Object ref = gatewayType_;
+    if (ref instanceof java.lang.String) {
+      com.google.protobuf.ByteString b = 
+          com.google.protobuf.ByteString.copyFromUtf8(
+              (java.lang.String) ref);
+      gatewayType_ = b;
+      return b;
+    } else {
+      return (com.google.protobuf.ByteString) ref;
+    }
+  }
+
+  public static final int LABEL_FIELD_NUMBER = 38;
+  private volatile java.lang.Object label_;
+  /**
+   * <code>string label = 38;</code>
+   * @return The label.
+   */
+  public java.lang.String getLabel() {
+    java.lang.Object ref = label_;
+    if (ref instanceof java.lang.String) {
+      return (java.lang.String) ref;
+    } else {
+      com.google.protobuf.ByteString bs = 
+          (com.google.protobuf.ByteString) ref;
+      java.lang.String s = bs.toStringUtf8();
+      label_ = s;
+      return s;
+    }
+  }
+  /**
+   * <code>string label = 38;</code>
+   * @return The bytes for label.
+   */
+  public com.google.protobuf.ByteString
+      getLabelBytes() {
+    java.lang.Object ref = label_;
+    if (ref instanceof java.lang.String) {
+      com.google.protobuf.ByteString b = 
+          com.google.protobuf.ByteString.copyFromUtf8(
+              (java.lang.String) ref);
+      label_ = b;
+      return b;
+    } else {
+      return (com.google.protobuf.ByteString) ref;
+    }
+  }
+
+  public static final int SUBSCRIBER_FIELD_NUMBER = 39;
+  private volatile java.lang.Object subscriber_;
+  /**
+   * <code>string subscriber = 39;</code>
+   * @return The subscriber.
+   */
+  public java.lang.String getSubscriber() {
+    java.lang.Object ref = subscriber_;
+    if (ref instanceof java.lang.String) {
+      return (java.lang.String) ref;
+    } else {
+      com.google.protobuf.ByteString bs = 
+          (com.google.protobuf.ByteString) ref;
+      java.lang.String s = bs.toStringUtf8();
+      subscriber_ = s;
+      return s;
+    }
+  }
+  /**
+   * <code>string subscriber = 39;</code>
+   * @return The bytes for subscriber.
+   */
+  public com.google.protobuf.ByteString
+      getSubscriberBytes() {
+    java.lang.Object ref = subscriber_;
+    if (ref instanceof java.lang.String) {
+      com.google.protobuf.ByteString b = 
+          com.google.protobuf.ByteString.copyFromUtf8(
+              (java.lang.String) ref);
+      subscriber_ = b;
+      return b;
+    } else {
+      return (com.google.protobuf.ByteString) ref;
+    }
+  }
+
+  public static final int THROTTLEDOUTREASON_FIELD_NUMBER = 40;
+  private volatile java.lang.Object throttledOutReason_;
+  /**
+   * <code>string throttledOutReason = 40;</code>
+   * @return The throttledOutReason.
+   */
+  public java.lang.String getThrottledOutReason() {
+    java.lang.Object ref = throttledOutReason_;
+    if (ref instanceof java.lang.String) {
+      return (java.lang.String) ref;
+    } else {
+      com.google.protobuf.ByteString bs = 
+          (com.google.protobuf.ByteString) ref;
+      java.lang.String s = bs.toStringUtf8();
+      throttledOutReason_ = s;
+      return s;
+    }
+  }
+  /**
+   * <code>string throttledOutReason = 40;</code>
+   * @return The bytes for throttledOutReason.
+   */
+  public com.google.protobuf.ByteString
+      getThrottledOutReasonBytes() {
+    java.lang.Object ref = throttledOutReason_;
+    if (ref instanceof java.lang.String) {
+      com.google.protobuf.ByteString b = 
+          com.google.protobuf.ByteString.copyFromUtf8(
+              (java.lang.String) ref);
+      throttledOutReason_ = b;
+      return b;
+    } else {
+      return (com.google.protobuf.ByteString) ref;
+    }
+  }
+
+  public static final int THROTTLEDOUTTIMESTAMP_FIELD_NUMBER = 41;
+  private long throttledOutTimestamp_;
+  /**
+   * <code>int64 throttledOutTimestamp = 41;</code>
+   * @return The throttledOutTimestamp.
+   */
+  public long getThrottledOutTimestamp() {
+    return throttledOutTimestamp_;
+  }
+
+  public static final int HOSTNAME_FIELD_NUMBER = 42;
+  private volatile java.lang.Object hostname_;
+  /**
+   * <code>string hostname = 42;</code>
+   * @return The hostname.
+   */
+  public java.lang.String getHostname() {
+    java.lang.Object ref = hostname_;
+    if (ref instanceof java.lang.String) {
+      return (java.lang.String) ref;
+    } else {
+      com.google.protobuf.ByteString bs = 
+          (com.google.protobuf.ByteString) ref;
+      java.lang.String s = bs.toStringUtf8();
+      hostname_ = s;
+      return s;
+    }
+  }
+  /**
+   * <code>string hostname = 42;</code>
+   * @return The bytes for hostname.
+   */
+  public com.google.protobuf.ByteString
+      getHostnameBytes() {
+    java.lang.Object ref = hostname_;
+    if (ref instanceof java.lang.String) {
+      com.google.protobuf.ByteString b = 
+          com.google.protobuf.ByteString.copyFromUtf8(
+              (java.lang.String) ref);
+      hostname_ = b;
+      return b;
+    } else {
+      return (com.google.protobuf.ByteString) ref;
+    }
+  }
+
+  public static final int ERRORCODE_FIELD_NUMBER = 43;
+  private volatile java.lang.Object errorCode_;
+  /**
+   * <code>string errorCode = 43;</code>
+   * @return The errorCode.
+   */
+  public java.lang.String getErrorCode() {
+    java.lang.Object ref = errorCode_;
+    if (ref instanceof java.lang.String) {
+      return (java.lang.String) ref;
+    } else {
+      com.google.protobuf.ByteString bs = 
+          (com.google.protobuf.ByteString) ref;
+      java.lang.String s = bs.toStringUtf8();
+      errorCode_ = s;
+      return s;
+    }
+  }
+  /**
+   * <code>string errorCode = 43;</code>
+   * @return The bytes for errorCode.
+   */
+  public com.google.protobuf.ByteString
+      getErrorCodeBytes() {
+    java.lang.Object ref = errorCode_;
+    if (ref instanceof java.lang.String) {
+      com.google.protobuf.ByteString b = 
+          com.google.protobuf.ByteString.copyFromUtf8(
+              (java.lang.String) ref);
+      errorCode_ = b;
+      return b;
+    } else {
+      return (com.google.protobuf.ByteString) ref;
+    }
+  }
+
+  public static final int ERRORMESSAGE_FIELD_NUMBER = 44;
+  private volatile java.lang.Object errorMessage_;
+  /**
+   * <code>string errorMessage = 44;</code>
+   * @return The errorMessage.
+   */
+  public java.lang.String getErrorMessage() {
+    java.lang.Object ref = errorMessage_;
+    if (ref instanceof java.lang.String) {
+      return (java.lang.String) ref;
+    } else {
+      com.google.protobuf.ByteString bs = 
+          (com.google.protobuf.ByteString) ref;
+      java.lang.String s = bs.toStringUtf8();
+      errorMessage_ = s;
+      return s;
+    }
+  }
+  /**
+   * <code>string errorMessage = 44;</code>
+   * @return The bytes for errorMessage.
+   */
+  public com.google.protobuf.ByteString
+      getErrorMessageBytes() {
+    java.lang.Object ref = errorMessage_;
+    if (ref instanceof java.lang.String) {
+      com.google.protobuf.ByteString b = 
+          com.google.protobuf.ByteString.copyFromUtf8(
+              (java.lang.String) ref);
+      errorMessage_ = b;
+      return b;
+    } else {
+      return (com.google.protobuf.ByteString) ref;
+    }
+  }
+
+  private byte memoizedIsInitialized = -1;
+  @java.lang.Override
+  public final boolean isInitialized() {
+    byte isInitialized = memoizedIsInitialized;
+    if (isInitialized == 1) return true;
+    if (isInitialized == 0) return false;
+
+    memoizedIsInitialized = 1;
+    return true;
+  }
+
+  @java.lang.Override
+  public void writeTo(com.google.protobuf.CodedOutputStream output)
+                      throws java.io.IOException {
+    if (!getMessageStreamNameBytes().isEmpty()) {
+      com.google.protobuf.GeneratedMessageV3.writeString(output, 1, messageStreamName_);
+    }
+    if (!getMetaClientTypeBytes().isEmpty()) {
+      com.google.protobuf.GeneratedMessageV3.writeString(output, 2, metaClientType_);
+    }
+    if (!getApplicationConsumerKeyBytes().isEmpty()) {
+      com.google.protobuf.GeneratedMessageV3.writeString(output, 3, applicationConsumerKey_);
+    }
+    if (!getApplicationNameBytes().isEmpty()) {
+      com.google.protobuf.GeneratedMessageV3.writeString(output, 4, applicationName_);
+    }
+    if (!getApplicationIdBytes().isEmpty()) {
+      com.google.protobuf.GeneratedMessageV3.writeString(output, 5, applicationId_);
+    }
+    if (!getApplicationOwnerBytes().isEmpty()) {
+      com.google.protobuf.GeneratedMessageV3.writeString(output, 6, applicationOwner_);
+    }
+    if (!getApiContextBytes().isEmpty()) {
+      com.google.protobuf.GeneratedMessageV3.writeString(output, 7, apiContext_);
+    }
+    if (!getApiNameBytes().isEmpty()) {
+      com.google.protobuf.GeneratedMessageV3.writeString(output, 8, apiName_);
+    }
+    if (!getApiVersionBytes().isEmpty()) {
+      com.google.protobuf.GeneratedMessageV3.writeString(output, 9, apiVersion_);
+    }
+    if (!getApiResourcePathBytes().isEmpty()) {
+      com.google.protobuf.GeneratedMessageV3.writeString(output, 10, apiResourcePath_);
+    }
+    if (!getApiResourceTemplateBytes().isEmpty()) {
+      com.google.protobuf.GeneratedMessageV3.writeString(output, 11, apiResourceTemplate_);
+    }
+    if (!getApiMethodBytes().isEmpty()) {
+      com.google.protobuf.GeneratedMessageV3.writeString(output, 12, apiMethod_);
+    }
+    if (!getApiCreatorBytes().isEmpty()) {
+      com.google.protobuf.GeneratedMessageV3.writeString(output, 13, apiCreator_);
+    }
+    if (!getApiCreatorTenantDomainBytes().isEmpty()) {
+      com.google.protobuf.GeneratedMessageV3.writeString(output, 14, apiCreatorTenantDomain_);
+    }
+    if (!getApiTierBytes().isEmpty()) {
+      com.google.protobuf.GeneratedMessageV3.writeString(output, 15, apiTier_);
+    }
+    if (!getApiHostnameBytes().isEmpty()) {
+      com.google.protobuf.GeneratedMessageV3.writeString(output, 16, apiHostname_);
+    }
+    if (!getUsernameBytes().isEmpty()) {
+      com.google.protobuf.GeneratedMessageV3.writeString(output, 17, username_);
+    }
+    if (!getUserTenantDomainBytes().isEmpty()) {
+      com.google.protobuf.GeneratedMessageV3.writeString(output, 18, userTenantDomain_);
+    }
+    if (!getUserIpBytes().isEmpty()) {
+      com.google.protobuf.GeneratedMessageV3.writeString(output, 19, userIp_);
+    }
+    if (!getUserAgentBytes().isEmpty()) {
+      com.google.protobuf.GeneratedMessageV3.writeString(output, 20, userAgent_);
+    }
+    if (requestTimestamp_ != 0L) {
+      output.writeInt64(21, requestTimestamp_);
+    }
+    if (throttledOut_ != false) {
+      output.writeBool(22, throttledOut_);
+    }
+    if (responseTime_ != 0L) {
+      output.writeInt64(23, responseTime_);
+    }
+    if (serviceTime_ != 0L) {
+      output.writeInt64(24, serviceTime_);
+    }
+    if (backendTime_ != 0L) {
+      output.writeInt64(25, backendTime_);
+    }
+    if (responseCacheHit_ != false) {
+      output.writeBool(26, responseCacheHit_);
+    }
+    if (responseSize_ != 0L) {
+      output.writeInt64(27, responseSize_);
+    }
+    if (!getProtocolBytes().isEmpty()) {
+      com.google.protobuf.GeneratedMessageV3.writeString(output, 28, protocol_);
+    }
+    if (responseCode_ != 0) {
+      output.writeInt32(29, responseCode_);
+    }
+    if (!getDestinationBytes().isEmpty()) {
+      com.google.protobuf.GeneratedMessageV3.writeString(output, 30, destination_);
+    }
+    if (securityLatency_ != 0L) {
+      output.writeInt64(31, securityLatency_);
+    }
+    if (throttlingLatency_ != 0L) {
+      output.writeInt64(32, throttlingLatency_);
+    }
+    if (requestMedLat_ != 0L) {
+      output.writeInt64(33, requestMedLat_);
+    }
+    if (responseMedLat_ != 0L) {
+      output.writeInt64(34, responseMedLat_);
+    }
+    if (backendLatency_ != 0L) {
+      output.writeInt64(35, backendLatency_);
+    }
+    if (otherLatency_ != 0L) {
+      output.writeInt64(36, otherLatency_);
+    }
+    if (!getGatewayTypeBytes().isEmpty()) {
+      com.google.protobuf.GeneratedMessageV3.writeString(output, 37, gatewayType_);
+    }
+    if (!getLabelBytes().isEmpty()) {
+      com.google.protobuf.GeneratedMessageV3.writeString(output, 38, label_);
+    }
+    if (!getSubscriberBytes().isEmpty()) {
+      com.google.protobuf.GeneratedMessageV3.writeString(output, 39, subscriber_);
+    }
+    if (!getThrottledOutReasonBytes().isEmpty()) {
+      com.google.protobuf.GeneratedMessageV3.writeString(output, 40, throttledOutReason_);
+    }
+    if (throttledOutTimestamp_ != 0L) {
+      output.writeInt64(41, throttledOutTimestamp_);
+    }
+    if (!getHostnameBytes().isEmpty()) {
+      com.google.protobuf.GeneratedMessageV3.writeString(output, 42, hostname_);
+    }
+    if (!getErrorCodeBytes().isEmpty()) {
+      com.google.protobuf.GeneratedMessageV3.writeString(output, 43, errorCode_);
+    }
+    if (!getErrorMessageBytes().isEmpty()) {
+      com.google.protobuf.GeneratedMessageV3.writeString(output, 44, errorMessage_);
+    }
+    unknownFields.writeTo(output);
+  }
+
+  @java.lang.Override
+  public int getSerializedSize() {
+    int size = memoizedSize;
+    if (size != -1) return size;
+
+    size = 0;
+    if (!getMessageStreamNameBytes().isEmpty()) {
+      size += com.google.protobuf.GeneratedMessageV3.computeStringSize(1, messageStreamName_);
+    }
+    if (!getMetaClientTypeBytes().isEmpty()) {
+      size += com.google.protobuf.GeneratedMessageV3.computeStringSize(2, metaClientType_);
+    }
+    if (!getApplicationConsumerKeyBytes().isEmpty()) {
+      size += com.google.protobuf.GeneratedMessageV3.computeStringSize(3, applicationConsumerKey_);
+    }
+    if (!getApplicationNameBytes().isEmpty()) {
+      size += com.google.protobuf.GeneratedMessageV3.computeStringSize(4, applicationName_);
+    }
+    if (!getApplicationIdBytes().isEmpty()) {
+      size += com.google.protobuf.GeneratedMessageV3.computeStringSize(5, applicationId_);
+    }
+    if (!getApplicationOwnerBytes().isEmpty()) {
+      size += com.google.protobuf.GeneratedMessageV3.computeStringSize(6, applicationOwner_);
+    }
+    if (!getApiContextBytes().isEmpty()) {
+      size += com.google.protobuf.GeneratedMessageV3.computeStringSize(7, apiContext_);
+    }
+    if (!getApiNameBytes().isEmpty()) {
+      size += com.google.protobuf.GeneratedMessageV3.computeStringSize(8, apiName_);
+    }
+    if (!getApiVersionBytes().isEmpty()) {
+      size += com.google.protobuf.GeneratedMessageV3.computeStringSize(9, apiVersion_);
+    }
+    if (!getApiResourcePathBytes().isEmpty()) {
+      size += com.google.protobuf.GeneratedMessageV3.computeStringSize(10, apiResourcePath_);
+    }
+    if (!getApiResourceTemplateBytes().isEmpty()) {
+      size += com.google.protobuf.GeneratedMessageV3.computeStringSize(11, apiResourceTemplate_);
+    }
+    if (!getApiMethodBytes().isEmpty()) {
+      size += com.google.protobuf.GeneratedMessageV3.computeStringSize(12, apiMethod_);
+    }
+    if (!getApiCreatorBytes().isEmpty()) {
+      size += com.google.protobuf.GeneratedMessageV3.computeStringSize(13, apiCreator_);
+    }
+    if (!getApiCreatorTenantDomainBytes().isEmpty()) {
+      size += com.google.protobuf.GeneratedMessageV3.computeStringSize(14, apiCreatorTenantDomain_);
+    }
+    if (!getApiTierBytes().isEmpty()) {
+      size += com.google.protobuf.GeneratedMessageV3.computeStringSize(15, apiTier_);
+    }
+    if (!getApiHostnameBytes().isEmpty()) {
+      size += com.google.protobuf.GeneratedMessageV3.computeStringSize(16, apiHostname_);
+    }
+    if (!getUsernameBytes().isEmpty()) {
+      size += com.google.protobuf.GeneratedMessageV3.computeStringSize(17, username_);
+    }
+    if (!getUserTenantDomainBytes().isEmpty()) {
+      size += com.google.protobuf.GeneratedMessageV3.computeStringSize(18, userTenantDomain_);
+    }
+    if (!getUserIpBytes().isEmpty()) {
+      size += com.google.protobuf.GeneratedMessageV3.computeStringSize(19, userIp_);
+    }
+    if (!getUserAgentBytes().isEmpty()) {
+      size += com.google.protobuf.GeneratedMessageV3.computeStringSize(20, userAgent_);
+    }
+    if (requestTimestamp_ != 0L) {
+      size += com.google.protobuf.CodedOutputStream
+        .computeInt64Size(21, requestTimestamp_);
+    }
+    if (throttledOut_ != false) {
+      size += com.google.protobuf.CodedOutputStream
+        .computeBoolSize(22, throttledOut_);
+    }
+    if (responseTime_ != 0L) {
+      size += com.google.protobuf.CodedOutputStream
+        .computeInt64Size(23, responseTime_);
+    }
+    if (serviceTime_ != 0L) {
+      size += com.google.protobuf.CodedOutputStream
+        .computeInt64Size(24, serviceTime_);
+    }
+    if (backendTime_ != 0L) {
+      size += com.google.protobuf.CodedOutputStream
+        .computeInt64Size(25, backendTime_);
+    }
+    if (responseCacheHit_ != false) {
+      size += com.google.protobuf.CodedOutputStream
+        .computeBoolSize(26, responseCacheHit_);
+    }
+    if (responseSize_ != 0L) {
+      size += com.google.protobuf.CodedOutputStream
+        .computeInt64Size(27, responseSize_);
+    }
+    if (!getProtocolBytes().isEmpty()) {
+      size += com.google.protobuf.GeneratedMessageV3.computeStringSize(28, protocol_);
+    }
+    if (responseCode_ != 0) {
+      size += com.google.protobuf.CodedOutputStream
+        .computeInt32Size(29, responseCode_);
+    }
+    if (!getDestinationBytes().isEmpty()) {
+      size += com.google.protobuf.GeneratedMessageV3.computeStringSize(30, destination_);
+    }
+    if (securityLatency_ != 0L) {
+      size += com.google.protobuf.CodedOutputStream
+        .computeInt64Size(31, securityLatency_);
+    }
+    if (throttlingLatency_ != 0L) {
+      size += com.google.protobuf.CodedOutputStream
+        .computeInt64Size(32, throttlingLatency_);
+    }
+    if (requestMedLat_ != 0L) {
+      size += com.google.protobuf.CodedOutputStream
+        .computeInt64Size(33, requestMedLat_);
+    }
+    if (responseMedLat_ != 0L) {
+      size += com.google.protobuf.CodedOutputStream
+        .computeInt64Size(34, responseMedLat_);
+    }
+    if (backendLatency_ != 0L) {
+      size += com.google.protobuf.CodedOutputStream
+        .computeInt64Size(35, backendLatency_);
+    }
+    if (otherLatency_ != 0L) {
+      size += com.google.protobuf.CodedOutputStream
+        .computeInt64Size(36, otherLatency_);
+    }
+    if (!getGatewayTypeBytes().isEmpty()) {
+      size += com.google.protobuf.GeneratedMessageV3.computeStringSize(37, gatewayType_);
+    }
+    if (!getLabelBytes().isEmpty()) {
+      size += com.google.protobuf.GeneratedMessageV3.computeStringSize(38, label_);
+    }
+    if (!getSubscriberBytes().isEmpty()) {
+      size += com.google.protobuf.GeneratedMessageV3.computeStringSize(39, subscriber_);
+    }
+    if (!getThrottledOutReasonBytes().isEmpty()) {
+      size += com.google.protobuf.GeneratedMessageV3.computeStringSize(40, throttledOutReason_);
+    }
+    if (throttledOutTimestamp_ != 0L) {
+      size += com.google.protobuf.CodedOutputStream
+        .computeInt64Size(41, throttledOutTimestamp_);
+    }
+    if (!getHostnameBytes().isEmpty()) {
+      size += com.google.protobuf.GeneratedMessageV3.computeStringSize(42, hostname_);
+    }
+    if (!getErrorCodeBytes().isEmpty()) {
+      size += com.google.protobuf.GeneratedMessageV3.computeStringSize(43, errorCode_);
+    }
+    if (!getErrorMessageBytes().isEmpty()) {
+      size += com.google.protobuf.GeneratedMessageV3.computeStringSize(44, errorMessage_);
+    }
+    size += unknownFields.getSerializedSize();
+    memoizedSize = size;
+    return size;
+  }
+
+  @java.lang.Override
+  public boolean equals(final java.lang.Object obj) {
+    if (obj == this) {
+     return true;
+    }
+    if (!(obj instanceof org.wso2.micro.gateway.tests.grpc.gen.AnalyticsStreamMessage)) {
+      return super.equals(obj);
+    }
+    org.wso2.micro.gateway.tests.grpc.gen.AnalyticsStreamMessage other = (org.wso2.micro.gateway.tests.grpc.gen.AnalyticsStreamMessage) obj;
+
+    if (!getMessageStreamName()
+        .equals(other.getMessageStreamName())) return false;
+    if (!getMetaClientType()
+        .equals(other.getMetaClientType())) return false;
+    if (!getApplicationConsumerKey()
+        .equals(other.getApplicationConsumerKey())) return false;
+    if (!getApplicationName()
+        .equals(other.getApplicationName())) return false;
+    if (!getApplicationId()
+        .equals(other.getApplicationId())) return false;
+    if (!getApplicationOwner()
+        .equals(other.getApplicationOwner())) return false;
+    if (!getApiContext()
+        .equals(other.getApiContext())) return false;
+    if (!getApiName()
+        .equals(other.getApiName())) return false;
+    if (!getApiVersion()
+        .equals(other.getApiVersion())) return false;
+    if (!getApiResourcePath()
+        .equals(other.getApiResourcePath())) return false;
+    if (!getApiResourceTemplate()
+        .equals(other.getApiResourceTemplate())) return false;
+    if (!getApiMethod()
+        .equals(other.getApiMethod())) return false;
+    if (!getApiCreator()
+        .equals(other.getApiCreator())) return false;
+    if (!getApiCreatorTenantDomain()
+        .equals(other.getApiCreatorTenantDomain())) return false;
+    if (!getApiTier()
+        .equals(other.getApiTier())) return false;
+    if (!getApiHostname()
+        .equals(other.getApiHostname())) return false;
+    if (!getUsername()
+        .equals(other.getUsername())) return false;
+    if (!getUserTenantDomain()
+        .equals(other.getUserTenantDomain())) return false;
+    if (!getUserIp()
+        .equals(other.getUserIp())) return false;
+    if (!getUserAgent()
+        .equals(other.getUserAgent())) return false;
+    if (getRequestTimestamp()
+        != other.getRequestTimestamp()) return false;
+    if (getThrottledOut()
+        != other.getThrottledOut()) return false;
+    if (getResponseTime()
+        != other.getResponseTime()) return false;
+    if (getServiceTime()
+        != other.getServiceTime()) return false;
+    if (getBackendTime()
+        != other.getBackendTime()) return false;
+    if (getResponseCacheHit()
+        != other.getResponseCacheHit()) return false;
+    if (getResponseSize()
+        != other.getResponseSize()) return false;
+    if (!getProtocol()
+        .equals(other.getProtocol())) return false;
+    if (getResponseCode()
+        != other.getResponseCode()) return false;
+    if (!getDestination()
+        .equals(other.getDestination())) return false;
+    if (getSecurityLatency()
+        != other.getSecurityLatency()) return false;
+    if (getThrottlingLatency()
+        != other.getThrottlingLatency()) return false;
+    if (getRequestMedLat()
+        != other.getRequestMedLat()) return false;
+    if (getResponseMedLat()
+        != other.getResponseMedLat()) return false;
+    if (getBackendLatency()
+        != other.getBackendLatency()) return false;
+    if (getOtherLatency()
+        != other.getOtherLatency()) return false;
+    if (!getGatewayType()
+        .equals(other.getGatewayType())) return false;
+    if (!getLabel()
+        .equals(other.getLabel())) return false;
+    if (!getSubscriber()
+        .equals(other.getSubscriber())) return false;
+    if (!getThrottledOutReason()
+        .equals(other.getThrottledOutReason())) return false;
+    if (getThrottledOutTimestamp()
+        != other.getThrottledOutTimestamp()) return false;
+    if (!getHostname()
+        .equals(other.getHostname())) return false;
+    if (!getErrorCode()
+        .equals(other.getErrorCode())) return false;
+    if (!getErrorMessage()
+        .equals(other.getErrorMessage())) return false;
+    if (!unknownFields.equals(other.unknownFields)) return false;
+    return true;
+  }
+
+  @java.lang.Override
+  public int hashCode() {
+    if (memoizedHashCode != 0) {
+      return memoizedHashCode;
+    }
+    int hash = 41;
+    hash = (19 * hash) + getDescriptor().hashCode();
+    hash = (37 * hash) + MESSAGESTREAMNAME_FIELD_NUMBER;
+    hash = (53 * hash) + getMessageStreamName().hashCode();
+    hash = (37 * hash) + META_CLIENTTYPE_FIELD_NUMBER;
+    hash = (53 * hash) + getMetaClientType().hashCode();
+    hash = (37 * hash) + APPLICATIONCONSUMERKEY_FIELD_NUMBER;
+    hash = (53 * hash) + getApplicationConsumerKey().hashCode();
+    hash = (37 * hash) + APPLICATIONNAME_FIELD_NUMBER;
+    hash = (53 * hash) + getApplicationName().hashCode();
+    hash = (37 * hash) + APPLICATIONID_FIELD_NUMBER;
+    hash = (53 * hash) + getApplicationId().hashCode();
+    hash = (37 * hash) + APPLICATIONOWNER_FIELD_NUMBER;
+    hash = (53 * hash) + getApplicationOwner().hashCode();
+    hash = (37 * hash) + APICONTEXT_FIELD_NUMBER;
+    hash = (53 * hash) + getApiContext().hashCode();
+    hash = (37 * hash) + APINAME_FIELD_NUMBER;
+    hash = (53 * hash) + getApiName().hashCode();
+    hash = (37 * hash) + APIVERSION_FIELD_NUMBER;
+    hash = (53 * hash) + getApiVersion().hashCode();
+    hash = (37 * hash) + APIRESOURCEPATH_FIELD_NUMBER;
+    hash = (53 * hash) + getApiResourcePath().hashCode();
+    hash = (37 * hash) + APIRESOURCETEMPLATE_FIELD_NUMBER;
+    hash = (53 * hash) + getApiResourceTemplate().hashCode();
+    hash = (37 * hash) + APIMETHOD_FIELD_NUMBER;
+    hash = (53 * hash) + getApiMethod().hashCode();
+    hash = (37 * hash) + APICREATOR_FIELD_NUMBER;
+    hash = (53 * hash) + getApiCreator().hashCode();
+    hash = (37 * hash) + APICREATORTENANTDOMAIN_FIELD_NUMBER;
+    hash = (53 * hash) + getApiCreatorTenantDomain().hashCode();
+    hash = (37 * hash) + APITIER_FIELD_NUMBER;
+    hash = (53 * hash) + getApiTier().hashCode();
+    hash = (37 * hash) + APIHOSTNAME_FIELD_NUMBER;
+    hash = (53 * hash) + getApiHostname().hashCode();
+    hash = (37 * hash) + USERNAME_FIELD_NUMBER;
+    hash = (53 * hash) + getUsername().hashCode();
+    hash = (37 * hash) + USERTENANTDOMAIN_FIELD_NUMBER;
+    hash = (53 * hash) + getUserTenantDomain().hashCode();
+    hash = (37 * hash) + USERIP_FIELD_NUMBER;
+    hash = (53 * hash) + getUserIp().hashCode();
+    hash = (37 * hash) + USERAGENT_FIELD_NUMBER;
+    hash = (53 * hash) + getUserAgent().hashCode();
+    hash = (37 * hash) + REQUESTTIMESTAMP_FIELD_NUMBER;
+    hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
+        getRequestTimestamp());
+    hash = (37 * hash) + THROTTLEDOUT_FIELD_NUMBER;
+    hash = (53 * hash) + com.google.protobuf.Internal.hashBoolean(
+        getThrottledOut());
+    hash = (37 * hash) + RESPONSETIME_FIELD_NUMBER;
+    hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
+        getResponseTime());
+    hash = (37 * hash) + SERVICETIME_FIELD_NUMBER;
+    hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
+        getServiceTime());
+    hash = (37 * hash) + BACKENDTIME_FIELD_NUMBER;
+    hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
+        getBackendTime());
+    hash = (37 * hash) + RESPONSECACHEHIT_FIELD_NUMBER;
+    hash = (53 * hash) + com.google.protobuf.Internal.hashBoolean(
+        getResponseCacheHit());
+    hash = (37 * hash) + RESPONSESIZE_FIELD_NUMBER;
+    hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
+        getResponseSize());
+    hash = (37 * hash) + PROTOCOL_FIELD_NUMBER;
+    hash = (53 * hash) + getProtocol().hashCode();
+    hash = (37 * hash) + RESPONSECODE_FIELD_NUMBER;
+    hash = (53 * hash) + getResponseCode();
+    hash = (37 * hash) + DESTINATION_FIELD_NUMBER;
+    hash = (53 * hash) + getDestination().hashCode();
+    hash = (37 * hash) + SECURITYLATENCY_FIELD_NUMBER;
+    hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
+        getSecurityLatency());
+    hash = (37 * hash) + THROTTLINGLATENCY_FIELD_NUMBER;
+    hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
+        getThrottlingLatency());
+    hash = (37 * hash) + REQUESTMEDLAT_FIELD_NUMBER;
+    hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
+        getRequestMedLat());
+    hash = (37 * hash) + RESPONSEMEDLAT_FIELD_NUMBER;
+    hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
+        getResponseMedLat());
+    hash = (37 * hash) + BACKENDLATENCY_FIELD_NUMBER;
+    hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
+        getBackendLatency());
+    hash = (37 * hash) + OTHERLATENCY_FIELD_NUMBER;
+    hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
+        getOtherLatency());
+    hash = (37 * hash) + GATEWAYTYPE_FIELD_NUMBER;
+    hash = (53 * hash) + getGatewayType().hashCode();
+    hash = (37 * hash) + LABEL_FIELD_NUMBER;
+    hash = (53 * hash) + getLabel().hashCode();
+    hash = (37 * hash) + SUBSCRIBER_FIELD_NUMBER;
+    hash = (53 * hash) + getSubscriber().hashCode();
+    hash = (37 * hash) + THROTTLEDOUTREASON_FIELD_NUMBER;
+    hash = (53 * hash) + getThrottledOutReason().hashCode();
+    hash = (37 * hash) + THROTTLEDOUTTIMESTAMP_FIELD_NUMBER;
+    hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
+        getThrottledOutTimestamp());
+    hash = (37 * hash) + HOSTNAME_FIELD_NUMBER;
+    hash = (53 * hash) + getHostname().hashCode();
+    hash = (37 * hash) + ERRORCODE_FIELD_NUMBER;
+    hash = (53 * hash) + getErrorCode().hashCode();
+    hash = (37 * hash) + ERRORMESSAGE_FIELD_NUMBER;
+    hash = (53 * hash) + getErrorMessage().hashCode();
+    hash = (29 * hash) + unknownFields.hashCode();
+    memoizedHashCode = hash;
+    return hash;
+  }
+
+  public static org.wso2.micro.gateway.tests.grpc.gen.AnalyticsStreamMessage parseFrom(
+      java.nio.ByteBuffer data)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data);
+  }
+  public static org.wso2.micro.gateway.tests.grpc.gen.AnalyticsStreamMessage parseFrom(
+      java.nio.ByteBuffer data,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data, extensionRegistry);
+  }
+  public static org.wso2.micro.gateway.tests.grpc.gen.AnalyticsStreamMessage parseFrom(
+      com.google.protobuf.ByteString data)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data);
+  }
+  public static org.wso2.micro.gateway.tests.grpc.gen.AnalyticsStreamMessage parseFrom(
+      com.google.protobuf.ByteString data,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data, extensionRegistry);
+  }
+  public static org.wso2.micro.gateway.tests.grpc.gen.AnalyticsStreamMessage parseFrom(byte[] data)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data);
+  }
+  public static org.wso2.micro.gateway.tests.grpc.gen.AnalyticsStreamMessage parseFrom(
+      byte[] data,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data, extensionRegistry);
+  }
+  public static org.wso2.micro.gateway.tests.grpc.gen.AnalyticsStreamMessage parseFrom(java.io.InputStream input)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input);
+  }
+  public static org.wso2.micro.gateway.tests.grpc.gen.AnalyticsStreamMessage parseFrom(
+      java.io.InputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input, extensionRegistry);
+  }
+  public static org.wso2.micro.gateway.tests.grpc.gen.AnalyticsStreamMessage parseDelimitedFrom(java.io.InputStream input)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseDelimitedWithIOException(PARSER, input);
+  }
+  public static org.wso2.micro.gateway.tests.grpc.gen.AnalyticsStreamMessage parseDelimitedFrom(
+      java.io.InputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+  }
+  public static org.wso2.micro.gateway.tests.grpc.gen.AnalyticsStreamMessage parseFrom(
+      com.google.protobuf.CodedInputStream input)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input);
+  }
+  public static org.wso2.micro.gateway.tests.grpc.gen.AnalyticsStreamMessage parseFrom(
+      com.google.protobuf.CodedInputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input, extensionRegistry);
+  }
+
+  @java.lang.Override
+  public Builder newBuilderForType() { return newBuilder(); }
+  public static Builder newBuilder() {
+    return DEFAULT_INSTANCE.toBuilder();
+  }
+  public static Builder newBuilder(org.wso2.micro.gateway.tests.grpc.gen.AnalyticsStreamMessage prototype) {
+    return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+  }
+  @java.lang.Override
+  public Builder toBuilder() {
+    return this == DEFAULT_INSTANCE
+        ? new Builder() : new Builder().mergeFrom(this);
+  }
+
+  @java.lang.Override
+  protected Builder newBuilderForType(
+      com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+    Builder builder = new Builder(parent);
+    return builder;
+  }
+  /**
+   * Protobuf type {@code AnalyticsStreamMessage}
+   */
+  public static final class Builder extends
+      com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+      // @@protoc_insertion_point(builder_implements:AnalyticsStreamMessage)
+      org.wso2.micro.gateway.tests.grpc.gen.AnalyticsStreamMessageOrBuilder {
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return org.wso2.micro.gateway.tests.grpc.gen.Analytics.internal_static_AnalyticsStreamMessage_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return org.wso2.micro.gateway.tests.grpc.gen.Analytics.internal_static_AnalyticsStreamMessage_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              org.wso2.micro.gateway.tests.grpc.gen.AnalyticsStreamMessage.class, org.wso2.micro.gateway.tests.grpc.gen.AnalyticsStreamMessage.Builder.class);
+    }
+
+    // Construct using org.wso2.micro.gateway.tests.grpc.gen.AnalyticsStreamMessage.newBuilder()
+    private Builder() {
+      maybeForceBuilderInitialization();
+    }
+
+    private Builder(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      super(parent);
+      maybeForceBuilderInitialization();
+    }
+    private void maybeForceBuilderInitialization() {
+      if (com.google.protobuf.GeneratedMessageV3
+              .alwaysUseFieldBuilders) {
+      }
+    }
+    @java.lang.Override
+    public Builder clear() {
+      super.clear();
+      messageStreamName_ = "";
+
+      metaClientType_ = "";
+
+      applicationConsumerKey_ = "";
+
+      applicationName_ = "";
+
+      applicationId_ = "";
+
+      applicationOwner_ = "";
+
+      apiContext_ = "";
+
+      apiName_ = "";
+
+      apiVersion_ = "";
+
+      apiResourcePath_ = "";
+
+      apiResourceTemplate_ = "";
+
+      apiMethod_ = "";
+
+      apiCreator_ = "";
+
+      apiCreatorTenantDomain_ = "";
+
+      apiTier_ = "";
+
+      apiHostname_ = "";
+
+      username_ = "";
+
+      userTenantDomain_ = "";
+
+      userIp_ = "";
+
+      userAgent_ = "";
+
+      requestTimestamp_ = 0L;
+
+      throttledOut_ = false;
+
+      responseTime_ = 0L;
+
+      serviceTime_ = 0L;
+
+      backendTime_ = 0L;
+
+      responseCacheHit_ = false;
+
+      responseSize_ = 0L;
+
+      protocol_ = "";
+
+      responseCode_ = 0;
+
+      destination_ = "";
+
+      securityLatency_ = 0L;
+
+      throttlingLatency_ = 0L;
+
+      requestMedLat_ = 0L;
+
+      responseMedLat_ = 0L;
+
+      backendLatency_ = 0L;
+
+      otherLatency_ = 0L;
+
+      gatewayType_ = "";
+
+      label_ = "";
+
+      subscriber_ = "";
+
+      throttledOutReason_ = "";
+
+      throttledOutTimestamp_ = 0L;
+
+      hostname_ = "";
+
+      errorCode_ = "";
+
+      errorMessage_ = "";
+
+      return this;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Descriptors.Descriptor
+        getDescriptorForType() {
+      return org.wso2.micro.gateway.tests.grpc.gen.Analytics.internal_static_AnalyticsStreamMessage_descriptor;
+    }
+
+    @java.lang.Override
+    public org.wso2.micro.gateway.tests.grpc.gen.AnalyticsStreamMessage getDefaultInstanceForType() {
+      return org.wso2.micro.gateway.tests.grpc.gen.AnalyticsStreamMessage.getDefaultInstance();
+    }
+
+    @java.lang.Override
+    public org.wso2.micro.gateway.tests.grpc.gen.AnalyticsStreamMessage build() {
+      org.wso2.micro.gateway.tests.grpc.gen.AnalyticsStreamMessage result = buildPartial();
+      if (!result.isInitialized()) {
+        throw newUninitializedMessageException(result);
+      }
+      return result;
+    }
+
+    @java.lang.Override
+    public org.wso2.micro.gateway.tests.grpc.gen.AnalyticsStreamMessage buildPartial() {
+      org.wso2.micro.gateway.tests.grpc.gen.AnalyticsStreamMessage result = new org.wso2.micro.gateway.tests.grpc.gen.AnalyticsStreamMessage(this);
+      result.messageStreamName_ = messageStreamName_;
+      result.metaClientType_ = metaClientType_;
+      result.applicationConsumerKey_ = applicationConsumerKey_;
+      result.applicationName_ = applicationName_;
+      result.applicationId_ = applicationId_;
+      result.applicationOwner_ = applicationOwner_;
+      result.apiContext_ = apiContext_;
+      result.apiName_ = apiName_;
+      result.apiVersion_ = apiVersion_;
+      result.apiResourcePath_ = apiResourcePath_;
+      result.apiResourceTemplate_ = apiResourceTemplate_;
+      result.apiMethod_ = apiMethod_;
+      result.apiCreator_ = apiCreator_;
+      result.apiCreatorTenantDomain_ = apiCreatorTenantDomain_;
+      result.apiTier_ = apiTier_;
+      result.apiHostname_ = apiHostname_;
+      result.username_ = username_;
+      result.userTenantDomain_ = userTenantDomain_;
+      result.userIp_ = userIp_;
+      result.userAgent_ = userAgent_;
+      result.requestTimestamp_ = requestTimestamp_;
+      result.throttledOut_ = throttledOut_;
+      result.responseTime_ = responseTime_;
+      result.serviceTime_ = serviceTime_;
+      result.backendTime_ = backendTime_;
+      result.responseCacheHit_ = responseCacheHit_;
+      result.responseSize_ = responseSize_;
+      result.protocol_ = protocol_;
+      result.responseCode_ = responseCode_;
+      result.destination_ = destination_;
+      result.securityLatency_ = securityLatency_;
+      result.throttlingLatency_ = throttlingLatency_;
+      result.requestMedLat_ = requestMedLat_;
+      result.responseMedLat_ = responseMedLat_;
+      result.backendLatency_ = backendLatency_;
+      result.otherLatency_ = otherLatency_;
+      result.gatewayType_ = gatewayType_;
+      result.label_ = label_;
+      result.subscriber_ = subscriber_;
+      result.throttledOutReason_ = throttledOutReason_;
+      result.throttledOutTimestamp_ = throttledOutTimestamp_;
+      result.hostname_ = hostname_;
+      result.errorCode_ = errorCode_;
+      result.errorMessage_ = errorMessage_;
+      onBuilt();
+      return result;
+    }
+
+    @java.lang.Override
+    public Builder clone() {
+      return super.clone();
+    }
+    @java.lang.Override
+    public Builder setField(
+        com.google.protobuf.Descriptors.FieldDescriptor field,
+        java.lang.Object value) {
+      return super.setField(field, value);
+    }
+    @java.lang.Override
+    public Builder clearField(
+        com.google.protobuf.Descriptors.FieldDescriptor field) {
+      return super.clearField(field);
+    }
+    @java.lang.Override
+    public Builder clearOneof(
+        com.google.protobuf.Descriptors.OneofDescriptor oneof) {
+      return super.clearOneof(oneof);
+    }
+    @java.lang.Override
+    public Builder setRepeatedField(
+        com.google.protobuf.Descriptors.FieldDescriptor field,
+        int index, java.lang.Object value) {
+      return super.setRepeatedField(field, index, value);
+    }
+    @java.lang.Override
+    public Builder addRepeatedField(
+        com.google.protobuf.Descriptors.FieldDescriptor field,
+        java.lang.Object value) {
+      return super.addRepeatedField(field, value);
+    }
+    @java.lang.Override
+    public Builder mergeFrom(com.google.protobuf.Message other) {
+      if (other instanceof org.wso2.micro.gateway.tests.grpc.gen.AnalyticsStreamMessage) {
+        return mergeFrom((org.wso2.micro.gateway.tests.grpc.gen.AnalyticsStreamMessage)other);
+      } else {
+        super.mergeFrom(other);
+        return this;
+      }
+    }
+
+    public Builder mergeFrom(org.wso2.micro.gateway.tests.grpc.gen.AnalyticsStreamMessage other) {
+      if (other == org.wso2.micro.gateway.tests.grpc.gen.AnalyticsStreamMessage.getDefaultInstance()) return this;
+      if (!other.getMessageStreamName().isEmpty()) {
+        messageStreamName_ = other.messageStreamName_;
+        onChanged();
+      }
+      if (!other.getMetaClientType().isEmpty()) {
+        metaClientType_ = other.metaClientType_;
+        onChanged();
+      }
+      if (!other.getApplicationConsumerKey().isEmpty()) {
+        applicationConsumerKey_ = other.applicationConsumerKey_;
+        onChanged();
+      }
+      if (!other.getApplicationName().isEmpty()) {
+        applicationName_ = other.applicationName_;
+        onChanged();
+      }
+      if (!other.getApplicationId().isEmpty()) {
+        applicationId_ = other.applicationId_;
+        onChanged();
+      }
+      if (!other.getApplicationOwner().isEmpty()) {
+        applicationOwner_ = other.applicationOwner_;
+        onChanged();
+      }
+      if (!other.getApiContext().isEmpty()) {
+        apiContext_ = other.apiContext_;
+        onChanged();
+      }
+      if (!other.getApiName().isEmpty()) {
+        apiName_ = other.apiName_;
+        onChanged();
+      }
+      if (!other.getApiVersion().isEmpty()) {
+        apiVersion_ = other.apiVersion_;
+        onChanged();
+      }
+      if (!other.getApiResourcePath().isEmpty()) {
+        apiResourcePath_ = other.apiResourcePath_;
+        onChanged();
+      }
+      if (!other.getApiResourceTemplate().isEmpty()) {
+        apiResourceTemplate_ = other.apiResourceTemplate_;
+        onChanged();
+      }
+      if (!other.getApiMethod().isEmpty()) {
+        apiMethod_ = other.apiMethod_;
+        onChanged();
+      }
+      if (!other.getApiCreator().isEmpty()) {
+        apiCreator_ = other.apiCreator_;
+        onChanged();
+      }
+      if (!other.getApiCreatorTenantDomain().isEmpty()) {
+        apiCreatorTenantDomain_ = other.apiCreatorTenantDomain_;
+        onChanged();
+      }
+      if (!other.getApiTier().isEmpty()) {
+        apiTier_ = other.apiTier_;
+        onChanged();
+      }
+      if (!other.getApiHostname().isEmpty()) {
+        apiHostname_ = other.apiHostname_;
+        onChanged();
+      }
+      if (!other.getUsername().isEmpty()) {
+        username_ = other.username_;
+        onChanged();
+      }
+      if (!other.getUserTenantDomain().isEmpty()) {
+        userTenantDomain_ = other.userTenantDomain_;
+        onChanged();
+      }
+      if (!other.getUserIp().isEmpty()) {
+        userIp_ = other.userIp_;
+        onChanged();
+      }
+      if (!other.getUserAgent().isEmpty()) {
+        userAgent_ = other.userAgent_;
+        onChanged();
+      }
+      if (other.getRequestTimestamp() != 0L) {
+        setRequestTimestamp(other.getRequestTimestamp());
+      }
+      if (other.getThrottledOut() != false) {
+        setThrottledOut(other.getThrottledOut());
+      }
+      if (other.getResponseTime() != 0L) {
+        setResponseTime(other.getResponseTime());
+      }
+      if (other.getServiceTime() != 0L) {
+        setServiceTime(other.getServiceTime());
+      }
+      if (other.getBackendTime() != 0L) {
+        setBackendTime(other.getBackendTime());
+      }
+      if (other.getResponseCacheHit() != false) {
+        setResponseCacheHit(other.getResponseCacheHit());
+      }
+      if (other.getResponseSize() != 0L) {
+        setResponseSize(other.getResponseSize());
+      }
+      if (!other.getProtocol().isEmpty()) {
+        protocol_ = other.protocol_;
+        onChanged();
+      }
+      if (other.getResponseCode() != 0) {
+        setResponseCode(other.getResponseCode());
+      }
+      if (!other.getDestination().isEmpty()) {
+        destination_ = other.destination_;
+        onChanged();
+      }
+      if (other.getSecurityLatency() != 0L) {
+        setSecurityLatency(other.getSecurityLatency());
+      }
+      if (other.getThrottlingLatency() != 0L) {
+        setThrottlingLatency(other.getThrottlingLatency());
+      }
+      if (other.getRequestMedLat() != 0L) {
+        setRequestMedLat(other.getRequestMedLat());
+      }
+      if (other.getResponseMedLat() != 0L) {
+        setResponseMedLat(other.getResponseMedLat());
+      }
+      if (other.getBackendLatency() != 0L) {
+        setBackendLatency(other.getBackendLatency());
+      }
+      if (other.getOtherLatency() != 0L) {
+        setOtherLatency(other.getOtherLatency());
+      }
+      if (!other.getGatewayType().isEmpty()) {
+        gatewayType_ = other.gatewayType_;
+        onChanged();
+      }
+      if (!other.getLabel().isEmpty()) {
+        label_ = other.label_;
+        onChanged();
+      }
+      if (!other.getSubscriber().isEmpty()) {
+        subscriber_ = other.subscriber_;
+        onChanged();
+      }
+      if (!other.getThrottledOutReason().isEmpty()) {
+        throttledOutReason_ = other.throttledOutReason_;
+        onChanged();
+      }
+      if (other.getThrottledOutTimestamp() != 0L) {
+        setThrottledOutTimestamp(other.getThrottledOutTimestamp());
+      }
+      if (!other.getHostname().isEmpty()) {
+        hostname_ = other.hostname_;
+        onChanged();
+      }
+      if (!other.getErrorCode().isEmpty()) {
+        errorCode_ = other.errorCode_;
+        onChanged();
+      }
+      if (!other.getErrorMessage().isEmpty()) {
+        errorMessage_ = other.errorMessage_;
+        onChanged();
+      }
+      this.mergeUnknownFields(other.unknownFields);
+      onChanged();
+      return this;
+    }
+
+    @java.lang.Override
+    public final boolean isInitialized() {
+      return true;
+    }
+
+    @java.lang.Override
+    public Builder mergeFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      org.wso2.micro.gateway.tests.grpc.gen.AnalyticsStreamMessage parsedMessage = null;
+      try {
+        parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        parsedMessage = (org.wso2.micro.gateway.tests.grpc.gen.AnalyticsStreamMessage) e.getUnfinishedMessage();
+        throw e.unwrapIOException();
+      } finally {
+        if (parsedMessage != null) {
+          mergeFrom(parsedMessage);
+        }
+      }
+      return this;
+    }
+
+    private java.lang.Object messageStreamName_ = "";
+    /**
+     * <code>string messageStreamName = 1;</code>
+     * @return The messageStreamName.
+     */
+    public java.lang.String getMessageStreamName() {
+      java.lang.Object ref = messageStreamName_;
+      if (!(ref instanceof java.lang.String)) {
+        com.google.protobuf.ByteString bs =
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        messageStreamName_ = s;
+        return s;
+      } else {
+        return (java.lang.String) ref;
+      }
+    }
+    /**
+     * <code>string messageStreamName = 1;</code>
+     * @return The bytes for messageStreamName.
+     */
+    public com.google.protobuf.ByteString
+        getMessageStreamNameBytes() {
+      java.lang.Object ref = messageStreamName_;
+      if (ref instanceof String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        messageStreamName_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+    /**
+     * <code>string messageStreamName = 1;</code>
+     * @param value The messageStreamName to set.
+     * @return This builder for chaining.
+     */
+    public Builder setMessageStreamName(
+        java.lang.String value) {
+      if (value == null) {
+    throw new NullPointerException();
+  }
+  
+      messageStreamName_ = value;
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>string messageStreamName = 1;</code>
+     * @return This builder for chaining.
+     */
+    public Builder clearMessageStreamName() {
+      
+      messageStreamName_ = getDefaultInstance().getMessageStreamName();
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>string messageStreamName = 1;</code>
+     * @param value The bytes for messageStreamName to set.
+     * @return This builder for chaining.
+     */
+    public Builder setMessageStreamNameBytes(
+        com.google.protobuf.ByteString value) {
+      if (value == null) {
+    throw new NullPointerException();
+  }
+  checkByteStringIsUtf8(value);
+      
+      messageStreamName_ = value;
+      onChanged();
+      return this;
+    }
+
+    private java.lang.Object metaClientType_ = "";
+    /**
+     * <code>string meta_clientType = 2;</code>
+     * @return The metaClientType.
+     */
+    public java.lang.String getMetaClientType() {
+      java.lang.Object ref = metaClientType_;
+      if (!(ref instanceof java.lang.String)) {
+        com.google.protobuf.ByteString bs =
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        metaClientType_ = s;
+        return s;
+      } else {
+        return (java.lang.String) ref;
+      }
+    }
+    /**
+     * <code>string meta_clientType = 2;</code>
+     * @return The bytes for metaClientType.
+     */
+    public com.google.protobuf.ByteString
+        getMetaClientTypeBytes() {
+      java.lang.Object ref = metaClientType_;
+      if (ref instanceof String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        metaClientType_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+    /**
+     * <code>string meta_clientType = 2;</code>
+     * @param value The metaClientType to set.
+     * @return This builder for chaining.
+     */
+    public Builder setMetaClientType(
+        java.lang.String value) {
+      if (value == null) {
+    throw new NullPointerException();
+  }
+  
+      metaClientType_ = value;
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>string meta_clientType = 2;</code>
+     * @return This builder for chaining.
+     */
+    public Builder clearMetaClientType() {
+      
+      metaClientType_ = getDefaultInstance().getMetaClientType();
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>string meta_clientType = 2;</code>
+     * @param value The bytes for metaClientType to set.
+     * @return This builder for chaining.
+     */
+    public Builder setMetaClientTypeBytes(
+        com.google.protobuf.ByteString value) {
+      if (value == null) {
+    throw new NullPointerException();
+  }
+  checkByteStringIsUtf8(value);
+      
+      metaClientType_ = value;
+      onChanged();
+      return this;
+    }
+
+    private java.lang.Object applicationConsumerKey_ = "";
+    /**
+     * <code>string applicationConsumerKey = 3;</code>
+     * @return The applicationConsumerKey.
+     */
+    public java.lang.String getApplicationConsumerKey() {
+      java.lang.Object ref = applicationConsumerKey_;
+      if (!(ref instanceof java.lang.String)) {
+        com.google.protobuf.ByteString bs =
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        applicationConsumerKey_ = s;
+        return s;
+      } else {
+        return (java.lang.String) ref;
+      }
+    }
+    /**
+     * <code>string applicationConsumerKey = 3;</code>
+     * @return The bytes for applicationConsumerKey.
+     */
+    public com.google.protobuf.ByteString
+        getApplicationConsumerKeyBytes() {
+      java.lang.Object ref = applicationConsumerKey_;
+      if (ref instanceof String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        applicationConsumerKey_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+    /**
+     * <code>string applicationConsumerKey = 3;</code>
+     * @param value The applicationConsumerKey to set.
+     * @return This builder for chaining.
+     */
+    public Builder setApplicationConsumerKey(
+        java.lang.String value) {
+      if (value == null) {
+    throw new NullPointerException();
+  }
+  
+      applicationConsumerKey_ = value;
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>string applicationConsumerKey = 3;</code>
+     * @return This builder for chaining.
+     */
+    public Builder clearApplicationConsumerKey() {
+      
+      applicationConsumerKey_ = getDefaultInstance().getApplicationConsumerKey();
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>string applicationConsumerKey = 3;</code>
+     * @param value The bytes for applicationConsumerKey to set.
+     * @return This builder for chaining.
+     */
+    public Builder setApplicationConsumerKeyBytes(
+        com.google.protobuf.ByteString value) {
+      if (value == null) {
+    throw new NullPointerException();
+  }
+  checkByteStringIsUtf8(value);
+      
+      applicationConsumerKey_ = value;
+      onChanged();
+      return this;
+    }
+
+    private java.lang.Object applicationName_ = "";
+    /**
+     * <code>string applicationName = 4;</code>
+     * @return The applicationName.
+     */
+    public java.lang.String getApplicationName() {
+      java.lang.Object ref = applicationName_;
+      if (!(ref instanceof java.lang.String)) {
+        com.google.protobuf.ByteString bs =
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        applicationName_ = s;
+        return s;
+      } else {
+        return (java.lang.String) ref;
+      }
+    }
+    /**
+     * <code>string applicationName = 4;</code>
+     * @return The bytes for applicationName.
+     */
+    public com.google.protobuf.ByteString
+        getApplicationNameBytes() {
+      java.lang.Object ref = applicationName_;
+      if (ref instanceof String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        applicationName_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+    /**
+     * <code>string applicationName = 4;</code>
+     * @param value The applicationName to set.
+     * @return This builder for chaining.
+     */
+    public Builder setApplicationName(
+        java.lang.String value) {
+      if (value == null) {
+    throw new NullPointerException();
+  }
+  
+      applicationName_ = value;
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>string applicationName = 4;</code>
+     * @return This builder for chaining.
+     */
+    public Builder clearApplicationName() {
+      
+      applicationName_ = getDefaultInstance().getApplicationName();
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>string applicationName = 4;</code>
+     * @param value The bytes for applicationName to set.
+     * @return This builder for chaining.
+     */
+    public Builder setApplicationNameBytes(
+        com.google.protobuf.ByteString value) {
+      if (value == null) {
+    throw new NullPointerException();
+  }
+  checkByteStringIsUtf8(value);
+      
+      applicationName_ = value;
+      onChanged();
+      return this;
+    }
+
+    private java.lang.Object applicationId_ = "";
+    /**
+     * <code>string applicationId = 5;</code>
+     * @return The applicationId.
+     */
+    public java.lang.String getApplicationId() {
+      java.lang.Object ref = applicationId_;
+      if (!(ref instanceof java.lang.String)) {
+        com.google.protobuf.ByteString bs =
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        applicationId_ = s;
+        return s;
+      } else {
+        return (java.lang.String) ref;
+      }
+    }
+    /**
+     * <code>string applicationId = 5;</code>
+     * @return The bytes for applicationId.
+     */
+    public com.google.protobuf.ByteString
+        getApplicationIdBytes() {
+      java.lang.Object ref = applicationId_;
+      if (ref instanceof String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        applicationId_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+    /**
+     * <code>string applicationId = 5;</code>
+     * @param value The applicationId to set.
+     * @return This builder for chaining.
+     */
+    public Builder setApplicationId(
+        java.lang.String value) {
+      if (value == null) {
+    throw new NullPointerException();
+  }
+  
+      applicationId_ = value;
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>string applicationId = 5;</code>
+     * @return This builder for chaining.
+     */
+    public Builder clearApplicationId() {
+      
+      applicationId_ = getDefaultInstance().getApplicationId();
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>string applicationId = 5;</code>
+     * @param value The bytes for applicationId to set.
+     * @return This builder for chaining.
+     */
+    public Builder setApplicationIdBytes(
+        com.google.protobuf.ByteString value) {
+      if (value == null) {
+    throw new NullPointerException();
+  }
+  checkByteStringIsUtf8(value);
+      
+      applicationId_ = value;
+      onChanged();
+      return this;
+    }
+
+    private java.lang.Object applicationOwner_ = "";
+    /**
+     * <code>string applicationOwner = 6;</code>
+     * @return The applicationOwner.
+     */
+    public java.lang.String getApplicationOwner() {
+      java.lang.Object ref = applicationOwner_;
+      if (!(ref instanceof java.lang.String)) {
+        com.google.protobuf.ByteString bs =
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        applicationOwner_ = s;
+        return s;
+      } else {
+        return (java.lang.String) ref;
+      }
+    }
+    /**
+     * <code>string applicationOwner = 6;</code>
+     * @return The bytes for applicationOwner.
+     */
+    public com.google.protobuf.ByteString
+        getApplicationOwnerBytes() {
+      java.lang.Object ref = applicationOwner_;
+      if (ref instanceof String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        applicationOwner_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+    /**
+     * <code>string applicationOwner = 6;</code>
+     * @param value The applicationOwner to set.
+     * @return This builder for chaining.
+     */
+    public Builder setApplicationOwner(
+        java.lang.String value) {
+      if (value == null) {
+    throw new NullPointerException();
+  }
+  
+      applicationOwner_ = value;
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>string applicationOwner = 6;</code>
+     * @return This builder for chaining.
+     */
+    public Builder clearApplicationOwner() {
+      
+      applicationOwner_ = getDefaultInstance().getApplicationOwner();
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>string applicationOwner = 6;</code>
+     * @param value The bytes for applicationOwner to set.
+     * @return This builder for chaining.
+     */
+    public Builder setApplicationOwnerBytes(
+        com.google.protobuf.ByteString value) {
+      if (value == null) {
+    throw new NullPointerException();
+  }
+  checkByteStringIsUtf8(value);
+      
+      applicationOwner_ = value;
+      onChanged();
+      return this;
+    }
+
+    private java.lang.Object apiContext_ = "";
+    /**
+     * <code>string apiContext = 7;</code>
+     * @return The apiContext.
+     */
+    public java.lang.String getApiContext() {
+      java.lang.Object ref = apiContext_;
+      if (!(ref instanceof java.lang.String)) {
+        com.google.protobuf.ByteString bs =
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        apiContext_ = s;
+        return s;
+      } else {
+        return (java.lang.String) ref;
+      }
+    }
+    /**
+     * <code>string apiContext = 7;</code>
+     * @return The bytes for apiContext.
+     */
+    public com.google.protobuf.ByteString
+        getApiContextBytes() {
+      java.lang.Object ref = apiContext_;
+      if (ref instanceof String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        apiContext_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+    /**
+     * <code>string apiContext = 7;</code>
+     * @param value The apiContext to set.
+     * @return This builder for chaining.
+     */
+    public Builder setApiContext(
+        java.lang.String value) {
+      if (value == null) {
+    throw new NullPointerException();
+  }
+  
+      apiContext_ = value;
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>string apiContext = 7;</code>
+     * @return This builder for chaining.
+     */
+    public Builder clearApiContext() {
+      
+      apiContext_ = getDefaultInstance().getApiContext();
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>string apiContext = 7;</code>
+     * @param value The bytes for apiContext to set.
+     * @return This builder for chaining.
+     */
+    public Builder setApiContextBytes(
+        com.google.protobuf.ByteString value) {
+      if (value == null) {
+    throw new NullPointerException();
+  }
+  checkByteStringIsUtf8(value);
+      
+      apiContext_ = value;
+      onChanged();
+      return this;
+    }
+
+    private java.lang.Object apiName_ = "";
+    /**
+     * <code>string apiName = 8;</code>
+     * @return The apiName.
+     */
+    public java.lang.String getApiName() {
+      java.lang.Object ref = apiName_;
+      if (!(ref instanceof java.lang.String)) {
+        com.google.protobuf.ByteString bs =
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        apiName_ = s;
+        return s;
+      } else {
+        return (java.lang.String) ref;
+      }
+    }
+    /**
+     * <code>string apiName = 8;</code>
+     * @return The bytes for apiName.
+     */
+    public com.google.protobuf.ByteString
+        getApiNameBytes() {
+      java.lang.Object ref = apiName_;
+      if (ref instanceof String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        apiName_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+    /**
+     * <code>string apiName = 8;</code>
+     * @param value The apiName to set.
+     * @return This builder for chaining.
+     */
+    public Builder setApiName(
+        java.lang.String value) {
+      if (value == null) {
+    throw new NullPointerException();
+  }
+  
+      apiName_ = value;
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>string apiName = 8;</code>
+     * @return This builder for chaining.
+     */
+    public Builder clearApiName() {
+      
+      apiName_ = getDefaultInstance().getApiName();
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>string apiName = 8;</code>
+     * @param value The bytes for apiName to set.
+     * @return This builder for chaining.
+     */
+    public Builder setApiNameBytes(
+        com.google.protobuf.ByteString value) {
+      if (value == null) {
+    throw new NullPointerException();
+  }
+  checkByteStringIsUtf8(value);
+      
+      apiName_ = value;
+      onChanged();
+      return this;
+    }
+
+    private java.lang.Object apiVersion_ = "";
+    /**
+     * <code>string apiVersion = 9;</code>
+     * @return The apiVersion.
+     */
+    public java.lang.String getApiVersion() {
+      java.lang.Object ref = apiVersion_;
+      if (!(ref instanceof java.lang.String)) {
+        com.google.protobuf.ByteString bs =
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        apiVersion_ = s;
+        return s;
+      } else {
+        return (java.lang.String) ref;
+      }
+    }
+    /**
+     * <code>string apiVersion = 9;</code>
+     * @return The bytes for apiVersion.
+     */
+    public com.google.protobuf.ByteString
+        getApiVersionBytes() {
+      java.lang.Object ref = apiVersion_;
+      if (ref instanceof String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        apiVersion_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+    /**
+     * <code>string apiVersion = 9;</code>
+     * @param value The apiVersion to set.
+     * @return This builder for chaining.
+     */
+    public Builder setApiVersion(
+        java.lang.String value) {
+      if (value == null) {
+    throw new NullPointerException();
+  }
+  
+      apiVersion_ = value;
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>string apiVersion = 9;</code>
+     * @return This builder for chaining.
+     */
+    public Builder clearApiVersion() {
+      
+      apiVersion_ = getDefaultInstance().getApiVersion();
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>string apiVersion = 9;</code>
+     * @param value The bytes for apiVersion to set.
+     * @return This builder for chaining.
+     */
+    public Builder setApiVersionBytes(
+        com.google.protobuf.ByteString value) {
+      if (value == null) {
+    throw new NullPointerException();
+  }
+  checkByteStringIsUtf8(value);
+      
+      apiVersion_ = value;
+      onChanged();
+      return this;
+    }
+
+    private java.lang.Object apiResourcePath_ = "";
+    /**
+     * <code>string apiResourcePath = 10;</code>
+     * @return The apiResourcePath.
+     */
+    public java.lang.String getApiResourcePath() {
+      java.lang.Object ref = apiResourcePath_;
+      if (!(ref instanceof java.lang.String)) {
+        com.google.protobuf.ByteString bs =
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        apiResourcePath_ = s;
+        return s;
+      } else {
+        return (java.lang.String) ref;
+      }
+    }
+    /**
+     * <code>string apiResourcePath = 10;</code>
+     * @return The bytes for apiResourcePath.
+     */
+    public com.google.protobuf.ByteString
+        getApiResourcePathBytes() {
+      java.lang.Object ref = apiResourcePath_;
+      if (ref instanceof String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        apiResourcePath_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+    /**
+     * <code>string apiResourcePath = 10;</code>
+     * @param value The apiResourcePath to set.
+     * @return This builder for chaining.
+     */
+    public Builder setApiResourcePath(
+        java.lang.String value) {
+      if (value == null) {
+    throw new NullPointerException();
+  }
+  
+      apiResourcePath_ = value;
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>string apiResourcePath = 10;</code>
+     * @return This builder for chaining.
+     */
+    public Builder clearApiResourcePath() {
+      
+      apiResourcePath_ = getDefaultInstance().getApiResourcePath();
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>string apiResourcePath = 10;</code>
+     * @param value The bytes for apiResourcePath to set.
+     * @return This builder for chaining.
+     */
+    public Builder setApiResourcePathBytes(
+        com.google.protobuf.ByteString value) {
+      if (value == null) {
+    throw new NullPointerException();
+  }
+  checkByteStringIsUtf8(value);
+      
+      apiResourcePath_ = value;
+      onChanged();
+      return this;
+    }
+
+    private java.lang.Object apiResourceTemplate_ = "";
+    /**
+     * <code>string apiResourceTemplate = 11;</code>
+     * @return The apiResourceTemplate.
+     */
+    public java.lang.String getApiResourceTemplate() {
+      java.lang.Object ref = apiResourceTemplate_;
+      if (!(ref instanceof java.lang.String)) {
+        com.google.protobuf.ByteString bs =
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        apiResourceTemplate_ = s;
+        return s;
+      } else {
+        return (java.lang.String) ref;
+      }
+    }
+    /**
+     * <code>string apiResourceTemplate = 11;</code>
+     * @return The bytes for apiResourceTemplate.
+     */
+    public com.google.protobuf.ByteString
+        getApiResourceTemplateBytes() {
+      java.lang.Object ref = apiResourceTemplate_;
+      if (ref instanceof String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        apiResourceTemplate_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+    /**
+     * <code>string apiResourceTemplate = 11;</code>
+     * @param value The apiResourceTemplate to set.
+     * @return This builder for chaining.
+     */
+    public Builder setApiResourceTemplate(
+        java.lang.String value) {
+      if (value == null) {
+    throw new NullPointerException();
+  }
+  
+      apiResourceTemplate_ = value;
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>string apiResourceTemplate = 11;</code>
+     * @return This builder for chaining.
+     */
+    public Builder clearApiResourceTemplate() {
+      
+      apiResourceTemplate_ = getDefaultInstance().getApiResourceTemplate();
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>string apiResourceTemplate = 11;</code>
+     * @param value The bytes for apiResourceTemplate to set.
+     * @return This builder for chaining.
+     */
+    public Builder setApiResourceTemplateBytes(
+        com.google.protobuf.ByteString value) {
+      if (value == null) {
+    throw new NullPointerException();
+  }
+  checkByteStringIsUtf8(value);
+      
+      apiResourceTemplate_ = value;
+      onChanged();
+      return this;
+    }
+
+    private java.lang.Object apiMethod_ = "";
+    /**
+     * <code>string apiMethod = 12;</code>
+     * @return The apiMethod.
+     */
+    public java.lang.String getApiMethod() {
+      java.lang.Object ref = apiMethod_;
+      if (!(ref instanceof java.lang.String)) {
+        com.google.protobuf.ByteString bs =
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        apiMethod_ = s;
+        return s;
+      } else {
+        return (java.lang.String) ref;
+      }
+    }
+    /**
+     * <code>string apiMethod = 12;</code>
+     * @return The bytes for apiMethod.
+     */
+    public com.google.protobuf.ByteString
+        getApiMethodBytes() {
+      java.lang.Object ref = apiMethod_;
+      if (ref instanceof String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        apiMethod_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+    /**
+     * <code>string apiMethod = 12;</code>
+     * @param value The apiMethod to set.
+     * @return This builder for chaining.
+     */
+    public Builder setApiMethod(
+        java.lang.String value) {
+      if (value == null) {
+    throw new NullPointerException();
+  }
+  
+      apiMethod_ = value;
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>string apiMethod = 12;</code>
+     * @return This builder for chaining.
+     */
+    public Builder clearApiMethod() {
+      
+      apiMethod_ = getDefaultInstance().getApiMethod();
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>string apiMethod = 12;</code>
+     * @param value The bytes for apiMethod to set.
+     * @return This builder for chaining.
+     */
+    public Builder setApiMethodBytes(
+        com.google.protobuf.ByteString value) {
+      if (value == null) {
+    throw new NullPointerException();
+  }
+  checkByteStringIsUtf8(value);
+      
+      apiMethod_ = value;
+      onChanged();
+      return this;
+    }
+
+    private java.lang.Object apiCreator_ = "";
+    /**
+     * <code>string apiCreator = 13;</code>
+     * @return The apiCreator.
+     */
+    public java.lang.String getApiCreator() {
+      java.lang.Object ref = apiCreator_;
+      if (!(ref instanceof java.lang.String)) {
+        com.google.protobuf.ByteString bs =
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        apiCreator_ = s;
+        return s;
+      } else {
+        return (java.lang.String) ref;
+      }
+    }
+    /**
+     * <code>string apiCreator = 13;</code>
+     * @return The bytes for apiCreator.
+     */
+    public com.google.protobuf.ByteString
+        getApiCreatorBytes() {
+      java.lang.Object ref = apiCreator_;
+      if (ref instanceof String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        apiCreator_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+    /**
+     * <code>string apiCreator = 13;</code>
+     * @param value The apiCreator to set.
+     * @return This builder for chaining.
+     */
+    public Builder setApiCreator(
+        java.lang.String value) {
+      if (value == null) {
+    throw new NullPointerException();
+  }
+  
+      apiCreator_ = value;
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>string apiCreator = 13;</code>
+     * @return This builder for chaining.
+     */
+    public Builder clearApiCreator() {
+      
+      apiCreator_ = getDefaultInstance().getApiCreator();
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>string apiCreator = 13;</code>
+     * @param value The bytes for apiCreator to set.
+     * @return This builder for chaining.
+     */
+    public Builder setApiCreatorBytes(
+        com.google.protobuf.ByteString value) {
+      if (value == null) {
+    throw new NullPointerException();
+  }
+  checkByteStringIsUtf8(value);
+      
+      apiCreator_ = value;
+      onChanged();
+      return this;
+    }
+
+    private java.lang.Object apiCreatorTenantDomain_ = "";
+    /**
+     * <code>string apiCreatorTenantDomain = 14;</code>
+     * @return The apiCreatorTenantDomain.
+     */
+    public java.lang.String getApiCreatorTenantDomain() {
+      java.lang.Object ref = apiCreatorTenantDomain_;
+      if (!(ref instanceof java.lang.String)) {
+        com.google.protobuf.ByteString bs =
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        apiCreatorTenantDomain_ = s;
+        return s;
+      } else {
+        return (java.lang.String) ref;
+      }
+    }
+    /**
+     * <code>string apiCreatorTenantDomain = 14;</code>
+     * @return The bytes for apiCreatorTenantDomain.
+     */
+    public com.google.protobuf.ByteString
+        getApiCreatorTenantDomainBytes() {
+      java.lang.Object ref = apiCreatorTenantDomain_;
+      if (ref instanceof String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        apiCreatorTenantDomain_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+    /**
+     * <code>string apiCreatorTenantDomain = 14;</code>
+     * @param value The apiCreatorTenantDomain to set.
+     * @return This builder for chaining.
+     */
+    public Builder setApiCreatorTenantDomain(
+        java.lang.String value) {
+      if (value == null) {
+    throw new NullPointerException();
+  }
+  
+      apiCreatorTenantDomain_ = value;
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>string apiCreatorTenantDomain = 14;</code>
+     * @return This builder for chaining.
+     */
+    public Builder clearApiCreatorTenantDomain() {
+      
+      apiCreatorTenantDomain_ = getDefaultInstance().getApiCreatorTenantDomain();
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>string apiCreatorTenantDomain = 14;</code>
+     * @param value The bytes for apiCreatorTenantDomain to set.
+     * @return This builder for chaining.
+     */
+    public Builder setApiCreatorTenantDomainBytes(
+        com.google.protobuf.ByteString value) {
+      if (value == null) {
+    throw new NullPointerException();
+  }
+  checkByteStringIsUtf8(value);
+      
+      apiCreatorTenantDomain_ = value;
+      onChanged();
+      return this;
+    }
+
+    private java.lang.Object apiTier_ = "";
+    /**
+     * <code>string apiTier = 15;</code>
+     * @return The apiTier.
+     */
+    public java.lang.String getApiTier() {
+      java.lang.Object ref = apiTier_;
+      if (!(ref instanceof java.lang.String)) {
+        com.google.protobuf.ByteString bs =
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        apiTier_ = s;
+        return s;
+      } else {
+        return (java.lang.String) ref;
+      }
+    }
+    /**
+     * <code>string apiTier = 15;</code>
+     * @return The bytes for apiTier.
+     */
+    public com.google.protobuf.ByteString
+        getApiTierBytes() {
+      java.lang.Object ref = apiTier_;
+      if (ref instanceof String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        apiTier_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+    /**
+     * <code>string apiTier = 15;</code>
+     * @param value The apiTier to set.
+     * @return This builder for chaining.
+     */
+    public Builder setApiTier(
+        java.lang.String value) {
+      if (value == null) {
+    throw new NullPointerException();
+  }
+  
+      apiTier_ = value;
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>string apiTier = 15;</code>
+     * @return This builder for chaining.
+     */
+    public Builder clearApiTier() {
+      
+      apiTier_ = getDefaultInstance().getApiTier();
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>string apiTier = 15;</code>
+     * @param value The bytes for apiTier to set.
+     * @return This builder for chaining.
+     */
+    public Builder setApiTierBytes(
+        com.google.protobuf.ByteString value) {
+      if (value == null) {
+    throw new NullPointerException();
+  }
+  checkByteStringIsUtf8(value);
+      
+      apiTier_ = value;
+      onChanged();
+      return this;
+    }
+
+    private java.lang.Object apiHostname_ = "";
+    /**
+     * <code>string apiHostname = 16;</code>
+     * @return The apiHostname.
+     */
+    public java.lang.String getApiHostname() {
+      java.lang.Object ref = apiHostname_;
+      if (!(ref instanceof java.lang.String)) {
+        com.google.protobuf.ByteString bs =
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        apiHostname_ = s;
+        return s;
+      } else {
+        return (java.lang.String) ref;
+      }
+    }
+    /**
+     * <code>string apiHostname = 16;</code>
+     * @return The bytes for apiHostname.
+     */
+    public com.google.protobuf.ByteString
+        getApiHostnameBytes() {
+      java.lang.Object ref = apiHostname_;
+      if (ref instanceof String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        apiHostname_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+    /**
+     * <code>string apiHostname = 16;</code>
+     * @param value The apiHostname to set.
+     * @return This builder for chaining.
+     */
+    public Builder setApiHostname(
+        java.lang.String value) {
+      if (value == null) {
+    throw new NullPointerException();
+  }
+  
+      apiHostname_ = value;
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>string apiHostname = 16;</code>
+     * @return This builder for chaining.
+     */
+    public Builder clearApiHostname() {
+      
+      apiHostname_ = getDefaultInstance().getApiHostname();
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>string apiHostname = 16;</code>
+     * @param value The bytes for apiHostname to set.
+     * @return This builder for chaining.
+     */
+    public Builder setApiHostnameBytes(
+        com.google.protobuf.ByteString value) {
+      if (value == null) {
+    throw new NullPointerException();
+  }
+  checkByteStringIsUtf8(value);
+      
+      apiHostname_ = value;
+      onChanged();
+      return this;
+    }
+
+    private java.lang.Object username_ = "";
+    /**
+     * <code>string username = 17;</code>
+     * @return The username.
+     */
+    public java.lang.String getUsername() {
+      java.lang.Object ref = username_;
+      if (!(ref instanceof java.lang.String)) {
+        com.google.protobuf.ByteString bs =
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        username_ = s;
+        return s;
+      } else {
+        return (java.lang.String) ref;
+      }
+    }
+    /**
+     * <code>string username = 17;</code>
+     * @return The bytes for username.
+     */
+    public com.google.protobuf.ByteString
+        getUsernameBytes() {
+      java.lang.Object ref = username_;
+      if (ref instanceof String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        username_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+    /**
+     * <code>string username = 17;</code>
+     * @param value The username to set.
+     * @return This builder for chaining.
+     */
+    public Builder setUsername(
+        java.lang.String value) {
+      if (value == null) {
+    throw new NullPointerException();
+  }
+  
+      username_ = value;
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>string username = 17;</code>
+     * @return This builder for chaining.
+     */
+    public Builder clearUsername() {
+      
+      username_ = getDefaultInstance().getUsername();
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>string username = 17;</code>
+     * @param value The bytes for username to set.
+     * @return This builder for chaining.
+     */
+    public Builder setUsernameBytes(
+        com.google.protobuf.ByteString value) {
+      if (value == null) {
+    throw new NullPointerException();
+  }
+  checkByteStringIsUtf8(value);
+      
+      username_ = value;
+      onChanged();
+      return this;
+    }
+
+    private java.lang.Object userTenantDomain_ = "";
+    /**
+     * <code>string userTenantDomain = 18;</code>
+     * @return The userTenantDomain.
+     */
+    public java.lang.String getUserTenantDomain() {
+      java.lang.Object ref = userTenantDomain_;
+      if (!(ref instanceof java.lang.String)) {
+        com.google.protobuf.ByteString bs =
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        userTenantDomain_ = s;
+        return s;
+      } else {
+        return (java.lang.String) ref;
+      }
+    }
+    /**
+     * <code>string userTenantDomain = 18;</code>
+     * @return The bytes for userTenantDomain.
+     */
+    public com.google.protobuf.ByteString
+        getUserTenantDomainBytes() {
+      java.lang.Object ref = userTenantDomain_;
+      if (ref instanceof String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        userTenantDomain_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+    /**
+     * <code>string userTenantDomain = 18;</code>
+     * @param value The userTenantDomain to set.
+     * @return This builder for chaining.
+     */
+    public Builder setUserTenantDomain(
+        java.lang.String value) {
+      if (value == null) {
+    throw new NullPointerException();
+  }
+  
+      userTenantDomain_ = value;
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>string userTenantDomain = 18;</code>
+     * @return This builder for chaining.
+     */
+    public Builder clearUserTenantDomain() {
+      
+      userTenantDomain_ = getDefaultInstance().getUserTenantDomain();
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>string userTenantDomain = 18;</code>
+     * @param value The bytes for userTenantDomain to set.
+     * @return This builder for chaining.
+     */
+    public Builder setUserTenantDomainBytes(
+        com.google.protobuf.ByteString value) {
+      if (value == null) {
+    throw new NullPointerException();
+  }
+  checkByteStringIsUtf8(value);
+      
+      userTenantDomain_ = value;
+      onChanged();
+      return this;
+    }
+
+    private java.lang.Object userIp_ = "";
+    /**
+     * <code>string userIp = 19;</code>
+     * @return The userIp.
+     */
+    public java.lang.String getUserIp() {
+      java.lang.Object ref = userIp_;
+      if (!(ref instanceof java.lang.String)) {
+        com.google.protobuf.ByteString bs =
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        userIp_ = s;
+        return s;
+      } else {
+        return (java.lang.String) ref;
+      }
+    }
+    /**
+     * <code>string userIp = 19;</code>
+     * @return The bytes for userIp.
+     */
+    public com.google.protobuf.ByteString
+        getUserIpBytes() {
+      java.lang.Object ref = userIp_;
+      if (ref instanceof String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        userIp_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+    /**
+     * <code>string userIp = 19;</code>
+     * @param value The userIp to set.
+     * @return This builder for chaining.
+     */
+    public Builder setUserIp(
+        java.lang.String value) {
+      if (value == null) {
+    throw new NullPointerException();
+  }
+  
+      userIp_ = value;
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>string userIp = 19;</code>
+     * @return This builder for chaining.
+     */
+    public Builder clearUserIp() {
+      
+      userIp_ = getDefaultInstance().getUserIp();
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>string userIp = 19;</code>
+     * @param value The bytes for userIp to set.
+     * @return This builder for chaining.
+     */
+    public Builder setUserIpBytes(
+        com.google.protobuf.ByteString value) {
+      if (value == null) {
+    throw new NullPointerException();
+  }
+  checkByteStringIsUtf8(value);
+      
+      userIp_ = value;
+      onChanged();
+      return this;
+    }
+
+    private java.lang.Object userAgent_ = "";
+    /**
+     * <code>string userAgent = 20;</code>
+     * @return The userAgent.
+     */
+    public java.lang.String getUserAgent() {
+      java.lang.Object ref = userAgent_;
+      if (!(ref instanceof java.lang.String)) {
+        com.google.protobuf.ByteString bs =
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        userAgent_ = s;
+        return s;
+      } else {
+        return (java.lang.String) ref;
+      }
+    }
+    /**
+     * <code>string userAgent = 20;</code>
+     * @return The bytes for userAgent.
+     */
+    public com.google.protobuf.ByteString
+        getUserAgentBytes() {
+      java.lang.Object ref = userAgent_;
+      if (ref instanceof String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        userAgent_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+    /**
+     * <code>string userAgent = 20;</code>
+     * @param value The userAgent to set.
+     * @return This builder for chaining.
+     */
+    public Builder setUserAgent(
+        java.lang.String value) {
+      if (value == null) {
+    throw new NullPointerException();
+  }
+  
+      userAgent_ = value;
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>string userAgent = 20;</code>
+     * @return This builder for chaining.
+     */
+    public Builder clearUserAgent() {
+      
+      userAgent_ = getDefaultInstance().getUserAgent();
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>string userAgent = 20;</code>
+     * @param value The bytes for userAgent to set.
+     * @return This builder for chaining.
+     */
+    public Builder setUserAgentBytes(
+        com.google.protobuf.ByteString value) {
+      if (value == null) {
+    throw new NullPointerException();
+  }
+  checkByteStringIsUtf8(value);
+      
+      userAgent_ = value;
+      onChanged();
+      return this;
+    }
+
+    private long requestTimestamp_ ;
+    /**
+     * <code>int64 requestTimestamp = 21;</code>
+     * @return The requestTimestamp.
+     */
+    public long getRequestTimestamp() {
+      return requestTimestamp_;
+    }
+    /**
+     * <code>int64 requestTimestamp = 21;</code>
+     * @param value The requestTimestamp to set.
+     * @return This builder for chaining.
+     */
+    public Builder setRequestTimestamp(long value) {
+      
+      requestTimestamp_ = value;
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>int64 requestTimestamp = 21;</code>
+     * @return This builder for chaining.
+     */
+    public Builder clearRequestTimestamp() {
+      
+      requestTimestamp_ = 0L;
+      onChanged();
+      return this;
+    }
+
+    private boolean throttledOut_ ;
+    /**
+     * <code>bool throttledOut = 22;</code>
+     * @return The throttledOut.
+     */
+    public boolean getThrottledOut() {
+      return throttledOut_;
+    }
+    /**
+     * <code>bool throttledOut = 22;</code>
+     * @param value The throttledOut to set.
+     * @return This builder for chaining.
+     */
+    public Builder setThrottledOut(boolean value) {
+      
+      throttledOut_ = value;
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>bool throttledOut = 22;</code>
+     * @return This builder for chaining.
+     */
+    public Builder clearThrottledOut() {
+      
+      throttledOut_ = false;
+      onChanged();
+      return this;
+    }
+
+    private long responseTime_ ;
+    /**
+     * <code>int64 responseTime = 23;</code>
+     * @return The responseTime.
+     */
+    public long getResponseTime() {
+      return responseTime_;
+    }
+    /**
+     * <code>int64 responseTime = 23;</code>
+     * @param value The responseTime to set.
+     * @return This builder for chaining.
+     */
+    public Builder setResponseTime(long value) {
+      
+      responseTime_ = value;
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>int64 responseTime = 23;</code>
+     * @return This builder for chaining.
+     */
+    public Builder clearResponseTime() {
+      
+      responseTime_ = 0L;
+      onChanged();
+      return this;
+    }
+
+    private long serviceTime_ ;
+    /**
+     * <code>int64 serviceTime = 24;</code>
+     * @return The serviceTime.
+     */
+    public long getServiceTime() {
+      return serviceTime_;
+    }
+    /**
+     * <code>int64 serviceTime = 24;</code>
+     * @param value The serviceTime to set.
+     * @return This builder for chaining.
+     */
+    public Builder setServiceTime(long value) {
+      
+      serviceTime_ = value;
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>int64 serviceTime = 24;</code>
+     * @return This builder for chaining.
+     */
+    public Builder clearServiceTime() {
+      
+      serviceTime_ = 0L;
+      onChanged();
+      return this;
+    }
+
+    private long backendTime_ ;
+    /**
+     * <code>int64 backendTime = 25;</code>
+     * @return The backendTime.
+     */
+    public long getBackendTime() {
+      return backendTime_;
+    }
+    /**
+     * <code>int64 backendTime = 25;</code>
+     * @param value The backendTime to set.
+     * @return This builder for chaining.
+     */
+    public Builder setBackendTime(long value) {
+      
+      backendTime_ = value;
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>int64 backendTime = 25;</code>
+     * @return This builder for chaining.
+     */
+    public Builder clearBackendTime() {
+      
+      backendTime_ = 0L;
+      onChanged();
+      return this;
+    }
+
+    private boolean responseCacheHit_ ;
+    /**
+     * <code>bool responseCacheHit = 26;</code>
+     * @return The responseCacheHit.
+     */
+    public boolean getResponseCacheHit() {
+      return responseCacheHit_;
+    }
+    /**
+     * <code>bool responseCacheHit = 26;</code>
+     * @param value The responseCacheHit to set.
+     * @return This builder for chaining.
+     */
+    public Builder setResponseCacheHit(boolean value) {
+      
+      responseCacheHit_ = value;
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>bool responseCacheHit = 26;</code>
+     * @return This builder for chaining.
+     */
+    public Builder clearResponseCacheHit() {
+      
+      responseCacheHit_ = false;
+      onChanged();
+      return this;
+    }
+
+    private long responseSize_ ;
+    /**
+     * <code>int64 responseSize = 27;</code>
+     * @return The responseSize.
+     */
+    public long getResponseSize() {
+      return responseSize_;
+    }
+    /**
+     * <code>int64 responseSize = 27;</code>
+     * @param value The responseSize to set.
+     * @return This builder for chaining.
+     */
+    public Builder setResponseSize(long value) {
+      
+      responseSize_ = value;
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>int64 responseSize = 27;</code>
+     * @return This builder for chaining.
+     */
+    public Builder clearResponseSize() {
+      
+      responseSize_ = 0L;
+      onChanged();
+      return this;
+    }
+
+    private java.lang.Object protocol_ = "";
+    /**
+     * <code>string protocol = 28;</code>
+     * @return The protocol.
+     */
+    public java.lang.String getProtocol() {
+      java.lang.Object ref = protocol_;
+      if (!(ref instanceof java.lang.String)) {
+        com.google.protobuf.ByteString bs =
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        protocol_ = s;
+        return s;
+      } else {
+        return (java.lang.String) ref;
+      }
+    }
+    /**
+     * <code>string protocol = 28;</code>
+     * @return The bytes for protocol.
+     */
+    public com.google.protobuf.ByteString
+        getProtocolBytes() {
+      java.lang.Object ref = protocol_;
+      if (ref instanceof String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        protocol_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+    /**
+     * <code>string protocol = 28;</code>
+     * @param value The protocol to set.
+     * @return This builder for chaining.
+     */
+    public Builder setProtocol(
+        java.lang.String value) {
+      if (value == null) {
+    throw new NullPointerException();
+  }
+  
+      protocol_ = value;
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>string protocol = 28;</code>
+     * @return This builder for chaining.
+     */
+    public Builder clearProtocol() {
+      
+      protocol_ = getDefaultInstance().getProtocol();
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>string protocol = 28;</code>
+     * @param value The bytes for protocol to set.
+     * @return This builder for chaining.
+     */
+    public Builder setProtocolBytes(
+        com.google.protobuf.ByteString value) {
+      if (value == null) {
+    throw new NullPointerException();
+  }
+  checkByteStringIsUtf8(value);
+      
+      protocol_ = value;
+      onChanged();
+      return this;
+    }
+
+    private int responseCode_ ;
+    /**
+     * <code>int32 responseCode = 29;</code>
+     * @return The responseCode.
+     */
+    public int getResponseCode() {
+      return responseCode_;
+    }
+    /**
+     * <code>int32 responseCode = 29;</code>
+     * @param value The responseCode to set.
+     * @return This builder for chaining.
+     */
+    public Builder setResponseCode(int value) {
+      
+      responseCode_ = value;
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>int32 responseCode = 29;</code>
+     * @return This builder for chaining.
+     */
+    public Builder clearResponseCode() {
+      
+      responseCode_ = 0;
+      onChanged();
+      return this;
+    }
+
+    private java.lang.Object destination_ = "";
+    /**
+     * <code>string destination = 30;</code>
+     * @return The destination.
+     */
+    public java.lang.String getDestination() {
+      java.lang.Object ref = destination_;
+      if (!(ref instanceof java.lang.String)) {
+        com.google.protobuf.ByteString bs =
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        destination_ = s;
+        return s;
+      } else {
+        return (java.lang.String) ref;
+      }
+    }
+    /**
+     * <code>string destination = 30;</code>
+     * @return The bytes for destination.
+     */
+    public com.google.protobuf.ByteString
+        getDestinationBytes() {
+      java.lang.Object ref = destination_;
+      if (ref instanceof String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        destination_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+    /**
+     * <code>string destination = 30;</code>
+     * @param value The destination to set.
+     * @return This builder for chaining.
+     */
+    public Builder setDestination(
+        java.lang.String value) {
+      if (value == null) {
+    throw new NullPointerException();
+  }
+  
+      destination_ = value;
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>string destination = 30;</code>
+     * @return This builder for chaining.
+     */
+    public Builder clearDestination() {
+      
+      destination_ = getDefaultInstance().getDestination();
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>string destination = 30;</code>
+     * @param value The bytes for destination to set.
+     * @return This builder for chaining.
+     */
+    public Builder setDestinationBytes(
+        com.google.protobuf.ByteString value) {
+      if (value == null) {
+    throw new NullPointerException();
+  }
+  checkByteStringIsUtf8(value);
+      
+      destination_ = value;
+      onChanged();
+      return this;
+    }
+
+    private long securityLatency_ ;
+    /**
+     * <code>int64 securityLatency = 31;</code>
+     * @return The securityLatency.
+     */
+    public long getSecurityLatency() {
+      return securityLatency_;
+    }
+    /**
+     * <code>int64 securityLatency = 31;</code>
+     * @param value The securityLatency to set.
+     * @return This builder for chaining.
+     */
+    public Builder setSecurityLatency(long value) {
+      
+      securityLatency_ = value;
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>int64 securityLatency = 31;</code>
+     * @return This builder for chaining.
+     */
+    public Builder clearSecurityLatency() {
+      
+      securityLatency_ = 0L;
+      onChanged();
+      return this;
+    }
+
+    private long throttlingLatency_ ;
+    /**
+     * <code>int64 throttlingLatency = 32;</code>
+     * @return The throttlingLatency.
+     */
+    public long getThrottlingLatency() {
+      return throttlingLatency_;
+    }
+    /**
+     * <code>int64 throttlingLatency = 32;</code>
+     * @param value The throttlingLatency to set.
+     * @return This builder for chaining.
+     */
+    public Builder setThrottlingLatency(long value) {
+      
+      throttlingLatency_ = value;
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>int64 throttlingLatency = 32;</code>
+     * @return This builder for chaining.
+     */
+    public Builder clearThrottlingLatency() {
+      
+      throttlingLatency_ = 0L;
+      onChanged();
+      return this;
+    }
+
+    private long requestMedLat_ ;
+    /**
+     * <code>int64 requestMedLat = 33;</code>
+     * @return The requestMedLat.
+     */
+    public long getRequestMedLat() {
+      return requestMedLat_;
+    }
+    /**
+     * <code>int64 requestMedLat = 33;</code>
+     * @param value The requestMedLat to set.
+     * @return This builder for chaining.
+     */
+    public Builder setRequestMedLat(long value) {
+      
+      requestMedLat_ = value;
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>int64 requestMedLat = 33;</code>
+     * @return This builder for chaining.
+     */
+    public Builder clearRequestMedLat() {
+      
+      requestMedLat_ = 0L;
+      onChanged();
+      return this;
+    }
+
+    private long responseMedLat_ ;
+    /**
+     * <code>int64 responseMedLat = 34;</code>
+     * @return The responseMedLat.
+     */
+    public long getResponseMedLat() {
+      return responseMedLat_;
+    }
+    /**
+     * <code>int64 responseMedLat = 34;</code>
+     * @param value The responseMedLat to set.
+     * @return This builder for chaining.
+     */
+    public Builder setResponseMedLat(long value) {
+      
+      responseMedLat_ = value;
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>int64 responseMedLat = 34;</code>
+     * @return This builder for chaining.
+     */
+    public Builder clearResponseMedLat() {
+      
+      responseMedLat_ = 0L;
+      onChanged();
+      return this;
+    }
+
+    private long backendLatency_ ;
+    /**
+     * <code>int64 backendLatency = 35;</code>
+     * @return The backendLatency.
+     */
+    public long getBackendLatency() {
+      return backendLatency_;
+    }
+    /**
+     * <code>int64 backendLatency = 35;</code>
+     * @param value The backendLatency to set.
+     * @return This builder for chaining.
+     */
+    public Builder setBackendLatency(long value) {
+      
+      backendLatency_ = value;
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>int64 backendLatency = 35;</code>
+     * @return This builder for chaining.
+     */
+    public Builder clearBackendLatency() {
+      
+      backendLatency_ = 0L;
+      onChanged();
+      return this;
+    }
+
+    private long otherLatency_ ;
+    /**
+     * <code>int64 otherLatency = 36;</code>
+     * @return The otherLatency.
+     */
+    public long getOtherLatency() {
+      return otherLatency_;
+    }
+    /**
+     * <code>int64 otherLatency = 36;</code>
+     * @param value The otherLatency to set.
+     * @return This builder for chaining.
+     */
+    public Builder setOtherLatency(long value) {
+      
+      otherLatency_ = value;
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>int64 otherLatency = 36;</code>
+     * @return This builder for chaining.
+     */
+    public Builder clearOtherLatency() {
+      
+      otherLatency_ = 0L;
+      onChanged();
+      return this;
+    }
+
+    private java.lang.Object gatewayType_ = "";
+    /**
+     * <code>string gatewayType = 37;</code>
+     * @return The gatewayType.
+     */
+    public java.lang.String getGatewayType() {
+      java.lang.Object ref = gatewayType_;
+      if (!(ref instanceof java.lang.String)) {
+        com.google.protobuf.ByteString bs =
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        gatewayType_ = s;
+        return s;
+      } else {
+        return (java.lang.String) ref;
+      }
+    }
+    /**
+     * <code>string gatewayType = 37;</code>
+     * @return The bytes for gatewayType.
+     */
+    public com.google.protobuf.ByteString
+        getGatewayTypeBytes() {
+      java.lang.Object ref = gatewayType_;
+      if (ref instanceof String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        gatewayType_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+    /**
+     * <code>string gatewayType = 37;</code>
+     * @param value The gatewayType to set.
+     * @return This builder for chaining.
+     */
+    public Builder setGatewayType(
+        java.lang.String value) {
+      if (value == null) {
+    throw new NullPointerException();
+  }
+  
+      gatewayType_ = value;
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>string gatewayType = 37;</code>
+     * @return This builder for chaining.
+     */
+    public Builder clearGatewayType() {
+      
+      gatewayType_ = getDefaultInstance().getGatewayType();
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>string gatewayType = 37;</code>
+     * @param value The bytes for gatewayType to set.
+     * @return This builder for chaining.
+     */
+    public Builder setGatewayTypeBytes(
+        com.google.protobuf.ByteString value) {
+      if (value == null) {
+    throw new NullPointerException();
+  }
+  checkByteStringIsUtf8(value);
+      
+      gatewayType_ = value;
+      onChanged();
+      return this;
+    }
+
+    private java.lang.Object label_ = "";
+    /**
+     * <code>string label = 38;</code>
+     * @return The label.
+     */
+    public java.lang.String getLabel() {
+      java.lang.Object ref = label_;
+      if (!(ref instanceof java.lang.String)) {
+        com.google.protobuf.ByteString bs =
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        label_ = s;
+        return s;
+      } else {
+        return (java.lang.String) ref;
+      }
+    }
+    /**
+     * <code>string label = 38;</code>
+     * @return The bytes for label.
+     */
+    public com.google.protobuf.ByteString
+        getLabelBytes() {
+      java.lang.Object ref = label_;
+      if (ref instanceof String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        label_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+    /**
+     * <code>string label = 38;</code>
+     * @param value The label to set.
+     * @return This builder for chaining.
+     */
+    public Builder setLabel(
+        java.lang.String value) {
+      if (value == null) {
+    throw new NullPointerException();
+  }
+  
+      label_ = value;
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>string label = 38;</code>
+     * @return This builder for chaining.
+     */
+    public Builder clearLabel() {
+      
+      label_ = getDefaultInstance().getLabel();
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>string label = 38;</code>
+     * @param value The bytes for label to set.
+     * @return This builder for chaining.
+     */
+    public Builder setLabelBytes(
+        com.google.protobuf.ByteString value) {
+      if (value == null) {
+    throw new NullPointerException();
+  }
+  checkByteStringIsUtf8(value);
+      
+      label_ = value;
+      onChanged();
+      return this;
+    }
+
+    private java.lang.Object subscriber_ = "";
+    /**
+     * <code>string subscriber = 39;</code>
+     * @return The subscriber.
+     */
+    public java.lang.String getSubscriber() {
+      java.lang.Object ref = subscriber_;
+      if (!(ref instanceof java.lang.String)) {
+        com.google.protobuf.ByteString bs =
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        subscriber_ = s;
+        return s;
+      } else {
+        return (java.lang.String) ref;
+      }
+    }
+    /**
+     * <code>string subscriber = 39;</code>
+     * @return The bytes for subscriber.
+     */
+    public com.google.protobuf.ByteString
+        getSubscriberBytes() {
+      java.lang.Object ref = subscriber_;
+      if (ref instanceof String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        subscriber_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+    /**
+     * <code>string subscriber = 39;</code>
+     * @param value The subscriber to set.
+     * @return This builder for chaining.
+     */
+    public Builder setSubscriber(
+        java.lang.String value) {
+      if (value == null) {
+    throw new NullPointerException();
+  }
+  
+      subscriber_ = value;
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>string subscriber = 39;</code>
+     * @return This builder for chaining.
+     */
+    public Builder clearSubscriber() {
+      
+      subscriber_ = getDefaultInstance().getSubscriber();
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>string subscriber = 39;</code>
+     * @param value The bytes for subscriber to set.
+     * @return This builder for chaining.
+     */
+    public Builder setSubscriberBytes(
+        com.google.protobuf.ByteString value) {
+      if (value == null) {
+    throw new NullPointerException();
+  }
+  checkByteStringIsUtf8(value);
+      
+      subscriber_ = value;
+      onChanged();
+      return this;
+    }
+
+    private java.lang.Object throttledOutReason_ = "";
+    /**
+     * <code>string throttledOutReason = 40;</code>
+     * @return The throttledOutReason.
+     */
+    public java.lang.String getThrottledOutReason() {
+      java.lang.Object ref = throttledOutReason_;
+      if (!(ref instanceof java.lang.String)) {
+        com.google.protobuf.ByteString bs =
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        throttledOutReason_ = s;
+        return s;
+      } else {
+        return (java.lang.String) ref;
+      }
+    }
+    /**
+     * <code>string throttledOutReason = 40;</code>
+     * @return The bytes for throttledOutReason.
+     */
+    public com.google.protobuf.ByteString
+        getThrottledOutReasonBytes() {
+      java.lang.Object ref = throttledOutReason_;
+      if (ref instanceof String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        throttledOutReason_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+    /**
+     * <code>string throttledOutReason = 40;</code>
+     * @param value The throttledOutReason to set.
+     * @return This builder for chaining.
+     */
+    public Builder setThrottledOutReason(
+        java.lang.String value) {
+      if (value == null) {
+    throw new NullPointerException();
+  }
+  
+      throttledOutReason_ = value;
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>string throttledOutReason = 40;</code>
+     * @return This builder for chaining.
+     */
+    public Builder clearThrottledOutReason() {
+      
+      throttledOutReason_ = getDefaultInstance().getThrottledOutReason();
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>string throttledOutReason = 40;</code>
+     * @param value The bytes for throttledOutReason to set.
+     * @return This builder for chaining.
+     */
+    public Builder setThrottledOutReasonBytes(
+        com.google.protobuf.ByteString value) {
+      if (value == null) {
+    throw new NullPointerException();
+  }
+  checkByteStringIsUtf8(value);
+      
+      throttledOutReason_ = value;
+      onChanged();
+      return this;
+    }
+
+    private long throttledOutTimestamp_ ;
+    /**
+     * <code>int64 throttledOutTimestamp = 41;</code>
+     * @return The throttledOutTimestamp.
+     */
+    public long getThrottledOutTimestamp() {
+      return throttledOutTimestamp_;
+    }
+    /**
+     * <code>int64 throttledOutTimestamp = 41;</code>
+     * @param value The throttledOutTimestamp to set.
+     * @return This builder for chaining.
+     */
+    public Builder setThrottledOutTimestamp(long value) {
+      
+      throttledOutTimestamp_ = value;
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>int64 throttledOutTimestamp = 41;</code>
+     * @return This builder for chaining.
+     */
+    public Builder clearThrottledOutTimestamp() {
+      
+      throttledOutTimestamp_ = 0L;
+      onChanged();
+      return this;
+    }
+
+    private java.lang.Object hostname_ = "";
+    /**
+     * <code>string hostname = 42;</code>
+     * @return The hostname.
+     */
+    public java.lang.String getHostname() {
+      java.lang.Object ref = hostname_;
+      if (!(ref instanceof java.lang.String)) {
+        com.google.protobuf.ByteString bs =
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        hostname_ = s;
+        return s;
+      } else {
+        return (java.lang.String) ref;
+      }
+    }
+    /**
+     * <code>string hostname = 42;</code>
+     * @return The bytes for hostname.
+     */
+    public com.google.protobuf.ByteString
+        getHostnameBytes() {
+      java.lang.Object ref = hostname_;
+      if (ref instanceof String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        hostname_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+    /**
+     * <code>string hostname = 42;</code>
+     * @param value The hostname to set.
+     * @return This builder for chaining.
+     */
+    public Builder setHostname(
+        java.lang.String value) {
+      if (value == null) {
+    throw new NullPointerException();
+  }
+  
+      hostname_ = value;
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>string hostname = 42;</code>
+     * @return This builder for chaining.
+     */
+    public Builder clearHostname() {
+      
+      hostname_ = getDefaultInstance().getHostname();
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>string hostname = 42;</code>
+     * @param value The bytes for hostname to set.
+     * @return This builder for chaining.
+     */
+    public Builder setHostnameBytes(
+        com.google.protobuf.ByteString value) {
+      if (value == null) {
+    throw new NullPointerException();
+  }
+  checkByteStringIsUtf8(value);
+      
+      hostname_ = value;
+      onChanged();
+      return this;
+    }
+
+    private java.lang.Object errorCode_ = "";
+    /**
+     * <code>string errorCode = 43;</code>
+     * @return The errorCode.
+     */
+    public java.lang.String getErrorCode() {
+      java.lang.Object ref = errorCode_;
+      if (!(ref instanceof java.lang.String)) {
+        com.google.protobuf.ByteString bs =
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        errorCode_ = s;
+        return s;
+      } else {
+        return (java.lang.String) ref;
+      }
+    }
+    /**
+     * <code>string errorCode = 43;</code>
+     * @return The bytes for errorCode.
+     */
+    public com.google.protobuf.ByteString
+        getErrorCodeBytes() {
+      java.lang.Object ref = errorCode_;
+      if (ref instanceof String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        errorCode_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+    /**
+     * <code>string errorCode = 43;</code>
+     * @param value The errorCode to set.
+     * @return This builder for chaining.
+     */
+    public Builder setErrorCode(
+        java.lang.String value) {
+      if (value == null) {
+    throw new NullPointerException();
+  }
+  
+      errorCode_ = value;
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>string errorCode = 43;</code>
+     * @return This builder for chaining.
+     */
+    public Builder clearErrorCode() {
+      
+      errorCode_ = getDefaultInstance().getErrorCode();
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>string errorCode = 43;</code>
+     * @param value The bytes for errorCode to set.
+     * @return This builder for chaining.
+     */
+    public Builder setErrorCodeBytes(
+        com.google.protobuf.ByteString value) {
+      if (value == null) {
+    throw new NullPointerException();
+  }
+  checkByteStringIsUtf8(value);
+      
+      errorCode_ = value;
+      onChanged();
+      return this;
+    }
+
+    private java.lang.Object errorMessage_ = "";
+    /**
+     * <code>string errorMessage = 44;</code>
+     * @return The errorMessage.
+     */
+    public java.lang.String getErrorMessage() {
+      java.lang.Object ref = errorMessage_;
+      if (!(ref instanceof java.lang.String)) {
+        com.google.protobuf.ByteString bs =
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        errorMessage_ = s;
+        return s;
+      } else {
+        return (java.lang.String) ref;
+      }
+    }
+    /**
+     * <code>string errorMessage = 44;</code>
+     * @return The bytes for errorMessage.
+     */
+    public com.google.protobuf.ByteString
+        getErrorMessageBytes() {
+      java.lang.Object ref = errorMessage_;
+      if (ref instanceof String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        errorMessage_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+    /**
+     * <code>string errorMessage = 44;</code>
+     * @param value The errorMessage to set.
+     * @return This builder for chaining.
+     */
+    public Builder setErrorMessage(
+        java.lang.String value) {
+      if (value == null) {
+    throw new NullPointerException();
+  }
+  
+      errorMessage_ = value;
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>string errorMessage = 44;</code>
+     * @return This builder for chaining.
+     */
+    public Builder clearErrorMessage() {
+      
+      errorMessage_ = getDefaultInstance().getErrorMessage();
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>string errorMessage = 44;</code>
+     * @param value The bytes for errorMessage to set.
+     * @return This builder for chaining.
+     */
+    public Builder setErrorMessageBytes(
+        com.google.protobuf.ByteString value) {
+      if (value == null) {
+    throw new NullPointerException();
+  }
+  checkByteStringIsUtf8(value);
+      
+      errorMessage_ = value;
+      onChanged();
+      return this;
+    }
+    @java.lang.Override
+    public final Builder setUnknownFields(
+        final com.google.protobuf.UnknownFieldSet unknownFields) {
+      return super.setUnknownFields(unknownFields);
+    }
+
+    @java.lang.Override
+    public final Builder mergeUnknownFields(
+        final com.google.protobuf.UnknownFieldSet unknownFields) {
+      return super.mergeUnknownFields(unknownFields);
+    }
+
+
+    // @@protoc_insertion_point(builder_scope:AnalyticsStreamMessage)
+  }
+
+  // @@protoc_insertion_point(class_scope:AnalyticsStreamMessage)
+  private static final org.wso2.micro.gateway.tests.grpc.gen.AnalyticsStreamMessage DEFAULT_INSTANCE;
+  static {
+    DEFAULT_INSTANCE = new org.wso2.micro.gateway.tests.grpc.gen.AnalyticsStreamMessage();
+  }
+
+  public static org.wso2.micro.gateway.tests.grpc.gen.AnalyticsStreamMessage getDefaultInstance() {
+    return DEFAULT_INSTANCE;
+  }
+
+  private static final com.google.protobuf.Parser<AnalyticsStreamMessage>
+      PARSER = new com.google.protobuf.AbstractParser<AnalyticsStreamMessage>() {
+    @java.lang.Override
+    public AnalyticsStreamMessage parsePartialFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return new AnalyticsStreamMessage(input, extensionRegistry);
+    }
+  };
+
+  public static com.google.protobuf.Parser<AnalyticsStreamMessage> parser() {
+    return PARSER;
+  }
+
+  @java.lang.Override
+  public com.google.protobuf.Parser<AnalyticsStreamMessage> getParserForType() {
+    return PARSER;
+  }
+
+  @java.lang.Override
+  public org.wso2.micro.gateway.tests.grpc.gen.AnalyticsStreamMessage getDefaultInstanceForType() {
+    return DEFAULT_INSTANCE;
+  }
+
+}
+
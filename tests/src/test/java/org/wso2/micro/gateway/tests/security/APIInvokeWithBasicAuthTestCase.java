@@ -68,6 +68,28 @@ public class APIInvokeWithBasicAuthTestCase extends APIInvokeWithOAuthTestCase {
         String sha512HashedUser = "user2:password1";
         basicAuthToken = Base64.getEncoder().encodeToString(sha512HashedUser.getBytes());
         invokeBasic(basicAuthToken, MockHttpServer.PROD_ENDPOINT_RESPONSE, 200);
+        // user stored with pbkdf2 password in the default-test-config.conf
+        String pbkdf2HashedUser = "user3:password";
+        basicAuthToken = Base64.getEncoder().encodeToString(pbkdf2HashedUser.getBytes());
+        invokeBasic(basicAuthToken, MockHttpServer.PROD_ENDPOINT_RESPONSE, 200);
+        // only the first colon separates the username from the password
+        String passwordWithColon = "user4:pass:word";
+        basicAuthToken = Base64.getEncoder().encodeToString(passwordWithColon.getBytes());
+        invokeBasic(basicAuthToken, MockHttpServer.PROD_ENDPOINT_RESPONSE, 200);
+    }
+
+    @Test(description = "Test API invocation with Basic Auth")
+    public void testApiInvokeFailWithInvalidPbkdf2Password() throws Exception {
+        // user stored with pbkdf2 password of zero iterations, which is rejected when the users are loaded
+        String originalInput = "user5:password";
+        String basicAuthToken = Base64.getEncoder().encodeToString(originalInput.getBytes());
+
+        //test endpoint
+        invokeBasic(basicAuthToken, 401);
+        // wrong password of a user stored with pbkdf2 password
+        originalInput = "user4:pass";
+        basicAuthToken = Base64.getEncoder().encodeToString(originalInput.getBytes());
+        invokeBasic(basicAuthToken, 401);
     }
 
     @Test(description = "Test API invocation with Basic Auth")
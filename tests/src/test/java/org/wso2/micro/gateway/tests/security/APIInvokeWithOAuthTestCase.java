@@ -30,11 +30,17 @@ import org.wso2.micro.gateway.tests.common.model.ApplicationDTO;
 import org.wso2.micro.gateway.tests.util.HttpClientRequest;
 import org.wso2.micro.gateway.tests.util.TestConstant;
 
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 public class APIInvokeWithOAuthTestCase extends BaseTestCase {
-    protected String prodToken, sandToken, jwtTokenProd, jwtTokenSand, expiringJwtTokenProd;
+    protected String prodToken, sandToken, jwtTokenProd, jwtTokenSand, expiringJwtTokenProd, concurrentProdToken;
 
     @BeforeClass
     public void start() throws Exception {
@@ -76,6 +82,8 @@ public class APIInvokeWithOAuthTestCase extends BaseTestCase {
         infoSand.setKeyType(TestConstant.KEY_TYPE_SANDBOX);
         infoSand.setSubscriptionTier("Unlimited");
         sandToken = pub.getAndRegisterAccessToken(infoSand);
+        //Register a production token which is only used by concurrent requests
+        concurrentProdToken = pub.getAndRegisterAccessToken(info);
 
         jwtTokenProd = getJWT(api, application, "Unlimited", TestConstant.KEY_TYPE_PRODUCTION, 3600);
         jwtTokenSand = getJWT(api, application, "Unlimited", TestConstant.KEY_TYPE_SANDBOX, 3600);
@@ -110,6 +118,30 @@ public class APIInvokeWithOAuthTestCase extends BaseTestCase {
         invoke(expiringJwtTokenProd, 401);
     }
 
+    @Test(description = "Test concurrent API invocations with a token which is not cached yet")
+    public void testConcurrentApiInvokeWithUncachedToken() throws Exception {
+        int requestCount = 20;
+        ExecutorService executor = Executors.newFixedThreadPool(requestCount);
+        try {
+            List<Callable<Object>> requests = new ArrayList<>();
+            for (int i = 0; i < requestCount; i++) {
+                requests.add(() -> {
+                    invoke(concurrentProdToken, MockHttpServer.PROD_ENDPOINT_RESPONSE, 200);
+                    return null;
+                });
+            }
+            for (Future<Object> result : executor.invokeAll(requests)) {
+                // rethrows the assertion error of a failed request
+                result.get();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        //the concurrent requests share the validation of the token by the key manager
+        Assert.assertEquals(MockAPIPublisher.getInstance().getKeyValidationCount(concurrentProdToken), 1,
+                "Key validation service called more than once");
+    }
+
     private void invoke(String token, String responseData, int responseCode) throws Exception {
         Map<String, String> headers = new HashMap<>();
         //test endpoint with token
@@ -44,12 +44,18 @@ public class DistributedThrottlingTestCase extends BaseTestCase {
 
     @Override
     protected void init(String label, String project) throws Exception {
-        String configPath = "confs/throttle-test-config.conf";
-        super.init(label, project, configPath);
+        super.init(label, project, getConfigPath());
+    }
+
+    /**
+     * Returns the gateway config used for the test. Throttle event compression is disabled in it.
+     */
+    protected String getConfigPath() {
+        return "confs/throttle-test-config.conf";
     }
 
     @BeforeClass
-    private void start() throws Exception {
+    protected void start() throws Exception {
         String label = "apimTestLabel";
         String project = "apimTestProject";
         //get mock APIM Instance
@@ -182,6 +188,18 @@ public class DistributedThrottlingTestCase extends BaseTestCase {
         Assert.assertEquals(responseCode, 200, "Request should not throttled out");
     }
 
+    @Test(description = "Test throttle events are published with the configured content encoding",
+            dependsOnMethods = "testApplicationThrottlingWithOauth2Token")
+    public void testThrottleEventEncoding() {
+        Assert.assertTrue(mockHttpServer.getThrottleEventBatches() > 0, "Throttle events should have been published");
+        assertThrottleEventEncoding(mockHttpServer.getThrottleEventBatches(),
+                mockHttpServer.getCompressedThrottleEventBatches());
+    }
+
+    protected void assertThrottleEventEncoding(int batches, int compressedBatches) {
+        Assert.assertEquals(compressedBatches, 0, "Throttle events should not be compressed by default");
+    }
+
     public int invokeAPIForOnce(String token, String url) throws IOException {
         Map<String, String> headers = new HashMap<>();
 
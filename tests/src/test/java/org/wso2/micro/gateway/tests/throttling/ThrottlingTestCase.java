@@ -18,6 +18,8 @@
 package org.wso2.micro.gateway.tests.throttling;
 
 import io.netty.handler.codec.http.HttpHeaderNames;
+import org.json.JSONArray;
+import org.json.JSONObject;
 import org.testng.Assert;
 import org.testng.annotations.AfterClass;
 import org.testng.annotations.BeforeClass;
@@ -28,16 +30,20 @@ import org.wso2.micro.gateway.tests.common.MockAPIPublisher;
 import org.wso2.micro.gateway.tests.common.model.API;
 import org.wso2.micro.gateway.tests.common.model.ApplicationDTO;
 import org.wso2.micro.gateway.tests.common.model.ApplicationPolicy;
+import org.wso2.micro.gateway.tests.common.model.SubscribedApiDTO;
 import org.wso2.micro.gateway.tests.common.model.SubscriptionPolicy;
 import org.wso2.micro.gateway.tests.util.HttpClientRequest;
 import org.wso2.micro.gateway.tests.util.TestConstant;
+import org.wso2.micro.gateway.tests.util.TokenUtil;
 
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 public class ThrottlingTestCase extends BaseTestCase {
     private String jwtToken, jwtToken2, token1, token2, continueOnQuotaToken, noSubPolicyJWT, noAppPolicyJWT,
-            noSubPolicyToken, noAppPolicyToken;
+            noSubPolicyToken, noAppPolicyToken, manySubscriptionsJWT;
     private int responseCode;
 
     @BeforeClass
@@ -131,6 +137,12 @@ public class ThrottlingTestCase extends BaseTestCase {
         info.setSubscriptionTier(subscriptionPolicy.getPolicyName());
         noAppPolicyToken = pub.getAndRegisterAccessToken(info3);
 
+        ApplicationDTO application4 = new ApplicationDTO();
+        application4.setName("jwtApp4");
+        application4.setTier("Unlimited");
+        application4.setId((int) (Math.random() * 1000));
+        manySubscriptionsJWT = getJWTWithManySubscriptions(api, application4, subscriptionPolicy.getPolicyName());
+
         //generate apis with CLI and start the micro gateway server
         super.init(label, project);
     }
@@ -157,6 +169,14 @@ public class ThrottlingTestCase extends BaseTestCase {
 //        Assert.assertEquals(responseCode, 429, "Request should have throttled out");
 //    }
 
+    @Test(description = "Test subscription throttling with a JWT subscribed to many APIs, which subscribed to the "
+            + "API twice")
+    public void testSubscriptionThrottlingWithManySubscriptions() throws Exception {
+        // the tier of the first subscription to the API is applied, hence the request is throttled
+        responseCode = invokeAndAssert(manySubscriptionsJWT, getServiceURLHttp("/pizzashack/1.0.0/menu"));
+        Assert.assertEquals(responseCode, 429, "Request should have throttled out with the first subscription");
+    }
+
     @Test(description = "test subscription policy with stop on quota is false")
     public void testSubscriptionThrottlingWithStopOnQuotaFalse() throws Exception {
         responseCode = invokeAndAssert(continueOnQuotaToken, getServiceURLHttp("/pizzashack/1.0.0/menu"));
@@ -201,6 +221,39 @@ public class ThrottlingTestCase extends BaseTestCase {
                 "Error response should have errorcode 900809 in oauth.");
     }
 
+    /**
+     * Returns a JWT with 500 subscriptions, where the API is subscribed twice. The API is first subscribed with the
+     * given tier, and then with the Unlimited tier. The other subscriptions are to other versions of the API, and to
+     * other APIs with one or two versions.
+     */
+    private String getJWTWithManySubscriptions(API api, ApplicationDTO applicationDTO, String tier) throws Exception {
+        List<SubscribedApiDTO> subscribedAPIs = new ArrayList<>();
+        for (int i = 0; i < 249; i++) {
+            subscribedAPIs.add(getSubscribedAPI("API" + i, "1.0.0", "Unlimited"));
+            subscribedAPIs.add(getSubscribedAPI(i % 2 == 0 ? "API" + i : api.getName(), (i + 2) + ".0.0",
+                    "Unlimited"));
+            if (i == 100) {
+                subscribedAPIs.add(getSubscribedAPI(api.getName(), api.getVersion(), tier));
+            }
+        }
+        subscribedAPIs.add(getSubscribedAPI(api.getName(), api.getVersion(), "Unlimited"));
+
+        JSONObject jwtTokenInfo = new JSONObject();
+        jwtTokenInfo.put("subscribedAPIs", new JSONArray(subscribedAPIs));
+        return TokenUtil.getBasicJWT(applicationDTO, jwtTokenInfo, TestConstant.KEY_TYPE_PRODUCTION, 3600);
+    }
+
+    private SubscribedApiDTO getSubscribedAPI(String name, String version, String tier) {
+        SubscribedApiDTO subscribedApiDTO = new SubscribedApiDTO();
+        subscribedApiDTO.setContext("/" + name.toLowerCase() + "/" + version);
+        subscribedApiDTO.setName(name);
+        subscribedApiDTO.setVersion(version);
+        subscribedApiDTO.setPublisher("admin");
+        subscribedApiDTO.setSubscriptionTier(tier);
+        subscribedApiDTO.setSubscriberTenantDomain("carbon.super");
+        return subscribedApiDTO;
+    }
+
     private int invokeAndAssert(String token, String url) throws Exception {
         Map<String, String> headers = new HashMap<>();
         if (token != null) {